@@ -69,6 +69,7 @@ public class GenerateImplGradientToEdgeFeatures extends CodeGeneratorBase {
 		printIntensityAbs(derivType);
 		printDirection(derivType);
 		printDirection2(derivType);
+		printIntensityAbsDirection4(derivType);
 	}
 
 	private void printItensityE(AutoTypeImage derivType) {
@@ -179,6 +180,52 @@ public class GenerateImplGradientToEdgeFeatures extends CodeGeneratorBase {
 				"\t}\n\n");
 	}
 
+	private void printIntensityAbsDirection4(AutoTypeImage derivType) {
+
+		String bitWise = derivType.getBitWise();
+		String sumType = derivType.getSumType();
+
+		out.print("\t/**\n" +
+				"\t * Computes intensityAbs() and discretized direction4 in a single pass for rows y0 to y1-1\n" +
+				"\t */\n" +
+				"\tstatic public void intensityAbsDirection4( "+derivType.getSingleBandName()+" derivX , "+derivType.getSingleBandName()+" derivY ,\n" +
+				"\t\t\t\t\t\t\t\t\t\t\t  GrayF32 intensity , GrayS8 direction , int y0 , int y1 )\n" +
+				"\t{\n" +
+				"\t\tfinal float A = (float)(Math.PI/8.0);\n" +
+				"\t\tfinal float B = (float)(Math.PI/4.0);\n" +
+				"\t\tfinal int w = derivX.width;\n" +
+				"\n" +
+				"\t\tfor( int y = y0; y < y1; y++ ) {\n" +
+				"\t\t\tint indexX = derivX.startIndex + y*derivX.stride;\n" +
+				"\t\t\tint indexY = derivY.startIndex + y*derivY.stride;\n" +
+				"\t\t\tint indexI = intensity.startIndex + y*intensity.stride;\n" +
+				"\t\t\tint indexD = direction.startIndex + y*direction.stride;\n" +
+				"\n" +
+				"\t\t\tint end = indexX + w;\n" +
+				"\t\t\tfor( ; indexX < end; indexX++ , indexY++ , indexI++ , indexD++ ) {\n" +
+				"\t\t\t\t"+sumType+" dx = derivX.data[indexX]"+bitWise+";\n" +
+				"\t\t\t\t"+sumType+" dy = derivY.data[indexY]"+bitWise+";\n" +
+				"\n" +
+				"\t\t\t\tintensity.data[indexI] = Math.abs(dx) + Math.abs(dy);\n" +
+				"\n" +
+				"\t\t\t\t// same computation as direction() followed by discretizeDirection4()\n");
+		if( derivType.isInteger() ) {
+			out.print("\t\t\t\tfloat a = dx == 0 ? (float)(Math.PI/2.0) : (float)Math.atan((double)dy/(double)dx);\n");
+		} else {
+			out.print("\t\t\t\tfloat a = Math.abs(dx) < 1e-10f ? (float)(Math.PI/2.0) : (float)Math.atan(dy/dx);\n");
+		}
+		out.print("\t\t\t\tint val;\n" +
+				"\t\t\t\tif( a >= 0 ) {\n" +
+				"\t\t\t\t\tval = (int)((a+A)/B);\n" +
+				"\t\t\t\t} else {\n" +
+				"\t\t\t\t\tval = (int)((a-A)/B);\n" +
+				"\t\t\t\t}\n" +
+				"\t\t\t\tdirection.data[indexD] = (byte)(val == -2 ? 2 : val);\n" +
+				"\t\t\t}\n" +
+				"\t\t}\n" +
+				"\t}\n\n");
+	}
+
 	public static void main( String args[] ) throws FileNotFoundException {
 		GenerateImplGradientToEdgeFeatures app = new GenerateImplGradientToEdgeFeatures();
 		app.generate();
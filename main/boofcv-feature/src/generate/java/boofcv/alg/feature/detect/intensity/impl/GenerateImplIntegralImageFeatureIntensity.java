@@ -117,6 +117,16 @@ public class GenerateImplIntegralImageFeatureIntensity extends CodeGeneratorBase
 				"\tpublic static void hessianBorder( "+input.getSingleBandName()+" integral, int skip , int size ,\n" +
 				"\t\t\t\t\t\t\t\t\t  GrayF32 intensity)\n" +
 				"\t{\n" +
+				"\t\thessianBorder(integral,skip,size,intensity,0,intensity.height);\n" +
+				"\t}\n" +
+				"\n" +
+				"\t/**\n" +
+				"\t * Only computes the fast hessian along the border using a brute force approach.  Only rows\n" +
+				"\t * from y0 to y1-1 are processed.\n" +
+				"\t */\n" +
+				"\tpublic static void hessianBorder( "+input.getSingleBandName()+" integral, int skip , int size ,\n" +
+				"\t\t\t\t\t\t\t\t\t  GrayF32 intensity, int y0 , int y1 )\n" +
+				"\t{\n" +
 				"\t\tfinal int w = intensity.width;\n" +
 				"\t\tfinal int h = intensity.height;\n" +
 				"\n" +
@@ -131,28 +141,23 @@ public class GenerateImplIntegralImageFeatureIntensity extends CodeGeneratorBase
 				"\n" +
 				"\t\tfloat norm = 1.0f/(size*size);\n" +
 				"\n" +
-				"\t\tfor( int y = 0; y < h; y++ ) {\n" +
+				"\t\tfor( int y = y0; y < y1; y++ ) {\n" +
 				"\t\t\tint yy = y*skip;\n" +
-				"\t\t\tfor( int x = 0; x < border; x++ ) {\n" +
-				"\t\t\t\tint xx = x*skip;\n" +
-				"\t\t\t\tcomputeHessian(integral, intensity, kerXX, kerYY, kerXY, norm, y, yy, x, xx);\n" +
-				"\t\t\t}\n" +
-				"\t\t\tfor( int x = w-border; x < w; x++ ) {\n" +
-				"\t\t\t\tint xx = x*skip;\n" +
-				"\t\t\t\tcomputeHessian(integral, intensity, kerXX, kerYY, kerXY, norm, y, yy, x, xx);\n" +
-				"\t\t\t}\n" +
-				"\t\t}\n" +
-				"\n" +
-				"\t\tfor( int x = border; x < w-border; x++ ) {\n" +
-				"\t\t\tint xx = x*skip;\n" +
-				"\n" +
-				"\t\t\tfor( int y = 0; y < border; y++ ) {\n" +
-				"\t\t\t\tint yy = y*skip;\n" +
-				"\t\t\t\tcomputeHessian(integral, intensity, kerXX, kerYY, kerXY, norm, y, yy, x, xx);\n" +
-				"\t\t\t}\n" +
-				"\t\t\tfor( int y = h-border; y < h; y++ ) {\n" +
-				"\t\t\t\tint yy = y*skip;\n" +
-				"\t\t\t\tcomputeHessian(integral, intensity, kerXX, kerYY, kerXY, norm, y, yy, x, xx);\n" +
+				"\t\t\tif( y < border || y >= h-border ) {\n" +
+				"\t\t\t\t// the entire row is inside the border\n" +
+				"\t\t\t\tfor( int x = 0; x < w; x++ ) {\n" +
+				"\t\t\t\t\tint xx = x*skip;\n" +
+				"\t\t\t\t\tcomputeHessian(integral, intensity, kerXX, kerYY, kerXY, norm, y, yy, x, xx);\n" +
+				"\t\t\t\t}\n" +
+				"\t\t\t} else {\n" +
+				"\t\t\t\tfor( int x = 0; x < border; x++ ) {\n" +
+				"\t\t\t\t\tint xx = x*skip;\n" +
+				"\t\t\t\t\tcomputeHessian(integral, intensity, kerXX, kerYY, kerXY, norm, y, yy, x, xx);\n" +
+				"\t\t\t\t}\n" +
+				"\t\t\t\tfor( int x = w-border; x < w; x++ ) {\n" +
+				"\t\t\t\t\tint xx = x*skip;\n" +
+				"\t\t\t\t\tcomputeHessian(integral, intensity, kerXX, kerYY, kerXY, norm, y, yy, x, xx);\n" +
+				"\t\t\t\t}\n" +
 				"\t\t\t}\n" +
 				"\t\t}\n" +
 				"\t}\n\n");
@@ -182,6 +187,15 @@ public class GenerateImplIntegralImageFeatureIntensity extends CodeGeneratorBase
 				"\tpublic static void hessianInner( "+input.getSingleBandName()+" integral, int skip , int size ,\n" +
 				"\t\t\t\t\t\t\t\t\t GrayF32 intensity)\n" +
 				"\t{\n" +
+				"\t\thessianInner(integral,skip,size,intensity,0,intensity.height);\n" +
+				"\t}\n" +
+				"\n" +
+				"\t/**\n" +
+				"\t * Optimizes intensity for the inner image.  Only rows from y0 to y1-1 are processed.\n" +
+				"\t */\n" +
+				"\tpublic static void hessianInner( "+input.getSingleBandName()+" integral, int skip , int size ,\n" +
+				"\t\t\t\t\t\t\t\t\t GrayF32 intensity, int y0 , int y1 )\n" +
+				"\t{\n" +
 				"\t\tfinal int w = intensity.width;\n" +
 				"\t\tfinal int h = intensity.height;\n" +
 				"\n" +
@@ -207,7 +221,10 @@ public class GenerateImplIntegralImageFeatureIntensity extends CodeGeneratorBase
 				"\t\tfinal int endY = h - border;\n" +
 				"\t\tfinal int endX = w - border;\n" +
 				"\n" +
-				"\t\tfor( int y = border; y < endY; y++ ) {\n" +
+				"\t\tfinal int startY = Math.max(border,y0);\n" +
+				"\t\tfinal int stopY = Math.min(endY,y1);\n" +
+				"\n" +
+				"\t\tfor( int y = startY; y < stopY; y++ ) {\n" +
 				"\n" +
 				"\t\t\t// pixel location in original input image\n" +
 				"\t\t\tint yy = y*skip;\n" +
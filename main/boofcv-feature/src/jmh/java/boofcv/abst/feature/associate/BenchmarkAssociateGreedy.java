@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.abst.feature.associate;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.factory.feature.associate.FactoryAssociation;
+import boofcv.struct.feature.TupleDesc_B;
+import boofcv.struct.feature.TupleDesc_F64;
+import org.ddogleg.struct.FastQueue;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for greedy association of binary and floating point descriptors, with single and multi-threaded
+ * implementations.
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value = 1)
+public class BenchmarkAssociateGreedy {
+
+	@Param({"500","2000","5000"})
+	public int numFeatures;
+
+	@Param({"true","false"})
+	public boolean concurrent;
+
+	FastQueue<TupleDesc_B> src_B = new FastQueue<>(TupleDesc_B.class, false);
+	FastQueue<TupleDesc_B> dst_B = new FastQueue<>(TupleDesc_B.class, false);
+	FastQueue<TupleDesc_F64> src_F64 = new FastQueue<>(TupleDesc_F64.class, false);
+	FastQueue<TupleDesc_F64> dst_F64 = new FastQueue<>(TupleDesc_F64.class, false);
+
+	AssociateDescription<TupleDesc_B> hamming;
+	AssociateDescription<TupleDesc_B> hammingPacked;
+	AssociateDescription<TupleDesc_F64> euclidean;
+
+	@Setup
+	public void setup() {
+		Random rand = new Random(234);
+
+		src_B.reset(); dst_B.reset();
+		src_F64.reset(); dst_F64.reset();
+		for (int i = 0; i < numFeatures; i++) {
+			src_B.add(randomBinary(rand));
+			dst_B.add(randomBinary(rand));
+			src_F64.add(randomF64(rand));
+			dst_F64.add(randomF64(rand));
+		}
+
+		// algorithms check to see if they should be concurrent when they are constructed
+		BoofConcurrency.USE_CONCURRENT = concurrent;
+		hamming = FactoryAssociation.greedy(FactoryAssociation.scoreHamming(TupleDesc_B.class), Double.MAX_VALUE, true);
+		hammingPacked = FactoryAssociation.greedyHamming(Double.MAX_VALUE, true, 1.0);
+		euclidean = FactoryAssociation.greedy(FactoryAssociation.scoreEuclidean(TupleDesc_F64.class, true), Double.MAX_VALUE, true);
+	}
+
+	@TearDown
+	public void tearDown() {
+		BoofConcurrency.USE_CONCURRENT = true;
+	}
+
+	private static TupleDesc_B randomBinary( Random rand ) {
+		TupleDesc_B desc = new TupleDesc_B(512);
+		for (int i = 0; i < desc.data.length; i++) {
+			desc.data[i] = rand.nextInt();
+		}
+		return desc;
+	}
+
+	private static TupleDesc_F64 randomF64( Random rand ) {
+		TupleDesc_F64 desc = new TupleDesc_F64(64);
+		for (int i = 0; i < desc.value.length; i++) {
+			desc.value[i] = rand.nextDouble();
+		}
+		return desc;
+	}
+
+	@Benchmark
+	public void hamming_B512() {
+		hamming.setSource(src_B);
+		hamming.setDestination(dst_B);
+		hamming.associate();
+	}
+
+	@Benchmark
+	public void hammingPacked_B512() {
+		hammingPacked.setSource(src_B);
+		hammingPacked.setDestination(dst_B);
+		hammingPacked.associate();
+	}
+
+	@Benchmark
+	public void euclideanSq_F64() {
+		euclidean.setSource(src_F64);
+		euclidean.setDestination(dst_F64);
+		euclidean.associate();
+	}
+}
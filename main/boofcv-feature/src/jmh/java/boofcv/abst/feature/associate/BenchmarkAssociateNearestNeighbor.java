@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.abst.feature.associate;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.factory.feature.associate.ConfigAssociateNearestNeighbor;
+import boofcv.factory.feature.associate.FactoryAssociation;
+import boofcv.struct.feature.TupleDesc_F32;
+import boofcv.struct.feature.TupleDesc_F64;
+import org.ddogleg.struct.FastQueue;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for approximate nearest neighbor association of SIFT sized descriptors, with single and
+ * multi-threaded implementations.  Includes building the index.
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value = 1)
+public class BenchmarkAssociateNearestNeighbor {
+
+	@Param({"2000","10000"})
+	public int numFeatures;
+
+	@Param({"KD_FOREST","HNSW"})
+	public ConfigAssociateNearestNeighbor.Type type;
+
+	@Param({"50","200"})
+	public int searchEffort;
+
+	@Param({"true","false"})
+	public boolean concurrent;
+
+	FastQueue<TupleDesc_F64> src_F64 = new FastQueue<>(TupleDesc_F64.class, false);
+	FastQueue<TupleDesc_F64> dst_F64 = new FastQueue<>(TupleDesc_F64.class, false);
+	FastQueue<TupleDesc_F32> src_F32 = new FastQueue<>(TupleDesc_F32.class, false);
+	FastQueue<TupleDesc_F32> dst_F32 = new FastQueue<>(TupleDesc_F32.class, false);
+
+	AssociateDescription<TupleDesc_F64> alg_F64;
+	AssociateDescription<TupleDesc_F32> alg_F32;
+
+	@Setup
+	public void setup() {
+		Random rand = new Random(234);
+
+		src_F64.reset(); dst_F64.reset();
+		src_F32.reset(); dst_F32.reset();
+		for (int i = 0; i < numFeatures; i++) {
+			TupleDesc_F64 a = randomF64(rand);
+			src_F64.add(a);
+			src_F32.add(toF32(a));
+			// destination features are noisy copies of the source so that there are real matches
+			TupleDesc_F64 b = new TupleDesc_F64(a.size());
+			for (int j = 0; j < b.value.length; j++) {
+				b.value[j] = a.value[j] + rand.nextGaussian()*0.02;
+			}
+			dst_F64.add(b);
+			dst_F32.add(toF32(b));
+		}
+
+		ConfigAssociateNearestNeighbor config = new ConfigAssociateNearestNeighbor();
+		config.type = type;
+		config.searchEffort = searchEffort;
+
+		// algorithms check to see if they should be concurrent when they are constructed
+		BoofConcurrency.USE_CONCURRENT = concurrent;
+		alg_F64 = FactoryAssociation.approximateNearestNeighbor(config);
+		alg_F32 = FactoryAssociation.approximateNearestNeighbor(config);
+	}
+
+	@TearDown
+	public void tearDown() {
+		BoofConcurrency.USE_CONCURRENT = true;
+	}
+
+	private static TupleDesc_F64 randomF64( Random rand ) {
+		TupleDesc_F64 desc = new TupleDesc_F64(128);
+		for (int i = 0; i < desc.value.length; i++) {
+			desc.value[i] = rand.nextDouble();
+		}
+		return desc;
+	}
+
+	private static TupleDesc_F32 toF32( TupleDesc_F64 input ) {
+		TupleDesc_F32 desc = new TupleDesc_F32(input.size());
+		for (int i = 0; i < desc.value.length; i++) {
+			desc.value[i] = (float)input.value[i];
+		}
+		return desc;
+	}
+
+	@Benchmark
+	public void nearest_F64() {
+		alg_F64.setSource(src_F64);
+		alg_F64.setDestination(dst_F64);
+		alg_F64.associate();
+	}
+
+	@Benchmark
+	public void nearest_F32() {
+		alg_F32.setSource(src_F32);
+		alg_F32.setDestination(dst_F32);
+		alg_F32.associate();
+	}
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.abst.feature.detdesc;
+
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.factory.feature.detdesc.FactoryDetectDescribe;
+import boofcv.struct.feature.BrightFeature;
+import boofcv.struct.image.GrayF32;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for detecting and describing SIFT features, with single and multi-threaded implementations.
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value = 1)
+public class BenchmarkDetectDescribeSift {
+
+	@Param({"500","2000"})
+	public int size;
+
+	@Param({"true","false"})
+	public boolean concurrent;
+
+	GrayF32 image = new GrayF32(1,1);
+
+	DetectDescribePoint<GrayF32,BrightFeature> sift;
+
+	@Setup
+	public void setup() {
+		Random rand = new Random(234);
+
+		image.reshape(size,size);
+		GImageMiscOps.fillUniform(image, rand, 0, 200);
+		// add some larger structures so that there's something to detect at coarser scales
+		for (int i = 0; i < 200; i++) {
+			int x = rand.nextInt(size-20);
+			int y = rand.nextInt(size-20);
+			GImageMiscOps.fillRectangle(image, rand.nextInt(255), x, y, 5+rand.nextInt(15), 5+rand.nextInt(15));
+		}
+
+		// algorithms check to see if they should be concurrent when they are constructed
+		BoofConcurrency.USE_CONCURRENT = concurrent;
+		sift = FactoryDetectDescribe.sift(null);
+	}
+
+	@TearDown
+	public void tearDown() {
+		BoofConcurrency.USE_CONCURRENT = true;
+	}
+
+	@Benchmark
+	public int sift() {
+		sift.detect(image);
+		return sift.getNumberOfFeatures();
+	}
+}
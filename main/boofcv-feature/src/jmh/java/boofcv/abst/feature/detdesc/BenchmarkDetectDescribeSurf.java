@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.abst.feature.detdesc;
+
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.factory.feature.detdesc.FactoryDetectDescribe;
+import boofcv.struct.feature.BrightFeature;
+import boofcv.struct.image.GrayF32;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for detecting and describing SURF features, with single and multi-threaded implementations.
+ * Image shape is specified as "width x height" so that HD video frames can be included.  The number of threads
+ * is varied to see how the concurrent implementation scales.  Use -PjmhArgs="-p concurrent=true" to skip
+ * the single threaded runs, which ignore the number of threads.
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value = 1)
+public class BenchmarkDetectDescribeSurf {
+
+	@Param({"500x500","1920x1080"})
+	public String shape;
+
+	@Param({"true","false"})
+	public boolean concurrent;
+
+	// maximum number of threads used when concurrent
+	@Param({"1","2","4","8","16"})
+	public int threads;
+
+	// number of threads before the benchmark, restored afterwards
+	int previousThreads;
+
+	GrayF32 image = new GrayF32(1,1);
+
+	DetectDescribePoint<GrayF32,BrightFeature> fast;
+	DetectDescribePoint<GrayF32,BrightFeature> stable;
+
+	@Setup
+	public void setup() {
+		Random rand = new Random(234);
+
+		String[] dimensions = shape.split("x");
+		int width = Integer.parseInt(dimensions[0]);
+		int height = Integer.parseInt(dimensions[1]);
+
+		image.reshape(width,height);
+		GImageMiscOps.fillUniform(image, rand, 0, 200);
+		// add some larger structures so that there's something to detect at coarser scales
+		for (int i = 0; i < 200; i++) {
+			int x = rand.nextInt(width-20);
+			int y = rand.nextInt(height-20);
+			GImageMiscOps.fillRectangle(image, rand.nextInt(255), x, y, 5+rand.nextInt(15), 5+rand.nextInt(15));
+		}
+
+		// algorithms check to see if they should be concurrent when they are constructed
+		BoofConcurrency.USE_CONCURRENT = concurrent;
+		previousThreads = BoofConcurrency.getMaxThreads();
+		BoofConcurrency.setMaxThreads(threads);
+		fast = FactoryDetectDescribe.surfFast(null, null, null, GrayF32.class);
+		stable = FactoryDetectDescribe.surfStable(null, null, null, GrayF32.class);
+	}
+
+	@TearDown
+	public void tearDown() {
+		BoofConcurrency.USE_CONCURRENT = true;
+		BoofConcurrency.setMaxThreads(previousThreads);
+	}
+
+	@Benchmark
+	public int surfFast() {
+		fast.detect(image);
+		return fast.getNumberOfFeatures();
+	}
+
+	@Benchmark
+	public int surfStable() {
+		stable.detect(image);
+		return stable.getNumberOfFeatures();
+	}
+}
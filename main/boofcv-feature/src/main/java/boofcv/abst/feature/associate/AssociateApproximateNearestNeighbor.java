@@ -0,0 +1,244 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.abst.feature.associate;
+
+import boofcv.alg.feature.associate.FindUnassociated;
+import boofcv.alg.feature.associate.nn.NearestNeighborIndex;
+import boofcv.alg.feature.associate.nn.NearestNeighborSearch;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeObjectConsumer;
+import boofcv.struct.feature.AssociatedIndex;
+import boofcv.struct.feature.MatchScoreType;
+import boofcv.struct.feature.TupleDesc;
+import boofcv.struct.feature.TupleDesc_F32;
+import boofcv.struct.feature.TupleDesc_F64;
+import org.ddogleg.struct.FastQueue;
+import org.ddogleg.struct.GrowQueue_I32;
+
+/**
+ * <p>
+ * Matches features using a {@link NearestNeighborIndex}.  Source features are copied into a single array
+ * and the index is built from them, then each destination feature is matched to the closest source
+ * feature.  The distance is Euclidean distance squared.  Multiple matches for source features are possible
+ * while there will only be a unique match for each destination feature.
+ * </p>
+ *
+ * <p>
+ * Any {@link TupleDesc} can be used.  {@link TupleDesc_F64} and {@link TupleDesc_F32} are copied directly
+ * while other types are converted using {@link TupleDesc#getDouble(int)}.  Destination features can be
+ * searched for using multiple threads since searches do not modify the index.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class AssociateApproximateNearestNeighbor<D extends TupleDesc>
+		implements AssociateDescription<D>
+{
+	// data structure used to find the nearest neighbor
+	private NearestNeighborIndex index;
+
+	// all the source features in a single array
+	private double[] packed = new double[0];
+	private int numSource;
+	private int dof;
+
+	// list of features in destination set that are to be searched for in the source list
+	private FastQueue<D> listDst;
+
+	// index of the source feature matched to each destination feature.  -1 if no match
+	private GrowQueue_I32 dstToSrc = new GrowQueue_I32();
+	private double[] dstDistance = new double[0];
+
+	// List of final associated points
+	private FastQueue<AssociatedIndex> matches = new FastQueue<>(100, AssociatedIndex.class, true);
+
+	// creates a list of unassociated features from the list of matches
+	private FindUnassociated unassociated = new FindUnassociated();
+
+	// maximum distance away two points can be
+	private double maxDistanceSq = -1;
+
+	// if true then destination features are searched for using multiple threads
+	private boolean concurrent = BoofConcurrency.USE_CONCURRENT;
+
+	// storage for each thread
+	private FastQueue<Workspace> workspaces;
+
+	public AssociateApproximateNearestNeighbor( NearestNeighborIndex index ) {
+		this.index = index;
+
+		workspaces = new FastQueue<Workspace>(Workspace.class,true) {
+			@Override
+			protected Workspace createInstance() {
+				return new Workspace();
+			}
+		};
+	}
+
+	@Override
+	public void setSource(FastQueue<D> listSrc) {
+		numSource = listSrc.size;
+		dof = numSource > 0 ? listSrc.get(0).size() : 0;
+
+		if( packed.length < numSource*dof )
+			packed = new double[numSource*dof];
+
+		for( int i = 0; i < numSource; i++ ) {
+			pack(listSrc.get(i),packed,i*dof);
+		}
+
+		index.setPoints(packed,numSource,dof);
+	}
+
+	/**
+	 * Copies the descriptor into the array starting at offset
+	 */
+	static void pack( TupleDesc desc , double[] output , int offset ) {
+		if( desc instanceof TupleDesc_F64 ) {
+			double[] value = ((TupleDesc_F64)desc).value;
+			System.arraycopy(value,0,output,offset,value.length);
+		} else if( desc instanceof TupleDesc_F32 ) {
+			float[] value = ((TupleDesc_F32)desc).value;
+			for( int i = 0; i < value.length; i++ ) {
+				output[offset+i] = value[i];
+			}
+		} else {
+			int N = desc.size();
+			for( int i = 0; i < N; i++ ) {
+				output[offset+i] = desc.getDouble(i);
+			}
+		}
+	}
+
+	@Override
+	public void setDestination(FastQueue<D> listDst) {
+		this.listDst = listDst;
+	}
+
+	@Override
+	public void associate() {
+		int N = listDst.size;
+		dstToSrc.resize(N);
+		if( dstDistance.length < N )
+			dstDistance = new double[N];
+
+		if( concurrent ) {
+			BoofConcurrency.loopBlocks(0, N, 20, workspaces, new IntRangeObjectConsumer<Workspace>() {
+				@Override
+				public void accept(Workspace work, int idx0, int idx1) {
+					findNearest(work,idx0,idx1);
+				}
+			});
+		} else {
+			workspaces.resize(1);
+			findNearest(workspaces.get(0),0,N);
+		}
+
+		// matches are added in the same order no matter how many threads were used
+		matches.reset();
+		for( int i = 0; i < N; i++ ) {
+			int indexSrc = dstToSrc.data[i];
+			if( indexSrc >= 0 )
+				matches.grow().setAssociation(indexSrc,i,dstDistance[i]);
+		}
+	}
+
+	/**
+	 * Finds the nearest source feature for destination features from idx0 to idx1, exclusive
+	 */
+	private void findNearest( Workspace work , int idx0 , int idx1 ) {
+		if( work.search == null )
+			work.search = index.createSearch();
+		if( work.query.length != dof )
+			work.query = new double[dof];
+
+		for( int i = idx0; i < idx1; i++ ) {
+			if( numSource == 0 ) {
+				dstToSrc.data[i] = -1;
+				continue;
+			}
+			pack(listDst.data[i],work.query,0);
+			int indexSrc = work.search.findNearest(work.query,maxDistanceSq);
+			dstToSrc.data[i] = indexSrc;
+			if( indexSrc >= 0 )
+				dstDistance[i] = work.search.getDistanceSq();
+		}
+	}
+
+	@Override
+	public FastQueue<AssociatedIndex> getMatches() {
+		return matches;
+	}
+
+	@Override
+	public GrowQueue_I32 getUnassociatedSource() {
+		return unassociated.checkSource(matches,numSource);
+	}
+
+	@Override
+	public GrowQueue_I32 getUnassociatedDestination() {
+		return unassociated.checkDestination(matches,listDst.size());
+	}
+
+	@Override
+	public void setThreshold(double score) {
+		// NN uses Euclidean distance squared
+		this.maxDistanceSq = score < 0 ? score : score*score;
+	}
+
+	@Override
+	public MatchScoreType getScoreType() {
+		return MatchScoreType.NORM_ERROR;
+	}
+
+	@Override
+	public boolean uniqueSource() {
+		return false;
+	}
+
+	@Override
+	public boolean uniqueDestination() {
+		return true;
+	}
+
+	public NearestNeighborIndex getIndex() {
+		return index;
+	}
+
+	public boolean isConcurrent() {
+		return concurrent;
+	}
+
+	/**
+	 * Specifies if destination features are searched for using multiple threads. The default value is
+	 * {@link BoofConcurrency#USE_CONCURRENT}.
+	 */
+	public void setConcurrent(boolean concurrent) {
+		this.concurrent = concurrent;
+	}
+
+	/**
+	 * Work space for a single thread
+	 */
+	static class Workspace {
+		NearestNeighborSearch search;
+		double[] query = new double[0];
+	}
+}
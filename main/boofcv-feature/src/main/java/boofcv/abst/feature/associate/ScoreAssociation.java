@@ -28,6 +28,11 @@ import boofcv.struct.feature.MatchScoreType;
  *
  * NOTES: To ensure that lower is better, correlation scores undergo a sign flip.
  *
+ * THREAD SAFETY: {@link #score} can be invoked from multiple threads at the same time, e.g. by
+ * {@link boofcv.alg.feature.associate.AssociateGreedy}, which is concurrent by default.  Implementations must not
+ * modify internal state while computing a score.  If that's not possible, turn off concurrency in the
+ * algorithm which uses it.
+ *
  * @param <Desc> Feature description type.
  *
  * @author Peter Abeles
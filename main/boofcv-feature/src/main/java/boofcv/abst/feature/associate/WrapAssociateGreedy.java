@@ -18,7 +18,7 @@
 
 package boofcv.abst.feature.associate;
 
-import boofcv.alg.feature.associate.AssociateGreedy;
+import boofcv.alg.feature.associate.AssociateGreedyBase;
 import boofcv.alg.feature.associate.FindUnassociated;
 import boofcv.struct.feature.AssociatedIndex;
 import boofcv.struct.feature.MatchScoreType;
@@ -27,13 +27,13 @@ import org.ddogleg.struct.GrowQueue_I32;
 
 
 /**
- * Wrapper around algorithms contained inside of {@link boofcv.alg.feature.associate.AssociateGreedy}.
+ * Wrapper around algorithms which extend {@link AssociateGreedyBase}.
  *
  * @author Peter Abeles
  */
 public class WrapAssociateGreedy<T> implements AssociateDescription<T> {
 
-	AssociateGreedy<T> alg;
+	AssociateGreedyBase<T> alg;
 
 	FastQueue<AssociatedIndex> matches = new FastQueue<>(10, AssociatedIndex.class, true);
 
@@ -50,7 +50,7 @@ public class WrapAssociateGreedy<T> implements AssociateDescription<T> {
 	 *
 	 * @param alg
 	 */
-	public WrapAssociateGreedy( AssociateGreedy<T> alg ) {
+	public WrapAssociateGreedy( AssociateGreedyBase<T> alg ) {
 		this.alg = alg;
 	}
 
@@ -109,7 +109,7 @@ public class WrapAssociateGreedy<T> implements AssociateDescription<T> {
 
 	@Override
 	public MatchScoreType getScoreType() {
-		return alg.getScore().getScoreType();
+		return alg.getScoreType();
 	}
 
 	@Override
@@ -22,18 +22,23 @@ import boofcv.abst.feature.orientation.OrientationIntegral;
 import boofcv.alg.feature.describe.DescribePointSurf;
 import boofcv.alg.feature.detect.interest.FastHessianFeatureDetector;
 import boofcv.alg.transform.ii.GIntegralImageOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeObjectConsumer;
 import boofcv.struct.BoofDefaults;
 import boofcv.struct.feature.BrightFeature;
 import boofcv.struct.feature.ScalePoint;
 import boofcv.struct.feature.SurfFeatureQueue;
 import boofcv.struct.image.ImageGray;
 import georegression.struct.point.Point2D_F64;
+import org.ddogleg.struct.FastQueue;
 import org.ddogleg.struct.GrowQueue_F64;
 
 import java.util.List;
 
 /**
- * Wrapper around SURF algorithms for {@link DetectDescribePoint}.
+ * Wrapper around SURF algorithms for {@link DetectDescribePoint}.  If concurrent, the detected points are
+ * split between threads and each thread estimates orientation and computes the descriptor using its own copy of
+ * the algorithms.  Results are identical to and in the same order as the single threaded version.
  *
  * @link FastHessianFeatureDetector
  * @link OrientationIntegral
@@ -63,6 +68,11 @@ public class WrapDetectDescribeSurf
 	// orientation of features
 	private GrowQueue_F64 featureAngles = new GrowQueue_F64(10);
 
+	// if true then features are described using multiple threads
+	private boolean concurrent = BoofConcurrency.USE_CONCURRENT;
+	// copies of the orientation and description algorithms. One for each thread
+	private FastQueue<Workspace> workspaces;
+
 	public WrapDetectDescribeSurf(FastHessianFeatureDetector<II> detector,
 								  OrientationIntegral<II> orientation,
 								  DescribePointSurf<II> describe)
@@ -72,6 +82,15 @@ public class WrapDetectDescribeSurf
 		this.describe = describe;
 
 		features = new SurfFeatureQueue(describe.getDescriptionLength());
+		// inner class of a generic class, the cast to its parameterized type can't be checked
+		@SuppressWarnings("unchecked")
+		Class<Workspace> workspaceType = (Class)Workspace.class;
+		workspaces = new FastQueue<Workspace>(workspaceType,true) {
+			@Override
+			protected Workspace createInstance() {
+				return new Workspace();
+			}
+		};
 	}
 
 	@Override
@@ -108,6 +127,11 @@ public class WrapDetectDescribeSurf
 		// describe the found interest points
 		foundPoints = detector.getFoundPoints();
 
+		if( concurrent ) {
+			describeConcurrent();
+			return;
+		}
+
 		for( int i = 0; i < foundPoints.size(); i++ ) {
 			ScalePoint p = foundPoints.get(i);
 			double radius = p.scale* BoofDefaults.SURF_SCALE_TO_RADIUS;
@@ -119,6 +143,45 @@ public class WrapDetectDescribeSurf
 		}
 	}
 
+	/**
+	 * Splits the found points between threads.  Each thread computes the orientation and description into
+	 * a pre-allocated element so the output is in the same order as the single threaded version.
+	 */
+	private void describeConcurrent() {
+		final int N = foundPoints.size();
+		features.resize(N);
+		featureAngles.resize(N);
+
+		BoofConcurrency.loopBlocks(0, N, 1, workspaces, new IntRangeObjectConsumer<Workspace>() {
+			@Override
+			public void accept(Workspace work, int idx0, int idx1) {
+				work.orientation.setImage(ii);
+				work.describe.setImage(ii);
+				for (int i = idx0; i < idx1; i++) {
+					ScalePoint p = foundPoints.get(i);
+					double radius = p.scale* BoofDefaults.SURF_SCALE_TO_RADIUS;
+
+					work.orientation.setObjectRadius(radius);
+					double angle = work.orientation.compute(p.x,p.y);
+					work.describe.describe(p.x,p.y, angle, p.scale, features.get(i));
+					featureAngles.data[i] = angle;
+				}
+			}
+		});
+	}
+
+	public boolean isConcurrent() {
+		return concurrent;
+	}
+
+	/**
+	 * Specifies if features should be described using multiple threads.  The default value is
+	 * {@link BoofConcurrency#USE_CONCURRENT}.
+	 */
+	public void setConcurrent(boolean concurrent) {
+		this.concurrent = concurrent;
+	}
+
 	@Override
 	public int getNumberOfFeatures() {
 		return foundPoints.size();
@@ -148,4 +211,12 @@ public class WrapDetectDescribeSurf
 	public boolean hasOrientation() {
 		return true;
 	}
+
+	/**
+	 * Work space for a single thread
+	 */
+	class Workspace {
+		OrientationIntegral<II> orientation = WrapDetectDescribeSurf.this.orientation.copy();
+		DescribePointSurf<II> describe = WrapDetectDescribeSurf.this.describe.copy();
+	}
 }
@@ -40,4 +40,10 @@ public interface OrientationIntegral<II extends ImageGray<II>> extends RegionOri
 	 * @return Type of image which can be processed
 	 */
 	public Class<II> getImageType();
+
+	/**
+	 * Creates a new instance with the same configuration.  Internal work space is not shared, which
+	 * allows the copy to be used in a different thread.  The integral image is not copied.
+	 */
+	public OrientationIntegral<II> copy();
 }
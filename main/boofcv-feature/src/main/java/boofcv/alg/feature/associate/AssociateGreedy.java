@@ -19,10 +19,9 @@
 package boofcv.alg.feature.associate;
 
 import boofcv.abst.feature.associate.ScoreAssociation;
+import boofcv.struct.feature.MatchScoreType;
 import boofcv.struct.feature.TupleDesc_F64;
 import org.ddogleg.struct.FastQueue;
-import org.ddogleg.struct.GrowQueue_F64;
-import org.ddogleg.struct.GrowQueue_I32;
 
 
 /**
@@ -39,122 +38,65 @@ import org.ddogleg.struct.GrowQueue_I32;
  * associated with feature in src.
  * </p>
  *
+ * <p>
+ * Optionally, a ratio test can be used to remove ambiguous associations.  The best fit score must be less than
+ * or equal to the second best fit score multiplied by the ratio.  Only makes sense for scores which are
+ * always positive, e.g. {@link boofcv.struct.feature.MatchScoreType#NORM_ERROR}.
+ * </p>
+ *
+ * <p>
+ * See {@link AssociateGreedyBase} for how the scores are computed.  The {@link ScoreAssociation} is shared
+ * between threads and must be thread safe, which is true for all the implementations in BoofCV.
+ * </p>
+ *
  * @param <D> Feature description type.
  *
  * @author Peter Abeles
  */
-public class AssociateGreedy<D> {
+public class AssociateGreedy<D> extends AssociateGreedyBase<D> {
 
 	// computes association score
 	private ScoreAssociation<D> score;
-	// worst allowed fit score to associate
-	private double maxFitError = Double.MAX_VALUE;
-	// stores the quality of fit score
-	private GrowQueue_F64 fitQuality = new GrowQueue_F64(100);
-	// stores indexes of associated
-	private GrowQueue_I32 pairs = new GrowQueue_I32(100);
-	// various
-	private GrowQueue_F64 workBuffer = new GrowQueue_F64(100);
-	// if true backwardsValidation is done
-	private boolean backwardsValidation;
+
+	// references to the lists being associated
+	private FastQueue<D> src;
+	private FastQueue<D> dst;
 
 	/**
 	 * Configure association
 	 *
-	 * @param score Computes the association score.
+	 * @param score Computes the association score.  Must be thread safe if concurrent, see {@link ScoreAssociation}.
 	 * @param backwardsValidation If true then backwards validation is performed.
 	 */
 	public AssociateGreedy(ScoreAssociation<D> score,
 						   boolean backwardsValidation) {
+		super(backwardsValidation);
 		this.score = score;
-		this.backwardsValidation = backwardsValidation;
-	}
-
-	/**
-	 * Associates the two sets objects against each other by minimizing fit score.
-	 *
-	 * @param src Source list.
-	 * @param dst Destination list.
-	 */
-	public void associate( FastQueue<D> src ,
-						   FastQueue<D> dst )
-	{
-		fitQuality.reset();
-		pairs.reset();
-		workBuffer.reset();
-
-//		System.out.println("Associate: "+src.size+"*"+dst.size+" = "+(src.size*dst.size)+" or "+(src.size*dst.size*8/1024/1024)+"MB");
-		fitQuality.setMaxSize(src.size);
-		workBuffer.setMaxSize(src.size*dst.size);
-		for( int i = 0; i < src.size; i++ ) {
-			D a = src.data[i];
-			double bestScore = maxFitError;
-			int bestIndex = -1;
-
-			for( int j = 0; j < dst.size; j++ ) {
-				D b = dst.data[j];
-
-				double fit = score.score(a,b);
-				workBuffer.push(fit);
-
-				if( fit <= bestScore ) {
-					bestIndex = j;
-					bestScore = fit;
-				}
-			}
-			pairs.push(bestIndex);
-			fitQuality.push(bestScore);
-		}
-
-		if( backwardsValidation ) {
-			for( int i = 0; i < src.size; i++ ) {
-				int match = pairs.data[i];
-				if( match == -1 )
-					continue;
-
-				double scoreToBeat = workBuffer.data[i*dst.size+match];
-
-				for( int j = 0; j < src.size; j++ , match += dst.size ) {
-					if( workBuffer.data[match] <= scoreToBeat && j != i) {
-						pairs.data[i] = -1;
-						fitQuality.data[i] = Double.MAX_VALUE;
-						break;
-					}
-				}
-			}
-		}
 	}
 
-	/**
-	 * Returns a list of association pairs.  Each element in the returned list corresponds
-	 * to an element in the src list.  The value contained in the index indicate which element
-	 * in the dst list that object was associated with.  If a value of -1 is stored then
-	 * no association was found.
-	 *
-	 * @return Array containing associations by src index.
-	 */
-	public int[] getPairs() {
-		return pairs.data;
+	@Override
+	public void associate( FastQueue<D> src , FastQueue<D> dst ) {
+		this.src = src;
+		this.dst = dst;
+		findBestMatches(src.size,dst.size);
+		this.src = null;
+		this.dst = null;
 	}
 
-	/**
-	 * Quality of fit scores for each association.  Lower fit scores are better.
-	 *
-	 * @return Array of fit sources by src index.
-	 */
-	public double[] getFitQuality() {
-		return fitQuality.data;
+	@Override
+	protected void scoreTile( int indexSrc , int tile0 , int tile1 , double[] scores ) {
+		D a = src.data[indexSrc];
+		for( int j = tile0; j < tile1; j++ ) {
+			scores[j-tile0] = score.score(a,dst.data[j]);
+		}
 	}
 
-	public void setMaxFitError(double maxFitError) {
-		this.maxFitError = maxFitError;
+	@Override
+	public MatchScoreType getScoreType() {
+		return score.getScoreType();
 	}
 
 	public ScoreAssociation<D> getScore() {
 		return score;
 	}
-
-	public boolean isBackwardsValidation() {
-		return backwardsValidation;
-	}
 }
@@ -0,0 +1,300 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.associate;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeObjectConsumer;
+import boofcv.struct.feature.MatchScoreType;
+import org.ddogleg.struct.FastQueue;
+import org.ddogleg.struct.GrowQueue_F64;
+import org.ddogleg.struct.GrowQueue_I32;
+
+import java.util.Arrays;
+
+/**
+ * <p>
+ * Common base class for brute force greedy association.  Every src feature is associated with the dst feature
+ * which has the lowest score.  Children only need to compute the scores, everything else is done here.
+ * </p>
+ *
+ * <p>
+ * The full score matrix is never saved.  Scores are computed one block of src rows at a time and
+ * dst is traversed in tiles which are small enough to stay in the cache.  While each row is being scored the
+ * two lowest scores in each column are also found, which is all the information needed by backwards validation.
+ * If concurrent, each block is processed in a different thread and the column scores are combined afterwards.
+ * Results are identical to the single threaded version.
+ * </p>
+ *
+ * @param <D> Feature description type.
+ *
+ * @author Peter Abeles
+ */
+public abstract class AssociateGreedyBase<D> {
+
+	// number of dst features which are compared against a block of src features at once
+	static final int TILE_SIZE = 256;
+
+	// worst allowed fit score to associate
+	protected double maxFitError = Double.MAX_VALUE;
+	// stores the quality of fit score
+	protected GrowQueue_F64 fitQuality = new GrowQueue_F64(100);
+	// stores indexes of associated
+	protected GrowQueue_I32 pairs = new GrowQueue_I32(100);
+	// second best fit score for each src feature
+	protected GrowQueue_F64 secondBest = new GrowQueue_F64(100);
+	// if true backwardsValidation is done
+	protected boolean backwardsValidation;
+	// best score must be less than or equal to this fraction of the second best score
+	protected double ratioTest = 1.0;
+
+	// if true then multiple threads are used
+	protected boolean concurrent = BoofConcurrency.USE_CONCURRENT;
+
+	// number of src and dst features being associated
+	protected int numSrc, numDst;
+
+	// lowest two scores in each dst column
+	private ColumnScores combined = new ColumnScores();
+	private FastQueue<ColumnScores> workspaces = new FastQueue<>(ColumnScores.class,true);
+
+	protected AssociateGreedyBase( boolean backwardsValidation ) {
+		this.backwardsValidation = backwardsValidation;
+	}
+
+	/**
+	 * Associates the two sets objects against each other by minimizing fit score.
+	 *
+	 * @param src Source list.
+	 * @param dst Destination list.
+	 */
+	public abstract void associate( FastQueue<D> src , FastQueue<D> dst );
+
+	/**
+	 * Type of score which is being minimized
+	 */
+	public abstract MatchScoreType getScoreType();
+
+	/**
+	 * Computes the score of src feature 'indexSrc' against every dst feature in the tile.
+	 *
+	 * @param indexSrc Index of the src feature
+	 * @param tile0 First dst feature, inclusive
+	 * @param tile1 Last dst feature, exclusive
+	 * @param scores (Output) Score of dst feature j is written to element j-tile0
+	 */
+	protected abstract void scoreTile( int indexSrc , int tile0 , int tile1 , double[] scores );
+
+	/**
+	 * Finds the best match for every src feature then applies the max error, ratio test, and backwards validation.
+	 * Called by children once they are ready for {@link #scoreTile} to be invoked.
+	 */
+	protected void findBestMatches( int numSrc , int numDst ) {
+		this.numSrc = numSrc;
+		this.numDst = numDst;
+
+		pairs.resize(numSrc);
+		fitQuality.resize(numSrc);
+		secondBest.resize(numSrc);
+
+		if( concurrent ) {
+			BoofConcurrency.loopBlocks(0, numSrc, 1, workspaces, new IntRangeObjectConsumer<ColumnScores>() {
+				@Override
+				public void accept(ColumnScores work, int idx0, int idx1) {
+					scoreBlock(idx0,idx1,work);
+				}
+			});
+		} else {
+			workspaces.resize(1);
+			scoreBlock(0,numSrc,workspaces.get(0));
+		}
+
+		if( backwardsValidation ) {
+			combined.reset(numDst);
+			for( int blockIdx = 0; blockIdx < workspaces.size; blockIdx++ ) {
+				combined.add(workspaces.get(blockIdx),numDst);
+			}
+		}
+
+		for( int i = 0; i < numSrc; i++ ) {
+			int match = pairs.data[i];
+			double best = fitQuality.data[i];
+
+			if( match == -1 || best > maxFitError ) {
+				pairs.data[i] = -1;
+				fitQuality.data[i] = maxFitError;
+				continue;
+			}
+
+			if( best > ratioTest*secondBest.data[i] ) {
+				pairs.data[i] = -1;
+				fitQuality.data[i] = Double.MAX_VALUE;
+				continue;
+			}
+
+			// it must be the only src feature with the best score for dst
+			if( backwardsValidation && (best != combined.lowest[match] || combined.second[match] <= best) ) {
+				pairs.data[i] = -1;
+				fitQuality.data[i] = Double.MAX_VALUE;
+			}
+		}
+	}
+
+	/**
+	 * Finds the best and second best score for each src feature in the block and the lowest two scores
+	 * for each dst feature.
+	 *
+	 * @param src0 First src feature, inclusive
+	 * @param src1 Last src feature, exclusive
+	 * @param work Storage for lowest two scores in each dst column
+	 */
+	void scoreBlock( int src0 , int src1 , ColumnScores work ) {
+		if( backwardsValidation )
+			work.reset(numDst);
+
+		for( int i = src0; i < src1; i++ ) {
+			pairs.data[i] = -1;
+			fitQuality.data[i] = Double.MAX_VALUE;
+			secondBest.data[i] = Double.MAX_VALUE;
+		}
+
+		final double[] scores = work.tile;
+
+		for( int tile0 = 0; tile0 < numDst; tile0 += TILE_SIZE ) {
+			int tile1 = Math.min(numDst, tile0 + TILE_SIZE);
+
+			for( int i = src0; i < src1; i++ ) {
+				scoreTile(i,tile0,tile1,scores);
+
+				double bestScore = fitQuality.data[i];
+				double secondScore = secondBest.data[i];
+				int bestIndex = pairs.data[i];
+
+				for( int j = tile0; j < tile1; j++ ) {
+					double fit = scores[j-tile0];
+
+					if( fit <= bestScore ) {
+						secondScore = bestScore;
+						bestIndex = j;
+						bestScore = fit;
+					} else if( fit < secondScore ) {
+						secondScore = fit;
+					}
+
+					if( backwardsValidation )
+						work.add(j,fit);
+				}
+
+				pairs.data[i] = bestIndex;
+				fitQuality.data[i] = bestScore;
+				secondBest.data[i] = secondScore;
+			}
+		}
+	}
+
+	/**
+	 * Returns a list of association pairs.  Each element in the returned list corresponds
+	 * to an element in the src list.  The value contained in the index indicate which element
+	 * in the dst list that object was associated with.  If a value of -1 is stored then
+	 * no association was found.
+	 *
+	 * @return Array containing associations by src index.
+	 */
+	public int[] getPairs() {
+		return pairs.data;
+	}
+
+	/**
+	 * Quality of fit scores for each association.  Lower fit scores are better.
+	 *
+	 * @return Array of fit sources by src index.
+	 */
+	public double[] getFitQuality() {
+		return fitQuality.data;
+	}
+
+	public void setMaxFitError(double maxFitError) {
+		this.maxFitError = maxFitError;
+	}
+
+	public double getMaxFitError() {
+		return maxFitError;
+	}
+
+	public boolean isBackwardsValidation() {
+		return backwardsValidation;
+	}
+
+	public double getRatioTest() {
+		return ratioTest;
+	}
+
+	/**
+	 * Specifies the ratio test.  The best fit score must be less than or equal to the second best fit score
+	 * multiplied by this value.  Set to 1.0 to disable, which is the default.
+	 */
+	public void setRatioTest(double ratioTest) {
+		this.ratioTest = ratioTest;
+	}
+
+	public boolean isConcurrent() {
+		return concurrent;
+	}
+
+	/**
+	 * Specifies if association should be done using multiple threads.  The default value is
+	 * {@link BoofConcurrency#USE_CONCURRENT}.
+	 */
+	public void setConcurrent(boolean concurrent) {
+		this.concurrent = concurrent;
+	}
+
+	/**
+	 * The two lowest scores in each dst column and storage for the scores of a single tile
+	 */
+	public static class ColumnScores {
+		double[] lowest = new double[0];
+		double[] second = new double[0];
+		double[] tile = new double[TILE_SIZE];
+
+		void reset( int numDst ) {
+			if( lowest.length < numDst ) {
+				lowest = new double[numDst];
+				second = new double[numDst];
+			}
+			Arrays.fill(lowest,0,numDst,Double.MAX_VALUE);
+			Arrays.fill(second,0,numDst,Double.MAX_VALUE);
+		}
+
+		void add( int index , double score ) {
+			if( score < lowest[index] ) {
+				second[index] = lowest[index];
+				lowest[index] = score;
+			} else if( score < second[index] ) {
+				second[index] = score;
+			}
+		}
+
+		void add( ColumnScores scores , int numDst ) {
+			for( int i = 0; i < numDst; i++ ) {
+				add(i,scores.lowest[i]);
+				add(i,scores.second[i]);
+			}
+		}
+	}
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.feature.associate;
+
+import boofcv.struct.feature.MatchScoreType;
+import boofcv.struct.feature.TupleDesc_B;
+import org.ddogleg.struct.FastQueue;
+
+/**
+ * <p>
+ * Brute force greedy association for binary descriptors, {@link TupleDesc_B}, which is optimized for matching
+ * thousands of features.  Produces the same associations as {@link AssociateGreedy} with
+ * {@link boofcv.abst.feature.associate.ScoreAssociateHamming_B} but without a virtual function call for
+ * each pair.  Descriptors are first packed into a single contiguous array of longs, one row per descriptor.
+ * The Hamming distance is then computed using {@link Long#bitCount(long)}, which the JVM turns into a popcount
+ * instruction on most CPUs.  Destination descriptors are processed in tiles which are small enough to stay in the
+ * cache while a block of source descriptors is compared against them.
+ * </p>
+ *
+ * <p>
+ * Optional filters:
+ * <ul>
+ * <li>Backwards validation: A match is only accepted if the source feature is also the best match for
+ * the destination feature.</li>
+ * <li>Ratio test: A match is only accepted if the best score is less than or equal to the second best
+ * score multiplied by the ratio.  A ratio of 1.0 turns off the test.</li>
+ * </ul>
+ * </p>
+ *
+ * <p>
+ * See {@link AssociateGreedyBase} for how concurrency and backwards validation are handled.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class AssociateGreedyHamming_B extends AssociateGreedyBase<TupleDesc_B> {
+
+	// descriptors packed into arrays.  Each descriptor takes up numLongs elements
+	private long[] packedSrc = new long[0];
+	private long[] packedDst = new long[0];
+	private int numLongs;
+
+	/**
+	 * Configure association
+	 *
+	 * @param backwardsValidation If true then backwards validation is performed.
+	 * @param ratioTest Best score must be less than or equal to this fraction of the second best.
+	 *                  Set to 1.0 to disable.
+	 */
+	public AssociateGreedyHamming_B( boolean backwardsValidation , double ratioTest ) {
+		super(backwardsValidation);
+		this.ratioTest = ratioTest;
+	}
+
+	/**
+	 * Associates the two sets objects against each other by minimizing the Hamming distance.
+	 *
+	 * @param src Source list.
+	 * @param dst Destination list.
+	 */
+	@Override
+	public void associate( FastQueue<TupleDesc_B> src , FastQueue<TupleDesc_B> dst ) {
+		numLongs = 0;
+		if( src.size > 0 )
+			numLongs = (src.data[0].data.length+1)/2;
+		else if( dst.size > 0 )
+			numLongs = (dst.data[0].data.length+1)/2;
+
+		packedSrc = pack(src,numLongs,packedSrc);
+		packedDst = pack(dst,numLongs,packedDst);
+
+		findBestMatches(src.size,dst.size);
+	}
+
+	@Override
+	protected void scoreTile( int indexSrc , int tile0 , int tile1 , double[] scores ) {
+		final long[] packedSrc = this.packedSrc;
+		final long[] packedDst = this.packedDst;
+		final int numLongs = this.numLongs;
+
+		int offsetSrc = indexSrc*numLongs;
+		for( int j = tile0; j < tile1; j++ ) {
+			int offsetDst = j*numLongs;
+			int score = 0;
+			for( int k = 0; k < numLongs; k++ ) {
+				score += Long.bitCount(packedSrc[offsetSrc+k] ^ packedDst[offsetDst+k]);
+			}
+			scores[j-tile0] = score;
+		}
+	}
+
+	@Override
+	public MatchScoreType getScoreType() {
+		return MatchScoreType.NORM_ERROR;
+	}
+
+	/**
+	 * Packs the binary descriptors into a single array of longs.  Two ints are packed into each long.
+	 */
+	static long[] pack( FastQueue<TupleDesc_B> list , int numLongs , long[] packed ) {
+		int length = list.size*numLongs;
+		if( packed.length < length )
+			packed = new long[length];
+
+		for( int i = 0; i < list.size; i++ ) {
+			int[] data = list.data[i].data;
+			if( (data.length+1)/2 != numLongs )
+				throw new IllegalArgumentException("All descriptors must be the same size");
+
+			int index = i*numLongs;
+			for( int k = 0; k < data.length; k += 2 ) {
+				long lower = data[k] & 0xFFFFFFFFL;
+				long upper = k+1 < data.length ? ((long)data[k+1]) << 32 : 0;
+				packed[index++] = upper | lower;
+			}
+		}
+		return packed;
+	}
+}
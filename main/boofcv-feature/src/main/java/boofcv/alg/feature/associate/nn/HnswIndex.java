@@ -0,0 +1,470 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.feature.associate.nn;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeObjectConsumer;
+import org.ddogleg.struct.FastQueue;
+
+import java.util.Random;
+
+/**
+ * <p>
+ * Approximate nearest neighbor search using a Hierarchical Navigable Small World (HNSW) graph, see [1].  Each
+ * point is a node in the graph and is randomly assigned to a level, with exponentially fewer nodes on
+ * each higher level.  A search greedily moves towards the query on the upper levels then does a best-first
+ * search on the bottom level, keeping track of the closest "search effort" nodes it has found.  Neighbors
+ * are selected using the heuristic in [1], which prefers neighbors in different directions.
+ * </p>
+ *
+ * <p>
+ * Points are added in batches.  The neighbors of every point in a batch are found concurrently using the
+ * graph built from the previous batches, then the points are linked into the graph one at a time.
+ * Points in the same batch are never linked directly to each other, which slightly reduces the graph's quality
+ * but allows it to be built concurrently.  Batches are the same size when single threaded, so the graph
+ * does not depend on the number of threads.
+ * </p>
+ *
+ * <p>
+ * [1] Malkov, Yu A., and D. A. Yashunin. "Efficient and robust approximate nearest neighbor search using
+ * hierarchical navigable small world graphs." IEEE TPAMI (2018).
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class HnswIndex implements NearestNeighborIndex {
+
+	// number of points which are added one at a time before batches are used
+	static final int NUM_SEQUENTIAL = 64;
+	// largest allowed batch
+	static final int MAX_BATCH = 4096;
+
+	// maximum number of neighbors a node has on each level above zero.  On level zero it's twice this
+	private int maxConnections;
+	// size of the list of closest nodes when building the graph
+	private int constructionEffort;
+	// size of the list of closest nodes when searching
+	private int searchEffort;
+	// used to randomly assign levels to nodes
+	private Random rand;
+	private long randomSeed;
+	private double levelScale;
+
+	// if true then the graph is built using multiple threads
+	private boolean concurrent = BoofConcurrency.USE_CONCURRENT;
+
+	// reference to the points
+	double[] points;
+	int numPoints;
+	int dof;
+
+	// level of each node
+	int[] levels = new int[0];
+	// links[node][level][0] is the number of neighbors, followed by the neighbors
+	int[][][] links = new int[0][][];
+	// node which every search starts at
+	int entryPoint;
+	int maxLevel;
+
+	// storage for each node in a batch
+	FastQueue<Search> workspaces;
+	// neighbors found for each node in the batch.  Same format as links
+	int[][][] batchLinks = new int[0][][];
+
+	// work space for pruning links
+	int[] pruneIds;
+	double[] pruneDistances;
+
+	/**
+	 * Configures the graph
+	 *
+	 * @param maxConnections Maximum number of neighbors of a node on each level.  Try 16.
+	 * @param constructionEffort Number of candidate neighbors considered when adding a node.  Try 100.
+	 * @param searchEffort Number of candidate nodes considered when searching.  Larger increases recall.
+	 * @param randomSeed Seed for the random number generator
+	 */
+	public HnswIndex( int maxConnections , int constructionEffort , int searchEffort , long randomSeed ) {
+		if( maxConnections < 2 )
+			throw new IllegalArgumentException("maxConnections must be at least 2");
+		this.maxConnections = maxConnections;
+		this.constructionEffort = Math.max(constructionEffort,maxConnections);
+		this.searchEffort = searchEffort;
+		this.randomSeed = randomSeed;
+		this.rand = new Random(randomSeed);
+		this.levelScale = 1.0/Math.log(maxConnections);
+		this.pruneIds = new int[2*maxConnections+1];
+		this.pruneDistances = new double[2*maxConnections+1];
+
+		workspaces = new FastQueue<Search>(Search.class,true) {
+			@Override
+			protected Search createInstance() {
+				return new Search();
+			}
+		};
+	}
+
+	@Override
+	public void setPoints( double[] points , int numPoints , int dof ) {
+		this.points = points;
+		this.numPoints = numPoints;
+		this.dof = dof;
+
+		if( levels.length < numPoints ) {
+			levels = new int[numPoints];
+			links = new int[numPoints][][];
+		}
+
+		// randomly assign each node to a level
+		rand.setSeed(randomSeed);
+		for( int i = 0; i < numPoints; i++ ) {
+			levels[i] = (int)(-Math.log(1.0-rand.nextDouble())*levelScale);
+			if( links[i] == null || links[i].length != levels[i]+1 ) {
+				links[i] = new int[levels[i]+1][];
+				for( int level = 0; level <= levels[i]; level++ ) {
+					links[i][level] = new int[maxNeighbors(level)+2];
+				}
+			}
+			for( int level = 0; level <= levels[i]; level++ ) {
+				links[i][level][0] = 0;
+			}
+		}
+
+		if( numPoints == 0 )
+			return;
+
+		entryPoint = 0;
+		maxLevel = levels[0];
+
+		int start = 1;
+		while( start < numPoints ) {
+			int batch = Math.max(1,Math.min(MAX_BATCH,start/8));
+			if( start < NUM_SEQUENTIAL )
+				batch = 1;
+			int end = Math.min(numPoints,start+batch);
+			addBatch(start,end);
+			start = end;
+		}
+	}
+
+	/**
+	 * Adds the nodes from start to end, exclusive, to the graph
+	 */
+	private void addBatch( final int start , int end ) {
+		if( batchLinks.length < end-start )
+			batchLinks = new int[end-start][][];
+
+		if( concurrent ) {
+			BoofConcurrency.loopBlocks(start, end, 1, workspaces, new IntRangeObjectConsumer<Search>() {
+				@Override
+				public void accept(Search search, int idx0, int idx1) {
+					for( int i = idx0; i < idx1; i++ ) {
+						batchLinks[i-start] = search.findNeighbors(i);
+					}
+				}
+			});
+		} else {
+			workspaces.resize(1);
+			Search search = workspaces.get(0);
+			for( int i = start; i < end; i++ ) {
+				batchLinks[i-start] = search.findNeighbors(i);
+			}
+		}
+
+		// link the new nodes into the graph
+		for( int i = start; i < end; i++ ) {
+			int[][] neighbors = batchLinks[i-start];
+			for( int level = 0; level < neighbors.length; level++ ) {
+				int[] list = neighbors[level];
+				int[] nodeLinks = links[i][level];
+				for( int k = 1; k <= list[0]; k++ ) {
+					int neighbor = list[k];
+					nodeLinks[++nodeLinks[0]] = neighbor;
+					addLink(neighbor,i,level);
+				}
+			}
+			batchLinks[i-start] = null;
+
+			if( levels[i] > maxLevel ) {
+				maxLevel = levels[i];
+				entryPoint = i;
+			}
+		}
+	}
+
+	/**
+	 * Adds a link from 'node' to 'neighbor'.  If there are too many links then they are pruned using
+	 * {@link #selectNeighbors}.
+	 */
+	private void addLink( int node , int neighbor , int level ) {
+		int[] list = links[node][level];
+		list[++list[0]] = neighbor;
+		if( list[0] <= maxNeighbors(level) )
+			return;
+
+		// sort the neighbors by distance
+		int count = list[0];
+		int offset = node*dof;
+		for( int k = 0; k < count; k++ ) {
+			int id = list[k+1];
+			double d = UtilNearestNeighbor.distanceSq(points,offset,points,id*dof,dof);
+			int j = k;
+			while( j > 0 && pruneDistances[j-1] > d ) {
+				pruneDistances[j] = pruneDistances[j-1];
+				pruneIds[j] = pruneIds[j-1];
+				j--;
+			}
+			pruneDistances[j] = d;
+			pruneIds[j] = id;
+		}
+
+		count = selectNeighbors(pruneIds,pruneDistances,count,maxNeighbors(level));
+		list[0] = count;
+		System.arraycopy(pruneIds,0,list,1,count);
+	}
+
+	/**
+	 * Selects neighbors which are spread out in different directions, see Algorithm 4 in [1].  A candidate is
+	 * skipped if it's closer to a neighbor which has already been selected than it is to the node.  This keeps
+	 * clusters connected to the rest of the graph.
+	 *
+	 * @param ids Candidates sorted by distance from the node, closest first.  Selected candidates are
+	 *            moved to the front.
+	 * @param distances Distance of each candidate from the node.
+	 * @param count Number of candidates
+	 * @param max Maximum number of neighbors which are selected
+	 * @return Number of selected neighbors
+	 */
+	int selectNeighbors( int[] ids , double[] distances , int count , int max ) {
+		int selected = 0;
+		for( int i = 0; i < count && selected < max; i++ ) {
+			int offset = ids[i]*dof;
+			boolean good = true;
+			for( int j = 0; j < selected; j++ ) {
+				if( UtilNearestNeighbor.distanceSq(points,offset,points,ids[j]*dof,dof) < distances[i] ) {
+					good = false;
+					break;
+				}
+			}
+			if( good ) {
+				ids[selected] = ids[i];
+				distances[selected] = distances[i];
+				selected++;
+			}
+		}
+		return selected;
+	}
+
+	private int maxNeighbors( int level ) {
+		return level == 0 ? 2*maxConnections : maxConnections;
+	}
+
+	@Override
+	public void setSearchEffort( int effort ) {
+		this.searchEffort = effort;
+	}
+
+	@Override
+	public int getSearchEffort() {
+		return searchEffort;
+	}
+
+	@Override
+	public NearestNeighborSearch createSearch() {
+		return new Search();
+	}
+
+	public boolean isConcurrent() {
+		return concurrent;
+	}
+
+	/**
+	 * Specifies if the graph should be built using multiple threads.  The default value is
+	 * {@link BoofConcurrency#USE_CONCURRENT}.
+	 */
+	public void setConcurrent(boolean concurrent) {
+		this.concurrent = concurrent;
+	}
+
+	/**
+	 * Searches the graph.  Used when building the graph and when finding the nearest neighbor.
+	 */
+	class Search implements NearestNeighborSearch {
+		// nodes which still need to be expanded, closest first
+		NodeHeap candidates = new NodeHeap();
+		// closest nodes found so far, farthest first
+		NodeHeap closest = new NodeHeap();
+
+		// marks nodes which have already been examined
+		int[] visited = new int[0];
+		int marker = 0;
+
+		double[] query;
+		int queryOffset;
+		double bestDistanceSq;
+
+		// candidate neighbors sorted by distance
+		int[] candidateIds = new int[0];
+		double[] candidateDistances = new double[0];
+
+		@Override
+		public int findNearest( double[] query , double maxDistanceSq ) {
+			bestDistanceSq = Double.MAX_VALUE;
+			if( numPoints == 0 )
+				return -1;
+
+			this.query = query;
+			this.queryOffset = 0;
+
+			int node = entryPoint;
+			for( int level = maxLevel; level > 0; level-- ) {
+				node = greedy(node,level);
+			}
+			searchLevel(node,0,Math.max(1,searchEffort));
+
+			// the closest node is the last one in the max heap
+			int best = -1;
+			while( !closest.isEmpty() ) {
+				best = closest.pop();
+				bestDistanceSq = -closest.removedKey;
+			}
+
+			if( maxDistanceSq >= 0 && bestDistanceSq > maxDistanceSq )
+				return -1;
+			return best;
+		}
+
+		/**
+		 * Finds the neighbors of a node which is being added on each of its levels
+		 */
+		int[][] findNeighbors( int node ) {
+			this.query = points;
+			this.queryOffset = node*dof;
+
+			int nodeLevel = levels[node];
+			int[][] found = new int[nodeLevel+1][];
+
+			int current = entryPoint;
+			for( int level = maxLevel; level > nodeLevel; level-- ) {
+				current = greedy(current,level);
+			}
+
+			for( int level = nodeLevel; level >= 0; level-- ) {
+				if( level > maxLevel ) {
+					found[level] = new int[1];
+					continue;
+				}
+				searchLevel(current,level,constructionEffort);
+
+				// closest is a max heap so candidates are removed farthest first
+				int count = closest.size;
+				if( candidateIds.length < count ) {
+					candidateIds = new int[count];
+					candidateDistances = new double[count];
+				}
+				for( int k = count-1; k >= 0; k-- ) {
+					candidateIds[k] = closest.pop();
+					candidateDistances[k] = -closest.removedKey;
+				}
+				current = candidateIds[0];
+
+				int selected = selectNeighbors(candidateIds,candidateDistances,count,maxConnections);
+				int[] list = new int[selected+1];
+				list[0] = selected;
+				System.arraycopy(candidateIds,0,list,1,selected);
+				found[level] = list;
+			}
+
+			return found;
+		}
+
+		/**
+		 * Moves to the neighbor which is closest to the query until no neighbor is closer
+		 */
+		int greedy( int node , int level ) {
+			double best = distanceSq(node);
+			boolean changed = true;
+			while( changed ) {
+				changed = false;
+				int[] list = links[node][level];
+				for( int k = 1; k <= list[0]; k++ ) {
+					double d = distanceSq(list[k]);
+					if( d < best ) {
+						best = d;
+						node = list[k];
+						changed = true;
+					}
+				}
+			}
+			return node;
+		}
+
+		/**
+		 * Best first search of the level.  The closest nodes found are left in 'closest'
+		 *
+		 * @param effort Number of closest nodes which are kept track of
+		 */
+		void searchLevel( int start , int level , int effort ) {
+			if( visited.length < numPoints ) {
+				visited = new int[numPoints];
+				marker = 0;
+			}
+			marker = UtilNearestNeighbor.nextMarker(visited,marker);
+
+			candidates.reset();
+			closest.reset();
+
+			double d = distanceSq(start);
+			visited[start] = marker;
+			candidates.push(d,start);
+			closest.push(-d,start);
+
+			while( !candidates.isEmpty() ) {
+				int node = candidates.pop();
+				if( candidates.removedKey > -closest.peekKey() && closest.size >= effort )
+					break;
+
+				int[] list = links[node][level];
+				for( int k = 1; k <= list[0]; k++ ) {
+					int neighbor = list[k];
+					if( visited[neighbor] == marker )
+						continue;
+					visited[neighbor] = marker;
+
+					double distance = distanceSq(neighbor);
+					if( closest.size < effort || distance < -closest.peekKey() ) {
+						candidates.push(distance,neighbor);
+						closest.push(-distance,neighbor);
+						if( closest.size > effort )
+							closest.pop();
+					}
+				}
+			}
+		}
+
+		private double distanceSq( int node ) {
+			return UtilNearestNeighbor.distanceSq(points,node*dof,query,queryOffset,dof);
+		}
+
+		@Override
+		public double getDistanceSq() {
+			return bestDistanceSq;
+		}
+	}
+}
@@ -0,0 +1,409 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.feature.associate.nn;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeConsumer;
+import org.ddogleg.struct.GrowQueue_F64;
+import org.ddogleg.struct.GrowQueue_I32;
+
+import java.util.Random;
+
+/**
+ * <p>
+ * Approximate nearest neighbor search using a forest of randomized K-D trees, see [1].  Each tree splits
+ * along a dimension which is randomly selected from the dimensions with the largest variance.  All the trees
+ * are searched at the same time using a single priority queue, best-bin-first.  The search stops once the
+ * number of points examined reaches the search effort.  If the search effort is &le; 0 then the search is exact.
+ * </p>
+ *
+ * <p>
+ * Trees are independent of each other and are built concurrently.  Each tree has its own random number
+ * generator which is seeded from the main seed, so the forest is the same no matter how many threads are used.
+ * </p>
+ *
+ * <p>
+ * [1] Muja, Marius, and David G. Lowe. "Fast Approximate Nearest Neighbors with Automatic Algorithm
+ * Configuration." VISAPP (1) 2.331-340 (2009): 2.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class KdForestIndex implements NearestNeighborIndex {
+
+	// maximum number of points in a leaf
+	static final int LEAF_SIZE = 8;
+	// number of points sampled when computing the variance of each dimension
+	static final int VARIANCE_SAMPLES = 100;
+
+	// number of trees in the forest
+	private int numTrees;
+	// number of dimensions with the largest variance which are randomly selected from
+	private int numConsiderSplit;
+	// maximum number of points which are examined in a search
+	private int searchEffort;
+	// seed used to create each tree's random number generator
+	private long randomSeed;
+
+	// if true then trees are built using multiple threads
+	private boolean concurrent = BoofConcurrency.USE_CONCURRENT;
+
+	// reference to the points
+	double[] points;
+	int numPoints;
+	int dof;
+
+	Tree[] trees = new Tree[0];
+
+	/**
+	 * Configures the forest
+	 *
+	 * @param numTrees Number of trees in the forest.  Try 4.
+	 * @param numConsiderSplit Number of dimensions with the largest variance a split is randomly selected from. Try 5.
+	 * @param searchEffort Maximum number of points examined in a search.  &le; 0 for exact search.
+	 * @param randomSeed Seed for the random number generator
+	 */
+	public KdForestIndex( int numTrees , int numConsiderSplit , int searchEffort , long randomSeed ) {
+		if( numTrees <= 0 )
+			throw new IllegalArgumentException("There must be at least one tree");
+		if( numConsiderSplit <= 0 )
+			throw new IllegalArgumentException("numConsiderSplit must be positive");
+		this.numTrees = numTrees;
+		this.numConsiderSplit = numConsiderSplit;
+		this.searchEffort = searchEffort;
+		this.randomSeed = randomSeed;
+	}
+
+	@Override
+	public void setPoints( double[] points , int numPoints , int dof ) {
+		this.points = points;
+		this.numPoints = numPoints;
+		this.dof = dof;
+
+		if( trees.length != numTrees ) {
+			trees = new Tree[numTrees];
+			for( int i = 0; i < numTrees; i++ ) {
+				trees[i] = new Tree();
+			}
+		}
+
+		// seeds are selected before building so that the forest doesn't depend on the order trees are built in
+		Random rand = new Random(randomSeed);
+		for( int i = 0; i < numTrees; i++ ) {
+			trees[i].rand.setSeed(rand.nextLong());
+		}
+
+		if( concurrent ) {
+			BoofConcurrency.loopBlocks(0, numTrees, new IntRangeConsumer() {
+				@Override
+				public void accept(int idx0, int idx1) {
+					for( int i = idx0; i < idx1; i++ ) {
+						trees[i].build();
+					}
+				}
+			});
+		} else {
+			for( int i = 0; i < numTrees; i++ ) {
+				trees[i].build();
+			}
+		}
+	}
+
+	@Override
+	public void setSearchEffort( int effort ) {
+		this.searchEffort = effort;
+	}
+
+	@Override
+	public int getSearchEffort() {
+		return searchEffort;
+	}
+
+	@Override
+	public NearestNeighborSearch createSearch() {
+		return new Search();
+	}
+
+	public int getNumTrees() {
+		return numTrees;
+	}
+
+	public boolean isConcurrent() {
+		return concurrent;
+	}
+
+	/**
+	 * Specifies if trees should be built using multiple threads.  The default value is
+	 * {@link BoofConcurrency#USE_CONCURRENT}.
+	 */
+	public void setConcurrent(boolean concurrent) {
+		this.concurrent = concurrent;
+	}
+
+	/**
+	 * A single randomized K-D tree.  Nodes are stored in arrays.  For a leaf, split is -1 and left/right
+	 * specify the range of points in the index array.
+	 */
+	class Tree {
+		Random rand = new Random();
+
+		// order of points.  Points in a leaf are in a continuous range
+		int[] indexes = new int[0];
+
+		// which dimension is split.  -1 for a leaf
+		GrowQueue_I32 split = new GrowQueue_I32();
+		// value of the split dimension
+		GrowQueue_F64 value = new GrowQueue_F64();
+		// index of child nodes or range of points in a leaf
+		GrowQueue_I32 left = new GrowQueue_I32();
+		GrowQueue_I32 right = new GrowQueue_I32();
+
+		// work space for selecting the split
+		double[] mean = new double[0];
+		double[] variance = new double[0];
+		int[] largest = new int[0];
+
+		void build() {
+			if( indexes.length < numPoints )
+				indexes = new int[numPoints];
+			for( int i = 0; i < numPoints; i++ ) {
+				indexes[i] = i;
+			}
+			if( mean.length != dof ) {
+				mean = new double[dof];
+				variance = new double[dof];
+			}
+			largest = new int[Math.min(numConsiderSplit,dof)];
+
+			split.reset();
+			value.reset();
+			left.reset();
+			right.reset();
+
+			if( numPoints > 0 )
+				buildNode(0,numPoints);
+		}
+
+		/**
+		 * Recursively creates nodes for the points from start to end, exclusive
+		 *
+		 * @return index of the node
+		 */
+		int buildNode( int start , int end ) {
+			int node = split.size;
+			split.add(-1);
+			value.add(0);
+			left.add(start);
+			right.add(end);
+
+			if( end-start <= LEAF_SIZE )
+				return node;
+
+			int dim = selectSplitDimension(start,end);
+			if( dim < 0 )
+				return node; // all the sampled points are identical
+
+			// split at the median so that the tree is balanced
+			int middle = (start+end)/2;
+			select(start,end,middle,dim);
+
+			split.data[node] = dim;
+			value.data[node] = points[indexes[middle]*dof+dim];
+			int childLeft = buildNode(start,middle);
+			int childRight = buildNode(middle,end);
+			left.data[node] = childLeft;
+			right.data[node] = childRight;
+
+			return node;
+		}
+
+		/**
+		 * Randomly selects one of the dimensions with the largest variance.  Returns -1 if none of the dimensions
+		 * have any variance.
+		 */
+		int selectSplitDimension( int start , int end ) {
+			int N = Math.min(end-start,VARIANCE_SAMPLES);
+
+			for( int i = 0; i < dof; i++ ) {
+				mean[i] = 0;
+				variance[i] = 0;
+			}
+			for( int i = 0; i < N; i++ ) {
+				int offset = indexes[start+i]*dof;
+				for( int j = 0; j < dof; j++ ) {
+					mean[j] += points[offset+j];
+				}
+			}
+			for( int j = 0; j < dof; j++ ) {
+				mean[j] /= N;
+			}
+			for( int i = 0; i < N; i++ ) {
+				int offset = indexes[start+i]*dof;
+				for( int j = 0; j < dof; j++ ) {
+					double d = points[offset+j] - mean[j];
+					variance[j] += d*d;
+				}
+			}
+
+			// find the dimensions with the largest variance
+			int numLargest = 0;
+			for( int k = 0; k < largest.length; k++ ) {
+				int best = -1;
+				double bestVariance = 0;
+				for( int j = 0; j < dof; j++ ) {
+					if( variance[j] > bestVariance ) {
+						bestVariance = variance[j];
+						best = j;
+					}
+				}
+				if( best < 0 )
+					break;
+				largest[numLargest++] = best;
+				variance[best] = -1;
+			}
+
+			if( numLargest == 0 )
+				return -1;
+			return largest[rand.nextInt(numLargest)];
+		}
+
+		/**
+		 * Rearranges indexes so that the point at 'k' has the k-th smallest value along the dimension, smaller
+		 * values come before it and larger values come after it.
+		 */
+		void select( int start , int end , int k , int dim ) {
+			int lo = start, hi = end-1;
+			while( lo < hi ) {
+				double pivot = points[indexes[lo + rand.nextInt(hi-lo+1)]*dof+dim];
+				int i = lo, j = hi;
+				while( i <= j ) {
+					while( points[indexes[i]*dof+dim] < pivot ) i++;
+					while( points[indexes[j]*dof+dim] > pivot ) j--;
+					if( i <= j ) {
+						int tmp = indexes[i]; indexes[i] = indexes[j]; indexes[j] = tmp;
+						i++; j--;
+					}
+				}
+				if( k <= j )
+					hi = j;
+				else if( k >= i )
+					lo = i;
+				else
+					break;
+			}
+		}
+	}
+
+	/**
+	 * Best-bin-first search of all the trees
+	 */
+	class Search implements NearestNeighborSearch {
+		NodeHeap queue = new NodeHeap();
+
+		// marks points which have already been examined
+		int[] visited = new int[0];
+		int marker = 0;
+
+		double[] query;
+		int bestIndex;
+		double bestDistanceSq;
+		int numChecked;
+
+		@Override
+		public int findNearest( double[] query , double maxDistanceSq ) {
+			if( visited.length < numPoints ) {
+				visited = new int[numPoints];
+				marker = 0;
+			}
+			marker = UtilNearestNeighbor.nextMarker(visited,marker);
+
+			this.query = query;
+			bestIndex = -1;
+			bestDistanceSq = maxDistanceSq < 0 ? Double.MAX_VALUE : maxDistanceSq;
+			numChecked = 0;
+			queue.reset();
+
+			if( numPoints == 0 )
+				return -1;
+
+			// the node ID encodes the tree
+			for( int tree = 0; tree < numTrees; tree++ ) {
+				descend(tree,0,0);
+			}
+
+			while( !queue.isEmpty() ) {
+				if( searchEffort > 0 && numChecked >= searchEffort )
+					break;
+				int id = queue.pop();
+				if( queue.removedKey > bestDistanceSq )
+					break;
+				descend(id%numTrees,id/numTrees,queue.removedKey);
+			}
+
+			return bestIndex;
+		}
+
+		/**
+		 * Goes down the tree to a leaf while adding the other branches to the queue
+		 *
+		 * @param bound Lower bound for the distance to any point below the node
+		 */
+		void descend( int treeIdx , int node , double bound ) {
+			Tree tree = trees[treeIdx];
+
+			int dim;
+			while( (dim = tree.split.data[node]) >= 0 ) {
+				double d = query[dim] - tree.value.data[node];
+				int near, far;
+				if( d < 0 ) {
+					near = tree.left.data[node];
+					far = tree.right.data[node];
+				} else {
+					near = tree.right.data[node];
+					far = tree.left.data[node];
+				}
+				double farBound = Math.max(bound,d*d);
+				if( farBound <= bestDistanceSq )
+					queue.push(farBound,far*numTrees+treeIdx);
+				node = near;
+			}
+
+			int end = tree.right.data[node];
+			for( int i = tree.left.data[node]; i < end; i++ ) {
+				int index = tree.indexes[i];
+				if( visited[index] == marker )
+					continue;
+				visited[index] = marker;
+				numChecked++;
+
+				double distanceSq = UtilNearestNeighbor.distanceSq(points,index*dof,query,0,dof);
+				if( distanceSq < bestDistanceSq || (bestIndex == -1 && distanceSq <= bestDistanceSq) ) {
+					bestDistanceSq = distanceSq;
+					bestIndex = index;
+				}
+			}
+		}
+
+		@Override
+		public double getDistanceSq() {
+			return bestDistanceSq;
+		}
+	}
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.feature.associate.nn;
+
+/**
+ * <p>
+ * Data structure for finding the nearest neighbor of a point using Euclidean distance.  Points are stored
+ * in a single packed array, one point after another, which is referenced and not copied.  Once the index
+ * has been built it is not modified by searches, allowing any number of {@link NearestNeighborSearch}
+ * to be used at the same time in different threads.
+ * </p>
+ *
+ * <p>
+ * Implementations can be approximate.  How hard a search tries to find the true nearest neighbor is
+ * specified by {@link #setSearchEffort(int)}.  Larger values increase the recall at the cost of speed.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public interface NearestNeighborIndex {
+
+	/**
+	 * Builds the index from the set of points.
+	 *
+	 * @param points Array containing all the points. Point i starts at element i*dof.
+	 * @param numPoints Number of points
+	 * @param dof Number of elements in each point
+	 */
+	void setPoints( double[] points , int numPoints , int dof );
+
+	/**
+	 * Specifies how much work a search should do.  The meaning depends on the implementation, but larger
+	 * values always mean higher recall and slower searches.
+	 */
+	void setSearchEffort( int effort );
+
+	int getSearchEffort();
+
+	/**
+	 * Creates a new search for this index.  Each thread should use its own search.
+	 */
+	NearestNeighborSearch createSearch();
+}
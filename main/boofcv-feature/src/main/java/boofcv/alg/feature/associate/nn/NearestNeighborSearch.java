@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.associate.nn;
+
+/**
+ * Searches a {@link NearestNeighborIndex} for the point which is closest to the query.  Contains
+ * all the storage a search needs and is not thread safe.
+ *
+ * @author Peter Abeles
+ */
+public interface NearestNeighborSearch {
+
+	/**
+	 * Finds the point in the index which is closest to the query.
+	 *
+	 * @param query The point being searched for
+	 * @param maxDistanceSq Maximum Euclidean distance squared a match can be.  If negative then there is no limit.
+	 * @return Index of the closest point or -1 if none was found
+	 */
+	int findNearest( double[] query , double maxDistanceSq );
+
+	/**
+	 * Euclidean distance squared of the point found by the most recent search
+	 */
+	double getDistanceSq();
+}
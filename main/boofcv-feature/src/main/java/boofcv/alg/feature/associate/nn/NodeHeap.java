@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.feature.associate.nn;
+
+/**
+ * Binary min-heap of integer values sorted by a double key.  A max-heap can be created by negating the key.
+ *
+ * @author Peter Abeles
+ */
+class NodeHeap {
+	double[] keys = new double[16];
+	int[] values = new int[16];
+	int size;
+
+	// key of the element which was most recently removed
+	double removedKey;
+
+	void reset() {
+		size = 0;
+	}
+
+	void push( double key , int value ) {
+		if( size == keys.length ) {
+			double[] k = new double[size*2];
+			int[] v = new int[size*2];
+			System.arraycopy(keys,0,k,0,size);
+			System.arraycopy(values,0,v,0,size);
+			keys = k;
+			values = v;
+		}
+
+		// move up the tree until the parent is smaller
+		int index = size++;
+		while( index > 0 ) {
+			int parent = (index-1)/2;
+			if( keys[parent] <= key )
+				break;
+			keys[index] = keys[parent];
+			values[index] = values[parent];
+			index = parent;
+		}
+		keys[index] = key;
+		values[index] = value;
+	}
+
+	/**
+	 * Removes the element with the smallest key and returns its value.  The key is saved in {@link #removedKey}.
+	 */
+	int pop() {
+		int value = values[0];
+		removedKey = keys[0];
+
+		size--;
+		double key = keys[size];
+		int last = values[size];
+
+		// move the last element down the tree until both children are larger
+		int index = 0;
+		while( true ) {
+			int child = 2*index+1;
+			if( child >= size )
+				break;
+			if( child+1 < size && keys[child+1] < keys[child] )
+				child++;
+			if( key <= keys[child] )
+				break;
+			keys[index] = keys[child];
+			values[index] = values[child];
+			index = child;
+		}
+		keys[index] = key;
+		values[index] = last;
+
+		return value;
+	}
+
+	double peekKey() {
+		return keys[0];
+	}
+
+	boolean isEmpty() {
+		return size == 0;
+	}
+}
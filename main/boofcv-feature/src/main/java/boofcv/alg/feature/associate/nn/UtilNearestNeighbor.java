@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.feature.associate.nn;
+
+import java.util.Arrays;
+
+/**
+ * Functions used by nearest neighbor implementations
+ *
+ * @author Peter Abeles
+ */
+class UtilNearestNeighbor {
+	/**
+	 * Euclidean distance squared between a point in a packed array and another point.
+	 *
+	 * @param a Array containing the first point
+	 * @param offsetA Index of the first point's first element
+	 * @param b Array containing the second point
+	 * @param offsetB Index of the second point's first element
+	 * @param dof Number of elements in a point
+	 */
+	static double distanceSq( double[] a , int offsetA , double[] b , int offsetB , int dof ) {
+		double total = 0;
+		for( int i = 0; i < dof; i++ ) {
+			double d = a[offsetA+i] - b[offsetB+i];
+			total += d*d;
+		}
+		return total;
+	}
+
+	/**
+	 * Increments the visit marker.  If it overflows then all the markers are cleared.
+	 *
+	 * @return the new marker
+	 */
+	static int nextMarker( int[] visited , int marker ) {
+		marker++;
+		if( marker == Integer.MAX_VALUE ) {
+			Arrays.fill(visited,0);
+			marker = 1;
+		}
+		return marker;
+	}
+}
@@ -60,6 +60,10 @@ public class DescribePointSift<Deriv extends ImageGray> extends DescribeSiftComm
 	// conversion from scale-space sigma to image pixels
 	double sigmaToPixels;
 
+	// configuration which is needed to create a copy
+	double weightingSigmaFraction;
+	Class<Deriv> derivType;
+
 	// reference to user provided descriptor in which results are saved to
 	TupleDesc_F64 descriptor;
 
@@ -78,11 +82,22 @@ public class DescribePointSift<Deriv extends ImageGray> extends DescribeSiftComm
 							 double maxDescriptorElementValue , Class<Deriv> derivType ) {
 		super(widthSubregion,widthGrid,numHistogramBins,weightingSigmaFraction,maxDescriptorElementValue);
 		this.sigmaToPixels = sigmaToPixels;
+		this.weightingSigmaFraction = weightingSigmaFraction;
+		this.derivType = derivType;
 
 		imageDerivX = FactoryGImageGray.create(derivType);
 		imageDerivY = FactoryGImageGray.create(derivType);
 	}
 
+	/**
+	 * Creates a new instance with the same configuration.  Internal work space is not shared, which
+	 * allows the copy to be used in a different thread.  The image gradient is not copied.
+	 */
+	public DescribePointSift<Deriv> copy() {
+		return new DescribePointSift<>(widthSubregion,widthGrid,numHistogramBins,
+				sigmaToPixels,weightingSigmaFraction,maxDescriptorElementValue,derivType);
+	}
+
 	/**
 	 * Sets the image spacial derivatives.  These should be computed from an image at the appropriate scale
 	 * in scale-space.
@@ -76,6 +76,11 @@ public class DescribePointSurf<II extends ImageGray<II>> {
 	// DOF of feature
 	protected int featureDOF;
 
+	// configuration which is needed to create a copy
+	protected double weightSigma;
+	protected boolean useHaar;
+	protected Class<II> inputType;
+
 	// integral image transform of input image
 	protected II ii;
 
@@ -111,6 +116,9 @@ public class DescribePointSurf<II extends ImageGray<II>> {
 		this.widthLargeGrid = widthLargeGrid;
 		this.widthSubRegion = widthSubRegion;
 		this.widthSample = widthSample;
+		this.weightSigma = weightSigma;
+		this.useHaar = useHaar;
+		this.inputType = inputType;
 
 		int radius = (widthLargeGrid*widthSubRegion)/2;
 		weight = FactoryKernelGaussian.gaussianWidth(weightSigma, radius * 2);
@@ -138,6 +146,14 @@ public class DescribePointSurf<II extends ImageGray<II>> {
 		this(4,5,3, 4.5 , false,inputType);
 	}
 
+	/**
+	 * Creates a new instance with the same configuration.  Internal work space is not shared, which
+	 * allows the copy to be used in a different thread.  The integral image is not copied.
+	 */
+	public DescribePointSurf<II> copy() {
+		return new DescribePointSurf<>(widthLargeGrid,widthSubRegion,widthSample,weightSigma,useHaar,inputType);
+	}
+
 	public BrightFeature createDescription() {
 		return new BrightFeature(featureDOF);
 	}
@@ -44,6 +44,10 @@ public class DescribePointSurfMod<II extends ImageGray<II>> extends DescribePoin
 	// how many sample points sub-regions overlap.
 	private int overLap;
 
+	// sigmas used to weight the large grid and sub-regions
+	private double sigmaLargeGrid;
+	private double sigmaSubRegion;
+
 	// used to weigh feature computation
 	private Kernel2D_F64 weightGrid;
 	private Kernel2D_F64 weightSub;
@@ -70,6 +74,8 @@ public class DescribePointSurfMod<II extends ImageGray<II>> extends DescribePoin
 		super(widthLargeGrid, widthSubRegion, widthSample, 1, useHaar,imageType);
 
 		this.overLap = overLap;
+		this.sigmaLargeGrid = sigmaLargeGrid;
+		this.sigmaSubRegion = sigmaSubRegion;
 
 		weightGrid = FactoryKernelGaussian.gaussianWidth(sigmaLargeGrid, widthLargeGrid);
 		weightSub = FactoryKernelGaussian.gaussianWidth(sigmaSubRegion, widthSubRegion + 2 * overLap);
@@ -98,6 +104,12 @@ public class DescribePointSurfMod<II extends ImageGray<II>> extends DescribePoin
 		this(4,5,3,2, 2.5 , 2.5 , false ,imageType);
 	}
 
+	@Override
+	public DescribePointSurfMod<II> copy() {
+		return new DescribePointSurfMod<>(widthLargeGrid,widthSubRegion,widthSample,overLap,
+				sigmaLargeGrid,sigmaSubRegion,useHaar,inputType);
+	}
+
 	/**
 	 * <p>
 	 * An improved SURF descriptor as presented in CenSurE paper.   The sub-regions now overlap and more
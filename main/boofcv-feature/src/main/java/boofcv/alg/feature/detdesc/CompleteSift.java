@@ -24,6 +24,8 @@ import boofcv.alg.feature.describe.DescribePointSift;
 import boofcv.alg.feature.detect.interest.SiftDetector;
 import boofcv.alg.feature.detect.interest.SiftScaleSpace;
 import boofcv.alg.feature.orientation.OrientationHistogramSift;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeObjectConsumer;
 import boofcv.factory.filter.derivative.FactoryDerivative;
 import boofcv.struct.feature.BrightFeature;
 import boofcv.struct.feature.ScalePoint;
@@ -35,6 +37,11 @@ import org.ddogleg.struct.GrowQueue_F64;
  * SIFT combined together to simultaneously detect and describe the key points it finds.  Memory is conserved by
  * only having one octave of the scale-space in memory at any given time.
  *
+ * <p>Once all the key points in a scale have been detected, their orientations and descriptions are computed.  If
+ * concurrent, the key points are split between threads and each thread uses its own copy of
+ * {@link OrientationHistogramSift} and {@link DescribePointSift}.  Results are identical to and in the same order
+ * as the single threaded version.</p>
+ *
  * @see OrientationHistogramSift
  * @see DescribePointSift
  * @see SiftDetector
@@ -60,6 +67,13 @@ public class CompleteSift extends SiftDetector
 	GrayF32 derivX = new GrayF32(1,1);
 	GrayF32 derivY = new GrayF32(1,1);
 
+	// if true then orientation and description is done using multiple threads
+	boolean concurrent = BoofConcurrency.USE_CONCURRENT;
+	// orientations found for each detection in the current scale
+	FastQueue<GrowQueue_F64> detectionAngles = new FastQueue<>(GrowQueue_F64.class,true);
+	// copies of the orientation and description algorithms. One for each thread
+	FastQueue<Workspace> workspaces;
+
 	/**
 	 * Configures SIFT
 	 *
@@ -84,6 +98,12 @@ public class CompleteSift extends SiftDetector
 				return new BrightFeature(dof);
 			}
 		};
+		workspaces = new FastQueue<Workspace>(Workspace.class,true) {
+			@Override
+			protected Workspace createInstance() {
+				return new Workspace();
+			}
+		};
 	}
 
 	@Override
@@ -107,12 +127,22 @@ public class CompleteSift extends SiftDetector
 		orientation.setImageGradient(derivX,derivY);
 		describe.setImageGradient(derivX,derivY);
 
+		int detectionsStart = detections.size;
 		super.detectFeatures(scaleIndex);
-	}
 
-	@Override
-	protected void handleDetection(ScalePoint p) {
+		if( concurrent ) {
+			describeConcurrent(detectionsStart);
+		} else {
+			for (int i = detectionsStart; i < detections.size; i++) {
+				describeDetection(detections.get(i));
+			}
+		}
+	}
 
+	/**
+	 * Computes the orientation(s) and descriptions for a single detection
+	 */
+	private void describeDetection(ScalePoint p) {
 		// adjust the image for the down sampling in each octave
 		double localX = p.x / pixelScaleToInput;
 		double localY = p.y / pixelScaleToInput;
@@ -133,6 +163,70 @@ public class CompleteSift extends SiftDetector
 		}
 	}
 
+	/**
+	 * Computes the orientations and descriptions for all the detections in the current scale using multiple
+	 * threads. First the orientations of each detection are found, then storage for all the features is declared
+	 * in order, and finally each feature is described.
+	 *
+	 * @param detectionsStart Index of the first detection in the current scale
+	 */
+	private void describeConcurrent( final int detectionsStart ) {
+		final int numDetections = detections.size - detectionsStart;
+		detectionAngles.resize(numDetections);
+
+		BoofConcurrency.loopBlocks(0, numDetections, 1, workspaces, new IntRangeObjectConsumer<Workspace>() {
+			@Override
+			public void accept(Workspace work, int idx0, int idx1) {
+				work.orientation.setImageGradient(derivX,derivY);
+				for (int i = idx0; i < idx1; i++) {
+					ScalePoint p = detections.get(detectionsStart+i);
+					work.orientation.process(p.x/pixelScaleToInput,p.y/pixelScaleToInput,p.scale/pixelScaleToInput);
+
+					GrowQueue_F64 angles = detectionAngles.get(i);
+					angles.reset();
+					angles.addAll(work.orientation.getOrientations());
+				}
+			}
+		});
+
+		// declare storage for the features in the same order as the single threaded version
+		final int featuresStart = features.size;
+		for (int i = 0; i < numDetections; i++) {
+			ScalePoint p = detections.get(detectionsStart+i);
+			GrowQueue_F64 angles = detectionAngles.get(i);
+			for (int j = 0; j < angles.size; j++) {
+				features.grow().white = p.white;
+				orientations.add(angles.get(j));
+				locations.add(p);
+			}
+		}
+
+		BoofConcurrency.loopBlocks(featuresStart, features.size, 1, workspaces,
+				new IntRangeObjectConsumer<Workspace>() {
+			@Override
+			public void accept(Workspace work, int idx0, int idx1) {
+				work.describe.setImageGradient(derivX,derivY);
+				for (int i = idx0; i < idx1; i++) {
+					ScalePoint p = locations.get(i);
+					work.describe.process(p.x/pixelScaleToInput,p.y/pixelScaleToInput,p.scale/pixelScaleToInput,
+							orientations.get(i),features.get(i));
+				}
+			}
+		});
+	}
+
+	public boolean isConcurrent() {
+		return concurrent;
+	}
+
+	/**
+	 * Specifies if orientation and description should be done using multiple threads.  The default value is
+	 * {@link BoofConcurrency#USE_CONCURRENT}.
+	 */
+	public void setConcurrent(boolean concurrent) {
+		this.concurrent = concurrent;
+	}
+
 	public FastQueue<ScalePoint> getLocations() {
 		return locations;
 	}
@@ -148,4 +242,12 @@ public class CompleteSift extends SiftDetector
 	public int getDescriptorLength() {
 		return describe.getDescriptorLength();
 	}
+
+	/**
+	 * Work space for a single thread
+	 */
+	class Workspace {
+		OrientationHistogramSift<GrayF32> orientation = CompleteSift.this.orientation.copy();
+		DescribePointSift<GrayF32> describe = CompleteSift.this.describe.copy();
+	}
 }
@@ -60,8 +60,6 @@ public class CannyEdge<T extends ImageGray<T>, D extends ImageGray<D>> {
 	// edge intensity
 	private GrayF32 intensity = new GrayF32(1,1);
 	protected GrayF32 suppressed = new GrayF32(1,1);
-	// edge direction in radians
-	private GrayF32 angle = new GrayF32(1,1);
 	// quantized direction
 	private GrayS8 direction = new GrayS8(1,1);
 	// work space
@@ -124,16 +122,13 @@ public class CannyEdge<T extends ImageGray<T>, D extends ImageGray<D>> {
 		derivY.reshape(input.width,input.height);
 		intensity.reshape(input.width,input.height);
 		suppressed.reshape(input.width,input.height);
-		angle.reshape(input.width,input.height);
 		direction.reshape(input.width,input.height);
 		work.reshape(input.width,input.height);
 
 		// run canny edge detector
 		blur.process(input,blurred);
 		gradient.process(blurred, derivX, derivY);
-		GGradientToEdgeFeatures.intensityAbs(derivX, derivY, intensity);
-		GGradientToEdgeFeatures.direction(derivX, derivY, angle);
-		GradientToEdgeFeatures.discretizeDirection4(angle, direction);
+		GGradientToEdgeFeatures.intensityAbsDirection4(derivX, derivY, intensity, direction);
 		GradientToEdgeFeatures.nonMaxSuppression4(intensity, direction, suppressed);
 
 		performThresholding(threshLow, threshHigh, output);
@@ -21,6 +21,7 @@ package boofcv.alg.feature.detect.edge;
 import boofcv.struct.image.GrayF32;
 import boofcv.struct.image.GrayS16;
 import boofcv.struct.image.GrayS32;
+import boofcv.struct.image.GrayS8;
 import boofcv.struct.image.ImageGray;
 
 
@@ -115,6 +116,31 @@ public class GGradientToEdgeFeatures {
 		}
 	}
 
+	/**
+	 * Computes the edge intensity using the sum of absolute values and the discretized edge orientation
+	 * in a single pass.
+	 *
+	 * @see GradientToEdgeFeatures#intensityAbsDirection4(GrayF32, GrayF32, GrayF32, GrayS8)
+	 *
+	 * @param derivX Derivative along x-axis. Not modified.
+	 * @param derivY Derivative along y-axis. Not modified.
+	 * @param intensity Edge intensity.
+	 * @param direction Discretized direction. Values will be from -1 to 2, inclusive.
+	 */
+	static public <D extends ImageGray<D>>
+	void intensityAbsDirection4( D derivX , D derivY , GrayF32 intensity , GrayS8 direction )
+	{
+		if( derivX instanceof GrayF32) {
+			GradientToEdgeFeatures.intensityAbsDirection4((GrayF32)derivX,(GrayF32)derivY,intensity,direction);
+		} else if( derivX instanceof GrayS16) {
+			GradientToEdgeFeatures.intensityAbsDirection4((GrayS16)derivX,(GrayS16)derivY,intensity,direction);
+		} else if( derivX instanceof GrayS32) {
+			GradientToEdgeFeatures.intensityAbsDirection4((GrayS32)derivX,(GrayS32)derivY,intensity,direction);
+		} else {
+			throw new IllegalArgumentException("Unknown input type");
+		}
+	}
+
 	/**
 	 * <p>
 	 * Sets edge intensities to zero if the pixel has an intensity which is less than any of
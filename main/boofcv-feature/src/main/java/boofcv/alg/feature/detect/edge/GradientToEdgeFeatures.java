@@ -22,6 +22,8 @@ import boofcv.alg.InputSanityCheck;
 import boofcv.alg.feature.detect.edge.impl.ImplEdgeNonMaxSuppression;
 import boofcv.alg.feature.detect.edge.impl.ImplEdgeNonMaxSuppressionCrude;
 import boofcv.alg.feature.detect.edge.impl.ImplGradientToEdgeFeatures;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeConsumer;
 import boofcv.struct.image.GrayF32;
 import boofcv.struct.image.GrayS16;
 import boofcv.struct.image.GrayS32;
@@ -104,6 +106,36 @@ public class GradientToEdgeFeatures {
 		ImplGradientToEdgeFeatures.direction2(derivX,derivY,angle);
 	}
 
+	/**
+	 * <p>
+	 * Computes the edge intensity using the sum of absolute values and the edge orientation discretized into
+	 * 4 directions in a single pass. Produces the same output as {@link #intensityAbs}, {@link #direction},
+	 * and {@link #discretizeDirection4} but without the intermediate angle image. If
+	 * {@link BoofConcurrency#USE_CONCURRENT} is true then rows are processed concurrently.
+	 * </p>
+	 *
+	 * @param derivX Derivative along x-axis. Not modified.
+	 * @param derivY Derivative along y-axis. Not modified.
+	 * @param intensity Edge intensity.
+	 * @param direction Discretized direction.  See {@link #discretizeDirection4} for values.
+	 */
+	static public void intensityAbsDirection4(final GrayF32 derivX , final GrayF32 derivY ,
+											  final GrayF32 intensity , final GrayS8 direction )
+	{
+		InputSanityCheck.checkSameShape(derivX,derivY,intensity,direction);
+
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			BoofConcurrency.loopBlocks(0, derivX.height, new IntRangeConsumer() {
+				@Override
+				public void accept(int y0, int y1) {
+					ImplGradientToEdgeFeatures.intensityAbsDirection4(derivX,derivY,intensity,direction,y0,y1);
+				}
+			});
+		} else {
+			ImplGradientToEdgeFeatures.intensityAbsDirection4(derivX,derivY,intensity,direction,0,derivX.height);
+		}
+	}
+
 	/**
 	 * Computes the edge intensity using a Euclidean norm.
 	 *
@@ -160,6 +192,36 @@ public class GradientToEdgeFeatures {
 		ImplGradientToEdgeFeatures.direction2(derivX,derivY,angle);
 	}
 
+	/**
+	 * <p>
+	 * Computes the edge intensity using the sum of absolute values and the edge orientation discretized into
+	 * 4 directions in a single pass. Produces the same output as {@link #intensityAbs}, {@link #direction},
+	 * and {@link #discretizeDirection4} but without the intermediate angle image. If
+	 * {@link BoofConcurrency#USE_CONCURRENT} is true then rows are processed concurrently.
+	 * </p>
+	 *
+	 * @param derivX Derivative along x-axis. Not modified.
+	 * @param derivY Derivative along y-axis. Not modified.
+	 * @param intensity Edge intensity.
+	 * @param direction Discretized direction.  See {@link #discretizeDirection4} for values.
+	 */
+	static public void intensityAbsDirection4(final GrayS16 derivX , final GrayS16 derivY ,
+											  final GrayF32 intensity , final GrayS8 direction )
+	{
+		InputSanityCheck.checkSameShape(derivX,derivY,intensity,direction);
+
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			BoofConcurrency.loopBlocks(0, derivX.height, new IntRangeConsumer() {
+				@Override
+				public void accept(int y0, int y1) {
+					ImplGradientToEdgeFeatures.intensityAbsDirection4(derivX,derivY,intensity,direction,y0,y1);
+				}
+			});
+		} else {
+			ImplGradientToEdgeFeatures.intensityAbsDirection4(derivX,derivY,intensity,direction,0,derivX.height);
+		}
+	}
+
 	/**
 	 * Computes the edge intensity using a Euclidean norm.
 	 *
@@ -216,6 +278,36 @@ public class GradientToEdgeFeatures {
 		ImplGradientToEdgeFeatures.direction2(derivX,derivY,angle);
 	}
 
+	/**
+	 * <p>
+	 * Computes the edge intensity using the sum of absolute values and the edge orientation discretized into
+	 * 4 directions in a single pass. Produces the same output as {@link #intensityAbs}, {@link #direction},
+	 * and {@link #discretizeDirection4} but without the intermediate angle image. If
+	 * {@link BoofConcurrency#USE_CONCURRENT} is true then rows are processed concurrently.
+	 * </p>
+	 *
+	 * @param derivX Derivative along x-axis. Not modified.
+	 * @param derivY Derivative along y-axis. Not modified.
+	 * @param intensity Edge intensity.
+	 * @param direction Discretized direction.  See {@link #discretizeDirection4} for values.
+	 */
+	static public void intensityAbsDirection4(final GrayS32 derivX , final GrayS32 derivY ,
+											  final GrayF32 intensity , final GrayS8 direction )
+	{
+		InputSanityCheck.checkSameShape(derivX,derivY,intensity,direction);
+
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			BoofConcurrency.loopBlocks(0, derivX.height, new IntRangeConsumer() {
+				@Override
+				public void accept(int y0, int y1) {
+					ImplGradientToEdgeFeatures.intensityAbsDirection4(derivX,derivY,intensity,direction,y0,y1);
+				}
+			});
+		} else {
+			ImplGradientToEdgeFeatures.intensityAbsDirection4(derivX,derivY,intensity,direction,0,derivX.height);
+		}
+	}
+
 	/**
 	 * <p>
 	 * Converts an image containing edge angles (-pi/2 to pi/2) into a discrete set of angles.
@@ -21,6 +21,7 @@ package boofcv.alg.feature.detect.edge.impl;
 import boofcv.struct.image.GrayF32;
 import boofcv.struct.image.GrayS16;
 import boofcv.struct.image.GrayS32;
+import boofcv.struct.image.GrayS8;
 
 /**
  * <p>
@@ -115,6 +116,42 @@ public class ImplGradientToEdgeFeatures {
 		}
 	}
 
+	/**
+	 * Computes intensityAbs() and discretized direction4 in a single pass for rows y0 to y1-1
+	 */
+	static public void intensityAbsDirection4(GrayF32 derivX , GrayF32 derivY ,
+											  GrayF32 intensity , GrayS8 direction , int y0 , int y1 )
+	{
+		final float A = (float)(Math.PI/8.0);
+		final float B = (float)(Math.PI/4.0);
+		final int w = derivX.width;
+
+		for( int y = y0; y < y1; y++ ) {
+			int indexX = derivX.startIndex + y*derivX.stride;
+			int indexY = derivY.startIndex + y*derivY.stride;
+			int indexI = intensity.startIndex + y*intensity.stride;
+			int indexD = direction.startIndex + y*direction.stride;
+
+			int end = indexX + w;
+			for( ; indexX < end; indexX++ , indexY++ , indexI++ , indexD++ ) {
+				float dx = derivX.data[indexX];
+				float dy = derivY.data[indexY];
+
+				intensity.data[indexI] = Math.abs(dx) + Math.abs(dy);
+
+				// same computation as direction() followed by discretizeDirection4()
+				float a = Math.abs(dx) < 1e-10f ? (float)(Math.PI/2.0) : (float)Math.atan(dy/dx);
+				int val;
+				if( a >= 0 ) {
+					val = (int)((a+A)/B);
+				} else {
+					val = (int)((a-A)/B);
+				}
+				direction.data[indexD] = (byte)(val == -2 ? 2 : val);
+			}
+		}
+	}
+
 	static public void intensityE(GrayS16 derivX , GrayS16 derivY , GrayF32 intensity )
 	{
 		final int w = derivX.width;
@@ -195,6 +232,42 @@ public class ImplGradientToEdgeFeatures {
 		}
 	}
 
+	/**
+	 * Computes intensityAbs() and discretized direction4 in a single pass for rows y0 to y1-1
+	 */
+	static public void intensityAbsDirection4(GrayS16 derivX , GrayS16 derivY ,
+											  GrayF32 intensity , GrayS8 direction , int y0 , int y1 )
+	{
+		final float A = (float)(Math.PI/8.0);
+		final float B = (float)(Math.PI/4.0);
+		final int w = derivX.width;
+
+		for( int y = y0; y < y1; y++ ) {
+			int indexX = derivX.startIndex + y*derivX.stride;
+			int indexY = derivY.startIndex + y*derivY.stride;
+			int indexI = intensity.startIndex + y*intensity.stride;
+			int indexD = direction.startIndex + y*direction.stride;
+
+			int end = indexX + w;
+			for( ; indexX < end; indexX++ , indexY++ , indexI++ , indexD++ ) {
+				int dx = derivX.data[indexX];
+				int dy = derivY.data[indexY];
+
+				intensity.data[indexI] = Math.abs(dx) + Math.abs(dy);
+
+				// same computation as direction() followed by discretizeDirection4()
+				float a = dx == 0 ? (float)(Math.PI/2.0) : (float)Math.atan((double)dy/(double)dx);
+				int val;
+				if( a >= 0 ) {
+					val = (int)((a+A)/B);
+				} else {
+					val = (int)((a-A)/B);
+				}
+				direction.data[indexD] = (byte)(val == -2 ? 2 : val);
+			}
+		}
+	}
+
 	static public void intensityE(GrayS32 derivX , GrayS32 derivY , GrayF32 intensity )
 	{
 		final int w = derivX.width;
@@ -275,5 +348,41 @@ public class ImplGradientToEdgeFeatures {
 		}
 	}
 
+	/**
+	 * Computes intensityAbs() and discretized direction4 in a single pass for rows y0 to y1-1
+	 */
+	static public void intensityAbsDirection4(GrayS32 derivX , GrayS32 derivY ,
+											  GrayF32 intensity , GrayS8 direction , int y0 , int y1 )
+	{
+		final float A = (float)(Math.PI/8.0);
+		final float B = (float)(Math.PI/4.0);
+		final int w = derivX.width;
+
+		for( int y = y0; y < y1; y++ ) {
+			int indexX = derivX.startIndex + y*derivX.stride;
+			int indexY = derivY.startIndex + y*derivY.stride;
+			int indexI = intensity.startIndex + y*intensity.stride;
+			int indexD = direction.startIndex + y*direction.stride;
+
+			int end = indexX + w;
+			for( ; indexX < end; indexX++ , indexY++ , indexI++ , indexD++ ) {
+				int dx = derivX.data[indexX];
+				int dy = derivY.data[indexY];
+
+				intensity.data[indexI] = Math.abs(dx) + Math.abs(dy);
+
+				// same computation as direction() followed by discretizeDirection4()
+				float a = dx == 0 ? (float)(Math.PI/2.0) : (float)Math.atan((double)dy/(double)dx);
+				int val;
+				if( a >= 0 ) {
+					val = (int)((a+A)/B);
+				} else {
+					val = (int)((a-A)/B);
+				}
+				direction.data[indexD] = (byte)(val == -2 ? 2 : val);
+			}
+		}
+	}
+
 
 }
@@ -18,8 +18,11 @@
 
 package boofcv.alg.feature.detect.extract;
 
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeObjectConsumer;
 import boofcv.struct.QueueCorner;
 import boofcv.struct.image.GrayF32;
+import org.ddogleg.struct.FastQueue;
 
 /**
  * <p>
@@ -32,7 +35,9 @@ import boofcv.struct.image.GrayF32;
  *
  * <p>
  * Each block check is independent of all the others and no information is exchanged.  This
- * algorithm could be paralyzed easily and has no memory overhead.
+ * algorithm could be paralyzed easily and has no memory overhead.  If concurrent, rows of blocks are split
+ * between threads and each thread searches using its own copy of the algorithm.  Results are combined in the
+ * same order as the single threaded search.
  * </p>
  *
  * <p>See {@link boofcv.abst.feature.detect.extract.NonMaxSuppression} for a definition of parameters
@@ -66,6 +71,16 @@ public abstract class NonMaxBlock {
 	public boolean detectsMinimum;
 	public boolean detectsMaximum;
 
+	// if true then rows of blocks will be searched using multiple threads
+	boolean concurrent = BoofConcurrency.USE_CONCURRENT;
+
+	// copies of this algorithm and storage for what they found.  One for each band of rows
+	FastQueue<SearchBand> bands = new FastQueue<SearchBand>(1,SearchBand.class,true) {
+		@Override
+		protected SearchBand createInstance() {
+			return new SearchBand();
+		}
+	};
 
 	protected NonMaxBlock(boolean detectsMinimum, boolean detectsMaximum) {
 		this.detectsMinimum = detectsMinimum;
@@ -87,22 +102,94 @@ public abstract class NonMaxBlock {
 		endX = intensityImage.width-border;
 		endY = intensityImage.height-border;
 
-		int step = radius+1;
+		final int step = radius+1;
+
+		if( concurrent ) {
+			processConcurrent(intensityImage, step);
+		} else {
+			searchRows(border, endY, step, intensityImage);
+		}
+	}
 
-		for( int y = border; y < endY; y += step ) {
-			int y1 = y + step;
-			if( y1 > endY ) y1 = endY;
+	/**
+	 * Splits the rows of blocks into bands which are searched in parallel then adds what was found
+	 * to the output lists in band order.
+	 */
+	private void processConcurrent( final GrayF32 intensityImage , final int step ) {
+		int numBlockRows = endY > border ? (endY-border+step-1)/step : 0;
+
+		BoofConcurrency.loopBlocks(0, numBlockRows, 1, bands, new IntRangeObjectConsumer<SearchBand>() {
+			@Override
+			public void accept(SearchBand band, int row0, int row1) {
+				band.search(NonMaxBlock.this, intensityImage, row0, row1, step);
+			}
+		});
+
+		for (int i = 0; i < bands.size; i++) {
+			SearchBand band = bands.get(i);
+			if( localMin != null ) {
+				for (int j = 0; j < band.localMin.size; j++) {
+					localMin.add(band.localMin.get(j));
+				}
+			}
+			if( localMax != null ) {
+				for (int j = 0; j < band.localMax.size; j++) {
+					localMax.add(band.localMax.get(j));
+				}
+			}
+		}
+	}
+
+	/**
+	 * Searches all the blocks which start inside the specified rows
+	 */
+	void searchRows( int y0 , int y1 , int step , GrayF32 intensityImage ) {
+		for( int y = y0; y < y1; y += step ) {
+			int blockY1 = y + step;
+			if( blockY1 > endY ) blockY1 = endY;
 
 			for( int x = border; x < endX; x += step ) {
 				int x1 = x + step;
 				if( x1 > endX ) x1 = endX;
-				searchBlock(x,y,x1,y1,intensityImage);
+				searchBlock(x,y,x1,blockY1,intensityImage);
 			}
 		}
 	}
 
 	protected abstract void searchBlock( int x0 , int y0 , int x1 , int y1 , GrayF32 img );
 
+	/**
+	 * Creates a new instance of the same algorithm with the same settings.  Found features are not copied.
+	 * Used to give each thread its own instance when searching concurrently.
+	 */
+	public abstract NonMaxBlock copy();
+
+	/**
+	 * Changes the settings of this instance to match src
+	 */
+	protected void setTo( NonMaxBlock src ) {
+		// the search radius can change the internal storage of the implementation. A new instance has a radius
+		// of zero and hasn't declared its storage yet
+		if( radius != src.radius || radius == 0 )
+			setSearchRadius(src.radius);
+		thresholdMin = src.thresholdMin;
+		thresholdMax = src.thresholdMax;
+		border = src.border;
+		concurrent = src.concurrent;
+	}
+
+	public boolean isConcurrent() {
+		return concurrent;
+	}
+
+	/**
+	 * Specifies if the image should be searched using multiple threads.  The default value is
+	 * {@link BoofConcurrency#USE_CONCURRENT}.
+	 */
+	public void setConcurrent(boolean concurrent) {
+		this.concurrent = concurrent;
+	}
+
 	public void setSearchRadius(int radius) {
 		this.radius = radius;
 	}
@@ -134,4 +221,32 @@ public abstract class NonMaxBlock {
 	public void setThresholdMax(float thresholdMax) {
 		this.thresholdMax = thresholdMax;
 	}
+
+	/**
+	 * Searches a band of rows using its own copy of the algorithm so that threads don't share output lists
+	 */
+	static class SearchBand {
+		NonMaxBlock alg;
+		QueueCorner localMin = new QueueCorner();
+		QueueCorner localMax = new QueueCorner();
+
+		void search( NonMaxBlock owner , GrayF32 intensityImage , int row0 , int row1 , int step ) {
+			if( alg == null ) {
+				alg = owner.copy();
+			} else {
+				alg.setTo(owner);
+			}
+			alg.endX = owner.endX;
+			alg.endY = owner.endY;
+
+			localMin.reset();
+			localMax.reset();
+			alg.localMin = localMin;
+			alg.localMax = localMax;
+
+			int y0 = owner.border + row0*step;
+			int y1 = Math.min(owner.endY, owner.border + row1*step);
+			alg.searchRows(y0, y1, step, intensityImage);
+		}
+	}
 }
@@ -41,6 +41,13 @@ public abstract class NonMaxBlockRelaxed extends NonMaxBlock {
 	public static class Max extends NonMaxBlockRelaxed {
 		public Max() { super(false, true); }
 
+		@Override
+		public Max copy() {
+			Max ret = new Max();
+			ret.setTo(this);
+			return ret;
+		}
+
 		@Override
 		protected void searchBlock( int x0 , int y0 , int x1 , int y1 , GrayF32 img ) {
 
@@ -74,6 +81,13 @@ public abstract class NonMaxBlockRelaxed extends NonMaxBlock {
 	public static class Min extends NonMaxBlockRelaxed {
 		public Min() { super(true, false); }
 
+		@Override
+		public Min copy() {
+			Min ret = new Min();
+			ret.setTo(this);
+			return ret;
+		}
+
 		@Override
 		protected void searchBlock( int x0 , int y0 , int x1 , int y1 , GrayF32 img ) {
 
@@ -107,6 +121,13 @@ public abstract class NonMaxBlockRelaxed extends NonMaxBlock {
 	public static class MinMax extends NonMaxBlockRelaxed {
 		public MinMax() { super(true, true); }
 
+		@Override
+		public MinMax copy() {
+			MinMax ret = new MinMax();
+			ret.setTo(this);
+			return ret;
+		}
+
 		@Override
 		protected void searchBlock( int x0 , int y0 , int x1 , int y1 , GrayF32 img ) {
 
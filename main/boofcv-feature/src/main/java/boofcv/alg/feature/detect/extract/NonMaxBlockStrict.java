@@ -37,6 +37,13 @@ public abstract class NonMaxBlockStrict extends NonMaxBlock {
 	public static class Max extends NonMaxBlockStrict {
 		public Max() { super(false, true); }
 
+		@Override
+		public Max copy() {
+			Max ret = new Max();
+			ret.setTo(this);
+			return ret;
+		}
+
 		@Override
 		protected void searchBlock(int x0, int y0, int x1, int y1, GrayF32 img) {
 
@@ -67,6 +74,13 @@ public abstract class NonMaxBlockStrict extends NonMaxBlock {
 	public static class Min extends NonMaxBlockStrict {
 		public Min() { super(true, false); }
 
+		@Override
+		public Min copy() {
+			Min ret = new Min();
+			ret.setTo(this);
+			return ret;
+		}
+
 		@Override
 		protected void searchBlock(int x0, int y0, int x1, int y1, GrayF32 img) {
 
@@ -97,6 +111,13 @@ public abstract class NonMaxBlockStrict extends NonMaxBlock {
 	public static class MinMax extends NonMaxBlockStrict {
 		public MinMax() { super(true, true); }
 
+		@Override
+		public MinMax copy() {
+			MinMax ret = new MinMax();
+			ret.setTo(this);
+			return ret;
+		}
+
 		@Override
 		protected void searchBlock(int x0, int y0, int x1, int y1, GrayF32 img) {
 
@@ -19,6 +19,8 @@
 package boofcv.alg.feature.detect.intensity;
 
 import boofcv.alg.feature.detect.intensity.impl.ImplIntegralImageFeatureIntensity;
+import boofcv.alg.feature.detect.intensity.impl.ImplIntegralImageFeatureIntensity_MT;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.struct.image.GrayF32;
 import boofcv.struct.image.GrayS32;
 
@@ -31,7 +33,8 @@ import boofcv.struct.image.GrayS32;
 public class IntegralImageFeatureIntensity {
 
 	/**
-	 * Computes an approximation to the Hessian's determinant.
+	 * Computes an approximation to the Hessian's determinant.  If {@link BoofConcurrency#USE_CONCURRENT} is true
+	 * then bands of rows are processed concurrently.
 	 *
 	 * @param integral Integral image transform of input image. Not modified.
 	 * @param skip How many pixels should it skip over.
@@ -44,12 +47,17 @@ public class IntegralImageFeatureIntensity {
 		// todo check size with skip
 //		InputSanityCheck.checkSameShape(integral,intensity);
 
-		ImplIntegralImageFeatureIntensity.hessianBorder(integral,skip,size,intensity);
-		ImplIntegralImageFeatureIntensity.hessianInner(integral,skip,size,intensity);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplIntegralImageFeatureIntensity_MT.hessian(integral,skip,size,intensity);
+		} else {
+			ImplIntegralImageFeatureIntensity.hessianBorder(integral,skip,size,intensity);
+			ImplIntegralImageFeatureIntensity.hessianInner(integral,skip,size,intensity);
+		}
 	}
 
 	/**
-	 * Computes an approximation to the Hessian's determinant.
+	 * Computes an approximation to the Hessian's determinant.  If {@link BoofConcurrency#USE_CONCURRENT} is true
+	 * then bands of rows are processed concurrently.
 	 *
 	 * @param integral Integral image transform of input image. Not modified.
 	 * @param skip How many pixels should it skip over.
@@ -62,7 +70,11 @@ public class IntegralImageFeatureIntensity {
 		// todo check size with skip
 //		InputSanityCheck.checkSameShape(integral,intensity);
 
-		ImplIntegralImageFeatureIntensity.hessianBorder(integral,skip,size,intensity);
-		ImplIntegralImageFeatureIntensity.hessianInner(integral,skip,size,intensity);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplIntegralImageFeatureIntensity_MT.hessian(integral,skip,size,intensity);
+		} else {
+			ImplIntegralImageFeatureIntensity.hessianBorder(integral,skip,size,intensity);
+			ImplIntegralImageFeatureIntensity.hessianInner(integral,skip,size,intensity);
+		}
 	}
 }
@@ -70,6 +70,16 @@ public class ImplIntegralImageFeatureIntensity {
 	 */
 	public static void hessianBorder(GrayF32 integral, int skip , int size ,
 									 GrayF32 intensity)
+	{
+		hessianBorder(integral,skip,size,intensity,0,intensity.height);
+	}
+
+	/**
+	 * Only computes the fast hessian along the border using a brute force approach.  Only rows
+	 * from y0 to y1-1 are processed.
+	 */
+	public static void hessianBorder(GrayF32 integral, int skip , int size ,
+									 GrayF32 intensity, int y0 , int y1 )
 	{
 		final int w = intensity.width;
 		final int h = intensity.height;
@@ -85,28 +95,23 @@ public class ImplIntegralImageFeatureIntensity {
 
 		float norm = 1.0f/(size*size);
 
-		for( int y = 0; y < h; y++ ) {
+		for( int y = y0; y < y1; y++ ) {
 			int yy = y*skip;
-			for( int x = 0; x < border; x++ ) {
-				int xx = x*skip;
-				computeHessian(integral, intensity, kerXX, kerYY, kerXY, norm, y, yy, x, xx);
-			}
-			for( int x = w-border; x < w; x++ ) {
-				int xx = x*skip;
-				computeHessian(integral, intensity, kerXX, kerYY, kerXY, norm, y, yy, x, xx);
-			}
-		}
-
-		for( int x = border; x < w-border; x++ ) {
-			int xx = x*skip;
-
-			for( int y = 0; y < border; y++ ) {
-				int yy = y*skip;
-				computeHessian(integral, intensity, kerXX, kerYY, kerXY, norm, y, yy, x, xx);
-			}
-			for( int y = h-border; y < h; y++ ) {
-				int yy = y*skip;
-				computeHessian(integral, intensity, kerXX, kerYY, kerXY, norm, y, yy, x, xx);
+			if( y < border || y >= h-border ) {
+				// the entire row is inside the border
+				for( int x = 0; x < w; x++ ) {
+					int xx = x*skip;
+					computeHessian(integral, intensity, kerXX, kerYY, kerXY, norm, y, yy, x, xx);
+				}
+			} else {
+				for( int x = 0; x < border; x++ ) {
+					int xx = x*skip;
+					computeHessian(integral, intensity, kerXX, kerYY, kerXY, norm, y, yy, x, xx);
+				}
+				for( int x = w-border; x < w; x++ ) {
+					int xx = x*skip;
+					computeHessian(integral, intensity, kerXX, kerYY, kerXY, norm, y, yy, x, xx);
+				}
 			}
 		}
 	}
@@ -130,6 +135,15 @@ public class ImplIntegralImageFeatureIntensity {
 	 */
 	public static void hessianInner(GrayF32 integral, int skip , int size ,
 									GrayF32 intensity)
+	{
+		hessianInner(integral,skip,size,intensity,0,intensity.height);
+	}
+
+	/**
+	 * Optimizes intensity for the inner image.  Only rows from y0 to y1-1 are processed.
+	 */
+	public static void hessianInner(GrayF32 integral, int skip , int size ,
+									GrayF32 intensity, int y0 , int y1 )
 	{
 		final int w = intensity.width;
 		final int h = intensity.height;
@@ -156,7 +170,10 @@ public class ImplIntegralImageFeatureIntensity {
 		final int endY = h - border;
 		final int endX = w - border;
 
-		for( int y = border; y < endY; y++ ) {
+		final int startY = Math.max(border,y0);
+		final int stopY = Math.min(endY,y1);
+
+		for( int y = startY; y < stopY; y++ ) {
 
 			// pixel location in original input image
 			int yy = y*skip;
@@ -243,6 +260,16 @@ public class ImplIntegralImageFeatureIntensity {
 	 */
 	public static void hessianBorder(GrayS32 integral, int skip , int size ,
 									 GrayF32 intensity)
+	{
+		hessianBorder(integral,skip,size,intensity,0,intensity.height);
+	}
+
+	/**
+	 * Only computes the fast hessian along the border using a brute force approach.  Only rows
+	 * from y0 to y1-1 are processed.
+	 */
+	public static void hessianBorder(GrayS32 integral, int skip , int size ,
+									 GrayF32 intensity, int y0 , int y1 )
 	{
 		final int w = intensity.width;
 		final int h = intensity.height;
@@ -258,28 +285,23 @@ public class ImplIntegralImageFeatureIntensity {
 
 		float norm = 1.0f/(size*size);
 
-		for( int y = 0; y < h; y++ ) {
+		for( int y = y0; y < y1; y++ ) {
 			int yy = y*skip;
-			for( int x = 0; x < border; x++ ) {
-				int xx = x*skip;
-				computeHessian(integral, intensity, kerXX, kerYY, kerXY, norm, y, yy, x, xx);
-			}
-			for( int x = w-border; x < w; x++ ) {
-				int xx = x*skip;
-				computeHessian(integral, intensity, kerXX, kerYY, kerXY, norm, y, yy, x, xx);
-			}
-		}
-
-		for( int x = border; x < w-border; x++ ) {
-			int xx = x*skip;
-
-			for( int y = 0; y < border; y++ ) {
-				int yy = y*skip;
-				computeHessian(integral, intensity, kerXX, kerYY, kerXY, norm, y, yy, x, xx);
-			}
-			for( int y = h-border; y < h; y++ ) {
-				int yy = y*skip;
-				computeHessian(integral, intensity, kerXX, kerYY, kerXY, norm, y, yy, x, xx);
+			if( y < border || y >= h-border ) {
+				// the entire row is inside the border
+				for( int x = 0; x < w; x++ ) {
+					int xx = x*skip;
+					computeHessian(integral, intensity, kerXX, kerYY, kerXY, norm, y, yy, x, xx);
+				}
+			} else {
+				for( int x = 0; x < border; x++ ) {
+					int xx = x*skip;
+					computeHessian(integral, intensity, kerXX, kerYY, kerXY, norm, y, yy, x, xx);
+				}
+				for( int x = w-border; x < w; x++ ) {
+					int xx = x*skip;
+					computeHessian(integral, intensity, kerXX, kerYY, kerXY, norm, y, yy, x, xx);
+				}
 			}
 		}
 	}
@@ -303,6 +325,15 @@ public class ImplIntegralImageFeatureIntensity {
 	 */
 	public static void hessianInner(GrayS32 integral, int skip , int size ,
 									GrayF32 intensity)
+	{
+		hessianInner(integral,skip,size,intensity,0,intensity.height);
+	}
+
+	/**
+	 * Optimizes intensity for the inner image.  Only rows from y0 to y1-1 are processed.
+	 */
+	public static void hessianInner(GrayS32 integral, int skip , int size ,
+									GrayF32 intensity, int y0 , int y1 )
 	{
 		final int w = intensity.width;
 		final int h = intensity.height;
@@ -329,7 +360,10 @@ public class ImplIntegralImageFeatureIntensity {
 		final int endY = h - border;
 		final int endX = w - border;
 
-		for( int y = border; y < endY; y++ ) {
+		final int startY = Math.max(border,y0);
+		final int stopY = Math.min(endY,y1);
+
+		for( int y = startY; y < stopY; y++ ) {
 
 			// pixel location in original input image
 			int yy = y*skip;
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.feature.detect.intensity.impl;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeConsumer;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayS32;
+
+/**
+ * <p>
+ * Concurrent implementation of {@link ImplIntegralImageFeatureIntensity}.  The intensity image is split into
+ * bands of rows which are processed in parallel.  Each pixel is computed independently so the output is
+ * identical to the single threaded version.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class ImplIntegralImageFeatureIntensity_MT {
+
+	public static void hessian( final GrayF32 integral, final int skip , final int size ,
+								final GrayF32 intensity)
+	{
+		BoofConcurrency.loopBlocks(0, intensity.height, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				ImplIntegralImageFeatureIntensity.hessianBorder(integral,skip,size,intensity,y0,y1);
+				ImplIntegralImageFeatureIntensity.hessianInner(integral,skip,size,intensity,y0,y1);
+			}
+		});
+	}
+
+	public static void hessian( final GrayS32 integral, final int skip , final int size ,
+								final GrayF32 intensity)
+	{
+		BoofConcurrency.loopBlocks(0, intensity.height, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				ImplIntegralImageFeatureIntensity.hessianBorder(integral,skip,size,intensity,y0,y1);
+				ImplIntegralImageFeatureIntensity.hessianInner(integral,skip,size,intensity,y0,y1);
+			}
+		});
+	}
+}
@@ -20,12 +20,16 @@ package boofcv.alg.feature.detect.interest;
 
 import boofcv.abst.feature.detect.extract.NonMaxSuppression;
 import boofcv.alg.feature.detect.extract.SelectNBestFeatures;
-import boofcv.alg.feature.detect.intensity.GIntegralImageFeatureIntensity;
+import boofcv.alg.feature.detect.intensity.impl.ImplIntegralImageFeatureIntensity;
+import boofcv.alg.feature.detect.intensity.impl.ImplIntegralImageFeatureIntensity_MT;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeConsumer;
 import boofcv.core.image.border.FactoryImageBorderAlgs;
 import boofcv.core.image.border.ImageBorder_F32;
 import boofcv.struct.QueueCorner;
 import boofcv.struct.feature.ScalePoint;
 import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayS32;
 import boofcv.struct.image.ImageGray;
 import georegression.struct.point.Point2D_I16;
 import org.ddogleg.struct.FastQueue;
@@ -74,6 +78,13 @@ import java.util.List;
  * </p>
  *
  * <p>
+ * If concurrent, the intensity image for every scale in an octave is computed in parallel and each one is
+ * further split into bands of rows.  This requires an intensity image for each scale instead of three.
+ * Local maximums are then found in the same order as the single threaded version, producing identical results.
+ * See {@link #setConcurrent(boolean)}.
+ * </p>
+ *
+ * <p>
  * [1] Herbert Bay, Andreas Ess, Tinne Tuytelaars, and Luc Van Gool, "Speeded-Up Robust Features (SURF)",
  * CVIU June, 2008, Volume 110, Issue 3, pages 346-359
  * </p>
@@ -91,7 +102,7 @@ public class FastHessianFeatureDetector<II extends ImageGray<II>> {
 	// the maximum number of returned feature per scale
 	private int maxFeaturesPerScale;
 
-	// local sub-space
+	// local sub-space.  Three images when single threaded, otherwise one for each scale in an octave
 	private GrayF32 intensity[];
 	private int spaceIndex = 0;
 	private QueueCorner foundFeatures = new QueueCorner(100);
@@ -113,6 +124,9 @@ public class FastHessianFeatureDetector<II extends ImageGray<II>> {
 	// a value of 1 would mean every pixel is sampled
 	private int initialSampleRate;
 
+	// if true then feature intensity is computed using multiple threads
+	private boolean concurrent = BoofConcurrency.USE_CONCURRENT;
+
 	/**
 	 * <p>
 	 * Defines the feature detector by specifying the size of features.
@@ -154,8 +168,9 @@ public class FastHessianFeatureDetector<II extends ImageGray<II>> {
 	 * @param integral Image transformed into an integral image.
 	 */
 	public void detect( II integral ) {
-		if( intensity == null ) {
-			intensity = new GrayF32[3];
+		int numIntensity = concurrent ? Math.max(3,sizes.length) : 3;
+		if( intensity == null || intensity.length != numIntensity ) {
+			intensity = new GrayF32[numIntensity];
 			for( int i = 0; i < intensity.length; i++ ) {
 				intensity[i] = new GrayF32(integral.width,integral.height);
 			}
@@ -205,9 +220,14 @@ public class FastHessianFeatureDetector<II extends ImageGray<II>> {
 			intensity[i].reshape(w,h);
 		}
 
+		if( concurrent ) {
+			detectOctaveConcurrent(integral, skip, featureSize);
+			return;
+		}
+
 		// compute feature intensity in each level
 		for( int i = 0; i < featureSize.length; i++ ) {
-			GIntegralImageFeatureIntensity.hessian(integral,skip,featureSize[i],intensity[spaceIndex]);
+			hessian(integral,skip,featureSize[i],intensity[spaceIndex]);
 
 			spaceIndex++;
 			if( spaceIndex >= 3 )
@@ -215,39 +235,85 @@ public class FastHessianFeatureDetector<II extends ImageGray<II>> {
 
 			// find maximum in scale space
 			if( i >= 2 ) {
-				findLocalScaleSpaceMax(featureSize,i-1,skip);
+				findLocalScaleSpaceMax(featureSize,i-1,skip,
+						intensity[spaceIndex],intensity[(spaceIndex + 1) % 3],intensity[(spaceIndex + 2) % 3]);
 			}
 		}
 	}
 
+	/**
+	 * Computes the Hessian intensity image.  Bands of rows are processed concurrently only if this instance
+	 * is concurrent, independent of {@link BoofConcurrency#USE_CONCURRENT}.
+	 */
+	private void hessian( II integral , int skip , int size , GrayF32 intensity ) {
+		if( integral instanceof GrayF32 ) {
+			GrayF32 ii = (GrayF32)integral;
+			if( concurrent ) {
+				ImplIntegralImageFeatureIntensity_MT.hessian(ii,skip,size,intensity);
+			} else {
+				ImplIntegralImageFeatureIntensity.hessianBorder(ii,skip,size,intensity);
+				ImplIntegralImageFeatureIntensity.hessianInner(ii,skip,size,intensity);
+			}
+		} else if( integral instanceof GrayS32 ) {
+			GrayS32 ii = (GrayS32)integral;
+			if( concurrent ) {
+				ImplIntegralImageFeatureIntensity_MT.hessian(ii,skip,size,intensity);
+			} else {
+				ImplIntegralImageFeatureIntensity.hessianBorder(ii,skip,size,intensity);
+				ImplIntegralImageFeatureIntensity.hessianInner(ii,skip,size,intensity);
+			}
+		} else {
+			throw new IllegalArgumentException("Unsupported input type");
+		}
+	}
+
+	/**
+	 * Computes the intensity of every scale in the octave in parallel, then searches for local maximums
+	 * one scale at a time.
+	 */
+	private void detectOctaveConcurrent( final II integral , final int skip , final int ...featureSize ) {
+		BoofConcurrency.loopBlocks(0, featureSize.length, new IntRangeConsumer() {
+			@Override
+			public void accept(int i0, int i1) {
+				for( int i = i0; i < i1; i++ ) {
+					hessian(integral,skip,featureSize[i],intensity[i]);
+				}
+			}
+		});
+
+		for( int i = 2; i < featureSize.length; i++ ) {
+			findLocalScaleSpaceMax(featureSize,i-1,skip,intensity[i-2],intensity[i-1],intensity[i]);
+		}
+	}
+
 	/**
 	 * Looks for features which are local maximums in the image and scale-space.
 	 *
 	 * @param size Size of features in different scale-spaces.
 	 * @param level Which level in the scale-space
 	 * @param skip How many pixels are skipped over.
+	 * @param lower Intensity at the next smaller scale
+	 * @param middle Intensity at the scale being searched
+	 * @param upper Intensity at the next larger scale
 	 */
-	private void findLocalScaleSpaceMax(int []size, int level, int skip) {
-		int index0 = spaceIndex;
-		int index1 = (spaceIndex + 1) % 3;
-		int index2 = (spaceIndex + 2) % 3;
-
-		ImageBorder_F32 inten0 = (ImageBorder_F32)FactoryImageBorderAlgs.value(intensity[index0], 0);
-		GrayF32 inten1 = intensity[index1];
-		ImageBorder_F32 inten2 = (ImageBorder_F32)FactoryImageBorderAlgs.value(intensity[index2], 0);
+	private void findLocalScaleSpaceMax(int []size, int level, int skip,
+										GrayF32 lower , GrayF32 middle , GrayF32 upper ) {
+		ImageBorder_F32 inten0 = (ImageBorder_F32)FactoryImageBorderAlgs.value(lower, 0);
+		GrayF32 inten1 = middle;
+		ImageBorder_F32 inten2 = (ImageBorder_F32)FactoryImageBorderAlgs.value(upper, 0);
 
 		// find local maximums in image 2D space.  Borders need to be ignored since
 		// false positives are found around them as an artifact of pixels outside being
 		// treated as being zero.
 		foundFeatures.reset();
 		extractor.setIgnoreBorder(size[level] / (2 * skip));
-		extractor.process(intensity[index1],null,null,null,foundFeatures);
+		extractor.process(inten1,null,null,null,foundFeatures);
 
 		// Can't consider feature which are right up against the border since they might not be a true local
 		// maximum when you consider the features on the other side of the ignore border
 		int ignoreRadius = extractor.getIgnoreBorder() + extractor.getSearchRadius();
-		int ignoreWidth = intensity[index1].width-ignoreRadius;
-		int ignoreHeight = intensity[index1].height-ignoreRadius;
+		int ignoreWidth = inten1.width-ignoreRadius;
+		int ignoreHeight = inten1.height-ignoreRadius;
 
 		// number of features which can be added
 		int numberRemaining;
@@ -255,7 +321,7 @@ public class FastHessianFeatureDetector<II extends ImageGray<II>> {
 		// if configured to do so, only select the features with the highest intensity
 		QueueCorner features;
 		if( sortBest != null ) {
-			sortBest.process(intensity[index1],foundFeatures,true);
+			sortBest.process(inten1,foundFeatures,true);
 			features = sortBest.getBestCorners();
 			numberRemaining = maxFeaturesPerScale;
 		} else {
@@ -377,6 +443,18 @@ public class FastHessianFeatureDetector<II extends ImageGray<II>> {
 		return foundPoints.toList();
 	}
 
+	public boolean isConcurrent() {
+		return concurrent;
+	}
+
+	/**
+	 * Specifies if feature intensity should be computed using multiple threads.  The default value is
+	 * {@link BoofConcurrency#USE_CONCURRENT}.
+	 */
+	public void setConcurrent(boolean concurrent) {
+		this.concurrent = concurrent;
+	}
+
 	/**
 	 * Returns the width of the smallest feature it can detect
 	 */
@@ -22,6 +22,8 @@ import boofcv.alg.filter.convolve.GConvolveImageOps;
 import boofcv.alg.interpolate.InterpolatePixelS;
 import boofcv.alg.misc.PixelMath;
 import boofcv.alg.transform.pyramid.PyramidOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeConsumer;
 import boofcv.core.image.border.BorderType;
 import boofcv.factory.filter.kernel.FactoryKernel;
 import boofcv.factory.filter.kernel.FactoryKernelGaussian;
@@ -42,6 +44,12 @@ import boofcv.struct.image.GrayF32;
  * </ul>
  *
  * <p>
+ * The scale images in an octave depend on each other and are computed in sequence, with each blur split up
+ * between threads internally.  All the DoG images in an octave are then computed together in a single concurrent
+ * pass over rows.  See {@link #setConcurrent(boolean)}.
+ * </p>
+ *
+ * <p>
  * [1] Lowe, D. "Distinctive image features from scale-invariant keypoints".  International Journal of
  * Computer Vision, 60, 2 (2004), pp.91--110.
  * </p>
@@ -87,6 +95,9 @@ public class SiftScaleSpace {
 	GrayF32 tempImage0;
 	GrayF32 tempImage1;
 
+	// if true then DoG images will be computed using multiple threads
+	boolean concurrent = BoofConcurrency.USE_CONCURRENT;
+
 	// interpolation used when scaling an image up
 	InterpolatePixelS<GrayF32> interp =
 			FactoryInterpolation.bilinearPixelS(GrayF32.class, BorderType.EXTENDED);
@@ -223,7 +234,30 @@ public class SiftScaleSpace {
 
 		for (int i = 1; i < numScales+3; i++) {
 			differenceOfGaussian[i-1].reshape(tempImage0.width, tempImage0.height);
-			PixelMath.subtract(octaveImages[i],octaveImages[i - 1],differenceOfGaussian[i-1]);
+		}
+
+		if( concurrent ) {
+			BoofConcurrency.loopBlocks(0, tempImage0.height, new IntRangeConsumer() {
+				@Override
+				public void accept(int y0, int y1) {
+					computeDifferenceOfGaussian(y0, y1);
+				}
+			});
+		} else {
+			computeDifferenceOfGaussian(0, tempImage0.height);
+		}
+	}
+
+	/**
+	 * Computes the rows from y0 to y1 in all the DoG images of the current octave
+	 */
+	void computeDifferenceOfGaussian( int y0 , int y1 ) {
+		int width = tempImage0.width;
+		for (int i = 1; i < numScales+3; i++) {
+			PixelMath.subtract(
+					octaveImages[i].subimage(0, y0, width, y1),
+					octaveImages[i - 1].subimage(0, y0, width, y1),
+					differenceOfGaussian[i-1].subimage(0, y0, width, y1));
 		}
 	}
 
@@ -244,6 +278,18 @@ public class SiftScaleSpace {
 		GConvolveImageOps.verticalNormalized(kernel, tempBlur,output);
 	}
 
+	public boolean isConcurrent() {
+		return concurrent;
+	}
+
+	/**
+	 * Specifies if DoG images should be computed using multiple threads.  The default value is
+	 * {@link BoofConcurrency#USE_CONCURRENT}.
+	 */
+	public void setConcurrent(boolean concurrent) {
+		this.concurrent = concurrent;
+	}
+
 	public int getNumScales() {
 		return numScales;
 	}
@@ -58,6 +58,9 @@ public abstract class OrientationIntegralBase<II extends ImageGray<II>,G extends
 
 	protected double objectRadiusToScale;
 
+	// sigma used to compute the optional weights
+	protected double weightSigma;
+
 	// used to sample the image when it's on the image's border
 	protected SparseScaleGradient<II,G> g;
 
@@ -80,6 +83,7 @@ public abstract class OrientationIntegralBase<II extends ImageGray<II>,G extends
 		this.kernelWidth = kernelWidth;
 		this.sampleWidth = sampleRadius *2+1;
 		this.integralType = integralType;
+		this.weightSigma = weightSigma;
 		if( weightSigma != 0 )
 			this.weights = FactoryKernelGaussian.gaussian(2,true, 64, weightSigma, sampleRadius);
 
@@ -49,6 +49,12 @@ public class ImplOrientationAverageGradientIntegral<T extends ImageGray<T>,G ext
 		super(radiusToScale,sampleRadius,period,sampleWidth,weightSigma, true, imageType);
 	}
 
+	@Override
+	public ImplOrientationAverageGradientIntegral<T,G> copy() {
+		return new ImplOrientationAverageGradientIntegral<>(objectRadiusToScale,sampleRadius,period,
+				kernelWidth,weightSigma,getImageType());
+	}
+
 	@Override
 	public double compute(double c_x, double c_y) {
 
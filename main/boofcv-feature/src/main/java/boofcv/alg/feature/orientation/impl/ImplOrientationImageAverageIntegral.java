@@ -75,6 +75,12 @@ public class ImplOrientationImageAverageIntegral<T extends ImageGray<T>,G extend
 		setObjectRadius(1.0/objectRadiusToScale);
 	}
 
+	@Override
+	public ImplOrientationImageAverageIntegral<T,G> copy() {
+		return new ImplOrientationImageAverageIntegral<>(objectRadiusToScale,sampleRadius,period,
+				kernelWidth,weightSigma,getImageType());
+	}
+
 	@Override
 	public void setImage(T integralImage) {
 		super.setImage(integralImage);
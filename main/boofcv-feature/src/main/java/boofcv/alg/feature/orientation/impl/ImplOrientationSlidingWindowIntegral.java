@@ -76,6 +76,12 @@ public class ImplOrientationSlidingWindowIntegral
 		order = new int[ angles.length ];
 	}
 
+	@Override
+	public ImplOrientationSlidingWindowIntegral<T,G> copy() {
+		return new ImplOrientationSlidingWindowIntegral<>(objectRadiusToScale,period,windowSize,
+				sampleRadius,weightSigma,kernelWidth,getImageType());
+	}
+
 	@Override
 	public double compute(double c_x, double c_y) {
 
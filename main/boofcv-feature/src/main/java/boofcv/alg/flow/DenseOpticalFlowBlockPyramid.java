@@ -96,7 +96,8 @@ public abstract class DenseOpticalFlowBlockPyramid<T extends ImageGray<T>> {
 	}
 
 	/**
-	 * Computes the optical flow form 'prev' to 'curr' and stores the output into output
+	 * Computes the optical flow form 'prev' to 'curr' and stores the output into output.  Every layer is
+	 * used, so a lazy pyramid won't skip any work.
 	 * @param pyramidPrev Previous image
 	 * @param pyramidCurr Current image
 	 */
@@ -20,7 +20,9 @@ package boofcv.alg.shapes.ellipse;
 
 import boofcv.alg.filter.binary.ContourPacked;
 import boofcv.alg.filter.binary.LinearContourLabelChang2004;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.struct.ConnectRule;
+import boofcv.struct.PackedSetsPoint2D_I32;
 import boofcv.struct.distort.PixelTransform2_F32;
 import boofcv.struct.image.GrayS32;
 import boofcv.struct.image.GrayU8;
@@ -32,6 +34,7 @@ import georegression.struct.point.Point2D_I32;
 import georegression.struct.shapes.EllipseQuadratic_F64;
 import georegression.struct.shapes.EllipseRotated_F64;
 import org.ddogleg.struct.FastQueue;
+import org.ddogleg.struct.GrowQueue_I32;
 
 import java.util.List;
 
@@ -95,8 +98,14 @@ public class BinaryEllipseDetectorPixel {
 
 	private FastQueue<Found> found = new FastQueue<>(Found.class, true);
 
-	// temporary storage for a contour
-	private FastQueue<Point2D_I32> contourTmp = new FastQueue<>(Point2D_I32.class,true);
+	// temporary storage for a contour's coordinates. Primitive arrays are used so that nothing needs to be
+	// declared while processing an image once the arrays have grown large enough
+	private GrowQueue_I32 contourX = new GrowQueue_I32();
+	private GrowQueue_I32 contourY = new GrowQueue_I32();
+
+	public BinaryEllipseDetectorPixel() {
+		contourFinder.setConcurrent(BoofConcurrency.USE_CONCURRENT);
+	}
 
 	/**
 	 * <p>Specifies transforms which can be used to change coordinates from distorted to undistorted.
@@ -123,35 +132,38 @@ public class BinaryEllipseDetectorPixel {
 
 		contourFinder.process(binary, labeled);
 
+		PackedSetsPoint2D_I32 packed = contourFinder.getPackedPoints();
 		FastQueue<ContourPacked> blobs = contourFinder.getContours();
 		for (int i = 0; i < blobs.size; i++) {
 			ContourPacked c = blobs.get(i);
 
-			contourFinder.getPackedPoints().getSet(c.externalIndex,contourTmp);
-			proccessContour(contourTmp.toList());
+			proccessContour(packed,c.externalIndex);
 
 			if(internalContour) {
 				for( int j = 0; j < c.internalIndexes.size(); j++ ) {
-					contourFinder.getPackedPoints().getSet(c.internalIndexes.get(j),contourTmp);
-					proccessContour(contourTmp.toList());
+					proccessContour(packed,c.internalIndexes.get(j));
 				}
 			}
 		}
 	}
 
-	private void proccessContour(List<Point2D_I32> contour) {
-		if (contour.size() < minimumContour || (maximumContour > 0 && contour.size() > maximumContour) ) {
+	private void proccessContour( PackedSetsPoint2D_I32 packed , int which ) {
+		// check the size before copying the points since most contours are rejected here
+		int size = packed.sizeOfSet(which);
+		if (size < minimumContour || (maximumContour > 0 && size > maximumContour) ) {
 			if( verbose )
-				System.out.println("Rejecting: too small (or large) "+contour.size());
+				System.out.println("Rejecting: too small (or large) "+size);
 			return;
 		}
 
+		packed.getSet(which,contourX,contourY);
+
 		// discard shapes which touch the image border
-		if( touchesBorder(contour) )
+		if( touchesBorder(contourX,contourY) )
 			return;
 
 		pointsF.reset();
-		undistortContour(contour,pointsF);
+		undistortContour(contourX,contourY,pointsF);
 
 		// fit it to an ellipse.  This will just be approximate.  The more precise technique is much slower
 		if( !algebraic.process(pointsF.toList())) {
@@ -185,7 +197,7 @@ public class BinaryEllipseDetectorPixel {
 				System.out.println("Success!  size = " + pointsF.size());
 
 			adjustElipseForBinaryBias(f.ellipse);
-			f.contour = contour;
+			f.setContour(contourX,contourY);
 		} else {
 			found.removeTail();
 		}
@@ -203,13 +215,14 @@ public class BinaryEllipseDetectorPixel {
 		ellipse.b += 0.5;
 	}
 
-	protected final boolean touchesBorder( List<Point2D_I32> contour ) {
+	protected final boolean touchesBorder( GrowQueue_I32 contourX , GrowQueue_I32 contourY ) {
 		int endX = labeled.width-1;
 		int endY = labeled.height-1;
 
-		for (int j = 0; j < contour.size(); j++) {
-			Point2D_I32 p = contour.get(j);
-			if( p.x == 0 || p.y == 0 || p.x == endX || p.y == endY )
+		for (int j = 0; j < contourX.size; j++) {
+			int x = contourX.data[j];
+			int y = contourY.data[j];
+			if( x == 0 || y == 0 || x == endX || y == endY )
 			{
 				return true;
 			}
@@ -221,18 +234,20 @@ public class BinaryEllipseDetectorPixel {
 	/**
 	 * Undistort the contour points and convert into a floating point format for the fitting operation
 	 *
-	 * @param external The external contour
+	 * @param contourX x-coordinate of contour points
+	 * @param contourY y-coordinate of contour points
 	 * @param pointsF Output of converted points
 	 */
-	void undistortContour(List<Point2D_I32> external, FastQueue<Point2D_F64> pointsF ) {
-		for (int j = 0; j < external.size(); j++) {
-			Point2D_I32 p = external.get(j);
+	void undistortContour( GrowQueue_I32 contourX , GrowQueue_I32 contourY , FastQueue<Point2D_F64> pointsF ) {
+		for (int j = 0; j < contourX.size; j++) {
+			int x = contourX.data[j];
+			int y = contourY.data[j];
 
 			if( distToUndist != null ) {
-				distToUndist.compute(p.x,p.y);
+				distToUndist.compute(x,y);
 				pointsF.grow().set( distToUndist.distX , distToUndist.distY );
 			} else {
-				pointsF.grow().set(p.x, p.y);
+				pointsF.grow().set(x, y);
 			}
 		}
 	}
@@ -343,5 +358,19 @@ public class BinaryEllipseDetectorPixel {
 		 * Contour in distorted pixel coordinates
 		 */
 		public List<Point2D_I32> contour;
+
+		// storage for the contour which is recycled between calls
+		private FastQueue<Point2D_I32> contourStorage = new FastQueue<>(Point2D_I32.class,true);
+
+		/**
+		 * Copies the contour into internal storage and points {@link #contour} at it
+		 */
+		void setContour( GrowQueue_I32 contourX , GrowQueue_I32 contourY ) {
+			contourStorage.reset();
+			for (int i = 0; i < contourX.size; i++) {
+				contourStorage.grow().set(contourX.data[i],contourY.data[i]);
+			}
+			contour = contourStorage.toList();
+		}
 	}
 }
@@ -24,8 +24,10 @@ import boofcv.alg.filter.binary.ContourPacked;
 import boofcv.alg.filter.binary.LinearContourLabelChang2004;
 import boofcv.alg.shapes.polyline.MinimizeEnergyPrune;
 import boofcv.alg.shapes.polyline.RefinePolyLineCorner;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.struct.ConfigLength;
 import boofcv.struct.ConnectRule;
+import boofcv.struct.PackedSetsPoint2D_I32;
 import boofcv.struct.distort.PixelTransform2_F32;
 import boofcv.struct.image.GrayS32;
 import boofcv.struct.image.GrayU8;
@@ -187,6 +189,8 @@ public class DetectPolygonFromContour<T extends ImageGray<T>> {
 		pruner = new MinimizeEnergyPrune(splitPenalty);
 
 		polygonWork = new Polygon2D_F64(1);
+
+		contourFinder.setConcurrent(BoofConcurrency.USE_CONCURRENT);
 	}
 
 	/**
@@ -300,12 +304,14 @@ public class DetectPolygonFromContour<T extends ImageGray<T>> {
 		fitPolygon.setMaxVertexes(2*maxSides);
 
 		// find blobs where all 4 edges are lines
+		PackedSetsPoint2D_I32 packed = contourFinder.getPackedPoints();
 		FastQueue<ContourPacked> blobs = contourFinder.getContours();
 		for (int i = 0; i < blobs.size; i++) {
 			ContourPacked c = blobs.get(i);
 
-			contourFinder.getPackedPoints().getSet(c.externalIndex,contourTmp);
-			if( contourTmp.size() >= minimumContour) {
+			// check the size before copying the points since most contours are rejected here
+			if( packed.sizeOfSet(c.externalIndex) >= minimumContour) {
+				packed.getSet(c.externalIndex,contourTmp);
 				float edgeInside=-1,edgeOutside=-1;
 
 //				System.out.println("----- candidate "+c.external.size());
@@ -445,7 +451,7 @@ public class DetectPolygonFromContour<T extends ImageGray<T>> {
 
 				if( distToUndist != null ) {
 					// changed the save points in the packed contour list with undistorted coordinates
-					contourFinder.getPackedPoints().writeOverSet(c.externalIndex,undistorted);
+					packed.writeOverSet(c.externalIndex,undistorted);
 				}
 
 				// save results
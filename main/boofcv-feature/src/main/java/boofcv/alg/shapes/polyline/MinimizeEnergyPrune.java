@@ -56,6 +56,9 @@ public class MinimizeEnergyPrune {
 	GrowQueue_I32 workCorners1 = new GrowQueue_I32();
 	GrowQueue_I32 workCorners2 = new GrowQueue_I32();
 
+	// reused between calls to avoid creating a new fitter each time prune is called
+	FitLinesToContour fit = new FitLinesToContour();
+
 	public MinimizeEnergyPrune(double splitPenalty) {
 		this.splitPenalty = splitPenalty;
 	}
@@ -84,7 +87,6 @@ public class MinimizeEnergyPrune {
 			total += energySegment[i];
 		}
 
-		FitLinesToContour fit = new FitLinesToContour();
 		fit.setContour(contour);
 
 		boolean modified = false;
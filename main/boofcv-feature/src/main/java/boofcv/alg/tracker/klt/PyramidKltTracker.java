@@ -87,7 +87,9 @@ public class PyramidKltTracker<InputImage extends ImageGray<InputImage>, Derivat
 	}
 
 	/**
-	 * Only sets the image pyramid.  The derivatives are set to null.  Only use this when tracking.
+	 * Only sets the image pyramid.  The derivatives are set to null.  Only use this when tracking.  A lazy
+	 * pyramid can be shared with other consumers of the same image, but tracking reads every layer so
+	 * nothing is skipped.
 	 * @param image Image pyramid
 	 */
 	public void setImage(ImagePyramid<InputImage> image ) {
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.factory.feature.associate;
+
+import boofcv.struct.Configuration;
+
+/**
+ * Configuration for approximate nearest neighbor association.  See
+ * {@link FactoryAssociation#approximateNearestNeighbor(ConfigAssociateNearestNeighbor)}.
+ *
+ * @author Peter Abeles
+ */
+public class ConfigAssociateNearestNeighbor implements Configuration {
+
+	/**
+	 * Which data structure is used to search for the nearest neighbor
+	 */
+	public Type type = Type.KD_FOREST;
+
+	/**
+	 * Controls the trade off between recall and speed.  Larger values find the true nearest neighbor more
+	 * often but are slower.  For {@link Type#KD_FOREST} it's the maximum number of points examined and if
+	 * &le; 0 the search is exact.  For {@link Type#HNSW} it's the number of candidates considered.
+	 */
+	public int searchEffort = 200;
+
+	/**
+	 * KD_FOREST: Number of trees in the forest.
+	 */
+	public int numTrees = 4;
+
+	/**
+	 * KD_FOREST: Number of dimensions with the largest variance which a split is randomly selected from.
+	 */
+	public int numConsiderSplit = 5;
+
+	/**
+	 * HNSW: Maximum number of neighbors a node in the graph has.
+	 */
+	public int maxConnections = 16;
+
+	/**
+	 * HNSW: Number of candidates considered when adding a point to the graph.  Larger values create a
+	 * better graph but take longer to build.
+	 */
+	public int constructionEffort = 100;
+
+	/**
+	 * Seed for the random number generator
+	 */
+	public long randomSeed = 0xDEADBEEF;
+
+	@Override
+	public void checkValidity() {
+		if( type == null )
+			throw new IllegalArgumentException("type must be specified");
+		if( numTrees <= 0 )
+			throw new IllegalArgumentException("numTrees must be positive");
+		if( numConsiderSplit <= 0 )
+			throw new IllegalArgumentException("numConsiderSplit must be positive");
+		if( maxConnections < 2 )
+			throw new IllegalArgumentException("maxConnections must be at least 2");
+		if( type == Type.HNSW && searchEffort <= 0 )
+			throw new IllegalArgumentException("searchEffort must be positive for HNSW");
+	}
+
+	public enum Type {
+		/**
+		 * Randomized K-D trees searched using best-bin-first.
+		 *
+		 * @see boofcv.alg.feature.associate.nn.KdForestIndex
+		 */
+		KD_FOREST,
+		/**
+		 * Hierarchical Navigable Small World graph.
+		 *
+		 * @see boofcv.alg.feature.associate.nn.HnswIndex
+		 */
+		HNSW
+	}
+}
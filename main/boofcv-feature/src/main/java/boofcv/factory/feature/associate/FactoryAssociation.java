@@ -20,6 +20,10 @@ package boofcv.factory.feature.associate;
 
 import boofcv.abst.feature.associate.*;
 import boofcv.alg.feature.associate.AssociateGreedy;
+import boofcv.alg.feature.associate.AssociateGreedyHamming_B;
+import boofcv.alg.feature.associate.nn.HnswIndex;
+import boofcv.alg.feature.associate.nn.KdForestIndex;
+import boofcv.alg.feature.associate.nn.NearestNeighborIndex;
 import boofcv.struct.feature.*;
 import org.ddogleg.nn.FactoryNearestNeighbor;
 import org.ddogleg.nn.NearestNeighbor;
@@ -48,13 +52,58 @@ public class FactoryAssociation {
 	greedy( ScoreAssociation<D> score ,
 			double maxError ,
 			boolean backwardsValidation )
+	{
+		return greedy(score, maxError, backwardsValidation, 1.0);
+	}
+
+	/**
+	 * Returns an algorithm for associating features together which uses a brute force greedy algorithm and
+	 * a ratio test to remove ambiguous matches.  See {@link AssociateGreedy} for details.
+	 *
+	 * @param score Computes the fit score between two features.
+	 * @param maxError Maximum allowed error/fit score between two features.  To disable set to Double.MAX_VALUE
+	 * @param backwardsValidation If true associations are validated by associating in the reverse direction.  If the
+	 *                  forward and reverse matches fit an association is excepted.
+	 * @param ratioTest The best score must be less than or equal to this fraction of the second best score.
+	 *                  Only use with scores which are always positive.  Try 0.8.  To disable set to 1.0.
+	 * @param <D> Data structure being associated
+	 * @return AssociateDescription
+	 */
+	public static <D> AssociateDescription<D>
+	greedy( ScoreAssociation<D> score ,
+			double maxError ,
+			boolean backwardsValidation ,
+			double ratioTest )
 	{
 		AssociateGreedy<D> alg = new AssociateGreedy<>(score, backwardsValidation);
 		alg.setMaxFitError(maxError);
+		alg.setRatioTest(ratioTest);
 		WrapAssociateGreedy<D> ret = new WrapAssociateGreedy<>(alg);
 		return ret;
 	}
 
+	/**
+	 * Brute force greedy association for binary descriptors using the Hamming distance.  Produces the same
+	 * results as {@link #greedy} with {@link ScoreAssociateHamming_B} but is much faster when there are
+	 * a large number of features.  See {@link AssociateGreedyHamming_B} for details.
+	 *
+	 * @param maxError Maximum allowed Hamming distance between two features.  To disable set to Double.MAX_VALUE
+	 * @param backwardsValidation If true associations are validated by associating in the reverse direction.  If the
+	 *                  forward and reverse matches fit an association is excepted.
+	 * @param ratioTest The best score must be less than or equal to this fraction of the second best score.
+	 *                  Try 0.8.  To disable set to 1.0.
+	 * @return AssociateDescription
+	 */
+	public static AssociateDescription<TupleDesc_B>
+	greedyHamming( double maxError ,
+				   boolean backwardsValidation ,
+				   double ratioTest )
+	{
+		AssociateGreedyHamming_B alg = new AssociateGreedyHamming_B(backwardsValidation, ratioTest);
+		alg.setMaxFitError(maxError);
+		return new WrapAssociateGreedyHamming_B(alg);
+	}
+
 
 	/**
 	 * Approximate association using a K-D tree degree of moderate size (10-15) that uses a best-bin-first search
@@ -99,6 +148,44 @@ public class FactoryAssociation {
 		return new AssociateNearestNeighbor<>(nn, dimension);
 	}
 
+	/**
+	 * Approximate association using Euclidean distance for descriptors with a high degree of freedom.  Works with
+	 * any {@link TupleDesc} and destination features are matched using multiple threads.  The trade off between
+	 * speed and recall is controlled by {@link ConfigAssociateNearestNeighbor#searchEffort}.
+	 *
+	 * @see AssociateApproximateNearestNeighbor
+	 * @see KdForestIndex
+	 * @see HnswIndex
+	 *
+	 * @param config Configuration.  If null then the default is used.
+	 * @param <D> Data structure being associated
+	 * @return Association using approximate nearest neighbor
+	 */
+	public static <D extends TupleDesc> AssociateDescription<D>
+	approximateNearestNeighbor( ConfigAssociateNearestNeighbor config ) {
+		if( config == null )
+			config = new ConfigAssociateNearestNeighbor();
+		config.checkValidity();
+
+		NearestNeighborIndex index;
+		switch( config.type ) {
+			case KD_FOREST:
+				index = new KdForestIndex(config.numTrees,config.numConsiderSplit,
+						config.searchEffort,config.randomSeed);
+				break;
+
+			case HNSW:
+				index = new HnswIndex(config.maxConnections,config.constructionEffort,
+						config.searchEffort,config.randomSeed);
+				break;
+
+			default:
+				throw new IllegalArgumentException("Unknown type "+config.type);
+		}
+
+		return new AssociateApproximateNearestNeighbor<>(index);
+	}
+
 	/**
 	 * Given a feature descriptor type it returns a "reasonable" default {@link ScoreAssociation}.
 	 *
@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.abst.feature.associate;
+
+import boofcv.alg.feature.associate.nn.HnswIndex;
+import boofcv.alg.feature.associate.nn.KdForestIndex;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.factory.feature.associate.ConfigAssociateNearestNeighbor;
+import boofcv.factory.feature.associate.FactoryAssociation;
+import boofcv.struct.feature.AssociatedIndex;
+import boofcv.struct.feature.TupleDesc_F32;
+import boofcv.struct.feature.TupleDesc_F64;
+import boofcv.testing.BoofTesting;
+import org.ddogleg.struct.FastQueue;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestAssociateApproximateNearestNeighbor extends StandardAssociateDescriptionChecks<TupleDesc_F64> {
+
+	Random rand = new Random(234);
+
+	int previousThreads;
+
+	@Before
+	public void forceThreads() {
+		previousThreads = BoofTesting.forceTestThreads();
+	}
+
+	@After
+	public void restoreThreads() {
+		BoofConcurrency.setMaxThreads(previousThreads);
+	}
+
+	public TestAssociateApproximateNearestNeighbor() {
+		super(TupleDesc_F64.class);
+	}
+
+	@Override
+	public AssociateDescription<TupleDesc_F64> createAlg() {
+		// unlimited search effort will produce perfect results
+		return new AssociateApproximateNearestNeighbor<>(new KdForestIndex(2,1,-1,234));
+	}
+
+	@Override
+	protected TupleDesc_F64 c(double value) {
+		TupleDesc_F64 s = new TupleDesc_F64(1);
+		s.value[0] = value;
+		return s;
+	}
+
+	/**
+	 * Run the standard checks using HNSW.  With so few points it should always find the nearest neighbor.
+	 */
+	@Test
+	public void hnsw() {
+		new StandardAssociateDescriptionChecks<TupleDesc_F64>(TupleDesc_F64.class) {
+			@Override
+			public AssociateDescription<TupleDesc_F64> createAlg() {
+				return new AssociateApproximateNearestNeighbor<>(new HnswIndex(4,20,20,234));
+			}
+
+			@Override
+			protected TupleDesc_F64 c(double value) {
+				return TestAssociateApproximateNearestNeighbor.this.c(value);
+			}
+		}.allTests();
+	}
+
+	/**
+	 * F32 descriptors should produce the same results as F64 descriptors
+	 */
+	@Test
+	public void compareF32() {
+		FastQueue<TupleDesc_F64> src64 = new FastQueue<>(TupleDesc_F64.class, false);
+		FastQueue<TupleDesc_F64> dst64 = new FastQueue<>(TupleDesc_F64.class, false);
+		FastQueue<TupleDesc_F32> src32 = new FastQueue<>(TupleDesc_F32.class, false);
+		FastQueue<TupleDesc_F32> dst32 = new FastQueue<>(TupleDesc_F32.class, false);
+		createRandom(200,src64,src32);
+		createRandom(150,dst64,dst32);
+
+		AssociateApproximateNearestNeighbor<TupleDesc_F64> alg64 =
+				new AssociateApproximateNearestNeighbor<>(new KdForestIndex(2,5,-1,234));
+		AssociateApproximateNearestNeighbor<TupleDesc_F32> alg32 =
+				new AssociateApproximateNearestNeighbor<>(new KdForestIndex(2,5,-1,234));
+
+		alg64.setSource(src64);
+		alg64.setDestination(dst64);
+		alg64.associate();
+		alg32.setSource(src32);
+		alg32.setDestination(dst32);
+		alg32.associate();
+
+		assertEquals(dst64.size,alg64.getMatches().size);
+		checkIdentical(alg64.getMatches(),alg32.getMatches(),1e-4);
+	}
+
+	/**
+	 * Results should be the same if searched with one or multiple threads
+	 */
+	@Test
+	public void compareConcurrent() {
+		FastQueue<TupleDesc_F64> src = new FastQueue<>(TupleDesc_F64.class, false);
+		FastQueue<TupleDesc_F64> dst = new FastQueue<>(TupleDesc_F64.class, false);
+		createRandom(1000,src,null);
+		createRandom(800,dst,null);
+
+		for( ConfigAssociateNearestNeighbor.Type type : ConfigAssociateNearestNeighbor.Type.values() ) {
+			ConfigAssociateNearestNeighbor config = new ConfigAssociateNearestNeighbor();
+			config.type = type;
+			config.searchEffort = 20;
+
+			AssociateApproximateNearestNeighbor<TupleDesc_F64> single =
+					(AssociateApproximateNearestNeighbor)FactoryAssociation.approximateNearestNeighbor(config);
+			AssociateApproximateNearestNeighbor<TupleDesc_F64> multi =
+					(AssociateApproximateNearestNeighbor)FactoryAssociation.approximateNearestNeighbor(config);
+			single.setConcurrent(false);
+			multi.setConcurrent(true);
+
+			single.setThreshold(5);
+			multi.setThreshold(5);
+			single.setSource(src);
+			single.setDestination(dst);
+			single.associate();
+			multi.setSource(src);
+			multi.setDestination(dst);
+			multi.associate();
+
+			assertTrue(single.getMatches().size > 0);
+			checkIdentical(single.getMatches(),multi.getMatches(),0);
+		}
+	}
+
+	private void createRandom( int N , FastQueue<TupleDesc_F64> list64 , FastQueue<TupleDesc_F32> list32 ) {
+		int dof = 20;
+		for( int i = 0; i < N; i++ ) {
+			TupleDesc_F64 a = new TupleDesc_F64(dof);
+			TupleDesc_F32 b = new TupleDesc_F32(dof);
+			for( int j = 0; j < dof; j++ ) {
+				// values which can be exactly represented by a float
+				b.value[j] = (float)rand.nextGaussian();
+				a.value[j] = b.value[j];
+			}
+			list64.add(a);
+			if( list32 != null )
+				list32.add(b);
+		}
+	}
+
+	private static void checkIdentical( FastQueue<AssociatedIndex> a , FastQueue<AssociatedIndex> b , double tol ) {
+		assertEquals(a.size,b.size);
+		for( int i = 0; i < a.size; i++ ) {
+			assertEquals(a.get(i).src,b.get(i).src);
+			assertEquals(a.get(i).dst,b.get(i).dst);
+			assertEquals(a.get(i).fitScore,b.get(i).fitScore,tol);
+		}
+	}
+}
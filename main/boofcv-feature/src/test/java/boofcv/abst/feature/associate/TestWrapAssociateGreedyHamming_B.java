@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.abst.feature.associate;
+
+import boofcv.factory.feature.associate.FactoryAssociation;
+import boofcv.struct.feature.AssociatedIndex;
+import boofcv.struct.feature.TupleDesc_B;
+import org.ddogleg.struct.FastQueue;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestWrapAssociateGreedyHamming_B {
+
+	Random rand = new Random(234);
+
+	/**
+	 * Compare against the generic greedy association using a Hamming score
+	 */
+	@Test
+	public void compareToGreedy() {
+		FastQueue<TupleDesc_B> src = createRandom(60);
+		FastQueue<TupleDesc_B> dst = createRandom(40);
+		for( int i = 0; i < 30; i++ ) {
+			TupleDesc_B d = src.get(i).copy();
+			d.data[0] ^= rand.nextInt();
+			dst.add(d);
+		}
+
+		for( boolean backwards : new boolean[]{false,true} ) {
+			AssociateDescription<TupleDesc_B> expected = FactoryAssociation.greedy(
+					FactoryAssociation.scoreHamming(TupleDesc_B.class), 100, backwards);
+			AssociateDescription<TupleDesc_B> found = FactoryAssociation.greedyHamming(100, backwards, 1.0);
+
+			assertEquals(expected.getScoreType(),found.getScoreType());
+			assertEquals(expected.uniqueSource(),found.uniqueSource());
+			assertEquals(expected.uniqueDestination(),found.uniqueDestination());
+
+			expected.setSource(src);
+			expected.setDestination(dst);
+			expected.associate();
+			found.setSource(src);
+			found.setDestination(dst);
+			found.associate();
+
+			assertTrue(found.getMatches().size > 0);
+			assertEquals(expected.getMatches().size,found.getMatches().size);
+			for( int i = 0; i < found.getMatches().size; i++ ) {
+				AssociatedIndex e = expected.getMatches().get(i);
+				AssociatedIndex f = found.getMatches().get(i);
+				assertEquals(e.src,f.src);
+				assertEquals(e.dst,f.dst);
+				assertEquals(e.fitScore,f.fitScore,0);
+			}
+			assertEquals(expected.getUnassociatedSource().size,found.getUnassociatedSource().size);
+			assertEquals(expected.getUnassociatedDestination().size,found.getUnassociatedDestination().size);
+		}
+	}
+
+	private FastQueue<TupleDesc_B> createRandom( int total ) {
+		FastQueue<TupleDesc_B> list = new FastQueue<>(TupleDesc_B.class,false);
+		for( int i = 0; i < total; i++ ) {
+			TupleDesc_B d = new TupleDesc_B(256);
+			for( int j = 0; j < d.data.length; j++ ) {
+				d.data[j] = rand.nextInt();
+			}
+			list.add(d);
+		}
+		return list;
+	}
+}
@@ -18,10 +18,21 @@
 
 package boofcv.abst.feature.detdesc;
 
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.factory.feature.detdesc.FactoryDetectDescribe;
 import boofcv.struct.feature.BrightFeature;
 import boofcv.struct.image.GrayF32;
 import boofcv.struct.image.ImageType;
+import boofcv.testing.BoofTesting;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 /**
  * @author Peter Abeles
@@ -29,6 +40,18 @@ import boofcv.struct.image.ImageType;
 public class TestWrapDetectDescribeSurf extends GenericTestsDetectDescribePoint<GrayF32,BrightFeature>
 {
 
+	int previousThreads;
+
+	@Before
+	public void forceThreads() {
+		previousThreads = BoofTesting.forceTestThreads();
+	}
+
+	@After
+	public void restoreThreads() {
+		BoofConcurrency.setMaxThreads(previousThreads);
+	}
+
 	public TestWrapDetectDescribeSurf() {
 		super(true, true, ImageType.single(GrayF32.class), BrightFeature.class);
 	}
@@ -37,4 +60,36 @@ public class TestWrapDetectDescribeSurf extends GenericTestsDetectDescribePoint<
 	public DetectDescribePoint<GrayF32, BrightFeature> createDetDesc() {
 		return FactoryDetectDescribe.surfStable(null,null,null, GrayF32.class);
 	}
+
+	/**
+	 * The concurrent implementation should produce identical results to the single threaded one
+	 */
+	@Test
+	public void compareConcurrent() {
+		GrayF32 input = new GrayF32(160,140);
+		ImageMiscOps.fillUniform(input,new Random(234),0,200);
+
+		WrapDetectDescribeSurf<GrayF32,?> serial = (WrapDetectDescribeSurf)createDetDesc();
+		WrapDetectDescribeSurf<GrayF32,?> concurrent = (WrapDetectDescribeSurf)createDetDesc();
+		serial.setConcurrent(false);
+		concurrent.setConcurrent(true);
+
+		serial.detect(input);
+		concurrent.detect(input);
+
+		assertTrue(serial.getNumberOfFeatures() > 0);
+		assertEquals(serial.getNumberOfFeatures(),concurrent.getNumberOfFeatures());
+		for (int i = 0; i < serial.getNumberOfFeatures(); i++) {
+			assertEquals(0,serial.getLocation(i).distance(concurrent.getLocation(i)),0);
+			assertEquals(serial.getRadius(i),concurrent.getRadius(i),0);
+			assertEquals(serial.getOrientation(i),concurrent.getOrientation(i),0);
+
+			BrightFeature a = serial.getDescription(i);
+			BrightFeature b = concurrent.getDescription(i);
+			assertEquals(a.white,b.white);
+			for (int j = 0; j < a.size(); j++) {
+				assertEquals(a.value[j],b.value[j],0);
+			}
+		}
+	}
 }
@@ -20,11 +20,18 @@ package boofcv.alg.feature.associate;
 
 import boofcv.abst.feature.associate.ScoreAssociateEuclidean_F64;
 import boofcv.abst.feature.associate.ScoreAssociation;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.struct.feature.TupleDesc_F64;
+import boofcv.testing.BoofTesting;
 import org.ddogleg.struct.FastQueue;
+import org.junit.After;
+import org.junit.Before;
 import org.junit.Test;
 
+import java.util.Random;
+
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 
 /**
@@ -34,6 +41,18 @@ public class TestAssociateGreedy {
 
 	ScoreAssociation<TupleDesc_F64> score = new ScoreAssociateEuclidean_F64();
 
+	int previousThreads;
+
+	@Before
+	public void forceThreads() {
+		previousThreads = BoofTesting.forceTestThreads();
+	}
+
+	@After
+	public void restoreThreads() {
+		BoofConcurrency.setMaxThreads(previousThreads);
+	}
+
 	@Test
 	public void basic() {
 		FastQueue<TupleDesc_F64> a = createData(1,2,3,4);
@@ -101,6 +120,107 @@ public class TestAssociateGreedy {
 		assertEquals(2,fitScore[3],1e-5);
 	}
 
+	@Test
+	public void ratioTest() {
+		FastQueue<TupleDesc_F64> a = createData(1,10);
+		FastQueue<TupleDesc_F64> b = createData(1.2,1.5,9.5,10.4);
+
+		AssociateGreedy<TupleDesc_F64> alg = new AssociateGreedy<>(score, false);
+		alg.setRatioTest(0.5);
+		alg.associate(a,b);
+
+		// 0.2 is less than half of 0.5 but 0.4 is not less than half of 0.5
+		assertEquals(0,alg.getPairs()[0]);
+		assertEquals(0.2,alg.getFitQuality()[0],1e-8);
+		assertEquals(-1,alg.getPairs()[1]);
+
+		// turn it off
+		alg.setRatioTest(1.0);
+		alg.associate(a,b);
+		assertEquals(0,alg.getPairs()[0]);
+		assertEquals(3,alg.getPairs()[1]);
+	}
+
+	/**
+	 * Compares the single and multi-threaded implementation against a straight forward implementation which
+	 * saves the entire score matrix and scans columns for backwards validation
+	 */
+	@Test
+	public void compareToFullMatrix() {
+		Random rand = new Random(234);
+		// enough features to have multiple tiles and some ties
+		double values[] = new double[400];
+		for (int i = 0; i < values.length; i++) {
+			values[i] = rand.nextInt(300);
+		}
+		FastQueue<TupleDesc_F64> a = createData(values);
+		for (int i = 0; i < values.length; i++) {
+			values[i] = rand.nextInt(300)+0.5*rand.nextInt(2);
+		}
+		FastQueue<TupleDesc_F64> b = createData(values);
+
+		for( boolean backwards : new boolean[]{false,true} ) {
+			for( double maxError : new double[]{Double.MAX_VALUE,0.4} ) {
+				int expectedPairs[] = new int[a.size];
+				double expectedFit[] = new double[a.size];
+				associateFullMatrix(a,b,backwards,maxError,expectedPairs,expectedFit);
+
+				for( boolean concurrent : new boolean[]{false,true} ) {
+					AssociateGreedy<TupleDesc_F64> alg = new AssociateGreedy<>(score, backwards);
+					alg.setConcurrent(concurrent);
+					alg.setMaxFitError(maxError);
+					alg.associate(a,b);
+
+					int numMatched = 0;
+					for (int i = 0; i < a.size; i++) {
+						assertEquals(expectedPairs[i],alg.getPairs()[i]);
+						assertEquals(expectedFit[i],alg.getFitQuality()[i],0);
+						if( expectedPairs[i] >= 0 )
+							numMatched++;
+					}
+					assertTrue(numMatched > 0);
+				}
+			}
+		}
+	}
+
+	private void associateFullMatrix( FastQueue<TupleDesc_F64> src , FastQueue<TupleDesc_F64> dst ,
+									  boolean backwardsValidation , double maxFitError,
+									  int pairs[] , double fitQuality[] ) {
+		double scores[] = new double[src.size*dst.size];
+		for( int i = 0; i < src.size; i++ ) {
+			double bestScore = maxFitError;
+			int bestIndex = -1;
+			for( int j = 0; j < dst.size; j++ ) {
+				double fit = score.score(src.get(i),dst.get(j));
+				scores[i*dst.size+j] = fit;
+				if( fit <= bestScore ) {
+					bestIndex = j;
+					bestScore = fit;
+				}
+			}
+			pairs[i] = bestIndex;
+			fitQuality[i] = bestScore;
+		}
+
+		if( !backwardsValidation )
+			return;
+
+		for( int i = 0; i < src.size; i++ ) {
+			int match = pairs[i];
+			if( match == -1 )
+				continue;
+			double scoreToBeat = scores[i*dst.size+match];
+			for( int j = 0; j < src.size; j++ ) {
+				if( j != i && scores[j*dst.size+match] <= scoreToBeat ) {
+					pairs[i] = -1;
+					fitQuality[i] = Double.MAX_VALUE;
+					break;
+				}
+			}
+		}
+	}
+
 	private FastQueue<TupleDesc_F64> createData( double ...values )
 	{
 		FastQueue<TupleDesc_F64> ret = new FastQueue<TupleDesc_F64>(10,TupleDesc_F64.class, true) {
@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.feature.associate;
+
+import boofcv.abst.feature.associate.ScoreAssociateHamming_B;
+import boofcv.alg.descriptor.DescriptorDistance;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.feature.TupleDesc_B;
+import boofcv.testing.BoofTesting;
+import org.ddogleg.struct.FastQueue;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestAssociateGreedyHamming_B {
+
+	Random rand = new Random(234);
+
+	int previousThreads;
+
+	@Before
+	public void forceThreads() {
+		previousThreads = BoofTesting.forceTestThreads();
+	}
+
+	@After
+	public void restoreThreads() {
+		BoofConcurrency.setMaxThreads(previousThreads);
+	}
+
+	/**
+	 * Results should be identical to the generic greedy algorithm for all the different configurations
+	 */
+	@Test
+	public void compareToGreedy() {
+		// 512 and an odd number of ints when packed
+		for( int numBits : new int[]{512,96} ) {
+			// large enough to use multiple tiles
+			FastQueue<TupleDesc_B> src = createNoisyCopies(createRandom(300,numBits),5);
+			FastQueue<TupleDesc_B> dst = createRandom(20,numBits);
+			dst.add(src.get(3).copy()); // some ties
+			dst.add(src.get(3).copy());
+			dst.add(src.get(7).copy());
+			for( int i = 0; i < 300; i++ ) {
+				dst.add(createNoisyCopies(src.get(i),10));
+			}
+
+			for( boolean backwards : new boolean[]{false,true} ) {
+				for( double maxError : new double[]{Double.MAX_VALUE,15} ) {
+					AssociateGreedy<TupleDesc_B> expected = new AssociateGreedy<>(new ScoreAssociateHamming_B(),backwards);
+					expected.setMaxFitError(maxError);
+					expected.associate(src,dst);
+
+					for( boolean concurrent : new boolean[]{false,true} ) {
+						AssociateGreedyHamming_B alg = new AssociateGreedyHamming_B(backwards,1.0);
+						alg.setConcurrent(concurrent);
+						alg.setMaxFitError(maxError);
+						alg.associate(src,dst);
+
+						int numMatched = 0;
+						for( int i = 0; i < src.size; i++ ) {
+							assertEquals(expected.getPairs()[i],alg.getPairs()[i]);
+							if( alg.getPairs()[i] >= 0 ) {
+								numMatched++;
+								assertEquals(expected.getFitQuality()[i], alg.getFitQuality()[i], 0);
+							}
+						}
+						assertTrue(numMatched > 0);
+					}
+				}
+			}
+		}
+	}
+
+	@Test
+	public void ratioTest() {
+		FastQueue<TupleDesc_B> src = createRandom(1,64);
+		FastQueue<TupleDesc_B> dst = new FastQueue<>(TupleDesc_B.class,false);
+
+		// distance of 2 and 4
+		TupleDesc_B a = src.get(0).copy();
+		a.data[0] ^= 0x3;
+		TupleDesc_B b = src.get(0).copy();
+		b.data[1] ^= 0xF;
+		dst.add(b);
+		dst.add(a);
+
+		AssociateGreedyHamming_B alg = new AssociateGreedyHamming_B(false,0.5);
+		alg.associate(src,dst);
+		assertEquals(1,alg.getPairs()[0]);
+		assertEquals(2,alg.getFitQuality()[0],0);
+
+		alg.setRatioTest(0.49);
+		alg.associate(src,dst);
+		assertEquals(-1,alg.getPairs()[0]);
+	}
+
+	@Test
+	public void pack() {
+		FastQueue<TupleDesc_B> list = createRandom(3,96);
+
+		long[] packed = AssociateGreedyHamming_B.pack(list,2,new long[0]);
+		assertEquals(6,packed.length);
+
+		for( int i = 0; i < list.size; i++ ) {
+			int[] data = list.get(i).data;
+			assertEquals(data[0], (int)packed[i*2]);
+			assertEquals(data[1], (int)(packed[i*2] >>> 32));
+			assertEquals(data[2], (int)packed[i*2+1]);
+			assertEquals(0, (int)(packed[i*2+1] >>> 32));
+		}
+	}
+
+	private FastQueue<TupleDesc_B> createRandom( int total , int numBits ) {
+		FastQueue<TupleDesc_B> list = new FastQueue<>(TupleDesc_B.class,false);
+		for( int i = 0; i < total; i++ ) {
+			TupleDesc_B d = new TupleDesc_B(numBits);
+			for( int j = 0; j < d.data.length; j++ ) {
+				d.data[j] = rand.nextInt();
+			}
+			list.add(d);
+		}
+		return list;
+	}
+
+	private FastQueue<TupleDesc_B> createNoisyCopies( FastQueue<TupleDesc_B> original , int numFlips ) {
+		FastQueue<TupleDesc_B> list = new FastQueue<>(TupleDesc_B.class,false);
+		for( int i = 0; i < original.size; i++ ) {
+			list.add(createNoisyCopies(original.get(i),numFlips));
+		}
+		return list;
+	}
+
+	private TupleDesc_B createNoisyCopies( TupleDesc_B original , int numFlips ) {
+		TupleDesc_B d = original.copy();
+		for( int k = 0; k < numFlips; k++ ) {
+			int bit = rand.nextInt(d.numBits);
+			d.data[bit/32] ^= 1 << (bit%32);
+		}
+		assertTrue(DescriptorDistance.hamming(original,d) <= numFlips);
+		return d;
+	}
+}
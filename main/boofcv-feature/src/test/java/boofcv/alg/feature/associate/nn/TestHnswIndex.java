@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.feature.associate.nn;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.testing.BoofTesting;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static boofcv.alg.feature.associate.nn.TestKdForestIndex.*;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestHnswIndex {
+
+	Random rand = new Random(234);
+
+	int numPoints = 2000;
+	int dof = 16;
+
+	int previousThreads;
+
+	@Before
+	public void forceThreads() {
+		previousThreads = BoofTesting.forceTestThreads();
+	}
+
+	@After
+	public void restoreThreads() {
+		BoofConcurrency.setMaxThreads(previousThreads);
+	}
+
+	/**
+	 * A large search effort relative to the number of points should find the nearest neighbor almost every time
+	 */
+	@Test
+	public void recall() {
+		double[] points = randomPoints(rand,numPoints,dof);
+
+		HnswIndex alg = new HnswIndex(16,100,100,0xBEEF);
+		alg.setPoints(points,numPoints,dof);
+
+		assertTrue(computeRecall(alg,points,numPoints,dof,rand) >= 0.9);
+	}
+
+	/**
+	 * Recall should not decrease with more effort
+	 */
+	@Test
+	public void searchEffort() {
+		double[] points = randomPoints(rand,numPoints,dof);
+
+		HnswIndex alg = new HnswIndex(8,50,5,0xBEEF);
+		alg.setPoints(points,numPoints,dof);
+
+		double low = computeRecall(alg,points,numPoints,dof,new Random(2));
+		alg.setSearchEffort(200);
+		double high = computeRecall(alg,points,numPoints,dof,new Random(2));
+		assertTrue(high >= low);
+		assertTrue(high >= 0.9);
+	}
+
+	/**
+	 * Every point should be reachable from the entry point
+	 */
+	@Test
+	public void findsEveryPoint() {
+		double[] points = randomPoints(rand,numPoints,dof);
+
+		HnswIndex alg = new HnswIndex(16,100,50,0xBEEF);
+		alg.setPoints(points,numPoints,dof);
+
+		NearestNeighborSearch search = alg.createSearch();
+		double[] query = new double[dof];
+		for( int i = 0; i < numPoints; i++ ) {
+			System.arraycopy(points,i*dof,query,0,dof);
+			assertEquals(i,search.findNearest(query,-1));
+			assertEquals(0,search.getDistanceSq(),1e-8);
+		}
+	}
+
+	@Test
+	public void maxDistance() {
+		double[] points = new double[]{0,0, 10,10};
+		HnswIndex alg = new HnswIndex(4,10,10,0xBEEF);
+		alg.setPoints(points,2,2);
+
+		NearestNeighborSearch search = alg.createSearch();
+		assertEquals(0,search.findNearest(new double[]{1,0},1.5));
+		assertEquals(1.0,search.getDistanceSq(),1e-8);
+		assertEquals(-1,search.findNearest(new double[]{2,0},1.5));
+		assertEquals(1,search.findNearest(new double[]{9,10},-1));
+	}
+
+	@Test
+	public void noPoints() {
+		HnswIndex alg = new HnswIndex(4,10,10,0xBEEF);
+		alg.setPoints(new double[0],0,3);
+		assertEquals(-1,alg.createSearch().findNearest(new double[3],-1));
+	}
+
+	/**
+	 * The graph should be the same if built with one or multiple threads
+	 */
+	@Test
+	public void compareConcurrent() {
+		double[] points = randomPoints(rand,numPoints,dof);
+
+		HnswIndex single = new HnswIndex(8,40,10,0xBEEF);
+		single.setConcurrent(false);
+		single.setPoints(points,numPoints,dof);
+		HnswIndex multi = new HnswIndex(8,40,10,0xBEEF);
+		multi.setConcurrent(true);
+		multi.setPoints(points,numPoints,dof);
+
+		assertEquals(single.entryPoint,multi.entryPoint);
+		for( int i = 0; i < numPoints; i++ ) {
+			assertEquals(single.levels[i],multi.levels[i]);
+			for( int level = 0; level <= single.levels[i]; level++ ) {
+				int[] a = single.links[i][level];
+				int[] b = multi.links[i][level];
+				assertEquals(a[0],b[0]);
+				for( int k = 1; k <= a[0]; k++ ) {
+					assertEquals(a[k],b[k]);
+				}
+			}
+		}
+	}
+}
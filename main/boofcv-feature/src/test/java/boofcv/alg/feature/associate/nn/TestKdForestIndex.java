@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.feature.associate.nn;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.testing.BoofTesting;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestKdForestIndex {
+
+	Random rand = new Random(234);
+
+	int numPoints = 2000;
+	int dof = 16;
+
+	int previousThreads;
+
+	@Before
+	public void forceThreads() {
+		previousThreads = BoofTesting.forceTestThreads();
+	}
+
+	@After
+	public void restoreThreads() {
+		BoofConcurrency.setMaxThreads(previousThreads);
+	}
+
+	/**
+	 * If the search effort is unlimited the results should be exact
+	 */
+	@Test
+	public void exact() {
+		double[] points = randomPoints(rand,numPoints,dof);
+
+		KdForestIndex alg = new KdForestIndex(3,5,-1,0xBEEF);
+		alg.setPoints(points,numPoints,dof);
+
+		NearestNeighborSearch search = alg.createSearch();
+		double[] query = new double[dof];
+		for( int trial = 0; trial < 100; trial++ ) {
+			randomQuery(rand,query);
+			int expected = bruteForce(points,numPoints,dof,query);
+			assertEquals(expected,search.findNearest(query,-1));
+			assertEquals(UtilNearestNeighbor.distanceSq(points,expected*dof,query,0,dof),search.getDistanceSq(),1e-8);
+		}
+	}
+
+	/**
+	 * A limited search should still find the nearest neighbor most of the time
+	 */
+	@Test
+	public void recall() {
+		double[] points = randomPoints(rand,numPoints,dof);
+
+		KdForestIndex alg = new KdForestIndex(4,5,200,0xBEEF);
+		alg.setPoints(points,numPoints,dof);
+
+		assertTrue(computeRecall(alg,points,numPoints,dof,rand) >= 0.6);
+	}
+
+	/**
+	 * Points which are farther than the max distance should not be returned
+	 */
+	@Test
+	public void maxDistance() {
+		double[] points = new double[]{0,0, 10,10};
+		KdForestIndex alg = new KdForestIndex(2,2,-1,0xBEEF);
+		alg.setPoints(points,2,2);
+
+		NearestNeighborSearch search = alg.createSearch();
+		assertEquals(0,search.findNearest(new double[]{1,0},1.5));
+		assertEquals(1.0,search.getDistanceSq(),1e-8);
+		assertEquals(-1,search.findNearest(new double[]{2,0},1.5));
+		assertEquals(1,search.findNearest(new double[]{9,10},-1));
+	}
+
+	@Test
+	public void noPoints() {
+		KdForestIndex alg = new KdForestIndex(2,2,-1,0xBEEF);
+		alg.setPoints(new double[0],0,3);
+		assertEquals(-1,alg.createSearch().findNearest(new double[3],-1));
+	}
+
+	/**
+	 * The forest should be the same if built with one or multiple threads
+	 */
+	@Test
+	public void compareConcurrent() {
+		double[] points = randomPoints(rand,numPoints,dof);
+
+		KdForestIndex single = new KdForestIndex(6,5,50,0xBEEF);
+		single.setConcurrent(false);
+		single.setPoints(points,numPoints,dof);
+		KdForestIndex multi = new KdForestIndex(6,5,50,0xBEEF);
+		multi.setConcurrent(true);
+		multi.setPoints(points,numPoints,dof);
+
+		NearestNeighborSearch searchSingle = single.createSearch();
+		NearestNeighborSearch searchMulti = multi.createSearch();
+		double[] query = new double[dof];
+		for( int trial = 0; trial < 100; trial++ ) {
+			randomQuery(rand,query);
+			assertEquals(searchSingle.findNearest(query,-1),searchMulti.findNearest(query,-1));
+		}
+	}
+
+	static double[] randomPoints( Random rand , int numPoints , int dof ) {
+		double[] points = new double[numPoints*dof];
+		for( int i = 0; i < points.length; i++ ) {
+			points[i] = rand.nextGaussian();
+		}
+		return points;
+	}
+
+	static void randomQuery( Random rand , double[] query ) {
+		for( int i = 0; i < query.length; i++ ) {
+			query[i] = rand.nextGaussian();
+		}
+	}
+
+	static int bruteForce( double[] points , int numPoints , int dof , double[] query ) {
+		int best = -1;
+		double bestDistance = Double.MAX_VALUE;
+		for( int i = 0; i < numPoints; i++ ) {
+			double d = UtilNearestNeighbor.distanceSq(points,i*dof,query,0,dof);
+			if( d < bestDistance ) {
+				bestDistance = d;
+				best = i;
+			}
+		}
+		return best;
+	}
+
+	/**
+	 * Fraction of queries where the true nearest neighbor was found.  Queries are points plus a little
+	 * bit of noise, which is similar to how features are matched.
+	 */
+	static double computeRecall( NearestNeighborIndex alg , double[] points , int numPoints , int dof , Random rand ) {
+		NearestNeighborSearch search = alg.createSearch();
+		double[] query = new double[dof];
+		int correct = 0;
+		int total = 200;
+		for( int trial = 0; trial < total; trial++ ) {
+			int target = rand.nextInt(numPoints);
+			for( int i = 0; i < dof; i++ ) {
+				query[i] = points[target*dof+i] + rand.nextGaussian()*0.3;
+			}
+			if( search.findNearest(query,-1) == bruteForce(points,numPoints,dof,query) )
+				correct++;
+		}
+		return correct/(double)total;
+	}
+}
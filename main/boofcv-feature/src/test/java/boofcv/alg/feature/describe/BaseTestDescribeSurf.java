@@ -104,6 +104,26 @@ public abstract class BaseTestDescribeSurf<I extends ImageGray<I>,II extends Ima
 		assertFalse(isSimilar(a,b));
 	}
 
+	/**
+	 * A copy should be a different instance which produces the same description
+	 */
+	@Test
+	public void copy() {
+		GImageMiscOps.fillUniform(ii, rand, 0, 100);
+		DescribePointSurf<II> copy = alg.copy();
+		assertTrue(copy != alg);
+		assertEquals(alg.getClass(),copy.getClass());
+
+		alg.setImage(ii);
+		copy.setImage(ii);
+		BrightFeature a = alg.createDescription();
+		BrightFeature b = copy.createDescription();
+		alg.describe(c_x,c_y, 0.5, 1.5, a);
+		copy.describe(c_x,c_y, 0.5, 1.5, b);
+
+		assertTrue(isSimilar(a,b));
+	}
+
 	private boolean isSimilar(BrightFeature a, BrightFeature b ) {
 		if( a.white != b.white)
 			return false;
@@ -25,12 +25,16 @@ import boofcv.alg.feature.describe.DescribePointSift;
 import boofcv.alg.feature.detect.interest.SiftScaleSpace;
 import boofcv.alg.feature.orientation.OrientationHistogramSift;
 import boofcv.alg.misc.GImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.factory.feature.detect.extract.FactoryFeatureExtractor;
 import boofcv.struct.feature.BrightFeature;
 import boofcv.struct.feature.ScalePoint;
 import boofcv.struct.image.GrayF32;
+import boofcv.testing.BoofTesting;
 import org.ddogleg.struct.FastQueue;
 import org.ddogleg.struct.GrowQueue_F64;
+import org.junit.After;
+import org.junit.Before;
 import org.junit.Test;
 
 import java.util.Random;
@@ -47,6 +51,23 @@ public class TestCompleteSift {
 
 	Random rand = new Random(234);
 
+	int previousThreads;
+
+	@Before
+	public void forceThreads() {
+		previousThreads = BoofTesting.forceTestThreads();
+	}
+
+	@After
+	public void restoreThreads() {
+		BoofConcurrency.setMaxThreads(previousThreads);
+	}
+
+	@After
+	public void after() {
+		BoofConcurrency.USE_CONCURRENT = true;
+	}
+
 	/**
 	 * Doesn't do much more than see if it blows up and the expected size of objects is returned
 	 */
@@ -70,6 +91,43 @@ public class TestCompleteSift {
 		assertEquals(orientations.size,descriptions.size);
 	}
 
+	/**
+	 * The concurrent implementation should produce identical results in the same order
+	 */
+	@Test
+	public void compareConcurrent() {
+		GrayF32 image = new GrayF32(300,290);
+		GImageMiscOps.fillUniform(image,rand,0,200);
+
+		BoofConcurrency.USE_CONCURRENT = false;
+		CompleteSift expected = createAlg();
+		BoofConcurrency.USE_CONCURRENT = true;
+		CompleteSift found = createAlg();
+		assertTrue(found.isConcurrent());
+
+		expected.process(image);
+		found.process(image);
+
+		assertTrue(expected.getOrientations().size>10);
+		assertEquals(expected.getOrientations().size,found.getOrientations().size);
+		for (int i = 0; i < expected.getOrientations().size; i++) {
+			ScalePoint a = expected.getLocations().get(i);
+			ScalePoint b = found.getLocations().get(i);
+			assertEquals(a.x,b.x,0);
+			assertEquals(a.y,b.y,0);
+			assertEquals(a.scale,b.scale,0);
+			assertEquals(a.white,b.white);
+			assertEquals(expected.getOrientations().get(i),found.getOrientations().get(i),0);
+
+			BrightFeature descA = expected.getDescriptions().get(i);
+			BrightFeature descB = found.getDescriptions().get(i);
+			assertEquals(descA.white,descB.white);
+			for (int j = 0; j < descA.size(); j++) {
+				assertEquals(descA.value[j],descB.value[j],0);
+			}
+		}
+	}
+
 	private CompleteSift createAlg() {
 
 		SiftScaleSpace ss = new SiftScaleSpace(-1,4,3,1.6);
@@ -151,6 +151,50 @@ public class TestGradientToEdgeFeatures {
 		assertEquals(expected,direction.get(1,2),1e-4);
 	}
 
+	@Test
+	public void intensityAbsDirection4()  {
+
+		int total = BoofTesting.findMethodThenCall(this,"intensityAbsDirection4",
+				GradientToEdgeFeatures.class,"intensityAbsDirection4");
+
+		assertEquals(numExpected,total);
+	}
+
+	public void intensityAbsDirection4( Method m )
+	{
+		Class params[] = m.getParameterTypes();
+
+		ImageGray derivX = GeneralizedImageOps.createSingleBand(params[0], width, height);
+		ImageGray derivY = GeneralizedImageOps.createSingleBand(params[0], width, height);
+
+		GImageMiscOps.fillUniform(derivX, rand, -20, 20);
+		GImageMiscOps.fillUniform(derivY, rand, -20, 20);
+		// include the special case where the x-derivative is zero
+		GImageMiscOps.fillRectangle(derivX, 0, 2, 3, 4, 5);
+
+		GrayS8 direction = new GrayS8(width,height);
+
+		BoofTesting.checkSubImage(this,"intensityAbsDirection4",true,m,derivX,derivY,intensity,direction);
+	}
+
+	public void intensityAbsDirection4(Method m , ImageGray derivX , ImageGray derivY ,
+									   GrayF32 intensity , GrayS8 direction )
+			throws InvocationTargetException, IllegalAccessException {
+		m.invoke(null,derivX,derivY,intensity,direction);
+
+		// compare against the results from the individual operations
+		GrayF32 expectedIntensity = new GrayF32(width,height);
+		GrayF32 angle = new GrayF32(width,height);
+		GrayS8 expectedDirection = new GrayS8(width,height);
+
+		GGradientToEdgeFeatures.intensityAbs(derivX,derivY,expectedIntensity);
+		GGradientToEdgeFeatures.direction(derivX,derivY,angle);
+		GradientToEdgeFeatures.discretizeDirection4(angle,expectedDirection);
+
+		BoofTesting.assertEquals(expectedIntensity,intensity,1e-4);
+		BoofTesting.assertEquals(expectedDirection,direction,0);
+	}
+
 	@Test
 	public void discretizeDirection4() {
 		GrayF32 angle = new GrayF32(5,5);
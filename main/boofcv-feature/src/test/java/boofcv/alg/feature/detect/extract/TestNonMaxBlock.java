@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.feature.detect.extract;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.QueueCorner;
+import boofcv.struct.image.GrayF32;
+import boofcv.testing.BoofTesting;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestNonMaxBlock {
+
+	Random rand = new Random(234);
+
+	int previousThreads;
+
+	@Before
+	public void forceThreads() {
+		previousThreads = BoofTesting.forceTestThreads();
+	}
+
+	@After
+	public void restoreThreads() {
+		BoofConcurrency.setMaxThreads(previousThreads);
+	}
+
+	/**
+	 * Searching with multiple threads should find the same features in the same order
+	 */
+	@Test
+	public void compareConcurrent() {
+		GrayF32 intensity = new GrayF32(83,67);
+		ImageMiscOps.fillUniform(intensity,rand,-100,100);
+
+		NonMaxBlock[] algs = new NonMaxBlock[]{
+				new NonMaxBlockStrict.Max(), new NonMaxBlockStrict.Min(), new NonMaxBlockStrict.MinMax(),
+				new NonMaxBlockRelaxed.Max(), new NonMaxBlockRelaxed.Min(), new NonMaxBlockRelaxed.MinMax()};
+
+		for( NonMaxBlock alg : algs ) {
+			alg.setThresholdMin(-20);
+			alg.setThresholdMax(20);
+			for( int radius = 1; radius <= 4; radius++ ) {
+				for( int border = 0; border <= 2; border++ ) {
+					alg.setSearchRadius(radius);
+					alg.setBorder(border);
+
+					QueueCorner expectedMin = new QueueCorner();
+					QueueCorner expectedMax = new QueueCorner();
+					alg.setConcurrent(false);
+					alg.process(intensity,expectedMin,expectedMax);
+
+					QueueCorner foundMin = new QueueCorner();
+					QueueCorner foundMax = new QueueCorner();
+					alg.setConcurrent(true);
+					alg.process(intensity,foundMin,foundMax);
+
+					assertTrue(expectedMin.size + expectedMax.size > 0);
+					compare(expectedMin,foundMin);
+					compare(expectedMax,foundMax);
+				}
+			}
+		}
+	}
+
+	/**
+	 * The copy should be the same type with the same settings
+	 */
+	@Test
+	public void copy() {
+		NonMaxBlock[] algs = new NonMaxBlock[]{
+				new NonMaxBlockStrict.Max(), new NonMaxBlockStrict.Min(), new NonMaxBlockStrict.MinMax(),
+				new NonMaxBlockRelaxed.Max(), new NonMaxBlockRelaxed.Min(), new NonMaxBlockRelaxed.MinMax()};
+
+		for( NonMaxBlock alg : algs ) {
+			alg.setSearchRadius(3);
+			alg.setBorder(2);
+			alg.setThresholdMin(-5);
+			alg.setThresholdMax(6);
+			alg.setConcurrent(false);
+
+			NonMaxBlock found = alg.copy();
+			assertTrue(found != alg);
+			assertEquals(alg.getClass(),found.getClass());
+			assertEquals(3,found.getSearchRadius());
+			assertEquals(2,found.getBorder());
+			assertEquals(-5,found.getThresholdMin(),0);
+			assertEquals(6,found.getThresholdMax(),0);
+			assertEquals(false,found.isConcurrent());
+			assertEquals(alg.detectsMinimum,found.detectsMinimum);
+			assertEquals(alg.detectsMaximum,found.detectsMaximum);
+		}
+	}
+
+	private void compare( QueueCorner expected , QueueCorner found ) {
+		assertEquals(expected.size,found.size);
+		for (int i = 0; i < expected.size; i++) {
+			assertEquals(expected.get(i).x,found.get(i).x);
+			assertEquals(expected.get(i).y,found.get(i).y);
+		}
+	}
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.feature.detect.intensity.impl;
+
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.alg.transform.ii.IntegralImageOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayS32;
+import boofcv.testing.BoofTesting;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Random;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestImplIntegralImageFeatureIntensity_MT {
+
+	Random rand = new Random(234);
+	int width = 60;
+	int height = 70;
+
+	int previousThreads;
+
+	@Before
+	public void forceThreads() {
+		previousThreads = BoofTesting.forceTestThreads();
+	}
+
+	@After
+	public void restoreThreads() {
+		BoofConcurrency.setMaxThreads(previousThreads);
+	}
+
+	@Test
+	public void hessian_F32() {
+		GrayF32 original = new GrayF32(width,height);
+		GrayF32 integral = new GrayF32(width,height);
+
+		GImageMiscOps.fillUniform(original, rand, 0, 50);
+		IntegralImageOps.transform(original,integral);
+
+		for( int size : new int[]{9,15} ) {
+			for( int skip = 1; skip <= 4; skip++ ) {
+				GrayF32 expected = new GrayF32(width/skip,height/skip);
+				GrayF32 naive = new GrayF32(width/skip,height/skip);
+				GrayF32 found = new GrayF32(width/skip,height/skip);
+
+				ImplIntegralImageFeatureIntensity.hessianBorder(integral,skip,size,expected);
+				ImplIntegralImageFeatureIntensity.hessianInner(integral,skip,size,expected);
+				ImplIntegralImageFeatureIntensity.hessianNaive(integral,skip,size,naive);
+				ImplIntegralImageFeatureIntensity_MT.hessian(integral,skip,size,found);
+
+				BoofTesting.assertEquals(expected,found, 0);
+				BoofTesting.assertEquals(naive,found, 1e-4f);
+			}
+		}
+	}
+
+	@Test
+	public void hessian_S32() {
+		GrayS32 original = new GrayS32(width,height);
+		GrayS32 integral = new GrayS32(width,height);
+
+		GImageMiscOps.fillUniform(original, rand, 0, 50);
+		IntegralImageOps.transform(original,integral);
+
+		for( int size : new int[]{9,15} ) {
+			for( int skip = 1; skip <= 4; skip++ ) {
+				GrayF32 expected = new GrayF32(width/skip,height/skip);
+				GrayF32 naive = new GrayF32(width/skip,height/skip);
+				GrayF32 found = new GrayF32(width/skip,height/skip);
+
+				ImplIntegralImageFeatureIntensity.hessianBorder(integral,skip,size,expected);
+				ImplIntegralImageFeatureIntensity.hessianInner(integral,skip,size,expected);
+				ImplIntegralImageFeatureIntensity.hessianNaive(integral,skip,size,naive);
+				ImplIntegralImageFeatureIntensity_MT.hessian(integral,skip,size,found);
+
+				BoofTesting.assertEquals(expected,found, 0);
+				BoofTesting.assertEquals(naive,found, 1e-4f);
+			}
+		}
+	}
+}
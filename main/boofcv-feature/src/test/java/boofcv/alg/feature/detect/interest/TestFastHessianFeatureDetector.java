@@ -20,16 +20,40 @@ package boofcv.alg.feature.detect.interest;
 
 import boofcv.abst.feature.detect.extract.ConfigExtract;
 import boofcv.abst.feature.detect.extract.NonMaxSuppression;
+import boofcv.alg.misc.ImageMiscOps;
 import boofcv.alg.transform.ii.IntegralImageOps;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.factory.feature.detect.extract.FactoryFeatureExtractor;
+import boofcv.struct.feature.ScalePoint;
 import boofcv.struct.image.GrayF32;
+import boofcv.testing.BoofTesting;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
 
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 /**
  * @author Peter Abeles
  */
 public class TestFastHessianFeatureDetector extends GenericFeatureDetectorTests {
 
+	int previousThreads;
+
+	@Before
+	public void forceThreads() {
+		previousThreads = BoofTesting.forceTestThreads();
+	}
+
+	@After
+	public void restoreThreads() {
+		BoofConcurrency.setMaxThreads(previousThreads);
+	}
+
 	public TestFastHessianFeatureDetector() {
 		this.scaleTolerance = 0.3;
 	}
@@ -49,4 +73,35 @@ public class TestFastHessianFeatureDetector extends GenericFeatureDetectorTests
 
 		return alg.getFoundPoints().size();
 	}
+
+	/**
+	 * The concurrent implementation should produce identical results to the single threaded one
+	 */
+	@Test
+	public void compareConcurrent() {
+		GrayF32 input = new GrayF32(150,120);
+		ImageMiscOps.fillUniform(input,new Random(234),0,200);
+		GrayF32 integral = IntegralImageOps.transform(input,null);
+
+		FastHessianFeatureDetector<GrayF32> serial = (FastHessianFeatureDetector<GrayF32>)createDetector(200);
+		FastHessianFeatureDetector<GrayF32> concurrent = (FastHessianFeatureDetector<GrayF32>)createDetector(200);
+		serial.setConcurrent(false);
+		concurrent.setConcurrent(true);
+
+		serial.detect(integral);
+		concurrent.detect(integral);
+
+		List<ScalePoint> expected = serial.getFoundPoints();
+		List<ScalePoint> found = concurrent.getFoundPoints();
+		assertTrue(expected.size() > 0);
+		assertEquals(expected.size(),found.size());
+		for( int i = 0; i < expected.size(); i++ ) {
+			ScalePoint e = expected.get(i);
+			ScalePoint f = found.get(i);
+			assertEquals(e.x,f.x,0);
+			assertEquals(e.y,f.y,0);
+			assertEquals(e.scale,f.scale,0);
+			assertEquals(e.white,f.white);
+		}
+	}
 }
@@ -20,7 +20,11 @@ package boofcv.alg.feature.detect.interest;
 
 import boofcv.alg.filter.blur.GBlurImageOps;
 import boofcv.alg.misc.GImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.struct.image.GrayF32;
+import boofcv.testing.BoofTesting;
+import org.junit.After;
+import org.junit.Before;
 import org.junit.Test;
 
 import java.util.Random;
@@ -34,6 +38,18 @@ public class TestSiftScaleSpace {
 
 	Random rand = new Random(234);
 
+	int previousThreads;
+
+	@Before
+	public void forceThreads() {
+		previousThreads = BoofTesting.forceTestThreads();
+	}
+
+	@After
+	public void restoreThreads() {
+		BoofConcurrency.setMaxThreads(previousThreads);
+	}
+
 	/**
 	 * Checks to see if the first image in each octave has the expected amount of image blur
 	 */
@@ -67,6 +83,32 @@ public class TestSiftScaleSpace {
 		}
 	}
 
+	/**
+	 * DoG images computed using multiple threads should be identical
+	 */
+	@Test
+	public void compareConcurrent() {
+		GrayF32 original = new GrayF32(300,340);
+		GImageMiscOps.fillUniform(original,rand,0,100);
+
+		SiftScaleSpace expected = new SiftScaleSpace(-1,5,3,1.6);
+		SiftScaleSpace found = new SiftScaleSpace(-1,5,3,1.6);
+		expected.setConcurrent(false);
+		found.setConcurrent(true);
+
+		expected.initialize(original);
+		found.initialize(original);
+
+		boolean more;
+		do {
+			for (int i = 0; i < expected.getNumScales()+2; i++) {
+				BoofTesting.assertEquals(expected.getDifferenceOfGaussian(i),found.getDifferenceOfGaussian(i),0);
+			}
+			more = expected.computeNextOctave();
+			assertEquals(more,found.computeNextOctave());
+		} while( more );
+	}
+
 	/**
 	 * Test the blur factor at each scale between the octaves
 	 */
@@ -24,6 +24,7 @@ import boofcv.core.image.GeneralizedImageOps;
 import boofcv.struct.image.ImageGray;
 import georegression.metric.UtilAngle;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
 
@@ -65,6 +66,28 @@ public class GenericOrientationIntegralTests<T extends ImageGray<T>> {
 		setScale();
 		checkSubImages();
 		checkBorderExplode();
+		checkCopy();
+	}
+
+	/**
+	 * A copy should be a different instance which produces the same results
+	 */
+	public void checkCopy() {
+		createOrientedImage(0.5);
+
+		OrientationIntegral<T> copy = alg.copy();
+		assertTrue(copy != alg);
+
+		alg.setImage(ii);
+		alg.setObjectRadius(8);
+		copy.setImage(ii);
+		copy.setObjectRadius(8);
+
+		for( int y = 0; y < height; y += 5 ) {
+			for( int x = 0; x < width; x += 5 ) {
+				assertEquals(alg.compute(x,y),copy.compute(x,y),1e-8);
+			}
+		}
 	}
 
 	/**
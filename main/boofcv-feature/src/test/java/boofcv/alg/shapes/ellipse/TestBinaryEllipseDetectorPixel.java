@@ -30,6 +30,7 @@ import georegression.struct.point.Point2D_I32;
 import georegression.struct.shapes.EllipseRotated_F32;
 import georegression.struct.shapes.EllipseRotated_F64;
 import org.ddogleg.struct.FastQueue;
+import org.ddogleg.struct.GrowQueue_I32;
 import org.ejml.UtilEjml;
 import org.junit.Test;
 
@@ -73,6 +74,17 @@ public class TestBinaryEllipseDetectorPixel {
 		for( BinaryEllipseDetectorPixel.Found f : found ) {
 			assertTrue( f.contour.size() > 10);
 			foundEllipses.add(f.ellipse);
+
+			// each contour should belong to its own ellipse
+			double meanX = 0, meanY = 0;
+			for( Point2D_I32 p : f.contour ) {
+				meanX += p.x;
+				meanY += p.y;
+			}
+			meanX /= f.contour.size();
+			meanY /= f.contour.size();
+			assertEquals(f.ellipse.center.x, meanX, 2.0);
+			assertEquals(f.ellipse.center.y, meanY, 2.0);
 		}
 
 		checkEquals_F64(expected,foundEllipses,1.0,0.1);
@@ -83,22 +95,23 @@ public class TestBinaryEllipseDetectorPixel {
 	 */
 	@Test
 	public void undistortContour() {
-		List<Point2D_I32> input = new ArrayList<>();
+		GrowQueue_I32 inputX = new GrowQueue_I32();
+		GrowQueue_I32 inputY = new GrowQueue_I32();
 		FastQueue<Point2D_F64> output = new FastQueue<>(Point2D_F64.class, true);
 
 		for (int i = 0; i < 10; i++) {
-			input.add( new Point2D_I32(i,i));
+			inputX.add(i);
+			inputY.add(i);
 		}
 
 		BinaryEllipseDetectorPixel alg = new BinaryEllipseDetectorPixel();
 
-		alg.undistortContour(input,output);
+		alg.undistortContour(inputX,inputY,output);
 
-		assertEquals(input.size(),output.size);
-		for (int i = 0; i < input.size(); i++) {
-			Point2D_I32 p = input.get(i);
-			assertEquals(p.x,output.get(i).x,1e-8);
-			assertEquals(p.y,output.get(i).y,1e-8);
+		assertEquals(inputX.size(),output.size);
+		for (int i = 0; i < inputX.size(); i++) {
+			assertEquals(inputX.get(i),output.get(i).x,1e-8);
+			assertEquals(inputY.get(i),output.get(i).y,1e-8);
 		}
 	}
 
@@ -109,23 +122,24 @@ public class TestBinaryEllipseDetectorPixel {
 	public void undistortContour_WithDistortion() {
 
 
-		List<Point2D_I32> input = new ArrayList<>();
+		GrowQueue_I32 inputX = new GrowQueue_I32();
+		GrowQueue_I32 inputY = new GrowQueue_I32();
 		FastQueue<Point2D_F64> output = new FastQueue<>(Point2D_F64.class, true);
 
 		for (int i = 0; i < 10; i++) {
-			input.add( new Point2D_I32(i,i));
+			inputX.add(i);
+			inputY.add(i);
 		}
 
 		BinaryEllipseDetectorPixel alg = new BinaryEllipseDetectorPixel();
 		alg.setLensDistortion(new PixelTransformAffine_F32(new Affine2D_F32(1,0,0,1,10.0f,0)));
 
-		alg.undistortContour(input,output);
+		alg.undistortContour(inputX,inputY,output);
 
-		assertEquals(input.size(),output.size);
-		for (int i = 0; i < input.size(); i++) {
-			Point2D_I32 p = input.get(i);
-			assertEquals(p.x+10,output.get(i).x,1e-8);
-			assertEquals(p.y,output.get(i).y,1e-8);
+		assertEquals(inputX.size(),output.size);
+		for (int i = 0; i < inputX.size(); i++) {
+			assertEquals(inputX.get(i)+10,output.get(i).x,1e-8);
+			assertEquals(inputY.get(i),output.get(i).y,1e-8);
 		}
 	}
 
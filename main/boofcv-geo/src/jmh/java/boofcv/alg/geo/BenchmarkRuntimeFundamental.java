@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.geo;
+
+import boofcv.abst.geo.Estimate1ofEpipolar;
+import boofcv.factory.geo.EnumEssential;
+import boofcv.factory.geo.EnumFundamental;
+import boofcv.factory.geo.FactoryMultiView;
+import boofcv.struct.geo.AssociatedPair;
+import org.ejml.data.DMatrixRMaj;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runtime of algorithms which estimate the fundamental, essential, and homography matrices
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value = 1)
+public class BenchmarkRuntimeFundamental {
+
+	static final int NUM_POINTS = 500;
+
+	// minimal sets include the extra points used to resolve ambiguity
+	List<AssociatedPair> pairs6;
+	List<AssociatedPair> pairs8;
+	List<AssociatedPair> pairsAll;
+	List<AssociatedPair> pixelsAll;
+
+	Estimate1ofEpipolar fundamental8 = FactoryMultiView.computeFundamental_1(EnumFundamental.LINEAR_8, 0);
+	Estimate1ofEpipolar fundamental7 = FactoryMultiView.computeFundamental_1(EnumFundamental.LINEAR_7, 1);
+	Estimate1ofEpipolar essential8 = FactoryMultiView.computeEssential_1(EnumEssential.LINEAR_8, 0);
+	Estimate1ofEpipolar essential7 = FactoryMultiView.computeEssential_1(EnumEssential.LINEAR_7, 1);
+	Estimate1ofEpipolar essential5 = FactoryMultiView.computeEssential_1(EnumEssential.NISTER_5, 1);
+	Estimate1ofEpipolar homography = FactoryMultiView.computeHomography(true);
+
+	DMatrixRMaj found = new DMatrixRMaj(3,3);
+
+	@Setup
+	public void setup() {
+		ArtificialStereoScene scene = new ArtificialStereoScene();
+		scene.init(NUM_POINTS, false, false);
+		pairsAll = scene.pairs;
+		pairs6 = pairsAll.subList(0,6);
+		pairs8 = pairsAll.subList(0,8);
+
+		scene.init(NUM_POINTS, true, true);
+		pixelsAll = scene.pairs;
+	}
+
+	@Benchmark
+	public void fundamentalLinear8_min() {
+		fundamental8.process(pairs8, found);
+	}
+
+	@Benchmark
+	public void fundamentalLinear8_all() {
+		fundamental8.process(pairsAll, found);
+	}
+
+	@Benchmark
+	public void fundamentalLinear7_min() {
+		fundamental7.process(pairs8, found);
+	}
+
+	@Benchmark
+	public void essentialLinear8_min() {
+		essential8.process(pairs8, found);
+	}
+
+	@Benchmark
+	public void essentialLinear7_min() {
+		essential7.process(pairs8, found);
+	}
+
+	@Benchmark
+	public void essentialNister5_min() {
+		essential5.process(pairs6, found);
+	}
+
+	@Benchmark
+	public void homography_all() {
+		homography.process(pixelsAll, found);
+	}
+}
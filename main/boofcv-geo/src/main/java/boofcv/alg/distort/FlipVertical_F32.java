@@ -42,4 +42,9 @@ public class FlipVertical_F32 implements Point2Transform2_F32 {
 		out.x = x;
 		out.y = height - y;
 	}
+
+	@Override
+	public FlipVertical_F32 copyConcurrent() {
+		return this;
+	}
 }
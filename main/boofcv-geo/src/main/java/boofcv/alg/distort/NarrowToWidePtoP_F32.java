@@ -39,6 +39,10 @@ public class NarrowToWidePtoP_F32 implements Point2Transform2_F32 {
 	Point2Transform2_F32 narrowToNorm;
 	Point3Transform2_F32 unitToWide;
 
+	// lens models used to create the transforms
+	LensDistortionNarrowFOV narrow;
+	LensDistortionWideFOV wide;
+
 	// normalized pixel coordinate storage
 	Point2D_F32 norm = new Point2D_F32();
 	// unit circle coordinate storage
@@ -52,6 +56,8 @@ public class NarrowToWidePtoP_F32 implements Point2Transform2_F32 {
 	}
 
 	public void configure(LensDistortionNarrowFOV narrow, LensDistortionWideFOV wide) {
+		this.narrow = narrow;
+		this.wide = wide;
 		narrowToNorm = narrow.undistort_F32(true,false);
 		unitToWide = wide.distortStoP_F32();
 	}
@@ -88,4 +94,13 @@ public class NarrowToWidePtoP_F32 implements Point2Transform2_F32 {
 		unitToWide.compute(unit.x,unit.y,unit.z,out);
 	}
 
+	/**
+	 * Creates a new instance with its own transforms from the lens models and the same rotation
+	 */
+	@Override
+	public NarrowToWidePtoP_F32 copyConcurrent() {
+		NarrowToWidePtoP_F32 out = new NarrowToWidePtoP_F32(narrow, wide);
+		out.rotateWideToNarrow.set(rotateWideToNarrow);
+		return out;
+	}
 }
@@ -53,4 +53,11 @@ public class Transform2ThenPixel_F32 implements Point2Transform2_F32 {
 		out.x = fx*x + skew*y + cx;
 		out.y = fy*y + cy;
 	}
+
+	@Override
+	public Transform2ThenPixel_F32 copyConcurrent() {
+		Transform2ThenPixel_F32 out = new Transform2ThenPixel_F32(first.copyConcurrent());
+		out.set(fx, fy, skew, cx, cy);
+		return out;
+	}
 }
@@ -46,4 +46,9 @@ public class PinholeNtoP_F32 implements Point2Transform2_F32 {
 		out.x = fx * x + skew * y + cx;
 		out.y = fy * y + cy;
 	}
+
+	@Override
+	public PinholeNtoP_F32 copyConcurrent() {
+		return this;
+	}
 }
@@ -49,4 +49,9 @@ public class PinholePtoN_F32 implements Point2Transform2_F32 {
 		out.x = a11*x + a12*y + a13;
 		out.y = a22*y + a23;
 	}
+
+	@Override
+	public PinholePtoN_F32 copyConcurrent() {
+		return this;
+	}
 }
@@ -72,4 +72,9 @@ public class AddRadialNtoN_F32 implements Point2Transform2_F32 {
 		out.x += 2*t1*x*y + t2*(r2 + 2*x*x);
 		out.y += t1*(r2 + 2*y*y) + 2*t2*x*y;
 	}
+
+	@Override
+	public AddRadialNtoN_F32 copyConcurrent() {
+		return this;
+	}
 }
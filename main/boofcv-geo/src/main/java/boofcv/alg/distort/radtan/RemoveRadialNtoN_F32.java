@@ -107,4 +107,9 @@ public class RemoveRadialNtoN_F32 implements Point2Transform2_F32 {
 		}
 		out.set(x,y);
 	}
-}
\ No newline at end of file
+
+	@Override
+	public RemoveRadialNtoN_F32 copyConcurrent() {
+		return this;
+	}
+}
@@ -60,4 +60,9 @@ public class CylinderToEquirectangular_F32 extends EquirectangularDistortBase_F3
 			}
 		}
 	}
+
+	@Override
+	public CylinderToEquirectangular_F32 copyConcurrent() {
+		return copyInto(new CylinderToEquirectangular_F32());
+	}
 }
@@ -119,6 +119,18 @@ public abstract class EquirectangularDistortBase_F32 extends PixelTransform2_F32
 		distY = out.y;
 	}
 
+	/**
+	 * Copies the configuration into a new instance for use with {@link #copyConcurrent()}. The precomputed
+	 * pointing vectors are only read so they are shared.
+	 */
+	protected <T extends EquirectangularDistortBase_F32> T copyInto( T out ) {
+		out.tools.configure(tools.width, tools.height);
+		out.outWidth = outWidth;
+		out.R.set(R);
+		out.vectors = vectors;
+		return out;
+	}
+
 	public EquirectangularTools_F32 getTools() {
 		return tools;
 	}
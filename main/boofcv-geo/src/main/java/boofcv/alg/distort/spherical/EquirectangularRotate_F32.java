@@ -45,4 +45,9 @@ public class EquirectangularRotate_F32 extends EquirectangularDistortBase_F32 {
 		}
 
 	}
+
+	@Override
+	public EquirectangularRotate_F32 copyConcurrent() {
+		return copyInto(new EquirectangularRotate_F32());
+	}
 }
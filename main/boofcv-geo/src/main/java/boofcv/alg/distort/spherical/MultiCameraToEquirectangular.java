@@ -106,9 +106,8 @@ public class MultiCameraToEquirectangular<T extends ImageBase<T>> {
 	 */
 	public void addCamera(Se3_F32 cameraToCommon , LensDistortionWideFOV factory , int width , int height ) {
 		Point2Transform3_F32 p2s = factory.undistortPtoS_F32();
-		Point3Transform2_F32 s2p = factory.distortStoP_F32();
 
-		EquiToCamera equiToCamera = new EquiToCamera(cameraToCommon.getR(),s2p);
+		EquiToCamera equiToCamera = new EquiToCamera(cameraToCommon.getR(),factory,tools);
 
 		GrayF32 equiMask = new GrayF32(equiWidth, equHeight);
 
@@ -157,9 +156,8 @@ public class MultiCameraToEquirectangular<T extends ImageBase<T>> {
 	public void addCamera(Se3_F32 cameraToCommon , LensDistortionWideFOV factory , GrayU8 camMask ) {
 
 		Point2Transform3_F32 p2s = factory.undistortPtoS_F32();
-		Point3Transform2_F32 s2p = factory.distortStoP_F32();
 
-		EquiToCamera equiToCamera = new EquiToCamera(cameraToCommon.getR(),s2p);
+		EquiToCamera equiToCamera = new EquiToCamera(cameraToCommon.getR(),factory,tools);
 
 		GrayF32 equiMask = new GrayF32(equiWidth, equHeight);
 
@@ -277,17 +275,21 @@ public class MultiCameraToEquirectangular<T extends ImageBase<T>> {
 	/**
 	 * Transform from equirectangular image to camera image pixels
 	 */
-	private class EquiToCamera implements Point2Transform2_F32 {
+	class EquiToCamera implements Point2Transform2_F32 {
 
 		FMatrixRMaj cameraToCommon;
+		LensDistortionWideFOV factory;
 		Point3Transform2_F32 s2p;
+		EquirectangularTools_F32 tools;
 
 		Point3D_F32 unitCam = new Point3D_F32();
 		Point3D_F32 unitCommon = new Point3D_F32();
 
-		EquiToCamera(FMatrixRMaj cameraToCommon, Point3Transform2_F32 s2p) {
+		EquiToCamera(FMatrixRMaj cameraToCommon, LensDistortionWideFOV factory, EquirectangularTools_F32 tools ) {
 			this.cameraToCommon = cameraToCommon;
-			this.s2p = s2p;
+			this.factory = factory;
+			this.s2p = factory.distortStoP_F32();
+			this.tools = tools;
 		}
 
 		@Override
@@ -301,5 +303,16 @@ public class MultiCameraToEquirectangular<T extends ImageBase<T>> {
 			// input camera image pixels
 			s2p.compute(unitCam.x, unitCam.y, unitCam.z , out);
 		}
+
+		/**
+		 * The rotation matrix is only read and is shared.  The lens distortion and equirectangular tools have
+		 * internal work space so new instances are created.
+		 */
+		@Override
+		public Point2Transform2_F32 copyConcurrent() {
+			EquirectangularTools_F32 toolsCopy = new EquirectangularTools_F32();
+			toolsCopy.configure(equiWidth, equHeight);
+			return new EquiToCamera(cameraToCommon, factory, toolsCopy);
+		}
 	}
 }
@@ -66,4 +66,11 @@ public class PinholeRadialToEquirectangular_F32 extends EquirectangularDistortBa
 	public CameraPinholeRadial getPinhole() {
 		return pinhole;
 	}
+
+	@Override
+	public PinholeRadialToEquirectangular_F32 copyConcurrent() {
+		PinholeRadialToEquirectangular_F32 out = copyInto(new PinholeRadialToEquirectangular_F32());
+		out.pinhole = pinhole;
+		return out;
+	}
 }
@@ -61,4 +61,11 @@ public class PinholeToEquirectangular_F32 extends EquirectangularDistortBase_F32
 			}
 		}
 	}
+
+	@Override
+	public PinholeToEquirectangular_F32 copyConcurrent() {
+		PinholeToEquirectangular_F32 out = copyInto(new PinholeToEquirectangular_F32());
+		out.pinhole = pinhole;
+		return out;
+	}
 }
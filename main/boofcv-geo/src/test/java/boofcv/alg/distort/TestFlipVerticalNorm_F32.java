@@ -48,5 +48,10 @@ public class TestFlipVerticalNorm_F32 {
 			out.x = x;
 			out.y = y;
 		}
+
+		@Override
+		public Point2Transform2_F32 copyConcurrent() {
+			return this;
+		}
 	}
 }
@@ -68,5 +68,10 @@ public class TestTransformThenPixel_F32 {
 			out.x = 0.1f;
 			out.y = 0.2f;
 		}
+
+		@Override
+		public Point2Transform2_F32 copyConcurrent() {
+			return this;
+		}
 	}
 }
\ No newline at end of file
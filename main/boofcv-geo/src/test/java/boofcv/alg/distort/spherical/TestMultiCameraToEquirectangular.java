@@ -20,6 +20,7 @@ package boofcv.alg.distort.spherical;
 
 import boofcv.alg.distort.ImageDistort;
 import boofcv.alg.distort.LensDistortionWideFOV;
+import boofcv.alg.distort.PointToPixelTransform_F32;
 import boofcv.alg.interpolate.InterpolationType;
 import boofcv.alg.misc.ImageMiscOps;
 import boofcv.core.image.border.BorderType;
@@ -43,7 +44,7 @@ import org.junit.Test;
 import java.util.ArrayList;
 import java.util.List;
 
-import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.*;
 
 /**
  * Unit tests below handle the following:
@@ -160,6 +161,39 @@ public class TestMultiCameraToEquirectangular {
 		assertTrue(found <= 0.05 );
 	}
 
+	/**
+	 * A copy should produce the same results but not share any work space
+	 */
+	@Test
+	public void EquiToCamera_copyConcurrent() {
+		MultiCameraToEquirectangular<GrayF32> alg = createAlgorithm();
+
+		Se3_F32 cameraToCommon = new Se3_F32();
+		ConvertRotation3D_F32.eulerToMatrix(EulerType.XYZ, 0.1f, -0.2f, 0.05f, cameraToCommon.R);
+		EquirectangularTools_F32 tools = new EquirectangularTools_F32();
+		tools.configure(equiWidth, equiHeight);
+
+		MultiCameraToEquirectangular.EquiToCamera original =
+				alg.new EquiToCamera(cameraToCommon.R, new HelperDistortion(), tools);
+		PointToPixelTransform_F32 pixelOriginal = new PointToPixelTransform_F32(original);
+		PointToPixelTransform_F32 pixelCopy = pixelOriginal.copyConcurrent();
+
+		MultiCameraToEquirectangular.EquiToCamera copy = (MultiCameraToEquirectangular.EquiToCamera)pixelCopy.getTransform();
+		assertNotSame(original, copy);
+		assertNotSame(original.s2p, copy.s2p);
+		assertNotSame(original.tools, copy.tools);
+		assertSame(original.cameraToCommon, copy.cameraToCommon);
+
+		for (int y = 0; y < equiHeight; y += 7) {
+			for (int x = 0; x < equiWidth; x += 7) {
+				pixelOriginal.compute(x, y);
+				pixelCopy.compute(x, y);
+				assertEquals(pixelOriginal.distX, pixelCopy.distX, 0);
+				assertEquals(pixelOriginal.distY, pixelCopy.distY, 0);
+			}
+		}
+	}
+
 	private MultiCameraToEquirectangular<GrayF32> createAlgorithm() {
 		ImageType<GrayF32> imageType = ImageType.single(GrayF32.class);
 		ImageDistort<GrayF32,GrayF32> distort = FactoryDistort.
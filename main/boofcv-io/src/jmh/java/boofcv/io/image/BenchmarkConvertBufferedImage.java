@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.io.image;
+
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.struct.image.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.awt.image.BufferedImage;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for converting between {@link BufferedImage} and BoofCV images
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value = 1)
+public class BenchmarkConvertBufferedImage {
+
+	@Param({"500","2000"})
+	public int size;
+
+	BufferedImage imageGray;
+	BufferedImage imageRGB;
+	BufferedImage imageBGR;
+
+	GrayU8 gray_U8 = new GrayU8(1,1);
+	GrayF32 gray_F32 = new GrayF32(1,1);
+	InterleavedU8 interleaved_U8 = new InterleavedU8(1,1,3);
+	Planar<GrayF32> planar_F32 = new Planar<>(GrayF32.class,1,1,3);
+
+	@Setup
+	public void setup() {
+		Random rand = new Random(234);
+
+		imageGray = new BufferedImage(size,size,BufferedImage.TYPE_BYTE_GRAY);
+		imageRGB = new BufferedImage(size,size,BufferedImage.TYPE_INT_RGB);
+		imageBGR = new BufferedImage(size,size,BufferedImage.TYPE_3BYTE_BGR);
+
+		for (int y = 0; y < size; y++) {
+			for (int x = 0; x < size; x++) {
+				int rgb = rand.nextInt() & 0xFFFFFF;
+				imageGray.setRGB(x,y,rgb);
+				imageRGB.setRGB(x,y,rgb);
+				imageBGR.setRGB(x,y,rgb);
+			}
+		}
+
+		gray_U8.reshape(size,size);
+		gray_F32.reshape(size,size);
+		interleaved_U8.reshape(size,size);
+		planar_F32.reshape(size,size);
+
+		GImageMiscOps.fillUniform(gray_U8, rand, 0, 255);
+		GImageMiscOps.fillUniform(interleaved_U8, rand, 0, 255);
+	}
+
+	@Benchmark
+	public void from_Gray_U8() {
+		ConvertBufferedImage.convertFrom(imageGray, gray_U8);
+	}
+
+	@Benchmark
+	public void from_RGB_F32() {
+		ConvertBufferedImage.convertFrom(imageRGB, gray_F32);
+	}
+
+	@Benchmark
+	public void from_BGR_InterleavedU8() {
+		ConvertBufferedImage.convertFrom(imageBGR, interleaved_U8, true);
+	}
+
+	@Benchmark
+	public void from_RGB_PlanarF32() {
+		ConvertBufferedImage.convertFrom(imageRGB, planar_F32, true);
+	}
+
+	@Benchmark
+	public void to_Gray_U8() {
+		ConvertBufferedImage.convertTo(gray_U8, imageGray);
+	}
+
+	@Benchmark
+	public void to_BGR_InterleavedU8() {
+		ConvertBufferedImage.convertTo(interleaved_U8, imageBGR, true);
+	}
+}
@@ -55,7 +55,8 @@ public class GenerateConvolveNormalized extends CodeGeneratorBase {
 				"import boofcv.struct.convolve.*;\n" +
 				"import boofcv.struct.image.*;\n" +
 				"import boofcv.alg.filter.convolve.normalized.*;\n" +
-				"import boofcv.alg.filter.kernel.KernelMath;\n");
+				"import boofcv.alg.filter.kernel.KernelMath;\n" +
+				"import boofcv.concurrency.BoofConcurrency;\n");
 		out.println();
 		out.print("/**\n" +
 				" * <p>\n" +
@@ -133,7 +134,11 @@ public class GenerateConvolveNormalized extends CodeGeneratorBase {
 			out.print("\t\tif( "+insideTest+" ) {\n" +
 					"\t\t\tConvolveNormalizedNaive_"+suffice+"."+name+"(kernel, src, dst);\n" +
 					"\t\t} else {\n" +
-					"\t\t\tConvolveImageNoBorder."+name+"(kernel, src, dst, kernel.computeSum());\n" +
+					"\t\t\tif( BoofConcurrency.USE_CONCURRENT ) {\n" +
+					"\t\t\t\tConvolveImageNoBorder_MT."+name+"(kernel, src, dst, kernel.computeSum());\n" +
+					"\t\t\t} else {\n" +
+					"\t\t\t\tConvolveImageNoBorder."+name+"(kernel, src, dst, kernel.computeSum());\n" +
+					"\t\t\t}\n" +
 					"\t\t\tConvolveNormalized_JustBorder_"+suffice+"."+name+"(kernel, src, dst);\n" +
 					"\t\t}\n");
 		} else {
@@ -145,7 +150,11 @@ public class GenerateConvolveNormalized extends CodeGeneratorBase {
 					"\t\t\t\tKernelMath.normalizeSumToOne(k);\n" +
 					"\t\t\t\tkernel = k;\n" +
 					"\t\t\t}\n" +
-					"\t\t\tConvolveImageNoBorder."+name+"(kernel,src,dst);\n" +
+					"\t\t\tif( BoofConcurrency.USE_CONCURRENT ) {\n" +
+					"\t\t\t\tConvolveImageNoBorder_MT."+name+"(kernel,src,dst);\n" +
+					"\t\t\t} else {\n" +
+					"\t\t\t\tConvolveImageNoBorder."+name+"(kernel,src,dst);\n" +
+					"\t\t\t}\n" +
 					"\t\t\tConvolveNormalized_JustBorder_"+suffice+"."+name+"(kernel,src,dst);\n" +
 					"\t\t}\n");
 		}
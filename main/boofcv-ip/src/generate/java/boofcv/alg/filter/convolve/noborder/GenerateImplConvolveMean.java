@@ -62,6 +62,10 @@ public class GenerateImplConvolveMean {
 		out.print("package boofcv.alg.filter.convolve.noborder;\n" +
 				"\n" +
 				"import boofcv.struct.image.*;\n" +
+				"import org.ddogleg.struct.GrowQueue_F32;\n" +
+				"import org.ddogleg.struct.GrowQueue_F64;\n" +
+				"import org.ddogleg.struct.GrowQueue_I32;\n" +
+				"\n" +
 				"import javax.annotation.Generated;\n" +
 				"\n" +
 				"/**\n" +
@@ -126,14 +130,31 @@ public class GenerateImplConvolveMean {
 		String declareHalf = imageIn.isInteger() ? "\t\tfinal " + sumType + " halfDivisor = divisor/2;\n" : "";
 		String divide = imageIn.isInteger() ? "(total+halfDivisor)/divisor" : "total/divisor";
 
-		out.print("\tpublic static void vertical( " + imageIn.getSingleBandName() + " input , " + imageOut.getSingleBandName() + " output , int radius ) {\n" +
+		String queueType = imageIn.isInteger() ? "GrowQueue_I32" : (imageIn.getNumBits() == 32 ? "GrowQueue_F32" : "GrowQueue_F64");
+		String inName = imageIn.getSingleBandName();
+		String outName = imageOut.getSingleBandName();
+
+		out.print("\tpublic static void vertical( " + inName + " input , " + outName + " output , int radius ) {\n" +
+				"\t\tvertical(input, output, radius, null);\n" +
+				"\t}\n" +
+				"\n" +
+				"\t/**\n" +
+				"\t * Same as {@link #vertical(" + inName + ", " + outName + ", int)} but the running sum of each column is\n" +
+				"\t * saved in the provided storage, so that no memory is declared when called repeatedly.\n" +
+				"\t *\n" +
+				"\t * @param work (Optional) Storage for the running sums. Can be null.\n" +
+				"\t */\n" +
+				"\tpublic static void vertical( " + inName + " input , " + outName + " output , int radius , " + queueType + " work ) {\n" +
 				"\t\tfinal int kernelWidth = radius*2 + 1;\n" +
 				"\n" +
 				"\t\tfinal int backStep = kernelWidth*input.stride;\n" +
 				"\n" +
 				"\t\t"+sumType+" divisor = kernelWidth;\n" +
 				declareHalf +
-				"\t\t"+sumType+" totals[] = new "+sumType+"[ input.width ];\n" +
+				"\t\tif( work == null )\n" +
+				"\t\t\twork = new " + queueType + "(input.width);\n" +
+				"\t\twork.resize(input.width);\n" +
+				"\t\tfinal "+sumType+" totals[] = work.data;\n" +
 				"\n" +
 				"\t\tfor( int x = 0; x < input.width; x++ ) {\n" +
 				"\t\t\tint indexIn = input.startIndex + x;\n" +
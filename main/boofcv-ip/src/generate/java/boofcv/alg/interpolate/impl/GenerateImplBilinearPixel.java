@@ -64,6 +64,7 @@ public class GenerateImplBilinearPixel extends CodeGeneratorBase {
 	private void printPreamble() throws FileNotFoundException {
 		setOutputFile(className);
 		out.print("import boofcv.alg.interpolate.BilinearPixelS;\n" +
+				"import boofcv.alg.interpolate.InterpolatePixelS;\n" +
 				"import boofcv.struct.image.ImageType;\n" +
 				"import boofcv.struct.image." + image.getSingleBandName() + ";\n" +
 				"import boofcv.core.image.border.ImageBorder_"+borderType+";\n");
@@ -143,7 +144,14 @@ public class GenerateImplBilinearPixel extends CodeGeneratorBase {
 				"\t@Override\n" +
 				"\tpublic ImageType<"+image.getSingleBandName()+"> getImageType() {\n" +
 				"\t\treturn ImageType.single("+image.getSingleBandName()+".class);\n" +
-				"\t}\n\n");
+				"\t}\n\n" +
+				"\t@Override\n" +
+				"\tpublic InterpolatePixelS<"+image.getSingleBandName()+"> copy() {\n" +
+				"\t\t"+className+" out = new "+className+"();\n" +
+				"\t\tif( border != null )\n" +
+				"\t\t\tout.setBorder(border.copy());\n" +
+				"\t\treturn out;\n" +
+				"\t}\n");
 	}
 
 	public static void main( String args[] ) throws FileNotFoundException {
@@ -55,7 +55,8 @@ public class GenerateImplPolynomialPixel extends CodeGeneratorBase {
 
 	private void printPreamble() throws FileNotFoundException {
 		setOutputFile(className);
-		out.print("import boofcv.alg.interpolate.PolynomialPixel;\n" +
+		out.print("import boofcv.alg.interpolate.InterpolatePixelS;\n" +
+				"import boofcv.alg.interpolate.PolynomialPixel;\n" +
 				"import boofcv.struct.image.*;\n" +
 				"import boofcv.core.image.border.ImageBorder_"+borderType+";\n");
 		out.println();
@@ -182,7 +183,14 @@ public class GenerateImplPolynomialPixel extends CodeGeneratorBase {
 						"\t@Override\n" +
 						"\tpublic ImageType<"+image.getSingleBandName()+"> getImageType() {\n" +
 						"\t\treturn ImageType.single("+image.getSingleBandName()+".class);\n" +
-						"\t}\n\n"
+						"\t}\n\n" +
+						"\t@Override\n" +
+						"\tpublic InterpolatePixelS<"+image.getSingleBandName()+"> copy() {\n" +
+						"\t\t"+className+" out = new "+className+"(M,min,max);\n" +
+						"\t\tif( border != null )\n" +
+						"\t\t\tout.setBorder(border.copy());\n" +
+						"\t\treturn out;\n" +
+						"\t}\n"
 		);
 	}
 
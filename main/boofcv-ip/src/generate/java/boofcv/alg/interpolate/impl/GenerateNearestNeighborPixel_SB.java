@@ -63,7 +63,8 @@ public class GenerateNearestNeighborPixel_SB extends CodeGeneratorBase {
 
 	private void printPreamble() throws FileNotFoundException {
 		setOutputFile(className);
-		out.print("import boofcv.alg.interpolate.NearestNeighborPixel;\n" +
+		out.print("import boofcv.alg.interpolate.InterpolatePixelS;\n" +
+				"import boofcv.alg.interpolate.NearestNeighborPixel;\n" +
 				"import boofcv.struct.image.ImageType;\n" +
 				"import boofcv.struct.image." + image.getSingleBandName() + ";\n" +
 				"import boofcv.core.image.border.ImageBorder_"+borderType+";\n");
@@ -125,7 +126,14 @@ public class GenerateNearestNeighborPixel_SB extends CodeGeneratorBase {
 				"\t@Override\n" +
 				"\tpublic ImageType<"+image.getSingleBandName()+"> getImageType() {\n" +
 				"\t\treturn ImageType.single("+image.getSingleBandName()+".class);\n" +
-				"\t}\n\n");
+				"\t}\n\n" +
+				"\t@Override\n" +
+				"\tpublic InterpolatePixelS<"+image.getSingleBandName()+"> copy() {\n" +
+				"\t\t"+className+" out = new "+className+"();\n" +
+				"\t\tif( border != null )\n" +
+				"\t\t\tout.setBorder(border.copy());\n" +
+				"\t\treturn out;\n" +
+				"\t}\n");
 	}
 
 	public static void main( String args[] ) throws FileNotFoundException {
@@ -46,6 +46,7 @@ public class GenerateImplIntegralImageOps extends CodeGeneratorBase {
 		printTwoInput(AutoTypeImage.F32, AutoTypeImage.F32);
 		printTwoInput(AutoTypeImage.F64, AutoTypeImage.F64);
 		printTwoInput(AutoTypeImage.U8, AutoTypeImage.S32);
+		printTwoInput(AutoTypeImage.U8, AutoTypeImage.S64);
 		printTwoInput(AutoTypeImage.S32, AutoTypeImage.S32);
 		printTwoInput(AutoTypeImage.S64, AutoTypeImage.S64);
 		singleInput(AutoTypeImage.F32);
@@ -89,7 +90,9 @@ public class GenerateImplIntegralImageOps extends CodeGeneratorBase {
 		printConvolve(image,image);
 		printConvolveBorder(image,image);
 		printConvolveSparse(image);
+		printConvolveSparseBatch(image);
 		printBlockUnsafe(image);
+		printBlockUnsafeBatch(image);
 		printBlockZero(image);
 	}
 
@@ -208,6 +211,44 @@ public class GenerateImplIntegralImageOps extends CodeGeneratorBase {
 				"\t}\n\n");
 	}
 
+	private void printConvolveSparseBatch(AutoTypeImage image ) {
+		String sumType = image.getSumType();
+
+		out.print("\tpublic static void convolveSparse( "+image.getSingleBandName()+" integral , IntegralKernel kernel ,\n" +
+				"\t\t\t\t\t\t\t\t\t   int[] points , int numPoints , "+sumType+"[] output )\n" +
+				"\t{\n" +
+				"\t\tint N = kernel.getNumBlocks();\n" +
+				"\n" +
+				"\t\t// region the kernel touches relative to the point\n" +
+				"\t\tint minX = Integer.MAX_VALUE, minY = Integer.MAX_VALUE;\n" +
+				"\t\tint maxX = Integer.MIN_VALUE, maxY = Integer.MIN_VALUE;\n" +
+				"\t\tfor( int i = 0; i < N; i++ ) {\n" +
+				"\t\t\tImageRectangle r = kernel.blocks[i];\n" +
+				"\t\t\tminX = Math.min(minX,r.x0); minY = Math.min(minY,r.y0);\n" +
+				"\t\t\tmaxX = Math.max(maxX,r.x1); maxY = Math.max(maxY,r.y1);\n" +
+				"\t\t}\n" +
+				"\n" +
+				"\t\tfor( int i = 0, j = 0; i < numPoints; i++ ) {\n" +
+				"\t\t\tint x = points[j++];\n" +
+				"\t\t\tint y = points[j++];\n" +
+				"\n" +
+				"\t\t\t"+sumType+" total = 0;\n" +
+				"\t\t\tif( x+minX >= 0 && y+minY >= 0 && x+maxX < integral.width && y+maxY < integral.height ) {\n" +
+				"\t\t\t\tfor( int k = 0; k < N; k++ ) {\n" +
+				"\t\t\t\t\tImageRectangle r = kernel.blocks[k];\n" +
+				"\t\t\t\t\ttotal += block_unsafe(integral,x+r.x0,y+r.y0,x+r.x1,y+r.y1)*kernel.scales[k];\n" +
+				"\t\t\t\t}\n" +
+				"\t\t\t} else {\n" +
+				"\t\t\t\tfor( int k = 0; k < N; k++ ) {\n" +
+				"\t\t\t\t\tImageRectangle r = kernel.blocks[k];\n" +
+				"\t\t\t\t\ttotal += block_zero(integral,x+r.x0,y+r.y0,x+r.x1,y+r.y1)*kernel.scales[k];\n" +
+				"\t\t\t\t}\n" +
+				"\t\t\t}\n" +
+				"\t\t\toutput[i] = total;\n" +
+				"\t\t}\n" +
+				"\t}\n\n");
+	}
+
 	private void printBlockUnsafe( AutoTypeImage image ) {
 		String sumType = image.getSumType();
 		String bitWise = image.getBitWise();
@@ -223,6 +264,26 @@ public class GenerateImplIntegralImageOps extends CodeGeneratorBase {
 				"\t}\n\n");
 	}
 
+	private void printBlockUnsafeBatch( AutoTypeImage image ) {
+		String bitWise = image.getBitWise();
+
+		out.print("\tpublic static void block_unsafe( " + image.getSingleBandName() + " integral , int[] blocks , int numBlocks , "+image.getSumType()+"[] output )\n" +
+				"\t{\n" +
+				"\t\tfor( int i = 0, j = 0; i < numBlocks; i++ ) {\n" +
+				"\t\t\tint x0 = blocks[j++];\n" +
+				"\t\t\tint y0 = blocks[j++];\n" +
+				"\t\t\tint x1 = blocks[j++];\n" +
+				"\t\t\tint y1 = blocks[j++];\n" +
+				"\n" +
+				"\t\t\tint row0 = integral.startIndex + y0*integral.stride;\n" +
+				"\t\t\tint row1 = integral.startIndex + y1*integral.stride;\n" +
+				"\n" +
+				"\t\t\toutput[i] = integral.data[row1+x1]" + bitWise + " - integral.data[row0+x1]" + bitWise + " -\n" +
+				"\t\t\t\t\tintegral.data[row1+x0]" + bitWise + " + integral.data[row0+x0]" + bitWise + ";\n" +
+				"\t\t}\n" +
+				"\t}\n\n");
+	}
+
 	private void printBlockZero( AutoTypeImage image ) {
 		String sumType = image.getSumType();
 		String bitWise = image.getBitWise();
@@ -164,7 +164,7 @@ public class GenerateImplWaveletTransformInner extends CodeGeneratorBase {
 				"\t\tfinal int height = output.height;\n" +
 				"\t\tfinal int heightD2 = (height/2)*output.stride;\n" +
 				"\t\tfinal int startY = UtilWavelet.borderForwardLower(coefficients);\n" +
-				"\t\tfinal int endY = input.height - UtilWavelet.borderForwardUpper(coefficients,input.width);\n" +
+				"\t\tfinal int endY = input.height - UtilWavelet.borderForwardUpper(coefficients,input.height);\n" +
 				"\n" +
 				"\t\tfor( int y = startY; y < endY; y += 2 ) {\n" +
 				"\n" +
@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.color;
+
+import boofcv.alg.color.impl.*;
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.core.encoding.ImplConvertNV21;
+import boofcv.core.encoding.ImplConvertNV21_MT;
+import boofcv.struct.image.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks color conversions along the video ingest path, NV21 to RGB to LAB, with single and
+ * multi-threaded implementations.
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value = 1)
+public class BenchmarkColorConversion {
+
+	// 1080p and 4K frames
+	@Param({"1920x1080","3840x2160"})
+	public String resolution;
+
+	byte[] nv21;
+
+	Planar<GrayU8> rgb_U8 = new Planar<>(GrayU8.class,1,1,3);
+	Planar<GrayF32> rgb_F32 = new Planar<>(GrayF32.class,1,1,3);
+	Planar<GrayF32> output_F32 = new Planar<>(GrayF32.class,1,1,3);
+	InterleavedU8 rgb_IU8 = new InterleavedU8(1,1,3);
+	InterleavedF32 output_IF32 = new InterleavedF32(1,1,3);
+
+	@Setup
+	public void setup() {
+		Random rand = new Random(234);
+
+		String[] words = resolution.split("x");
+		int width = Integer.parseInt(words[0]);
+		int height = Integer.parseInt(words[1]);
+
+		nv21 = new byte[width*height + (width*height/4)*2];
+		rand.nextBytes(nv21);
+
+		rgb_U8.reshape(width,height);
+		rgb_F32.reshape(width,height);
+		output_F32.reshape(width,height);
+		rgb_IU8.reshape(width,height);
+		output_IF32.reshape(width,height);
+
+		GImageMiscOps.fillUniform(rgb_U8,rand,0,255);
+		GImageMiscOps.fillUniform(rgb_F32,rand,0,255);
+		GImageMiscOps.fillUniform(rgb_IU8,rand,0,255);
+	}
+
+	@Benchmark
+	public void nv21ToPlanarRgb_U8() {
+		ImplConvertNV21.nv21ToPlanarRgb_U8(nv21, rgb_U8);
+	}
+
+	@Benchmark
+	public void nv21ToPlanarRgb_U8_MT() {
+		ImplConvertNV21_MT.nv21ToPlanarRgb_U8(nv21, rgb_U8);
+	}
+
+	@Benchmark
+	public void nv21ToInterleaved_U8() {
+		ImplConvertNV21.nv21ToInterleaved_U8(nv21, rgb_IU8);
+	}
+
+	@Benchmark
+	public void nv21ToInterleaved_U8_MT() {
+		ImplConvertNV21_MT.nv21ToInterleaved_U8(nv21, rgb_IU8);
+	}
+
+	@Benchmark
+	public void rgbToLab_U8() {
+		ImplColorLab.rgbToLab_U8(rgb_U8, output_F32);
+	}
+
+	@Benchmark
+	public void rgbToLab_U8_MT() {
+		ImplColorLab_MT.rgbToLab_U8(rgb_U8, output_F32);
+	}
+
+	@Benchmark
+	public void rgbToLab_Interleaved_U8() {
+		ImplColorLab.rgbToLab_U8(rgb_IU8, output_IF32);
+	}
+
+	@Benchmark
+	public void rgbToLab_Interleaved_U8_MT() {
+		ImplColorLab_MT.rgbToLab_U8(rgb_IU8, output_IF32);
+	}
+
+	@Benchmark
+	public void rgbToXyz_U8_MT() {
+		ImplColorXyz_MT.rgbToXyz_U8(rgb_U8, output_F32);
+	}
+
+	@Benchmark
+	public void rgbToHsv_F32() {
+		ImplColorHsv.rgbToHsv_F32(rgb_F32, output_F32);
+	}
+
+	@Benchmark
+	public void rgbToHsv_F32_MT() {
+		ImplColorHsv_MT.rgbToHsv_F32(rgb_F32, output_F32);
+	}
+
+	@Benchmark
+	public void rgbToYuv_F32_MT() {
+		ImplColorYuv_MT.rgbToYuv_F32(rgb_F32, output_F32);
+	}
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.distort;
+
+import boofcv.alg.interpolate.InterpolationType;
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.core.image.border.BorderType;
+import boofcv.factory.distort.FactoryDistort;
+import boofcv.struct.distort.PixelTransform2_F32;
+import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.ImageType;
+import boofcv.struct.image.InterleavedU8;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link ImageDistortRemap} against distortion with floating point bilinear interpolation when
+ * removing radial lens distortion
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value = 1)
+public class BenchmarkImageDistortRemap {
+
+	@Param({"1280"})
+	public int width;
+	public int height;
+
+	GrayU8 gray, grayOut;
+	InterleavedU8 rgb, rgbOut;
+
+	ImageDistort<GrayU8,GrayU8> floatCached_U8;
+	ImageDistort<InterleavedU8,InterleavedU8> float_IL;
+	ImageDistort<InterleavedU8,InterleavedU8> floatMT_IL;
+	ImageDistortRemap<GrayU8> remap_U8 = new ImageDistortRemap<>();
+	ImageDistortRemap<GrayU8> remapMT_U8 = new ImageDistortRemap<>();
+	ImageDistortRemap<InterleavedU8> remap_IL = new ImageDistortRemap<>();
+	ImageDistortRemap<InterleavedU8> remapMT_IL = new ImageDistortRemap<>();
+
+	@Setup
+	public void setup() {
+		Random rand = new Random(234);
+		height = width*3/4;
+
+		gray = new GrayU8(width, height);
+		grayOut = gray.createSameShape();
+		rgb = new InterleavedU8(width, height, 3);
+		rgbOut = rgb.createSameShape();
+		GImageMiscOps.fillUniform(gray, rand, 0, 255);
+		GImageMiscOps.fillUniform(rgb, rand, 0, 255);
+
+		PixelTransform2_F32 tran = new RadialTransform(width, height);
+
+
+		ImageType<GrayU8> typeU8 = ImageType.single(GrayU8.class);
+		ImageType<InterleavedU8> typeIL = ImageType.il(3, InterleavedU8.class);
+		floatCached_U8 = FactoryDistort.distort(true, InterpolationType.BILINEAR, BorderType.ZERO, typeU8, typeU8);
+		float_IL = FactoryDistort.distort(false, InterpolationType.BILINEAR, BorderType.ZERO, typeIL, typeIL);
+		floatMT_IL = FactoryDistort.distort(false, InterpolationType.BILINEAR, BorderType.ZERO, typeIL, typeIL);
+
+		floatCached_U8.setModel(tran);
+		float_IL.setModel(tran);
+		floatMT_IL.setModel(tran);
+		remap_U8.setModel(tran);
+		remapMT_U8.setModel(tran);
+		remap_IL.setModel(tran);
+		remapMT_IL.setModel(tran);
+		floatCached_U8.setConcurrent(false);
+		float_IL.setConcurrent(false);
+		floatMT_IL.setConcurrent(true);
+		remap_U8.setConcurrent(false);
+		remapMT_U8.setConcurrent(true);
+		remap_IL.setConcurrent(false);
+		remapMT_IL.setConcurrent(true);
+
+		// compute the tables and caches now
+		floatCached_U8.apply(gray, grayOut);
+		remap_U8.apply(gray, grayOut);
+		remapMT_U8.apply(gray, grayOut);
+		remap_IL.apply(rgb, rgbOut);
+		remapMT_IL.apply(rgb, rgbOut);
+	}
+
+	@Benchmark
+	public void floatCached_U8() {
+		floatCached_U8.apply(gray, grayOut);
+	}
+
+	@Benchmark
+	public void remap_U8() {
+		remap_U8.apply(gray, grayOut);
+	}
+
+	@Benchmark
+	public void remapMT_U8() {
+		remapMT_U8.apply(gray, grayOut);
+	}
+
+	@Benchmark
+	public void float_IL() {
+		float_IL.apply(rgb, rgbOut);
+	}
+
+	@Benchmark
+	public void floatMT_IL() {
+		floatMT_IL.apply(rgb, rgbOut);
+	}
+
+	@Benchmark
+	public void remap_IL() {
+		remap_IL.apply(rgb, rgbOut);
+	}
+
+	@Benchmark
+	public void remapMT_IL() {
+		remapMT_IL.apply(rgb, rgbOut);
+	}
+
+	/**
+	 * Mild radial distortion centered in the image
+	 */
+	public static class RadialTransform extends PixelTransform2_F32 {
+		int width, height;
+
+		public RadialTransform(int width, int height) {
+			this.width = width;
+			this.height = height;
+		}
+
+		@Override
+		public void compute(int x, int y) {
+			float dx = x - width/2, dy = y - height/2;
+			float r2 = (dx*dx + dy*dy)/(width*width);
+			distX = width/2 + dx*(1 + 0.2f*r2);
+			distY = height/2 + dy*(1 + 0.2f*r2);
+		}
+
+		@Override
+		public PixelTransform2_F32 copyConcurrent() {
+			return new RadialTransform(width, height);
+		}
+	}
+}
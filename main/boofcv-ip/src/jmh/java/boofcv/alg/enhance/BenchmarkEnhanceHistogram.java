@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.enhance;
+
+import boofcv.alg.enhance.impl.ImplEnhanceHistogram;
+import boofcv.alg.enhance.impl.ImplEnhanceHistogram_MT;
+import boofcv.alg.enhance.impl.ImplEqualizeLocalTiles;
+import boofcv.alg.enhance.impl.ImplEqualizeLocalTiles_MT;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.struct.image.GrayU8;
+import org.ddogleg.struct.FastQueue;
+import org.ddogleg.struct.GrowQueue_I32;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks local histogram equalization using a sliding window against tiled equalization, with single and
+ * multi-threaded implementations.
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value = 1)
+public class BenchmarkEnhanceHistogram {
+
+	@Param({"10","40"})
+	public int radius;
+
+	int width = 1280, height = 720;
+
+	GrayU8 input = new GrayU8(width,height);
+	GrayU8 output = new GrayU8(width,height);
+
+	int histogram[] = new int[256];
+	FastQueue<GrowQueue_I32> work = new FastQueue<>(GrowQueue_I32.class,true);
+
+	int numTilesX, numTilesY;
+	int transforms[];
+
+	@Setup
+	public void setup() {
+		ImageMiscOps.fillUniform(input,new Random(234),0,256);
+
+		// tiles which are about the same size as the local region
+		int tileSize = 2*radius+1;
+		numTilesX = Math.max(1,width/tileSize);
+		numTilesY = Math.max(1,height/tileSize);
+		transforms = new int[numTilesX*numTilesY*ImplEqualizeLocalTiles.HISTOGRAM_LENGTH];
+	}
+
+	@Benchmark
+	public void equalizeLocalInner() {
+		ImplEnhanceHistogram.equalizeLocalInner(input,radius,output,histogram);
+	}
+
+	@Benchmark
+	public void equalizeLocalInner_MT() {
+		ImplEnhanceHistogram_MT.equalizeLocalInner(input,radius,output,histogram.length,work);
+	}
+
+	@Benchmark
+	public void equalizeTiles() {
+		ImplEqualizeLocalTiles.computeTransforms(input,numTilesX,numTilesY,3.0,0,numTilesY,histogram,transforms);
+		ImplEqualizeLocalTiles.applyTransforms(input,numTilesX,numTilesY,transforms,0,height,output);
+	}
+
+	@Benchmark
+	public void equalizeTiles_MT() {
+		ImplEqualizeLocalTiles_MT.computeTransforms(input,numTilesX,numTilesY,3.0,transforms);
+		ImplEqualizeLocalTiles_MT.applyTransforms(input,numTilesX,numTilesY,transforms,output);
+	}
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.binary;
+
+import boofcv.alg.filter.blur.BlurImageOps;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.struct.ConnectRule;
+import boofcv.struct.image.GrayS32;
+import boofcv.struct.image.GrayU8;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for {@link LinearContourLabelChang2004} with and without concurrency
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value = 1)
+public class BenchmarkContourLabel {
+
+	@Param({"1000","3000"})
+	public int size;
+
+	@Param({"false","true"})
+	public boolean concurrent;
+
+	GrayU8 binary = new GrayU8(1,1);
+	GrayS32 labeled = new GrayS32(1,1);
+
+	LinearContourLabelChang2004 alg4 = new LinearContourLabelChang2004(ConnectRule.FOUR);
+	LinearContourLabelChang2004 alg8 = new LinearContourLabelChang2004(ConnectRule.EIGHT);
+
+	@Setup
+	public void setup() {
+		Random rand = new Random(234);
+
+		// blurred noise creates blobs of various sizes with holes in them
+		GrayU8 gray = new GrayU8(size,size);
+		ImageMiscOps.fillUniform(gray, rand, 0, 255);
+		GrayU8 blurred = BlurImageOps.mean(gray,null,3,null);
+
+		binary.reshape(size,size);
+		labeled.reshape(size,size);
+		ThresholdImageOps.threshold(blurred,binary,127,true);
+
+		alg4.setConcurrent(concurrent);
+		alg8.setConcurrent(concurrent);
+	}
+
+	@Benchmark
+	public void rule4() {
+		alg4.process(binary,labeled);
+	}
+
+	@Benchmark
+	public void rule8() {
+		alg8.process(binary,labeled);
+	}
+}
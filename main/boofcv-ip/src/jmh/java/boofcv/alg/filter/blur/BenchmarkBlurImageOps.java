@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.filter.blur;
+
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayU8;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for functions in {@link BlurImageOps}
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value = 1)
+public class BenchmarkBlurImageOps {
+
+	@Param({"500","2000"})
+	public int size;
+
+	@Param({"1","5","15"})
+	public int radius;
+
+	GrayU8 input_U8 = new GrayU8(1,1);
+	GrayF32 input_F32 = new GrayF32(1,1);
+	GrayU8 output_U8 = new GrayU8(1,1);
+	GrayF32 output_F32 = new GrayF32(1,1);
+	GrayU8 storage_U8 = new GrayU8(1,1);
+	GrayF32 storage_F32 = new GrayF32(1,1);
+	BlurStripWorkspace<GrayU8> workspace_U8 = new BlurStripWorkspace<>(GrayU8.class);
+	BlurStripWorkspace<GrayF32> workspace_F32 = new BlurStripWorkspace<>(GrayF32.class);
+
+	@Setup
+	public void setup() {
+		Random rand = new Random(234);
+
+		input_U8.reshape(size,size);
+		input_F32.reshape(size,size);
+		output_U8.reshape(size,size);
+		output_F32.reshape(size,size);
+		storage_U8.reshape(size,size);
+		storage_F32.reshape(size,size);
+
+		GImageMiscOps.fillUniform(input_U8, rand, 0, 200);
+		GImageMiscOps.fillUniform(input_F32, rand, 0, 200);
+	}
+
+	@Benchmark
+	public void mean_U8() {
+		BlurImageOps.mean(input_U8,output_U8,radius,storage_U8);
+	}
+
+	@Benchmark
+	public void mean_F32() {
+		BlurImageOps.mean(input_F32,output_F32,radius,storage_F32);
+	}
+
+	@Benchmark
+	public void gaussian_U8() {
+		BlurImageOps.gaussian(input_U8,output_U8,-1,radius,storage_U8);
+	}
+
+	@Benchmark
+	public void gaussian_F32() {
+		BlurImageOps.gaussian(input_F32,output_F32,-1,radius,storage_F32);
+	}
+
+	@Benchmark
+	public void meanStrips_U8() {
+		BlurImageOps.meanStrips(input_U8,output_U8,radius,workspace_U8);
+	}
+
+	@Benchmark
+	public void meanStrips_F32() {
+		BlurImageOps.meanStrips(input_F32,output_F32,radius,workspace_F32);
+	}
+
+	@Benchmark
+	public void gaussianStrips_U8() {
+		BlurImageOps.gaussianStrips(input_U8,output_U8,-1,radius,workspace_U8);
+	}
+
+	@Benchmark
+	public void gaussianStrips_F32() {
+		BlurImageOps.gaussianStrips(input_F32,output_F32,-1,radius,workspace_F32);
+	}
+
+	@Benchmark
+	public void median_U8() {
+		BlurImageOps.median(input_U8,output_U8,radius);
+	}
+
+	@Benchmark
+	public void median_F32() {
+		BlurImageOps.median(input_F32,output_F32,radius);
+	}
+}
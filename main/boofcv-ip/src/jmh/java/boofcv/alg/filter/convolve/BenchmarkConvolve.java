@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.filter.convolve;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.factory.filter.kernel.FactoryKernelGaussian;
+import boofcv.struct.convolve.Kernel1D_F32;
+import boofcv.struct.convolve.Kernel1D_S32;
+import boofcv.struct.convolve.Kernel2D_F32;
+import boofcv.struct.convolve.Kernel2D_S32;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayS16;
+import boofcv.struct.image.GrayU8;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for convolution across the image's inside, i.e. without the border
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value = 1)
+public class BenchmarkConvolve {
+
+	@Param({"500","2000"})
+	public int size;
+
+	@Param({"1","2","4"})
+	public int radius;
+
+	Kernel1D_F32 kernelF32;
+	Kernel1D_S32 kernelI32;
+	Kernel2D_F32 kernel2D_F32;
+	Kernel2D_S32 kernel2D_I32;
+
+	GrayU8 input_U8 = new GrayU8(1,1);
+	GrayS16 input_S16 = new GrayS16(1,1);
+	GrayF32 input_F32 = new GrayF32(1,1);
+	GrayU8 out_U8 = new GrayU8(1,1);
+	GrayS16 out_S16 = new GrayS16(1,1);
+	GrayF32 out_F32 = new GrayF32(1,1);
+
+	@Setup
+	public void setup() {
+		Random rand = new Random(234);
+
+		input_U8.reshape(size,size);
+		input_S16.reshape(size,size);
+		input_F32.reshape(size,size);
+		out_U8.reshape(size,size);
+		out_S16.reshape(size,size);
+		out_F32.reshape(size,size);
+
+		ImageMiscOps.fillUniform(input_U8,rand,0,20);
+		ImageMiscOps.fillUniform(input_S16,rand,0,20);
+		ImageMiscOps.fillUniform(input_F32,rand,0,20);
+
+		kernelF32 = FactoryKernelGaussian.gaussian(Kernel1D_F32.class, -1, radius);
+		kernelI32 = FactoryKernelGaussian.gaussian(Kernel1D_S32.class,-1,radius);
+		kernel2D_F32 = FactoryKernelGaussian.gaussian(Kernel2D_F32.class,-1,radius);
+		kernel2D_I32 = FactoryKernelGaussian.gaussian(Kernel2D_S32.class, -1, radius);
+	}
+
+	@Benchmark
+	public void horizontal_F32() {
+		ConvolveImageNoBorder.horizontal(kernelF32, input_F32, out_F32);
+	}
+
+	@Benchmark
+	public void horizontal_U8_I16() {
+		ConvolveImageNoBorder.horizontal(kernelI32, input_U8, out_S16);
+	}
+
+	@Benchmark
+	public void horizontal_U8_I8_Div() {
+		ConvolveImageNoBorder.horizontal(kernelI32, input_U8, out_U8, 10);
+	}
+
+	@Benchmark
+	public void horizontal_S16_I16() {
+		ConvolveImageNoBorder.horizontal(kernelI32, input_S16, out_S16);
+	}
+
+	@Benchmark
+	public void vertical_F32() {
+		ConvolveImageNoBorder.vertical(kernelF32, input_F32, out_F32);
+	}
+
+	@Benchmark
+	public void vertical_U8_I16() {
+		ConvolveImageNoBorder.vertical(kernelI32, input_U8, out_S16);
+	}
+
+	@Benchmark
+	public void vertical_U8_I8_Div() {
+		ConvolveImageNoBorder.vertical(kernelI32, input_U8, out_U8, 10);
+	}
+
+	@Benchmark
+	public void vertical_S16_I16() {
+		ConvolveImageNoBorder.vertical(kernelI32, input_S16, out_S16);
+	}
+
+	@Benchmark
+	public void convolve2D_F32() {
+		ConvolveImageNoBorder.convolve(kernel2D_F32, input_F32, out_F32);
+	}
+
+	@Benchmark
+	public void convolve2D_U8_I16() {
+		ConvolveImageNoBorder.convolve(kernel2D_I32, input_U8, out_S16);
+	}
+
+	@Benchmark
+	public void convolve2D_U8_I8_Div() {
+		ConvolveImageNoBorder.convolve(kernel2D_I32, input_U8, out_U8, 10);
+	}
+
+	@Benchmark
+	public void horizontal_MT_F32() {
+		ConvolveImageNoBorder_MT.horizontal(kernelF32, input_F32, out_F32);
+	}
+
+	@Benchmark
+	public void vertical_MT_F32() {
+		ConvolveImageNoBorder_MT.vertical(kernelF32, input_F32, out_F32);
+	}
+
+	@Benchmark
+	public void vertical_MT_U8_I8_Div() {
+		ConvolveImageNoBorder_MT.vertical(kernelI32, input_U8, out_U8, 10);
+	}
+
+	@Benchmark
+	public void normalized_horizontal_F32() {
+		ConvolveNormalized.horizontal(kernelF32, input_F32, out_F32);
+	}
+
+	@Benchmark
+	public void normalized_vertical_U8() {
+		ConvolveNormalized.vertical(kernelI32, input_U8, out_U8);
+	}
+}
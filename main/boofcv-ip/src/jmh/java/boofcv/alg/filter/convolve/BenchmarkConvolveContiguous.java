@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.convolve;
+
+import boofcv.alg.filter.convolve.noborder.ConvolveImageContiguous_SB;
+import boofcv.alg.filter.convolve.noborder.ConvolveImageUnrolled_SB_F32_F32;
+import boofcv.alg.filter.convolve.noborder.ConvolveImageUnrolled_SB_U8_I16;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.factory.filter.kernel.FactoryKernelGaussian;
+import boofcv.struct.convolve.Kernel1D_F32;
+import boofcv.struct.convolve.Kernel1D_S32;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayS16;
+import boofcv.struct.image.GrayU8;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the unrolled convolution kernels against the contiguous loop implementation, which is written so
+ * that it can be auto-vectorized. Radius of 1 to 4 corresponds to kernels with 3, 5, 7, and 9 taps.
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value = 1)
+public class BenchmarkConvolveContiguous {
+
+	@Param({"1000"})
+	public int size;
+
+	@Param({"1","2","3","4"})
+	public int radius;
+
+	Kernel1D_F32 kernelF32;
+	Kernel1D_S32 kernelI32;
+
+	GrayU8 input_U8 = new GrayU8(1,1);
+	GrayF32 input_F32 = new GrayF32(1,1);
+	GrayS16 out_S16 = new GrayS16(1,1);
+	GrayF32 out_F32 = new GrayF32(1,1);
+
+	@Setup
+	public void setup() {
+		Random rand = new Random(234);
+
+		input_U8.reshape(size,size);
+		input_F32.reshape(size,size);
+		out_S16.reshape(size,size);
+		out_F32.reshape(size,size);
+
+		ImageMiscOps.fillUniform(input_U8,rand,0,20);
+		ImageMiscOps.fillUniform(input_F32,rand,0,20);
+
+		kernelF32 = FactoryKernelGaussian.gaussian(Kernel1D_F32.class, -1, radius);
+		kernelI32 = FactoryKernelGaussian.gaussian(Kernel1D_S32.class,-1,radius);
+	}
+
+	@Benchmark
+	public void unrolled_horizontal_F32() {
+		ConvolveImageUnrolled_SB_F32_F32.horizontal(kernelF32, input_F32, out_F32);
+	}
+
+	@Benchmark
+	public void contiguous_horizontal_F32() {
+		ConvolveImageContiguous_SB.horizontal(kernelF32, input_F32, out_F32);
+	}
+
+	@Benchmark
+	public void unrolled_vertical_F32() {
+		ConvolveImageUnrolled_SB_F32_F32.vertical(kernelF32, input_F32, out_F32);
+	}
+
+	@Benchmark
+	public void contiguous_vertical_F32() {
+		ConvolveImageContiguous_SB.vertical(kernelF32, input_F32, out_F32);
+	}
+
+	@Benchmark
+	public void unrolled_horizontal_U8_I16() {
+		ConvolveImageUnrolled_SB_U8_I16.horizontal(kernelI32, input_U8, out_S16);
+	}
+
+	@Benchmark
+	public void contiguous_horizontal_U8_I16() {
+		ConvolveImageContiguous_SB.horizontal(kernelI32, input_U8, out_S16);
+	}
+
+	@Benchmark
+	public void unrolled_vertical_U8_I16() {
+		ConvolveImageUnrolled_SB_U8_I16.vertical(kernelI32, input_U8, out_S16);
+	}
+
+	@Benchmark
+	public void contiguous_vertical_U8_I16() {
+		ConvolveImageContiguous_SB.vertical(kernelI32, input_U8, out_S16);
+	}
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.filter.derivative;
+
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.core.image.border.*;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayS16;
+import boofcv.struct.image.GrayU8;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks related to computing image derivatives
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value = 1)
+public class BenchmarkImageDerivative {
+
+	@Param({"500","2000"})
+	public int size;
+
+	ImageBorder_S32 borderI32 = new ImageBorder1D_S32(BorderIndex1D_Extend.class);
+	ImageBorder_F32 borderF32 = new ImageBorder1D_F32(BorderIndex1D_Extend.class);
+
+	GrayU8 input_U8 = new GrayU8(1,1);
+	GrayF32 input_F32 = new GrayF32(1,1);
+
+	GrayS16 derivX_S16 = new GrayS16(1,1);
+	GrayS16 derivY_S16 = new GrayS16(1,1);
+	GrayS16 derivXY_S16 = new GrayS16(1,1);
+	GrayF32 derivX_F32 = new GrayF32(1,1);
+	GrayF32 derivY_F32 = new GrayF32(1,1);
+	GrayF32 derivXY_F32 = new GrayF32(1,1);
+
+	@Setup
+	public void setup() {
+		Random rand = new Random(123);
+
+		input_U8.reshape(size,size);
+		input_F32.reshape(size,size);
+		derivX_S16.reshape(size,size);
+		derivY_S16.reshape(size,size);
+		derivXY_S16.reshape(size,size);
+		derivX_F32.reshape(size,size);
+		derivY_F32.reshape(size,size);
+		derivXY_F32.reshape(size,size);
+
+		GImageMiscOps.fillUniform(input_U8, rand, 0, 100);
+		GImageMiscOps.fillUniform(input_F32, rand, 0, 100);
+	}
+
+	@Benchmark
+	public void sobel_U8() {
+		GradientSobel.process(input_U8,derivX_S16,derivY_S16,borderI32);
+	}
+
+	@Benchmark
+	public void sobel_F32() {
+		GradientSobel.process(input_F32,derivX_F32,derivY_F32,borderF32);
+	}
+
+	@Benchmark
+	public void prewitt_U8() {
+		GradientPrewitt.process(input_U8,derivX_S16,derivY_S16,borderI32);
+	}
+
+	@Benchmark
+	public void prewitt_F32() {
+		GradientPrewitt.process(input_F32,derivX_F32,derivY_F32,borderF32);
+	}
+
+	@Benchmark
+	public void three_U8() {
+		GradientThree.process(input_U8,derivX_S16,derivY_S16,borderI32);
+	}
+
+	@Benchmark
+	public void three_F32() {
+		GradientThree.process(input_F32,derivX_F32,derivY_F32,borderF32);
+	}
+
+	@Benchmark
+	public void hessianThree_U8() {
+		HessianThree.process(input_U8,derivX_S16,derivY_S16,derivXY_S16,borderI32);
+	}
+
+	@Benchmark
+	public void hessianThree_F32() {
+		HessianThree.process(input_F32,derivX_F32,derivY_F32,derivXY_F32,borderF32);
+	}
+
+	@Benchmark
+	public void hessianSobel_U8() {
+		HessianSobel.process(input_U8,derivX_S16,derivY_S16,derivXY_S16,borderI32);
+	}
+
+	@Benchmark
+	public void hessianSobel_F32() {
+		HessianSobel.process(input_F32,derivX_F32,derivY_F32,derivXY_F32,borderF32);
+	}
+
+	@Benchmark
+	public void laplacian_U8() {
+		LaplacianEdge.process(input_U8,derivX_S16);
+	}
+
+	@Benchmark
+	public void laplacian_F32() {
+		LaplacianEdge.process(input_F32,derivX_F32);
+	}
+
+	@Benchmark
+	public void sobel_MT_U8() {
+		GradientSobel_MT.process(input_U8,derivX_S16,derivY_S16,borderI32);
+	}
+
+	@Benchmark
+	public void sobel_MT_F32() {
+		GradientSobel_MT.process(input_F32,derivX_F32,derivY_F32,borderF32);
+	}
+
+	@Benchmark
+	public void prewitt_MT_U8() {
+		GradientPrewitt_MT.process(input_U8,derivX_S16,derivY_S16,borderI32);
+	}
+
+	@Benchmark
+	public void prewitt_MT_F32() {
+		GradientPrewitt_MT.process(input_F32,derivX_F32,derivY_F32,borderF32);
+	}
+
+	@Benchmark
+	public void three_MT_U8() {
+		GradientThree_MT.process(input_U8,derivX_S16,derivY_S16,borderI32);
+	}
+
+	@Benchmark
+	public void three_MT_F32() {
+		GradientThree_MT.process(input_F32,derivX_F32,derivY_F32,borderF32);
+	}
+
+	@Benchmark
+	public void hessianSobel_MT_U8() {
+		HessianSobel_MT.process(input_U8,derivX_S16,derivY_S16,derivXY_S16,borderI32);
+	}
+
+	@Benchmark
+	public void hessianSobel_MT_F32() {
+		HessianSobel_MT.process(input_F32,derivX_F32,derivY_F32,derivXY_F32,borderF32);
+	}
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.pipeline;
+
+import boofcv.alg.filter.binary.ThresholdImageOps;
+import boofcv.alg.filter.blur.BlurImageOps;
+import boofcv.alg.filter.derivative.GradientSobel;
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.core.image.ConvertImage;
+import boofcv.core.image.border.BorderIndex1D_Extend;
+import boofcv.core.image.border.ImageBorder1D_F32;
+import boofcv.core.image.border.ImageBorder_F32;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayU8;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link RowPipeline} against applying the same chain of operations one full image at a time
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value = 1)
+public class BenchmarkRowPipeline {
+
+	@Param({"500","2000"})
+	public int size;
+
+	@Param({"true","false"})
+	public boolean concurrent;
+
+	GrayU8 input = new GrayU8(1,1);
+	GrayU8 output = new GrayU8(1,1);
+
+	// storage for the separate operations
+	GrayF32 inputF = new GrayF32(1,1);
+	GrayF32 blurred = new GrayF32(1,1);
+	GrayF32 storage = new GrayF32(1,1);
+	GrayF32 derivX = new GrayF32(1,1);
+	GrayF32 derivY = new GrayF32(1,1);
+	GrayF32 intensity = new GrayF32(1,1);
+	ImageBorder_F32 border = new ImageBorder1D_F32(BorderIndex1D_Extend.class);
+
+	RowPipeline pipeline = new RowPipeline();
+
+	@Setup
+	public void setup() {
+		Random rand = new Random(234);
+
+		input.reshape(size,size);
+		output.reshape(size,size);
+		inputF.reshape(size,size);
+		blurred.reshape(size,size);
+		storage.reshape(size,size);
+		derivX.reshape(size,size);
+		derivY.reshape(size,size);
+		intensity.reshape(size,size);
+
+		GImageMiscOps.fillUniform(input, rand, 0, 200);
+
+		pipeline.reset();
+		pipeline.addGaussian(-1,2);
+		pipeline.add(new RowGradientSobel(RowGradientSobel.Output.INTENSITY_ABS));
+		pipeline.add(new RowThreshold(20,false));
+		pipeline.setConcurrent(concurrent);
+	}
+
+	@Benchmark
+	public void separate() {
+		ConvertImage.convert(input,inputF);
+		BlurImageOps.gaussian(inputF,blurred,-1,2,storage);
+		GradientSobel.process(blurred,derivX,derivY,border);
+		for (int i = 0; i < intensity.data.length; i++) {
+			intensity.data[i] = Math.abs(derivX.data[i]) + Math.abs(derivY.data[i]);
+		}
+		ThresholdImageOps.threshold(intensity,output,20,false);
+	}
+
+	@Benchmark
+	public void pipeline() {
+		pipeline.process(input,output);
+	}
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.transform.fft;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for {@link GeneralPurposeFFT_F32_2D} and {@link GeneralPurposeFFT_F64_2D}
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value = 1)
+public class BenchmarkGeneralPurposeFFT_2D {
+
+	// power of two, mixed radix, and bluestein
+	@Param({"512","600","1031"})
+	public int size;
+
+	@Param({"true","false"})
+	public boolean concurrent;
+
+	GeneralPurposeFFT_F32_2D alg_F32;
+	GeneralPurposeFFT_F64_2D alg_F64;
+
+	float[] data_F32;
+	double[] data_F64;
+
+	@Setup
+	public void setup() {
+		Random rand = new Random(234);
+
+		alg_F32 = new GeneralPurposeFFT_F32_2D(size,size);
+		alg_F64 = new GeneralPurposeFFT_F64_2D(size,size);
+		alg_F32.setConcurrent(concurrent);
+		alg_F64.setConcurrent(concurrent);
+
+		data_F32 = new float[size*size*2];
+		data_F64 = new double[size*size*2];
+		for (int i = 0; i < data_F32.length; i++) {
+			data_F32[i] = (float)rand.nextGaussian();
+			data_F64[i] = data_F32[i];
+		}
+	}
+
+	// Each benchmark applies the inverse too so that the data doesn't grow without bound
+
+	@Benchmark
+	public void realFull_F32() {
+		alg_F32.realForwardFull(data_F32);
+		alg_F32.complexInverse(data_F32,true);
+	}
+
+	@Benchmark
+	public void complex_F32() {
+		alg_F32.complexForward(data_F32);
+		alg_F32.complexInverse(data_F32,true);
+	}
+
+	@Benchmark
+	public void realFull_F64() {
+		alg_F64.realForwardFull(data_F64);
+		alg_F64.complexInverse(data_F64,true);
+	}
+
+	@Benchmark
+	public void complex_F64() {
+		alg_F64.complexForward(data_F64);
+		alg_F64.complexInverse(data_F64,true);
+	}
+}
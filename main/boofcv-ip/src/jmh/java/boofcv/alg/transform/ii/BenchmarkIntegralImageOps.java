@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.transform.ii;
+
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.alg.transform.ii.impl.ImplIntegralImageOps;
+import boofcv.alg.transform.ii.impl.ImplIntegralImageOps_MT;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayS32;
+import boofcv.struct.image.GrayS64;
+import boofcv.struct.image.GrayU8;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for computing the integral image and sampling blocks from it
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value = 1)
+public class BenchmarkIntegralImageOps {
+
+	@Param({"500","2000"})
+	public int size;
+
+	// number of blocks sampled in the batch benchmarks
+	int numBlocks = 100_000;
+
+	GrayU8 input_U8 = new GrayU8(1,1);
+	GrayF32 input_F32 = new GrayF32(1,1);
+
+	GrayS32 integral_S32 = new GrayS32(1,1);
+	GrayS64 integral_S64 = new GrayS64(1,1);
+	GrayF32 integral_F32 = new GrayF32(1,1);
+
+	int blocks[] = new int[numBlocks*4];
+	float found[] = new float[numBlocks];
+
+	@Setup
+	public void setup() {
+		Random rand = new Random(123);
+
+		input_U8.reshape(size,size);
+		input_F32.reshape(size,size);
+		integral_S32.reshape(size,size);
+		integral_S64.reshape(size,size);
+		integral_F32.reshape(size,size);
+
+		GImageMiscOps.fillUniform(input_U8, rand, 0, 100);
+		GImageMiscOps.fillUniform(input_F32, rand, 0, 100);
+		ImplIntegralImageOps.transform(input_F32,integral_F32);
+
+		for( int i = 0; i < numBlocks; i++ ) {
+			int x0 = rand.nextInt(size-10), y0 = rand.nextInt(size-10);
+			blocks[i*4  ] = x0;
+			blocks[i*4+1] = y0;
+			blocks[i*4+2] = x0 + 1 + rand.nextInt(9);
+			blocks[i*4+3] = y0 + 1 + rand.nextInt(9);
+		}
+	}
+
+	@Benchmark
+	public void transform_U8_S32() {
+		ImplIntegralImageOps.transform(input_U8,integral_S32);
+	}
+
+	@Benchmark
+	public void transformMT_U8_S32() {
+		ImplIntegralImageOps_MT.transform(input_U8,integral_S32);
+	}
+
+	@Benchmark
+	public void transform_U8_S64() {
+		ImplIntegralImageOps.transform(input_U8,integral_S64);
+	}
+
+	@Benchmark
+	public void transformMT_U8_S64() {
+		ImplIntegralImageOps_MT.transform(input_U8,integral_S64);
+	}
+
+	@Benchmark
+	public void transform_F32() {
+		ImplIntegralImageOps.transform(input_F32,integral_F32);
+	}
+
+	@Benchmark
+	public void transformMT_F32() {
+		ImplIntegralImageOps_MT.transform(input_F32,integral_F32);
+	}
+
+	@Benchmark
+	public float block_single_F32() {
+		float total = 0;
+		for( int i = 0, j = 0; i < numBlocks; i++ ) {
+			total += ImplIntegralImageOps.block_unsafe(integral_F32,blocks[j++],blocks[j++],blocks[j++],blocks[j++]);
+		}
+		return total;
+	}
+
+	@Benchmark
+	public float[] block_batch_F32() {
+		ImplIntegralImageOps.block_unsafe(integral_F32,blocks,numBlocks,found);
+		return found;
+	}
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.transform.wavelet;
+
+import boofcv.alg.denoise.wavelet.DenoiseBayesShrink_F32;
+import boofcv.alg.denoise.wavelet.ShrinkThresholdSoft_F32;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.core.image.border.BorderType;
+import boofcv.factory.transform.wavelet.FactoryWaveletDaub;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.wavelet.WaveletDescription;
+import boofcv.struct.wavelet.WlCoef_F32;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks a multi-level wavelet transform and denoising a large image, with single and multi-threaded
+ * implementations.
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value = 1)
+public class BenchmarkWaveletDenoise {
+
+	@Param({"true","false"})
+	public boolean concurrent;
+
+	// about 20 mega pixels
+	int width = 5472, height = 3648;
+	int numLevels = 4;
+
+	WaveletDescription<WlCoef_F32> desc = FactoryWaveletDaub.biorthogonal_F32(5, BorderType.REFLECT);
+
+	GrayF32 image = new GrayF32(width,height);
+	GrayF32 input = new GrayF32(width,height);
+	GrayF32 transform = new GrayF32(width,height);
+	GrayF32 storage = new GrayF32(width,height);
+	GrayF32 output = new GrayF32(width,height);
+
+	DenoiseBayesShrink_F32 denoiser = new DenoiseBayesShrink_F32(new ShrinkThresholdSoft_F32());
+
+	@Setup
+	public void setup() {
+		ImageMiscOps.fillUniform(image,new Random(234),0,255);
+		BoofConcurrency.USE_CONCURRENT = concurrent;
+		denoiser.setConcurrent(concurrent);
+	}
+
+	@TearDown
+	public void tearDown() {
+		BoofConcurrency.USE_CONCURRENT = true;
+	}
+
+	@Benchmark
+	public void transformN() {
+		input.setTo(image);
+		WaveletTransformOps.transformN(desc,input,transform,storage,numLevels);
+	}
+
+	@Benchmark
+	public void denoise() {
+		input.setTo(image);
+		WaveletTransformOps.transformN(desc,input,transform,storage,numLevels);
+		denoiser.denoise(transform,numLevels);
+		WaveletTransformOps.inverseN(desc,transform,output,storage,numLevels,0,255);
+	}
+}
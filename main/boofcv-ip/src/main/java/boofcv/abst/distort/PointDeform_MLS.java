@@ -84,4 +84,9 @@ public class PointDeform_MLS implements PointDeformKeyPoints
 	public ImageDeformPointMLS_F32 getAlgorithm() {
 		return alg;
 	}
+
+	@Override
+	public PointDeform_MLS copyConcurrent() {
+		return this;
+	}
 }
@@ -23,6 +23,9 @@ import boofcv.alg.transform.fft.GeneralPurposeFFT_F32_2D;
 import boofcv.struct.image.GrayF32;
 import boofcv.struct.image.InterleavedF32;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 /**
  * Wrapper around {@link GeneralPurposeFFT_F32_2D} which implements {@link DiscreteFourierTransform}
  *
@@ -31,9 +34,17 @@ import boofcv.struct.image.InterleavedF32;
 public class GeneralFft_to_DiscreteFourierTransform_F32
 		implements DiscreteFourierTransform<GrayF32,InterleavedF32>
 {
-	// previous size of input image
-	private int prevWidth = -1;
-	private int prevHeight = -1;
+	// maximum number of transforms which are saved
+	private static final int MAX_PLANS = 4;
+
+	// transforms for recently used image sizes. Switching back to a previous size doesn't require the
+	// transform's tables to be recomputed
+	private Map<Long,GeneralPurposeFFT_F32_2D> plans = new LinkedHashMap<Long,GeneralPurposeFFT_F32_2D>(16,0.75f,true) {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Long,GeneralPurposeFFT_F32_2D> eldest) {
+			return size() > MAX_PLANS;
+		}
+	};
 
 	// performs the FFT
 	private GeneralPurposeFFT_F32_2D alg;
@@ -87,13 +98,14 @@ public class GeneralFft_to_DiscreteFourierTransform_F32
 	}
 
 	/**
-	 * Declare the algorithm if the image size has changed
+	 * Looks up the algorithm for the image's size and declares it if it hasn't been used recently
 	 */
 	private void checkDeclareAlg(GrayF32 image) {
-		if( prevWidth != image.width || prevHeight != image.height ) {
-			prevWidth = image.width;
-			prevHeight = image.height;
+		long key = ((long)image.height << 32) | image.width;
+		alg = plans.get(key);
+		if( alg == null ) {
 			alg = new GeneralPurposeFFT_F32_2D(image.height,image.width);
+			plans.put(key,alg);
 		}
 	}
 
@@ -19,8 +19,13 @@
 package boofcv.alg.color;
 
 import boofcv.alg.InputSanityCheck;
+import boofcv.alg.color.impl.ImplColorXyz;
+import boofcv.alg.color.impl.ImplColorXyz_MT;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.struct.image.GrayF32;
 import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.InterleavedF32;
+import boofcv.struct.image.InterleavedU8;
 import boofcv.struct.image.Planar;
 
 /**
@@ -110,27 +115,29 @@ public class ColorXyz {
 
 		InputSanityCheck.checkSameShape(xyz, rgb);
 
-		GrayF32 R = rgb.getBand(0);
-		GrayF32 G = rgb.getBand(1);
-		GrayF32 B = rgb.getBand(2);
-
-		GrayF32 X = xyz.getBand(0);
-		GrayF32 Y = xyz.getBand(1);
-		GrayF32 Z = xyz.getBand(2);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplColorXyz_MT.rgbToXyz_F32(rgb,xyz);
+		} else {
+			ImplColorXyz.rgbToXyz_F32(rgb,xyz);
+		}
+	}
 
-		for( int row = 0; row < xyz.height; row++ ) {
-			int indexXyz = xyz.startIndex + row*xyz.stride;
-			int indexRgb = rgb.startIndex + row*rgb.stride;
+	/**
+	 * Convert a 3-channel interleaved image from RGB into XYZ.
+	 *
+	 * @param rgb (Input) RGB encoded image
+	 * @param xyz (Output) XYZ encoded image
+	 */
+	public static void rgbToXyz_F32(InterleavedF32 rgb , InterleavedF32 xyz ) {
 
-			for( int col = 0; col < xyz.width; col++ , indexXyz++ , indexRgb++) {
-				float r = R.data[indexRgb]/255f;
-				float g = G.data[indexRgb]/255f;
-				float b = B.data[indexRgb]/255f;
+		InputSanityCheck.checkSameShapeB(rgb, xyz);
+		if( rgb.getNumBands() != 3 )
+			throw new IllegalArgumentException("three bands expected");
 
-				X.data[indexXyz] = 0.412453f*r + 0.35758f*g + 0.180423f*b;
-				Y.data[indexXyz] = 0.212671f*r + 0.71516f*g + 0.072169f*b;
-				Z.data[indexXyz] = 0.019334f*r + 0.119193f*g + 0.950227f*b;
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplColorXyz_MT.rgbToXyz_F32(rgb,xyz);
+		} else {
+			ImplColorXyz.rgbToXyz_F32(rgb,xyz);
 		}
 	}
 
@@ -147,27 +154,29 @@ public class ColorXyz {
 
 		InputSanityCheck.checkSameShape(xyz, rgb);
 
-		GrayU8 R = rgb.getBand(0);
-		GrayU8 G = rgb.getBand(1);
-		GrayU8 B = rgb.getBand(2);
-
-		GrayF32 X = xyz.getBand(0);
-		GrayF32 Y = xyz.getBand(1);
-		GrayF32 Z = xyz.getBand(2);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplColorXyz_MT.rgbToXyz_U8(rgb,xyz);
+		} else {
+			ImplColorXyz.rgbToXyz_U8(rgb,xyz);
+		}
+	}
 
-		for( int row = 0; row < xyz.height; row++ ) {
-			int indexXyz = xyz.startIndex + row*xyz.stride;
-			int indexRgb = rgb.startIndex + row*rgb.stride;
+	/**
+	 * Convert a 3-channel interleaved image from RGB into XYZ.
+	 *
+	 * @param rgb (Input) RGB encoded image
+	 * @param xyz (Output) XYZ encoded image
+	 */
+	public static void rgbToXyz_U8(InterleavedU8 rgb , InterleavedF32 xyz ) {
 
-			for( int col = 0; col < xyz.width; col++ , indexXyz++ , indexRgb++) {
-				float r = (R.data[indexRgb]&0xFF)/255f;
-				float g = (G.data[indexRgb]&0xFF)/255f;
-				float b = (B.data[indexRgb]&0xFF)/255f;
+		InputSanityCheck.checkSameShapeB(rgb, xyz);
+		if( rgb.getNumBands() != 3 )
+			throw new IllegalArgumentException("three bands expected");
 
-				X.data[indexXyz] = 0.412453f*r + 0.35758f*g + 0.180423f*b;
-				Y.data[indexXyz] = 0.212671f*r + 0.71516f*g + 0.072169f*b;
-				Z.data[indexXyz] = 0.019334f*r + 0.119193f*g + 0.950227f*b;
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplColorXyz_MT.rgbToXyz_U8(rgb,xyz);
+		} else {
+			ImplColorXyz.rgbToXyz_U8(rgb,xyz);
 		}
 	}
 }
@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.color.impl;
+
+import boofcv.alg.color.ColorLab;
+import boofcv.struct.image.*;
+
+import static boofcv.alg.color.ColorLab.*;
+
+/**
+ * <p>
+ * Implementation of functions in {@link ColorLab}.  The cube root in the LAB transform is computed using
+ * {@link #cubeRoot(float)} instead of {@link Math#pow}, which is the most expensive part of the conversion.
+ * </p>
+ *
+ * <p>
+ * NOTE: Input and output image can be the same instance for all the {@link Planar} functions.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class ImplColorLab {
+
+	// scale factors to go from XYZ to normalized XYZ
+	private static final float invXr_f = 1.0f/Xr_f;
+	private static final float invZr_f = 1.0f/Zr_f;
+
+	/**
+	 * Fast approximation of the cube root for positive floats.  An initial estimate is found by manipulating
+	 * the float's exponent directly, which is then refined with one Newton and one Halley iteration.  The final
+	 * iteration is done in double so the result is accurate to within about one float ULP of Math.cbrt().
+	 *
+	 * @param x Positive value
+	 * @return cube root of x
+	 */
+	public static float cubeRoot( float x ) {
+		// dividing the exponent by 3 gives an estimate that's within a few percent
+		float y = Float.intBitsToFloat(Float.floatToRawIntBits(x)/3 + 709921077);
+		y = (2.0f*y + x/(y*y))*(1.0f/3.0f);
+		double yd = y;
+		double yd3 = yd*yd*yd;
+		return (float)(yd*(yd3 + 2.0*x)/(2.0*yd3 + x));
+	}
+
+	/**
+	 * The non-linear function f(t) that's applied to normalized X, Y, Z values in the LAB transform
+	 */
+	private static float f( float t ) {
+		if( t > epsilon_f )
+			return cubeRoot(t);
+		else
+			return (kappa_f*t + 16.0f)/116.0f;
+	}
+
+	public static void rgbToLab_U8(Planar<GrayU8> rgb , Planar<GrayF32> lab ) {
+
+		GrayU8 R = rgb.getBand(0);
+		GrayU8 G = rgb.getBand(1);
+		GrayU8 B = rgb.getBand(2);
+
+		GrayF32 L_ = lab.getBand(0);
+		GrayF32 A_ = lab.getBand(1);
+		GrayF32 B_ = lab.getBand(2);
+
+		for( int row = 0; row < lab.height; row++ ) {
+			int indexLab = lab.startIndex + row*lab.stride;
+			int indexRgb = rgb.startIndex + row*rgb.stride;
+
+			for( int col = 0; col < lab.width; col++ , indexLab++ , indexRgb++) {
+				float r = (R.data[indexRgb]&0xFF)/255f;
+				float g = (G.data[indexRgb]&0xFF)/255f;
+				float b = (B.data[indexRgb]&0xFF)/255f;
+
+				float fx = f((0.412453f*r + 0.35758f*g + 0.180423f*b)*invXr_f);
+				float fy = f( 0.212671f*r + 0.71516f*g + 0.072169f*b);
+				float fz = f((0.019334f*r + 0.119193f*g + 0.950227f*b)*invZr_f);
+
+				L_.data[indexLab] = 116.0f*fy-16.0f;
+				A_.data[indexLab] = 500.0f*(fx-fy);
+				B_.data[indexLab] = 200.0f*(fy-fz);
+			}
+		}
+	}
+
+	public static void rgbToLab_F32(Planar<GrayF32> rgb , Planar<GrayF32> lab ) {
+
+		GrayF32 R = rgb.getBand(0);
+		GrayF32 G = rgb.getBand(1);
+		GrayF32 B = rgb.getBand(2);
+
+		GrayF32 L_ = lab.getBand(0);
+		GrayF32 A_ = lab.getBand(1);
+		GrayF32 B_ = lab.getBand(2);
+
+		for( int row = 0; row < lab.height; row++ ) {
+			int indexLab = lab.startIndex + row*lab.stride;
+			int indexRgb = rgb.startIndex + row*rgb.stride;
+
+			for( int col = 0; col < lab.width; col++ , indexLab++ , indexRgb++) {
+				float r = R.data[indexRgb]/255f;
+				float g = G.data[indexRgb]/255f;
+				float b = B.data[indexRgb]/255f;
+
+				float fx = f((0.412453f*r + 0.35758f*g + 0.180423f*b)*invXr_f);
+				float fy = f( 0.212671f*r + 0.71516f*g + 0.072169f*b);
+				float fz = f((0.019334f*r + 0.119193f*g + 0.950227f*b)*invZr_f);
+
+				L_.data[indexLab] = 116.0f*fy-16.0f;
+				A_.data[indexLab] = 500.0f*(fx-fy);
+				B_.data[indexLab] = 200.0f*(fy-fz);
+			}
+		}
+	}
+
+	public static void rgbToLab_U8(InterleavedU8 rgb , InterleavedF32 lab ) {
+
+		for( int row = 0; row < lab.height; row++ ) {
+			int indexLab = lab.startIndex + row*lab.stride;
+			int indexRgb = rgb.startIndex + row*rgb.stride;
+
+			for( int col = 0; col < lab.width; col++ ) {
+				float r = (rgb.data[indexRgb++]&0xFF)/255f;
+				float g = (rgb.data[indexRgb++]&0xFF)/255f;
+				float b = (rgb.data[indexRgb++]&0xFF)/255f;
+
+				float fx = f((0.412453f*r + 0.35758f*g + 0.180423f*b)*invXr_f);
+				float fy = f( 0.212671f*r + 0.71516f*g + 0.072169f*b);
+				float fz = f((0.019334f*r + 0.119193f*g + 0.950227f*b)*invZr_f);
+
+				lab.data[indexLab++] = 116.0f*fy-16.0f;
+				lab.data[indexLab++] = 500.0f*(fx-fy);
+				lab.data[indexLab++] = 200.0f*(fy-fz);
+			}
+		}
+	}
+
+	public static void rgbToLab_F32(InterleavedF32 rgb , InterleavedF32 lab ) {
+
+		for( int row = 0; row < lab.height; row++ ) {
+			int indexLab = lab.startIndex + row*lab.stride;
+			int indexRgb = rgb.startIndex + row*rgb.stride;
+
+			for( int col = 0; col < lab.width; col++ ) {
+				float r = rgb.data[indexRgb++]/255f;
+				float g = rgb.data[indexRgb++]/255f;
+				float b = rgb.data[indexRgb++]/255f;
+
+				float fx = f((0.412453f*r + 0.35758f*g + 0.180423f*b)*invXr_f);
+				float fy = f( 0.212671f*r + 0.71516f*g + 0.072169f*b);
+				float fz = f((0.019334f*r + 0.119193f*g + 0.950227f*b)*invZr_f);
+
+				lab.data[indexLab++] = 116.0f*fy-16.0f;
+				lab.data[indexLab++] = 500.0f*(fx-fy);
+				lab.data[indexLab++] = 200.0f*(fy-fz);
+			}
+		}
+	}
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.color.impl;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeConsumer;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.InterleavedF32;
+import boofcv.struct.image.InterleavedU8;
+import boofcv.struct.image.Planar;
+
+/**
+ * Concurrent implementation of {@link ImplColorYuv}.  The image is split into horizontal bands and each band
+ * is converted as a sub-image in its own thread.
+ *
+ * @author Peter Abeles
+ */
+public class ImplColorYuv_MT {
+
+	public static void yuvToRgb_F32( final Planar<GrayF32> yuv , final Planar<GrayF32> rgb ) {
+		BoofConcurrency.loopBlocks(0, yuv.height, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				ImplColorYuv.yuvToRgb_F32(yuv.subimage(0, y0, yuv.width, y1), rgb.subimage(0, y0, rgb.width, y1));
+			}
+		});
+	}
+
+	public static void rgbToYuv_F32( final Planar<GrayF32> rgb , final Planar<GrayF32> yuv ) {
+		BoofConcurrency.loopBlocks(0, rgb.height, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				ImplColorYuv.rgbToYuv_F32(rgb.subimage(0, y0, rgb.width, y1), yuv.subimage(0, y0, yuv.width, y1));
+			}
+		});
+	}
+
+	public static void ycbcrToRgb_U8( final Planar<GrayU8> yuv , final Planar<GrayU8> rgb ) {
+		BoofConcurrency.loopBlocks(0, yuv.height, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				ImplColorYuv.ycbcrToRgb_U8(yuv.subimage(0, y0, yuv.width, y1), rgb.subimage(0, y0, rgb.width, y1));
+			}
+		});
+	}
+
+	public static void yuvToRgb_F32( final InterleavedF32 yuv , final InterleavedF32 rgb ) {
+		BoofConcurrency.loopBlocks(0, yuv.height, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				ImplColorYuv.yuvToRgb_F32(yuv.subimage(0, y0, yuv.width, y1), rgb.subimage(0, y0, rgb.width, y1));
+			}
+		});
+	}
+
+	public static void rgbToYuv_F32( final InterleavedF32 rgb , final InterleavedF32 yuv ) {
+		BoofConcurrency.loopBlocks(0, rgb.height, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				ImplColorYuv.rgbToYuv_F32(rgb.subimage(0, y0, rgb.width, y1), yuv.subimage(0, y0, yuv.width, y1));
+			}
+		});
+	}
+
+	public static void ycbcrToRgb_U8( final InterleavedU8 yuv , final InterleavedU8 rgb ) {
+		BoofConcurrency.loopBlocks(0, yuv.height, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				ImplColorYuv.ycbcrToRgb_U8(yuv.subimage(0, y0, yuv.width, y1), rgb.subimage(0, y0, rgb.width, y1));
+			}
+		});
+	}
+}
@@ -46,6 +46,9 @@ public class DenoiseBayesShrink_F32 extends SubbandShrink<GrayF32> {
 
 	float noiseVariance;
 
+	// storage for the absolute value of coefficients in the HH_1 subband
+	float storage[] = new float[0];
+
 	public DenoiseBayesShrink_F32( ShrinkThresholdRule<GrayF32> rule ) {
 		super(rule);
 	}
@@ -86,7 +89,10 @@ public class DenoiseBayesShrink_F32 extends SubbandShrink<GrayF32> {
 		int h = transform.height;
 
 		// compute the noise variance using the HH_1 subband
-		noiseVariance = UtilDenoiseWavelet.estimateNoiseStdDev(transform.subimage(w/2,h/2,w,h, null),null);
+		GrayF32 subbandHH = transform.subimage(w/2,h/2,w,h, null);
+		if( storage.length < subbandHH.width*subbandHH.height )
+			storage = new float[subbandHH.width*subbandHH.height];
+		noiseVariance = UtilDenoiseWavelet.estimateNoiseStdDev(subbandHH,storage);
 		noiseVariance *= noiseVariance;
 
 //		System.out.println("Noise Variance: "+noiseVariance);
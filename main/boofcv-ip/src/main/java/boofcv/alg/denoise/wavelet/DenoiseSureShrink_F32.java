@@ -19,6 +19,7 @@
 package boofcv.alg.denoise.wavelet;
 
 import boofcv.struct.image.GrayF32;
+import org.ddogleg.struct.GrowQueue_F32;
 
 import java.util.Arrays;
 
@@ -45,26 +46,37 @@ public class DenoiseSureShrink_F32 extends SubbandShrink<GrayF32> {
 
 	float noiseSigma;
 
+	// storage for the absolute value of coefficients in the HH_1 subband
+	float storage[] = new float[0];
+
 	public DenoiseSureShrink_F32() {
 		super(new ShrinkThresholdSoft_F32());
 	}
 
 	@Override
-	protected Number computeThreshold( GrayF32 subband  )
+	protected Number computeThreshold( GrayF32 subband )
+	{
+		return computeThreshold(subband, new GrowQueue_F32());
+	}
+
+	@Override
+	protected Number computeThreshold( GrayF32 subband , GrowQueue_F32 storage )
 	{
-		float coef[] = new float[ subband.width*subband.height ];
+		int length = subband.width*subband.height;
+		storage.resize(length);
+		float coef[] = storage.data;
 		UtilDenoiseWavelet.subbandAbsVal(subband,coef);
-		Arrays.sort(coef);
+		Arrays.sort(coef,0,length);
 
 		float maxThreshold =(float) UtilDenoiseWavelet.universalThreshold(subband,1.0);
 
-		float N = coef.length;
+		float N = length;
 
 		float threshold = maxThreshold;
 		float bestRisk = Float.MAX_VALUE;
 		float sumW = 0;
 		float right = N-2.0f;
-		for( int i = 0; i < coef.length; i++ , right -= 2.0f) {
+		for( int i = 0; i < length; i++ , right -= 2.0f) {
 			float c = coef[i]/noiseSigma;
 			if( c > maxThreshold ) {
 				break;
@@ -89,7 +101,10 @@ public class DenoiseSureShrink_F32 extends SubbandShrink<GrayF32> {
 		int h = transform.height;
 
 		// compute the noise variance using the HH_1 subband
-		noiseSigma = UtilDenoiseWavelet.estimateNoiseStdDev(transform.subimage(w/2,h/2,w,h, null),null);
+		GrayF32 subbandHH = transform.subimage(w/2,h/2,w,h, null);
+		if( storage.length < subbandHH.width*subbandHH.height )
+			storage = new float[subbandHH.width*subbandHH.height];
+		noiseSigma = UtilDenoiseWavelet.estimateNoiseStdDev(subbandHH,storage);
 
 //		System.out.println("Noise sigma: "+noiseSigma);
 
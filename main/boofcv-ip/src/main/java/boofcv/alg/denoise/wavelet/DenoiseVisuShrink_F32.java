@@ -21,6 +21,8 @@ package boofcv.alg.denoise.wavelet;
 import boofcv.alg.denoise.DenoiseWavelet;
 import boofcv.alg.denoise.ShrinkThresholdRule;
 import boofcv.alg.transform.wavelet.UtilWavelet;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeConsumer;
 import boofcv.struct.image.GrayF32;
 
 
@@ -41,6 +43,12 @@ public class DenoiseVisuShrink_F32 implements DenoiseWavelet<GrayF32> {
 
 	ShrinkThresholdRule<GrayF32> rule = new ShrinkThresholdSoft_F32();
 
+	// if true the threshold is applied to bands of rows concurrently
+	boolean concurrent = BoofConcurrency.USE_CONCURRENT;
+
+	// storage for the absolute value of coefficients in the HH_1 subband
+	float storage[] = new float[0];
+
 	/**
 	 * Applies VisuShrink denoising to the provided multilevel wavelet transform using
 	 * the provided threshold.
@@ -60,11 +68,41 @@ public class DenoiseVisuShrink_F32 implements DenoiseWavelet<GrayF32> {
 		final int innerHeight = h/scale;
 
 		GrayF32 subbandHH = transform.subimage(w/2,h/2,w,h, null);
-		float sigma = UtilDenoiseWavelet.estimateNoiseStdDev(subbandHH,null);
-		float threshold = (float) UtilDenoiseWavelet.universalThreshold(subbandHH,sigma);
+		if( storage.length < subbandHH.width*subbandHH.height )
+			storage = new float[subbandHH.width*subbandHH.height];
+		float sigma = UtilDenoiseWavelet.estimateNoiseStdDev(subbandHH,storage);
+		final float threshold = (float) UtilDenoiseWavelet.universalThreshold(subbandHH,sigma);
 
 		// apply same threshold to all wavelet coefficients
-		rule.process(transform.subimage(innerWidth,0,w,h, null),threshold);
-		rule.process(transform.subimage(0,innerHeight,innerWidth,h, null),threshold);
+		final GrayF32 right = transform.subimage(innerWidth,0,w,h, null);
+		final GrayF32 bottom = transform.subimage(0,innerHeight,innerWidth,h, null);
+
+		if( concurrent ) {
+			// the rule is applied to each pixel independently so the coefficients can be split into bands of rows
+			BoofConcurrency.loopBlocks(0, h, new IntRangeConsumer() {
+				@Override
+				public void accept(int y0, int y1) {
+					rule.process(right.subimage(0,y0,right.width,y1, null),threshold);
+					if( y1 > innerHeight ) {
+						int y = Math.max(y0,innerHeight)-innerHeight;
+						rule.process(bottom.subimage(0,y,bottom.width,y1-innerHeight, null),threshold);
+					}
+				}
+			});
+		} else {
+			rule.process(right,threshold);
+			rule.process(bottom,threshold);
+		}
+	}
+
+	public boolean isConcurrent() {
+		return concurrent;
+	}
+
+	/**
+	 * Specifies if the threshold should be applied concurrently.
+	 */
+	public void setConcurrent(boolean concurrent) {
+		this.concurrent = concurrent;
 	}
 }
@@ -20,12 +20,20 @@ package boofcv.alg.denoise.wavelet;
 
 import boofcv.alg.denoise.DenoiseWavelet;
 import boofcv.alg.denoise.ShrinkThresholdRule;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeObjectConsumer;
 import boofcv.struct.image.ImageGray;
+import org.ddogleg.struct.FastQueue;
+import org.ddogleg.struct.GrowQueue_F32;
+
+import java.util.ArrayList;
+import java.util.List;
 
 
 /**
  * Performs an adaptive threshold based wavelet shrinkage across each of the wavelet subbands in each
- * layer of the transformed image.
+ * layer of the transformed image.  Subbands are independent of each other and can be processed concurrently,
+ * in which case {@link #computeThreshold} and the {@link ShrinkThresholdRule} must not modify shared state.
  *
  * @author Peter Abeles
  */
@@ -34,6 +42,14 @@ public abstract class SubbandShrink<I extends ImageGray<I>> implements DenoiseWa
 	// specifies how the threshold is applied to each pixel in the image
 	protected ShrinkThresholdRule<I> rule;
 
+	// if true the subbands are processed concurrently
+	protected boolean concurrent = BoofConcurrency.USE_CONCURRENT;
+
+	// every subband in every level
+	private final List<I> subbands = new ArrayList<>();
+	// storage passed to computeThreshold().  One for each thread
+	private final FastQueue<GrowQueue_F32> workspaces = new FastQueue<>(GrowQueue_F32.class,true);
+
 	protected SubbandShrink(ShrinkThresholdRule<I> rule) {
 		this.rule = rule;
 	}
@@ -46,6 +62,18 @@ public abstract class SubbandShrink<I extends ImageGray<I>> implements DenoiseWa
 	 */
 	protected abstract Number computeThreshold( I subband );
 
+	/**
+	 * Compute the threshold for the specified subband using storage which is not shared with other threads.
+	 * By default the storage is ignored.
+	 *
+	 * @param subband Subband whose threshold is being computed.
+	 * @param storage Storage which can be used to avoid creating memory.
+	 * @return
+	 */
+	protected Number computeThreshold( I subband , GrowQueue_F32 storage ) {
+		return computeThreshold(subband);
+	}
+
 	/**
 	 * Performs wavelet shrinking using the specified rule and by computing a threshold
 	 * for each subband.
@@ -55,38 +83,55 @@ public abstract class SubbandShrink<I extends ImageGray<I>> implements DenoiseWa
 	 */
 	protected void performShrinkage( I transform , int numLevels ) {
 
-		// step through each layer in the pyramid.
+		// step through each layer in the pyramid and collect the subbands
+		subbands.clear();
 		for( int i = 0; i < numLevels; i++ ) {
 			int w = transform.width;
 			int h = transform.height;
 			int ww = w/2;
 			int hh = h/2;
-			Number threshold;
-			I subband;
 
 			// HL
-			subband = transform.subimage(ww,0,w,hh, null);
-			threshold = computeThreshold(subband);
-			rule.process(subband,threshold);
-
-//			System.out.print("HL = "+threshold);
-
+			subbands.add(transform.subimage(ww,0,w,hh, null));
 			// LH
-			subband = transform.subimage(0,hh,ww,h, null);
-			threshold = computeThreshold(subband);
-			rule.process(subband,threshold);
-
-//			System.out.print("  LH = "+threshold);
-
+			subbands.add(transform.subimage(0,hh,ww,h, null));
 			// HH
-			subband = transform.subimage(ww,hh,w,h, null);
-			threshold = computeThreshold(subband);
-			rule.process(subband,threshold);
-
-//			System.out.println("  HH = "+threshold);
+			subbands.add(transform.subimage(ww,hh,w,h, null));
 
 			transform = transform.subimage(0,0,ww,hh, null);
 		}
 
+		if( concurrent ) {
+			BoofConcurrency.loopBlocks(0, subbands.size(), 1, workspaces, new IntRangeObjectConsumer<GrowQueue_F32>() {
+				@Override
+				public void accept(GrowQueue_F32 storage, int i0, int i1) {
+					for( int i = i0; i < i1; i++ ) {
+						shrink(subbands.get(i),storage);
+					}
+				}
+			});
+		} else {
+			workspaces.resize(1);
+			for( int i = 0; i < subbands.size(); i++ ) {
+				shrink(subbands.get(i),workspaces.get(0));
+			}
+		}
+		subbands.clear();
+	}
+
+	private void shrink( I subband , GrowQueue_F32 storage ) {
+		Number threshold = computeThreshold(subband,storage);
+		rule.process(subband,threshold);
+	}
+
+	public boolean isConcurrent() {
+		return concurrent;
+	}
+
+	/**
+	 * Specifies if subbands should be processed concurrently.
+	 */
+	public void setConcurrent(boolean concurrent) {
+		this.concurrent = concurrent;
 	}
 }
@@ -31,4 +31,9 @@ public class DoNothingPixelTransform_F32 extends PixelTransform2_F32 {
 		distX = x;
 		distY = y;
 	}
+
+	@Override
+	public DoNothingPixelTransform_F32 copyConcurrent() {
+		return new DoNothingPixelTransform_F32();
+	}
 }
@@ -73,4 +73,17 @@ public interface ImageDistort<Input extends ImageBase,Output extends ImageBase>
 	 * @return render all flag
 	 */
 	public boolean getRenderAll();
+
+	/**
+	 * Specifies if the image should be rendered using multiple threads. The output is the same either way.
+	 *
+	 * @param concurrent true to render concurrently
+	 */
+	public void setConcurrent( boolean concurrent );
+
+	/**
+	 * Returns the concurrent flag
+	 * @return true if it will render concurrently
+	 */
+	public boolean isConcurrent();
 }
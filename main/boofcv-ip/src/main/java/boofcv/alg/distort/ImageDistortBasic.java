@@ -19,19 +19,37 @@
 package boofcv.alg.distort;
 
 import boofcv.alg.interpolate.InterpolatePixel;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeConsumer;
 import boofcv.struct.distort.PixelTransform2_F32;
 import boofcv.struct.image.ImageBase;
 
 /**
+ * <p>
  * Most basic implementation of {@link ImageDistort}. Computes the distortion from the dst to src image
  * for each pixel.  The dst pixel value is then set to the interpolated value of the src image.
+ * </p>
+ *
+ * <p>
+ * When {@link #setConcurrent(boolean) concurrent} the destination image is split into bands of rows which are
+ * processed in parallel. Each band uses its own copy of the interpolation algorithm and transform, which are
+ * created every time apply is called so that changes to the transform will always be seen. Output is identical
+ * to the single threaded version.
+ * </p>
  *
  * @author Peter Abeles
  */
+@SuppressWarnings("unchecked")
 public abstract class ImageDistortBasic
 		<Input extends ImageBase<Input>,Output extends ImageBase<Output>,Interpolate extends InterpolatePixel<Input>>
 		implements ImageDistort<Input,Output> {
 
+	/**
+	 * Default minimum number of pixels in a band of rows. Any smaller and the cost of copying the transform and
+	 * starting a thread isn't worth it.
+	 */
+	public static final int DEFAULT_MIN_BAND_PIXELS = 10000;
+
 	// distortion model from the dst to src image
 	protected PixelTransform2_F32 dstToSrc;
 	// sub pixel interpolation
@@ -42,6 +60,10 @@ public abstract class ImageDistortBasic
 
 	// should it render all pixels in the destination, even ones outside the input image
 	protected boolean renderAll = true;
+	// If true then bands of rows are processed concurrently
+	protected boolean concurrent = BoofConcurrency.USE_CONCURRENT;
+	// minimum number of pixels in a band of rows when rendering concurrently
+	protected int minBandPixels = DEFAULT_MIN_BAND_PIXELS;
 	protected Input srcImg;
 	protected Output dstImg;
 
@@ -61,14 +83,7 @@ public abstract class ImageDistortBasic
 
 	@Override
 	public void apply(Input srcImg, Output dstImg) {
-		init(srcImg, dstImg);
-
-		x0 = 0;y0 = 0;x1 = dstImg.width;y1 = dstImg.height;
-
-		if(renderAll)
-			applyAll();
-		else
-			applyOnlyInside();
+		apply(srcImg, dstImg, 0, 0, dstImg.width, dstImg.height);
 	}
 
 	@Override
@@ -77,10 +92,26 @@ public abstract class ImageDistortBasic
 
 		x0 = dstX0;y0 = dstY0;x1 = dstX1;y1 = dstY1;
 
+		int minRows = Math.max(1, minBandPixels/Math.max(1, x1 - x0));
+		if( concurrent && BoofConcurrency.computeNumberOfBlocks(y1 - y0, minRows) > 1 ) {
+			BoofConcurrency.loopBlocks(y0, y1, minRows, new IntRangeConsumer() {
+				@Override
+				public void accept(int blockY0, int blockY1) {
+					Interpolate interp = (Interpolate)ImageDistortBasic.this.interp.copy();
+					interp.setImage(ImageDistortBasic.this.srcImg);
+					render(interp, dstToSrc.copyConcurrent(), blockY0, blockY1);
+				}
+			});
+		} else {
+			render(interp, dstToSrc, y0, y1);
+		}
+	}
+
+	private void render( Interpolate interp , PixelTransform2_F32 dstToSrc , int y0 , int y1 ) {
 		if(renderAll)
-			applyAll();
+			applyAll(interp, dstToSrc, y0, y1);
 		else
-			applyOnlyInside();
+			applyOnlyInside(interp, dstToSrc, y0, y1);
 	}
 
 	protected void init(Input srcImg, Output dstImg) {
@@ -89,9 +120,16 @@ public abstract class ImageDistortBasic
 		interp.setImage(srcImg);
 	}
 
-	protected abstract void applyAll();
+	/**
+	 * Renders every pixel inside the crop's columns in rows y0 to y1-1. Must only modify the destination image
+	 * since it can be called by multiple threads at once.
+	 */
+	protected abstract void applyAll( Interpolate interp , PixelTransform2_F32 dstToSrc , int y0 , int y1 );
 
-	protected abstract void applyOnlyInside();
+	/**
+	 * Same as {@link #applyAll} but only pixels which map inside the source image are rendered
+	 */
+	protected abstract void applyOnlyInside( Interpolate interp , PixelTransform2_F32 dstToSrc , int y0 , int y1 );
 
 	@Override
 	public void setRenderAll(boolean renderAll) {
@@ -102,4 +140,26 @@ public abstract class ImageDistortBasic
 	public boolean getRenderAll() {
 		return renderAll;
 	}
+
+	@Override
+	public boolean isConcurrent() {
+		return concurrent;
+	}
+
+	@Override
+	public void setConcurrent(boolean concurrent) {
+		this.concurrent = concurrent;
+	}
+
+	public int getMinBandPixels() {
+		return minBandPixels;
+	}
+
+	/**
+	 * Specifies the minimum number of pixels in a band of rows when rendering concurrently.  The default value is
+	 * {@link #DEFAULT_MIN_BAND_PIXELS}.
+	 */
+	public void setMinBandPixels(int minBandPixels) {
+		this.minBandPixels = minBandPixels;
+	}
 }
@@ -19,6 +19,7 @@
 package boofcv.alg.distort;
 
 import boofcv.alg.interpolate.InterpolatePixelMB;
+import boofcv.struct.distort.PixelTransform2_F32;
 import boofcv.struct.image.ImageInterleaved;
 
 /**
@@ -51,8 +52,18 @@ public abstract class ImageDistortBasic_IL
 		}
 	}
 
+	/**
+	 * Returns storage for interpolated pixel values.  The interpolation owned by this class is only used by
+	 * the calling thread and reuses {@link #values}.  Copies are used by bands in other threads which need
+	 * their own storage.
+	 */
+	private float[] storageFor( InterpolatePixelMB<Input> interp ) {
+		return interp == this.interp ? values : new float[ values.length ];
+	}
+
 	@Override
-	public void applyAll() {
+	public void applyAll( InterpolatePixelMB<Input> interp , PixelTransform2_F32 dstToSrc , int y0 , int y1 ) {
+		float values[] = storageFor(interp);
 
 		// todo TO make this faster first apply inside the region which can process the fast border
 		// then do the slower border thingy
@@ -68,7 +79,8 @@ public abstract class ImageDistortBasic_IL
 	}
 
 	@Override
-	public void applyOnlyInside() {
+	public void applyOnlyInside( InterpolatePixelMB<Input> interp , PixelTransform2_F32 dstToSrc , int y0 , int y1 ) {
+		float values[] = storageFor(interp);
 
 		float maxWidth = srcImg.getWidth()-1;
 		float maxHeight = srcImg.getHeight()-1;
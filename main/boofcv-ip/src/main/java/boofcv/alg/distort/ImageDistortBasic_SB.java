@@ -19,6 +19,7 @@
 package boofcv.alg.distort;
 
 import boofcv.alg.interpolate.InterpolatePixelS;
+import boofcv.struct.distort.PixelTransform2_F32;
 import boofcv.struct.image.ImageGray;
 
 /**
@@ -40,7 +41,7 @@ public abstract class ImageDistortBasic_SB<Input extends ImageGray<Input>,Output
 	}
 
 	@Override
-	public void applyAll() {
+	public void applyAll( InterpolatePixelS<Input> interp , PixelTransform2_F32 dstToSrc , int y0 , int y1 ) {
 
 		// todo TO make this faster first apply inside the region which can process the fast border
 		// then do the slower border thingy
@@ -55,7 +56,7 @@ public abstract class ImageDistortBasic_SB<Input extends ImageGray<Input>,Output
 	}
 
 	@Override
-	public void applyOnlyInside() {
+	public void applyOnlyInside( InterpolatePixelS<Input> interp , PixelTransform2_F32 dstToSrc , int y0 , int y1 ) {
 
 		float maxWidth = srcImg.getWidth()-1;
 		float maxHeight = srcImg.getHeight()-1;
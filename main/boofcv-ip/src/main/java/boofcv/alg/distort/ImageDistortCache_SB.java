@@ -19,6 +19,8 @@
 package boofcv.alg.distort;
 
 import boofcv.alg.interpolate.InterpolatePixelS;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeConsumer;
 import boofcv.struct.distort.PixelTransform2_F32;
 import boofcv.struct.image.ImageGray;
 import georegression.struct.point.Point2D_F32;
@@ -26,7 +28,8 @@ import georegression.struct.point.Point2D_F32;
 /**
  * Except for very simple functions, computing the per pixel distortion is an expensive operation.
  * To overcome this problem the distortion is computed once and cached.  Then when the image is distorted
- * again the save results are simply recalled and not computed again.
+ * again the save results are simply recalled and not computed again.  Rendering can be done concurrently, in which
+ * case each band of rows reads from the shared cache using its own copy of the interpolation algorithm.
  *
  * @author Peter Abeles
  */
@@ -47,6 +50,10 @@ public abstract class ImageDistortCache_SB<Input extends ImageGray<Input>,Output
 
 	// should it render all pixels in the destination, even ones outside the input image
 	protected boolean renderAll = true;
+	// If true then bands of rows are processed concurrently
+	protected boolean concurrent = BoofConcurrency.USE_CONCURRENT;
+	// minimum number of pixels in a band of rows when rendering concurrently
+	protected int minBandPixels = ImageDistortBasic.DEFAULT_MIN_BAND_PIXELS;
 	protected Input srcImg;
 	protected Output dstImg;
 
@@ -69,14 +76,7 @@ public abstract class ImageDistortCache_SB<Input extends ImageGray<Input>,Output
 
 	@Override
 	public void apply(Input srcImg, Output dstImg) {
-		init(srcImg, dstImg);
-
-		x0 = 0;y0 = 0;x1 = dstImg.width;y1 = dstImg.height;
-
-		if( renderAll )
-			renderAll();
-		else
-			applyOnlyInside();
+		apply(srcImg, dstImg, 0, 0, dstImg.width, dstImg.height);
 	}
 
 	@Override
@@ -85,10 +85,26 @@ public abstract class ImageDistortCache_SB<Input extends ImageGray<Input>,Output
 
 		x0 = dstX0;y0 = dstY0;x1 = dstX1;y1 = dstY1;
 
+		int minRows = Math.max(1, minBandPixels/Math.max(1, x1 - x0));
+		if( concurrent && BoofConcurrency.computeNumberOfBlocks(y1 - y0, minRows) > 1 ) {
+			BoofConcurrency.loopBlocks(y0, y1, minRows, new IntRangeConsumer() {
+				@Override
+				public void accept(int blockY0, int blockY1) {
+					InterpolatePixelS<Input> interp = ImageDistortCache_SB.this.interp.copy();
+					interp.setImage(ImageDistortCache_SB.this.srcImg);
+					render(interp, blockY0, blockY1);
+				}
+			});
+		} else {
+			render(interp, y0, y1);
+		}
+	}
+
+	private void render( InterpolatePixelS<Input> interp , int y0 , int y1 ) {
 		if( renderAll )
-			renderAll();
+			renderAll(interp, y0, y1);
 		else
-			applyOnlyInside();
+			applyOnlyInside(interp, y0, y1);
 	}
 
 	private void init(Input srcImg, Output dstImg) {
@@ -116,7 +132,7 @@ public abstract class ImageDistortCache_SB<Input extends ImageGray<Input>,Output
 		interp.setImage(srcImg);
 	}
 
-	public void renderAll() {
+	public void renderAll( InterpolatePixelS<Input> interp , int y0 , int y1 ) {
 
 		// todo TO make this faster first apply inside the region which can process the fast border
 		// then do the slower border thingy
@@ -130,7 +146,7 @@ public abstract class ImageDistortCache_SB<Input extends ImageGray<Input>,Output
 		}
 	}
 
-	public void applyOnlyInside() {
+	public void applyOnlyInside( InterpolatePixelS<Input> interp , int y0 , int y1 ) {
 		float maxWidth = srcImg.getWidth()-1;
 		float maxHeight = srcImg.getHeight()-1;
 
@@ -157,4 +173,26 @@ public abstract class ImageDistortCache_SB<Input extends ImageGray<Input>,Output
 	public boolean getRenderAll() {
 		return renderAll;
 	}
+
+	@Override
+	public boolean isConcurrent() {
+		return concurrent;
+	}
+
+	@Override
+	public void setConcurrent(boolean concurrent) {
+		this.concurrent = concurrent;
+	}
+
+	public int getMinBandPixels() {
+		return minBandPixels;
+	}
+
+	/**
+	 * Specifies the minimum number of pixels in a band of rows when rendering concurrently.  The default value is
+	 * {@link ImageDistortBasic#DEFAULT_MIN_BAND_PIXELS}.
+	 */
+	public void setMinBandPixels(int minBandPixels) {
+		this.minBandPixels = minBandPixels;
+	}
 }
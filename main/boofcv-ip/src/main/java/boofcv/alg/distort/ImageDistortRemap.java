@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.distort;
+
+import boofcv.alg.distort.impl.ImplImageRemap_U8;
+import boofcv.alg.distort.impl.ImplImageRemap_U8_MT;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.distort.PixelTransform2_F32;
+import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.ImageBase;
+import boofcv.struct.image.InterleavedU8;
+
+/**
+ * <p>
+ * {@link ImageDistort} which samples the source image using a precomputed {@link RemapTable} and fixed point
+ * bilinear interpolation. Intended for when the same distortion is applied to many images, e.g. removing lens
+ * distortion from a fixed camera. The table is computed the first time it's needed after
+ * {@link #setModel(PixelTransform2_F32)} is called or can be provided directly with {@link #setTable(RemapTable)},
+ * e.g. after being loaded from disk.
+ * </p>
+ *
+ * <p>
+ * Supports {@link GrayU8} and {@link InterleavedU8}. Pixels which map outside the source image are set to zero when
+ * rendering all pixels.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class ImageDistortRemap<T extends ImageBase<T>> implements ImageDistort<T,T> {
+
+	// distortion model from the dst to src image. null if the table was provided directly
+	private PixelTransform2_F32 dstToSrc;
+	private RemapTable table = new RemapTable();
+	// true if the table needs to be recomputed
+	private boolean dirty = false;
+
+	// should it render all pixels in the destination, even ones outside the input image
+	private boolean renderAll = true;
+	// If true then bands of rows are processed concurrently
+	private boolean concurrent = BoofConcurrency.USE_CONCURRENT;
+
+	@Override
+	public void setModel(PixelTransform2_F32 dstToSrc) {
+		this.dstToSrc = dstToSrc;
+		this.dirty = true;
+	}
+
+	@Override
+	public void apply(T srcImg, T dstImg) {
+		apply(srcImg, dstImg, 0, 0, dstImg.width, dstImg.height);
+	}
+
+	@Override
+	public void apply(T srcImg, T dstImg, int dstX0, int dstY0, int dstX1, int dstY1) {
+		if( dirty || !table.isShape(srcImg.width, srcImg.height, dstImg.width, dstImg.height) ) {
+			if( dstToSrc == null )
+				throw new IllegalArgumentException("Image shapes don't match the table and there is no model to recompute it");
+			table.compute(dstToSrc, srcImg.width, srcImg.height, dstImg.width, dstImg.height);
+			dirty = false;
+		}
+
+		if( srcImg instanceof GrayU8 ) {
+			if( concurrent )
+				ImplImageRemap_U8_MT.apply(table, (GrayU8)srcImg, (GrayU8)dstImg, dstX0, dstY0, dstX1, dstY1, renderAll);
+			else
+				ImplImageRemap_U8.apply(table, (GrayU8)srcImg, (GrayU8)dstImg, dstX0, dstY0, dstX1, dstY1, renderAll);
+		} else if( srcImg instanceof InterleavedU8 ) {
+			InterleavedU8 src = (InterleavedU8)srcImg;
+			InterleavedU8 dst = (InterleavedU8)dstImg;
+			if( src.numBands != dst.numBands )
+				throw new IllegalArgumentException("Number of bands must match");
+			if( concurrent )
+				ImplImageRemap_U8_MT.apply(table, src, dst, dstX0, dstY0, dstX1, dstY1, renderAll);
+			else
+				ImplImageRemap_U8.apply(table, src, dst, dstX0, dstY0, dstX1, dstY1, renderAll);
+		} else {
+			throw new IllegalArgumentException("Image type not supported: "+srcImg.getClass().getSimpleName());
+		}
+	}
+
+	/**
+	 * Specifies the table directly. Any previously specified model is discarded. The table is not copied.
+	 */
+	public void setTable(RemapTable table) {
+		this.table = table;
+		this.dstToSrc = null;
+		this.dirty = false;
+	}
+
+	/**
+	 * Returns the table. Will be empty until {@link #apply} has been called after specifying a model.
+	 */
+	public RemapTable getTable() {
+		return table;
+	}
+
+	@Override
+	public void setRenderAll(boolean renderAll) {
+		this.renderAll = renderAll;
+	}
+
+	@Override
+	public boolean getRenderAll() {
+		return renderAll;
+	}
+
+	@Override
+	public boolean isConcurrent() {
+		return concurrent;
+	}
+
+	/**
+	 * Specifies if bands of rows should be processed concurrently.
+	 */
+	@Override
+	public void setConcurrent(boolean concurrent) {
+		this.concurrent = concurrent;
+	}
+}
@@ -56,4 +56,11 @@ public class PixelTransformAffine_F32 extends PixelTransform2_F32 {
 	public Affine2D_F32 getModel() {
 		return affine;
 	}
+
+	@Override
+	public PixelTransformAffine_F32 copyConcurrent() {
+		PixelTransformAffine_F32 out = new PixelTransformAffine_F32();
+		out.set(affine);
+		return out;
+	}
 }
@@ -33,6 +33,9 @@ public class PixelTransformCached_F32 extends PixelTransform2_F32 {
 	Point2D_F32 map[];
 	int width,height;
 
+	private PixelTransformCached_F32() {
+	}
+
 	public PixelTransformCached_F32(int width, int height, Point2Transform2_F32 transform ) {
 		this(width,height, new PointToPixelTransform_F32(transform));
 	}
@@ -60,4 +63,16 @@ public class PixelTransformCached_F32 extends PixelTransform2_F32 {
 		distX = p.x;
 		distY = p.y;
 	}
+
+	/**
+	 * The look up table is shared with the copy
+	 */
+	@Override
+	public PixelTransformCached_F32 copyConcurrent() {
+		PixelTransformCached_F32 out = new PixelTransformCached_F32();
+		out.map = map;
+		out.width = width;
+		out.height = height;
+		return out;
+	}
 }
@@ -43,10 +43,19 @@ public class PointToPixelTransform_F32 extends PixelTransform2_F32 {
 		this.alg = transform;
 	}
 
+	public Point2Transform2_F32 getTransform() {
+		return alg;
+	}
+
 	@Override
 	public void compute(int x, int y) {
 		alg.compute(x,y,point);
 		distX = point.x;
 		distY = point.y;
 	}
+
+	@Override
+	public PointToPixelTransform_F32 copyConcurrent() {
+		return new PointToPixelTransform_F32(alg.copyConcurrent());
+	}
 }
@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.distort;
+
+import boofcv.struct.distort.PixelTransform2_F32;
+
+import java.io.Serializable;
+
+/**
+ * <p>
+ * Compact lookup table which specifies where each pixel in the destination image is sampled from in the source image.
+ * Each coordinate is stored in fixed point. The integer part of x and y are stored as shorts in {@link #coor} and the
+ * fractional parts are quantized to {@link #BITS} bits and packed into a single short in {@link #frac}. Sampling
+ * the source image with bilinear interpolation can then be done entirely with integer math. Pixels which map
+ * outside of the source image are marked with {@link #OUTSIDE}.
+ * </p>
+ *
+ * <p>
+ * The table only depends on the distortion model and the image shapes, so for a fixed camera it can be computed once,
+ * saved to disk using Java serialization, then loaded and applied to every frame.
+ * </p>
+ *
+ * @see ImageDistortRemap
+ *
+ * @author Peter Abeles
+ */
+public class RemapTable implements Serializable {
+	// serialization version
+	public static final long serialVersionUID = 1L;
+
+	/** Number of bits used to encode the fractional part of a coordinate */
+	public static final int BITS = 5;
+	/** Fixed point scale of a coordinate. One pixel is this many units. */
+	public static final int SCALE = 1 << BITS;
+	/** Value in {@link #frac} for pixels which are outside the source image */
+	public static final short OUTSIDE = -1;
+
+	/** Shape of the source image */
+	public int srcWidth, srcHeight;
+	/** Shape of the destination image */
+	public int width, height;
+
+	/** Integer coordinate of the top left pixel that's sampled. Interleaved x and y. 2*width*height elements */
+	public short coor[] = new short[0];
+	/** Fractional part of x in the lower 8-bits and y in the upper 8-bits, or {@link #OUTSIDE}. width*height elements */
+	public short frac[] = new short[0];
+
+	/**
+	 * Creates a table and computes it
+	 *
+	 * @see #compute
+	 */
+	public RemapTable(PixelTransform2_F32 dstToSrc, int srcWidth, int srcHeight, int dstWidth, int dstHeight) {
+		compute(dstToSrc, srcWidth, srcHeight, dstWidth, dstHeight);
+	}
+
+	public RemapTable() {
+	}
+
+	/**
+	 * Computes the table by applying the transform to every pixel in the destination image
+	 *
+	 * @param dstToSrc Transform from destination to source pixels
+	 * @param srcWidth Width of source image. Must be at least 2.
+	 * @param srcHeight Height of source image. Must be at least 2.
+	 * @param dstWidth Width of destination image
+	 * @param dstHeight Height of destination image
+	 */
+	public void compute(PixelTransform2_F32 dstToSrc, int srcWidth, int srcHeight, int dstWidth, int dstHeight) {
+		if( srcWidth < 2 || srcHeight < 2 )
+			throw new IllegalArgumentException("Source image must be at least 2x2");
+		if( srcWidth > Short.MAX_VALUE || srcHeight > Short.MAX_VALUE )
+			throw new IllegalArgumentException("Source image is too large to be encoded in a short");
+
+		reshape(srcWidth, srcHeight, dstWidth, dstHeight);
+
+		float maxWidth = srcWidth-1;
+		float maxHeight = srcHeight-1;
+
+		int index = 0;
+		for( int y = 0; y < dstHeight; y++ ) {
+			for( int x = 0; x < dstWidth; x++ , index++ ) {
+				dstToSrc.compute(x,y);
+				float sx = dstToSrc.distX;
+				float sy = dstToSrc.distY;
+
+				// same test for being inside as the other implementations of ImageDistort. NaN is outside.
+				if( !(sx >= 0 && sx <= maxWidth && sy >= 0 && sy <= maxHeight) ) {
+					coor[index*2] = 0;
+					coor[index*2+1] = 0;
+					frac[index] = OUTSIDE;
+					continue;
+				}
+
+				int fixedX = (int)(sx*SCALE + 0.5f);
+				int fixedY = (int)(sy*SCALE + 0.5f);
+
+				int px = fixedX >> BITS, fx = fixedX & (SCALE-1);
+				int py = fixedY >> BITS, fy = fixedY & (SCALE-1);
+
+				// the neighbor to the right/below must be inside the image. Sample it with a weight of one instead
+				if( px >= srcWidth-1 ) {
+					px = srcWidth-2; fx = SCALE;
+				}
+				if( py >= srcHeight-1 ) {
+					py = srcHeight-2; fy = SCALE;
+				}
+
+				coor[index*2] = (short)px;
+				coor[index*2+1] = (short)py;
+				frac[index] = (short)(fx | (fy << 8));
+			}
+		}
+	}
+
+	/**
+	 * Changes the shape of the table. Values are not modified unless the arrays need to grow.
+	 */
+	public void reshape(int srcWidth, int srcHeight, int dstWidth, int dstHeight) {
+		this.srcWidth = srcWidth;
+		this.srcHeight = srcHeight;
+		this.width = dstWidth;
+		this.height = dstHeight;
+
+		int N = dstWidth*dstHeight;
+		if( frac.length < N ) {
+			coor = new short[2*N];
+			frac = new short[N];
+		}
+	}
+
+	/**
+	 * Returns true if the table was computed for images with the specified shapes
+	 */
+	public boolean isShape(int srcWidth, int srcHeight, int dstWidth, int dstHeight) {
+		return this.srcWidth == srcWidth && this.srcHeight == srcHeight &&
+				this.width == dstWidth && this.height == dstHeight;
+	}
+}
@@ -74,4 +74,17 @@ public class ImplImageDistort_PL<Input extends ImageGray<Input>,Output extends I
 	public boolean getRenderAll() {
 		return layerDistort.getRenderAll();
 	}
+
+	/**
+	 * Each band is rendered one at a time, with concurrency handled by the per band distortion
+	 */
+	@Override
+	public void setConcurrent(boolean concurrent) {
+		layerDistort.setConcurrent(concurrent);
+	}
+
+	@Override
+	public boolean isConcurrent() {
+		return layerDistort.isConcurrent();
+	}
 }
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.distort.impl;
+
+import boofcv.alg.distort.RemapTable;
+import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.InterleavedU8;
+
+import static boofcv.alg.distort.RemapTable.BITS;
+import static boofcv.alg.distort.RemapTable.OUTSIDE;
+import static boofcv.alg.distort.RemapTable.SCALE;
+
+/**
+ * <p>
+ * Applies a {@link RemapTable} to U8 images using fixed point bilinear interpolation. The output is computed using
+ * only integer math and rounded to the nearest integer.
+ * </p>
+ *
+ * <p>
+ * Pixels in the destination image which map outside the source image are set to zero if renderAll is true,
+ * otherwise they are not modified.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class ImplImageRemap_U8 {
+
+	// added before shifting to round the result
+	static final int ROUND = 1 << (2*BITS-1);
+
+	/**
+	 * Applies the table to the specified region inside the destination image
+	 *
+	 * @param table Lookup table. Must match the shape of src and dst.
+	 * @param src Input image
+	 * @param dst Output image
+	 * @param x0 Left most crop boundary. Inclusive.
+	 * @param y0 Top most crop boundary. Inclusive.
+	 * @param x1 Right most crop boundary. Exclusive.
+	 * @param y1 Bottom most crop boundary. Exclusive.
+	 * @param renderAll If true pixels outside the source image are set to zero.
+	 */
+	public static void apply( RemapTable table , GrayU8 src , GrayU8 dst ,
+							  int x0 , int y0 , int x1 , int y1 , boolean renderAll ) {
+		final short coor[] = table.coor;
+		final short frac[] = table.frac;
+		final byte dataSrc[] = src.data;
+		final byte dataDst[] = dst.data;
+		final int stride = src.stride;
+
+		for( int y = y0; y < y1; y++ ) {
+			int indexTable = y*table.width + x0;
+			int indexDst = dst.startIndex + y*dst.stride + x0;
+			int end = indexDst + (x1-x0);
+
+			for( ; indexDst < end; indexDst++ , indexTable++ ) {
+				int f = frac[indexTable];
+				if( f == OUTSIDE ) {
+					if( renderAll )
+						dataDst[indexDst] = 0;
+					continue;
+				}
+				int fx = f & 0xFF, fy = f >> 8;
+
+				int indexSrc = src.startIndex + coor[indexTable*2+1]*stride + coor[indexTable*2];
+
+				int top    = (dataSrc[indexSrc       ] & 0xFF)*(SCALE-fx) + (dataSrc[indexSrc+1       ] & 0xFF)*fx;
+				int bottom = (dataSrc[indexSrc+stride] & 0xFF)*(SCALE-fx) + (dataSrc[indexSrc+stride+1] & 0xFF)*fx;
+
+				dataDst[indexDst] = (byte)((top*(SCALE-fy) + bottom*fy + ROUND) >> (2*BITS));
+			}
+		}
+	}
+
+	/**
+	 * Applies the table to the specified region inside the destination image. See
+	 * {@link #apply(RemapTable, GrayU8, GrayU8, int, int, int, int, boolean)} for a description of the parameters.
+	 */
+	public static void apply( RemapTable table , InterleavedU8 src , InterleavedU8 dst ,
+							  int x0 , int y0 , int x1 , int y1 , boolean renderAll ) {
+		final short coor[] = table.coor;
+		final short frac[] = table.frac;
+		final byte dataSrc[] = src.data;
+		final byte dataDst[] = dst.data;
+		final int stride = src.stride;
+		final int numBands = src.numBands;
+
+		for( int y = y0; y < y1; y++ ) {
+			int indexTable = y*table.width + x0;
+			int indexDst = dst.startIndex + y*dst.stride + x0*numBands;
+			int end = indexDst + (x1-x0)*numBands;
+
+			for( ; indexDst < end; indexDst += numBands, indexTable++ ) {
+				int f = frac[indexTable];
+				if( f == OUTSIDE ) {
+					if( renderAll ) {
+						for( int band = 0; band < numBands; band++ )
+							dataDst[indexDst+band] = 0;
+					}
+					continue;
+				}
+				int fx = f & 0xFF, fy = f >> 8;
+
+				int indexSrc = src.startIndex + coor[indexTable*2+1]*stride + coor[indexTable*2]*numBands;
+
+				for( int band = 0; band < numBands; band++ , indexSrc++ ) {
+					int top    = (dataSrc[indexSrc         ] & 0xFF)*(SCALE-fx) +
+							(dataSrc[indexSrc+numBands         ] & 0xFF)*fx;
+					int bottom = (dataSrc[indexSrc+stride  ] & 0xFF)*(SCALE-fx) +
+							(dataSrc[indexSrc+stride+numBands  ] & 0xFF)*fx;
+
+					dataDst[indexDst+band] = (byte)((top*(SCALE-fy) + bottom*fy + ROUND) >> (2*BITS));
+				}
+			}
+		}
+	}
+}
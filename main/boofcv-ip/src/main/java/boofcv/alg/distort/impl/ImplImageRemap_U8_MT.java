@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.distort.impl;
+
+import boofcv.alg.distort.RemapTable;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeConsumer;
+import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.InterleavedU8;
+
+/**
+ * Concurrent implementation of {@link ImplImageRemap_U8}. Rows in the destination image are split into bands
+ * which are processed in parallel. Output is identical to the single threaded version.
+ *
+ * @author Peter Abeles
+ */
+public class ImplImageRemap_U8_MT {
+
+	/**
+	 * Concurrent version of {@link ImplImageRemap_U8#apply(RemapTable, GrayU8, GrayU8, int, int, int, int, boolean)}
+	 */
+	public static void apply( final RemapTable table , final GrayU8 src , final GrayU8 dst ,
+							  final int x0 , int y0 , final int x1 , int y1 , final boolean renderAll ) {
+		BoofConcurrency.loopBlocks(y0, y1, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				ImplImageRemap_U8.apply(table, src, dst, x0, y0, x1, y1, renderAll);
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of
+	 * {@link ImplImageRemap_U8#apply(RemapTable, InterleavedU8, InterleavedU8, int, int, int, int, boolean)}
+	 */
+	public static void apply( final RemapTable table , final InterleavedU8 src , final InterleavedU8 dst ,
+							  final int x0 , int y0 , final int x1 , int y1 , final boolean renderAll ) {
+		BoofConcurrency.loopBlocks(y0, y1, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				ImplImageRemap_U8.apply(table, src, dst, x0, y0, x1, y1, renderAll);
+			}
+		});
+	}
+}
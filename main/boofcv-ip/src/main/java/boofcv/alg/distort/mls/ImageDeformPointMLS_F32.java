@@ -537,4 +537,12 @@ public class ImageDeformPointMLS_F32 implements Point2Transform2_F32 {
 		 */
 		Point2D_F32 q = new Point2D_F32();
 	}
+
+	/**
+	 * The deformation grid is only read by {@link #compute} so the same instance can be used by multiple threads
+	 */
+	@Override
+	public ImageDeformPointMLS_F32 copyConcurrent() {
+		return this;
+	}
 }
@@ -21,8 +21,13 @@ package boofcv.alg.enhance;
 import boofcv.alg.InputSanityCheck;
 import boofcv.alg.enhance.impl.ImplEnhanceFilter;
 import boofcv.alg.enhance.impl.ImplEnhanceHistogram;
+import boofcv.alg.enhance.impl.ImplEnhanceHistogram_MT;
+import boofcv.alg.enhance.impl.ImplEqualizeLocalTiles;
+import boofcv.alg.enhance.impl.ImplEqualizeLocalTiles_MT;
 import boofcv.alg.misc.ImageStatistics;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.struct.image.*;
+import org.ddogleg.struct.GrowQueue_I32;
 
 /**
  * <p>
@@ -73,7 +78,11 @@ public class EnhanceImageOps {
 	public static void applyTransform(GrayU8 input , int transform[] , GrayU8 output ) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		ImplEnhanceHistogram.applyTransform(input,transform,output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplEnhanceHistogram_MT.applyTransform(input,transform,output);
+		} else {
+			ImplEnhanceHistogram.applyTransform(input,transform,output);
+		}
 	}
 
 	/**
@@ -86,7 +95,11 @@ public class EnhanceImageOps {
 	public static void applyTransform(GrayU16 input , int transform[] , GrayU16 output ) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		ImplEnhanceHistogram.applyTransform(input,transform,output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplEnhanceHistogram_MT.applyTransform(input,transform,output);
+		} else {
+			ImplEnhanceHistogram.applyTransform(input,transform,output);
+		}
 	}
 
 	/**
@@ -100,7 +113,11 @@ public class EnhanceImageOps {
 	public static void applyTransform(GrayS8 input , int transform[] , int minValue, GrayS8 output ) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		ImplEnhanceHistogram.applyTransform(input,transform,minValue,output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplEnhanceHistogram_MT.applyTransform(input,transform,minValue,output);
+		} else {
+			ImplEnhanceHistogram.applyTransform(input,transform,minValue,output);
+		}
 	}
 
 	/**
@@ -114,7 +131,11 @@ public class EnhanceImageOps {
 	public static void applyTransform(GrayS16 input , int transform[] , int minValue, GrayS16 output ) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		ImplEnhanceHistogram.applyTransform(input,transform,minValue,output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplEnhanceHistogram_MT.applyTransform(input,transform,minValue,output);
+		} else {
+			ImplEnhanceHistogram.applyTransform(input,transform,minValue,output);
+		}
 	}
 
 	/**
@@ -128,7 +149,11 @@ public class EnhanceImageOps {
 	public static void applyTransform(GrayS32 input , int transform[] , int minValue, GrayS32 output ) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		ImplEnhanceHistogram.applyTransform(input,transform,minValue,output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplEnhanceHistogram_MT.applyTransform(input,transform,minValue,output);
+		} else {
+			ImplEnhanceHistogram.applyTransform(input,transform,minValue,output);
+		}
 	}
 
 	/**
@@ -138,6 +163,7 @@ public class EnhanceImageOps {
 	 * @param radius Radius of square local histogram.
 	 * @param output Output image.
 	 * @param histogram Storage for image histogram.  Must be large enough to contain all possible values.
+	 *                  When concurrent, the inner image uses a histogram of the same length in each thread.
 	 * @param transform Storage for transformation table.  Must be large enough to contain all possible values.
 	 */
 	public static void equalizeLocal(GrayU8 input , int radius , GrayU8 output ,
@@ -149,7 +175,11 @@ public class EnhanceImageOps {
 
 		// use more efficient algorithms if possible
 		if( input.width >= width && input.height >= width ) {
-			ImplEnhanceHistogram.equalizeLocalInner(input,radius,output,histogram);
+			if( BoofConcurrency.USE_CONCURRENT ) {
+				ImplEnhanceHistogram_MT.equalizeLocalInner(input,radius,output,histogram.length,null);
+			} else {
+				ImplEnhanceHistogram.equalizeLocalInner(input,radius,output,histogram);
+			}
 
 			// top border
 			ImplEnhanceHistogram.equalizeLocalRow(input,radius,0,output,histogram,transform);
@@ -178,6 +208,7 @@ public class EnhanceImageOps {
 	 * @param radius Radius of square local histogram.
 	 * @param output Output image.
 	 * @param histogram Storage for image histogram.  Must be large enough to contain all possible values.
+	 *                  When concurrent, the inner image uses a histogram of the same length in each thread.
 	 * @param transform Storage for transformation table.  Must be large enough to contain all possible values.
 	 */
 	public static void equalizeLocal(GrayU16 input , int radius , GrayU16 output ,
@@ -189,7 +220,11 @@ public class EnhanceImageOps {
 
 		// use more efficient algorithms if possible
 		if( input.width >= width && input.height >= width ) {
-			ImplEnhanceHistogram.equalizeLocalInner(input,radius,output,histogram);
+			if( BoofConcurrency.USE_CONCURRENT ) {
+				ImplEnhanceHistogram_MT.equalizeLocalInner(input,radius,output,histogram.length,null);
+			} else {
+				ImplEnhanceHistogram.equalizeLocalInner(input,radius,output,histogram);
+			}
 
 			// top border
 			ImplEnhanceHistogram.equalizeLocalRow(input,radius,0,output,histogram,transform);
@@ -211,6 +246,53 @@ public class EnhanceImageOps {
 		}
 	}
 
+	/**
+	 * <p>
+	 * Contrast limited adaptive histogram equalization (CLAHE).  The image is divided into a grid of tiles and
+	 * the clipped histogram inside each tile is equalized.  Each output pixel is bilinearly interpolated
+	 * from the transforms of the four closest tiles, which avoids the block artifacts of independent tiles.
+	 * Unlike {@link #equalizeLocal(GrayU8, int, GrayU8, int[], int[])} the cost doesn't depend on the size
+	 * of the local region.
+	 * </p>
+	 *
+	 * <p>
+	 * The clip limit prevents noise in nearly uniform regions, e.g. a dark night sky, from being amplified.
+	 * Values of 2 to 4 are typical.
+	 * </p>
+	 *
+	 * @param input Input image.
+	 * @param tileSize Approximate width and height of a tile in pixels.  The number of tiles is rounded so
+	 *                 that tiles evenly cover the image.
+	 * @param clipLimit Maximum histogram bin count relative to the average bin count in a tile.  If &le; 0
+	 *                  then the histogram isn't clipped.
+	 * @param output Output image.
+	 * @param transforms (Optional) Storage for the transform of every tile.  Can be null.
+	 */
+	public static void equalizeLocalTiles(GrayU8 input , int tileSize , double clipLimit , GrayU8 output ,
+										  GrowQueue_I32 transforms ) {
+		InputSanityCheck.checkSameShape(input, output);
+		if( tileSize <= 0 )
+			throw new IllegalArgumentException("Tile size must be more than zero");
+
+		if( transforms == null )
+			transforms = new GrowQueue_I32();
+
+		int numTilesX = Math.max(1,(input.width+tileSize/2)/tileSize);
+		int numTilesY = Math.max(1,(input.height+tileSize/2)/tileSize);
+		transforms.resize(numTilesX*numTilesY*ImplEqualizeLocalTiles.HISTOGRAM_LENGTH);
+
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplEqualizeLocalTiles_MT.computeTransforms(input,numTilesX,numTilesY,clipLimit,transforms.data);
+			ImplEqualizeLocalTiles_MT.applyTransforms(input,numTilesX,numTilesY,transforms.data,output);
+		} else {
+			int histogram[] = new int[ImplEqualizeLocalTiles.HISTOGRAM_LENGTH];
+			ImplEqualizeLocalTiles.computeTransforms(input,numTilesX,numTilesY,clipLimit,
+					0,numTilesY,histogram,transforms.data);
+			ImplEqualizeLocalTiles.applyTransforms(input,numTilesX,numTilesY,transforms.data,
+					0,input.height,output);
+		}
+	}
+
 	/**
 	 * Applies a Laplacian-4 based sharpen filter to the image.
 	 *
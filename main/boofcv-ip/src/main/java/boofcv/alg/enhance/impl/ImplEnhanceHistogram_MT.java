@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.enhance.impl;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeConsumer;
+import boofcv.concurrency.IntRangeObjectConsumer;
+import boofcv.struct.image.*;
+import org.ddogleg.struct.FastQueue;
+import org.ddogleg.struct.GrowQueue_I32;
+
+/**
+ * Concurrent implementation of {@link ImplEnhanceHistogram}.  The image is split into horizontal bands and each
+ * band is processed as a sub-image in its own thread.  Local equalization needs a histogram for each band,
+ * which is why its histogram is specified by length and storage for each thread is provided separately.
+ *
+ * @author Peter Abeles
+ */
+public class ImplEnhanceHistogram_MT {
+
+	public static void applyTransform( final GrayU8 input , final int transform[] , final GrayU8 output ) {
+		BoofConcurrency.loopBlocks(0, input.height, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				ImplEnhanceHistogram.applyTransform(input.subimage(0, y0, input.width, y1), transform,
+						output.subimage(0, y0, output.width, y1));
+			}
+		});
+	}
+
+	public static void applyTransform( final GrayU16 input , final int transform[] , final GrayU16 output ) {
+		BoofConcurrency.loopBlocks(0, input.height, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				ImplEnhanceHistogram.applyTransform(input.subimage(0, y0, input.width, y1), transform,
+						output.subimage(0, y0, output.width, y1));
+			}
+		});
+	}
+
+	public static void applyTransform( final GrayS8 input , final int transform[] , final int minValue ,
+									   final GrayS8 output ) {
+		BoofConcurrency.loopBlocks(0, input.height, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				ImplEnhanceHistogram.applyTransform(input.subimage(0, y0, input.width, y1), transform, minValue,
+						output.subimage(0, y0, output.width, y1));
+			}
+		});
+	}
+
+	public static void applyTransform( final GrayS16 input , final int transform[] , final int minValue ,
+									   final GrayS16 output ) {
+		BoofConcurrency.loopBlocks(0, input.height, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				ImplEnhanceHistogram.applyTransform(input.subimage(0, y0, input.width, y1), transform, minValue,
+						output.subimage(0, y0, output.width, y1));
+			}
+		});
+	}
+
+	public static void applyTransform( final GrayS32 input , final int transform[] , final int minValue ,
+									   final GrayS32 output ) {
+		BoofConcurrency.loopBlocks(0, input.height, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				ImplEnhanceHistogram.applyTransform(input.subimage(0, y0, input.width, y1), transform, minValue,
+						output.subimage(0, y0, output.width, y1));
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link ImplEnhanceHistogram#equalizeLocalInner(GrayU8, int, GrayU8, int[])}.  Each
+	 * band is extended by the radius so that the sub-image contains every pixel its local histograms need.
+	 *
+	 * @param histogramLength Number of elements in each histogram.  Must be large enough to contain all
+	 *                        possible values.
+	 * @param work (Optional) Storage for the histogram in each thread.  Can be null.
+	 */
+	public static void equalizeLocalInner( final GrayU8 input , final int radius , final GrayU8 output ,
+										   final int histogramLength , FastQueue<GrowQueue_I32> work ) {
+		if( work == null )
+			work = new FastQueue<>(GrowQueue_I32.class, true);
+
+		BoofConcurrency.loopBlocks(radius, input.height-radius, 1, work,
+				new IntRangeObjectConsumer<GrowQueue_I32>() {
+			@Override
+			public void accept(GrowQueue_I32 histogram, int y0, int y1) {
+				histogram.resize(histogramLength);
+				ImplEnhanceHistogram.equalizeLocalInner(
+						input.subimage(0, y0-radius, input.width, y1+radius), radius,
+						output.subimage(0, y0-radius, output.width, y1+radius), histogram.data);
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link ImplEnhanceHistogram#equalizeLocalInner(GrayU16, int, GrayU16, int[])}.
+	 *
+	 * @see #equalizeLocalInner(GrayU8, int, GrayU8, int, FastQueue)
+	 */
+	public static void equalizeLocalInner( final GrayU16 input , final int radius , final GrayU16 output ,
+										   final int histogramLength , FastQueue<GrowQueue_I32> work ) {
+		if( work == null )
+			work = new FastQueue<>(GrowQueue_I32.class, true);
+
+		BoofConcurrency.loopBlocks(radius, input.height-radius, 1, work,
+				new IntRangeObjectConsumer<GrowQueue_I32>() {
+			@Override
+			public void accept(GrowQueue_I32 histogram, int y0, int y1) {
+				histogram.resize(histogramLength);
+				ImplEnhanceHistogram.equalizeLocalInner(
+						input.subimage(0, y0-radius, input.width, y1+radius), radius,
+						output.subimage(0, y0-radius, output.width, y1+radius), histogram.data);
+			}
+		});
+	}
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.enhance.impl;
+
+import boofcv.struct.image.GrayU8;
+
+/**
+ * <p>
+ * Contrast limited adaptive histogram equalization (CLAHE) computed from a grid of tiles.  The histogram inside
+ * each tile is clipped, the clipped counts are spread evenly across all values, and the result is converted into
+ * an equalization transform.  An output pixel is found by bilinearly interpolating between the transforms of the
+ * four tiles whose centers surround it.  Pixels outside of the outer tile centers use the closest tiles only.
+ * </p>
+ *
+ * <p>
+ * Tiles are split as evenly as possible so their size can vary by one pixel.  Transforms are stored in a single
+ * array, with {@link #HISTOGRAM_LENGTH} elements for each tile in row-major order.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class ImplEqualizeLocalTiles {
+
+	/**
+	 * Number of possible values in a {@link GrayU8} image
+	 */
+	public static final int HISTOGRAM_LENGTH = 256;
+
+	/**
+	 * Computes the transform for each tile in the specified range of tile rows.
+	 *
+	 * @param input Input image
+	 * @param numTilesX Number of tiles along the x-axis
+	 * @param numTilesY Number of tiles along the y-axis
+	 * @param clipLimit Histogram bins are clipped at this many times the average bin count. If &le; 0 there is
+	 *                  no clipping.
+	 * @param tileY0 First row of tiles, inclusive
+	 * @param tileY1 Last row of tiles, exclusive
+	 * @param histogram Storage for the histogram. {@link #HISTOGRAM_LENGTH} elements.
+	 * @param transforms Output transform for all the tiles.
+	 */
+	public static void computeTransforms( GrayU8 input , int numTilesX , int numTilesY , double clipLimit ,
+										  int tileY0 , int tileY1 , int histogram[] , int transforms[] ) {
+		int maxValue = HISTOGRAM_LENGTH-1;
+
+		for( int tileY = tileY0; tileY < tileY1; tileY++ ) {
+			int y0 = tileStart(input.height,numTilesY,tileY);
+			int y1 = tileStart(input.height,numTilesY,tileY+1);
+
+			for( int tileX = 0; tileX < numTilesX; tileX++ ) {
+				int x0 = tileStart(input.width,numTilesX,tileX);
+				int x1 = tileStart(input.width,numTilesX,tileX+1);
+				int area = (x1-x0)*(y1-y0);
+
+				ImplEnhanceHistogram.localHistogram(input,x0,y0,x1,y1,histogram);
+				if( clipLimit > 0 )
+					clipHistogram(histogram,clipLimit,area);
+
+				int index = (tileY*numTilesX + tileX)*HISTOGRAM_LENGTH;
+				int sum = 0;
+				for( int i = 0; i < HISTOGRAM_LENGTH; i++ ) {
+					sum += histogram[i];
+					transforms[index++] = (int)(((long)sum*maxValue)/area);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Limits the number of counts in each bin and spreads the excess evenly across all the bins.  The total
+	 * number of counts is not changed.
+	 *
+	 * @param histogram The histogram which is modified
+	 * @param clipLimit Maximum count relative to the average bin count
+	 * @param total Total number of counts in the histogram
+	 */
+	public static void clipHistogram( int histogram[] , double clipLimit , int total ) {
+		int limit = Math.max(1,(int)(clipLimit*total/histogram.length));
+
+		int excess = 0;
+		for( int i = 0; i < histogram.length; i++ ) {
+			if( histogram[i] > limit ) {
+				excess += histogram[i]-limit;
+				histogram[i] = limit;
+			}
+		}
+
+		int each = excess/histogram.length;
+		int remainder = excess%histogram.length;
+
+		if( each > 0 ) {
+			for( int i = 0; i < histogram.length; i++ ) {
+				histogram[i] += each;
+			}
+		}
+		// spread what's left over across the full range of values
+		if( remainder > 0 ) {
+			int step = histogram.length/remainder;
+			for( int i = 0; i < remainder; i++ ) {
+				histogram[i*step]++;
+			}
+		}
+	}
+
+	/**
+	 * Applies the interpolated transforms to the specified range of rows.
+	 *
+	 * @param input Input image
+	 * @param numTilesX Number of tiles along the x-axis
+	 * @param numTilesY Number of tiles along the y-axis
+	 * @param transforms Transforms for all the tiles
+	 * @param y0 First row, inclusive
+	 * @param y1 Last row, exclusive
+	 * @param output Output image
+	 */
+	public static void applyTransforms( GrayU8 input , int numTilesX , int numTilesY , int transforms[] ,
+										int y0 , int y1 , GrayU8 output ) {
+		// the tiles and weights only depend on the column, so look them up once
+		int columnTiles[] = new int[input.width];
+		float columnWeights[] = new float[input.width];
+		for( int x = 0; x < input.width; x++ ) {
+			columnTiles[x] = lowerTile(input.width,numTilesX,x);
+			columnWeights[x] = weightUpper(input.width,numTilesX,columnTiles[x],x);
+		}
+
+		for( int y = y0; y < y1; y++ ) {
+			int tileY = lowerTile(input.height,numTilesY,y);
+			float wy = weightUpper(input.height,numTilesY,tileY,y);
+			int rowTop = tileY*numTilesX*HISTOGRAM_LENGTH;
+			int rowBottom = Math.min(tileY+1,numTilesY-1)*numTilesX*HISTOGRAM_LENGTH;
+
+			int indexIn = input.startIndex + y*input.stride;
+			int indexOut = output.startIndex + y*output.stride;
+
+			for( int x = 0; x < input.width; x++ ) {
+				int value = input.data[indexIn++] & 0xFF;
+
+				int tileX = columnTiles[x];
+				int left = tileX*HISTOGRAM_LENGTH + value;
+				int right = Math.min(tileX+1,numTilesX-1)*HISTOGRAM_LENGTH + value;
+				float wx = columnWeights[x];
+
+				float top = transforms[rowTop+left] + wx*(transforms[rowTop+right]-transforms[rowTop+left]);
+				float bottom = transforms[rowBottom+left] +
+						wx*(transforms[rowBottom+right]-transforms[rowBottom+left]);
+
+				output.data[indexOut++] = (byte)(top + wy*(bottom-top) + 0.5f);
+			}
+		}
+	}
+
+	/**
+	 * Coordinate of the first pixel in a tile
+	 */
+	public static int tileStart( int length , int numTiles , int tile ) {
+		return (int)((long)length*tile/numTiles);
+	}
+
+	/**
+	 * Coordinate of a tile's center
+	 */
+	public static float tileCenter( int length , int numTiles , int tile ) {
+		return (tileStart(length,numTiles,tile) + tileStart(length,numTiles,tile+1) - 1)/2.0f;
+	}
+
+	/**
+	 * The last tile whose center is at or before the coordinate.  If the coordinate comes before the first
+	 * center then the first tile is returned.
+	 */
+	static int lowerTile( int length , int numTiles , int coordinate ) {
+		int tile = 0;
+		while( tile+1 < numTiles && tileCenter(length,numTiles,tile+1) <= coordinate )
+			tile++;
+		return tile;
+	}
+
+	/**
+	 * Weight given to the tile after the lower tile.  Zero if the coordinate is outside the outer tile centers.
+	 */
+	static float weightUpper( int length , int numTiles , int lowerTile , int coordinate ) {
+		float c0 = tileCenter(length,numTiles,lowerTile);
+		if( coordinate <= c0 || lowerTile+1 >= numTiles )
+			return 0;
+		float c1 = tileCenter(length,numTiles,lowerTile+1);
+		return (coordinate-c0)/(c1-c0);
+	}
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.enhance.impl;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeConsumer;
+import boofcv.struct.image.GrayU8;
+
+/**
+ * Concurrent implementation of {@link ImplEqualizeLocalTiles}.  Rows of tiles are equalized in parallel, then
+ * the image is split into horizontal bands which are interpolated in parallel.
+ *
+ * @author Peter Abeles
+ */
+public class ImplEqualizeLocalTiles_MT {
+
+	public static void computeTransforms( final GrayU8 input , final int numTilesX , final int numTilesY ,
+										  final double clipLimit , final int transforms[] ) {
+		BoofConcurrency.loopBlocks(0, numTilesY, new IntRangeConsumer() {
+			@Override
+			public void accept(int tileY0, int tileY1) {
+				int histogram[] = new int[ImplEqualizeLocalTiles.HISTOGRAM_LENGTH];
+				ImplEqualizeLocalTiles.computeTransforms(input,numTilesX,numTilesY,clipLimit,
+						tileY0,tileY1,histogram,transforms);
+			}
+		});
+	}
+
+	public static void applyTransforms( final GrayU8 input , final int numTilesX , final int numTilesY ,
+										final int transforms[] , final GrayU8 output ) {
+		BoofConcurrency.loopBlocks(0, input.height, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				ImplEqualizeLocalTiles.applyTransforms(input,numTilesX,numTilesY,transforms,y0,y1,output);
+			}
+		});
+	}
+}
@@ -23,6 +23,7 @@ import boofcv.alg.filter.binary.impl.BinaryThinning;
 import boofcv.alg.filter.binary.impl.ImplBinaryBorderOps;
 import boofcv.alg.filter.binary.impl.ImplBinaryInnerOps;
 import boofcv.alg.misc.ImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.struct.ConnectRule;
 import boofcv.struct.PackedSetsPoint2D_I32;
 import boofcv.struct.image.GrayS32;
@@ -434,6 +435,7 @@ public class BinaryImageOps {
 		}
 
 		LinearContourLabelChang2004 alg = new LinearContourLabelChang2004(rule);
+		alg.setConcurrent(BoofConcurrency.USE_CONCURRENT);
 		alg.process(input,output);
 
 		List<Contour> ret = convertContours(alg.getPackedPoints(),alg.getContours());
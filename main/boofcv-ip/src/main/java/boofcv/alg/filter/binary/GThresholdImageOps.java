@@ -22,6 +22,7 @@ import boofcv.abst.filter.binary.InputToBinary;
 import boofcv.alg.filter.binary.impl.ThresholdSauvola;
 import boofcv.alg.misc.GImageStatistics;
 import boofcv.core.image.GConvertImage;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.factory.filter.binary.FactoryThresholdBinary;
 import boofcv.struct.image.*;
 
@@ -324,6 +325,7 @@ public class GThresholdImageOps {
 	GrayU8 localSauvola(T input, GrayU8 output, int radius, float k, boolean down)
 	{
 		ThresholdSauvola alg = new ThresholdSauvola(radius,k, down);
+		alg.setConcurrent(BoofConcurrency.USE_CONCURRENT);
 
 		if( output == null )
 			output = new GrayU8(input.width,input.height);
@@ -19,6 +19,7 @@
 package boofcv.alg.filter.binary;
 
 import boofcv.alg.misc.ImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.struct.ConnectRule;
 import boofcv.struct.PackedSetsPoint2D_I32;
 import boofcv.struct.image.GrayS32;
@@ -50,6 +51,11 @@ import org.ddogleg.struct.FastQueue;
  * </p>
  *
  * <p>
+ * If {@link #setConcurrent(boolean) concurrent} is true then the image is split into strips which are labeled
+ * in parallel and contours are traced in parallel. See {@link LinearContourLabelStrips}. The output is identical.
+ * </p>
+ *
+ * <p>
  * [1] Fu Chang and Chun-jen Chen and Chi-jen Lu, "A linear-time component-labeling algorithm using contour
  * tracing technique" Computer Vision and Image Understanding, 2004
  * </p>
@@ -65,9 +71,20 @@ public class LinearContourLabelChang2004 {
 	// If false it will not save internal contours as they are found
 	private boolean saveInternalContours = true;
 
+	// If true then the image is processed using multiple threads
+	private boolean concurrent = false;
+	// Number of strips the image is split into when concurrent. If zero it's selected using the number of threads
+	private int numberOfStrips = 0;
+
+	// connectivity rule
+	private ConnectRule rule;
+
 	// traces edge pixels
 	private ContourTracer tracer;
 
+	// parallel implementation. Declared when first needed
+	private LinearContourLabelStrips strips;
+
 	// binary image with a border of zero.
 	private GrayU8 border = new GrayU8(1,1);
 
@@ -84,6 +101,7 @@ public class LinearContourLabelChang2004 {
 	 * @param rule Connectivity rule.  4 or 8
 	 */
 	public LinearContourLabelChang2004( ConnectRule rule ) {
+		this.rule = rule;
 		tracer = new ContourTracer(rule);
 	}
 
@@ -103,6 +121,14 @@ public class LinearContourLabelChang2004 {
 		}
 		border.subimage(1,1,border.width-1,border.height-1, null).setTo(binary);
 
+		if( concurrent && (numberOfStrips > 1 || (numberOfStrips == 0 && BoofConcurrency.getMaxThreads() > 1)) ) {
+			if( strips == null )
+				strips = new LinearContourLabelStrips(rule);
+			strips.numberOfStrips = numberOfStrips;
+			strips.process(border,labeled,minContourSize,maxContourSize,saveInternalContours,packedPoints,contours);
+			return;
+		}
+
 		// labeled image must initially be filled with zeros
 		ImageMiscOps.fill(labeled,0);
 
@@ -227,4 +253,34 @@ public class LinearContourLabelChang2004 {
 	public void setSaveInternalContours(boolean saveInternalContours) {
 		this.saveInternalContours = saveInternalContours;
 	}
+
+	public boolean isConcurrent() {
+		return concurrent;
+	}
+
+	/**
+	 * Specifies if the image should be processed using multiple threads
+	 */
+	public void setConcurrent(boolean concurrent) {
+		this.concurrent = concurrent;
+	}
+
+	public int getNumberOfStrips() {
+		return numberOfStrips;
+	}
+
+	/**
+	 * Specifies the number of horizontal strips the image is split into when concurrent.  Output is the same for
+	 * any number of strips.  If zero, the default, then it's selected using the maximum number of threads.  If one
+	 * then the single threaded algorithm is used.
+	 */
+	public void setNumberOfStrips(int numberOfStrips) {
+		if( numberOfStrips < 0 )
+			throw new IllegalArgumentException("Number of strips can't be negative");
+		this.numberOfStrips = numberOfStrips;
+	}
+
+	public ConnectRule getConnectRule() {
+		return rule;
+	}
 }
@@ -0,0 +1,499 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.binary;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeConsumer;
+import boofcv.concurrency.IntRangeObjectConsumer;
+import boofcv.struct.ConnectRule;
+import boofcv.struct.PackedSetsPoint2D_I32;
+import boofcv.struct.image.GrayS32;
+import boofcv.struct.image.GrayU8;
+import georegression.struct.point.Point2D_I32;
+import org.ddogleg.struct.FastQueue;
+import org.ddogleg.struct.GrowQueue_I32;
+
+/**
+ * <p>
+ * Strip parallel implementation of {@link LinearContourLabelChang2004}. The output is identical to the single
+ * threaded algorithm, including the order that contours are saved in.
+ * </p>
+ *
+ * <p>
+ * The image is split into horizontal strips and every pixel, black and white, is assigned to a connected
+ * component inside its strip. Black pixels use the user specified connectivity rule and white pixels the
+ * complementary rule. Components are then merged across strip seams with union-find. Since labels are created in
+ * raster order, the root of each component is the first pixel the single threaded algorithm would have encountered.
+ * This is where it traces the blob's external contour. An internal contour is traced at the first black pixel
+ * above a white component which isn't the region surrounding the blob, i.e. a hole. After all the starting
+ * points are known the contours are traced in parallel, then copied into the output in the same order as the
+ * single threaded algorithm.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+class LinearContourLabelStrips {
+
+	// minimum number of rows in a strip
+	int minimumStripHeight = 32;
+	// number of strips the image is split into. If zero then it's selected using the number of threads
+	int numberOfStrips = 0;
+	// minimum number of contours traced by a single thread
+	int minimumTraceBlock = 8;
+
+	// connectivity rule for black pixels
+	ConnectRule rule;
+
+	// Label of every pixel in the border image. Relative to the first label in the pixel's strip
+	GrayS32 work = new GrayS32(1,1);
+
+	// Connected components found in each strip
+	FastQueue<Strip> strips = new FastQueue<>(Strip.class,true);
+	// Traces contours in each thread
+	FastQueue<Tracer> tracers;
+
+	// union-find parent of each label. After merging it points directly at the root
+	GrowQueue_I32 parent = new GrowQueue_I32();
+	// index of the first pixel in each label
+	GrowQueue_I32 first = new GrowQueue_I32();
+	// Offset which converts a label in the work image into a global label for each row
+	GrowQueue_I32 rowOffset = new GrowQueue_I32();
+	// blob ID of each root label. Only valid for black components
+	GrowQueue_I32 blobOfRoot = new GrowQueue_I32();
+	// root of the white region which surrounds each blob. Index = blob ID - 1
+	GrowQueue_I32 outerOfBlob = new GrowQueue_I32();
+	// index of the first pixel in each blob. Index = blob ID - 1
+	GrowQueue_I32 firstOfBlob = new GrowQueue_I32();
+	// marks which holes have had their contour traced
+	GrowQueue_I32 holeTraced = new GrowQueue_I32();
+
+	// start of every contour in the order the single threaded algorithm would trace them.
+	// (pixel index, blob ID, 1 = external or 0 = internal)
+	GrowQueue_I32 events = new GrowQueue_I32();
+
+	// the image being processed. Binary image with a border of zeros.
+	GrayU8 binary;
+	GrayS32 labeled;
+
+	public LinearContourLabelStrips( final ConnectRule rule ) {
+		this.rule = rule;
+		tracers = new FastQueue<Tracer>(Tracer.class,true) {
+			@Override
+			protected Tracer createInstance() {
+				return new Tracer(rule);
+			}
+		};
+	}
+
+	/**
+	 * Finds the contours and labels the blobs.
+	 *
+	 * @param binary Binary image with a border of zeros.  Black pixels have a value of 1. Modified.
+	 * @param labeled Output labeled image. Same size as binary minus the border. Modified.
+	 * @param packedPoints (Output) Storage for contour points
+	 * @param contours (Output) Found contours
+	 */
+	public void process( GrayU8 binary , GrayS32 labeled ,
+						 int minContourSize , int maxContourSize , boolean saveInternalContours ,
+						 PackedSetsPoint2D_I32 packedPoints , FastQueue<ContourPacked> contours ) {
+		this.binary = binary;
+		this.labeled = labeled;
+		work.reshape(binary.width,binary.height);
+
+		labelStrips();
+		mergeStrips();
+		selectBlobs();
+
+		BoofConcurrency.loopBlocks(0, strips.size, new IntRangeConsumer() {
+			@Override
+			public void accept(int i0, int i1) {
+				for (int i = i0; i < i1; i++) {
+					relabelStrip(strips.get(i));
+				}
+			}
+		});
+
+		orderEvents();
+		traceContours(minContourSize, maxContourSize, saveInternalContours);
+		saveContours(packedPoints, contours);
+	}
+
+	/**
+	 * Splits the image into strips and finds the connected components inside of each one
+	 */
+	void labelStrips() {
+		int numStrips = numberOfStrips > 0 ? Math.min(numberOfStrips, binary.height) :
+				BoofConcurrency.computeNumberOfBlocks(binary.height, minimumStripHeight);
+
+		strips.resize(numStrips);
+		for (int i = 0; i < numStrips; i++) {
+			Strip strip = strips.get(i);
+			strip.y0 = (int)((long)binary.height*i/numStrips);
+			strip.y1 = (int)((long)binary.height*(i+1)/numStrips);
+		}
+
+		BoofConcurrency.loopBlocks(0, numStrips, new IntRangeConsumer() {
+			@Override
+			public void accept(int i0, int i1) {
+				for (int i = i0; i < i1; i++) {
+					labelStrip(strips.get(i));
+				}
+			}
+		});
+	}
+
+	/**
+	 * Labels connected components in a strip with a raster scan. Labels are created in raster order and
+	 * union-find is done by always selecting the smaller label as the root.
+	 */
+	void labelStrip( Strip strip ) {
+		strip.parent.reset();
+		strip.first.reset();
+		strip.triggers.reset();
+
+		final byte[] data = binary.data;
+		final int[] labels = work.data;
+		final int width = binary.width;
+		final boolean black8 = rule == ConnectRule.EIGHT;
+
+		for (int y = strip.y0; y < strip.y1; y++) {
+			boolean hasAbove = y > strip.y0;
+			int index = y*width;
+			for (int x = 0; x < width; x++, index++) {
+				boolean black = data[index] == 1;
+				int label = -1;
+
+				if( x > 0 && (data[index-1] == 1) == black )
+					label = labels[index-1];
+				if( hasAbove ) {
+					if( (data[index-width] == 1) == black ) {
+						label = merge(strip.parent, label, labels[index-width]);
+					} else if( black == black8 ) {
+						// diagonal neighbors only need to be checked if the pixel above is a different color.
+						// Otherwise they are already connected to the pixel above
+						if( x > 0 && (data[index-width-1] == 1) == black )
+							label = merge(strip.parent, label, labels[index-width-1]);
+						if( x < width-1 && (data[index-width+1] == 1) == black )
+							label = merge(strip.parent, label, labels[index-width+1]);
+					}
+				}
+
+				if( label < 0 ) {
+					label = strip.parent.size;
+					strip.parent.add(label);
+					strip.first.add(index);
+				}
+				labels[index] = label;
+			}
+		}
+	}
+
+	/**
+	 * Combines the components from each strip into a single union-find forest and merges components which
+	 * touch across strip seams.
+	 */
+	void mergeStrips() {
+		rowOffset.resize(binary.height);
+
+		int total = 0;
+		for (int i = 0; i < strips.size; i++) {
+			Strip s = strips.get(i);
+			s.offset = total;
+			total += s.parent.size;
+			for (int y = s.y0; y < s.y1; y++) {
+				rowOffset.data[y] = s.offset;
+			}
+		}
+
+		parent.resize(total);
+		first.resize(total);
+		for (int i = 0; i < strips.size; i++) {
+			Strip s = strips.get(i);
+			for (int j = 0; j < s.parent.size; j++) {
+				parent.data[s.offset+j] = s.offset + s.parent.data[j];
+				first.data[s.offset+j] = s.first.data[j];
+			}
+		}
+
+		final byte[] data = binary.data;
+		final int[] labels = work.data;
+		final int width = binary.width;
+		final boolean black8 = rule == ConnectRule.EIGHT;
+
+		for (int i = 1; i < strips.size; i++) {
+			int y = strips.get(i).y0;
+			int offset = rowOffset.data[y];
+			int offsetAbove = rowOffset.data[y-1];
+
+			int index = y*width;
+			for (int x = 0; x < width; x++, index++) {
+				boolean black = data[index] == 1;
+				int label = offset + labels[index];
+
+				if( (data[index-width] == 1) == black ) {
+					union(parent, label, offsetAbove + labels[index-width]);
+				} else if( black == black8 ) {
+					if( x > 0 && (data[index-width-1] == 1) == black )
+						union(parent, label, offsetAbove + labels[index-width-1]);
+					if( x < width-1 && (data[index-width+1] == 1) == black )
+						union(parent, label, offsetAbove + labels[index-width+1]);
+				}
+			}
+		}
+
+		// Every parent has a smaller label. Processing in order will point each label directly at its root
+		for (int i = 0; i < total; i++) {
+			parent.data[i] = parent.data[parent.data[i]];
+		}
+	}
+
+	/**
+	 * Assigns a blob ID to each black component in the order their first pixel is encountered in a raster scan.
+	 */
+	void selectBlobs() {
+		blobOfRoot.resize(parent.size);
+		outerOfBlob.reset();
+		firstOfBlob.reset();
+
+		int width = binary.width;
+		for (int i = 0; i < parent.size; i++) {
+			if( parent.data[i] != i )
+				continue;
+			int index = first.data[i];
+			if( binary.data[index] != 1 )
+				continue;
+
+			blobOfRoot.data[i] = firstOfBlob.size + 1;
+			firstOfBlob.add(index);
+			// The pixel above the first pixel is always white and inside the surrounding region
+			outerOfBlob.add(root(index - width));
+		}
+	}
+
+	/**
+	 * Writes blob IDs into the labeled image and finds the pixels where internal contours could start. A
+	 * black pixel with a white pixel below it, which isn't in the region surrounding the blob, is next to a hole.
+	 */
+	void relabelStrip( Strip strip ) {
+		final byte[] data = binary.data;
+		final int width = binary.width;
+
+		int y0 = Math.max(1, strip.y0);
+		int y1 = Math.min(binary.height-1, strip.y1);
+
+		for (int y = y0; y < y1; y++) {
+			int index = y*width + 1;
+			int indexOut = labeled.startIndex + (y-1)*labeled.stride;
+			for (int x = 1; x < width-1; x++, index++, indexOut++) {
+				if( data[index] != 1 ) {
+					labeled.data[indexOut] = 0;
+					continue;
+				}
+				int blob = blobOfRoot.data[root(index)];
+				labeled.data[indexOut] = blob;
+
+				if( data[index+width] != 1 ) {
+					int below = root(index+width);
+					if( below != outerOfBlob.data[blob-1] ) {
+						strip.triggers.add(index);
+						strip.triggers.add(blob);
+						strip.triggers.add(below);
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Creates a list of contours to trace in the same order the single threaded algorithm would.
+	 * Only the first pixel found next to each hole starts a contour.
+	 */
+	void orderEvents() {
+		events.reset();
+		holeTraced.resize(parent.size);
+		holeTraced.fill(0);
+
+		int blob = 0;
+		for (int i = 0; i < strips.size; i++) {
+			GrowQueue_I32 triggers = strips.get(i).triggers;
+			for (int j = 0; j < triggers.size; j += 3) {
+				int index = triggers.data[j];
+				int hole = triggers.data[j+2];
+				if( holeTraced.data[hole] != 0 )
+					continue;
+				holeTraced.data[hole] = 1;
+
+				// external contours which are encountered first
+				while( blob < firstOfBlob.size && firstOfBlob.data[blob] <= index ) {
+					addEvent(firstOfBlob.data[blob], blob+1, 1);
+					blob++;
+				}
+				addEvent(index, triggers.data[j+1], 0);
+			}
+		}
+		while( blob < firstOfBlob.size ) {
+			addEvent(firstOfBlob.data[blob], blob+1, 1);
+			blob++;
+		}
+	}
+
+	private void addEvent( int index , int blob , int external ) {
+		events.add(index);
+		events.add(blob);
+		events.add(external);
+	}
+
+	/**
+	 * Traces all the contours in parallel. Each thread saves points into its own storage
+	 */
+	void traceContours( final int minContourSize , final int maxContourSize , final boolean saveInternalContours ) {
+		BoofConcurrency.loopBlocks(0, events.size/3, minimumTraceBlock, tracers,
+				new IntRangeObjectConsumer<Tracer>() {
+			@Override
+			public void accept(Tracer t, int e0, int e1) {
+				t.firstEvent = e0;
+				t.points.reset();
+				t.tracer.setInputs(binary, labeled, t.points);
+
+				int width = binary.width;
+				for (int i = e0; i < e1; i++) {
+					int index = events.data[i*3];
+					int blob = events.data[i*3+1];
+					boolean external = events.data[i*3+2] == 1;
+
+					t.points.grow();
+					t.tracer.setMaxContourSize(external || saveInternalContours ? maxContourSize : 0);
+					t.tracer.trace(blob, index%width, index/width, external);
+
+					// Keep track that this was a contour, but free up all the points used in defining it
+					if( t.points.sizeOfTail() >= maxContourSize || t.points.sizeOfTail() < minContourSize ) {
+						t.points.removeTail();
+						t.points.grow();
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Copies contours from each thread's storage into the output
+	 */
+	void saveContours( PackedSetsPoint2D_I32 packedPoints , FastQueue<ContourPacked> contours ) {
+		packedPoints.reset();
+		contours.reset();
+		for (int i = 0; i < firstOfBlob.size; i++) {
+			ContourPacked c = contours.grow();
+			c.reset();
+			c.id = i+1;
+		}
+
+		for (int i = 0; i < tracers.size; i++) {
+			Tracer t = tracers.get(i);
+			for (int j = 0; j < t.points.size(); j++) {
+				int event = t.firstEvent + j;
+				ContourPacked c = contours.get(events.data[event*3+1]-1);
+				if( events.data[event*3+2] == 1 )
+					c.externalIndex = packedPoints.size();
+				else
+					c.internalIndexes.add(packedPoints.size());
+
+				packedPoints.grow();
+				t.iterator.setup(j);
+				while( t.iterator.hasNext() ) {
+					Point2D_I32 p = t.iterator.next();
+					packedPoints.addPointToTail(p.x, p.y);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Root label of the pixel. Only valid after strips have been merged
+	 */
+	private int root( int index ) {
+		return parent.data[rowOffset.data[index/binary.width] + work.data[index]];
+	}
+
+	/**
+	 * Merges two labels.  If the first label is negative then the second is returned
+	 */
+	private static int merge( GrowQueue_I32 parent , int label , int other ) {
+		if( label < 0 )
+			return other;
+		return union(parent, label, other);
+	}
+
+	/**
+	 * Connects the two sets. The smaller label is always selected as the root
+	 *
+	 * @return root of the merged set
+	 */
+	static int union( GrowQueue_I32 parent , int a , int b ) {
+		int rootA = find(parent, a);
+		int rootB = find(parent, b);
+		if( rootA < rootB ) {
+			parent.data[rootB] = rootA;
+			return rootA;
+		} else {
+			parent.data[rootA] = rootB;
+			return rootB;
+		}
+	}
+
+	static int find( GrowQueue_I32 parent , int label ) {
+		int[] data = parent.data;
+		while( data[label] != label ) {
+			// path halving
+			data[label] = data[data[label]];
+			label = data[label];
+		}
+		return label;
+	}
+
+	/**
+	 * Connected components in a single strip
+	 */
+	public static class Strip {
+		// range of rows in the strip
+		int y0,y1;
+		// label of the first component in the strip after merging
+		int offset;
+		// union-find parent of each label in the strip
+		GrowQueue_I32 parent = new GrowQueue_I32();
+		// index of first pixel in each label
+		GrowQueue_I32 first = new GrowQueue_I32();
+		// pixels next to a hole. (pixel index, blob ID, hole root)
+		GrowQueue_I32 triggers = new GrowQueue_I32();
+	}
+
+	/**
+	 * Storage for tracing contours in a single thread
+	 */
+	public static class Tracer {
+		ContourTracer tracer;
+		PackedSetsPoint2D_I32 points = new PackedSetsPoint2D_I32();
+		PackedSetsPoint2D_I32.SetIterator iterator = points.createIterator();
+		// index of the first event traced
+		int firstEvent;
+
+		public Tracer( ConnectRule rule ) {
+			tracer = new ContourTracer(rule);
+		}
+	}
+}
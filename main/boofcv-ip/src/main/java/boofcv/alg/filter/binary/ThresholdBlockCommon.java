@@ -20,6 +20,8 @@ package boofcv.alg.filter.binary;
 
 import boofcv.abst.filter.binary.InputToBinary;
 import boofcv.alg.InputSanityCheck;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeConsumer;
 import boofcv.struct.image.GrayU8;
 import boofcv.struct.image.ImageBase;
 import boofcv.struct.image.ImageGray;
@@ -40,6 +42,9 @@ import boofcv.struct.image.ImageType;
  *
  * <p>The block based approach used here was inspired by a high level description found in AprilTags.</p>
  *
+ * <p>If {@link #setConcurrent(boolean) concurrent} is true then rows of blocks are processed in parallel, both when
+ * computing statistics and when applying the threshold. The output is identical to the single threaded case.</p>
+ *
  * @author Peter Abeles
  */
 public abstract class ThresholdBlockCommon <T extends ImageGray<T>,S extends ImageBase<S>>
@@ -56,6 +61,9 @@ public abstract class ThresholdBlockCommon <T extends ImageGray<T>,S extends Ima
 	// the adjusted size to minimize extra pixels near the image upper extreme
 	protected int blockWidth,blockHeight;
 
+	// If true then rows of blocks are processed concurrently
+	protected boolean concurrent = false;
+
 	/**
 	 * Configures the detector
 	 * @param requestedBlockWidth About how wide and tall you wish a block to be in pixels.
@@ -105,8 +113,27 @@ public abstract class ThresholdBlockCommon <T extends ImageGray<T>,S extends Ima
 	/**
 	 * Applies the dynamically computed threshold to each pixel in the image, one block at a time
 	 */
-	private void applyThreshold( T input, GrayU8 output ) {
-		for (int blockY = 0; blockY < stats.height; blockY++) {
+	private void applyThreshold( final T input, final GrayU8 output ) {
+		if( concurrent ) {
+			BoofConcurrency.loopBlocks(0, stats.height, new IntRangeConsumer() {
+				@Override
+				public void accept(int blockY0, int blockY1) {
+					thresholdBlockRows(blockY0, blockY1, input, output);
+				}
+			});
+		} else {
+			thresholdBlockRows(0, stats.height, input, output);
+		}
+	}
+
+	/**
+	 * Thresholds every block inside the specified range of block rows
+	 *
+	 * @param blockY0 First row of blocks, inclusive
+	 * @param blockY1 Last row of blocks, exclusive
+	 */
+	protected void thresholdBlockRows( int blockY0 , int blockY1 , T input, GrayU8 output ) {
+		for (int blockY = blockY0; blockY < blockY1; blockY++) {
 			for (int blockX = 0; blockX < stats.width; blockX++) {
 				thresholdBlock(blockX,blockY,input,output);
 			}
@@ -116,29 +143,41 @@ public abstract class ThresholdBlockCommon <T extends ImageGray<T>,S extends Ima
 	/**
 	 * Computes the min-max value for each block in the image
 	 */
-	protected void computeStatistics(T input, int innerWidth, int innerHeight) {
+	protected void computeStatistics(final T input, final int innerWidth, final int innerHeight) {
+		if( concurrent ) {
+			BoofConcurrency.loopBlocks(0, stats.height, new IntRangeConsumer() {
+				@Override
+				public void accept(int blockY0, int blockY1) {
+					computeStatisticsRows(blockY0, blockY1, input, innerWidth, innerHeight);
+				}
+			});
+		} else {
+			computeStatisticsRows(0, stats.height, input, innerWidth, innerHeight);
+		}
+	}
+
+	/**
+	 * Computes statistics for every block inside the specified range of block rows. Each row of blocks
+	 * writes to its own row in the stats image.
+	 *
+	 * @param blockY0 First row of blocks, inclusive
+	 * @param blockY1 Last row of blocks, exclusive
+	 */
+	protected void computeStatisticsRows( int blockY0 , int blockY1 , T input, int innerWidth, int innerHeight ) {
 		int statPixelStride = stats.getImageType().getNumBands();
 
-		int indexStats = 0;
-		for (int y = 0; y < innerHeight; y += blockHeight) {
+		for (int blockY = blockY0; blockY < blockY1; blockY++) {
+			int y = blockY*blockHeight;
+			// handle the case where the image's height isn't evenly divisible by the block's height
+			int height = y < innerHeight ? blockHeight : input.height-innerHeight;
+
+			int indexStats = blockY*stats.width*statPixelStride;
 			for (int x = 0; x < innerWidth; x += blockWidth, indexStats += statPixelStride) {
-				computeBlockStatistics(x,y,blockWidth,blockHeight,indexStats,input);
+				computeBlockStatistics(x,y,blockWidth,height,indexStats,input);
 			}
 			// handle the case where the image's width isn't evenly divisible by the block's width
 			if( innerWidth != input.width ) {
-				computeBlockStatistics(innerWidth,y,input.width-innerWidth,blockHeight,indexStats,input);
-				indexStats += statPixelStride;
-			}
-		}
-		// handle the case where the image's height isn't evenly divisible by the block's height
-		if( innerHeight != input.height ) {
-			int y = innerHeight;
-			int blockHeight = input.height-innerHeight;
-			for (int x = 0; x < innerWidth; x += blockWidth, indexStats += statPixelStride) {
-				computeBlockStatistics(x,y,blockWidth,blockHeight,indexStats,input);
-			}
-			if( innerWidth != input.width ) {
-				computeBlockStatistics(innerWidth,y,input.width-innerWidth,blockHeight,indexStats,input);
+				computeBlockStatistics(innerWidth,y,input.width-innerWidth,height,indexStats,input);
 			}
 		}
 	}
@@ -164,6 +203,17 @@ public abstract class ThresholdBlockCommon <T extends ImageGray<T>,S extends Ima
 	 */
 	protected abstract void thresholdBlock(int blockX0 , int blockY0 , T input, GrayU8 output );
 
+	public boolean isConcurrent() {
+		return concurrent;
+	}
+
+	/**
+	 * Specifies if block rows should be processed concurrently.
+	 */
+	public void setConcurrent(boolean concurrent) {
+		this.concurrent = concurrent;
+	}
+
 	@Override
 	public ImageType<T> getInputType() {
 		return imageType;
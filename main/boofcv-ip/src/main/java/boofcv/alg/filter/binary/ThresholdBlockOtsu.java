@@ -40,7 +40,9 @@ import java.util.Arrays;
  */
 public class ThresholdBlockOtsu extends ThresholdBlockCommon<GrayU8,InterleavedS32> {
 
-	int histogram[] = new int[256];
+	// computes the threshold when single threaded
+	ComputeOtsu otsu;
+
 	boolean down;
 	double scale;
 
@@ -49,9 +51,6 @@ public class ThresholdBlockOtsu extends ThresholdBlockCommon<GrayU8,InterleavedS
 	 */
 	double tuning;
 
-	int threshold;
-	double variance;
-
 	/**
 	 * Configures the detector
 	 *
@@ -63,6 +62,7 @@ public class ThresholdBlockOtsu extends ThresholdBlockCommon<GrayU8,InterleavedS
 		this.down = down;
 		this.scale = scale;
 		this.tuning = tuning;
+		this.otsu = new ComputeOtsu(tuning,scale,down);
 		stats = new InterleavedS32(1,1,256);
 	}
 
@@ -83,8 +83,24 @@ public class ThresholdBlockOtsu extends ThresholdBlockCommon<GrayU8,InterleavedS
 		}
 	}
 
+	@Override
+	protected void thresholdBlockRows(int blockY0, int blockY1, GrayU8 input, GrayU8 output) {
+		// each thread needs its own histogram. Only a handful are created for each image
+		ComputeOtsu otsu = concurrent ? new ComputeOtsu(tuning,scale,down) : this.otsu;
+
+		for (int blockY = blockY0; blockY < blockY1; blockY++) {
+			for (int blockX = 0; blockX < stats.width; blockX++) {
+				thresholdBlock(blockX,blockY,input,output,otsu);
+			}
+		}
+	}
+
 	@Override
 	protected void thresholdBlock(int blockX0, int blockY0, GrayU8 input, GrayU8 output) {
+		thresholdBlock(blockX0,blockY0,input,output,otsu);
+	}
+
+	protected void thresholdBlock(int blockX0, int blockY0, GrayU8 input, GrayU8 output, ComputeOtsu otsu ) {
 
 		int x0 = blockX0*blockWidth;
 		int y0 = blockY0*blockHeight;
@@ -101,6 +117,7 @@ public class ThresholdBlockOtsu extends ThresholdBlockCommon<GrayU8,InterleavedS
 
 
 		// sum up histogram in local region
+		int histogram[] = otsu.histogram;
 		Arrays.fill(histogram,0,256,0);
 
 		for (int y = blockY0; y <= blockY1; y++) {
@@ -119,15 +136,8 @@ public class ThresholdBlockOtsu extends ThresholdBlockCommon<GrayU8,InterleavedS
 		}
 
 		// compute threshold
-		computeOtsu(histogram,256,total);
-
-
-		// apply optional penalty to low texture regions
-		variance += 0.001; // avoid divide by zero
-		// multiply by threshold twice in an effort to have the image's scaling not effect the tuning parameter
-		int adjustment =  (int)(tuning*threshold*tuning*threshold/variance+0.5);
-		threshold += down ? -adjustment : adjustment;
-		threshold = (int)(scale*Math.max(threshold,0)+0.5);
+		otsu.compute(total);
+		int threshold = otsu.threshold;
 
 		for (int y = y0; y < y1; y++) {
 			int indexInput = input.startIndex + y*input.stride + x0;
@@ -139,40 +149,11 @@ public class ThresholdBlockOtsu extends ThresholdBlockCommon<GrayU8,InterleavedS
 		}
 	}
 
+	/**
+	 * Computes the standard Otsu threshold without any adjustments.  The results are stored in the
+	 * single threaded {@link ComputeOtsu}.
+	 */
 	public void computeOtsu( int histogram[] , int length , int totalPixels ) {
-
-		double dlength = length;
-		double sum = 0;
-		for (int i=0 ; i< length ; i++)
-			sum += (i/dlength)*histogram[i];
-
-		double sumB = 0;
-		int wB = 0;
-
-		variance = 0;
-		threshold = 0;
-
-		int i;
-		for (i=0 ; i<length ; i++) {
-			wB += histogram[i];               // Weight Background
-			if (wB == 0) continue;
-
-			int wF = totalPixels - wB;         // Weight Foreground
-			if (wF == 0) break;
-
-			sumB += (i/dlength)*histogram[i];
-
-			double mB = sumB / wB;            // Mean Background
-			double mF = (sum - sumB) / wF;    // Mean Foreground
-
-			// Calculate Between Class Variance
-			double varBetween = (double)wB*(double)wF*(mB - mF)*(mB - mF);
-
-			// Check if new maximum found
-			if (varBetween > variance) {
-				variance = varBetween;
-				threshold = i;
-			}
-		}
+		otsu.computeOtsu(histogram,length,totalPixels);
 	}
 }
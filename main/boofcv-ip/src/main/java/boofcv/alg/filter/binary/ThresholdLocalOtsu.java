@@ -20,6 +20,8 @@ package boofcv.alg.filter.binary;
 
 import boofcv.abst.filter.binary.InputToBinary;
 import boofcv.alg.InputSanityCheck;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeConsumer;
 import boofcv.struct.image.GrayU8;
 import boofcv.struct.image.ImageGray;
 import boofcv.struct.image.ImageType;
@@ -32,6 +34,10 @@ import java.util.Arrays;
  * This implementation includes a modification from the traditional Otsu algorithm. The threshold can optionally
  * be adjusted in low variance regions. See code for details.
  *
+ * If {@link #setConcurrent(boolean) concurrent} is true then the inner image is split into bands of rows which
+ * are each processed by a different thread with its own histogram. The image border is processed by the
+ * calling thread.
+ *
  * @see GThresholdImageOps#computeOtsu(ImageGray, int, int)
  *
  * @author Peter Abeles
@@ -40,7 +46,9 @@ public class ThresholdLocalOtsu implements InputToBinary<GrayU8> {
 
 	ImageType<GrayU8> imageType = ImageType.single(GrayU8.class);
 
-	int histogram[] = new int[256];
+	// computes the threshold for the border and for the inner image when single threaded
+	ComputeOtsu otsu;
+
 	boolean down;
 	/**
 	 * Tuning parameter that tweaks the otsu value depending on local variance.
@@ -53,11 +61,11 @@ public class ThresholdLocalOtsu implements InputToBinary<GrayU8> {
 	// number of pixels inside the local square region
 	int numPixels;
 
-	// Computed Otsu threshold
-	int threshold = 0;
-
 	double scale;
 
+	// If true then bands of rows are processed concurrently
+	boolean concurrent = false;
+
 	/**
 	 * Configures the detector
 	 *
@@ -69,6 +77,7 @@ public class ThresholdLocalOtsu implements InputToBinary<GrayU8> {
 		this.down = down;
 		this.scale = scale;
 		this.tuning = tuning;
+		this.otsu = new ComputeOtsu(tuning,scale,down);
 	}
 
 	/**
@@ -76,7 +85,7 @@ public class ThresholdLocalOtsu implements InputToBinary<GrayU8> {
 	 * @param input Input image
 	 * @param output Output binary image
 	 */
-	public void process(GrayU8 input , GrayU8 output ) {
+	public void process(final GrayU8 input , final GrayU8 output ) {
 		InputSanityCheck.checkSameShape(input, output);
 
 		if (input.width < regionWidth || input.height < regionWidth) {
@@ -85,26 +94,49 @@ public class ThresholdLocalOtsu implements InputToBinary<GrayU8> {
 
 		numPixels = regionWidth*regionWidth;
 
-		int y0 = regionWidth/2;
-		int y1 = input.height-(regionWidth-y0);
-		int x0 = regionWidth/2;
-		int x1 = input.width-(regionWidth-x0);
+		final int y0 = regionWidth/2;
+		final int y1 = input.height-(regionWidth-y0);
+		final int x0 = regionWidth/2;
+		final int x1 = input.width-(regionWidth-x0);
 
 		// handle the inner portion first
-		for (int y = y0; y < y1; y++) {
+		if( concurrent ) {
+			BoofConcurrency.loopBlocks(y0, y1, new IntRangeConsumer() {
+				@Override
+				public void accept(int rowStart, int rowEnd) {
+					// each band has its own histogram since it's modified as the region slides
+					ComputeOtsu otsu = new ComputeOtsu(tuning,scale,down);
+					applyToInner(input, output, otsu, rowStart, rowEnd, y0, x0, x1);
+				}
+			});
+		} else {
+			applyToInner(input, output, otsu, y0, y1, y0, x0, x1);
+		}
+
+		applyToBorder(input, output, y0, y1, x0, x1);
+	}
+
+	/**
+	 * Thresholds the inner image between the specified rows. A histogram is computed at the start of each row
+	 * and then updated as the region slides along the x-axis.
+	 *
+	 * @param rowStart First row, inclusive
+	 * @param rowEnd Last row, exclusive
+	 */
+	private void applyToInner(GrayU8 input, GrayU8 output, ComputeOtsu otsu,
+							  int rowStart, int rowEnd, int y0, int x0, int x1) {
+		for (int y = rowStart; y < rowEnd; y++) {
 			int indexInput = input.startIndex + y*input.stride + x0;
 			int indexOutput = output.startIndex + y*output.stride + x0;
 
-			computeHistogram(0,y-y0,input);
-			output.data[indexOutput++] = down == (input.data[indexInput++]&0xFF) <= threshold ? (byte)1 : 0;
+			computeHistogram(0,y-y0,input,otsu);
+			output.data[indexOutput++] = down == (input.data[indexInput++]&0xFF) <= otsu.threshold ? (byte)1 : 0;
 
 			for (int x = x0+1; x < x1; x++) {
-				updateHistogramX(x-x0,y-y0,input);
-				output.data[indexOutput++] = down == (input.data[indexInput++]&0xFF) <= threshold ? (byte)1 : 0;
+				updateHistogramX(x-x0,y-y0,input,otsu);
+				output.data[indexOutput++] = down == (input.data[indexInput++]&0xFF) <= otsu.threshold ? (byte)1 : 0;
 			}
 		}
-
-		applyToBorder(input, output, y0, y1, x0, x1);
 	}
 
 	/**
@@ -113,45 +145,45 @@ public class ThresholdLocalOtsu implements InputToBinary<GrayU8> {
 	 */
 	private void applyToBorder(GrayU8 input, GrayU8 output, int y0, int y1, int x0, int x1) {
 		// top-left corner
-		computeHistogram(0,0,input);
-		applyToBlock(0,0,x0+1,y0+1,input,output);
+		computeHistogram(0,0,input,otsu);
+		applyToBlock(0,0,x0+1,y0+1,input,output,otsu);
 		// top-middle
 		for (int x = x0+1; x < x1; x++) {
-			updateHistogramX(x-x0,0,input);
-			applyToBlock(x,0,x+1,y0,input,output);
+			updateHistogramX(x-x0,0,input,otsu);
+			applyToBlock(x,0,x+1,y0,input,output,otsu);
 		}
 		// top-right
-		updateHistogramX(x1-x0,0,input);
-		applyToBlock(x1,0,input.width,y0+1,input,output);
+		updateHistogramX(x1-x0,0,input,otsu);
+		applyToBlock(x1,0,input.width,y0+1,input,output,otsu);
 
 		// middle-right
 		for (int y = y0+1; y < y1; y++) {
-			updateHistogramY(x1-x0,y-y0,input);
-			applyToBlock(x1,y,input.width,y+1,input,output);
+			updateHistogramY(x1-x0,y-y0,input,otsu);
+			applyToBlock(x1,y,input.width,y+1,input,output,otsu);
 		}
 
 		// bottom-right
-		updateHistogramY(x1-x0,y1-y0,input);
-		applyToBlock(x1,y1,input.width,input.height,input,output);
+		updateHistogramY(x1-x0,y1-y0,input,otsu);
+		applyToBlock(x1,y1,input.width,input.height,input,output,otsu);
 
 		//Start over in the top-left. Yes this step could be avoided...
 
 		// middle-left
-		computeHistogram(0,0,input);
+		computeHistogram(0,0,input,otsu);
 
 		for (int y = y0+1; y < y1; y++) {
-			updateHistogramY(0,y-y0,input);
-			applyToBlock(0,y,x0,y+1,input,output);
+			updateHistogramY(0,y-y0,input,otsu);
+			applyToBlock(0,y,x0,y+1,input,output,otsu);
 		}
 
 		// bottom-left
-		updateHistogramY(0,y1-y0,input);
-		applyToBlock(0,y1,x0+1,input.height,input,output);
+		updateHistogramY(0,y1-y0,input,otsu);
+		applyToBlock(0,y1,x0+1,input.height,input,output,otsu);
 
 		// bottom-middle
 		for (int x = x0+1; x < x1; x++) {
-			updateHistogramX(x-x0,y1-y0,input);
-			applyToBlock(x,y1,x+1,input.height,input,output);
+			updateHistogramX(x-x0,y1-y0,input,otsu);
+			applyToBlock(x,y1,x+1,input.height,input,output,otsu);
 		}
 	}
 
@@ -160,7 +192,8 @@ public class ThresholdLocalOtsu implements InputToBinary<GrayU8> {
 		return null;
 	}
 
-	private void applyToBlock( int x0 , int y0 , int x1 , int y1 , GrayU8 input , GrayU8 output ) {
+	private void applyToBlock( int x0 , int y0 , int x1 , int y1 , GrayU8 input , GrayU8 output , ComputeOtsu otsu ) {
+		int threshold = otsu.threshold;
 		for (int y = y0; y < y1; y++) {
 			int indexInput = input.startIndex + y*input.stride + x0;
 			int indexOutput = output.startIndex + y*output.stride + x0;
@@ -171,7 +204,8 @@ public class ThresholdLocalOtsu implements InputToBinary<GrayU8> {
 		}
 	}
 
-	protected void computeHistogram(int x0, int y0, GrayU8 input) {
+	protected void computeHistogram(int x0, int y0, GrayU8 input, ComputeOtsu otsu) {
+		int histogram[] = otsu.histogram;
 
 		Arrays.fill(histogram,0);
 		for (int y = 0; y < regionWidth; y++) {
@@ -180,68 +214,49 @@ public class ThresholdLocalOtsu implements InputToBinary<GrayU8> {
 				histogram[input.data[indexInput++] & 0xFF]++;
 			}
 		}
-		computeOtsu(histogram,numPixels);
+		otsu.compute(numPixels);
 	}
 
-	protected void updateHistogramX(int x0, int y0, GrayU8 input) {
+	protected void updateHistogramX(int x0, int y0, GrayU8 input, ComputeOtsu otsu) {
+		int histogram[] = otsu.histogram;
+
 		for (int y = 0; y < regionWidth; y++) {
 			int indexInput = input.startIndex + (y0+y)*input.stride + x0-1;
 			histogram[input.data[indexInput] & 0xFF]--;
 			histogram[input.data[indexInput+regionWidth] & 0xFF]++;
 		}
-		computeOtsu(histogram,numPixels);
+		otsu.compute(numPixels);
 	}
-	protected void updateHistogramY(int x0, int y0, GrayU8 input) {
+
+	protected void updateHistogramY(int x0, int y0, GrayU8 input, ComputeOtsu otsu) {
+		int histogram[] = otsu.histogram;
+
 		int offset = regionWidth*input.stride;
 		for (int x = 0; x < regionWidth; x++) {
 			int indexInput = input.startIndex + (y0-1)*input.stride + x0+x;
 			histogram[input.data[indexInput] & 0xFF]--;
 			histogram[input.data[indexInput+offset] & 0xFF]++;
 		}
-		computeOtsu(histogram,numPixels);
+		otsu.compute(numPixels);
 	}
 
+	/**
+	 * Computes the Otsu threshold with the low texture adjustment and scale factor applied.  The results are
+	 * stored in the single threaded {@link ComputeOtsu}.
+	 */
 	public void computeOtsu( int histogram[] , int totalPixels ) {
+		otsu.compute(histogram,256,totalPixels);
+	}
 
-		double dlength = 256;
-		double sum = 0;
-		for (int i=0 ; i< 256 ; i++)
-			sum += (i/dlength)*histogram[i];
-
-		double sumB = 0;
-		int wB = 0;
-
-		double variance = 0;
-
-		int i;
-		for (i=0 ; i<256 ; i++) {
-			wB += histogram[i];               // Weight Background
-			if (wB == 0) continue;
-
-			int wF = totalPixels - wB;         // Weight Foreground
-			if (wF == 0) break;
-
-			sumB += (i/dlength)*histogram[i];
-
-			double mB = sumB / wB;            // Mean Background
-			double mF = (sum - sumB) / wF;    // Mean Foreground
-
-			// Calculate Between Class Variance
-			double varBetween = (double)wB*(double)wF*(mB - mF)*(mB - mF);
-
-			// Check if new maximum found
-			if (varBetween > variance) {
-				variance = varBetween;
-				threshold = i;
-			}
-		}
+	public boolean isConcurrent() {
+		return concurrent;
+	}
 
-		// apply optional penalty to low texture regions
-		variance += 0.001; // avoid divide by zero
-		// multiply by threshold twice in an effort to have the image's scaling not effect the tuning parameter
-		int adjustment =  (int)(tuning*threshold*tuning*threshold/variance+0.5);
-		threshold += down ? -adjustment : adjustment;
-		threshold = (int)(scale*Math.max(threshold,0)+0.5);
+	/**
+	 * Specifies if the inner image should be processed concurrently.
+	 */
+	public void setConcurrent(boolean concurrent) {
+		this.concurrent = concurrent;
 	}
 
 	public ImageType<GrayU8> getImageType() {
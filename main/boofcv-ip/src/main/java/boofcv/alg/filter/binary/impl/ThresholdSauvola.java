@@ -19,9 +19,17 @@
 package boofcv.alg.filter.binary.impl;
 
 import boofcv.abst.filter.binary.InputToBinary;
-import boofcv.alg.filter.blur.BlurImageOps;
+import boofcv.alg.filter.convolve.noborder.ImplConvolveMean;
+import boofcv.alg.filter.convolve.noborder.ImplConvolveMean_MT;
+import boofcv.alg.filter.convolve.normalized.ConvolveNormalizedNaive_SB;
+import boofcv.alg.filter.convolve.normalized.ConvolveNormalized_JustBorder_SB;
 import boofcv.alg.misc.ImageStatistics;
 import boofcv.alg.misc.PixelMath;
+import boofcv.alg.misc.PixelMath_MT;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeConsumer;
+import boofcv.factory.filter.kernel.FactoryKernel;
+import boofcv.struct.convolve.Kernel1D_F32;
 import boofcv.struct.image.GrayF32;
 import boofcv.struct.image.GrayU8;
 import boofcv.struct.image.ImageType;
@@ -40,6 +48,11 @@ import boofcv.struct.image.ImageType;
  * values are k=0.3 and radius=15.  These were found by tuning against a set of text.
  * </p>
  *
+ * <p>
+ * If {@link #setConcurrent(boolean) concurrent} is true then pixel operations and the final threshold are
+ * computed with multiple threads.
+ * </p>
+ *
  * @author Peter Abeles
  */
 public class ThresholdSauvola implements InputToBinary<GrayF32> {
@@ -50,6 +63,8 @@ public class ThresholdSauvola implements InputToBinary<GrayF32> {
 	int radius;
 	// should it threshold down or up
 	boolean down;
+	// should it use multiple threads
+	boolean concurrent = false;
 
 	// storage for intermediate results
 	GrayF32 inputPow2 = new GrayF32(1,1); // I^2
@@ -78,7 +93,7 @@ public class ThresholdSauvola implements InputToBinary<GrayF32> {
 	 * @param input Input image.  Not modified.
 	 * @param output Output binary image.  Modified.
 	 */
-	public void process(GrayF32 input , GrayU8 output ) {
+	public void process(final GrayF32 input , final GrayU8 output ) {
 		inputPow2.reshape(input.width,input.height);
 		inputMean.reshape(input.width,input.height);
 		inputMeanPow2.reshape(input.width,input.height);
@@ -88,19 +103,76 @@ public class ThresholdSauvola implements InputToBinary<GrayF32> {
 		inputPow2.reshape(input.width,input.height);
 
 		// mean of input image = E[X]
-		BlurImageOps.mean(input, inputMean, radius, tmp);
+		mean(input, inputMean);
 
 		// standard deviation = sqrt( E[X^2] + E[X]^2)
-		PixelMath.pow2(input, inputPow2);
-		BlurImageOps.mean(inputPow2,inputPow2Mean,radius,tmp);
-		PixelMath.pow2(inputMean,inputMeanPow2);
-		PixelMath.subtract(inputPow2Mean, inputMeanPow2, stdev);
-		PixelMath.sqrt(stdev, stdev);
+		if( concurrent ) {
+			PixelMath_MT.pow2(input, inputPow2);
+			mean(inputPow2,inputPow2Mean);
+			PixelMath_MT.pow2(inputMean,inputMeanPow2);
+			PixelMath_MT.subtract(inputPow2Mean, inputMeanPow2, stdev);
+			PixelMath_MT.sqrt(stdev, stdev);
+		} else {
+			PixelMath.pow2(input, inputPow2);
+			mean(inputPow2,inputPow2Mean);
+			PixelMath.pow2(inputMean,inputMeanPow2);
+			PixelMath.subtract(inputPow2Mean, inputMeanPow2, stdev);
+			PixelMath.sqrt(stdev, stdev);
+		}
+
+		final float R = ImageStatistics.max(stdev);
+
+		if( concurrent ) {
+			BoofConcurrency.loopBlocks(0, input.height, new IntRangeConsumer() {
+				@Override
+				public void accept(int y0, int y1) {
+					applyThreshold(input, output, R, y0, y1);
+				}
+			});
+		} else {
+			applyThreshold(input, output, R, 0, input.height);
+		}
+	}
+
+	/**
+	 * Applies a mean filter to the image using {@link #tmp} as storage.  Same as
+	 * {@link boofcv.alg.filter.blur.BlurImageOps#mean(GrayF32, GrayF32, int, GrayF32)} except that
+	 * {@link #concurrent} selects the kernels instead of {@link BoofConcurrency#USE_CONCURRENT}.  Only the
+	 * horizontal pass is concurrent so that the output is identical to the single threaded version.
+	 */
+	private void mean( GrayF32 input , GrayF32 output ) {
+		Kernel1D_F32 kernel = FactoryKernel.table1D_F32(radius,true);
 
-		float R = ImageStatistics.max(stdev);
+		if( kernel.width > input.width ) {
+			ConvolveNormalizedNaive_SB.horizontal(kernel, input, tmp);
+		} else {
+			ConvolveNormalized_JustBorder_SB.horizontal(kernel, input, tmp);
+			if( concurrent ) {
+				ImplConvolveMean_MT.horizontal(input, tmp, radius);
+			} else {
+				ImplConvolveMean.horizontal(input, tmp, radius);
+			}
+		}
+
+		if( kernel.width > input.height ) {
+			ConvolveNormalizedNaive_SB.vertical(kernel, tmp, output);
+		} else {
+			ConvolveNormalized_JustBorder_SB.vertical(kernel, tmp, output);
+			// the concurrent vertical mean restarts the running sum in each band and would change the round off
+			ImplConvolveMean.vertical(tmp, output, radius);
+		}
+	}
 
+	/**
+	 * Applies the threshold to pixels between the specified rows
+	 *
+	 * @param R Dynamic range of the standard deviation
+	 * @param y0 First row, inclusive
+	 * @param y1 Last row, exclusive
+	 */
+	private void applyThreshold( GrayF32 input , GrayU8 output , float R , int y0 , int y1 ) {
 		if( down ) {
-			for (int y = 0; y < input.height; y++) {
+			for (int y = y0; y < y1; y++) {
 				int i = y * stdev.width;
 				int indexIn = input.startIndex + y * input.stride;
 				int indexOut = output.startIndex + y * output.stride;
@@ -112,7 +184,7 @@ public class ThresholdSauvola implements InputToBinary<GrayF32> {
 				}
 			}
 		} else {
-			for (int y = 0; y < input.height; y++) {
+			for (int y = y0; y < y1; y++) {
 				int i = y * stdev.width;
 				int indexIn = input.startIndex + y * input.stride;
 				int indexOut = output.startIndex + y * output.stride;
@@ -154,4 +226,12 @@ public class ThresholdSauvola implements InputToBinary<GrayF32> {
 	public void setDown(boolean down) {
 		this.down = down;
 	}
+
+	public boolean isConcurrent() {
+		return concurrent;
+	}
+
+	public void setConcurrent(boolean concurrent) {
+		this.concurrent = concurrent;
+	}
 }
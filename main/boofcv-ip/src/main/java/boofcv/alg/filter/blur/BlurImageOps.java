@@ -19,11 +19,17 @@
 package boofcv.alg.filter.blur;
 
 import boofcv.alg.InputSanityCheck;
+import boofcv.alg.filter.blur.impl.ImplBlurStrips;
+import boofcv.alg.filter.blur.impl.ImplMedianHistogram;
 import boofcv.alg.filter.blur.impl.ImplMedianHistogramInner;
+import boofcv.alg.filter.blur.impl.ImplMedianHistogramInner_MT;
+import boofcv.alg.filter.blur.impl.ImplMedianHistogram_MT;
 import boofcv.alg.filter.blur.impl.ImplMedianSortEdgeNaive;
 import boofcv.alg.filter.blur.impl.ImplMedianSortNaive;
+import boofcv.alg.filter.blur.impl.ImplMedianSortNaive_MT;
 import boofcv.alg.filter.convolve.ConvolveImageMean;
 import boofcv.alg.filter.convolve.ConvolveNormalized;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.core.image.GeneralizedImageOps;
 import boofcv.factory.filter.kernel.FactoryKernelGaussian;
 import boofcv.struct.convolve.Kernel1D_F32;
@@ -120,6 +126,62 @@ public class BlurImageOps {
 		return output;
 	}
 
+	/**
+	 * Applies a mean box filter one horizontal strip at a time.  Only enough storage for the
+	 * intermediate results of a single strip is needed, which reduces cache misses on large images.
+	 * Strips are processed concurrently if {@link boofcv.concurrency.BoofConcurrency#USE_CONCURRENT} is true.
+	 * Output is identical to {@link #mean(GrayU8, GrayU8, int, GrayU8)}.
+	 *
+	 * @param input Input image.  Not modified.
+	 * @param output (Optional) Storage for output image, Can be null.  Can't be the same as input.  Modified.
+	 * @param radius Radius of the box blur function.
+	 * @param workspace (Optional) Storage for intermediate results.  Can be null.
+	 * @return Output blurred image.
+	 */
+	public static GrayU8 meanStrips(GrayU8 input, GrayU8 output, int radius, BlurStripWorkspace<GrayU8> workspace) {
+
+		if( radius <= 0 )
+			throw new IllegalArgumentException("Radius must be > 0");
+
+		output = InputSanityCheck.checkDeclare(input,output);
+		if( input == output )
+			throw new IllegalArgumentException("Input and output can't be the same image");
+		if( workspace == null )
+			workspace = new BlurStripWorkspace<>(GrayU8.class);
+
+		ImplBlurStrips.mean(input, output, radius, workspace);
+
+		return output;
+	}
+
+	/**
+	 * Applies a mean box filter one horizontal strip at a time.  Only enough storage for the
+	 * intermediate results of a single strip is needed, which reduces cache misses on large images.
+	 * Strips are processed concurrently if {@link boofcv.concurrency.BoofConcurrency#USE_CONCURRENT} is true.
+	 * Output is the same as {@link #mean(GrayF32, GrayF32, int, GrayF32)} up to round off error.
+	 *
+	 * @param input Input image.  Not modified.
+	 * @param output (Optional) Storage for output image, Can be null.  Can't be the same as input.  Modified.
+	 * @param radius Radius of the box blur function.
+	 * @param workspace (Optional) Storage for intermediate results.  Can be null.
+	 * @return Output blurred image.
+	 */
+	public static GrayF32 meanStrips(GrayF32 input, GrayF32 output, int radius, BlurStripWorkspace<GrayF32> workspace) {
+
+		if( radius <= 0 )
+			throw new IllegalArgumentException("Radius must be > 0");
+
+		output = InputSanityCheck.checkDeclare(input,output);
+		if( input == output )
+			throw new IllegalArgumentException("Input and output can't be the same image");
+		if( workspace == null )
+			workspace = new BlurStripWorkspace<>(GrayF32.class);
+
+		ImplBlurStrips.mean(input, output, radius, workspace);
+
+		return output;
+	}
+
 	/**
 	 * Applies mean box filter to a {@link Planar}
 	 *
@@ -160,13 +222,22 @@ public class BlurImageOps {
 
 		if( BOverrideBlurImageOps.median_U8 != null )
 			BOverrideBlurImageOps.median_U8.process(input,output,radius);
-		else {
+		else if( radius < 6 ) {
+			// the constant time algorithm has more overhead and is slower for small regions
 			int w = radius * 2 + 1;
 			int offset[] = new int[w * w];
-			int histogram[] = new int[256];
 
-			ImplMedianHistogramInner.process(input, output, radius, offset, histogram);
+			if( BoofConcurrency.USE_CONCURRENT ) {
+				ImplMedianHistogramInner_MT.process(input, output, radius, null);
+			} else {
+				int histogram[] = new int[256];
+				ImplMedianHistogramInner.process(input, output, radius, offset, histogram);
+			}
 			ImplMedianSortEdgeNaive.process(input, output, radius, offset);
+		} else if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplMedianHistogram_MT.process(input, output, radius, null);
+		} else {
+			ImplMedianHistogram.process(input, output, radius, null);
 		}
 
 		return output;
@@ -189,7 +260,9 @@ public class BlurImageOps {
 
 		if( BOverrideBlurImageOps.median_F32 != null )
 			BOverrideBlurImageOps.median_F32.process(input,output,radius);
-		else {
+		else if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplMedianSortNaive_MT.process(input, output, radius, null);
+		} else {
 			ImplMedianSortNaive.process(input, output, radius, null);
 		}
 		return output;
@@ -288,6 +361,60 @@ public class BlurImageOps {
 		return output;
 	}
 
+	/**
+	 * Applies Gaussian blur one horizontal strip at a time.  Only enough storage for the
+	 * intermediate results of a single strip is needed, which reduces cache misses on large images.
+	 * Strips are processed concurrently if {@link boofcv.concurrency.BoofConcurrency#USE_CONCURRENT} is true.
+	 * Output is identical to {@link #gaussian(GrayU8, GrayU8, double, int, GrayU8)}.
+	 *
+	 * @param input Input image.  Not modified.
+	 * @param output (Optional) Storage for output image, Can be null.  Can't be the same as input.  Modified.
+	 * @param sigma Gaussian distribution's sigma.  If &le; 0 then will be selected based on radius.
+	 * @param radius Radius of the Gaussian blur function. If &le; 0 then radius will be determined by sigma.
+	 * @param workspace (Optional) Storage for intermediate results.  Can be null.
+	 * @return Output blurred image.
+	 */
+	public static GrayU8 gaussianStrips(GrayU8 input, GrayU8 output, double sigma , int radius,
+										BlurStripWorkspace<GrayU8> workspace ) {
+		output = InputSanityCheck.checkDeclare(input,output);
+		if( input == output )
+			throw new IllegalArgumentException("Input and output can't be the same image");
+		if( workspace == null )
+			workspace = new BlurStripWorkspace<>(GrayU8.class);
+
+		Kernel1D_S32 kernel = workspace.gaussian(Kernel1D_S32.class, sigma, radius);
+		ImplBlurStrips.gaussian(kernel, input, output, workspace);
+
+		return output;
+	}
+
+	/**
+	 * Applies Gaussian blur one horizontal strip at a time.  Only enough storage for the
+	 * intermediate results of a single strip is needed, which reduces cache misses on large images.
+	 * Strips are processed concurrently if {@link boofcv.concurrency.BoofConcurrency#USE_CONCURRENT} is true.
+	 * Output is identical to {@link #gaussian(GrayF32, GrayF32, double, int, GrayF32)}.
+	 *
+	 * @param input Input image.  Not modified.
+	 * @param output (Optional) Storage for output image, Can be null.  Can't be the same as input.  Modified.
+	 * @param sigma Gaussian distribution's sigma.  If &le; 0 then will be selected based on radius.
+	 * @param radius Radius of the Gaussian blur function. If &le; 0 then radius will be determined by sigma.
+	 * @param workspace (Optional) Storage for intermediate results.  Can be null.
+	 * @return Output blurred image.
+	 */
+	public static GrayF32 gaussianStrips(GrayF32 input, GrayF32 output, double sigma , int radius,
+										 BlurStripWorkspace<GrayF32> workspace ) {
+		output = InputSanityCheck.checkDeclare(input,output);
+		if( input == output )
+			throw new IllegalArgumentException("Input and output can't be the same image");
+		if( workspace == null )
+			workspace = new BlurStripWorkspace<>(GrayF32.class);
+
+		Kernel1D_F32 kernel = workspace.gaussian(Kernel1D_F32.class, sigma, radius);
+		ImplBlurStrips.gaussian(kernel, input, output, workspace);
+
+		return output;
+	}
+
 	/**
 	 * Applies Gaussian blur.
 	 *
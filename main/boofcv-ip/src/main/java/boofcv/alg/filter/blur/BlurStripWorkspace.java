@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.filter.blur;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.core.image.GeneralizedImageOps;
+import boofcv.factory.filter.kernel.FactoryKernel;
+import boofcv.factory.filter.kernel.FactoryKernelGaussian;
+import boofcv.struct.convolve.Kernel1D;
+import boofcv.struct.convolve.Kernel1D_F32;
+import boofcv.struct.convolve.Kernel1D_S32;
+import boofcv.struct.image.ImageDataType;
+import boofcv.struct.image.ImageGray;
+import org.ddogleg.struct.FastQueue;
+import org.ddogleg.struct.GrowQueue_F32;
+import org.ddogleg.struct.GrowQueue_I32;
+
+/**
+ * <p>
+ * Storage used when blurring an image one horizontal strip at a time, see {@link BlurImageOps#gaussianStrips}.
+ * Each thread is given its own {@link Strip}, which contains the intermediate image from the horizontal pass.
+ * The intermediate image is only large enough to hold a single strip, allowing it to stay inside the
+ * CPU's cache.  Once the workspace has grown to match the image size no more memory is declared, making it
+ * suitable for processing video.  The most recent kernels are saved and only recomputed when their
+ * parameters change.
+ * </p>
+ *
+ * <p>
+ * A workspace can't be shared by multiple threads which are calling blur functions at the same time.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class BlurStripWorkspace<T extends ImageGray<T>> {
+	/**
+	 * Number of bytes the intermediate strip is allowed to use.  Should be a bit less than the size of the
+	 * L2 cache.
+	 */
+	public int cacheBytes = 256*1024;
+
+	/**
+	 * If &gt; 0 then it specifies the height of each strip, otherwise it's selected using {@link #cacheBytes}.
+	 */
+	public int stripHeight = 0;
+
+	// type of image being processed
+	private final Class<T> imageType;
+	// number of bytes in each pixel
+	private final int pixelBytes;
+
+	/**
+	 * Storage for each thread
+	 */
+	public final FastQueue<Strip<T>> strips;
+
+	// The most recently requested Gaussian kernel and its parameters
+	private Kernel1D gaussian;
+	private double gaussianSigma;
+	private int gaussianRadius;
+
+	// The most recently requested mean kernel
+	private Kernel1D mean;
+	private int meanRadius;
+
+	public BlurStripWorkspace( final Class<T> imageType ) {
+		this.imageType = imageType;
+		this.pixelBytes = Math.max(1,ImageDataType.classToType(imageType).getNumBits()/8);
+		this.strips = new FastQueue<Strip<T>>((Class)Strip.class,true) {
+			@Override
+			protected Strip<T> createInstance() {
+				return new Strip<>(imageType);
+			}
+		};
+	}
+
+	/**
+	 * Selects the height of a strip.  Strips will be at least one pixel taller than the kernel and, when
+	 * possible, there will be enough strips for every thread to have work.
+	 *
+	 * @param width Image width
+	 * @param height Image height
+	 * @param kernelWidth Width of the kernel being convolved
+	 * @return height of each strip
+	 */
+	public int computeStripHeight( int width , int height , int kernelWidth ) {
+		int rows;
+		if( stripHeight > 0 ) {
+			rows = stripHeight;
+		} else {
+			// rows which fit in the cache minus the rows read above and below the strip
+			rows = cacheBytes/(width*pixelBytes) - (kernelWidth-1);
+			// the horizontal pass is repeated for rows which are shared by two strips. Don't let that
+			// extra work become more expensive than cache misses
+			rows = Math.max(rows, 4*(kernelWidth-1));
+			int threads = BoofConcurrency.USE_CONCURRENT ? BoofConcurrency.getMaxThreads() : 1;
+			rows = Math.min(rows,(height+threads-1)/threads);
+		}
+		return Math.max(kernelWidth+1,rows);
+	}
+
+	/**
+	 * Returns a Gaussian kernel.  The kernel is only created if the type, sigma, or radius has changed since
+	 * the previous call.
+	 *
+	 * @see FactoryKernelGaussian#gaussian(Class, double, int)
+	 */
+	public <K extends Kernel1D> K gaussian( Class<K> kernelType , double sigma , int radius ) {
+		if( gaussian == null || gaussian.getClass() != kernelType ||
+				gaussianSigma != sigma || gaussianRadius != radius ) {
+			gaussian = FactoryKernelGaussian.gaussian(kernelType, sigma, radius);
+			gaussianSigma = sigma;
+			gaussianRadius = radius;
+		}
+		return kernelType.cast(gaussian);
+	}
+
+	/**
+	 * Returns a normalized mean kernel.  The kernel is only created if the type or radius has changed since the
+	 * previous call.
+	 *
+	 * @param kernelType Either {@link Kernel1D_S32} or {@link Kernel1D_F32}
+	 * @see FactoryKernel#table1D_I32(int)
+	 * @see FactoryKernel#table1D_F32(int, boolean)
+	 */
+	public <K extends Kernel1D> K mean( Class<K> kernelType , int radius ) {
+		if( mean == null || mean.getClass() != kernelType || meanRadius != radius ) {
+			if( kernelType == Kernel1D_S32.class )
+				mean = FactoryKernel.table1D_I32(radius);
+			else if( kernelType == Kernel1D_F32.class )
+				mean = FactoryKernel.table1D_F32(radius,true);
+			else
+				throw new IllegalArgumentException("Unsupported kernel type "+kernelType.getSimpleName());
+			meanRadius = radius;
+		}
+		return kernelType.cast(mean);
+	}
+
+	public Class<T> getImageType() {
+		return imageType;
+	}
+
+	/**
+	 * Storage for processing a strip.  Image views are recycled to avoid declaring new memory
+	 */
+	public static class Strip<T extends ImageGray<T>> {
+		/** Output of the horizontal pass for all the rows which are needed by the strip */
+		public T horizontal;
+		/** Storage for computing the normalized border along the top and bottom of the image */
+		public T border;
+
+		// sub-image views which are recycled
+		public T inputView;
+		public T outputView;
+		public T tempView;
+		public T borderView;
+
+		// running sums used when computing the vertical mean
+		public GrowQueue_I32 totalsI = new GrowQueue_I32();
+		public GrowQueue_F32 totalsF = new GrowQueue_F32();
+
+		public Strip( Class<T> imageType ) {
+			horizontal = GeneralizedImageOps.createSingleBand(imageType,1,1);
+			border = GeneralizedImageOps.createSingleBand(imageType,1,1);
+			inputView = GeneralizedImageOps.createSingleBand(imageType,1,1);
+			outputView = GeneralizedImageOps.createSingleBand(imageType,1,1);
+			tempView = GeneralizedImageOps.createSingleBand(imageType,1,1);
+			borderView = GeneralizedImageOps.createSingleBand(imageType,1,1);
+		}
+	}
+}
@@ -0,0 +1,304 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.filter.blur.impl;
+
+import boofcv.alg.filter.blur.BlurStripWorkspace;
+import boofcv.alg.filter.blur.BlurStripWorkspace.Strip;
+import boofcv.alg.filter.convolve.ConvolveImageMean;
+import boofcv.alg.filter.convolve.ConvolveImageNoBorder;
+import boofcv.alg.filter.convolve.ConvolveNormalized;
+import boofcv.alg.filter.convolve.noborder.ImplConvolveMean;
+import boofcv.alg.filter.convolve.normalized.ConvolveNormalized_JustBorder_SB;
+import boofcv.alg.filter.kernel.KernelMath;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeObjectConsumer;
+import boofcv.struct.convolve.Kernel1D_F32;
+import boofcv.struct.convolve.Kernel1D_S32;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.ImageGray;
+
+/**
+ * <p>
+ * Separable blur filters which process the image one horizontal strip at a time. For each strip the horizontal
+ * pass is applied to the rows inside the strip plus the rows above and below it which the vertical pass
+ * needs. The vertical pass then writes directly into the output image. The intermediate image only needs to
+ * hold a single strip and is much more likely to stay inside the CPU cache than a full sized image. Strips
+ * are processed concurrently when {@link BoofConcurrency#USE_CONCURRENT} is true.
+ * </p>
+ *
+ * <p>
+ * The output is identical to applying a horizontal then vertical pass across the entire image, with the exception
+ * of the floating point mean filter, which can have small differences from round off errors in its running sum.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class ImplBlurStrips {
+
+	public static void gaussian( Kernel1D_S32 kernel , GrayU8 input , GrayU8 output ,
+								 BlurStripWorkspace<GrayU8> workspace ) {
+		if( kernel.width >= input.width || kernel.width >= input.height ) {
+			GrayU8 storage = fullStorage(input,workspace);
+			ConvolveNormalized.horizontal(kernel, input, storage);
+			ConvolveNormalized.vertical(kernel, storage, output);
+			return;
+		}
+
+		final Kernel1D_S32 _kernel = kernel;
+		final GrayU8 _input = input, _output = output;
+		final int divisor = kernel.computeSum();
+
+		processStrips(input.height, workspace.computeStripHeight(input.width, input.height, kernel.width),
+				workspace, new StripProcessor<GrayU8>() {
+			@Override
+			public void process(Strip<GrayU8> strip, int y0, int y1) {
+				GrayU8 in = stripInput(_kernel.offset, _kernel.width, _input, y0, y1, strip);
+				GrayU8 tmp = strip.horizontal;
+				ConvolveImageNoBorder.horizontal(_kernel, in, tmp, divisor);
+				ConvolveNormalized_JustBorder_SB.horizontal(_kernel, in, tmp);
+
+				GrayU8 out = stripOutput(_kernel.offset, _output, y0, strip);
+				ConvolveImageNoBorder.vertical(_kernel, tmp, out, divisor);
+				if( y0 == 0 ) {
+					ConvolveNormalized_JustBorder_SB.vertical(_kernel, topRows(_kernel.width, strip), strip.border);
+					copyTopBorder(_kernel.offset, _output, strip);
+				}
+				if( y1 == _input.height ) {
+					ConvolveNormalized_JustBorder_SB.vertical(_kernel, bottomRows(_kernel.width, strip), strip.border);
+					copyBottomBorder(_kernel.width - _kernel.offset - 1, _output, strip);
+				}
+			}
+		});
+	}
+
+	public static void gaussian( Kernel1D_F32 kernel , GrayF32 input , GrayF32 output ,
+								 BlurStripWorkspace<GrayF32> workspace ) {
+		if( kernel.width >= input.width || kernel.width >= input.height ) {
+			GrayF32 storage = fullStorage(input,workspace);
+			ConvolveNormalized.horizontal(kernel, input, storage);
+			ConvolveNormalized.vertical(kernel, storage, output);
+			return;
+		}
+
+		// same normalization as ConvolveNormalized so that the results are identical
+		if( Math.abs(kernel.computeSum() - 1.0f) > 1e-4f ) {
+			kernel = kernel.copy();
+			KernelMath.normalizeSumToOne(kernel);
+		}
+
+		final Kernel1D_F32 _kernel = kernel;
+		final GrayF32 _input = input, _output = output;
+
+		processStrips(input.height, workspace.computeStripHeight(input.width, input.height, kernel.width),
+				workspace, new StripProcessor<GrayF32>() {
+			@Override
+			public void process(Strip<GrayF32> strip, int y0, int y1) {
+				GrayF32 in = stripInput(_kernel.offset, _kernel.width, _input, y0, y1, strip);
+				GrayF32 tmp = strip.horizontal;
+				ConvolveImageNoBorder.horizontal(_kernel, in, tmp);
+				ConvolveNormalized_JustBorder_SB.horizontal(_kernel, in, tmp);
+
+				ConvolveImageNoBorder.vertical(_kernel, tmp, stripOutput(_kernel.offset, _output, y0, strip));
+				if( y0 == 0 ) {
+					ConvolveNormalized_JustBorder_SB.vertical(_kernel, topRows(_kernel.width, strip), strip.border);
+					copyTopBorder(_kernel.offset, _output, strip);
+				}
+				if( y1 == _input.height ) {
+					ConvolveNormalized_JustBorder_SB.vertical(_kernel, bottomRows(_kernel.width, strip), strip.border);
+					copyBottomBorder(_kernel.width - _kernel.offset - 1, _output, strip);
+				}
+			}
+		});
+	}
+
+	public static void mean( GrayU8 input , GrayU8 output , final int radius ,
+							 BlurStripWorkspace<GrayU8> workspace ) {
+		final Kernel1D_S32 kernel = workspace.mean(Kernel1D_S32.class, radius);
+		if( kernel.width > input.width || kernel.width >= input.height ) {
+			GrayU8 storage = fullStorage(input,workspace);
+			ConvolveImageMean.horizontal(input, storage, radius);
+			ConvolveImageMean.vertical(storage, output, radius);
+			return;
+		}
+
+		final GrayU8 _input = input, _output = output;
+
+		processStrips(input.height, workspace.computeStripHeight(input.width, input.height, kernel.width),
+				workspace, new StripProcessor<GrayU8>() {
+			@Override
+			public void process(Strip<GrayU8> strip, int y0, int y1) {
+				GrayU8 in = stripInput(radius, kernel.width, _input, y0, y1, strip);
+				GrayU8 tmp = strip.horizontal;
+				ConvolveNormalized_JustBorder_SB.horizontal(kernel, in, tmp);
+				ImplConvolveMean.horizontal(in, tmp, radius);
+
+				GrayU8 out = stripOutput(radius, _output, y0, strip);
+				ImplConvolveMean.vertical(tmp, out, radius, strip.totalsI);
+				if( y0 == 0 ) {
+					ConvolveNormalized_JustBorder_SB.vertical(kernel, topRows(kernel.width, strip), strip.border);
+					copyTopBorder(radius, _output, strip);
+				}
+				if( y1 == _input.height ) {
+					ConvolveNormalized_JustBorder_SB.vertical(kernel, bottomRows(kernel.width, strip), strip.border);
+					copyBottomBorder(radius, _output, strip);
+				}
+			}
+		});
+	}
+
+	public static void mean( GrayF32 input , GrayF32 output , final int radius ,
+							 BlurStripWorkspace<GrayF32> workspace ) {
+		final Kernel1D_F32 kernel = workspace.mean(Kernel1D_F32.class, radius);
+		if( kernel.width > input.width || kernel.width >= input.height ) {
+			GrayF32 storage = fullStorage(input,workspace);
+			ConvolveImageMean.horizontal(input, storage, radius);
+			ConvolveImageMean.vertical(storage, output, radius);
+			return;
+		}
+
+		final GrayF32 _input = input, _output = output;
+
+		processStrips(input.height, workspace.computeStripHeight(input.width, input.height, kernel.width),
+				workspace, new StripProcessor<GrayF32>() {
+			@Override
+			public void process(Strip<GrayF32> strip, int y0, int y1) {
+				GrayF32 in = stripInput(radius, kernel.width, _input, y0, y1, strip);
+				GrayF32 tmp = strip.horizontal;
+				ConvolveNormalized_JustBorder_SB.horizontal(kernel, in, tmp);
+				ImplConvolveMean.horizontal(in, tmp, radius);
+
+				GrayF32 out = stripOutput(radius, _output, y0, strip);
+				ImplConvolveMean.vertical(tmp, out, radius, strip.totalsF);
+				if( y0 == 0 ) {
+					ConvolveNormalized_JustBorder_SB.vertical(kernel, topRows(kernel.width, strip), strip.border);
+					copyTopBorder(radius, _output, strip);
+				}
+				if( y1 == _input.height ) {
+					ConvolveNormalized_JustBorder_SB.vertical(kernel, bottomRows(kernel.width, strip), strip.border);
+					copyBottomBorder(radius, _output, strip);
+				}
+			}
+		});
+	}
+
+	/**
+	 * Splits the image into strips and processes blocks of strips in parallel.  The last strip absorbs
+	 * any left over rows so that every strip is at least stripHeight tall.
+	 */
+	static <T extends ImageGray<T>> void processStrips( final int height , final int stripHeight ,
+														BlurStripWorkspace<T> workspace ,
+														final StripProcessor<T> processor ) {
+		final int numStrips = Math.max(1, height/stripHeight);
+
+		IntRangeObjectConsumer<Strip<T>> consumer = new IntRangeObjectConsumer<Strip<T>>() {
+			@Override
+			public void accept(Strip<T> strip, int minInclusive, int maxExclusive) {
+				for (int i = minInclusive; i < maxExclusive; i++) {
+					int y0 = i*stripHeight;
+					int y1 = i == numStrips-1 ? height : y0 + stripHeight;
+					processor.process(strip, y0, y1);
+				}
+			}
+		};
+
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			BoofConcurrency.loopBlocks(0, numStrips, 1, workspace.strips, consumer);
+		} else {
+			workspace.strips.resize(1);
+			consumer.accept(workspace.strips.get(0), 0, numStrips);
+		}
+	}
+
+	/**
+	 * Creates a view of the input rows which are needed to compute output rows y0 to y1 and reshapes
+	 * the strip's horizontal image to match.
+	 */
+	static <T extends ImageGray<T>> T stripInput( int offsetL , int kernelWidth , T input , int y0 , int y1 ,
+												   Strip<T> strip ) {
+		int offsetR = kernelWidth-offsetL-1;
+		int expandedY0 = Math.max(0, y0 - offsetL);
+		int expandedY1 = Math.min(input.height, y1 + offsetR);
+
+		T in = input.subimage(0, expandedY0, input.width, expandedY1, strip.inputView);
+		strip.horizontal.reshape(in.width, in.height);
+		return in;
+	}
+
+	/**
+	 * View of the output image which has the same rows as the strip's input view.  Inner convolution only
+	 * writes to rows which have complete support, which will be inside the strip.
+	 */
+	static <T extends ImageGray<T>> T stripOutput( int offsetL , T output , int y0 , Strip<T> strip ) {
+		int expandedY0 = Math.max(0, y0 - offsetL);
+		return output.subimage(0, expandedY0, output.width, expandedY0 + strip.horizontal.height, strip.outputView);
+	}
+
+	/**
+	 * View of the top rows in the horizontal image which are needed to compute the image's top border.
+	 * The border image is reshaped to match.
+	 */
+	static <T extends ImageGray<T>> T topRows( int kernelWidth , Strip<T> strip ) {
+		T tmp = strip.horizontal;
+		int rows = Math.min(tmp.height, kernelWidth+1);
+		strip.border.reshape(tmp.width, rows);
+		return tmp.subimage(0, 0, tmp.width, rows, strip.tempView);
+	}
+
+	/**
+	 * View of the bottom rows in the horizontal image which are needed to compute the image's bottom border.
+	 * The border image is reshaped to match.
+	 */
+	static <T extends ImageGray<T>> T bottomRows( int kernelWidth , Strip<T> strip ) {
+		T tmp = strip.horizontal;
+		int rows = Math.min(tmp.height, kernelWidth+1);
+		strip.border.reshape(tmp.width, rows);
+		return tmp.subimage(0, tmp.height-rows, tmp.width, tmp.height, strip.tempView);
+	}
+
+	static <T extends ImageGray<T>> void copyTopBorder( int offsetL , T output , Strip<T> strip ) {
+		T src = strip.border.subimage(0, 0, output.width, offsetL, strip.borderView);
+		output.subimage(0, 0, output.width, offsetL, strip.outputView).setTo(src);
+	}
+
+	static <T extends ImageGray<T>> void copyBottomBorder( int offsetR , T output , Strip<T> strip ) {
+		T border = strip.border;
+		T src = border.subimage(0, border.height-offsetR, output.width, border.height, strip.borderView);
+		output.subimage(0, output.height-offsetR, output.width, output.height, strip.outputView).setTo(src);
+	}
+
+	/**
+	 * Returns a full sized image for storing the horizontal pass.  Used when the image is too small to be
+	 * broken up into strips.
+	 */
+	static <T extends ImageGray<T>> T fullStorage( T input , BlurStripWorkspace<T> workspace ) {
+		workspace.strips.resize(1);
+		T storage = workspace.strips.get(0).horizontal;
+		storage.reshape(input.width, input.height);
+		return storage;
+	}
+
+	/**
+	 * Processes the rows y0 to y1, exclusive, in the output image
+	 */
+	interface StripProcessor<T extends ImageGray<T>> {
+		void process( Strip<T> strip , int y0 , int y1 );
+	}
+}
@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.filter.blur.impl;
+
+import boofcv.struct.image.GrayU8;
+import org.ddogleg.struct.GrowQueue_I32;
+
+import java.util.Arrays;
+
+/**
+ * <p>
+ * Median filter for {@link GrayU8} images which runs in constant time per pixel, independent of the radius.
+ * A histogram is maintained for each column in the image, which is updated by adding one row and removing another
+ * as the filter moves down the image.  The region's histogram is computed by adding and subtracting column
+ * histograms as it moves across a row.  Histograms are split into 16 coarse and 256 fine bins. The coarse
+ * histogram is always kept up to date while each fine segment is only updated when the median is inside of it.
+ * </p>
+ *
+ * <p>
+ * Pixels along the image border are handled by only considering pixels inside the image.  When there is
+ * an even number of pixels the upper median is selected. This produces identical results to
+ * {@link ImplMedianHistogramInner} and {@link ImplMedianSortEdgeNaive}.
+ * </p>
+ *
+ * <p>
+ * Perreault, Simon, and Patrick Hébert. "Median filtering in constant time." IEEE Transactions on
+ * Image Processing 16.9 (2007): 2389-2394.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class ImplMedianHistogram {
+
+	private static final int FINE = 256;
+	private static final int COARSE = 16;
+	// number of fine bins in each coarse bin
+	private static final int SEGMENT = FINE/COARSE;
+
+	/**
+	 * Applies the median filter to the entire image.
+	 *
+	 * @param input Input image. Not modified.
+	 * @param output Filtered output image. Modified.
+	 * @param radius Size of the filter region.
+	 * @param work (Optional) Storage for histograms.  Can be null.
+	 */
+	public static void process( GrayU8 input , GrayU8 output , int radius , GrowQueue_I32 work ) {
+		process(input, output, radius, 0, input.height, work);
+	}
+
+	/**
+	 * Applies the median filter to rows y0 to y1 in the output image.  Rows outside of this range
+	 * are not modified.
+	 *
+	 * @param input Input image. Not modified.
+	 * @param output Filtered output image. Modified.
+	 * @param radius Size of the filter region.
+	 * @param y0 First row which is processed, inclusive.
+	 * @param y1 Last row which is processed, exclusive.
+	 * @param work (Optional) Storage for histograms.  Can be null.
+	 */
+	public static void process( GrayU8 input , GrayU8 output , int radius , int y0 , int y1 ,
+								GrowQueue_I32 work ) {
+		if( work == null )
+			work = new GrowQueue_I32();
+
+		final int width = input.width;
+		final int height = input.height;
+
+		// layout of the histograms inside the work array
+		final int offsetColCoarse = width*FINE;
+		final int offsetFine = offsetColCoarse + width*COARSE;
+		final int offsetCoarse = offsetFine + FINE;
+		final int offsetUpdated = offsetCoarse + COARSE;
+
+		work.resize(offsetUpdated + COARSE);
+		final int[] hist = work.data;
+		Arrays.fill(hist, 0, offsetFine, 0);
+
+		// if a fine segment was last updated before this then it needs to be computed from scratch
+		final int stale = -(2*radius+2);
+
+		// initialize the column histograms for the first row
+		for( int i = Math.max(0,y0-radius); i < Math.min(height,y0+radius+1); i++ ) {
+			updateColumns(input, i, hist, offsetColCoarse, 1);
+		}
+
+		for( int y = y0; y < y1; y++ ) {
+			if( y > y0 ) {
+				if( y-radius-1 >= 0 )
+					updateColumns(input, y-radius-1, hist, offsetColCoarse, -1);
+				if( y+radius < height )
+					updateColumns(input, y+radius, hist, offsetColCoarse, 1);
+			}
+			final int rows = Math.min(height,y+radius+1) - Math.max(0,y-radius);
+
+			Arrays.fill(hist, offsetFine, offsetUpdated, 0);
+			Arrays.fill(hist, offsetUpdated, offsetUpdated + COARSE, stale);
+
+			// coarse histogram for the region at x = 0
+			for( int col = 0; col < Math.min(width,radius+1); col++ ) {
+				int indexCol = offsetColCoarse + col*COARSE;
+				for( int i = 0; i < COARSE; i++ ) {
+					hist[offsetCoarse+i] += hist[indexCol+i];
+				}
+			}
+
+			int indexOut = output.startIndex + y*output.stride;
+			for( int x = 0; x < width; x++ ) {
+				if( x > 0 ) {
+					if( x+radius < width ) {
+						int indexCol = offsetColCoarse + (x+radius)*COARSE;
+						for( int i = 0; i < COARSE; i++ ) {
+							hist[offsetCoarse+i] += hist[indexCol+i];
+						}
+					}
+					if( x-radius-1 >= 0 ) {
+						int indexCol = offsetColCoarse + (x-radius-1)*COARSE;
+						for( int i = 0; i < COARSE; i++ ) {
+							hist[offsetCoarse+i] -= hist[indexCol+i];
+						}
+					}
+				}
+
+				final int cols = Math.min(width,x+radius+1) - Math.max(0,x-radius);
+				final int threshold = (rows*cols)/2 + 1;
+
+				// find the coarse bin which contains the median
+				int count = 0;
+				int coarse = 0;
+				for( ; coarse < COARSE-1; coarse++ ) {
+					int c = hist[offsetCoarse+coarse];
+					if( count + c >= threshold )
+						break;
+					count += c;
+				}
+
+				// bring the fine segment up to date
+				final int segment = coarse*SEGMENT;
+				final int last = hist[offsetUpdated+coarse];
+				if( x - last > 2*radius ) {
+					Arrays.fill(hist, offsetFine+segment, offsetFine+segment+SEGMENT, 0);
+					for( int col = Math.max(0,x-radius); col < Math.min(width,x+radius+1); col++ ) {
+						int indexCol = col*FINE + segment;
+						for( int i = 0; i < SEGMENT; i++ ) {
+							hist[offsetFine+segment+i] += hist[indexCol+i];
+						}
+					}
+				} else {
+					for( int j = last+1; j <= x; j++ ) {
+						if( j+radius < width ) {
+							int indexCol = (j+radius)*FINE + segment;
+							for( int i = 0; i < SEGMENT; i++ ) {
+								hist[offsetFine+segment+i] += hist[indexCol+i];
+							}
+						}
+						if( j-radius-1 >= 0 ) {
+							int indexCol = (j-radius-1)*FINE + segment;
+							for( int i = 0; i < SEGMENT; i++ ) {
+								hist[offsetFine+segment+i] -= hist[indexCol+i];
+							}
+						}
+					}
+				}
+				hist[offsetUpdated+coarse] = x;
+
+				// find the median inside the fine segment
+				int median = segment;
+				final int end = segment + SEGMENT - 1;
+				for( ; median < end; median++ ) {
+					count += hist[offsetFine+median];
+					if( count >= threshold )
+						break;
+				}
+				output.data[indexOut++] = (byte)median;
+			}
+		}
+	}
+
+	/**
+	 * Adds or removes a row of pixels from the column histograms
+	 */
+	private static void updateColumns( GrayU8 input , int row , int[] hist , int offsetColCoarse , int amount ) {
+		int indexIn = input.startIndex + row*input.stride;
+		for( int x = 0; x < input.width; x++ ) {
+			int value = input.data[indexIn++] & 0xFF;
+			hist[x*FINE + value] += amount;
+			hist[offsetColCoarse + x*COARSE + value/SEGMENT] += amount;
+		}
+	}
+}
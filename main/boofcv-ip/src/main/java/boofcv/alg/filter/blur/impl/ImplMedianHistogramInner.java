@@ -58,6 +58,8 @@ public class ImplMedianHistogramInner {
 		} else if( offset.length < w*w ) {
 			throw new IllegalArgumentException("'offset' must be at least of length "+(w*w));
 		}
+		// offset can be larger than needed, so only the first w*w elements are used
+		final int offsetLength = w*w;
 		int threshold = (w*w)/2+1;
 
 		// compute image offsets
@@ -78,7 +80,7 @@ public class ImplMedianHistogramInner {
 			}
 
 			// compute the median value for the first x component and initialize the system
-			for( int i = 0; i < offset.length; i++ ) {
+			for( int i = 0; i < offsetLength; i++ ) {
 				int val = input.data[seed+offset[i]] & 0xFF;
 //					System.out.println(val);
 				histogram[val]++;
@@ -94,7 +96,7 @@ public class ImplMedianHistogramInner {
 			output.data[ output.startIndex+y*output.stride+radius] = (byte)median;
 
 			// remove the left most pixel from the histogram
-			for( int i = 0; i < offset.length; i += boxWidth ) {
+			for( int i = 0; i < offsetLength; i += boxWidth ) {
 				int val = input.data[seed+offset[i]] & 0xFF;
 				histogram[val]--;
 			}
@@ -103,7 +105,7 @@ public class ImplMedianHistogramInner {
 				seed = input.startIndex + y*input.stride+x;
 
 				// add the right most pixels to the histogram
-				for( int i = boxWidth-1; i < offset.length; i += boxWidth ) {
+				for( int i = boxWidth-1; i < offsetLength; i += boxWidth ) {
 					int val = input.data[seed+offset[i]] & 0xFF;
 					histogram[val]++;
 				}
@@ -118,7 +120,7 @@ public class ImplMedianHistogramInner {
 				output.data[ output.startIndex+y*output.stride+x] = (byte)median;
 
 				// remove the left most pixels from the histogram
-				for( int i = 0; i < offset.length; i += boxWidth ) {
+				for( int i = 0; i < offsetLength; i += boxWidth ) {
 					int val = input.data[seed+offset[i]] & 0xFF;
 					histogram[val]--;
 				}
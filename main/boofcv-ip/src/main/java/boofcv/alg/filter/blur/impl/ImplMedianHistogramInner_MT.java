@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.filter.blur.impl;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeObjectConsumer;
+import boofcv.struct.image.GrayU8;
+import org.ddogleg.struct.FastQueue;
+import org.ddogleg.struct.GrowQueue_I32;
+
+/**
+ * Concurrent version of {@link ImplMedianHistogramInner}.  The inner image is split into bands of rows.  Each
+ * band is processed as a sub-image which has been expanded by the radius, so the single threaded code only writes
+ * to rows inside of the band.
+ *
+ * @author Peter Abeles
+ */
+public class ImplMedianHistogramInner_MT {
+
+	/**
+	 * Applies a median image filter to the inner image.
+	 *
+	 * @param input Input image. Not modified.
+	 * @param output Filtered output image. Modified.
+	 * @param radius Size of the filter region.
+	 * @param work (Optional) Storage for pixel offsets in each thread.  Can be null.
+	 */
+	public static void process( final GrayU8 input , final GrayU8 output , final int radius ,
+								FastQueue<GrowQueue_I32> work ) {
+		if( work == null )
+			work = new FastQueue<>(GrowQueue_I32.class, true);
+
+		final int w = 2*radius+1;
+
+		BoofConcurrency.loopBlocks(radius, input.height-radius, 1, work, new IntRangeObjectConsumer<GrowQueue_I32>() {
+			@Override
+			public void accept(GrowQueue_I32 offset, int y0, int y1) {
+				offset.resize(w*w);
+				ImplMedianHistogramInner.process(input.subimage(0, y0-radius, input.width, y1+radius),
+						output.subimage(0, y0-radius, output.width, y1+radius), radius, offset.data, null);
+			}
+		});
+	}
+}
@@ -55,7 +55,22 @@ public class ImplMedianSortNaive {
 			throw new IllegalArgumentException("'storage' must be at least of length "+(w*w));
 		}
 
-		for( int y = 0; y < input.height; y++ ) {
+		process(input, output, radius, 0, input.height, storage);
+	}
+
+	/**
+	 * Performs a median filter on rows y0 to y1 of the output image.  The region around each pixel is bounded
+	 * by the entire input image, so bands of rows can be processed independently.
+	 *
+	 * @param input Raw input image.
+	 * @param output Filtered image.
+	 * @param radius Size of the filter's region.
+	 * @param y0 First row in the output image which is processed, inclusive.
+	 * @param y1 Last row in the output image which is processed, exclusive.
+	 * @param storage Array used for storage.  Must be at least (2*radius+1)^2 elements.
+	 */
+	public static void process(GrayI input, GrayI output, int radius , int y0 , int y1 , int[] storage ) {
+		for( int y = y0; y < y1; y++ ) {
 			int minI = y - radius;
 			int maxI = y + radius+1;
 
@@ -103,7 +118,22 @@ public class ImplMedianSortNaive {
 			throw new IllegalArgumentException("'storage' must be at least of length "+(w*w));
 		}
 
-		for( int y = 0; y < input.height; y++ ) {
+		process(input, output, radius, 0, input.height, storage);
+	}
+
+	/**
+	 * Performs a median filter on rows y0 to y1 of the output image.  The region around each pixel is bounded
+	 * by the entire input image, so bands of rows can be processed independently.
+	 *
+	 * @param input Raw input image.
+	 * @param output Filtered image.
+	 * @param radius Size of the filter's region.
+	 * @param y0 First row in the output image which is processed, inclusive.
+	 * @param y1 Last row in the output image which is processed, exclusive.
+	 * @param storage Array used for storage.  Must be at least (2*radius+1)^2 elements.
+	 */
+	public static void process(GrayF32 input, GrayF32 output, int radius , int y0 , int y1 , float[] storage ) {
+		for( int y = y0; y < y1; y++ ) {
 			int minI = y - radius;
 			int maxI = y + radius+1;
 
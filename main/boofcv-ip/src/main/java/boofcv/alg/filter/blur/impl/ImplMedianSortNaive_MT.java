@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.filter.blur.impl;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeObjectConsumer;
+import boofcv.struct.image.GrayF32;
+import org.ddogleg.struct.FastQueue;
+import org.ddogleg.struct.GrowQueue_F32;
+
+/**
+ * Concurrent version of {@link ImplMedianSortNaive}.  Each band of rows is processed in a different thread
+ * with its own storage by the single threaded code.
+ *
+ * @author Peter Abeles
+ */
+public class ImplMedianSortNaive_MT {
+
+	/**
+	 * Performs a median filter.
+	 *
+	 * @param input Raw input image.
+	 * @param output Filtered image.
+	 * @param radius Size of the filter's region.
+	 * @param work (Optional) Storage for each thread.  Can be null.
+	 */
+	public static void process( final GrayF32 input , final GrayF32 output , final int radius ,
+								FastQueue<GrowQueue_F32> work ) {
+		if( work == null )
+			work = new FastQueue<>(GrowQueue_F32.class, true);
+
+		final int w = 2*radius+1;
+
+		BoofConcurrency.loopBlocks(0, input.height, 1, work, new IntRangeObjectConsumer<GrowQueue_F32>() {
+			@Override
+			public void accept(GrowQueue_F32 storage, int minInclusive, int maxExclusive) {
+				storage.resize(w*w);
+				ImplMedianSortNaive.process(input, output, radius, minInclusive, maxExclusive, storage.data);
+			}
+		});
+	}
+}
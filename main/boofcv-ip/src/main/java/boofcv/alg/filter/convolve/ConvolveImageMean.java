@@ -20,7 +20,9 @@ package boofcv.alg.filter.convolve;
 
 import boofcv.alg.InputSanityCheck;
 import boofcv.alg.filter.convolve.noborder.ImplConvolveMean;
+import boofcv.alg.filter.convolve.noborder.ImplConvolveMean_MT;
 import boofcv.alg.filter.convolve.normalized.ConvolveNormalized_JustBorder_SB;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.factory.filter.kernel.FactoryKernel;
 import boofcv.struct.convolve.Kernel1D_F32;
 import boofcv.struct.convolve.Kernel1D_F64;
@@ -53,7 +55,11 @@ public class ConvolveImageMean {
 		} else {
 			InputSanityCheck.checkSameShape(input , output);
 			ConvolveNormalized_JustBorder_SB.horizontal(kernel, input ,output );
-			ImplConvolveMean.horizontal(input, output, radius);
+			if( BoofConcurrency.USE_CONCURRENT ) {
+				ImplConvolveMean_MT.horizontal(input, output, radius);
+			} else {
+				ImplConvolveMean.horizontal(input, output, radius);
+			}
 		}
 	}
 
@@ -73,6 +79,8 @@ public class ConvolveImageMean {
 		} else {
 			InputSanityCheck.checkSameShape(input , output);
 			ConvolveNormalized_JustBorder_SB.vertical(kernel, input, output);
+			// The running sum is carried down the whole image. The concurrent version restarts it in each band,
+			// which changes the round off error, so it isn't used here to keep the output the same
 			ImplConvolveMean.vertical(input, output, radius);
 		}
 	}
@@ -93,7 +101,11 @@ public class ConvolveImageMean {
 		} else {
 			InputSanityCheck.checkSameShape(input , output);
 			ConvolveNormalized_JustBorder_SB.horizontal(kernel, input ,output );
-			ImplConvolveMean.horizontal(input, output, radius);
+			if( BoofConcurrency.USE_CONCURRENT ) {
+				ImplConvolveMean_MT.horizontal(input, output, radius);
+			} else {
+				ImplConvolveMean.horizontal(input, output, radius);
+			}
 		}
 	}
 
@@ -113,6 +125,8 @@ public class ConvolveImageMean {
 		} else {
 			InputSanityCheck.checkSameShape(input , output);
 			ConvolveNormalized_JustBorder_SB.vertical(kernel, input, output);
+			// The running sum is carried down the whole image. The concurrent version restarts it in each band,
+			// which changes the round off error, so it isn't used here to keep the output the same
 			ImplConvolveMean.vertical(input, output, radius);
 		}
 	}
@@ -132,7 +146,11 @@ public class ConvolveImageMean {
 		} else {
 			InputSanityCheck.checkSameShape(input , output);
 			ConvolveNormalized_JustBorder_SB.horizontal(kernel, input ,output );
-			ImplConvolveMean.horizontal(input, output, radius);
+			if( BoofConcurrency.USE_CONCURRENT ) {
+				ImplConvolveMean_MT.horizontal(input, output, radius);
+			} else {
+				ImplConvolveMean.horizontal(input, output, radius);
+			}
 		}
 	}
 
@@ -152,7 +170,11 @@ public class ConvolveImageMean {
 		} else {
 			InputSanityCheck.checkSameShape(input , output);
 			ConvolveNormalized_JustBorder_SB.vertical(kernel, input ,output );
-			ImplConvolveMean.vertical(input, output, radius);
+			if( BoofConcurrency.USE_CONCURRENT ) {
+				ImplConvolveMean_MT.vertical(input, output, radius);
+			} else {
+				ImplConvolveMean.vertical(input, output, radius);
+			}
 		}
 	}
 
@@ -171,7 +193,11 @@ public class ConvolveImageMean {
 		} else {
 			InputSanityCheck.checkSameShape(input , output);
 			ConvolveNormalized_JustBorder_SB.horizontal(kernel, input ,output );
-			ImplConvolveMean.horizontal(input, output, radius);
+			if( BoofConcurrency.USE_CONCURRENT ) {
+				ImplConvolveMean_MT.horizontal(input, output, radius);
+			} else {
+				ImplConvolveMean.horizontal(input, output, radius);
+			}
 		}
 	}
 
@@ -191,7 +217,11 @@ public class ConvolveImageMean {
 		} else {
 			InputSanityCheck.checkSameShape(input , output);
 			ConvolveNormalized_JustBorder_SB.vertical(kernel, input ,output );
-			ImplConvolveMean.vertical(input, output, radius);
+			if( BoofConcurrency.USE_CONCURRENT ) {
+				ImplConvolveMean_MT.vertical(input, output, radius);
+			} else {
+				ImplConvolveMean.vertical(input, output, radius);
+			}
 		}
 	}
 }
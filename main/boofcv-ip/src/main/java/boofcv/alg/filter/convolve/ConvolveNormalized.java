@@ -24,6 +24,7 @@ import boofcv.alg.filter.convolve.normalized.ConvolveNormalizedNaive_SB;
 import boofcv.alg.filter.convolve.normalized.ConvolveNormalized_JustBorder_IL;
 import boofcv.alg.filter.convolve.normalized.ConvolveNormalized_JustBorder_SB;
 import boofcv.alg.filter.kernel.KernelMath;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.struct.convolve.*;
 import boofcv.struct.image.*;
 
@@ -58,7 +59,11 @@ public class ConvolveNormalized {
 				KernelMath.normalizeSumToOne(k);
 				kernel = k;
 			}
-			ConvolveImageNoBorder.horizontal(kernel,src,dst);
+			if( BoofConcurrency.USE_CONCURRENT ) {
+				ConvolveImageNoBorder_MT.horizontal(kernel,src,dst);
+			} else {
+				ConvolveImageNoBorder.horizontal(kernel,src,dst);
+			}
 			ConvolveNormalized_JustBorder_SB.horizontal(kernel,src,dst);
 		}
 	}
@@ -82,7 +87,11 @@ public class ConvolveNormalized {
 				KernelMath.normalizeSumToOne(k);
 				kernel = k;
 			}
-			ConvolveImageNoBorder.vertical(kernel,src,dst);
+			if( BoofConcurrency.USE_CONCURRENT ) {
+				ConvolveImageNoBorder_MT.vertical(kernel,src,dst);
+			} else {
+				ConvolveImageNoBorder.vertical(kernel,src,dst);
+			}
 			ConvolveNormalized_JustBorder_SB.vertical(kernel,src,dst);
 		}
 	}
@@ -106,7 +115,11 @@ public class ConvolveNormalized {
 				KernelMath.normalizeSumToOne(k);
 				kernel = k;
 			}
-			ConvolveImageNoBorder.convolve(kernel,src,dst);
+			if( BoofConcurrency.USE_CONCURRENT ) {
+				ConvolveImageNoBorder_MT.convolve(kernel,src,dst);
+			} else {
+				ConvolveImageNoBorder.convolve(kernel,src,dst);
+			}
 			ConvolveNormalized_JustBorder_SB.convolve(kernel,src,dst);
 		}
 	}
@@ -130,7 +143,11 @@ public class ConvolveNormalized {
 				KernelMath.normalizeSumToOne(k);
 				kernel = k;
 			}
-			ConvolveImageNoBorder.horizontal(kernel,src,dst);
+			if( BoofConcurrency.USE_CONCURRENT ) {
+				ConvolveImageNoBorder_MT.horizontal(kernel,src,dst);
+			} else {
+				ConvolveImageNoBorder.horizontal(kernel,src,dst);
+			}
 			ConvolveNormalized_JustBorder_IL.horizontal(kernel,src,dst);
 		}
 	}
@@ -154,7 +171,11 @@ public class ConvolveNormalized {
 				KernelMath.normalizeSumToOne(k);
 				kernel = k;
 			}
-			ConvolveImageNoBorder.vertical(kernel,src,dst);
+			if( BoofConcurrency.USE_CONCURRENT ) {
+				ConvolveImageNoBorder_MT.vertical(kernel,src,dst);
+			} else {
+				ConvolveImageNoBorder.vertical(kernel,src,dst);
+			}
 			ConvolveNormalized_JustBorder_IL.vertical(kernel,src,dst);
 		}
 	}
@@ -178,7 +199,11 @@ public class ConvolveNormalized {
 				KernelMath.normalizeSumToOne(k);
 				kernel = k;
 			}
-			ConvolveImageNoBorder.convolve(kernel,src,dst);
+			if( BoofConcurrency.USE_CONCURRENT ) {
+				ConvolveImageNoBorder_MT.convolve(kernel,src,dst);
+			} else {
+				ConvolveImageNoBorder.convolve(kernel,src,dst);
+			}
 			ConvolveNormalized_JustBorder_IL.convolve(kernel,src,dst);
 		}
 	}
@@ -202,7 +227,11 @@ public class ConvolveNormalized {
 				KernelMath.normalizeSumToOne(k);
 				kernel = k;
 			}
-			ConvolveImageNoBorder.horizontal(kernel,src,dst);
+			if( BoofConcurrency.USE_CONCURRENT ) {
+				ConvolveImageNoBorder_MT.horizontal(kernel,src,dst);
+			} else {
+				ConvolveImageNoBorder.horizontal(kernel,src,dst);
+			}
 			ConvolveNormalized_JustBorder_SB.horizontal(kernel,src,dst);
 		}
 	}
@@ -226,7 +255,11 @@ public class ConvolveNormalized {
 				KernelMath.normalizeSumToOne(k);
 				kernel = k;
 			}
-			ConvolveImageNoBorder.vertical(kernel,src,dst);
+			if( BoofConcurrency.USE_CONCURRENT ) {
+				ConvolveImageNoBorder_MT.vertical(kernel,src,dst);
+			} else {
+				ConvolveImageNoBorder.vertical(kernel,src,dst);
+			}
 			ConvolveNormalized_JustBorder_SB.vertical(kernel,src,dst);
 		}
 	}
@@ -250,7 +283,11 @@ public class ConvolveNormalized {
 				KernelMath.normalizeSumToOne(k);
 				kernel = k;
 			}
-			ConvolveImageNoBorder.convolve(kernel,src,dst);
+			if( BoofConcurrency.USE_CONCURRENT ) {
+				ConvolveImageNoBorder_MT.convolve(kernel,src,dst);
+			} else {
+				ConvolveImageNoBorder.convolve(kernel,src,dst);
+			}
 			ConvolveNormalized_JustBorder_SB.convolve(kernel,src,dst);
 		}
 	}
@@ -274,7 +311,11 @@ public class ConvolveNormalized {
 				KernelMath.normalizeSumToOne(k);
 				kernel = k;
 			}
-			ConvolveImageNoBorder.horizontal(kernel,src,dst);
+			if( BoofConcurrency.USE_CONCURRENT ) {
+				ConvolveImageNoBorder_MT.horizontal(kernel,src,dst);
+			} else {
+				ConvolveImageNoBorder.horizontal(kernel,src,dst);
+			}
 			ConvolveNormalized_JustBorder_IL.horizontal(kernel,src,dst);
 		}
 	}
@@ -298,7 +339,11 @@ public class ConvolveNormalized {
 				KernelMath.normalizeSumToOne(k);
 				kernel = k;
 			}
-			ConvolveImageNoBorder.vertical(kernel,src,dst);
+			if( BoofConcurrency.USE_CONCURRENT ) {
+				ConvolveImageNoBorder_MT.vertical(kernel,src,dst);
+			} else {
+				ConvolveImageNoBorder.vertical(kernel,src,dst);
+			}
 			ConvolveNormalized_JustBorder_IL.vertical(kernel,src,dst);
 		}
 	}
@@ -322,7 +367,11 @@ public class ConvolveNormalized {
 				KernelMath.normalizeSumToOne(k);
 				kernel = k;
 			}
-			ConvolveImageNoBorder.convolve(kernel,src,dst);
+			if( BoofConcurrency.USE_CONCURRENT ) {
+				ConvolveImageNoBorder_MT.convolve(kernel,src,dst);
+			} else {
+				ConvolveImageNoBorder.convolve(kernel,src,dst);
+			}
 			ConvolveNormalized_JustBorder_IL.convolve(kernel,src,dst);
 		}
 	}
@@ -341,7 +390,11 @@ public class ConvolveNormalized {
 		if( kernel.width >= src.width ) {
 			ConvolveNormalizedNaive_SB.horizontal(kernel, src, dst);
 		} else {
-			ConvolveImageNoBorder.horizontal(kernel, src, dst, kernel.computeSum());
+			if( BoofConcurrency.USE_CONCURRENT ) {
+				ConvolveImageNoBorder_MT.horizontal(kernel, src, dst, kernel.computeSum());
+			} else {
+				ConvolveImageNoBorder.horizontal(kernel, src, dst, kernel.computeSum());
+			}
 			ConvolveNormalized_JustBorder_SB.horizontal(kernel, src, dst);
 		}
 	}
@@ -360,7 +413,11 @@ public class ConvolveNormalized {
 		if( kernel.width >= src.height ) {
 			ConvolveNormalizedNaive_SB.vertical(kernel, src, dst);
 		} else {
-			ConvolveImageNoBorder.vertical(kernel, src, dst, kernel.computeSum());
+			if( BoofConcurrency.USE_CONCURRENT ) {
+				ConvolveImageNoBorder_MT.vertical(kernel, src, dst, kernel.computeSum());
+			} else {
+				ConvolveImageNoBorder.vertical(kernel, src, dst, kernel.computeSum());
+			}
 			ConvolveNormalized_JustBorder_SB.vertical(kernel, src, dst);
 		}
 	}
@@ -379,7 +436,11 @@ public class ConvolveNormalized {
 		if( kernel.width >= src.width || kernel.width >= src.height ) {
 			ConvolveNormalizedNaive_SB.convolve(kernel, src, dst);
 		} else {
-			ConvolveImageNoBorder.convolve(kernel, src, dst, kernel.computeSum());
+			if( BoofConcurrency.USE_CONCURRENT ) {
+				ConvolveImageNoBorder_MT.convolve(kernel, src, dst, kernel.computeSum());
+			} else {
+				ConvolveImageNoBorder.convolve(kernel, src, dst, kernel.computeSum());
+			}
 			ConvolveNormalized_JustBorder_SB.convolve(kernel, src, dst);
 		}
 	}
@@ -398,7 +459,11 @@ public class ConvolveNormalized {
 		if( kernel.width >= src.width ) {
 			ConvolveNormalizedNaive_IL.horizontal(kernel, src, dst);
 		} else {
-			ConvolveImageNoBorder.horizontal(kernel, src, dst, kernel.computeSum());
+			if( BoofConcurrency.USE_CONCURRENT ) {
+				ConvolveImageNoBorder_MT.horizontal(kernel, src, dst, kernel.computeSum());
+			} else {
+				ConvolveImageNoBorder.horizontal(kernel, src, dst, kernel.computeSum());
+			}
 			ConvolveNormalized_JustBorder_IL.horizontal(kernel, src, dst);
 		}
 	}
@@ -417,7 +482,11 @@ public class ConvolveNormalized {
 		if( kernel.width >= src.height ) {
 			ConvolveNormalizedNaive_IL.vertical(kernel, src, dst);
 		} else {
-			ConvolveImageNoBorder.vertical(kernel, src, dst, kernel.computeSum());
+			if( BoofConcurrency.USE_CONCURRENT ) {
+				ConvolveImageNoBorder_MT.vertical(kernel, src, dst, kernel.computeSum());
+			} else {
+				ConvolveImageNoBorder.vertical(kernel, src, dst, kernel.computeSum());
+			}
 			ConvolveNormalized_JustBorder_IL.vertical(kernel, src, dst);
 		}
 	}
@@ -436,7 +505,11 @@ public class ConvolveNormalized {
 		if( kernel.width >= src.width || kernel.width >= src.height ) {
 			ConvolveNormalizedNaive_IL.convolve(kernel, src, dst);
 		} else {
-			ConvolveImageNoBorder.convolve(kernel, src, dst, kernel.computeSum());
+			if( BoofConcurrency.USE_CONCURRENT ) {
+				ConvolveImageNoBorder_MT.convolve(kernel, src, dst, kernel.computeSum());
+			} else {
+				ConvolveImageNoBorder.convolve(kernel, src, dst, kernel.computeSum());
+			}
 			ConvolveNormalized_JustBorder_IL.convolve(kernel, src, dst);
 		}
 	}
@@ -455,7 +528,11 @@ public class ConvolveNormalized {
 		if( kernel.width >= src.width ) {
 			ConvolveNormalizedNaive_SB.horizontal(kernel, src, dst);
 		} else {
-			ConvolveImageNoBorder.horizontal(kernel, src, dst, kernel.computeSum());
+			if( BoofConcurrency.USE_CONCURRENT ) {
+				ConvolveImageNoBorder_MT.horizontal(kernel, src, dst, kernel.computeSum());
+			} else {
+				ConvolveImageNoBorder.horizontal(kernel, src, dst, kernel.computeSum());
+			}
 			ConvolveNormalized_JustBorder_SB.horizontal(kernel, src, dst);
 		}
 	}
@@ -474,7 +551,11 @@ public class ConvolveNormalized {
 		if( kernel.width >= src.height ) {
 			ConvolveNormalizedNaive_SB.vertical(kernel, src, dst);
 		} else {
-			ConvolveImageNoBorder.vertical(kernel, src, dst, kernel.computeSum());
+			if( BoofConcurrency.USE_CONCURRENT ) {
+				ConvolveImageNoBorder_MT.vertical(kernel, src, dst, kernel.computeSum());
+			} else {
+				ConvolveImageNoBorder.vertical(kernel, src, dst, kernel.computeSum());
+			}
 			ConvolveNormalized_JustBorder_SB.vertical(kernel, src, dst);
 		}
 	}
@@ -493,7 +574,11 @@ public class ConvolveNormalized {
 		if( kernel.width >= src.width || kernel.width >= src.height ) {
 			ConvolveNormalizedNaive_SB.convolve(kernel, src, dst);
 		} else {
-			ConvolveImageNoBorder.convolve(kernel, src, dst, kernel.computeSum());
+			if( BoofConcurrency.USE_CONCURRENT ) {
+				ConvolveImageNoBorder_MT.convolve(kernel, src, dst, kernel.computeSum());
+			} else {
+				ConvolveImageNoBorder.convolve(kernel, src, dst, kernel.computeSum());
+			}
 			ConvolveNormalized_JustBorder_SB.convolve(kernel, src, dst);
 		}
 	}
@@ -512,7 +597,11 @@ public class ConvolveNormalized {
 		if( kernel.width >= src.width ) {
 			ConvolveNormalizedNaive_IL.horizontal(kernel, src, dst);
 		} else {
-			ConvolveImageNoBorder.horizontal(kernel, src, dst, kernel.computeSum());
+			if( BoofConcurrency.USE_CONCURRENT ) {
+				ConvolveImageNoBorder_MT.horizontal(kernel, src, dst, kernel.computeSum());
+			} else {
+				ConvolveImageNoBorder.horizontal(kernel, src, dst, kernel.computeSum());
+			}
 			ConvolveNormalized_JustBorder_IL.horizontal(kernel, src, dst);
 		}
 	}
@@ -531,7 +620,11 @@ public class ConvolveNormalized {
 		if( kernel.width >= src.height ) {
 			ConvolveNormalizedNaive_IL.vertical(kernel, src, dst);
 		} else {
-			ConvolveImageNoBorder.vertical(kernel, src, dst, kernel.computeSum());
+			if( BoofConcurrency.USE_CONCURRENT ) {
+				ConvolveImageNoBorder_MT.vertical(kernel, src, dst, kernel.computeSum());
+			} else {
+				ConvolveImageNoBorder.vertical(kernel, src, dst, kernel.computeSum());
+			}
 			ConvolveNormalized_JustBorder_IL.vertical(kernel, src, dst);
 		}
 	}
@@ -550,7 +643,11 @@ public class ConvolveNormalized {
 		if( kernel.width >= src.width || kernel.width >= src.height ) {
 			ConvolveNormalizedNaive_IL.convolve(kernel, src, dst);
 		} else {
-			ConvolveImageNoBorder.convolve(kernel, src, dst, kernel.computeSum());
+			if( BoofConcurrency.USE_CONCURRENT ) {
+				ConvolveImageNoBorder_MT.convolve(kernel, src, dst, kernel.computeSum());
+			} else {
+				ConvolveImageNoBorder.convolve(kernel, src, dst, kernel.computeSum());
+			}
 			ConvolveNormalized_JustBorder_IL.convolve(kernel, src, dst);
 		}
 	}
@@ -569,7 +666,11 @@ public class ConvolveNormalized {
 		if( kernel.width >= src.width ) {
 			ConvolveNormalizedNaive_SB.horizontal(kernel, src, dst);
 		} else {
-			ConvolveImageNoBorder.horizontal(kernel, src, dst, kernel.computeSum());
+			if( BoofConcurrency.USE_CONCURRENT ) {
+				ConvolveImageNoBorder_MT.horizontal(kernel, src, dst, kernel.computeSum());
+			} else {
+				ConvolveImageNoBorder.horizontal(kernel, src, dst, kernel.computeSum());
+			}
 			ConvolveNormalized_JustBorder_SB.horizontal(kernel, src, dst);
 		}
 	}
@@ -588,7 +689,11 @@ public class ConvolveNormalized {
 		if( kernel.width >= src.height ) {
 			ConvolveNormalizedNaive_SB.vertical(kernel, src, dst);
 		} else {
-			ConvolveImageNoBorder.vertical(kernel, src, dst, kernel.computeSum());
+			if( BoofConcurrency.USE_CONCURRENT ) {
+				ConvolveImageNoBorder_MT.vertical(kernel, src, dst, kernel.computeSum());
+			} else {
+				ConvolveImageNoBorder.vertical(kernel, src, dst, kernel.computeSum());
+			}
 			ConvolveNormalized_JustBorder_SB.vertical(kernel, src, dst);
 		}
 	}
@@ -607,7 +712,11 @@ public class ConvolveNormalized {
 		if( kernel.width >= src.width || kernel.width >= src.height ) {
 			ConvolveNormalizedNaive_SB.convolve(kernel, src, dst);
 		} else {
-			ConvolveImageNoBorder.convolve(kernel, src, dst, kernel.computeSum());
+			if( BoofConcurrency.USE_CONCURRENT ) {
+				ConvolveImageNoBorder_MT.convolve(kernel, src, dst, kernel.computeSum());
+			} else {
+				ConvolveImageNoBorder.convolve(kernel, src, dst, kernel.computeSum());
+			}
 			ConvolveNormalized_JustBorder_SB.convolve(kernel, src, dst);
 		}
 	}
@@ -626,7 +735,11 @@ public class ConvolveNormalized {
 		if( kernel.width >= src.width ) {
 			ConvolveNormalizedNaive_IL.horizontal(kernel, src, dst);
 		} else {
-			ConvolveImageNoBorder.horizontal(kernel, src, dst, kernel.computeSum());
+			if( BoofConcurrency.USE_CONCURRENT ) {
+				ConvolveImageNoBorder_MT.horizontal(kernel, src, dst, kernel.computeSum());
+			} else {
+				ConvolveImageNoBorder.horizontal(kernel, src, dst, kernel.computeSum());
+			}
 			ConvolveNormalized_JustBorder_IL.horizontal(kernel, src, dst);
 		}
 	}
@@ -645,7 +758,11 @@ public class ConvolveNormalized {
 		if( kernel.width >= src.height ) {
 			ConvolveNormalizedNaive_IL.vertical(kernel, src, dst);
 		} else {
-			ConvolveImageNoBorder.vertical(kernel, src, dst, kernel.computeSum());
+			if( BoofConcurrency.USE_CONCURRENT ) {
+				ConvolveImageNoBorder_MT.vertical(kernel, src, dst, kernel.computeSum());
+			} else {
+				ConvolveImageNoBorder.vertical(kernel, src, dst, kernel.computeSum());
+			}
 			ConvolveNormalized_JustBorder_IL.vertical(kernel, src, dst);
 		}
 	}
@@ -664,7 +781,11 @@ public class ConvolveNormalized {
 		if( kernel.width >= src.width || kernel.width >= src.height ) {
 			ConvolveNormalizedNaive_IL.convolve(kernel, src, dst);
 		} else {
-			ConvolveImageNoBorder.convolve(kernel, src, dst, kernel.computeSum());
+			if( BoofConcurrency.USE_CONCURRENT ) {
+				ConvolveImageNoBorder_MT.convolve(kernel, src, dst, kernel.computeSum());
+			} else {
+				ConvolveImageNoBorder.convolve(kernel, src, dst, kernel.computeSum());
+			}
 			ConvolveNormalized_JustBorder_IL.convolve(kernel, src, dst);
 		}
 	}
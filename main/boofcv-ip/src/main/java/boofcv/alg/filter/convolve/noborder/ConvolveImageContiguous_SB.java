@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.convolve.noborder;
+
+import boofcv.struct.convolve.Kernel1D_F32;
+import boofcv.struct.convolve.Kernel1D_S32;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayI16;
+import boofcv.struct.image.GrayU8;
+
+/**
+ * <p>
+ * Convolution across the image's inside written so that the innermost loop is a simple pass across contiguous
+ * arrays.  Instead of computing the weighted sum for one output pixel at a time, each kernel element is applied to
+ * an entire row before moving on to the next kernel element.  The inner loops have no dependencies between
+ * iterations and access memory sequentially, which is the form the JIT's auto-vectorizer (SuperWord) can
+ * turn into SIMD instructions.
+ * </p>
+ *
+ * <p>
+ * Kernels of any width and offset are supported.  For U8 to I16 the sum is accumulated directly inside the
+ * 16-bit output.  Integer overflow wraps around, so the result is identical to computing the sum with 32-bit
+ * integers and then casting.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class ConvolveImageContiguous_SB {
+
+	public static void horizontal( Kernel1D_F32 kernel , GrayF32 image, GrayF32 dest ) {
+		final float[] dataSrc = image.data;
+		final float[] dataDst = dest.data;
+		final float[] dataKer = kernel.data;
+
+		final int offset = kernel.getOffset();
+		final int kernelWidth = kernel.getWidth();
+		final int length = image.getWidth()-kernelWidth+1;
+
+		for( int y = 0; y < image.height; y++ ) {
+			final int indexDst = dest.startIndex + y*dest.stride+offset;
+			final int indexSrc = image.startIndex + y*image.stride;
+
+			float k = dataKer[0];
+			for( int x = 0; x < length; x++ ) {
+				dataDst[indexDst+x] = dataSrc[indexSrc+x]*k;
+			}
+			for( int i = 1; i < kernelWidth; i++ ) {
+				k = dataKer[i];
+				final int start = indexSrc+i;
+				for( int x = 0; x < length; x++ ) {
+					dataDst[indexDst+x] += dataSrc[start+x]*k;
+				}
+			}
+		}
+	}
+
+	public static void vertical( Kernel1D_F32 kernel , GrayF32 image, GrayF32 dest ) {
+		final float[] dataSrc = image.data;
+		final float[] dataDst = dest.data;
+		final float[] dataKer = kernel.data;
+
+		final int offset = kernel.getOffset();
+		final int kernelWidth = kernel.getWidth();
+		final int width = image.getWidth();
+
+		final int yEnd = image.getHeight()-(kernelWidth-offset-1);
+
+		for( int y = offset; y < yEnd; y++ ) {
+			final int indexDst = dest.startIndex + y*dest.stride;
+			final int indexSrc = image.startIndex + (y-offset)*image.stride;
+
+			float k = dataKer[0];
+			for( int x = 0; x < width; x++ ) {
+				dataDst[indexDst+x] = dataSrc[indexSrc+x]*k;
+			}
+			for( int i = 1; i < kernelWidth; i++ ) {
+				k = dataKer[i];
+				final int start = indexSrc+i*image.stride;
+				for( int x = 0; x < width; x++ ) {
+					dataDst[indexDst+x] += dataSrc[start+x]*k;
+				}
+			}
+		}
+	}
+
+	public static void horizontal( Kernel1D_S32 kernel , GrayU8 image, GrayI16 dest ) {
+		final byte[] dataSrc = image.data;
+		final short[] dataDst = dest.data;
+		final int[] dataKer = kernel.data;
+
+		final int offset = kernel.getOffset();
+		final int kernelWidth = kernel.getWidth();
+		final int length = image.getWidth()-kernelWidth+1;
+
+		for( int y = 0; y < image.height; y++ ) {
+			final int indexDst = dest.startIndex + y*dest.stride+offset;
+			final int indexSrc = image.startIndex + y*image.stride;
+
+			int k = dataKer[0];
+			for( int x = 0; x < length; x++ ) {
+				dataDst[indexDst+x] = (short)((dataSrc[indexSrc+x] & 0xFF)*k);
+			}
+			for( int i = 1; i < kernelWidth; i++ ) {
+				k = dataKer[i];
+				final int start = indexSrc+i;
+				for( int x = 0; x < length; x++ ) {
+					dataDst[indexDst+x] += (dataSrc[start+x] & 0xFF)*k;
+				}
+			}
+		}
+	}
+
+	public static void vertical( Kernel1D_S32 kernel , GrayU8 image, GrayI16 dest ) {
+		final byte[] dataSrc = image.data;
+		final short[] dataDst = dest.data;
+		final int[] dataKer = kernel.data;
+
+		final int offset = kernel.getOffset();
+		final int kernelWidth = kernel.getWidth();
+		final int width = image.getWidth();
+
+		final int yEnd = image.getHeight()-(kernelWidth-offset-1);
+
+		for( int y = offset; y < yEnd; y++ ) {
+			final int indexDst = dest.startIndex + y*dest.stride;
+			final int indexSrc = image.startIndex + (y-offset)*image.stride;
+
+			int k = dataKer[0];
+			for( int x = 0; x < width; x++ ) {
+				dataDst[indexDst+x] = (short)((dataSrc[indexSrc+x] & 0xFF)*k);
+			}
+			for( int i = 1; i < kernelWidth; i++ ) {
+				k = dataKer[i];
+				final int start = indexSrc+i*image.stride;
+				for( int x = 0; x < width; x++ ) {
+					dataDst[indexDst+x] += (dataSrc[start+x] & 0xFF)*k;
+				}
+			}
+		}
+	}
+}
@@ -19,6 +19,9 @@
 package boofcv.alg.filter.convolve.noborder;
 
 import boofcv.struct.image.*;
+import org.ddogleg.struct.GrowQueue_F32;
+import org.ddogleg.struct.GrowQueue_F64;
+import org.ddogleg.struct.GrowQueue_I32;
 
 import javax.annotation.Generated;
 
@@ -65,13 +68,26 @@ public class ImplConvolveMean {
 	}
 
 	public static void vertical( GrayU8 input , GrayI8 output , int radius ) {
+		vertical(input, output, radius, null);
+	}
+
+	/**
+	 * Same as {@link #vertical(GrayU8, GrayI8, int)} but the running sum of each column is
+	 * saved in the provided storage, so that no memory is declared when called repeatedly.
+	 *
+	 * @param work (Optional) Storage for the running sums. Can be null.
+	 */
+	public static void vertical( GrayU8 input , GrayI8 output , int radius , GrowQueue_I32 work ) {
 		final int kernelWidth = radius*2 + 1;
 
 		final int backStep = kernelWidth*input.stride;
 
 		int divisor = kernelWidth;
 		final int halfDivisor = divisor/2;
-		int totals[] = new int[ input.width ];
+		if( work == null )
+			work = new GrowQueue_I32(input.width);
+		work.resize(input.width);
+		final int totals[] = work.data;
 
 		for( int x = 0; x < input.width; x++ ) {
 			int indexIn = input.startIndex + x;
@@ -130,13 +146,26 @@ public class ImplConvolveMean {
 	}
 
 	public static void vertical( GrayS16 input , GrayI16 output , int radius ) {
+		vertical(input, output, radius, null);
+	}
+
+	/**
+	 * Same as {@link #vertical(GrayS16, GrayI16, int)} but the running sum of each column is
+	 * saved in the provided storage, so that no memory is declared when called repeatedly.
+	 *
+	 * @param work (Optional) Storage for the running sums. Can be null.
+	 */
+	public static void vertical( GrayS16 input , GrayI16 output , int radius , GrowQueue_I32 work ) {
 		final int kernelWidth = radius*2 + 1;
 
 		final int backStep = kernelWidth*input.stride;
 
 		int divisor = kernelWidth;
 		final int halfDivisor = divisor/2;
-		int totals[] = new int[ input.width ];
+		if( work == null )
+			work = new GrowQueue_I32(input.width);
+		work.resize(input.width);
+		final int totals[] = work.data;
 
 		for( int x = 0; x < input.width; x++ ) {
 			int indexIn = input.startIndex + x;
@@ -194,12 +223,25 @@ public class ImplConvolveMean {
 	}
 
 	public static void vertical( GrayF32 input , GrayF32 output , int radius ) {
+		vertical(input, output, radius, null);
+	}
+
+	/**
+	 * Same as {@link #vertical(GrayF32, GrayF32, int)} but the running sum of each column is
+	 * saved in the provided storage, so that no memory is declared when called repeatedly.
+	 *
+	 * @param work (Optional) Storage for the running sums. Can be null.
+	 */
+	public static void vertical( GrayF32 input , GrayF32 output , int radius , GrowQueue_F32 work ) {
 		final int kernelWidth = radius*2 + 1;
 
 		final int backStep = kernelWidth*input.stride;
 
 		float divisor = kernelWidth;
-		float totals[] = new float[ input.width ];
+		if( work == null )
+			work = new GrowQueue_F32(input.width);
+		work.resize(input.width);
+		final float totals[] = work.data;
 
 		for( int x = 0; x < input.width; x++ ) {
 			int indexIn = input.startIndex + x;
@@ -257,12 +299,25 @@ public class ImplConvolveMean {
 	}
 
 	public static void vertical( GrayF64 input , GrayF64 output , int radius ) {
+		vertical(input, output, radius, null);
+	}
+
+	/**
+	 * Same as {@link #vertical(GrayF64, GrayF64, int)} but the running sum of each column is
+	 * saved in the provided storage, so that no memory is declared when called repeatedly.
+	 *
+	 * @param work (Optional) Storage for the running sums. Can be null.
+	 */
+	public static void vertical( GrayF64 input , GrayF64 output , int radius , GrowQueue_F64 work ) {
 		final int kernelWidth = radius*2 + 1;
 
 		final int backStep = kernelWidth*input.stride;
 
 		double divisor = kernelWidth;
-		double totals[] = new double[ input.width ];
+		if( work == null )
+			work = new GrowQueue_F64(input.width);
+		work.resize(input.width);
+		final double totals[] = work.data;
 
 		for( int x = 0; x < input.width; x++ ) {
 			int indexIn = input.startIndex + x;
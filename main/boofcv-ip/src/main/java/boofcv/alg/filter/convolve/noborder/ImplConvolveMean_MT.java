@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.filter.convolve.noborder;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeConsumer;
+import boofcv.struct.image.*;
+
+/**
+ * <p>
+ * Concurrent implementation of {@link ImplConvolveMean}.  The image is split into horizontal bands and each band
+ * is processed as a sub-image in its own thread.  For vertical convolution each band is expanded by the radius
+ * so that the running sum can be initialized inside the band.
+ * </p>
+ *
+ * <p>
+ * Integer images produce the same output as the single threaded code.  For floating point images the vertical
+ * sum is restarted at the start of each band instead of being carried down from the top of the image, so the
+ * output can differ from {@link ImplConvolveMean} by round off error.  For that reason
+ * {@link boofcv.alg.filter.convolve.ConvolveImageMean} only uses the floating point horizontal functions.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class ImplConvolveMean_MT {
+
+	public static void horizontal( final GrayU8 input , final GrayI8 output , final int radius ) {
+		BoofConcurrency.loopBlocks(0, input.height, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				ImplConvolveMean.horizontal(input.subimage(0, y0, input.width, y1),
+						(GrayI8)output.subimage(0, y0, output.width, y1), radius);
+			}
+		});
+	}
+
+	public static void vertical( final GrayU8 input , final GrayI8 output , final int radius ) {
+		BoofConcurrency.loopBlocks(radius, output.height-radius, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				ImplConvolveMean.vertical(input.subimage(0, y0-radius, input.width, y1+radius),
+						(GrayI8)output.subimage(0, y0-radius, output.width, y1+radius), radius);
+			}
+		});
+	}
+
+	public static void horizontal( final GrayS16 input , final GrayI16 output , final int radius ) {
+		BoofConcurrency.loopBlocks(0, input.height, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				ImplConvolveMean.horizontal(input.subimage(0, y0, input.width, y1),
+						(GrayI16)output.subimage(0, y0, output.width, y1), radius);
+			}
+		});
+	}
+
+	public static void vertical( final GrayS16 input , final GrayI16 output , final int radius ) {
+		BoofConcurrency.loopBlocks(radius, output.height-radius, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				ImplConvolveMean.vertical(input.subimage(0, y0-radius, input.width, y1+radius),
+						(GrayI16)output.subimage(0, y0-radius, output.width, y1+radius), radius);
+			}
+		});
+	}
+
+	public static void horizontal( final GrayF32 input , final GrayF32 output , final int radius ) {
+		BoofConcurrency.loopBlocks(0, input.height, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				ImplConvolveMean.horizontal(input.subimage(0, y0, input.width, y1),
+						output.subimage(0, y0, output.width, y1), radius);
+			}
+		});
+	}
+
+	public static void vertical( final GrayF32 input , final GrayF32 output , final int radius ) {
+		BoofConcurrency.loopBlocks(radius, output.height-radius, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				ImplConvolveMean.vertical(input.subimage(0, y0-radius, input.width, y1+radius),
+						output.subimage(0, y0-radius, output.width, y1+radius), radius);
+			}
+		});
+	}
+
+	public static void horizontal( final GrayF64 input , final GrayF64 output , final int radius ) {
+		BoofConcurrency.loopBlocks(0, input.height, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				ImplConvolveMean.horizontal(input.subimage(0, y0, input.width, y1),
+						output.subimage(0, y0, output.width, y1), radius);
+			}
+		});
+	}
+
+	public static void vertical( final GrayF64 input , final GrayF64 output , final int radius ) {
+		BoofConcurrency.loopBlocks(radius, output.height-radius, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				ImplConvolveMean.vertical(input.subimage(0, y0-radius, input.width, y1+radius),
+						output.subimage(0, y0-radius, output.width, y1+radius), radius);
+			}
+		});
+	}
+}
@@ -19,6 +19,7 @@
 package boofcv.alg.filter.derivative;
 
 import boofcv.abst.filter.derivative.AnyImageDerivative;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.core.image.GeneralizedImageOps;
 import boofcv.core.image.border.*;
 import boofcv.struct.convolve.Kernel1D;
@@ -104,33 +105,69 @@ public class GImageDerivativeOps {
 		switch( type ) {
 			case PREWITT:
 				if( input instanceof GrayF32) {
-					GradientPrewitt.process((GrayF32)input,(GrayF32)derivX,(GrayF32)derivY,(ImageBorder_F32)border);
+					if( BoofConcurrency.USE_CONCURRENT ) {
+						GradientPrewitt_MT.process((GrayF32)input,(GrayF32)derivX,(GrayF32)derivY,(ImageBorder_F32)border);
+					} else {
+						GradientPrewitt.process((GrayF32)input,(GrayF32)derivX,(GrayF32)derivY,(ImageBorder_F32)border);
+					}
 				} else if( input instanceof GrayU8) {
-					GradientPrewitt.process((GrayU8)input,(GrayS16)derivX,(GrayS16)derivY,(ImageBorder_S32)border);
+					if( BoofConcurrency.USE_CONCURRENT ) {
+						GradientPrewitt_MT.process((GrayU8)input,(GrayS16)derivX,(GrayS16)derivY,(ImageBorder_S32)border);
+					} else {
+						GradientPrewitt.process((GrayU8)input,(GrayS16)derivX,(GrayS16)derivY,(ImageBorder_S32)border);
+					}
 				} else if( input instanceof GrayS16) {
-					GradientPrewitt.process((GrayS16)input,(GrayS16)derivX,(GrayS16)derivY,(ImageBorder_S32)border);
+					if( BoofConcurrency.USE_CONCURRENT ) {
+						GradientPrewitt_MT.process((GrayS16)input,(GrayS16)derivX,(GrayS16)derivY,(ImageBorder_S32)border);
+					} else {
+						GradientPrewitt.process((GrayS16)input,(GrayS16)derivX,(GrayS16)derivY,(ImageBorder_S32)border);
+					}
 				} else {
 					throw new IllegalArgumentException("Unknown input image type: "+input.getClass().getSimpleName());
 				}
 				break;
 			case SOBEL:
 				if( input instanceof GrayF32) {
-					GradientSobel.process((GrayF32)input,(GrayF32)derivX,(GrayF32)derivY,(ImageBorder_F32)border);
+					if( BoofConcurrency.USE_CONCURRENT ) {
+						GradientSobel_MT.process((GrayF32)input,(GrayF32)derivX,(GrayF32)derivY,(ImageBorder_F32)border);
+					} else {
+						GradientSobel.process((GrayF32)input,(GrayF32)derivX,(GrayF32)derivY,(ImageBorder_F32)border);
+					}
 				} else if( input instanceof GrayU8) {
-					GradientSobel.process((GrayU8)input,(GrayS16)derivX,(GrayS16)derivY,(ImageBorder_S32)border);
+					if( BoofConcurrency.USE_CONCURRENT ) {
+						GradientSobel_MT.process((GrayU8)input,(GrayS16)derivX,(GrayS16)derivY,(ImageBorder_S32)border);
+					} else {
+						GradientSobel.process((GrayU8)input,(GrayS16)derivX,(GrayS16)derivY,(ImageBorder_S32)border);
+					}
 				} else if( input instanceof GrayS16) {
-					GradientSobel.process((GrayS16)input,(GrayS16)derivX,(GrayS16)derivY,(ImageBorder_S32)border);
+					if( BoofConcurrency.USE_CONCURRENT ) {
+						GradientSobel_MT.process((GrayS16)input,(GrayS16)derivX,(GrayS16)derivY,(ImageBorder_S32)border);
+					} else {
+						GradientSobel.process((GrayS16)input,(GrayS16)derivX,(GrayS16)derivY,(ImageBorder_S32)border);
+					}
 				} else {
 					throw new IllegalArgumentException("Unknown input image type: "+input.getClass().getSimpleName());
 				}
 				break;
 			case THREE:
 				if( input instanceof GrayF32) {
-					GradientThree.process((GrayF32)input,(GrayF32)derivX,(GrayF32)derivY,(ImageBorder_F32)border);
+					if( BoofConcurrency.USE_CONCURRENT ) {
+						GradientThree_MT.process((GrayF32)input,(GrayF32)derivX,(GrayF32)derivY,(ImageBorder_F32)border);
+					} else {
+						GradientThree.process((GrayF32)input,(GrayF32)derivX,(GrayF32)derivY,(ImageBorder_F32)border);
+					}
 				} else if( input instanceof GrayU8) {
-					GradientThree.process((GrayU8)input,(GrayS16)derivX,(GrayS16)derivY,(ImageBorder_S32)border);
+					if( BoofConcurrency.USE_CONCURRENT ) {
+						GradientThree_MT.process((GrayU8)input,(GrayS16)derivX,(GrayS16)derivY,(ImageBorder_S32)border);
+					} else {
+						GradientThree.process((GrayU8)input,(GrayS16)derivX,(GrayS16)derivY,(ImageBorder_S32)border);
+					}
 				} else if( input instanceof GrayS16) {
-					GradientThree.process((GrayS16)input,(GrayS16)derivX,(GrayS16)derivY,(ImageBorder_S32)border);
+					if( BoofConcurrency.USE_CONCURRENT ) {
+						GradientThree_MT.process((GrayS16)input,(GrayS16)derivX,(GrayS16)derivY,(ImageBorder_S32)border);
+					} else {
+						GradientThree.process((GrayS16)input,(GrayS16)derivX,(GrayS16)derivY,(ImageBorder_S32)border);
+					}
 				} else {
 					throw new IllegalArgumentException("Unknown input image type: "+input.getClass().getSimpleName());
 				}
@@ -182,9 +219,17 @@ public class GImageDerivativeOps {
 		switch( type ) {
 			case SOBEL:
 				if( input instanceof GrayF32) {
-					HessianSobel.process((GrayF32) input, (GrayF32) derivXX, (GrayF32) derivYY, (GrayF32) derivXY, (ImageBorder_F32) border);
+					if( BoofConcurrency.USE_CONCURRENT ) {
+						HessianSobel_MT.process((GrayF32) input, (GrayF32) derivXX, (GrayF32) derivYY, (GrayF32) derivXY, (ImageBorder_F32) border);
+					} else {
+						HessianSobel.process((GrayF32) input, (GrayF32) derivXX, (GrayF32) derivYY, (GrayF32) derivXY, (ImageBorder_F32) border);
+					}
 				} else if( input instanceof GrayU8) {
-					HessianSobel.process((GrayU8) input, (GrayS16) derivXX, (GrayS16) derivYY, (GrayS16) derivXY, (ImageBorder_S32) border);
+					if( BoofConcurrency.USE_CONCURRENT ) {
+						HessianSobel_MT.process((GrayU8) input, (GrayS16) derivXX, (GrayS16) derivYY, (GrayS16) derivXY, (ImageBorder_S32) border);
+					} else {
+						HessianSobel.process((GrayU8) input, (GrayS16) derivXX, (GrayS16) derivYY, (GrayS16) derivXY, (ImageBorder_S32) border);
+					}
 				} else {
 					throw new IllegalArgumentException("Unknown input image type: "+input.getClass().getSimpleName());
 				}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.derivative;
+
+import boofcv.alg.InputSanityCheck;
+import boofcv.alg.filter.convolve.border.ConvolveJustBorder_General_SB;
+import boofcv.alg.filter.derivative.impl.GradientSobel_Outer;
+import boofcv.alg.filter.derivative.impl.GradientSobel_UnrolledOuter;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeConsumer;
+import boofcv.core.image.border.ImageBorder_F32;
+import boofcv.core.image.border.ImageBorder_S32;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayS16;
+import boofcv.struct.image.GrayU8;
+
+/**
+ * <p>
+ * Concurrent implementation of {@link GradientSobel}. The image's inner rows are split into horizontal bands which are
+ * processed in parallel using sub-images. Each band's input is expanded by the kernel's radius so that only the
+ * rows inside the band are written to. The image border is then handled in the calling thread. Output is identical
+ * to the single threaded version.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class GradientSobel_MT {
+
+	/**
+	 * Concurrent version of {@link GradientSobel#process(GrayU8, GrayS16, GrayS16, ImageBorder_S32)}
+	 */
+	public static void process(final GrayU8 orig, final GrayS16 derivX, final GrayS16 derivY, ImageBorder_S32<GrayU8> border ) {
+		InputSanityCheck.checkSameShape(orig, derivX, derivY);
+
+		BoofConcurrency.loopBlocks(1, orig.height-1, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				GradientSobel_Outer.process_I8_sub(orig.subimage(0, y0-1, orig.width, y1+1),
+						derivX.subimage(0, y0-1, derivX.width, y1+1), derivY.subimage(0, y0-1, derivY.width, y1+1));
+			}
+		});
+
+		if( border != null ) {
+			border.setImage(orig);
+			ConvolveJustBorder_General_SB.convolve(GradientSobel.kernelDerivX_I32, border, derivX);
+			ConvolveJustBorder_General_SB.convolve(GradientSobel.kernelDerivY_I32, border, derivY);
+		}
+	}
+
+	/**
+	 * Concurrent version of {@link GradientSobel#process(GrayS16, GrayS16, GrayS16, ImageBorder_S32)}
+	 */
+	public static void process(final GrayS16 orig, final GrayS16 derivX, final GrayS16 derivY, ImageBorder_S32<GrayS16> border ) {
+		InputSanityCheck.checkSameShape(orig, derivX, derivY);
+
+		BoofConcurrency.loopBlocks(1, orig.height-1, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				GradientSobel_Outer.process_I8_sub(orig.subimage(0, y0-1, orig.width, y1+1),
+						derivX.subimage(0, y0-1, derivX.width, y1+1), derivY.subimage(0, y0-1, derivY.width, y1+1));
+			}
+		});
+
+		if( border != null ) {
+			border.setImage(orig);
+			ConvolveJustBorder_General_SB.convolve(GradientSobel.kernelDerivX_I32, border, derivX);
+			ConvolveJustBorder_General_SB.convolve(GradientSobel.kernelDerivY_I32, border, derivY);
+		}
+	}
+
+	/**
+	 * Concurrent version of {@link GradientSobel#process(GrayF32, GrayF32, GrayF32, ImageBorder_F32)}
+	 */
+	public static void process(final GrayF32 orig, final GrayF32 derivX, final GrayF32 derivY, ImageBorder_F32 border ) {
+		InputSanityCheck.checkSameShape(orig, derivX, derivY);
+
+		BoofConcurrency.loopBlocks(1, orig.height-1, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				GradientSobel_UnrolledOuter.process_F32_sub(orig.subimage(0, y0-1, orig.width, y1+1),
+						derivX.subimage(0, y0-1, derivX.width, y1+1), derivY.subimage(0, y0-1, derivY.width, y1+1));
+			}
+		});
+
+		if( border != null ) {
+			border.setImage(orig);
+			ConvolveJustBorder_General_SB.convolve(GradientSobel.kernelDerivX_F32, border, derivX);
+			ConvolveJustBorder_General_SB.convolve(GradientSobel.kernelDerivY_F32, border, derivY);
+		}
+	}
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.derivative;
+
+import boofcv.alg.InputSanityCheck;
+import boofcv.alg.filter.derivative.impl.GradientThree_Standard;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeConsumer;
+import boofcv.core.image.border.ImageBorder_F32;
+import boofcv.core.image.border.ImageBorder_S32;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayS16;
+import boofcv.struct.image.GrayS32;
+import boofcv.struct.image.GrayU8;
+
+/**
+ * <p>
+ * Concurrent implementation of {@link GradientThree}. The image's inner rows are split into horizontal bands which are
+ * processed in parallel using sub-images. Each band's input is expanded by the kernel's radius so that only the
+ * rows inside the band are written to. The image border is then handled in the calling thread. Output is identical
+ * to the single threaded version.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class GradientThree_MT {
+
+	/**
+	 * Concurrent version of {@link GradientThree#process(GrayU8, GrayS16, GrayS16, ImageBorder_S32)}
+	 */
+	public static void process(final GrayU8 orig, final GrayS16 derivX, final GrayS16 derivY, ImageBorder_S32 border ) {
+		InputSanityCheck.checkSameShape(orig, derivX, derivY);
+
+		BoofConcurrency.loopBlocks(1, orig.height-1, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				GradientThree_Standard.process(orig.subimage(0, y0-1, orig.width, y1+1),
+						derivX.subimage(0, y0-1, derivX.width, y1+1), derivY.subimage(0, y0-1, derivY.width, y1+1));
+			}
+		});
+
+		if( border != null ) {
+			DerivativeHelperFunctions.processBorderHorizontal(orig, derivX, GradientThree.kernelDeriv_I32, border);
+			DerivativeHelperFunctions.processBorderVertical(orig, derivY, GradientThree.kernelDeriv_I32, border);
+		}
+	}
+
+	/**
+	 * Concurrent version of {@link GradientThree#process(GrayU8, GrayS32, GrayS32, ImageBorder_S32)}
+	 */
+	public static void process(final GrayU8 orig, final GrayS32 derivX, final GrayS32 derivY, ImageBorder_S32 border ) {
+		InputSanityCheck.checkSameShape(orig, derivX, derivY);
+
+		BoofConcurrency.loopBlocks(1, orig.height-1, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				GradientThree_Standard.process(orig.subimage(0, y0-1, orig.width, y1+1),
+						derivX.subimage(0, y0-1, derivX.width, y1+1), derivY.subimage(0, y0-1, derivY.width, y1+1));
+			}
+		});
+
+		if( border != null ) {
+			DerivativeHelperFunctions.processBorderHorizontal(orig, derivX, GradientThree.kernelDeriv_I32, border);
+			DerivativeHelperFunctions.processBorderVertical(orig, derivY, GradientThree.kernelDeriv_I32, border);
+		}
+	}
+
+	/**
+	 * Concurrent version of {@link GradientThree#process(GrayS16, GrayS16, GrayS16, ImageBorder_S32)}
+	 */
+	public static void process(final GrayS16 orig, final GrayS16 derivX, final GrayS16 derivY, ImageBorder_S32 border ) {
+		InputSanityCheck.checkSameShape(orig, derivX, derivY);
+
+		BoofConcurrency.loopBlocks(1, orig.height-1, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				GradientThree_Standard.process(orig.subimage(0, y0-1, orig.width, y1+1),
+						derivX.subimage(0, y0-1, derivX.width, y1+1), derivY.subimage(0, y0-1, derivY.width, y1+1));
+			}
+		});
+
+		if( border != null ) {
+			DerivativeHelperFunctions.processBorderHorizontal(orig, derivX, GradientThree.kernelDeriv_I32, border);
+			DerivativeHelperFunctions.processBorderVertical(orig, derivY, GradientThree.kernelDeriv_I32, border);
+		}
+	}
+
+	/**
+	 * Concurrent version of {@link GradientThree#process(GrayF32, GrayF32, GrayF32, ImageBorder_F32)}
+	 */
+	public static void process(final GrayF32 orig, final GrayF32 derivX, final GrayF32 derivY, ImageBorder_F32 border ) {
+		InputSanityCheck.checkSameShape(orig, derivX, derivY);
+
+		BoofConcurrency.loopBlocks(1, orig.height-1, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				GradientThree_Standard.process(orig.subimage(0, y0-1, orig.width, y1+1),
+						derivX.subimage(0, y0-1, derivX.width, y1+1), derivY.subimage(0, y0-1, derivY.width, y1+1));
+			}
+		});
+
+		if( border != null ) {
+			DerivativeHelperFunctions.processBorderHorizontal(orig, derivX, GradientThree.kernelDeriv_F32, border);
+			DerivativeHelperFunctions.processBorderVertical(orig, derivY, GradientThree.kernelDeriv_F32, border);
+		}
+	}
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.derivative;
+
+import boofcv.alg.InputSanityCheck;
+import boofcv.alg.filter.convolve.border.ConvolveJustBorder_General_SB;
+import boofcv.alg.filter.derivative.impl.HessianSobel_Shared;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeConsumer;
+import boofcv.core.image.border.ImageBorder_F32;
+import boofcv.core.image.border.ImageBorder_S32;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayS16;
+import boofcv.struct.image.GrayU8;
+
+/**
+ * <p>
+ * Concurrent implementation of {@link HessianSobel}. The image's inner rows are split into horizontal bands which are
+ * processed in parallel using sub-images. Each band's input is expanded by the kernel's radius so that only the
+ * rows inside the band are written to. The image border is then handled in the calling thread. Output is identical
+ * to the single threaded version.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class HessianSobel_MT {
+
+	/**
+	 * Concurrent version of {@link HessianSobel#process(GrayU8, GrayS16, GrayS16, GrayS16, ImageBorder_S32)}
+	 */
+	public static void process(final GrayU8 orig,
+							   final GrayS16 derivXX, final GrayS16 derivYY, final GrayS16 derivXY,
+							   ImageBorder_S32 border ) {
+		InputSanityCheck.checkSameShape(orig, derivXX, derivYY, derivXY);
+
+		BoofConcurrency.loopBlocks(2, orig.height-2, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				HessianSobel_Shared.process(orig.subimage(0, y0-2, orig.width, y1+2),
+						derivXX.subimage(0, y0-2, derivXX.width, y1+2), derivYY.subimage(0, y0-2, derivYY.width, y1+2), derivXY.subimage(0, y0-2, derivXY.width, y1+2));
+			}
+		});
+
+		if( border != null ) {
+			border.setImage(orig);
+			ConvolveJustBorder_General_SB.convolve(HessianSobel.kernelXX_I32, border, derivXX);
+			ConvolveJustBorder_General_SB.convolve(HessianSobel.kernelYY_I32, border, derivYY);
+			ConvolveJustBorder_General_SB.convolve(HessianSobel.kernelXY_I32, border, derivXY);
+		}
+	}
+
+	/**
+	 * Concurrent version of {@link HessianSobel#process(GrayF32, GrayF32, GrayF32, GrayF32, ImageBorder_F32)}
+	 */
+	public static void process(final GrayF32 orig,
+							   final GrayF32 derivXX, final GrayF32 derivYY, final GrayF32 derivXY,
+							   ImageBorder_F32 border ) {
+		InputSanityCheck.checkSameShape(orig, derivXX, derivYY, derivXY);
+
+		BoofConcurrency.loopBlocks(2, orig.height-2, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				HessianSobel_Shared.process(orig.subimage(0, y0-2, orig.width, y1+2),
+						derivXX.subimage(0, y0-2, derivXX.width, y1+2), derivYY.subimage(0, y0-2, derivYY.width, y1+2), derivXY.subimage(0, y0-2, derivXY.width, y1+2));
+			}
+		});
+
+		if( border != null ) {
+			border.setImage(orig);
+			ConvolveJustBorder_General_SB.convolve(HessianSobel.kernelXX_F32, border, derivXX);
+			ConvolveJustBorder_General_SB.convolve(HessianSobel.kernelYY_F32, border, derivYY);
+			ConvolveJustBorder_General_SB.convolve(HessianSobel.kernelXY_F32, border, derivXY);
+		}
+	}
+}
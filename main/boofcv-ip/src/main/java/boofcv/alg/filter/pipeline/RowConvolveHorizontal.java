@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.pipeline;
+
+import boofcv.alg.filter.kernel.KernelMath;
+import boofcv.struct.convolve.Kernel1D_F32;
+
+/**
+ * Convolves a 1D kernel along each row. Pixels outside the image are ignored and the kernel is renormalized,
+ * which produces the same results as {@link boofcv.alg.filter.convolve.ConvolveNormalized}.
+ *
+ * @author Peter Abeles
+ */
+public class RowConvolveHorizontal implements RowOperator {
+
+	Kernel1D_F32 kernel;
+
+	public RowConvolveHorizontal(Kernel1D_F32 kernel) {
+		// the inner image is not renormalized, so the kernel needs to sum up to one
+		if( Math.abs(kernel.computeSum() - 1.0f) > 1e-4f ) {
+			kernel = kernel.copy();
+			KernelMath.normalizeSumToOne(kernel);
+		}
+		this.kernel = kernel;
+	}
+
+	@Override
+	public int getRadius() {
+		return 0;
+	}
+
+	@Override
+	public void process(float[][] rows, int y, int width, int height, float[] output) {
+		final float[] input = rows[0];
+		final float[] k = kernel.data;
+		final int offset = kernel.getOffset();
+		final int kernelWidth = kernel.getWidth();
+
+		int x0 = Math.min(offset,width);
+		int x1 = Math.max(x0,width-(kernelWidth-offset-1));
+
+		for( int x = 0; x < x0; x++ ) {
+			output[x] = borderPixel(input,k,offset,kernelWidth,width,x);
+		}
+		if( x0 < x1 ) {
+			switch( kernelWidth ) {
+				case 3: inner3(input,k,x0,x1,output); break;
+				case 5: inner5(input,k,x0,x1,output); break;
+				case 7: inner7(input,k,x0,x1,output); break;
+				default: inner(input,k,kernelWidth,x0,x1,output); break;
+			}
+		}
+		for( int x = x1; x < width; x++ ) {
+			output[x] = borderPixel(input,k,offset,kernelWidth,width,x);
+		}
+	}
+
+	/**
+	 * Inner pixels for an arbitrary kernel. Computed one kernel element at a time so that the loops
+	 * run along contiguous arrays.
+	 */
+	private static void inner( float[] input , float[] k , int kernelWidth , int x0 , int x1 , float[] output ) {
+		float w = k[0];
+		for( int x = x0, j = 0; x < x1; x++, j++ ) {
+			output[x] = input[j]*w;
+		}
+		for( int i = 1; i < kernelWidth; i++ ) {
+			w = k[i];
+			for( int x = x0, j = i; x < x1; x++, j++ ) {
+				output[x] += input[j]*w;
+			}
+		}
+	}
+
+	private static void inner3( float[] input , float[] k , int x0 , int x1 , float[] output ) {
+		final float k1 = k[0], k2 = k[1], k3 = k[2];
+		for( int x = x0, j = 0; x < x1; x++, j++ ) {
+			output[x] = input[j]*k1 + input[j+1]*k2 + input[j+2]*k3;
+		}
+	}
+
+	private static void inner5( float[] input , float[] k , int x0 , int x1 , float[] output ) {
+		final float k1 = k[0], k2 = k[1], k3 = k[2], k4 = k[3], k5 = k[4];
+		for( int x = x0, j = 0; x < x1; x++, j++ ) {
+			output[x] = input[j]*k1 + input[j+1]*k2 + input[j+2]*k3 + input[j+3]*k4 + input[j+4]*k5;
+		}
+	}
+
+	private static void inner7( float[] input , float[] k , int x0 , int x1 , float[] output ) {
+		final float k1 = k[0], k2 = k[1], k3 = k[2], k4 = k[3], k5 = k[4], k6 = k[5], k7 = k[6];
+		for( int x = x0, j = 0; x < x1; x++, j++ ) {
+			output[x] = input[j]*k1 + input[j+1]*k2 + input[j+2]*k3 + input[j+3]*k4 +
+					input[j+4]*k5 + input[j+5]*k6 + input[j+6]*k7;
+		}
+	}
+
+	private static float borderPixel( float[] input , float[] k , int offset , int kernelWidth , int width , int x ) {
+		int start = x-offset;
+		int i0 = Math.max(0,-start);
+		int i1 = Math.min(kernelWidth,width-start);
+
+		float total = 0;
+		float weight = 0;
+		for( int i = i0; i < i1; i++ ) {
+			float w = k[i];
+			total += input[start+i]*w;
+			weight += w;
+		}
+		return total/weight;
+	}
+
+	public Kernel1D_F32 getKernel() {
+		return kernel;
+	}
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.pipeline;
+
+import boofcv.alg.filter.kernel.KernelMath;
+import boofcv.struct.convolve.Kernel1D_F32;
+
+/**
+ * Convolves a 1D kernel along each column. Rows outside the image are ignored and the kernel is renormalized,
+ * which produces the same results as {@link boofcv.alg.filter.convolve.ConvolveNormalized}. The kernel must
+ * be symmetric in size, i.e. its offset is equal to its radius.
+ *
+ * @author Peter Abeles
+ */
+public class RowConvolveVertical implements RowOperator {
+
+	Kernel1D_F32 kernel;
+
+	public RowConvolveVertical(Kernel1D_F32 kernel) {
+		if( kernel.getOffset() != kernel.getRadius() || kernel.getWidth() != kernel.getRadius()*2+1 )
+			throw new IllegalArgumentException("Kernel's offset must be equal to its radius");
+		// the inner image is not renormalized, so the kernel needs to sum up to one
+		if( Math.abs(kernel.computeSum() - 1.0f) > 1e-4f ) {
+			kernel = kernel.copy();
+			KernelMath.normalizeSumToOne(kernel);
+		}
+		this.kernel = kernel;
+	}
+
+	@Override
+	public int getRadius() {
+		return kernel.getRadius();
+	}
+
+	@Override
+	public void process(float[][] rows, int y, int width, int height, float[] output) {
+		final float[] k = kernel.data;
+		final int radius = kernel.getRadius();
+
+		// rows which are inside the image
+		int i0 = Math.max(0,radius-y);
+		int i1 = Math.min(rows.length,height-y+radius);
+
+		float[] input = rows[i0];
+		float w = k[i0];
+		for( int x = 0; x < width; x++ ) {
+			output[x] = input[x]*w;
+		}
+		for( int i = i0+1; i < i1; i++ ) {
+			input = rows[i];
+			w = k[i];
+			for( int x = 0; x < width; x++ ) {
+				output[x] += input[x]*w;
+			}
+		}
+
+		if( i0 != 0 || i1 != rows.length ) {
+			float weight = 0;
+			for( int i = i0; i < i1; i++ ) {
+				weight += k[i];
+			}
+			for( int x = 0; x < width; x++ ) {
+				output[x] /= weight;
+			}
+		}
+	}
+
+	public Kernel1D_F32 getKernel() {
+		return kernel;
+	}
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.pipeline;
+
+/**
+ * Computes the Sobel image gradient and outputs one of the derivatives or the gradient's intensity. The
+ * same kernel and an extended image border are used as in {@link boofcv.alg.filter.derivative.GradientSobel}.
+ *
+ * @author Peter Abeles
+ */
+public class RowGradientSobel implements RowOperator {
+
+	/**
+	 * Which value is written to the output row
+	 */
+	public enum Output {
+		/** derivative along the x-axis */
+		DERIV_X,
+		/** derivative along the y-axis */
+		DERIV_Y,
+		/** |dx| + |dy| */
+		INTENSITY_ABS,
+		/** sqrt(dx^2 + dy^2) */
+		INTENSITY_E
+	}
+
+	Output type;
+
+	public RowGradientSobel(Output type) {
+		this.type = type;
+	}
+
+	@Override
+	public int getRadius() {
+		return 1;
+	}
+
+	@Override
+	public void process(float[][] rows, int y, int width, int height, float[] output) {
+		final float[] r0 = rows[0];
+		final float[] r1 = rows[1];
+		final float[] r2 = rows[2];
+
+		// the type is checked outside the inner loop so that it doesn't need to branch for each pixel
+		switch( type ) {
+			case DERIV_X:
+				for( int x = 1; x < width-1; x++ ) {
+					float v = (r2[x+1] - r0[x-1]) * 0.25f;
+					float w = (r2[x-1] - r0[x+1]) * 0.25f;
+					output[x] = (r1[x+1] - r1[x-1]) * 0.5f + v - w;
+				}
+				break;
+
+			case DERIV_Y:
+				for( int x = 1; x < width-1; x++ ) {
+					float v = (r2[x+1] - r0[x-1]) * 0.25f;
+					float w = (r2[x-1] - r0[x+1]) * 0.25f;
+					output[x] = (r2[x] - r0[x]) * 0.5f + v + w;
+				}
+				break;
+
+			case INTENSITY_ABS:
+				for( int x = 1; x < width-1; x++ ) {
+					float v = (r2[x+1] - r0[x-1]) * 0.25f;
+					float w = (r2[x-1] - r0[x+1]) * 0.25f;
+					float dy = (r2[x] - r0[x]) * 0.5f + v + w;
+					float dx = (r1[x+1] - r1[x-1]) * 0.5f + v - w;
+					output[x] = Math.abs(dx) + Math.abs(dy);
+				}
+				break;
+
+			case INTENSITY_E:
+				for( int x = 1; x < width-1; x++ ) {
+					float v = (r2[x+1] - r0[x-1]) * 0.25f;
+					float w = (r2[x-1] - r0[x+1]) * 0.25f;
+					float dy = (r2[x] - r0[x]) * 0.5f + v + w;
+					float dx = (r1[x+1] - r1[x-1]) * 0.5f + v - w;
+					output[x] = (float)Math.sqrt(dx*dx + dy*dy);
+				}
+				break;
+		}
+
+		borderPixel(r0,r1,r2,0,width,output);
+		if( width > 1 )
+			borderPixel(r0,r1,r2,width-1,width,output);
+	}
+
+	/**
+	 * Computes the output for a pixel along the left or right border using an extended border
+	 */
+	private void borderPixel( float[] r0 , float[] r1 , float[] r2 , int x , int width , float[] output ) {
+		int xa = x == 0 ? 0 : x-1;
+		int xb = x == width-1 ? x : x+1;
+
+		float v = (r2[xb] - r0[xa]) * 0.25f;
+		float w = (r2[xa] - r0[xb]) * 0.25f;
+
+		float dy = (r2[x] - r0[x]) * 0.5f + v + w;
+		float dx = (r1[xb] - r1[xa]) * 0.5f + v - w;
+
+		switch( type ) {
+			case DERIV_X: output[x] = dx; break;
+			case DERIV_Y: output[x] = dy; break;
+			case INTENSITY_ABS: output[x] = Math.abs(dx) + Math.abs(dy); break;
+			case INTENSITY_E: output[x] = (float)Math.sqrt(dx*dx + dy*dy); break;
+		}
+	}
+
+	public Output getType() {
+		return type;
+	}
+}
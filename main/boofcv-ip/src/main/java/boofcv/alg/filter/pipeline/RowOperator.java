@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.pipeline;
+
+/**
+ * <p>
+ * An operation inside of a {@link RowPipeline}. Each call computes a single output row from a small window
+ * of input rows centered around the same row, which allows several operations to be chained together while
+ * only a few rows of each intermediate result are kept in memory.
+ * </p>
+ *
+ * <p>
+ * Rows which lie outside the image are filled in by repeating the closest row inside the image, e.g. an
+ * extended border. Operations which require a different border can use the row index and image height
+ * passed in to determine which input rows are real.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public interface RowOperator {
+
+	/**
+	 * Number of rows above and below the output row which are required.
+	 *
+	 * @return the vertical radius. 0 for operations which are pixel local or only look along the row.
+	 */
+	int getRadius();
+
+	/**
+	 * Computes one output row.
+	 *
+	 * @param rows (Input) Input rows. Length is 2*radius+1 and rows[radius] is at the same y as the output.
+	 *             Not modified.
+	 * @param y Index of the output row in the image
+	 * @param width Number of pixels in each row
+	 * @param height Number of rows in the image
+	 * @param output (Output) Storage for the output row
+	 */
+	void process( float[][] rows , int y , int width , int height , float[] output );
+}
@@ -0,0 +1,309 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.pipeline;
+
+import boofcv.alg.InputSanityCheck;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeObjectConsumer;
+import boofcv.factory.filter.kernel.FactoryKernelGaussian;
+import boofcv.struct.convolve.Kernel1D_F32;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayS16;
+import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.ImageGray;
+import org.ddogleg.struct.FastQueue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <p>
+ * Applies a chain of {@link RowOperator operations} to an image in a single pass. Instead of each operation
+ * reading and writing a full resolution image, the output image is computed one row at a time. Each row is
+ * pulled through the chain and only the few rows of each intermediate result which are still needed by the
+ * next operation are saved in a ring buffer. Since these buffers are small they stay inside the CPU's cache,
+ * reducing the amount of memory traffic for common preprocessing chains, e.g. convert &rarr; blur &rarr;
+ * gradient &rarr; threshold.
+ * </p>
+ *
+ * <p>
+ * Internally all intermediate values are floats. The input row is converted into a float and the final
+ * row is typecast into the output image, just like {@link boofcv.core.image.ConvertImage}.
+ * </p>
+ *
+ * <p>
+ * If {@link #setConcurrent(boolean) concurrent} is true then the image is split into bands of rows which are
+ * each processed by a different thread. Each band recomputes the few rows of intermediate results it shares with
+ * its neighbors, so the output is identical to when it's processed by a single thread.
+ * </p>
+ *
+ * <pre>
+ * RowPipeline pipeline = new RowPipeline();
+ * pipeline.addGaussian(2,-1);
+ * pipeline.add(new RowGradientSobel(RowGradientSobel.Output.INTENSITY_ABS));
+ * pipeline.add(new RowThreshold(20,false));
+ * pipeline.process(gray,binary);
+ * </pre>
+ *
+ * @author Peter Abeles
+ */
+public class RowPipeline {
+
+	// operations in the order they are applied
+	List<RowOperator> operations = new ArrayList<>();
+
+	// If true then bands of rows are processed concurrently
+	boolean concurrent = BoofConcurrency.USE_CONCURRENT;
+
+	// storage for intermediate results. One for each band of rows
+	FastQueue<Workspace> workspaces = new FastQueue<>(Workspace.class,true);
+
+	// image being processed
+	ImageGray input;
+	ImageGray output;
+
+	/**
+	 * Adds an operation to the end of the chain
+	 *
+	 * @return this
+	 */
+	public RowPipeline add( RowOperator operation ) {
+		operations.add(operation);
+		return this;
+	}
+
+	/**
+	 * Adds a Gaussian blur to the end of the chain. Results are the same as
+	 * {@link boofcv.alg.filter.blur.BlurImageOps#gaussian(GrayF32, GrayF32, double, int, GrayF32)}.
+	 *
+	 * @param sigma Gaussian distribution's sigma.  If &le; 0 then will be selected based on radius.
+	 * @param radius Radius of the Gaussian blur function. If &le; 0 then radius will be determined by sigma.
+	 * @return this
+	 */
+	public RowPipeline addGaussian( double sigma , int radius ) {
+		Kernel1D_F32 kernel = FactoryKernelGaussian.gaussian(Kernel1D_F32.class,sigma,radius);
+		add(new RowConvolveHorizontal(kernel));
+		add(new RowConvolveVertical(kernel));
+		return this;
+	}
+
+	/**
+	 * Removes all operations
+	 */
+	public void reset() {
+		operations.clear();
+	}
+
+	/**
+	 * Applies all the operations to the input image and writes the results into the output image.
+	 *
+	 * @param input Input image. {@link GrayU8}, {@link GrayS16}, or {@link GrayF32}. Not modified.
+	 * @param output Output image. {@link GrayU8}, {@link GrayS16}, or {@link GrayF32}. Modified.
+	 */
+	public void process( ImageGray input , ImageGray output ) {
+		InputSanityCheck.checkSameShape(input,output);
+		checkSupported(input);
+		checkSupported(output);
+
+		this.input = input;
+		this.output = output;
+
+		if( concurrent ) {
+			// bands which are too small will spend most of their time on recomputing shared rows
+			int minBand = Math.max(16,4*getTotalRadius());
+			BoofConcurrency.loopBlocks(0, input.height, minBand, workspaces, new IntRangeObjectConsumer<Workspace>() {
+				@Override
+				public void accept(Workspace workspace, int y0, int y1) {
+					processRows(workspace,y0,y1);
+				}
+			});
+		} else {
+			workspaces.resize(1);
+			processRows(workspaces.get(0),0,input.height);
+		}
+
+		this.input = null;
+		this.output = null;
+	}
+
+	private static void checkSupported( ImageGray image ) {
+		if( !(image instanceof GrayU8 || image instanceof GrayS16 || image instanceof GrayF32) )
+			throw new IllegalArgumentException("Unsupported image type "+image.getClass().getSimpleName());
+	}
+
+	/**
+	 * Computes the output rows from y0 to y1-1
+	 */
+	void processRows( Workspace workspace , int y0 , int y1 ) {
+		workspace.initialize(operations, input.width);
+
+		final int last = operations.size();
+		for( int y = y0; y < y1; y++ ) {
+			writeRow(getRow(workspace,last,y),y);
+		}
+	}
+
+	/**
+	 * Returns the row at the specified stage in the chain. Stage 0 is the input image and stage i is the output of
+	 * the i-1 operation. If it isn't already in the ring buffer then it's computed, which will recursively
+	 * request the rows it depends on from the previous stage.
+	 */
+	float[] getRow( Workspace workspace , int stage , int y ) {
+		// extended image border
+		if( y < 0 )
+			y = 0;
+		else if( y >= input.height )
+			y = input.height-1;
+
+		RowRing ring = workspace.rings.get(stage);
+		int slot = y % ring.rows.length;
+		float[] row = ring.rows[slot];
+		if( ring.which[slot] == y )
+			return row;
+
+		if( stage == 0 ) {
+			readRow(y,row);
+		} else {
+			RowOperator op = operations.get(stage-1);
+			int radius = op.getRadius();
+			float[][] window = ring.window;
+			for( int i = -radius; i <= radius; i++ ) {
+				window[i+radius] = getRow(workspace,stage-1,y+i);
+			}
+			op.process(window,y,input.width,input.height,row);
+		}
+		ring.which[slot] = y;
+		return row;
+	}
+
+	/**
+	 * Converts a row in the input image into floats
+	 */
+	void readRow( int y , float[] row ) {
+		final int width = input.width;
+		int index = input.startIndex + y*input.stride;
+
+		if( input instanceof GrayU8 ) {
+			byte[] data = ((GrayU8)input).data;
+			for( int x = 0; x < width; x++ ) {
+				row[x] = data[index++] & 0xFF;
+			}
+		} else if( input instanceof GrayS16 ) {
+			short[] data = ((GrayS16)input).data;
+			for( int x = 0; x < width; x++ ) {
+				row[x] = data[index++];
+			}
+		} else {
+			System.arraycopy(((GrayF32)input).data,index,row,0,width);
+		}
+	}
+
+	/**
+	 * Copies the row into the output image with a typecast
+	 */
+	void writeRow( float[] row , int y ) {
+		final int width = output.width;
+		int index = output.startIndex + y*output.stride;
+
+		if( output instanceof GrayU8 ) {
+			byte[] data = ((GrayU8)output).data;
+			for( int x = 0; x < width; x++ ) {
+				data[index++] = (byte)row[x];
+			}
+		} else if( output instanceof GrayS16 ) {
+			short[] data = ((GrayS16)output).data;
+			for( int x = 0; x < width; x++ ) {
+				data[index++] = (short)row[x];
+			}
+		} else {
+			System.arraycopy(row,0,((GrayF32)output).data,index,width);
+		}
+	}
+
+	/**
+	 * Sum of the radius of all operations. The number of extra rows a band of output rows depends on above and below.
+	 */
+	public int getTotalRadius() {
+		int total = 0;
+		for( int i = 0; i < operations.size(); i++ ) {
+			total += operations.get(i).getRadius();
+		}
+		return total;
+	}
+
+	public List<RowOperator> getOperations() {
+		return operations;
+	}
+
+	public boolean isConcurrent() {
+		return concurrent;
+	}
+
+	/**
+	 * Specifies if bands of rows should be processed concurrently.
+	 */
+	public void setConcurrent(boolean concurrent) {
+		this.concurrent = concurrent;
+	}
+
+	/**
+	 * Ring buffer which stores the most recently computed rows for one stage in the chain
+	 */
+	static class RowRing {
+		float[][] rows = new float[0][];
+		// which image row is stored in each slot. -1 if none
+		int[] which = new int[0];
+		// references to the input rows for the operation which computes this stage
+		float[][] window = new float[0][];
+
+		void initialize( int numRows , int windowSize , int width ) {
+			if( rows.length != numRows || (numRows > 0 && rows[0].length != width) ) {
+				rows = new float[numRows][width];
+				which = new int[numRows];
+			}
+			if( window.length != windowSize )
+				window = new float[windowSize][];
+			for( int i = 0; i < numRows; i++ ) {
+				which[i] = -1;
+			}
+		}
+	}
+
+	/**
+	 * Storage for the intermediate results of one band of rows
+	 */
+	public static class Workspace {
+		FastQueue<RowRing> rings = new FastQueue<RowRing>(RowRing.class,true) {
+			@Override
+			protected RowRing createInstance() {
+				return new RowRing();
+			}
+		};
+
+		void initialize( List<RowOperator> operations , int width ) {
+			rings.resize(operations.size()+1);
+			for( int stage = 0; stage < rings.size; stage++ ) {
+				// the next operation needs this many rows from this stage at once
+				int consumed = stage < operations.size() ? 2*operations.get(stage).getRadius()+1 : 1;
+				int window = stage > 0 ? 2*operations.get(stage-1).getRadius()+1 : 0;
+				rings.get(stage).initialize(consumed,window,width);
+			}
+		}
+	}
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.pipeline;
+
+/**
+ * Applies a global threshold to each pixel. Pixels which pass the test are set to 1 and the others to 0, the
+ * same as {@link boofcv.alg.filter.binary.ThresholdImageOps#threshold}.
+ *
+ * @author Peter Abeles
+ */
+public class RowThreshold implements RowOperator {
+
+	float threshold;
+	boolean down;
+
+	/**
+	 * @param threshold threshold value.
+	 * @param down If true then the inequality &le; is used, otherwise if false then &gt; is used.
+	 */
+	public RowThreshold(float threshold, boolean down) {
+		this.threshold = threshold;
+		this.down = down;
+	}
+
+	@Override
+	public int getRadius() {
+		return 0;
+	}
+
+	@Override
+	public void process(float[][] rows, int y, int width, int height, float[] output) {
+		final float[] input = rows[0];
+
+		if( down ) {
+			for( int x = 0; x < width; x++ ) {
+				output[x] = input[x] <= threshold ? 1 : 0;
+			}
+		} else {
+			for( int x = 0; x < width; x++ ) {
+				output[x] = input[x] > threshold ? 1 : 0;
+			}
+		}
+	}
+
+	public float getThreshold() {
+		return threshold;
+	}
+
+	public boolean isDown() {
+		return down;
+	}
+}
@@ -85,4 +85,10 @@ public interface InterpolatePixel<T extends ImageBase<T>> {
 	 */
 	public ImageType<T> getImageType();
 
+	/**
+	 * Creates a new instance of this interpolation algorithm with the same configuration. The border is also
+	 * copied but the image is not set. Intended for when multiple threads need to interpolate the same image.
+	 */
+	public InterpolatePixel<T> copy();
+
 }
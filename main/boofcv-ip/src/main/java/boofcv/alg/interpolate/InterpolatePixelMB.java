@@ -51,4 +51,6 @@ public interface InterpolatePixelMB<T extends ImageBase<T>> extends InterpolateP
 	 */
 	void get_fast(float x, float y, float []values );
 
+	@Override
+	public InterpolatePixelMB<T> copy();
 }
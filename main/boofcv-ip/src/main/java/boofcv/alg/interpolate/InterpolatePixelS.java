@@ -48,4 +48,7 @@ public interface InterpolatePixelS<T extends ImageGray<T>> extends InterpolatePi
 	 * @return Interpolated intensity value.
 	 */
 	public float get_fast(float x, float y);
+
+	@Override
+	public InterpolatePixelS<T> copy();
 }
@@ -19,6 +19,7 @@
 package boofcv.alg.interpolate.impl;
 
 import boofcv.alg.interpolate.BilinearPixelS;
+import boofcv.alg.interpolate.InterpolatePixelS;
 import boofcv.core.image.border.ImageBorder_F64;
 import boofcv.struct.image.GrayF64;
 import boofcv.struct.image.ImageType;
@@ -94,4 +95,11 @@ public class ImplBilinearPixel_F64 extends BilinearPixelS<GrayF64> {
 		return ImageType.single(GrayF64.class);
 	}
 
+	@Override
+	public InterpolatePixelS<GrayF64> copy() {
+		ImplBilinearPixel_F64 out = new ImplBilinearPixel_F64();
+		if( border != null )
+			out.setBorder(border.copy());
+		return out;
+	}
 }
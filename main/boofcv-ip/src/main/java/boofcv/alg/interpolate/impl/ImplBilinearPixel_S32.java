@@ -19,6 +19,7 @@
 package boofcv.alg.interpolate.impl;
 
 import boofcv.alg.interpolate.BilinearPixelS;
+import boofcv.alg.interpolate.InterpolatePixelS;
 import boofcv.core.image.border.ImageBorder_S32;
 import boofcv.struct.image.GrayS32;
 import boofcv.struct.image.ImageType;
@@ -94,4 +95,11 @@ public class ImplBilinearPixel_S32 extends BilinearPixelS<GrayS32> {
 		return ImageType.single(GrayS32.class);
 	}
 
+	@Override
+	public InterpolatePixelS<GrayS32> copy() {
+		ImplBilinearPixel_S32 out = new ImplBilinearPixel_S32();
+		if( border != null )
+			out.setBorder(border.copy());
+		return out;
+	}
 }
@@ -17,6 +17,7 @@
  */
 package boofcv.alg.interpolate.impl;
 
+import boofcv.alg.interpolate.InterpolatePixelMB;
 import boofcv.alg.interpolate.NearestNeighborPixelMB;
 import boofcv.core.image.border.ImageBorder_IL_S32;
 import boofcv.struct.image.InterleavedS32;
@@ -74,4 +75,11 @@ public class NearestNeighborPixel_IL_S32 extends NearestNeighborPixelMB<Interlea
 		}
 	}
 
+	@Override
+	public InterpolatePixelMB<InterleavedS32> copy() {
+		NearestNeighborPixel_IL_S32 out = new NearestNeighborPixel_IL_S32();
+		if( border != null )
+			out.setBorder(border.copy());
+		return out;
+	}
 }
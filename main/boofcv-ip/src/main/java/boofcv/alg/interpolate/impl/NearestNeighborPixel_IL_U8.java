@@ -17,6 +17,7 @@
  */
 package boofcv.alg.interpolate.impl;
 
+import boofcv.alg.interpolate.InterpolatePixelMB;
 import boofcv.alg.interpolate.NearestNeighborPixelMB;
 import boofcv.core.image.border.ImageBorder_IL_S32;
 import boofcv.struct.image.InterleavedU8;
@@ -74,4 +75,11 @@ public class NearestNeighborPixel_IL_U8 extends NearestNeighborPixelMB<Interleav
 		}
 	}
 
+	@Override
+	public InterpolatePixelMB<InterleavedU8> copy() {
+		NearestNeighborPixel_IL_U8 out = new NearestNeighborPixel_IL_U8();
+		if( border != null )
+			out.setBorder(border.copy());
+		return out;
+	}
 }
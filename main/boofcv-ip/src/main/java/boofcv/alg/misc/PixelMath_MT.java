@@ -0,0 +1,316 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.misc;
+
+import boofcv.alg.InputSanityCheck;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeConsumer;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayU8;
+
+/**
+ * Concurrent implementations of the most commonly used functions in {@link PixelMath}. Rows are split into
+ * blocks and each block is processed as a sub-image in its own thread.
+ *
+ * @author Peter Abeles
+ */
+public class PixelMath_MT {
+
+	/**
+	 * Concurrent version of {@link PixelMath#abs(GrayF32, GrayF32)}
+	 */
+	public static void abs( final GrayF32 input , final GrayF32 output ) {
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0, input.height, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				PixelMath.abs(input.subimage(0, y0, input.width, y1),
+						output.subimage(0, y0, output.width, y1));
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link PixelMath#multiply(GrayU8, double, GrayU8)}
+	 */
+	public static void multiply( final GrayU8 input , final double value , final GrayU8 output ) {
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0, input.height, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				PixelMath.multiply(input.subimage(0, y0, input.width, y1),
+						value,
+						output.subimage(0, y0, output.width, y1));
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link PixelMath#multiply(GrayF32, float, GrayF32)}
+	 */
+	public static void multiply( final GrayF32 input , final float value , final GrayF32 output ) {
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0, input.height, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				PixelMath.multiply(input.subimage(0, y0, input.width, y1),
+						value,
+						output.subimage(0, y0, output.width, y1));
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link PixelMath#divide(GrayU8, double, GrayU8)}
+	 */
+	public static void divide( final GrayU8 input , final double denominator , final GrayU8 output ) {
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0, input.height, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				PixelMath.divide(input.subimage(0, y0, input.width, y1),
+						denominator,
+						output.subimage(0, y0, output.width, y1));
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link PixelMath#divide(GrayF32, float, GrayF32)}
+	 */
+	public static void divide( final GrayF32 input , final float denominator , final GrayF32 output ) {
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0, input.height, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				PixelMath.divide(input.subimage(0, y0, input.width, y1),
+						denominator,
+						output.subimage(0, y0, output.width, y1));
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link PixelMath#plus(GrayU8, int, GrayU8)}
+	 */
+	public static void plus( final GrayU8 input , final int value , final GrayU8 output ) {
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0, input.height, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				PixelMath.plus(input.subimage(0, y0, input.width, y1),
+						value,
+						output.subimage(0, y0, output.width, y1));
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link PixelMath#plus(GrayF32, float, GrayF32)}
+	 */
+	public static void plus( final GrayF32 input , final float value , final GrayF32 output ) {
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0, input.height, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				PixelMath.plus(input.subimage(0, y0, input.width, y1),
+						value,
+						output.subimage(0, y0, output.width, y1));
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link PixelMath#minus(GrayU8, int, GrayU8)}
+	 */
+	public static void minus( final GrayU8 input , final int value , final GrayU8 output ) {
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0, input.height, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				PixelMath.minus(input.subimage(0, y0, input.width, y1),
+						value,
+						output.subimage(0, y0, output.width, y1));
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link PixelMath#minus(GrayF32, float, GrayF32)}
+	 */
+	public static void minus( final GrayF32 input , final float value , final GrayF32 output ) {
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0, input.height, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				PixelMath.minus(input.subimage(0, y0, input.width, y1),
+						value,
+						output.subimage(0, y0, output.width, y1));
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link PixelMath#boundImage(GrayU8, int, int)}
+	 */
+	public static void boundImage( final GrayU8 img , final int min , final int max ) {
+		BoofConcurrency.loopBlocks(0, img.height, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				PixelMath.boundImage(img.subimage(0, y0, img.width, y1),
+						min,
+						max);
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link PixelMath#boundImage(GrayF32, float, float)}
+	 */
+	public static void boundImage( final GrayF32 img , final float min , final float max ) {
+		BoofConcurrency.loopBlocks(0, img.height, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				PixelMath.boundImage(img.subimage(0, y0, img.width, y1),
+						min,
+						max);
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link PixelMath#diffAbs(GrayU8, GrayU8, GrayU8)}
+	 */
+	public static void diffAbs( final GrayU8 imgA , final GrayU8 imgB , final GrayU8 diff ) {
+		InputSanityCheck.checkSameShape(imgA,imgB,diff);
+
+		BoofConcurrency.loopBlocks(0, imgA.height, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				PixelMath.diffAbs(imgA.subimage(0, y0, imgA.width, y1),
+						imgB.subimage(0, y0, imgB.width, y1),
+						diff.subimage(0, y0, diff.width, y1));
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link PixelMath#diffAbs(GrayF32, GrayF32, GrayF32)}
+	 */
+	public static void diffAbs( final GrayF32 imgA , final GrayF32 imgB , final GrayF32 diff ) {
+		InputSanityCheck.checkSameShape(imgA,imgB,diff);
+
+		BoofConcurrency.loopBlocks(0, imgA.height, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				PixelMath.diffAbs(imgA.subimage(0, y0, imgA.width, y1),
+						imgB.subimage(0, y0, imgB.width, y1),
+						diff.subimage(0, y0, diff.width, y1));
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link PixelMath#add(GrayF32, GrayF32, GrayF32)}
+	 */
+	public static void add( final GrayF32 imgA , final GrayF32 imgB , final GrayF32 output ) {
+		InputSanityCheck.checkSameShape(imgA,imgB,output);
+
+		BoofConcurrency.loopBlocks(0, imgA.height, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				PixelMath.add(imgA.subimage(0, y0, imgA.width, y1),
+						imgB.subimage(0, y0, imgB.width, y1),
+						output.subimage(0, y0, output.width, y1));
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link PixelMath#subtract(GrayF32, GrayF32, GrayF32)}
+	 */
+	public static void subtract( final GrayF32 imgA , final GrayF32 imgB , final GrayF32 output ) {
+		InputSanityCheck.checkSameShape(imgA,imgB,output);
+
+		BoofConcurrency.loopBlocks(0, imgA.height, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				PixelMath.subtract(imgA.subimage(0, y0, imgA.width, y1),
+						imgB.subimage(0, y0, imgB.width, y1),
+						output.subimage(0, y0, output.width, y1));
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link PixelMath#multiply(GrayF32, GrayF32, GrayF32)}
+	 */
+	public static void multiply( final GrayF32 imgA , final GrayF32 imgB , final GrayF32 output ) {
+		InputSanityCheck.checkSameShape(imgA,imgB,output);
+
+		BoofConcurrency.loopBlocks(0, imgA.height, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				PixelMath.multiply(imgA.subimage(0, y0, imgA.width, y1),
+						imgB.subimage(0, y0, imgB.width, y1),
+						output.subimage(0, y0, output.width, y1));
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link PixelMath#pow2(GrayF32, GrayF32)}
+	 */
+	public static void pow2( final GrayF32 input , final GrayF32 output ) {
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0, input.height, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				PixelMath.pow2(input.subimage(0, y0, input.width, y1),
+						output.subimage(0, y0, output.width, y1));
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link PixelMath#sqrt(GrayF32, GrayF32)}
+	 */
+	public static void sqrt( final GrayF32 input , final GrayF32 output ) {
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0, input.height, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				PixelMath.sqrt(input.subimage(0, y0, input.width, y1),
+						output.subimage(0, y0, output.width, y1));
+			}
+		});
+	}
+}
@@ -144,6 +144,36 @@ public class GeneralPurposeFFT_F32_1D {
 		ch2 = new float[n*2];
 	}
 
+	/**
+	 * Creates a copy which shares the precomputed tables with the original but has its own internal storage.
+	 * This allows the same transform to be computed by multiple threads at once, one copy for each thread.
+	 */
+	private GeneralPurposeFFT_F32_1D( GeneralPurposeFFT_F32_1D original ) {
+		n = original.n;
+		nBluestein = original.nBluestein;
+		ip = original.ip;
+		w = original.w;
+		nw = original.nw;
+		nc = original.nc;
+		wtable = original.wtable;
+		wtable_r = original.wtable_r;
+		bk1 = original.bk1;
+		bk2 = original.bk2;
+		plan = original.plan;
+
+		if( original.ak != null )
+			ak = new float[original.ak.length];
+		ch = new float[original.ch.length];
+		ch2 = new float[original.ch2.length];
+	}
+
+	/**
+	 * Returns a copy of this transform which can be used by a different thread at the same time
+	 */
+	public GeneralPurposeFFT_F32_1D copy() {
+		return new GeneralPurposeFFT_F32_1D(this);
+	}
+
 	/**
 	 * Computes 1D forward DFT of complex data leaving the result in
 	 * <code>a</code>. Complex number is stored as two float values in
@@ -1274,7 +1304,6 @@ public class GeneralPurposeFFT_F32_1D {
 		int l1, l2, na, kh, nf, ip, iw, ido, idl1;
 
 		Arrays.fill(ch,0);
-		ch = new float[ch.length];
 		final int twon = 2 * n;
 		nf = (int) wtable_r[1 + twon];
 		na = 1;
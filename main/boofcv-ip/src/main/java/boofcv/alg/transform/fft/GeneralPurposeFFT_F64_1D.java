@@ -144,6 +144,36 @@ public class GeneralPurposeFFT_F64_1D {
 		ch2 = new double[n*2];
 	}
 
+	/**
+	 * Creates a copy which shares the precomputed tables with the original but has its own internal storage.
+	 * This allows the same transform to be computed by multiple threads at once, one copy for each thread.
+	 */
+	private GeneralPurposeFFT_F64_1D( GeneralPurposeFFT_F64_1D original ) {
+		n = original.n;
+		nBluestein = original.nBluestein;
+		ip = original.ip;
+		w = original.w;
+		nw = original.nw;
+		nc = original.nc;
+		wtable = original.wtable;
+		wtable_r = original.wtable_r;
+		bk1 = original.bk1;
+		bk2 = original.bk2;
+		plan = original.plan;
+
+		if( original.ak != null )
+			ak = new double[original.ak.length];
+		ch = new double[original.ch.length];
+		ch2 = new double[original.ch2.length];
+	}
+
+	/**
+	 * Returns a copy of this transform which can be used by a different thread at the same time
+	 */
+	public GeneralPurposeFFT_F64_1D copy() {
+		return new GeneralPurposeFFT_F64_1D(this);
+	}
+
 	/**
 	 * Computes 1D forward DFT of complex data leaving the result in
 	 * <code>a</code>. Complex number is stored as two double values in
@@ -343,7 +373,6 @@ public class GeneralPurposeFFT_F64_1D {
 					a[idx] = a[idx - 1];
 					a[idx - 1] = tmp;
 				}
-				ch = new double[n];
 				break;
 			case BLUESTEIN:
 				bluestein_real_forward(a, offa);
@@ -1275,6 +1304,7 @@ public class GeneralPurposeFFT_F64_1D {
 			return;
 		int l1, l2, na, kh, nf, ip, iw, ido, idl1;
 
+		Arrays.fill(ch,0);
 		final int twon = 2 * n;
 		nf = (int) wtable_r[1 + twon];
 		na = 1;
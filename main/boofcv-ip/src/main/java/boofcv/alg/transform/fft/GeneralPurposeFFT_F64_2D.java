@@ -18,6 +18,10 @@
 
 package boofcv.alg.transform.fft;
 
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeObjectConsumer;
+import org.ddogleg.struct.FastQueue;
+
 /**
  * Computes 2D Discrete Fourier Transform (DFT) of complex and real, double
  * precision data. The size of the data can be an arbitrary number. The code originally comes from
@@ -26,8 +30,10 @@ package boofcv.alg.transform.fft;
  * <p></p>
  * This code has a bit of a history.  Originally from General Purpose FFT.  Which was then ported into
  * JFFTPack written by Baoshe Zhang (http://jfftpack.sourceforge.net/), and then into JTransforms by Piotr Wendykier.
- * The major modification from JTransforms is that the SMP code has been stripped out.  It might be added back in
- * once an SMP strategy has been finalized in BoofCV.
+ * The major modification from JTransforms is that its SMP code has been replaced by BoofCV's own concurrency.
+ * If {@link #setConcurrent(boolean) concurrent} is true then the independent 1D transforms along the rows and
+ * columns are split between threads. Each thread has its own scratch space and its own copy of the 1D transforms,
+ * which share the precomputed tables.
  * <p></p>
  * Code License:  The original license of General Purpose FFT Package is shown below.  This file will fall
  * under the same license:
@@ -55,9 +61,22 @@ public class GeneralPurposeFFT_F64_2D {
 	private boolean isPowerOfTwo = false;
 
 	// local storage pre-declared
-	private double[] temp;
 	private double[][] temp2;
 
+	// minimum number of elements each thread should process. Small transforms are faster single threaded
+	private static final int MIN_ELEMENTS_PER_THREAD = 8192;
+
+	// If true then independent 1D transforms are computed concurrently
+	private boolean concurrent = BoofConcurrency.USE_CONCURRENT;
+
+	// storage for each thread
+	private FastQueue<Workspace> workspaces = new FastQueue<Workspace>(Workspace.class,true) {
+		@Override
+		protected Workspace createInstance() {
+			return new Workspace();
+		}
+	};
+
 	/**
 	 * Creates new instance of DoubleFFT_2D.
 	 *
@@ -92,8 +111,6 @@ public class GeneralPurposeFFT_F64_2D {
 		} else {
 			fftColumns = new GeneralPurposeFFT_F64_1D(columns);
 		}
-
-		temp = new double[2 * rows];
 	}
 
 	/**
@@ -124,34 +141,15 @@ public class GeneralPurposeFFT_F64_2D {
 		if (isPowerOfTwo) {
 			int oldn2 = columns;
 			columns = 2 * columns;
-			for (int r = 0; r < rows; r++) {
-				fftColumns.complexForward(a, r * columns);
-			}
+			transformRows(Op.COMPLEX_FORWARD, a, columns, true);
 			cdft2d_sub(-1, a, true);
 			columns = oldn2;
 		} else {
 			final int rowStride = 2 * columns;
 
-			for (int r = 0; r < rows; r++) {
-				fftColumns.complexForward(a, r * rowStride);
-			}
+			transformRows(Op.COMPLEX_FORWARD, a, rowStride, true);
 
-			for (int c = 0; c < columns; c++) {
-				int idx0 = 2 * c;
-				for (int r = 0; r < rows; r++) {
-					int idx1 = 2 * r;
-					int idx2 = r * rowStride + idx0;
-					temp[idx1] = a[idx2];
-					temp[idx1 + 1] = a[idx2 + 1];
-				}
-				fftRows.complexForward(temp);
-				for (int r = 0; r < rows; r++) {
-					int idx1 = 2 * r;
-					int idx2 = r * rowStride + idx0;
-					a[idx2] = temp[idx1];
-					a[idx2 + 1] = temp[idx1 + 1];
-				}
-			}
+			transformColumns(a, rowStride, true, true);
 		}
 	}
 
@@ -187,33 +185,14 @@ public class GeneralPurposeFFT_F64_2D {
 		if (isPowerOfTwo) {
 			int oldn2 = columns;
 			columns = 2 * columns;
-			for (int r = 0; r < rows; r++) {
-				fftColumns.complexInverse(a, r * columns, scale);
-			}
+			transformRows(Op.COMPLEX_INVERSE, a, columns, scale);
 			cdft2d_sub(1, a, scale);
 			columns = oldn2;
 		} else {
 			final int rowspan = 2 * columns;
-			for (int r = 0; r < rows; r++) {
-				fftColumns.complexInverse(a, r * rowspan, scale);
-			}
+			transformRows(Op.COMPLEX_INVERSE, a, rowspan, scale);
 
-			for (int c = 0; c < columns; c++) {
-				int idx1 = 2 * c;
-				for (int r = 0; r < rows; r++) {
-					int idx2 = 2 * r;
-					int idx3 = r * rowspan + idx1;
-					temp[idx2] = a[idx3];
-					temp[idx2 + 1] = a[idx3 + 1];
-				}
-				fftRows.complexInverse(temp, scale);
-				for (int r = 0; r < rows; r++) {
-					int idx2 = 2 * r;
-					int idx3 = r * rowspan + idx1;
-					a[idx3] = temp[idx2];
-					a[idx3 + 1] = temp[idx2 + 1];
-				}
-			}
+			transformColumns(a, rowspan, false, scale);
 		}
 	}
 
@@ -262,9 +241,7 @@ public class GeneralPurposeFFT_F64_2D {
 		if (isPowerOfTwo == false) {
 			throw new IllegalArgumentException("rows and columns must be power of two numbers");
 		} else {
-			for (int r = 0; r < rows; r++) {
-				fftColumns.realForward(a, r * columns);
-			}
+			transformRows(Op.REAL_FORWARD, a, columns, true);
 			cdft2d_sub(-1, a, true);
 			rdft2d_sub(1, a);
 		}
@@ -293,9 +270,7 @@ public class GeneralPurposeFFT_F64_2D {
 		}
 
 		if (isPowerOfTwo) {
-			for (int r = 0; r < rows; r++) {
-				fftColumns.realForward(a, r * columns);
-			}
+			transformRows(Op.REAL_FORWARD, a, columns, true);
 			cdft2d_sub(-1, a, true);
 			rdft2d_sub(1, a);
 			fillSymmetric(a);
@@ -354,9 +329,7 @@ public class GeneralPurposeFFT_F64_2D {
 		} else {
 			rdft2d_sub(-1, a);
 			cdft2d_sub(1, a, scale);
-			for (int r = 0; r < rows; r++) {
-				fftColumns.realInverse(a, r * columns, scale);
-			}
+			transformRows(Op.REAL_INVERSE, a, columns, scale);
 		}
 	}
 
@@ -385,9 +358,7 @@ public class GeneralPurposeFFT_F64_2D {
 		}
 
 		if (isPowerOfTwo) {
-			for (int r = 0; r < rows; r++) {
-				fftColumns.realInverse2(a, r * columns, scale);
-			}
+			transformRows(Op.REAL_INVERSE2, a, columns, scale);
 			cdft2d_sub(1, a, scale);
 			rdft2d_sub(1, a);
 			fillSymmetric(a);
@@ -397,6 +368,17 @@ public class GeneralPurposeFFT_F64_2D {
 		}
 	}
 
+	public boolean isConcurrent() {
+		return concurrent;
+	}
+
+	/**
+	 * Specifies if the independent 1D transforms should be computed concurrently.
+	 */
+	public void setConcurrent(boolean concurrent) {
+		this.concurrent = concurrent;
+	}
+
 	private void declareRadixRealData() {
 		if( temp2 == null ) {
 			final int n2d2 = columns / 2 + 1;
@@ -409,24 +391,13 @@ public class GeneralPurposeFFT_F64_2D {
 		final int n2d2 = columns / 2 + 1;
 		final double[][] temp = temp2;
 
-		for (int r = 0; r < rows; r++) {
-			fftColumns.realForward(a, r * columns);
-		}
+		transformRows(Op.REAL_FORWARD, a, columns, true);
 		for (int r = 0; r < rows; r++) {
 			temp[0][r] = a[r * columns]; //first column is always real
 		}
 		fftRows.realForwardFull(temp[0]);
 
-		for (int c = 1; c < n2d2 - 1; c++) {
-			int idx0 = 2 * c;
-			for (int r = 0; r < rows; r++) {
-				int idx1 = 2 * r;
-				int idx2 = r * columns + idx0;
-				temp[c][idx1] = a[idx2];
-				temp[c][idx1 + 1] = a[idx2 + 1];
-			}
-			fftRows.complexForward(temp[c]);
-		}
+		mixedRadixColumns(a, temp, n2d2, true, true);
 
 		if ((columns % 2) == 0) {
 			for (int r = 0; r < rows; r++) {
@@ -478,24 +449,13 @@ public class GeneralPurposeFFT_F64_2D {
 		final int n2d2 = columns / 2 + 1;
 		final double[][] temp = temp2;
 
-		for (int r = 0; r < rows; r++) {
-			fftColumns.realInverse2(a, r * columns, scale);
-		}
+		transformRows(Op.REAL_INVERSE2, a, columns, scale);
 		for (int r = 0; r < rows; r++) {
 			temp[0][r] = a[r * columns]; //first column is always real
 		}
 		fftRows.realInverseFull(temp[0], scale);
 
-		for (int c = 1; c < n2d2 - 1; c++) {
-			int idx0 = 2 * c;
-			for (int r = 0; r < rows; r++) {
-				int idx1 = 2 * r;
-				int idx2 = r * columns + idx0;
-				temp[c][idx1] = a[idx2];
-				temp[c][idx1 + 1] = a[idx2 + 1];
-			}
-			fftRows.complexInverse(temp[c], scale);
-		}
+		mixedRadixColumns(a, temp, n2d2, false, scale);
 
 		if ((columns % 2) == 0) {
 			for (int r = 0; r < rows; r++) {
@@ -573,11 +533,30 @@ public class GeneralPurposeFFT_F64_2D {
 		}
 	}
 
-	private void cdft2d_sub(int isgn, double[] a, boolean scale) {
+	/**
+	 * Transforms the columns of a power of two image. When there are more than 4 columns they are processed
+	 * in independent groups of 4 complex columns, which are split between threads.
+	 */
+	private void cdft2d_sub(final int isgn, final double[] a, final boolean scale) {
+		int groups = columns > 4 ? columns / 8 : 1;
+		loop(groups, 8 * rows, new IntRangeObjectConsumer<Workspace>() {
+			@Override
+			public void accept(Workspace w, int g0, int g1) {
+				cdft2d_sub(isgn, a, scale, g0 * 8, g1 * 8, w);
+			}
+		});
+	}
+
+	/**
+	 * Transforms columns c0 to c1-1 when there are more than 4 columns, otherwise all the columns.
+	 */
+	private void cdft2d_sub(int isgn, double[] a, boolean scale, int c0, int c1, Workspace w) {
+		final double[] t = w.t;
+		final GeneralPurposeFFT_F64_1D fftRows = w.fftRows;
 		int idx1, idx2, idx3, idx4, idx5;
 		if (isgn == -1) {
 			if (columns > 4) {
-				for (int c = 0; c < columns; c += 8) {
+				for (int c = c0; c < c1; c += 8) {
 					for (int r = 0; r < rows; r++) {
 						idx1 = r * columns + c;
 						idx2 = 2 * r;
@@ -651,7 +630,7 @@ public class GeneralPurposeFFT_F64_2D {
 			}
 		} else {
 			if (columns > 4) {
-				for (int c = 0; c < columns; c += 8) {
+				for (int c = c0; c < c1; c += 8) {
 					for (int r = 0; r < rows; r++) {
 						idx1 = r * columns + c;
 						idx2 = 2 * r;
@@ -915,4 +894,147 @@ public class GeneralPurposeFFT_F64_2D {
 		a[idx1 + 1] = 0;
 		a[idx1 + columns + 1] = 0;
 	}
+
+	/**
+	 * Applies a 1D transform to each row. Rows are independent and are split between threads.
+	 *
+	 * @param stride Number of elements between the start of each row
+	 */
+	private void transformRows(final Op op, final double[] a, final int stride, final boolean scale) {
+		loop(rows, stride, new IntRangeObjectConsumer<Workspace>() {
+			@Override
+			public void accept(Workspace w, int r0, int r1) {
+				final GeneralPurposeFFT_F64_1D fft = w.fftColumns;
+				for (int r = r0; r < r1; r++) {
+					switch (op) {
+						case COMPLEX_FORWARD: fft.complexForward(a, r * stride); break;
+						case COMPLEX_INVERSE: fft.complexInverse(a, r * stride, scale); break;
+						case REAL_FORWARD: fft.realForward(a, r * stride); break;
+						case REAL_INVERSE: fft.realInverse(a, r * stride, scale); break;
+						case REAL_INVERSE2: fft.realInverse2(a, r * stride, scale); break;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Applies a complex 1D transform to each column. Columns are copied into the thread's scratch space,
+	 * transformed, then copied back.
+	 *
+	 * @param rowStride Number of elements between the start of each row
+	 */
+	private void transformColumns(final double[] a, final int rowStride, final boolean forward, final boolean scale) {
+		loop(columns, 2 * rows, new IntRangeObjectConsumer<Workspace>() {
+			@Override
+			public void accept(Workspace w, int c0, int c1) {
+				final double[] temp = w.temp;
+				for (int c = c0; c < c1; c++) {
+					int idx0 = 2 * c;
+					for (int r = 0; r < rows; r++) {
+						int idx1 = 2 * r;
+						int idx2 = r * rowStride + idx0;
+						temp[idx1] = a[idx2];
+						temp[idx1 + 1] = a[idx2 + 1];
+					}
+					if (forward)
+						w.fftRows.complexForward(temp);
+					else
+						w.fftRows.complexInverse(temp, scale);
+					for (int r = 0; r < rows; r++) {
+						int idx1 = 2 * r;
+						int idx2 = r * rowStride + idx0;
+						a[idx2] = temp[idx1];
+						a[idx2 + 1] = temp[idx1 + 1];
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Transforms columns 1 to n2d2-2 for the mixed radix real transforms. Each column has its own storage.
+	 */
+	private void mixedRadixColumns(final double[] a, final double[][] temp, final int n2d2,
+								   final boolean forward, final boolean scale) {
+		loop(n2d2 - 2, 2 * rows, new IntRangeObjectConsumer<Workspace>() {
+			@Override
+			public void accept(Workspace w, int i0, int i1) {
+				for (int c = i0 + 1; c < i1 + 1; c++) {
+					int idx0 = 2 * c;
+					for (int r = 0; r < rows; r++) {
+						int idx1 = 2 * r;
+						int idx2 = r * columns + idx0;
+						temp[c][idx1] = a[idx2];
+						temp[c][idx1 + 1] = a[idx2 + 1];
+					}
+					if (forward)
+						w.fftRows.complexForward(temp[c]);
+					else
+						w.fftRows.complexInverse(temp[c], scale);
+				}
+			}
+		});
+	}
+
+	/**
+	 * Processes items 0 to total-1. If concurrent they are split into blocks which are processed by different
+	 * threads, each with its own workspace.
+	 *
+	 * @param elementsPerItem Approximate number of elements in each item. Used to avoid splitting small transforms.
+	 */
+	private void loop(int total, int elementsPerItem, final IntRangeObjectConsumer<Workspace> consumer) {
+		IntRangeObjectConsumer<Workspace> initialize = new IntRangeObjectConsumer<Workspace>() {
+			@Override
+			public void accept(Workspace w, int i0, int i1) {
+				w.initialize();
+				consumer.accept(w, i0, i1);
+			}
+		};
+
+		if (concurrent) {
+			int minBlock = Math.max(1, MIN_ELEMENTS_PER_THREAD / Math.max(1, elementsPerItem));
+			BoofConcurrency.loopBlocks(0, total, minBlock, workspaces, initialize);
+		} else if (total > 0) {
+			workspaces.resize(1);
+			initialize.accept(workspaces.get(0), 0, total);
+		}
+	}
+
+	/**
+	 * Which 1D transform is applied to each row
+	 */
+	private enum Op {
+		COMPLEX_FORWARD, COMPLEX_INVERSE, REAL_FORWARD, REAL_INVERSE, REAL_INVERSE2
+	}
+
+	/**
+	 * Storage used by a single thread. The first workspace uses the original 1D transforms while the others
+	 * use copies, since the 1D transforms have internal storage.
+	 */
+	private class Workspace {
+		GeneralPurposeFFT_F64_1D fftRows, fftColumns;
+		double[] t;
+		double[] temp;
+
+		void initialize() {
+			if (fftRows != null)
+				return;
+
+			GeneralPurposeFFT_F64_1D origRows = GeneralPurposeFFT_F64_2D.this.fftRows;
+			GeneralPurposeFFT_F64_1D origColumns = GeneralPurposeFFT_F64_2D.this.fftColumns;
+			double[] origT = GeneralPurposeFFT_F64_2D.this.t;
+
+			if (this == workspaces.get(0)) {
+				fftRows = origRows;
+				fftColumns = origColumns;
+				t = origT;
+			} else {
+				fftRows = origRows.copy();
+				fftColumns = origColumns == origRows ? fftRows : origColumns.copy();
+				t = origT == null ? null : new double[origT.length];
+			}
+			temp = new double[2 * rows];
+		}
+	}
 }
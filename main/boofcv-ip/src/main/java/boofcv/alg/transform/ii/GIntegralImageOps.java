@@ -59,6 +59,8 @@ public class GIntegralImageOps {
 		} else if( input instanceof GrayF64) {
 			return (T)IntegralImageOps.transform((GrayF64)input,(GrayF64)transformed);
 		} else if( input instanceof GrayU8) {
+			if( transformed instanceof GrayS64 )
+				return (T)IntegralImageOps.transform((GrayU8)input,(GrayS64)transformed);
 			return (T)IntegralImageOps.transform((GrayU8)input,(GrayS32)transformed);
 		} else if( input instanceof GrayS32) {
 			return (T)IntegralImageOps.transform((GrayS32)input,(GrayS32)transformed);
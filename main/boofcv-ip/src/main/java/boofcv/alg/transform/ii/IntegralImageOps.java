@@ -20,6 +20,8 @@ package boofcv.alg.transform.ii;
 
 import boofcv.alg.InputSanityCheck;
 import boofcv.alg.transform.ii.impl.ImplIntegralImageOps;
+import boofcv.alg.transform.ii.impl.ImplIntegralImageOps_MT;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.struct.ImageRectangle;
 import boofcv.struct.image.*;
 
@@ -43,7 +45,11 @@ public class IntegralImageOps {
 	public static GrayF32 transform(GrayF32 input , GrayF32 transformed ) {
 		transformed = InputSanityCheck.checkDeclare(input,transformed);
 
-		ImplIntegralImageOps.transform(input,transformed);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplIntegralImageOps_MT.transform(input,transformed);
+		} else {
+			ImplIntegralImageOps.transform(input,transformed);
+		}
 
 		return transformed;
 	}
@@ -58,7 +64,11 @@ public class IntegralImageOps {
 	public static GrayF64 transform(GrayF64 input , GrayF64 transformed ) {
 		transformed = InputSanityCheck.checkDeclare(input,transformed);
 
-		ImplIntegralImageOps.transform(input,transformed);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplIntegralImageOps_MT.transform(input,transformed);
+		} else {
+			ImplIntegralImageOps.transform(input,transformed);
+		}
 
 		return transformed;
 	}
@@ -73,7 +83,31 @@ public class IntegralImageOps {
 	public static GrayS32 transform(GrayU8 input , GrayS32 transformed ) {
 		transformed = InputSanityCheck.checkDeclare(input,transformed,GrayS32.class);
 
-		ImplIntegralImageOps.transform(input,transformed);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplIntegralImageOps_MT.transform(input,transformed);
+		} else {
+			ImplIntegralImageOps.transform(input,transformed);
+		}
+
+		return transformed;
+	}
+
+	/**
+	 * Converts a regular image into an integral image.  Use this instead of the {@link GrayS32} output when
+	 * the sum of all the pixels could overflow an int, i.e. images with more than 8,421,504 pixels.
+	 *
+	 * @param input Regular image. Not modified.
+	 * @param transformed Integral image. If null a new image will be created. Modified.
+	 * @return Integral image.
+	 */
+	public static GrayS64 transform(GrayU8 input , GrayS64 transformed ) {
+		transformed = InputSanityCheck.checkDeclare(input,transformed,GrayS64.class);
+
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplIntegralImageOps_MT.transform(input,transformed);
+		} else {
+			ImplIntegralImageOps.transform(input,transformed);
+		}
 
 		return transformed;
 	}
@@ -88,7 +122,11 @@ public class IntegralImageOps {
 	public static GrayS32 transform(GrayS32 input , GrayS32 transformed ) {
 		transformed = InputSanityCheck.checkDeclare(input,transformed,GrayS32.class);
 
-		ImplIntegralImageOps.transform(input, transformed);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplIntegralImageOps_MT.transform(input,transformed);
+		} else {
+			ImplIntegralImageOps.transform(input,transformed);
+		}
 
 		return transformed;
 	}
@@ -103,7 +141,11 @@ public class IntegralImageOps {
 	public static GrayS64 transform(GrayS64 input , GrayS64 transformed ) {
 		transformed = InputSanityCheck.checkDeclare(input,transformed,GrayS64.class);
 
-		ImplIntegralImageOps.transform(input, transformed);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplIntegralImageOps_MT.transform(input,transformed);
+		} else {
+			ImplIntegralImageOps.transform(input,transformed);
+		}
 
 		return transformed;
 	}
@@ -278,6 +320,23 @@ public class IntegralImageOps {
 		return ImplIntegralImageOps.convolveSparse(integral, kernel, x, y);
 	}
 
+	/**
+	 * Convolves a kernel around multiple points in the integral image.  Points can be anywhere in the image
+	 * and are processed with a single function call, avoiding per point overhead.
+	 *
+	 * @param integral Input integral image. Not modified.
+	 * @param kernel Convolution kernel.
+	 * @param points Pixel coordinates the convolution is performed at. Interleaved as (x,y) pairs.
+	 * @param numPoints Number of points.
+	 * @param output Storage for the value of the convolution at each point. Modified.
+	 */
+	public static void convolveSparse(GrayF32 integral , IntegralKernel kernel ,
+									  int[] points , int numPoints , float[] output )
+	{
+		checkBatchSize(points.length,output.length,numPoints,2);
+		ImplIntegralImageOps.convolveSparse(integral,kernel,points,numPoints,output);
+	}
+
 	/**
 	 * Convolves a kernel around a single point in the integral image.
 	 *
@@ -292,6 +351,23 @@ public class IntegralImageOps {
 		return ImplIntegralImageOps.convolveSparse(integral,kernel,x,y);
 	}
 
+	/**
+	 * Convolves a kernel around multiple points in the integral image.  Points can be anywhere in the image
+	 * and are processed with a single function call, avoiding per point overhead.
+	 *
+	 * @param integral Input integral image. Not modified.
+	 * @param kernel Convolution kernel.
+	 * @param points Pixel coordinates the convolution is performed at. Interleaved as (x,y) pairs.
+	 * @param numPoints Number of points.
+	 * @param output Storage for the value of the convolution at each point. Modified.
+	 */
+	public static void convolveSparse(GrayF64 integral , IntegralKernel kernel ,
+									  int[] points , int numPoints , double[] output )
+	{
+		checkBatchSize(points.length,output.length,numPoints,2);
+		ImplIntegralImageOps.convolveSparse(integral,kernel,points,numPoints,output);
+	}
+
 	/**
 	 * Convolves a kernel around a single point in the integral image.
 	 *
@@ -306,6 +382,23 @@ public class IntegralImageOps {
 		return ImplIntegralImageOps.convolveSparse(integral, kernel, x, y);
 	}
 
+	/**
+	 * Convolves a kernel around multiple points in the integral image.  Points can be anywhere in the image
+	 * and are processed with a single function call, avoiding per point overhead.
+	 *
+	 * @param integral Input integral image. Not modified.
+	 * @param kernel Convolution kernel.
+	 * @param points Pixel coordinates the convolution is performed at. Interleaved as (x,y) pairs.
+	 * @param numPoints Number of points.
+	 * @param output Storage for the value of the convolution at each point. Modified.
+	 */
+	public static void convolveSparse(GrayS32 integral , IntegralKernel kernel ,
+									  int[] points , int numPoints , int[] output )
+	{
+		checkBatchSize(points.length,output.length,numPoints,2);
+		ImplIntegralImageOps.convolveSparse(integral,kernel,points,numPoints,output);
+	}
+
 	/**
 	 * Convolves a kernel around a single point in the integral image.
 	 *
@@ -320,6 +413,23 @@ public class IntegralImageOps {
 		return ImplIntegralImageOps.convolveSparse(integral,kernel,x,y);
 	}
 
+	/**
+	 * Convolves a kernel around multiple points in the integral image.  Points can be anywhere in the image
+	 * and are processed with a single function call, avoiding per point overhead.
+	 *
+	 * @param integral Input integral image. Not modified.
+	 * @param kernel Convolution kernel.
+	 * @param points Pixel coordinates the convolution is performed at. Interleaved as (x,y) pairs.
+	 * @param numPoints Number of points.
+	 * @param output Storage for the value of the convolution at each point. Modified.
+	 */
+	public static void convolveSparse(GrayS64 integral , IntegralKernel kernel ,
+									  int[] points , int numPoints , long[] output )
+	{
+		checkBatchSize(points.length,output.length,numPoints,2);
+		ImplIntegralImageOps.convolveSparse(integral,kernel,points,numPoints,output);
+	}
+
 	/**
 	 * <p>
 	 * Computes the value of a block inside an integral image without bounds checking.  The block is
@@ -338,6 +448,21 @@ public class IntegralImageOps {
 		return ImplIntegralImageOps.block_unsafe(integral,x0,y0,x1,y1);
 	}
 
+	/**
+	 * Computes the value of multiple blocks inside an integral image without bounds checking.  See
+	 * {@link #block_unsafe(GrayF64, int, int, int, int)} for how a block is defined.
+	 *
+	 * @param integral Integral image.
+	 * @param blocks Bounds of each block.  Interleaved as (x0,y0,x1,y1).
+	 * @param numBlocks Number of blocks.
+	 * @param output Storage for the value inside of each block. Modified.
+	 */
+	public static void block_unsafe(GrayF64 integral , int[] blocks , int numBlocks , double[] output )
+	{
+		checkBatchSize(blocks.length,output.length,numBlocks,4);
+		ImplIntegralImageOps.block_unsafe(integral,blocks,numBlocks,output);
+	}
+
 	/**
 	 * <p>
 	 * Computes the value of a block inside an integral image without bounds checking.  The block is
@@ -356,6 +481,21 @@ public class IntegralImageOps {
 		return ImplIntegralImageOps.block_unsafe(integral,x0,y0,x1,y1);
 	}
 
+	/**
+	 * Computes the value of multiple blocks inside an integral image without bounds checking.  See
+	 * {@link #block_unsafe(GrayF32, int, int, int, int)} for how a block is defined.
+	 *
+	 * @param integral Integral image.
+	 * @param blocks Bounds of each block.  Interleaved as (x0,y0,x1,y1).
+	 * @param numBlocks Number of blocks.
+	 * @param output Storage for the value inside of each block. Modified.
+	 */
+	public static void block_unsafe(GrayF32 integral , int[] blocks , int numBlocks , float[] output )
+	{
+		checkBatchSize(blocks.length,output.length,numBlocks,4);
+		ImplIntegralImageOps.block_unsafe(integral,blocks,numBlocks,output);
+	}
+
 	/**
 	 * <p>
 	 * Computes the value of a block inside an integral image without bounds checking.  The block is
@@ -374,6 +514,21 @@ public class IntegralImageOps {
 		return ImplIntegralImageOps.block_unsafe(integral, x0, y0, x1, y1);
 	}
 
+	/**
+	 * Computes the value of multiple blocks inside an integral image without bounds checking.  See
+	 * {@link #block_unsafe(GrayS32, int, int, int, int)} for how a block is defined.
+	 *
+	 * @param integral Integral image.
+	 * @param blocks Bounds of each block.  Interleaved as (x0,y0,x1,y1).
+	 * @param numBlocks Number of blocks.
+	 * @param output Storage for the value inside of each block. Modified.
+	 */
+	public static void block_unsafe(GrayS32 integral , int[] blocks , int numBlocks , int[] output )
+	{
+		checkBatchSize(blocks.length,output.length,numBlocks,4);
+		ImplIntegralImageOps.block_unsafe(integral,blocks,numBlocks,output);
+	}
+
 	/**
 	 * <p>
 	 * Computes the value of a block inside an integral image without bounds checking.  The block is
@@ -392,6 +547,21 @@ public class IntegralImageOps {
 		return ImplIntegralImageOps.block_unsafe(integral, x0, y0, x1, y1);
 	}
 
+	/**
+	 * Computes the value of multiple blocks inside an integral image without bounds checking.  See
+	 * {@link #block_unsafe(GrayS64, int, int, int, int)} for how a block is defined.
+	 *
+	 * @param integral Integral image.
+	 * @param blocks Bounds of each block.  Interleaved as (x0,y0,x1,y1).
+	 * @param numBlocks Number of blocks.
+	 * @param output Storage for the value inside of each block. Modified.
+	 */
+	public static void block_unsafe(GrayS64 integral , int[] blocks , int numBlocks , long[] output )
+	{
+		checkBatchSize(blocks.length,output.length,numBlocks,4);
+		ImplIntegralImageOps.block_unsafe(integral,blocks,numBlocks,output);
+	}
+
 	/**
 	 * <p>
 	 * Computes the value of a block inside an integral image and treats pixels outside of the
@@ -532,4 +702,14 @@ public class IntegralImageOps {
 
 		return true;
 	}
+
+	/**
+	 * Makes sure the arrays passed to a batch function are large enough
+	 */
+	private static void checkBatchSize( int inputLength , int outputLength , int count , int valuesPerInput ) {
+		if( inputLength < count*valuesPerInput )
+			throw new IllegalArgumentException("Input array is too small. "+inputLength+" < "+(count*valuesPerInput));
+		if( outputLength < count )
+			throw new IllegalArgumentException("Output array is too small. "+outputLength+" < "+count);
+	}
 }
@@ -114,6 +114,32 @@ public class ImplIntegralImageOps {
 		}
 	}
 
+	public static void transform(final GrayU8 input , final GrayS64 transformed )
+	{
+		int indexSrc = input.startIndex;
+		int indexDst = transformed.startIndex;
+		int end = indexSrc + input.width;
+
+		long total = 0;
+		for( ; indexSrc < end; indexSrc++ ) {
+			transformed.data[indexDst++] = total += input.data[indexSrc]& 0xFF;
+		}
+
+		for( int y = 1; y < input.height; y++ ) {
+			indexSrc = input.startIndex + input.stride*y;
+			indexDst = transformed.startIndex + transformed.stride*y;
+			int indexPrev = indexDst - transformed.stride;
+
+			end = indexSrc + input.width;
+
+			total = 0;
+			for( ; indexSrc < end; indexSrc++ ) {
+				total +=  input.data[indexSrc]& 0xFF;
+				transformed.data[indexDst++] = transformed.data[indexPrev++] + total;
+			}
+		}
+	}
+
 	public static void transform(final GrayS32 input , final GrayS32 transformed )
 	{
 		int indexSrc = input.startIndex;
@@ -239,6 +265,40 @@ public class ImplIntegralImageOps {
 		return ret;
 	}
 
+	public static void convolveSparse( GrayF32 integral , IntegralKernel kernel ,
+									   int[] points , int numPoints , float[] output )
+	{
+		int N = kernel.getNumBlocks();
+
+		// region the kernel touches relative to the point
+		int minX = Integer.MAX_VALUE, minY = Integer.MAX_VALUE;
+		int maxX = Integer.MIN_VALUE, maxY = Integer.MIN_VALUE;
+		for( int i = 0; i < N; i++ ) {
+			ImageRectangle r = kernel.blocks[i];
+			minX = Math.min(minX,r.x0); minY = Math.min(minY,r.y0);
+			maxX = Math.max(maxX,r.x1); maxY = Math.max(maxY,r.y1);
+		}
+
+		for( int i = 0, j = 0; i < numPoints; i++ ) {
+			int x = points[j++];
+			int y = points[j++];
+
+			float total = 0;
+			if( x+minX >= 0 && y+minY >= 0 && x+maxX < integral.width && y+maxY < integral.height ) {
+				for( int k = 0; k < N; k++ ) {
+					ImageRectangle r = kernel.blocks[k];
+					total += block_unsafe(integral,x+r.x0,y+r.y0,x+r.x1,y+r.y1)*kernel.scales[k];
+				}
+			} else {
+				for( int k = 0; k < N; k++ ) {
+					ImageRectangle r = kernel.blocks[k];
+					total += block_zero(integral,x+r.x0,y+r.y0,x+r.x1,y+r.y1)*kernel.scales[k];
+				}
+			}
+			output[i] = total;
+		}
+	}
+
 	public static float block_unsafe(GrayF32 integral , int x0 , int y0 , int x1 , int y1 )
 	{
 		float br = integral.data[ integral.startIndex + y1*integral.stride + x1 ];
@@ -249,6 +309,22 @@ public class ImplIntegralImageOps {
 		return br-tr-bl+tl;
 	}
 
+	public static void block_unsafe( GrayF32 integral , int[] blocks , int numBlocks , float[] output )
+	{
+		for( int i = 0, j = 0; i < numBlocks; i++ ) {
+			int x0 = blocks[j++];
+			int y0 = blocks[j++];
+			int x1 = blocks[j++];
+			int y1 = blocks[j++];
+
+			int row0 = integral.startIndex + y0*integral.stride;
+			int row1 = integral.startIndex + y1*integral.stride;
+
+			output[i] = integral.data[row1+x1] - integral.data[row0+x1] -
+					integral.data[row1+x0] + integral.data[row0+x0];
+		}
+	}
+
 	public static float block_zero(GrayF32 integral , int x0 , int y0 , int x1 , int y1 )
 	{
 		x0 = Math.min(x0,integral.width-1);
@@ -343,6 +419,40 @@ public class ImplIntegralImageOps {
 		return ret;
 	}
 
+	public static void convolveSparse( GrayS32 integral , IntegralKernel kernel ,
+									   int[] points , int numPoints , int[] output )
+	{
+		int N = kernel.getNumBlocks();
+
+		// region the kernel touches relative to the point
+		int minX = Integer.MAX_VALUE, minY = Integer.MAX_VALUE;
+		int maxX = Integer.MIN_VALUE, maxY = Integer.MIN_VALUE;
+		for( int i = 0; i < N; i++ ) {
+			ImageRectangle r = kernel.blocks[i];
+			minX = Math.min(minX,r.x0); minY = Math.min(minY,r.y0);
+			maxX = Math.max(maxX,r.x1); maxY = Math.max(maxY,r.y1);
+		}
+
+		for( int i = 0, j = 0; i < numPoints; i++ ) {
+			int x = points[j++];
+			int y = points[j++];
+
+			int total = 0;
+			if( x+minX >= 0 && y+minY >= 0 && x+maxX < integral.width && y+maxY < integral.height ) {
+				for( int k = 0; k < N; k++ ) {
+					ImageRectangle r = kernel.blocks[k];
+					total += block_unsafe(integral,x+r.x0,y+r.y0,x+r.x1,y+r.y1)*kernel.scales[k];
+				}
+			} else {
+				for( int k = 0; k < N; k++ ) {
+					ImageRectangle r = kernel.blocks[k];
+					total += block_zero(integral,x+r.x0,y+r.y0,x+r.x1,y+r.y1)*kernel.scales[k];
+				}
+			}
+			output[i] = total;
+		}
+	}
+
 	public static int block_unsafe(GrayS32 integral , int x0 , int y0 , int x1 , int y1 )
 	{
 		int br = integral.data[ integral.startIndex + y1*integral.stride + x1 ];
@@ -353,6 +463,22 @@ public class ImplIntegralImageOps {
 		return br-tr-bl+tl;
 	}
 
+	public static void block_unsafe( GrayS32 integral , int[] blocks , int numBlocks , int[] output )
+	{
+		for( int i = 0, j = 0; i < numBlocks; i++ ) {
+			int x0 = blocks[j++];
+			int y0 = blocks[j++];
+			int x1 = blocks[j++];
+			int y1 = blocks[j++];
+
+			int row0 = integral.startIndex + y0*integral.stride;
+			int row1 = integral.startIndex + y1*integral.stride;
+
+			output[i] = integral.data[row1+x1] - integral.data[row0+x1] -
+					integral.data[row1+x0] + integral.data[row0+x0];
+		}
+	}
+
 	public static int block_zero(GrayS32 integral , int x0 , int y0 , int x1 , int y1 )
 	{
 		x0 = Math.min(x0,integral.width-1);
@@ -447,6 +573,40 @@ public class ImplIntegralImageOps {
 		return ret;
 	}
 
+	public static void convolveSparse( GrayF64 integral , IntegralKernel kernel ,
+									   int[] points , int numPoints , double[] output )
+	{
+		int N = kernel.getNumBlocks();
+
+		// region the kernel touches relative to the point
+		int minX = Integer.MAX_VALUE, minY = Integer.MAX_VALUE;
+		int maxX = Integer.MIN_VALUE, maxY = Integer.MIN_VALUE;
+		for( int i = 0; i < N; i++ ) {
+			ImageRectangle r = kernel.blocks[i];
+			minX = Math.min(minX,r.x0); minY = Math.min(minY,r.y0);
+			maxX = Math.max(maxX,r.x1); maxY = Math.max(maxY,r.y1);
+		}
+
+		for( int i = 0, j = 0; i < numPoints; i++ ) {
+			int x = points[j++];
+			int y = points[j++];
+
+			double total = 0;
+			if( x+minX >= 0 && y+minY >= 0 && x+maxX < integral.width && y+maxY < integral.height ) {
+				for( int k = 0; k < N; k++ ) {
+					ImageRectangle r = kernel.blocks[k];
+					total += block_unsafe(integral,x+r.x0,y+r.y0,x+r.x1,y+r.y1)*kernel.scales[k];
+				}
+			} else {
+				for( int k = 0; k < N; k++ ) {
+					ImageRectangle r = kernel.blocks[k];
+					total += block_zero(integral,x+r.x0,y+r.y0,x+r.x1,y+r.y1)*kernel.scales[k];
+				}
+			}
+			output[i] = total;
+		}
+	}
+
 	public static double block_unsafe(GrayF64 integral , int x0 , int y0 , int x1 , int y1 )
 	{
 		double br = integral.data[ integral.startIndex + y1*integral.stride + x1 ];
@@ -457,6 +617,22 @@ public class ImplIntegralImageOps {
 		return br-tr-bl+tl;
 	}
 
+	public static void block_unsafe( GrayF64 integral , int[] blocks , int numBlocks , double[] output )
+	{
+		for( int i = 0, j = 0; i < numBlocks; i++ ) {
+			int x0 = blocks[j++];
+			int y0 = blocks[j++];
+			int x1 = blocks[j++];
+			int y1 = blocks[j++];
+
+			int row0 = integral.startIndex + y0*integral.stride;
+			int row1 = integral.startIndex + y1*integral.stride;
+
+			output[i] = integral.data[row1+x1] - integral.data[row0+x1] -
+					integral.data[row1+x0] + integral.data[row0+x0];
+		}
+	}
+
 	public static double block_zero(GrayF64 integral , int x0 , int y0 , int x1 , int y1 )
 	{
 		x0 = Math.min(x0,integral.width-1);
@@ -551,6 +727,40 @@ public class ImplIntegralImageOps {
 		return ret;
 	}
 
+	public static void convolveSparse( GrayS64 integral , IntegralKernel kernel ,
+									   int[] points , int numPoints , long[] output )
+	{
+		int N = kernel.getNumBlocks();
+
+		// region the kernel touches relative to the point
+		int minX = Integer.MAX_VALUE, minY = Integer.MAX_VALUE;
+		int maxX = Integer.MIN_VALUE, maxY = Integer.MIN_VALUE;
+		for( int i = 0; i < N; i++ ) {
+			ImageRectangle r = kernel.blocks[i];
+			minX = Math.min(minX,r.x0); minY = Math.min(minY,r.y0);
+			maxX = Math.max(maxX,r.x1); maxY = Math.max(maxY,r.y1);
+		}
+
+		for( int i = 0, j = 0; i < numPoints; i++ ) {
+			int x = points[j++];
+			int y = points[j++];
+
+			long total = 0;
+			if( x+minX >= 0 && y+minY >= 0 && x+maxX < integral.width && y+maxY < integral.height ) {
+				for( int k = 0; k < N; k++ ) {
+					ImageRectangle r = kernel.blocks[k];
+					total += block_unsafe(integral,x+r.x0,y+r.y0,x+r.x1,y+r.y1)*kernel.scales[k];
+				}
+			} else {
+				for( int k = 0; k < N; k++ ) {
+					ImageRectangle r = kernel.blocks[k];
+					total += block_zero(integral,x+r.x0,y+r.y0,x+r.x1,y+r.y1)*kernel.scales[k];
+				}
+			}
+			output[i] = total;
+		}
+	}
+
 	public static long block_unsafe(GrayS64 integral , int x0 , int y0 , int x1 , int y1 )
 	{
 		long br = integral.data[ integral.startIndex + y1*integral.stride + x1 ];
@@ -561,6 +771,22 @@ public class ImplIntegralImageOps {
 		return br-tr-bl+tl;
 	}
 
+	public static void block_unsafe( GrayS64 integral , int[] blocks , int numBlocks , long[] output )
+	{
+		for( int i = 0, j = 0; i < numBlocks; i++ ) {
+			int x0 = blocks[j++];
+			int y0 = blocks[j++];
+			int x1 = blocks[j++];
+			int y1 = blocks[j++];
+
+			int row0 = integral.startIndex + y0*integral.stride;
+			int row1 = integral.startIndex + y1*integral.stride;
+
+			output[i] = integral.data[row1+x1] - integral.data[row0+x1] -
+					integral.data[row1+x0] + integral.data[row0+x0];
+		}
+	}
+
 	public static long block_zero(GrayS64 integral , int x0 , int y0 , int x1 , int y1 )
 	{
 		x0 = Math.min(x0,integral.width-1);
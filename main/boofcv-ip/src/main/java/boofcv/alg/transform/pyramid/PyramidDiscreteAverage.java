@@ -45,22 +45,18 @@ public class PyramidDiscreteAverage<T extends ImageBase<T>> extends PyramidDiscr
 	}
 
 	@Override
-	public void process(T input) {
-		super.initialize(input.width,input.height);
-
-		if (scale[0] == 1) {
-			if (isSaveOriginalReference()) {
-				setFirstLayer(input);
+	protected void computeLayer(T input, int layer) {
+		if( layer == 0 ) {
+			if (scale[0] == 1) {
+				if (!isSaveOriginalReference()) {
+					layers[0].setTo(input);
+				}
 			} else {
-				getLayer(0).setTo(input);
+				AverageDownSampleOps.down(input, scale[0], layers[0]);
 			}
 		} else {
-			AverageDownSampleOps.down(input, scale[0], getLayer(0));
-		}
-
-		for (int index = 1; index < getNumLayers(); index++) {
-			int width = scale[index]/scale[index-1];
-			AverageDownSampleOps.down(getLayer(index-1),width,getLayer(index));
+			int width = scale[layer]/scale[layer-1];
+			AverageDownSampleOps.down(layers[layer-1],width,layers[layer]);
 		}
 	}
 
@@ -85,42 +85,34 @@ public class PyramidDiscreteSampleBlur<T extends ImageBase<T>> extends PyramidDi
 	}
 
 	@Override
-	public void process(T input) {
-		super.initialize(input.width,input.height);
-
+	protected void computeLayer(T input, int layer) {
 		if( temp == null ) {
 			// declare it to be the latest image that it might need to be, resize below
 			temp = (T)input.createNew(1,1);
 		}
 
-		if (scale[0] == 1) {
-			if (isSaveOriginalReference()) {
-				setFirstLayer(input);
-			} else {
-				getLayer(0).setTo(input);
+		T prev;
+		int skip;
+		if( layer == 0 ) {
+			if (scale[0] == 1) {
+				if (!isSaveOriginalReference()) {
+					layers[0].setTo(input);
+				}
+				return;
 			}
+			prev = input;
+			skip = scale[0];
 		} else {
-			int skip = scale[0];
-
-			horizontal.setSkip(skip);
-			vertical.setSkip(skip);
-
-			temp.reshape(input.width/skip,input.height);
-			horizontal.process(input,temp);
-			vertical.process(temp,getLayer(0));
+			prev = layers[layer-1];
+			skip = scale[layer]/scale[layer-1];
 		}
 
-		for (int index = 1; index < getNumLayers(); index++) {
-			int skip = scale[index]/scale[index-1];
-			T prev = getLayer(index-1);
-			temp.reshape(prev.width/skip,prev.height);
+		horizontal.setSkip(skip);
+		vertical.setSkip(skip);
 
-			horizontal.setSkip(skip);
-			vertical.setSkip(skip);
-
-			horizontal.process(prev,temp);
-			vertical.process(temp,getLayer(index));
-		}
+		temp.reshape(prev.width/skip,prev.height);
+		horizontal.process(prev,temp);
+		vertical.process(temp,layers[layer]);
 	}
 
 	/**
@@ -55,6 +55,8 @@ public class PyramidFloatGaussianScale< T extends ImageGray<T>> extends PyramidF
 
 	// how much each layer is blurred before sub-sampling
 	protected float[] sigmaLayers;
+	// filter used to blur each layer.  Declared the first time it's needed
+	protected BlurStorageFilter<T>[] blurs;
 
 	// The effective amount of blur in each pyramid layer relative to the input image
 	protected double[] sigma;
@@ -90,31 +92,37 @@ public class PyramidFloatGaussianScale< T extends ImageGray<T>> extends PyramidF
 
 	@Override
 	public void process(T input) {
-		super.initialize(input.width,input.height);
-
 		if( isSaveOriginalReference() )
 			throw new IllegalArgumentException("The original reference cannot be saved");
 
+		super.process(input);
+	}
+
+	@Override
+	protected void computeLayer(T input, int layer) {
 		if( tempImage == null ) {
 			tempImage = (T)input.createNew(input.width,input.height);
 		}
+		if( blurs == null ) {
+			blurs = new BlurStorageFilter[ sigmaLayers.length ];
+		}
+
+		T prev = layer == 0 ? input : layers[layer-1];
+		T output = layers[layer];
 
-		for( int i = 0; i < scale.length; i++ ) {
-			T prev = i == 0 ? input : getLayer(i-1);
-			T layer = getLayer(i);
-
-			// Apply the requested blur to the previous layer
-			BlurStorageFilter<T> blur = (BlurStorageFilter<T>) FactoryBlurFilter.gaussian(layer.getImageType(), sigmaLayers[i],-1);
-			tempImage.reshape(prev.width,prev.height);
-			blur.process(prev,tempImage);
-
-			// Resample the blurred image
-			if( scale[i] == 1 ) {
-				layer.setTo(tempImage);
-			} else {
-				PixelTransformAffine_F32 model = DistortSupport.transformScale(layer,tempImage, null);
-				DistortImageOps.distortSingle(tempImage,layer, true, model,interpolate);
-			}
+		// Apply the requested blur to the previous layer
+		if( blurs[layer] == null ) {
+			blurs[layer] = (BlurStorageFilter<T>) FactoryBlurFilter.gaussian(output.getImageType(), sigmaLayers[layer],-1);
+		}
+		tempImage.reshape(prev.width,prev.height);
+		blurs[layer].process(prev,tempImage);
+
+		// Resample the blurred image
+		if( scale[layer] == 1 ) {
+			output.setTo(tempImage);
+		} else {
+			PixelTransformAffine_F32 model = DistortSupport.transformScale(output,tempImage, null);
+			DistortImageOps.distortSingle(tempImage,output, true, model,interpolate);
 		}
 	}
 
@@ -49,18 +49,19 @@ public class PyramidFloatScale< T extends ImageGray<T>>
 
 	@Override
 	public void process(T input) {
-		super.initialize(input.width,input.height);
-		
 		if( isSaveOriginalReference() )
 			throw new IllegalArgumentException("The original reference cannot be saved");
 
-		for( int i = 0; i < scale.length; i++ ) {
-			T prev = i == 0 ? input : getLayer(i-1);
-			T layer = getLayer(i);
+		super.process(input);
+	}
+
+	@Override
+	protected void computeLayer(T input, int layer) {
+		T prev = layer == 0 ? input : layers[layer-1];
+		T output = layers[layer];
 
-			PixelTransformAffine_F32 model = DistortSupport.transformScale(layer,prev, null);
-			DistortImageOps.distortSingle(prev,layer, true, model,interpolate);
-		}
+		PixelTransformAffine_F32 model = DistortSupport.transformScale(output,prev, null);
+		DistortImageOps.distortSingle(prev,output, true, model,interpolate);
 	}
 
 	@Override
@@ -23,6 +23,8 @@ import boofcv.alg.misc.PixelMath;
 import boofcv.alg.transform.wavelet.impl.ImplWaveletTransformBorder;
 import boofcv.alg.transform.wavelet.impl.ImplWaveletTransformInner;
 import boofcv.alg.transform.wavelet.impl.ImplWaveletTransformNaive;
+import boofcv.alg.transform.wavelet.impl.ImplWaveletTransform_MT;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.struct.image.GrayF32;
 import boofcv.struct.image.GrayS32;
 import boofcv.struct.wavelet.WaveletDescription;
@@ -85,6 +87,9 @@ public class WaveletTransformOps {
 		if( input.getWidth() <= minSize || input.getHeight() <= minSize ) {
 			ImplWaveletTransformNaive.horizontal(desc.getBorder(),coef,input,storage);
 			ImplWaveletTransformNaive.vertical(desc.getBorder(),coef,storage,output);
+		} else if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplWaveletTransform_MT.horizontal(desc.getBorder(),coef,input,storage);
+			ImplWaveletTransform_MT.vertical(desc.getBorder(),coef,storage,output);
 		} else {
 			ImplWaveletTransformInner.horizontal(coef,input,storage);
 			ImplWaveletTransformBorder.horizontal(desc.getBorder(),coef,input,storage);
@@ -173,6 +178,9 @@ public class WaveletTransformOps {
 		if( output.getWidth() <= minSize || output.getHeight() <= minSize ) {
 			ImplWaveletTransformNaive.verticalInverse(desc.getBorder(),desc.getInverse(),input,storage);
 			ImplWaveletTransformNaive.horizontalInverse(desc.getBorder(),desc.getInverse(),storage,output);
+		} else if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplWaveletTransform_MT.verticalInverse(desc.getBorder(),desc.getInverse(),input,storage);
+			ImplWaveletTransform_MT.horizontalInverse(desc.getBorder(),desc.getInverse(),storage,output);
 		} else {
 			ImplWaveletTransformInner.verticalInverse(desc.getInverse().getInnerCoefficients(),input,storage);
 			ImplWaveletTransformBorder.verticalInverse(desc.getBorder(),desc.getInverse(),input,storage);
@@ -286,6 +294,9 @@ public class WaveletTransformOps {
 		if( input.getWidth() <= minSize || input.getHeight() <= minSize ) {
 			ImplWaveletTransformNaive.horizontal(desc.getBorder(),coef,input,storage);
 			ImplWaveletTransformNaive.vertical(desc.getBorder(),coef,storage,output);
+		} else if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplWaveletTransform_MT.horizontal(desc.getBorder(),coef,input,storage);
+			ImplWaveletTransform_MT.vertical(desc.getBorder(),coef,storage,output);
 		} else {
 			ImplWaveletTransformInner.horizontal(coef,input,storage);
 			ImplWaveletTransformBorder.horizontal(desc.getBorder(),coef,input,storage);
@@ -374,6 +385,9 @@ public class WaveletTransformOps {
 		if( output.getWidth() <= minSize || output.getHeight() <= minSize ) {
 			ImplWaveletTransformNaive.verticalInverse(desc.getBorder(),desc.getInverse(),input,storage);
 			ImplWaveletTransformNaive.horizontalInverse(desc.getBorder(),desc.getInverse(),storage,output);
+		} else if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplWaveletTransform_MT.verticalInverse(desc.getBorder(),desc.getInverse(),input,storage);
+			ImplWaveletTransform_MT.horizontalInverse(desc.getBorder(),desc.getInverse(),storage,output);
 		} else {
 			ImplWaveletTransformInner.verticalInverse(desc.getInverse().getInnerCoefficients(),input,storage);
 			ImplWaveletTransformBorder.verticalInverse(desc.getBorder(),desc.getInverse(),input,storage);
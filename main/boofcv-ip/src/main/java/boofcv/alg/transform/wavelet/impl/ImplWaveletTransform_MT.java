@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.transform.wavelet.impl;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeConsumer;
+import boofcv.core.image.border.BorderIndex1D;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayS32;
+import boofcv.struct.wavelet.WlBorderCoef;
+import boofcv.struct.wavelet.WlCoef_F32;
+import boofcv.struct.wavelet.WlCoef_I32;
+
+/**
+ * <p>
+ * Concurrent wavelet transform built on top of {@link ImplWaveletTransformInner} and
+ * {@link ImplWaveletTransformBorder}.  Horizontal passes are split into bands of rows and vertical passes
+ * into bands of columns.  Each band is a sub-image which spans the full length of the axis being transformed,
+ * so the inner and border functions can be applied to it unmodified.
+ * </p>
+ *
+ * <p>
+ * {@link BorderIndex1D} stores the length of the array it's applied to, so each band gets its own instance.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class ImplWaveletTransform_MT {
+
+	/**
+	 * Forward horizontal transform of the inner image and its border.  Rows are split into bands.
+	 */
+	public static void horizontal( BorderIndex1D border , final WlCoef_F32 coefficients ,
+								   final GrayF32 input , final GrayF32 output ) {
+		final Class<? extends BorderIndex1D> borderType = border.getClass();
+		BoofConcurrency.loopBlocks(0, input.height, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				GrayF32 bandIn = input.subimage(0, y0, input.width, y1);
+				GrayF32 bandOut = output.subimage(0, y0, output.width, y1);
+				ImplWaveletTransformInner.horizontal(coefficients, bandIn, bandOut);
+				ImplWaveletTransformBorder.horizontal(newBorder(borderType), coefficients, bandIn, bandOut);
+			}
+		});
+	}
+
+	/**
+	 * Forward vertical transform of the inner image and its border.  Columns are split into bands.
+	 */
+	public static void vertical( BorderIndex1D border , final WlCoef_F32 coefficients ,
+								 final GrayF32 input , final GrayF32 output ) {
+		final Class<? extends BorderIndex1D> borderType = border.getClass();
+		BoofConcurrency.loopBlocks(0, input.width, new IntRangeConsumer() {
+			@Override
+			public void accept(int x0, int x1) {
+				GrayF32 bandIn = input.subimage(x0, 0, x1, input.height);
+				GrayF32 bandOut = output.subimage(x0, 0, x1, output.height);
+				ImplWaveletTransformInner.vertical(coefficients, bandIn, bandOut);
+				ImplWaveletTransformBorder.vertical(newBorder(borderType), coefficients, bandIn, bandOut);
+			}
+		});
+	}
+
+	/**
+	 * Inverse horizontal transform of the inner image and its border.  Rows are split into bands.
+	 */
+	public static void horizontalInverse( BorderIndex1D border , final WlBorderCoef<WlCoef_F32> desc ,
+										  final GrayF32 input , final GrayF32 output ) {
+		final Class<? extends BorderIndex1D> borderType = border.getClass();
+		BoofConcurrency.loopBlocks(0, output.height, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				GrayF32 bandIn = input.subimage(0, y0, input.width, y1);
+				GrayF32 bandOut = output.subimage(0, y0, output.width, y1);
+				ImplWaveletTransformInner.horizontalInverse(desc.getInnerCoefficients(), bandIn, bandOut);
+				ImplWaveletTransformBorder.horizontalInverse(newBorder(borderType), desc, bandIn, bandOut);
+			}
+		});
+	}
+
+	/**
+	 * Inverse vertical transform of the inner image and its border.  Columns are split into bands.
+	 */
+	public static void verticalInverse( BorderIndex1D border , final WlBorderCoef<WlCoef_F32> desc ,
+										final GrayF32 input , final GrayF32 output ) {
+		final Class<? extends BorderIndex1D> borderType = border.getClass();
+		BoofConcurrency.loopBlocks(0, output.width, new IntRangeConsumer() {
+			@Override
+			public void accept(int x0, int x1) {
+				GrayF32 bandIn = input.subimage(x0, 0, x1, input.height);
+				GrayF32 bandOut = output.subimage(x0, 0, x1, output.height);
+				ImplWaveletTransformInner.verticalInverse(desc.getInnerCoefficients(), bandIn, bandOut);
+				ImplWaveletTransformBorder.verticalInverse(newBorder(borderType), desc, bandIn, bandOut);
+			}
+		});
+	}
+
+	/**
+	 * Forward horizontal transform of the inner image and its border.  Rows are split into bands.
+	 */
+	public static void horizontal( BorderIndex1D border , final WlCoef_I32 coefficients ,
+								   final GrayS32 input , final GrayS32 output ) {
+		final Class<? extends BorderIndex1D> borderType = border.getClass();
+		BoofConcurrency.loopBlocks(0, input.height, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				GrayS32 bandIn = input.subimage(0, y0, input.width, y1);
+				GrayS32 bandOut = output.subimage(0, y0, output.width, y1);
+				ImplWaveletTransformInner.horizontal(coefficients, bandIn, bandOut);
+				ImplWaveletTransformBorder.horizontal(newBorder(borderType), coefficients, bandIn, bandOut);
+			}
+		});
+	}
+
+	/**
+	 * Forward vertical transform of the inner image and its border.  Columns are split into bands.
+	 */
+	public static void vertical( BorderIndex1D border , final WlCoef_I32 coefficients ,
+								 final GrayS32 input , final GrayS32 output ) {
+		final Class<? extends BorderIndex1D> borderType = border.getClass();
+		BoofConcurrency.loopBlocks(0, input.width, new IntRangeConsumer() {
+			@Override
+			public void accept(int x0, int x1) {
+				GrayS32 bandIn = input.subimage(x0, 0, x1, input.height);
+				GrayS32 bandOut = output.subimage(x0, 0, x1, output.height);
+				ImplWaveletTransformInner.vertical(coefficients, bandIn, bandOut);
+				ImplWaveletTransformBorder.vertical(newBorder(borderType), coefficients, bandIn, bandOut);
+			}
+		});
+	}
+
+	/**
+	 * Inverse horizontal transform of the inner image and its border.  Rows are split into bands.
+	 */
+	public static void horizontalInverse( BorderIndex1D border , final WlBorderCoef<WlCoef_I32> desc ,
+										  final GrayS32 input , final GrayS32 output ) {
+		final Class<? extends BorderIndex1D> borderType = border.getClass();
+		BoofConcurrency.loopBlocks(0, output.height, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				GrayS32 bandIn = input.subimage(0, y0, input.width, y1);
+				GrayS32 bandOut = output.subimage(0, y0, output.width, y1);
+				ImplWaveletTransformInner.horizontalInverse(desc.getInnerCoefficients(), bandIn, bandOut);
+				ImplWaveletTransformBorder.horizontalInverse(newBorder(borderType), desc, bandIn, bandOut);
+			}
+		});
+	}
+
+	/**
+	 * Inverse vertical transform of the inner image and its border.  Columns are split into bands.
+	 */
+	public static void verticalInverse( BorderIndex1D border , final WlBorderCoef<WlCoef_I32> desc ,
+										final GrayS32 input , final GrayS32 output ) {
+		final Class<? extends BorderIndex1D> borderType = border.getClass();
+		BoofConcurrency.loopBlocks(0, output.width, new IntRangeConsumer() {
+			@Override
+			public void accept(int x0, int x1) {
+				GrayS32 bandIn = input.subimage(x0, 0, x1, input.height);
+				GrayS32 bandOut = output.subimage(x0, 0, x1, output.height);
+				ImplWaveletTransformInner.verticalInverse(desc.getInnerCoefficients(), bandIn, bandOut);
+				ImplWaveletTransformBorder.verticalInverse(newBorder(borderType), desc, bandIn, bandOut);
+			}
+		});
+	}
+
+	private static BorderIndex1D newBorder( Class<? extends BorderIndex1D> type ) {
+		try {
+			return type.newInstance();
+		} catch (InstantiationException | IllegalAccessException e) {
+			throw new RuntimeException(e);
+		}
+	}
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.concurrency;
+
+import org.ddogleg.struct.FastQueue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * <p>
+ * Central location for concurrency in BoofCV.  Work is split into contiguous blocks, e.g. a set of image rows,
+ * which are then processed by a shared {@link ForkJoinPool}.  Concurrent implementations of an algorithm
+ * have the _MT suffix and produce the same results as the single threaded version, except for floating point
+ * algorithms with a running sum. Those restart the sum in each block and can differ by round off error. High level
+ * functions do not switch to those implementations when {@link #USE_CONCURRENT} is true, so their output
+ * does not depend on the number of threads.
+ * </p>
+ *
+ * <p>
+ * {@link #USE_CONCURRENT} is a global switch which high level functions, e.g. BlurImageOps, check to see if
+ * they should call the concurrent implementation. The _MT classes can always be called directly.  The
+ * maximum number of threads is controlled by {@link #setMaxThreads(int)}. If it's set to one then all
+ * work is done inside the calling thread.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class BoofConcurrency {
+
+	/**
+	 * If true then functions with a concurrent implementation will use it. This is true by default, so existing
+	 * code which calls those functions will run in multiple threads unless it is set to false.
+	 */
+	public static boolean USE_CONCURRENT = true;
+
+	// The thread pool which all work is submitted to. Volatile since it's replaced by setMaxThreads()
+	private static volatile ForkJoinPool pool = new ForkJoinPool();
+
+	/**
+	 * Changes the maximum number of threads available in the thread pool. The old pool is shutdown
+	 * once all previously submitted tasks have finished.
+	 *
+	 * @param maxThreads Maximum number of threads. Must be &ge; 1
+	 */
+	public static synchronized void setMaxThreads( int maxThreads ) {
+		if( maxThreads <= 0 )
+			throw new IllegalArgumentException("Number of threads must be at least one");
+		if( maxThreads == pool.getParallelism() )
+			return;
+		ForkJoinPool old = pool;
+		pool = new ForkJoinPool(maxThreads);
+		old.shutdown();
+	}
+
+	/**
+	 * Returns the maximum number of threads which will be used
+	 */
+	public static int getMaxThreads() {
+		return pool.getParallelism();
+	}
+
+	/**
+	 * Returns the thread pool all concurrent tasks are submitted to
+	 */
+	public static ForkJoinPool getPool() {
+		return pool;
+	}
+
+	/**
+	 * Number of blocks that a range will be split into. Never more than the maximum number of threads
+	 * and each block will have at least minBlock elements, unless the whole range is smaller than that.
+	 *
+	 * @param range Number of elements which are to be processed
+	 * @param minBlock Minimum number of elements in a block
+	 * @return number of blocks. Zero if the range is empty
+	 */
+	public static int computeNumberOfBlocks( int range , int minBlock ) {
+		if( range <= 0 )
+			return 0;
+		int blocks = range/Math.max(1,minBlock);
+		return Math.max(1,Math.min(getMaxThreads(),blocks));
+	}
+
+	/**
+	 * Splits the range into blocks and processes each block in a different thread. Blocks can contain as
+	 * few as one element.
+	 *
+	 * @see #loopBlocks(int, int, int, IntRangeConsumer)
+	 */
+	public static void loopBlocks( int start , int endExclusive , IntRangeConsumer consumer ) {
+		loopBlocks(start,endExclusive,1,consumer);
+	}
+
+	/**
+	 * Splits the range into blocks and processes each block in a different thread. Returns once every
+	 * block has been processed.  If any block throws an exception it's passed on to the caller.
+	 *
+	 * @param start First element, inclusive
+	 * @param endExclusive Last element, exclusive
+	 * @param minBlock Minimum number of elements in a block. Used to avoid overhead from tiny blocks.
+	 * @param consumer Processes each block
+	 */
+	public static void loopBlocks( int start , int endExclusive , int minBlock ,
+								   final IntRangeConsumer consumer ) {
+		final int range = endExclusive-start;
+		final int numBlocks = computeNumberOfBlocks(range,minBlock);
+		if( numBlocks == 0 )
+			return;
+		if( numBlocks == 1 ) {
+			consumer.accept(start, endExclusive);
+			return;
+		}
+
+		List<RecursiveAction> tasks = new ArrayList<>(numBlocks);
+		for (int i = 0; i < numBlocks; i++) {
+			final int y0 = start + blockOffset(range,numBlocks,i);
+			final int y1 = start + blockOffset(range,numBlocks,i+1);
+			tasks.add(new RecursiveAction() {
+				@Override
+				protected void compute() {
+					consumer.accept(y0, y1);
+				}
+			});
+		}
+		invokeAll(tasks);
+	}
+
+	/**
+	 * Splits the range into blocks and processes each block in a different thread. Each block is
+	 * provided with its own workspace.  The workspace is resized to match the number of blocks, allowing
+	 * results to be combined after this function returns.  Workspace instances are recycled
+	 * between calls.
+	 *
+	 * @param start First element, inclusive
+	 * @param endExclusive Last element, exclusive
+	 * @param minBlock Minimum number of elements in a block. Used to avoid overhead from tiny blocks.
+	 * @param workspace Storage for per block workspace. Must declare instances.
+	 * @param consumer Processes each block
+	 */
+	public static <T> void loopBlocks( int start , int endExclusive , int minBlock ,
+									   FastQueue<T> workspace ,
+									   final IntRangeObjectConsumer<T> consumer ) {
+		final int range = endExclusive-start;
+		final int numBlocks = computeNumberOfBlocks(range,minBlock);
+		workspace.resize(numBlocks);
+		if( numBlocks == 0 )
+			return;
+		if( numBlocks == 1 ) {
+			consumer.accept(workspace.get(0), start, endExclusive);
+			return;
+		}
+
+		List<RecursiveAction> tasks = new ArrayList<>(numBlocks);
+		for (int i = 0; i < numBlocks; i++) {
+			final T data = workspace.get(i);
+			final int y0 = start + blockOffset(range,numBlocks,i);
+			final int y1 = start + blockOffset(range,numBlocks,i+1);
+			tasks.add(new RecursiveAction() {
+				@Override
+				protected void compute() {
+					consumer.accept(data, y0, y1);
+				}
+			});
+		}
+		invokeAll(tasks);
+	}
+
+	/**
+	 * Offset of a block's first element relative to the start of the range
+	 */
+	static int blockOffset( int range , int numBlocks , int block ) {
+		return (int)((long)range*block/numBlocks);
+	}
+
+	/**
+	 * Runs all the tasks and waits for them to finish.  If already inside a fork join pool the
+	 * tasks are forked directly, which allows concurrent functions to be nested.
+	 */
+	private static void invokeAll( final List<RecursiveAction> tasks ) {
+		if( ForkJoinTask.inForkJoinPool() ) {
+			ForkJoinTask.invokeAll(tasks);
+		} else {
+			pool.invoke(new RecursiveAction() {
+				@Override
+				protected void compute() {
+					ForkJoinTask.invokeAll(tasks);
+				}
+			});
+		}
+	}
+}
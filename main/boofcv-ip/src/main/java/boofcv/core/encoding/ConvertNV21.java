@@ -18,6 +18,7 @@
 
 package boofcv.core.encoding;
 
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.struct.image.*;
 
 /**
@@ -134,7 +135,11 @@ public class ConvertNV21 {
 			output = new GrayF32(width,height);
 		}
 
-		ImplConvertNV21.nv21ToGray(data, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertNV21_MT.nv21ToGray(data, output);
+		} else {
+			ImplConvertNV21.nv21ToGray(data, output);
+		}
 
 		return output;
 	}
@@ -179,7 +184,11 @@ public class ConvertNV21 {
 		else if( output.getNumBands() != 3 )
 			throw new IllegalArgumentException("three bands expected");
 
-		ImplConvertNV21.nv21ToPlanarYuv_U8(data,output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertNV21_MT.nv21ToPlanarYuv_U8(data,output);
+		} else {
+			ImplConvertNV21.nv21ToPlanarYuv_U8(data,output);
+		}
 
 		return output;
 	}
@@ -201,7 +210,11 @@ public class ConvertNV21 {
 		else if( output.getNumBands() != 3 )
 			throw new IllegalArgumentException("three bands expected");
 
-		ImplConvertNV21.nv21ToPlanarRgb_U8(data, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertNV21_MT.nv21ToPlanarRgb_U8(data, output);
+		} else {
+			ImplConvertNV21.nv21ToPlanarRgb_U8(data, output);
+		}
 
 		return output;
 	}
@@ -223,7 +236,11 @@ public class ConvertNV21 {
 		else if( output.getNumBands() != 3 )
 			throw new IllegalArgumentException("three bands expected");
 
-		ImplConvertNV21.nv21ToInterleaved_U8(data, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertNV21_MT.nv21ToInterleaved_U8(data, output);
+		} else {
+			ImplConvertNV21.nv21ToInterleaved_U8(data, output);
+		}
 
 		return output;
 	}
@@ -245,7 +262,11 @@ public class ConvertNV21 {
 		else if( output.getNumBands() != 3 )
 			throw new IllegalArgumentException("three bands expected");
 
-		ImplConvertNV21.nv21ToPlanarYuv_F32(data, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertNV21_MT.nv21ToPlanarYuv_F32(data, output);
+		} else {
+			ImplConvertNV21.nv21ToPlanarYuv_F32(data, output);
+		}
 
 		return output;
 	}
@@ -267,7 +288,11 @@ public class ConvertNV21 {
 		else if( output.getNumBands() != 3 )
 			throw new IllegalArgumentException("three bands expected");
 
-		ImplConvertNV21.nv21ToPlanarRgb_F32(data, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertNV21_MT.nv21ToPlanarRgb_F32(data, output);
+		} else {
+			ImplConvertNV21.nv21ToPlanarRgb_F32(data, output);
+		}
 
 		return output;
 	}
@@ -289,7 +314,11 @@ public class ConvertNV21 {
 		else if( output.getNumBands() != 3 )
 			throw new IllegalArgumentException("three bands expected");
 
-		ImplConvertNV21.nv21ToInterleaved_F32(data, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertNV21_MT.nv21ToInterleaved_F32(data, output);
+		} else {
+			ImplConvertNV21.nv21ToInterleaved_F32(data, output);
+		}
 
 		return output;
 	}
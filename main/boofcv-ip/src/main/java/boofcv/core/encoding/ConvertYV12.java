@@ -18,7 +18,7 @@
 
 package boofcv.core.encoding;
 
-
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.struct.image.*;
 
 /**
@@ -43,9 +43,17 @@ public class ConvertYV12 {
             Planar ms = (Planar) output;
 
             if (ms.getBandType() == GrayU8.class) {
-                ImplConvertYV12.yv12ToPlanarRgb_U8(data, ms);
+                if( BoofConcurrency.USE_CONCURRENT ) {
+                    ImplConvertYV12_MT.yv12ToPlanarRgb_U8(data, ms);
+                } else {
+                    ImplConvertYV12.yv12ToPlanarRgb_U8(data, ms);
+                }
             } else if (ms.getBandType() == GrayF32.class) {
-                ImplConvertYV12.yv12ToPlanarRgb_F32(data, ms);
+                if( BoofConcurrency.USE_CONCURRENT ) {
+                    ImplConvertYV12_MT.yv12ToPlanarRgb_F32(data, ms);
+                } else {
+                    ImplConvertYV12.yv12ToPlanarRgb_F32(data, ms);
+                }
             } else {
                 throw new IllegalArgumentException("Unsupported output band format");
             }
@@ -59,9 +67,17 @@ public class ConvertYV12 {
             }
         } else if( output instanceof ImageInterleaved ) {
             if( output.getClass() == InterleavedU8.class ) {
-                ImplConvertYV12.yv12ToInterleaved(data, (InterleavedU8) output);
+                if( BoofConcurrency.USE_CONCURRENT ) {
+                    ImplConvertYV12_MT.yv12ToInterleaved(data, (InterleavedU8) output);
+                } else {
+                    ImplConvertYV12.yv12ToInterleaved(data, (InterleavedU8) output);
+                }
             } else if( output.getClass() == InterleavedF32.class ) {
-                ImplConvertYV12.yv12ToInterleaved(data, (InterleavedF32) output);
+                if( BoofConcurrency.USE_CONCURRENT ) {
+                    ImplConvertYV12_MT.yv12ToInterleaved(data, (InterleavedF32) output);
+                } else {
+                    ImplConvertYV12.yv12ToInterleaved(data, (InterleavedF32) output);
+                }
             } else {
                 throw new IllegalArgumentException("Unsupported output type");
             }
@@ -109,7 +125,11 @@ public class ConvertYV12 {
             output = new GrayF32(width,height);
         }
 
-        ImplConvertNV21.nv21ToGray(data, output);
+        if( BoofConcurrency.USE_CONCURRENT ) {
+            ImplConvertNV21_MT.nv21ToGray(data, output);
+        } else {
+            ImplConvertNV21.nv21ToGray(data, output);
+        }
 
         return output;
     }
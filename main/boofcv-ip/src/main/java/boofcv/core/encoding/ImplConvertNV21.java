@@ -24,6 +24,9 @@ import boofcv.struct.image.*;
  * NV21:  The format is densely packed.  Y is full resolution and UV are interlaced and 1/2 resolution.
  *        So same UV values within a 2x2 square
  *
+ * Functions which take in a range of rows only write to the output rows from row0 (inclusive) to row1 (exclusive).
+ * That way different bands of rows can be converted in different threads.
+ *
  * @author Peter Abeles
  */
 public class ImplConvertNV21 {
@@ -48,12 +51,27 @@ public class ImplConvertNV21 {
 		}
 	}
 
+	public static void nv21ToGray(byte[] dataNV, GrayU8 output, int row0 , int row1 ) {
+
+		final int yStride = output.width;
+
+		for( int y = row0; y < row1; y++ ) {
+			int indexOut = output.startIndex + y*output.stride;
+
+			System.arraycopy(dataNV,y*yStride,output.data,indexOut,output.width);
+		}
+	}
+
 	/**
 	 * First block contains gray-scale information and UV data can be ignored.
 	 */
 	public static void nv21ToGray(byte[] dataNV, GrayF32 output) {
+		nv21ToGray(dataNV, output, 0, output.height);
+	}
+
+	public static void nv21ToGray(byte[] dataNV, GrayF32 output, int row0 , int row1 ) {
 
-		for( int y = 0; y < output.height; y++ ) {
+		for( int y = row0; y < row1; y++ ) {
 			int indexIn = y*output.width;
 			int indexOut = output.startIndex + y*output.stride;
 
@@ -64,6 +82,10 @@ public class ImplConvertNV21 {
 	}
 
 	public static void nv21ToPlanarYuv_U8(byte[] dataNV, Planar<GrayU8> output) {
+		nv21ToPlanarYuv_U8(dataNV, output, 0, output.height);
+	}
+
+	public static void nv21ToPlanarYuv_U8(byte[] dataNV, Planar<GrayU8> output, int row0 , int row1 ) {
 
 		GrayU8 Y = output.getBand(0);
 		GrayU8 U = output.getBand(1);
@@ -71,11 +93,11 @@ public class ImplConvertNV21 {
 
 		final int uvStride = output.width/2;
 
-		nv21ToGray(dataNV, Y);
+		nv21ToGray(dataNV, Y, row0, row1);
 
 		int startUV = output.width*output.height;
 
-		for( int row = 0; row < output.height; row++ ) {
+		for( int row = row0; row < row1; row++ ) {
 			int indexUV = startUV + (row/2)*(2*uvStride);
 			int indexOut = output.startIndex + row*output.stride;
 
@@ -89,6 +111,10 @@ public class ImplConvertNV21 {
 	}
 
 	public static void nv21ToPlanarYuv_F32(byte[] dataNV, Planar<GrayF32> output) {
+		nv21ToPlanarYuv_F32(dataNV, output, 0, output.height);
+	}
+
+	public static void nv21ToPlanarYuv_F32(byte[] dataNV, Planar<GrayF32> output, int row0 , int row1 ) {
 
 		GrayF32 Y = output.getBand(0);
 		GrayF32 U = output.getBand(1);
@@ -96,11 +122,11 @@ public class ImplConvertNV21 {
 
 		final int uvStride = output.width/2;
 
-		nv21ToGray(dataNV, Y);
+		nv21ToGray(dataNV, Y, row0, row1);
 
 		final int startUV = output.width*output.height;
 
-		for( int row = 0; row < output.height; row++ ) {
+		for( int row = row0; row < row1; row++ ) {
 			int indexUV = startUV + (row/2)*(2*uvStride);
 			int indexOut = output.startIndex + row*output.stride;
 
@@ -114,6 +140,10 @@ public class ImplConvertNV21 {
 	}
 
 	public static void nv21ToPlanarRgb_U8(byte[] dataNV, Planar<GrayU8> output) {
+		nv21ToPlanarRgb_U8(dataNV, output, 0, output.height);
+	}
+
+	public static void nv21ToPlanarRgb_U8(byte[] dataNV, Planar<GrayU8> output, int row0 , int row1 ) {
 
 		GrayU8 R = output.getBand(0);
 		GrayU8 G = output.getBand(1);
@@ -124,7 +154,7 @@ public class ImplConvertNV21 {
 
 		final int startUV = yStride*output.height;
 
-		for( int row = 0; row < output.height; row++ ) {
+		for( int row = row0; row < row1; row++ ) {
 			int indexY = row*yStride;
 			int indexUV = startUV + (row/2)*(2*uvStride);
 			int indexOut = output.startIndex + row*output.stride;
@@ -168,13 +198,17 @@ public class ImplConvertNV21 {
 	}
 
 	public static void nv21ToInterleaved_U8(byte[] dataNV, InterleavedU8 output) {
+		nv21ToInterleaved_U8(dataNV, output, 0, output.height);
+	}
+
+	public static void nv21ToInterleaved_U8(byte[] dataNV, InterleavedU8 output, int row0 , int row1 ) {
 
 		final int yStride = output.width;
 		final int uvStride = output.width/2;
 
 		final int startUV = yStride*output.height;
 
-		for( int row = 0; row < output.height; row++ ) {
+		for( int row = row0; row < row1; row++ ) {
 			int indexY = row*yStride;
 			int indexUV = startUV + (row/2)*(2*uvStride);
 			int indexOut = output.startIndex + row*output.stride;
@@ -218,6 +252,10 @@ public class ImplConvertNV21 {
 	}
 
 	public static void nv21ToPlanarRgb_F32(byte[] dataNV, Planar<GrayF32> output) {
+		nv21ToPlanarRgb_F32(dataNV, output, 0, output.height);
+	}
+
+	public static void nv21ToPlanarRgb_F32(byte[] dataNV, Planar<GrayF32> output, int row0 , int row1 ) {
 
 		GrayF32 R = output.getBand(0);
 		GrayF32 G = output.getBand(1);
@@ -228,7 +266,7 @@ public class ImplConvertNV21 {
 
 		final int startUV = yStride*output.height;
 
-		for( int row = 0; row < output.height; row++ ) {
+		for( int row = row0; row < row1; row++ ) {
 			int indexY = row*yStride;
 			int indexUV = startUV + (row/2)*(2*uvStride);
 			int indexOut = output.startIndex + row*output.stride;
@@ -272,13 +310,17 @@ public class ImplConvertNV21 {
 	}
 
 	public static void nv21ToInterleaved_F32(byte[] dataNV, InterleavedF32 output) {
+		nv21ToInterleaved_F32(dataNV, output, 0, output.height);
+	}
+
+	public static void nv21ToInterleaved_F32(byte[] dataNV, InterleavedF32 output, int row0 , int row1 ) {
 
 		final int yStride = output.width;
 		final int uvStride = output.width/2;
 
 		final int startUV = yStride*output.height;
 
-		for( int row = 0; row < output.height; row++ ) {
+		for( int row = row0; row < row1; row++ ) {
 			int indexY = row*yStride;
 			int indexUV = startUV + (row/2)*(2*uvStride);
 			int indexOut = output.startIndex + row*output.stride;
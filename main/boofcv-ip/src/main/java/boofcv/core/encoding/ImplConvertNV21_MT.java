@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.core.encoding;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeConsumer;
+import boofcv.struct.image.*;
+
+/**
+ * Concurrent implementation of {@link ImplConvertNV21}.  The output image is split into bands of rows and each band
+ * is converted in its own thread.  Conversion to a gray scale U8 image is a memory copy and is
+ * left to the single threaded version.
+ *
+ * @author Peter Abeles
+ */
+public class ImplConvertNV21_MT {
+
+	public static void nv21ToGray(final byte[] dataNV, final GrayF32 output) {
+		BoofConcurrency.loopBlocks(0, output.height, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				ImplConvertNV21.nv21ToGray(dataNV, output, y0, y1);
+			}
+		});
+	}
+
+	public static void nv21ToPlanarYuv_U8(final byte[] dataNV, final Planar<GrayU8> output) {
+		BoofConcurrency.loopBlocks(0, output.height, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				ImplConvertNV21.nv21ToPlanarYuv_U8(dataNV, output, y0, y1);
+			}
+		});
+	}
+
+	public static void nv21ToPlanarYuv_F32(final byte[] dataNV, final Planar<GrayF32> output) {
+		BoofConcurrency.loopBlocks(0, output.height, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				ImplConvertNV21.nv21ToPlanarYuv_F32(dataNV, output, y0, y1);
+			}
+		});
+	}
+
+	public static void nv21ToPlanarRgb_U8(final byte[] dataNV, final Planar<GrayU8> output) {
+		BoofConcurrency.loopBlocks(0, output.height, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				ImplConvertNV21.nv21ToPlanarRgb_U8(dataNV, output, y0, y1);
+			}
+		});
+	}
+
+	public static void nv21ToInterleaved_U8(final byte[] dataNV, final InterleavedU8 output) {
+		BoofConcurrency.loopBlocks(0, output.height, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				ImplConvertNV21.nv21ToInterleaved_U8(dataNV, output, y0, y1);
+			}
+		});
+	}
+
+	public static void nv21ToPlanarRgb_F32(final byte[] dataNV, final Planar<GrayF32> output) {
+		BoofConcurrency.loopBlocks(0, output.height, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				ImplConvertNV21.nv21ToPlanarRgb_F32(dataNV, output, y0, y1);
+			}
+		});
+	}
+
+	public static void nv21ToInterleaved_F32(final byte[] dataNV, final InterleavedF32 output) {
+		BoofConcurrency.loopBlocks(0, output.height, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				ImplConvertNV21.nv21ToInterleaved_F32(dataNV, output, y0, y1);
+			}
+		});
+	}
+}
@@ -24,11 +24,18 @@ import boofcv.struct.image.*;
 /**
  * Implementations of {@link ConvertYV12}
  *
+ * Functions which take in a range of rows only write to the output rows from row0 (inclusive) to row1 (exclusive).
+ * That way different bands of rows can be converted in different threads.
+ *
  * @author Peter Abeles
  */
 public class ImplConvertYV12 {
 
 	public static void yv12ToPlanarRgb_U8(byte[] dataYV, Planar<GrayU8> output) {
+		yv12ToPlanarRgb_U8(dataYV, output, 0, output.height);
+	}
+
+	public static void yv12ToPlanarRgb_U8(byte[] dataYV, Planar<GrayU8> output, int row0 , int row1 ) {
 
 		GrayU8 R = output.getBand(0);
 		GrayU8 G = output.getBand(1);
@@ -40,7 +47,7 @@ public class ImplConvertYV12 {
 		final int startU = yStride*output.height;
 		final int offsetV = uvStride*(output.height/2);
 
-		for( int row = 0; row < output.height; row++ ) {
+		for( int row = row0; row < row1; row++ ) {
 			int indexY = row*yStride;
 			int indexU = startU + (row/2)*uvStride;
 			int indexOut = output.startIndex + row*output.stride;
@@ -84,6 +91,10 @@ public class ImplConvertYV12 {
 	}
 
 	public static void yv12ToInterleaved(byte[] dataYV, InterleavedU8 output) {
+		yv12ToInterleaved(dataYV, output, 0, output.height);
+	}
+
+	public static void yv12ToInterleaved(byte[] dataYV, InterleavedU8 output, int row0 , int row1 ) {
 
 		final int yStride = output.width;
 		final int uvStride = output.width/2;
@@ -91,7 +102,7 @@ public class ImplConvertYV12 {
 		final int startU = yStride*output.height;
 		final int offsetV = uvStride*(output.height/2);
 
-		for( int row = 0; row < output.height; row++ ) {
+		for( int row = row0; row < row1; row++ ) {
 			int indexY = row*yStride;
 			int indexU = startU + (row/2)*uvStride;
 			int indexOut = output.startIndex + row*output.stride;
@@ -135,6 +146,10 @@ public class ImplConvertYV12 {
 	}
 
 	public static void yv12ToPlanarRgb_F32(byte[] dataYV, Planar<GrayF32> output) {
+		yv12ToPlanarRgb_F32(dataYV, output, 0, output.height);
+	}
+
+	public static void yv12ToPlanarRgb_F32(byte[] dataYV, Planar<GrayF32> output, int row0 , int row1 ) {
 
 		GrayF32 R = output.getBand(0);
 		GrayF32 G = output.getBand(1);
@@ -146,7 +161,7 @@ public class ImplConvertYV12 {
 		final int startU = yStride*output.height;
 		final int offsetV = uvStride*(output.height/2);
 
-		for( int row = 0; row < output.height; row++ ) {
+		for( int row = row0; row < row1; row++ ) {
 			int indexY = row*yStride;
 			int indexU = startU + (row/2)*uvStride;
 			int indexOut = output.startIndex + row*output.stride;
@@ -190,6 +205,10 @@ public class ImplConvertYV12 {
 	}
 
 	public static void yv12ToInterleaved(byte[] dataYV, InterleavedF32 output) {
+		yv12ToInterleaved(dataYV, output, 0, output.height);
+	}
+
+	public static void yv12ToInterleaved(byte[] dataYV, InterleavedF32 output, int row0 , int row1 ) {
 
 		final int yStride = output.width;
 		final int uvStride = output.width/2;
@@ -197,7 +216,7 @@ public class ImplConvertYV12 {
 		final int startU = yStride*output.height;
 		final int offsetV = uvStride*(output.height/2);
 
-		for( int row = 0; row < output.height; row++ ) {
+		for( int row = row0; row < row1; row++ ) {
 			int indexY = row*yStride;
 			int indexU = startU + (row/2)*uvStride;
 			int indexOut = output.startIndex + row*output.stride;
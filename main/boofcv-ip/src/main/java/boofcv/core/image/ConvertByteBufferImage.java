@@ -27,6 +27,11 @@ import java.nio.ByteBuffer;
  * Converts images that are stored in {@link java.nio.ByteBuffer} into BoofCV image types and performs
  * a local copy when the raw array can't be accessed
  *
+ * <p>The wrap functions avoid the copy entirely when the buffer is backed by an accessible array. The returned
+ * image references the buffer's array and is marked as a sub-image so that it can't be accidentally reshaped.
+ * Any operation which respects {@link ImageBase#startIndex} and {@link ImageBase#stride} can then read and
+ * write the buffer directly. Direct buffers, e.g. memory mapped files, have no array and are copied.</p>
+ *
  * @author Peter Abeles
  */
 public class ConvertByteBufferImage {
@@ -85,7 +90,7 @@ public class ConvertByteBufferImage {
 		int indexSrc = srcOffset;
 		for (int y = 0; y < dst.height; y++) {
 			src.position(indexSrc);
-			src.get(dst.data,0,dst.width*3);
+			src.get(dst.data,dst.startIndex + dst.stride*y,dst.width*3);
 			indexSrc += srcStride;
 		}
 	}
@@ -157,4 +162,123 @@ public class ConvertByteBufferImage {
 			indexSrc += srcStride;
 		}
 	}
+
+	/**
+	 * Creates a gray scale image from an 8-bit single band image stored in the buffer. If the buffer is backed
+	 * by an accessible array then the image will reference that array and no copy is made. Otherwise the
+	 * pixels are copied.
+	 *
+	 * @param src Buffer containing the image
+	 * @param srcOffset Index of the first pixel in the buffer
+	 * @param srcStride Number of bytes between the start of each row
+	 * @param width Image width
+	 * @param height Image height
+	 * @param dst (Optional) Storage for the output image. If it's a sub-image and a copy is required a new image
+	 *            is declared. Can be null.
+	 * @return Image which either references the buffer or contains a copy of it
+	 */
+	public static GrayU8 wrap_U8(ByteBuffer src , int srcOffset , int srcStride ,
+								 int width , int height , GrayU8 dst )
+	{
+		checkBounds(src, srcOffset, srcStride, width, height);
+
+		if( src.hasArray() ) {
+			if( dst == null )
+				dst = new GrayU8();
+			dst.data = src.array();
+			dst.startIndex = src.arrayOffset() + srcOffset;
+			dst.stride = srcStride;
+			dst.width = width;
+			dst.height = height;
+			dst.subImage = true;
+		} else {
+			if( dst == null || dst.isSubimage() )
+				dst = new GrayU8(width,height);
+			else
+				dst.reshape(width,height);
+			from_1BU8_to_U8(src,srcOffset,srcStride,dst);
+		}
+		return dst;
+	}
+
+	/**
+	 * Creates an interleaved image from an 8-bit interleaved image stored in the buffer. If the buffer is backed
+	 * by an accessible array then the image will reference that array and no copy is made. Otherwise the
+	 * pixels are copied.
+	 *
+	 * @param src Buffer containing the image
+	 * @param srcOffset Index of the first pixel in the buffer
+	 * @param srcStride Number of bytes between the start of each row
+	 * @param width Image width
+	 * @param height Image height
+	 * @param numBands Number of interleaved bands in each pixel
+	 * @param dst (Optional) Storage for the output image. If it's a sub-image and a copy is required a new image
+	 *            is declared. Can be null.
+	 * @return Image which either references the buffer or contains a copy of it
+	 */
+	public static InterleavedU8 wrap_IU8(ByteBuffer src , int srcOffset , int srcStride ,
+										 int width , int height , int numBands , InterleavedU8 dst )
+	{
+		checkBounds(src, srcOffset, srcStride, width*numBands, height);
+
+		if( src.hasArray() ) {
+			if( dst == null ) {
+				dst = new InterleavedU8(0,0,numBands);
+			} else if( dst.numBands != numBands ) {
+				// shrink it first so that changing the number of bands doesn't declare a large array
+				dst.subImage = false;
+				dst.width = dst.height = 0;
+				dst.setNumberOfBands(numBands);
+			}
+			dst.data = src.array();
+			dst.startIndex = src.arrayOffset() + srcOffset;
+			dst.stride = srcStride;
+			dst.width = width;
+			dst.height = height;
+			dst.subImage = true;
+		} else {
+			if( dst == null || dst.isSubimage() ) {
+				dst = new InterleavedU8(width,height,numBands);
+			} else {
+				dst.setNumberOfBands(numBands);
+				dst.reshape(width,height);
+			}
+			from_NBU8_to_IU8(src,srcOffset,srcStride,dst);
+		}
+		return dst;
+	}
+
+	/**
+	 * Copies a single band 8-bit image from the buffer into a gray scale image
+	 */
+	public static void from_1BU8_to_U8(ByteBuffer src , int srcOffset , int srcStride , GrayU8 dst )
+	{
+		int indexSrc = srcOffset;
+		for (int y = 0; y < dst.height; y++) {
+			src.position(indexSrc);
+			src.get(dst.data,dst.startIndex + dst.stride*y,dst.width);
+			indexSrc += srcStride;
+		}
+	}
+
+	/**
+	 * Copies an interleaved 8-bit image from the buffer into an interleaved image with the same number of bands
+	 */
+	public static void from_NBU8_to_IU8(ByteBuffer src , int srcOffset , int srcStride , InterleavedU8 dst )
+	{
+		int length = dst.width*dst.numBands;
+		int indexSrc = srcOffset;
+		for (int y = 0; y < dst.height; y++) {
+			src.position(indexSrc);
+			src.get(dst.data,dst.startIndex + dst.stride*y,length);
+			indexSrc += srcStride;
+		}
+	}
+
+	private static void checkBounds(ByteBuffer src, int srcOffset, int srcStride, int rowLength, int height) {
+		if( srcOffset < 0 || srcStride < rowLength )
+			throw new IllegalArgumentException("Invalid offset or stride");
+		if( height > 0 && srcOffset + (height-1)*srcStride + rowLength > src.limit() )
+			throw new IllegalArgumentException("Image extends past the end of the buffer");
+	}
 }
@@ -36,5 +36,16 @@ public abstract class BorderIndex1D {
 
 	public abstract int getIndex( int index );
 
+	/**
+	 * Creates a new instance of the same type.  The length is not copied.
+	 */
+	public BorderIndex1D newInstance() {
+		try {
+			return getClass().newInstance();
+		} catch (InstantiationException | IllegalAccessException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
 	protected int length;
 }
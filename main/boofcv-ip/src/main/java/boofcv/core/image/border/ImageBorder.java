@@ -45,6 +45,12 @@ public abstract class ImageBorder<T extends ImageBase<T>> {
 		return image;
 	}
 
+	/**
+	 * Creates a new instance of this border which is configured the same. The image is not set and must be
+	 * specified before it's used. Intended for when multiple threads need to access the same image.
+	 */
+	public abstract ImageBorder<T> copy();
+
 	public abstract void getGeneral(int x, int y, double[] pixel);
 
 	public abstract void setGeneral(int x, int y, double[] pixel);
@@ -66,4 +66,9 @@ public class ImageBorder1D_F32 extends ImageBorder_F32 {
 	public void setOutside(int x, int y, float val) {
 		image.set(colWrap.getIndex(x) , rowWrap.getIndex(y),val);
 	}
+
+	@Override
+	public ImageBorder1D_F32 copy() {
+		return new ImageBorder1D_F32(rowWrap.newInstance(),colWrap.newInstance());
+	}
 }
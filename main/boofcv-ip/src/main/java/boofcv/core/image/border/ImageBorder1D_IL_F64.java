@@ -66,4 +66,9 @@ public class ImageBorder1D_IL_F64 extends ImageBorder_IL_F64 {
 	public void setOutside(int x, int y, double[] pixel) {
 		image.unsafe_set(colWrap.getIndex(x) , rowWrap.getIndex(y),pixel);
 	}
+
+	@Override
+	public ImageBorder1D_IL_F64 copy() {
+		return new ImageBorder1D_IL_F64(rowWrap.newInstance(),colWrap.newInstance());
+	}
 }
@@ -72,4 +72,9 @@ public class ImageBorder1D_S32<T extends GrayI<T>> extends ImageBorder_S32<T> {
 	public void setOutside(int x, int y, int val) {
 		image.set(colWrap.getIndex(x) , rowWrap.getIndex(y),val);
 	}
+
+	@Override
+	public ImageBorder1D_S32<T> copy() {
+		return new ImageBorder1D_S32<>(rowWrap.newInstance(),colWrap.newInstance());
+	}
 }
@@ -22,6 +22,8 @@ import boofcv.abst.distort.ConfigDeformPointMLS;
 import boofcv.abst.distort.PointDeformKeyPoints;
 import boofcv.abst.distort.PointDeform_MLS;
 import boofcv.alg.distort.ImageDistort;
+import boofcv.alg.distort.ImageDistortRemap;
+import boofcv.alg.distort.RemapTable;
 import boofcv.alg.distort.impl.*;
 import boofcv.alg.distort.mls.ImageDeformPointMLS_F32;
 import boofcv.alg.interpolate.InterpolatePixel;
@@ -157,6 +159,28 @@ public class FactoryDistort {
 		}
 	}
 
+	/**
+	 * Creates an {@link ImageDistort} which precomputes a {@link RemapTable} and applies it using fixed point
+	 * bilinear interpolation. Pixels outside the source image are set to zero. Faster than the other
+	 * implementations when the same distortion is applied to many images.
+	 *
+	 * @param imageType Type of input and output image. Must be {@link GrayU8} or {@link InterleavedU8}.
+	 * @return ImageDistort
+	 */
+	public static <T extends ImageBase<T>>
+	ImageDistort<T,T> remap( ImageType<T> imageType ) {
+		if( imageType.getDataType() != ImageDataType.U8 )
+			throw new IllegalArgumentException("Only U8 images are supported");
+		switch( imageType.getFamily() ) {
+			case GRAY:
+			case INTERLEAVED:
+				return new ImageDistortRemap<>();
+
+			default:
+				throw new IllegalArgumentException("Image family not supported: "+imageType.getFamily());
+		}
+	}
+
 	public static PointDeformKeyPoints deformMls(ConfigDeformPointMLS config ) {
 		if( config == null )
 			config = new ConfigDeformPointMLS();
@@ -70,6 +70,12 @@ public class ConfigThreshold implements Configuration {
 	 */
 	public int maxPixelValue = 255;
 
+	/**
+	 * If true then a concurrent implementation will be used, if one is available. The output is the same
+	 * either way. Ignored if {@link boofcv.concurrency.BoofConcurrency#USE_CONCURRENT} is false.
+	 */
+	public boolean concurrent = true;
+
 	public static ConfigThreshold fixed( double value ) {
 		ConfigThreshold config = new ConfigThreshold();
 		config.type = ThresholdType.FIXED;
@@ -126,6 +132,7 @@ public class ConfigThreshold implements Configuration {
 				", savolaK=" + savolaK +
 				", minPixelValue=" + minPixelValue +
 				", maxPixelValue=" + maxPixelValue +
+				", concurrent=" + concurrent +
 				'}';
 	}
 }
@@ -21,6 +21,7 @@ package boofcv.factory.filter.binary;
 import boofcv.abst.filter.binary.*;
 import boofcv.alg.filter.binary.*;
 import boofcv.alg.filter.binary.impl.*;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.struct.image.GrayU8;
 import boofcv.struct.image.ImageGray;
 import boofcv.struct.image.ImageType;
@@ -59,10 +60,23 @@ public class FactoryThresholdBinary {
 	 */
 	public static <T extends ImageGray<T>>
 	InputToBinary<T> localSauvola(int radius, float k, boolean down, Class<T> inputType)
+	{
+		return localSauvola(radius, k, down, BoofConcurrency.USE_CONCURRENT, inputType);
+	}
+
+	/**
+	 * @see #localSauvola(int, float, boolean, Class)
+	 *
+	 * @param concurrent If true then the concurrent implementation is used
+	 */
+	public static <T extends ImageGray<T>>
+	InputToBinary<T> localSauvola(int radius, float k, boolean down, boolean concurrent, Class<T> inputType)
 	{
 		if( BOverrideFactoryThresholdBinary.localSauvola != null )
 			return BOverrideFactoryThresholdBinary.localSauvola.handle(radius, k, down, inputType);
-		return new InputToBinarySwitchF32<T>(new ThresholdSauvola(radius, k, down),inputType);
+		ThresholdSauvola alg = new ThresholdSauvola(radius, k, down);
+		alg.setConcurrent(concurrent);
+		return new InputToBinarySwitchF32<T>(alg,inputType);
 	}
 
 	/**
@@ -94,9 +108,22 @@ public class FactoryThresholdBinary {
 	 */
 	public static <T extends ImageGray<T>>
 	InputToBinary<T> localOtsu(int regionWidth , double tuning, double scale, boolean down, Class<T> inputType) {
+		return localOtsu(regionWidth, tuning, scale, down, BoofConcurrency.USE_CONCURRENT, inputType);
+	}
+
+	/**
+	 * @see #localOtsu(int, double, double, boolean, Class)
+	 *
+	 * @param concurrent If true then the concurrent implementation is used
+	 */
+	public static <T extends ImageGray<T>>
+	InputToBinary<T> localOtsu(int regionWidth , double tuning, double scale, boolean down,
+							   boolean concurrent, Class<T> inputType) {
 		if( BOverrideFactoryThresholdBinary.localOtsu != null )
 			return BOverrideFactoryThresholdBinary.localOtsu.handle(regionWidth, tuning, scale, down, inputType);
-		return new InputToBinarySwitchU8<>(new ThresholdLocalOtsu(regionWidth,tuning,scale,down),inputType);
+		ThresholdLocalOtsu alg = new ThresholdLocalOtsu(regionWidth,tuning,scale,down);
+		alg.setConcurrent(concurrent);
+		return new InputToBinarySwitchU8<>(alg,inputType);
 	}
 
 	/**
@@ -115,12 +142,26 @@ public class FactoryThresholdBinary {
 	public static <T extends ImageGray<T>>
 	InputToBinary<T> blockMinMax(int regionWidth, double scale , boolean down,
 								 double minimumSpread, Class<T> inputType) {
+		return blockMinMax(regionWidth, scale, down, minimumSpread, BoofConcurrency.USE_CONCURRENT, inputType);
+	}
+
+	/**
+	 * @see #blockMinMax(int, double, boolean, double, Class)
+	 *
+	 * @param concurrent If true then the concurrent implementation is used
+	 */
+	public static <T extends ImageGray<T>>
+	InputToBinary<T> blockMinMax(int regionWidth, double scale , boolean down,
+								 double minimumSpread, boolean concurrent, Class<T> inputType) {
 		if( BOverrideFactoryThresholdBinary.blockMinMax != null )
 			return BOverrideFactoryThresholdBinary.blockMinMax.handle(regionWidth, scale, down, minimumSpread, inputType);
+		ThresholdBlockCommon alg;
 		if( inputType == GrayU8.class )
-			return (InputToBinary<T>)new ThresholdBlockMinMax_U8(minimumSpread,regionWidth,scale,down);
+			alg = new ThresholdBlockMinMax_U8(minimumSpread,regionWidth,scale,down);
 		else
-			return (InputToBinary<T>)new ThresholdBlockMinMax_F32((float)minimumSpread,regionWidth,(float)scale,down);
+			alg = new ThresholdBlockMinMax_F32((float)minimumSpread,regionWidth,(float)scale,down);
+		alg.setConcurrent(concurrent);
+		return (InputToBinary<T>)alg;
 	}
 
 	/**
@@ -137,12 +178,26 @@ public class FactoryThresholdBinary {
 	public static <T extends ImageGray<T>>
 	InputToBinary<T> blockMean(int regionWidth, double scale , boolean down,
 							   Class<T> inputType) {
+		return blockMean(regionWidth, scale, down, BoofConcurrency.USE_CONCURRENT, inputType);
+	}
+
+	/**
+	 * @see #blockMean(int, double, boolean, Class)
+	 *
+	 * @param concurrent If true then the concurrent implementation is used
+	 */
+	public static <T extends ImageGray<T>>
+	InputToBinary<T> blockMean(int regionWidth, double scale , boolean down,
+							   boolean concurrent, Class<T> inputType) {
 		if( BOverrideFactoryThresholdBinary.blockMean != null )
 			return BOverrideFactoryThresholdBinary.blockMean.handle(regionWidth, scale, down, inputType);
+		ThresholdBlockCommon alg;
 		if( inputType == GrayU8.class )
-			return (InputToBinary<T>)new ThresholdBlockMean_U8(regionWidth,scale,down);
+			alg = new ThresholdBlockMean_U8(regionWidth,scale,down);
 		else
-			return (InputToBinary<T>)new ThresholdBlockMean_F32(regionWidth,scale,down);
+			alg = new ThresholdBlockMean_F32(regionWidth,scale,down);
+		alg.setConcurrent(concurrent);
+		return (InputToBinary<T>)alg;
 	}
 
 	/**
@@ -158,9 +213,22 @@ public class FactoryThresholdBinary {
 	 */
 	public static <T extends ImageGray<T>>
 	InputToBinary<T> blockOtsu(int regionWidth , double tuning, double scale, boolean down, Class<T> inputType) {
+		return blockOtsu(regionWidth, tuning, scale, down, BoofConcurrency.USE_CONCURRENT, inputType);
+	}
+
+	/**
+	 * @see #blockOtsu(int, double, double, boolean, Class)
+	 *
+	 * @param concurrent If true then the concurrent implementation is used
+	 */
+	public static <T extends ImageGray<T>>
+	InputToBinary<T> blockOtsu(int regionWidth , double tuning, double scale, boolean down,
+							   boolean concurrent, Class<T> inputType) {
 		if( BOverrideFactoryThresholdBinary.blockOtsu != null )
 			return BOverrideFactoryThresholdBinary.blockOtsu.handle(regionWidth, tuning, scale, down, inputType);
-		return new InputToBinarySwitchU8<>(new ThresholdBlockOtsu(regionWidth,tuning,scale,down),inputType);
+		ThresholdBlockOtsu alg = new ThresholdBlockOtsu(regionWidth,tuning,scale,down);
+		alg.setConcurrent(concurrent);
+		return new InputToBinarySwitchU8<>(alg,inputType);
 	}
 
 	/**
@@ -220,6 +288,8 @@ public class FactoryThresholdBinary {
 	public static <T extends ImageGray<T>>
 	InputToBinary<T> threshold( ConfigThreshold config, Class<T> inputType) {
 
+		boolean concurrent = config.concurrent && BoofConcurrency.USE_CONCURRENT;
+
 		switch( config.type ) {
 			case FIXED:
 				return globalFixed(config.fixedThreshold, config.down, inputType);
@@ -234,27 +304,27 @@ public class FactoryThresholdBinary {
 				return localGaussian(config.radius, config.scale, config.down, inputType);
 
 			case LOCAL_SAVOLA:
-				return localSauvola(config.radius, config.savolaK, config.down, inputType);
+				return localSauvola(config.radius, config.savolaK, config.down, concurrent, inputType);
 
 			case LOCAL_MEAN:
 				return localMean(config.radius, config.scale, config.down, inputType);
 
 			case LOCAL_OTSU: {
 				ConfigThresholdLocalOtsu c = (ConfigThresholdLocalOtsu) config;
-				return localOtsu(config.radius * 2 + 1, c.tuning, config.scale,config.down, inputType);
+				return localOtsu(config.radius * 2 + 1, c.tuning, config.scale,config.down, concurrent, inputType);
 			}
 
 			case BLOCK_MIN_MAX: {
 				ConfigThresholdBlockMinMax c = (ConfigThresholdBlockMinMax) config;
-				return blockMinMax(c.radius * 2 + 1, c.scale , c.down, c.minimumSpread, inputType);
+				return blockMinMax(c.radius * 2 + 1, c.scale , c.down, c.minimumSpread, concurrent, inputType);
 			}
 
 			case BLOCK_MEAN:
-				return blockMean(config.radius * 2 + 1, config.scale , config.down, inputType);
+				return blockMean(config.radius * 2 + 1, config.scale , config.down, concurrent, inputType);
 
 			case BLOCK_OTSU: {
 				ConfigThresholdLocalOtsu c = (ConfigThresholdLocalOtsu) config;
-				return blockOtsu(config.radius * 2 + 1, c.tuning, config.scale, config.down, inputType);
+				return blockOtsu(config.radius * 2 + 1, c.tuning, config.scale, config.down, concurrent, inputType);
 			}
 
 		}
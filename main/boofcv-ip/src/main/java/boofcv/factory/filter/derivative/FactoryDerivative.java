@@ -20,6 +20,7 @@ package boofcv.factory.filter.derivative;
 
 import boofcv.abst.filter.derivative.*;
 import boofcv.alg.filter.derivative.*;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.core.image.GeneralizedImageOps;
 import boofcv.core.image.border.ImageBorder_F32;
 import boofcv.core.image.border.ImageBorder_S32;
@@ -33,6 +34,11 @@ import java.lang.reflect.Method;
  * the image's derivative.
  * </p>
  *
+ * <p>
+ * If {@link BoofConcurrency#USE_CONCURRENT} is true when the filter is created then concurrent implementations are
+ * used for Prewitt, Sobel, Three, and the direct Sobel Hessian.
+ * </p>
+ *
  * @author Peter Abeles
  */
 public class FactoryDerivative {
@@ -103,15 +109,15 @@ public class FactoryDerivative {
 
 		switch( type ) {
 			case PREWITT:
-				which = GradientPrewitt.class;
+				which = BoofConcurrency.USE_CONCURRENT ? GradientPrewitt_MT.class : GradientPrewitt.class;
 				break;
 
 			case SOBEL:
-				which = GradientSobel.class;
+				which = BoofConcurrency.USE_CONCURRENT ? GradientSobel_MT.class : GradientSobel.class;
 				break;
 
 			case THREE:
-				which = GradientThree.class;
+				which = BoofConcurrency.USE_CONCURRENT ? GradientThree_MT.class : GradientThree.class;
 				break;
 
 			case TWO_0:
@@ -185,7 +191,8 @@ public class FactoryDerivative {
 		if( derivType == null )
 			derivType = GImageDerivativeOps.getDerivativeType(inputType);
 
-		Method m = findDerivative(GradientPrewitt.class,inputType,derivType);
+		Method m = findDerivative(BoofConcurrency.USE_CONCURRENT ? GradientPrewitt_MT.class : GradientPrewitt.class,
+				inputType,derivType);
 		return new ImageGradient_Reflection<>(m);
 	}
 
@@ -195,7 +202,8 @@ public class FactoryDerivative {
 		if( derivType == null )
 			derivType = GImageDerivativeOps.getDerivativeType(inputType);
 
-		Method m = findDerivative(GradientSobel.class,inputType,derivType);
+		Method m = findDerivative(BoofConcurrency.USE_CONCURRENT ? GradientSobel_MT.class : GradientSobel.class,
+				inputType,derivType);
 		return new ImageGradient_Reflection<>(m);
 	}
 
@@ -204,7 +212,8 @@ public class FactoryDerivative {
 	{
 		if( derivType == null )
 			derivType = GImageDerivativeOps.getDerivativeType(inputType);
-		Method m = findDerivative(GradientThree.class,inputType,derivType);
+		Method m = findDerivative(BoofConcurrency.USE_CONCURRENT ? GradientThree_MT.class : GradientThree.class,
+				inputType,derivType);
 		return new ImageGradient_Reflection<>(m);
 	}
 
@@ -240,7 +249,8 @@ public class FactoryDerivative {
 	{
 		if( derivType == null )
 			derivType = GImageDerivativeOps.getDerivativeType(inputType);
-		Method m = findHessian(HessianSobel.class,inputType,derivType);
+		Method m = findHessian(BoofConcurrency.USE_CONCURRENT ? HessianSobel_MT.class : HessianSobel.class,
+				inputType,derivType);
 		return new ImageHessianDirect_Reflection<>(m);
 	}
 
@@ -20,6 +20,7 @@ package boofcv.struct;
 
 import georegression.struct.point.Point2D_I32;
 import org.ddogleg.struct.FastQueue;
+import org.ddogleg.struct.GrowQueue_I32;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -177,6 +178,53 @@ public class PackedSetsPoint2D_I32 {
 		}
 	}
 
+	/**
+	 * Copies all the points in the set into primitive arrays.  No memory is declared if the arrays are
+	 * already large enough, making this suitable for use inside a processing loop.
+	 *
+	 * @param which (Input) which point set
+	 * @param x (Output) Storage for the x-coordinate of each point
+	 * @param y (Output) Storage for the y-coordinate of each point
+	 */
+	public void getSet(int which , GrowQueue_I32 x , GrowQueue_I32 y ) {
+		BlockIndexLength set = sets.get(which);
+		x.resize(set.length);
+		y.resize(set.length);
+
+		int blockIndex = set.block;
+		int index = set.start;
+		int block[] = blocks.get( blockIndex );
+		for (int i = 0; i < set.length; i++) {
+			if( index == blockLength ) {
+				block = blocks.get( ++blockIndex );
+				index = 0;
+			}
+			x.data[i] = block[index];
+			y.data[i] = block[index+1];
+			index += 2;
+		}
+	}
+
+	/**
+	 * Copies a single point from a set
+	 *
+	 * @param which (Input) which point set
+	 * @param pointIndex (Input) index of the point inside the set
+	 * @param output (Output) Storage for the point
+	 */
+	public void getPoint(int which , int pointIndex , Point2D_I32 output ) {
+		BlockIndexLength set = sets.get(which);
+		if( pointIndex < 0 || pointIndex >= set.length )
+			throw new IllegalArgumentException("pointIndex is out of bounds");
+
+		int index = set.start + pointIndex*2;
+		int blockIndex = set.block + index/blockLength;
+		index %= blockLength;
+
+		int block[] = blocks.get( blockIndex );
+		output.set( block[index] , block[index+1] );
+	}
+
 	public List<Point2D_I32> getSet(int which) {
 		FastQueue<Point2D_I32> tmp = new FastQueue<>(Point2D_I32.class,true);
 		getSet(which,tmp);
@@ -218,6 +266,31 @@ public class PackedSetsPoint2D_I32 {
 		}
 	}
 
+	/**
+	 * Overwrites the points in the set with the points in the primitive arrays.
+	 *
+	 * @param x x-coordinate of each point. Must be the same size as the set.
+	 * @param y y-coordinate of each point. Must be the same size as the set.
+	 */
+	public void writeOverSet(int which, GrowQueue_I32 x , GrowQueue_I32 y ) {
+		BlockIndexLength set = sets.get(which);
+		if( set.length != x.size || set.length != y.size )
+			throw new IllegalArgumentException("points and set don't have the same length");
+
+		int blockIndex = set.block;
+		int index = set.start;
+		int block[] = blocks.get( blockIndex );
+		for (int i = 0; i < set.length; i++) {
+			if( index == blockLength ) {
+				block = blocks.get( ++blockIndex );
+				index = 0;
+			}
+			block[index] = x.data[i];
+			block[index+1] = y.data[i];
+			index += 2;
+		}
+	}
+
 	/**
 	 * Used to access all the points in a set without making a copy.
 	 */
@@ -31,4 +31,9 @@ public class DoNothing2Transform2_F32 implements Point2Transform2_F32 {
 		out.x = x;
 		out.y = y;
 	}
+
+	@Override
+	public DoNothing2Transform2_F32 copyConcurrent() {
+		return this;
+	}
 }
@@ -37,4 +37,10 @@ public abstract class PixelTransform2_F32 implements PixelTransform {
 	public float getDistY() {
 		return distY;
 	}
+
+	/**
+	 * Creates a copy of this transform which can be used in a different thread at the same time as this one.
+	 * Read only data, such as precomputed look up tables, can be shared.
+	 */
+	public abstract PixelTransform2_F32 copyConcurrent();
 }
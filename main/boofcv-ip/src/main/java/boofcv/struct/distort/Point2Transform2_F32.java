@@ -35,4 +35,10 @@ public interface Point2Transform2_F32 {
 	 * @param out Transformed point location.
 	 */
 	void compute( float x, float y, Point2D_F32 out);
+
+	/**
+	 * Returns an instance which can be used in a different thread at the same time as this one. Classes which
+	 * don't modify any internal state inside of {@link #compute} can return a reference to themselves.
+	 */
+	Point2Transform2_F32 copyConcurrent();
 }
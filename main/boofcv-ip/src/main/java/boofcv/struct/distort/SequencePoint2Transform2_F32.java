@@ -44,4 +44,13 @@ public class SequencePoint2Transform2_F32 implements Point2Transform2_F32 {
 			sequence[i].compute(out.x,out.y,out);
 		}
 	}
+
+	@Override
+	public SequencePoint2Transform2_F32 copyConcurrent() {
+		Point2Transform2_F32[] copies = new Point2Transform2_F32[sequence.length];
+		for (int i = 0; i < sequence.length; i++) {
+			copies[i] = sequence[i].copyConcurrent();
+		}
+		return new SequencePoint2Transform2_F32(copies);
+	}
 }
@@ -0,0 +1,261 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.struct.image;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <p>
+ * Pool of images which are no longer in use and can be recycled.  Instead of declaring a new image, an image is
+ * requested from the pool using {@link #acquire}.  When it's no longer needed it's returned using {@link #release}.
+ * If the pool contains an image of the same type with enough memory then it's reshaped and returned, otherwise
+ * a new image is declared.  In a loop where the same sized images are requested each iteration, no new memory
+ * is declared after the first iteration.
+ * </p>
+ *
+ * <p>
+ * Images are grouped by their type.  When multiple images of the same type are available the smallest one which
+ * is large enough is selected.  The amount of memory consumed by images in the pool is bounded.  If releasing an
+ * image causes the limit to be exceeded, then images which were released the longest time ago are discarded
+ * first.
+ * </p>
+ *
+ * <p>
+ * All functions are thread safe.  The same image should never be released twice or used after it's released.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class ImagePool {
+
+	// Maximum number of bytes the images in the pool can consume
+	private long maxBytes;
+	// Number of bytes the images in the pool currently consume
+	private long totalBytes;
+
+	// images available for reuse ordered from the oldest to the most recently released
+	private final List<Entry> available = new ArrayList<>();
+
+	// statistics on how the pool is being used
+	private long totalCreated;
+	private long totalRecycled;
+
+	/**
+	 * Creates a pool with the specified memory limit
+	 *
+	 * @param maxBytes Maximum number of bytes which images in the pool can consume.
+	 */
+	public ImagePool( long maxBytes ) {
+		if( maxBytes < 0 )
+			throw new IllegalArgumentException("maxBytes must be >= 0");
+		this.maxBytes = maxBytes;
+	}
+
+	/**
+	 * Returns an image of the specified type and shape.  If a suitable image is in the pool it's removed and
+	 * reshaped, otherwise a new image is declared.  The contents of a recycled image are not modified.
+	 *
+	 * @param type Type of image
+	 * @param width Image width
+	 * @param height Image height
+	 * @return Image with the specified shape.
+	 */
+	public synchronized <T extends ImageBase> T acquire( ImageType<T> type , int width , int height ) {
+		int best = -1;
+		int bestCapacity = Integer.MAX_VALUE;
+
+		for (int i = 0; i < available.size(); i++) {
+			Entry e = available.get(i);
+			if( !e.isType(type) )
+				continue;
+			if( e.capacity >= width*height && e.capacity < bestCapacity ) {
+				best = i;
+				bestCapacity = e.capacity;
+			}
+		}
+
+		if( best == -1 ) {
+			totalCreated++;
+			return type.createImage(width, height);
+		}
+
+		Entry e = available.remove(best);
+		totalBytes -= e.bytes;
+		totalRecycled++;
+
+		T image = (T)e.image;
+		image.reshape(width,height);
+		return image;
+	}
+
+	/**
+	 * Returns images to the pool so that they can be recycled.  Null images are ignored.
+	 *
+	 * @param images Images which are no longer in use.  Sub-images are not allowed.
+	 */
+	public synchronized void release( ImageBase ...images ) {
+		for( ImageBase image : images ) {
+			if( image == null )
+				continue;
+			if( image.isSubimage() )
+				throw new IllegalArgumentException("Sub-images can't be recycled");
+
+			Entry e = new Entry(image);
+			available.add(e);
+			totalBytes += e.bytes;
+		}
+		enforceLimit();
+	}
+
+	/**
+	 * Discards images which were released the longest time ago until the memory limit is no longer exceeded
+	 */
+	private void enforceLimit() {
+		int total = 0;
+		while( totalBytes > maxBytes ) {
+			totalBytes -= available.get(total++).bytes;
+		}
+		if( total > 0 )
+			available.subList(0,total).clear();
+	}
+
+	/**
+	 * Discards all the images in the pool
+	 */
+	public synchronized void clear() {
+		available.clear();
+		totalBytes = 0;
+	}
+
+	/**
+	 * Changes the memory limit.  If the new limit is smaller than the memory currently used then images
+	 * are discarded.
+	 */
+	public synchronized void setMaxBytes( long maxBytes ) {
+		if( maxBytes < 0 )
+			throw new IllegalArgumentException("maxBytes must be >= 0");
+		this.maxBytes = maxBytes;
+		enforceLimit();
+	}
+
+	public synchronized long getMaxBytes() {
+		return maxBytes;
+	}
+
+	/**
+	 * Number of bytes used by images in the pool
+	 */
+	public synchronized long getTotalBytes() {
+		return totalBytes;
+	}
+
+	/**
+	 * Number of images in the pool which are available for reuse
+	 */
+	public synchronized int getTotalAvailable() {
+		return available.size();
+	}
+
+	/**
+	 * Number of images which have been declared by {@link #acquire} because no suitable image was in the pool
+	 */
+	public synchronized long getTotalCreated() {
+		return totalCreated;
+	}
+
+	/**
+	 * Number of images which have been recycled by {@link #acquire}
+	 */
+	public synchronized long getTotalRecycled() {
+		return totalRecycled;
+	}
+
+	/**
+	 * Number of pixels the image can hold without declaring new memory
+	 */
+	static int pixelCapacity( ImageBase image ) {
+		if( image instanceof ImageGray ) {
+			return Array.getLength(((ImageGray)image)._getData());
+		} else if( image instanceof ImageInterleaved ) {
+			ImageInterleaved ii = (ImageInterleaved)image;
+			return Array.getLength(ii._getData())/ii.getNumBands();
+		} else if( image instanceof Planar ) {
+			Planar p = (Planar)image;
+			int capacity = Integer.MAX_VALUE;
+			for (int i = 0; i < p.getNumBands(); i++) {
+				capacity = Math.min(capacity,pixelCapacity(p.getBand(i)));
+			}
+			return capacity;
+		} else {
+			throw new IllegalArgumentException("Unknown image type "+image.getClass().getSimpleName());
+		}
+	}
+
+	/**
+	 * Number of bytes used to store the image's pixels
+	 */
+	static long sizeInBytes( ImageBase image ) {
+		if( image instanceof ImageGray ) {
+			ImageGray g = (ImageGray)image;
+			return (long)Array.getLength(g._getData())*(g.getDataType().getNumBits()/8);
+		} else if( image instanceof ImageInterleaved ) {
+			ImageInterleaved ii = (ImageInterleaved)image;
+			return (long)Array.getLength(ii._getData())*(ii.getDataType().getNumBits()/8);
+		} else if( image instanceof Planar ) {
+			Planar p = (Planar)image;
+			long total = 0;
+			for (int i = 0; i < p.getNumBands(); i++) {
+				total += sizeInBytes(p.getBand(i));
+			}
+			return total;
+		} else {
+			throw new IllegalArgumentException("Unknown image type "+image.getClass().getSimpleName());
+		}
+	}
+
+	/**
+	 * An image in the pool along with a description of its type when it was released
+	 */
+	private static class Entry {
+		ImageBase image;
+		ImageType.Family family;
+		ImageDataType dataType;
+		int numBands;
+		int capacity;
+		long bytes;
+
+		public Entry(ImageBase image) {
+			ImageType type = image.getImageType();
+			this.image = image;
+			this.family = type.getFamily();
+			this.dataType = type.getDataType();
+			this.numBands = image instanceof ImageGray ? 1 : ((ImageMultiBand)image).getNumBands();
+			this.capacity = pixelCapacity(image);
+			this.bytes = sizeInBytes(image);
+		}
+
+		public boolean isType( ImageType type ) {
+			if( type.getFamily() != family || type.getDataType() != dataType )
+				return false;
+			return family == ImageType.Family.GRAY || type.getNumBands() == numBands;
+		}
+	}
+}
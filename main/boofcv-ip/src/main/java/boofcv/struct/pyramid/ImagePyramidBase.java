@@ -19,6 +19,7 @@
 package boofcv.struct.pyramid;
 
 import boofcv.struct.image.ImageBase;
+import boofcv.struct.image.ImagePool;
 import boofcv.struct.image.ImageType;
 
 /**
@@ -34,6 +35,19 @@ import boofcv.struct.image.ImageType;
  * to true.
  * </p>
  *
+ * <p>
+ * In lazy mode {@link #process} only saves a reference to the input image and each layer is computed the first
+ * time it's requested by {@link #getLayer(int)}. Consumers which only look at a few layers will skip computing
+ * the others. Requesting layers is thread safe so that a single pyramid can be shared by multiple consumers of
+ * the same image, but the input image must not be modified until every layer which will be used has been requested.
+ * Subclasses compute one layer at a time in {@link #computeLayer(ImageBase, int)}.
+ * </p>
+ *
+ * <p>
+ * If an {@link ImagePool} is specified then layers are taken from the pool and returned to it when the input
+ * image's shape changes.  Useful when the same pyramid processes images of different sizes.
+ * </p>
+ *
  * @author Peter Abeles
  */
 @SuppressWarnings({"unchecked"})
@@ -52,6 +66,16 @@ public abstract class ImagePyramidBase<T extends ImageBase<T>>
 
 	ImageType<T> imageType;
 
+	// if true then layers are only computed when they are requested
+	protected boolean lazy = false;
+	// number of layers, starting from the bottom, which have been computed from the latest input image
+	protected volatile int totalComputed;
+	// the latest input image.  Only saved until all the layers have been computed.
+	protected T input;
+
+	// if not null then layers are recycled using this pool
+	protected ImagePool imagePool;
+
 	/**
 	 * Specifies input image size and behavior of top most layer.
 	 *
@@ -77,23 +101,96 @@ public abstract class ImagePyramidBase<T extends ImageBase<T>>
 
 		this.bottomWidth = width;
 		this.bottomHeight = height;
+		recycleLayers();
 		layers = imageType.createArray(getNumLayers());
 		double scaleFactor = getScale(0);
 
 		if (scaleFactor == 1) {
 			if (!saveOriginalReference) {
-				layers[0] = imageType.createImage(bottomWidth, bottomHeight);
+				layers[0] = declareLayer(bottomWidth, bottomHeight);
 			}
 		} else {
-			layers[0] = imageType.createImage((int)Math.ceil(bottomWidth / scaleFactor), (int)Math.ceil(bottomHeight / scaleFactor));
+			layers[0] = declareLayer((int)Math.ceil(bottomWidth / scaleFactor), (int)Math.ceil(bottomHeight / scaleFactor));
 		}
 
 		for (int i = 1; i < layers.length; i++) {
 			scaleFactor = getScale(i);
-			layers[i] = imageType.createImage((int)Math.ceil(bottomWidth / scaleFactor), (int)Math.ceil(bottomHeight / scaleFactor));
+			layers[i] = declareLayer((int)Math.ceil(bottomWidth / scaleFactor), (int)Math.ceil(bottomHeight / scaleFactor));
+		}
+	}
+
+	/**
+	 * Declares the image for a layer, taking it from the pool if one has been specified
+	 */
+	private T declareLayer( int width , int height ) {
+		if( imagePool == null )
+			return imageType.createImage(width,height);
+		else
+			return imagePool.acquire(imageType,width,height);
+	}
+
+	/**
+	 * Returns layers which were declared by the pyramid to the pool, if there is one
+	 */
+	private void recycleLayers() {
+		if( imagePool == null || layers == null )
+			return;
+
+		for (int i = 0; i < layers.length; i++) {
+			// the first layer might be a reference to an input image
+			if( i == 0 && saveOriginalReference )
+				continue;
+			imagePool.release(layers[i]);
+		}
+		layers = null;
+	}
+
+	/**
+	 * Updates the pyramid using the input image. If not lazy then all the layers are computed immediately.
+	 *
+	 * @param input Input image.  If lazy it must not be modified until the layers have been requested.
+	 */
+	@Override
+	public void process( T input ) {
+		initialize(input.width, input.height);
+
+		if( saveOriginalReference && getScale(0) == 1 )
+			setFirstLayer(input);
+
+		synchronized (this) {
+			this.input = input;
+			totalComputed = 0;
+		}
+
+		if( !lazy )
+			computeLayers(getNumLayers());
+	}
+
+	/**
+	 * Computes layers until the specified number of layers, starting from the bottom, are up to date.
+	 *
+	 * @param total Number of layers which need to be computed
+	 */
+	protected synchronized void computeLayers( int total ) {
+		while( totalComputed < total ) {
+			computeLayer(input, totalComputed);
+			totalComputed++;
 		}
+		// no need to hold onto the input image any more
+		if( totalComputed == layers.length )
+			input = null;
 	}
 
+	/**
+	 * Computes the specified layer.  All the layers below it have already been computed and should be
+	 * accessed using {@link #layers} and not {@link #getLayer(int)}.  If the bottom layer is a reference to the
+	 * input image then it has already been assigned.
+	 *
+	 * @param input Input image
+	 * @param layer The layer which is to be computed
+	 */
+	protected abstract void computeLayer( T input , int layer );
+
 	/**
 	 * Used to internally check that the provided scales are valid.
 	 */
@@ -112,14 +209,22 @@ public abstract class ImagePyramidBase<T extends ImageBase<T>>
 	}
 
 	@Override
-	public void setTo(ImagePyramid<T> input) {
+	public synchronized void setTo(ImagePyramid<T> input) {
 		for( int i = 0; i < layers.length; i++ ) {
-			getLayer(i).setTo(input.getLayer(i));
+			layers[i].setTo(input.getLayer(i));
 		}
+		totalComputed = layers.length;
+		this.input = null;
 	}
 
+	/**
+	 * Returns the specified layer.  If lazy and the layer has yet to be computed then it, and any
+	 * layers below it, are computed first.
+	 */
 	@Override
 	public T getLayer(int layerNum) {
+		if( lazy && layerNum >= totalComputed )
+			computeLayers(layerNum+1);
 		return layers[layerNum];
 	}
 
@@ -159,4 +264,28 @@ public abstract class ImagePyramidBase<T extends ImageBase<T>>
 	public boolean isSaveOriginalReference() {
 		return saveOriginalReference;
 	}
+
+	public boolean isLazy() {
+		return lazy;
+	}
+
+	/**
+	 * Specifies if layers should only be computed when they are first requested.
+	 */
+	public void setLazy(boolean lazy) {
+		this.lazy = lazy;
+	}
+
+	public ImagePool getImagePool() {
+		return imagePool;
+	}
+
+	/**
+	 * Specifies a pool which layers are declared from and returned to when the input image's shape changes.
+	 *
+	 * @param imagePool The pool or null to declare new images.
+	 */
+	public void setImagePool(ImagePool imagePool) {
+		this.imagePool = imagePool;
+	}
 }
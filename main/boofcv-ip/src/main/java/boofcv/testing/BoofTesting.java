@@ -18,6 +18,7 @@
 
 package boofcv.testing;
 
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.core.image.*;
 import boofcv.struct.image.*;
 
@@ -35,6 +36,24 @@ import java.util.List;
 @SuppressWarnings({"unchecked"})
 public class BoofTesting {
 
+	/**
+	 * Maximum number of threads used by tests which compare concurrent and single threaded code
+	 */
+	public static final int TEST_THREADS = 4;
+
+	/**
+	 * Sets the maximum number of threads to {@link #TEST_THREADS}.  Concurrent code splits work into at most one
+	 * block per thread, so without this a machine with a single core would never test the code which splits
+	 * and merges blocks.  Call from a test's @Before and restore the returned value in its @After.
+	 *
+	 * @return The previous maximum number of threads
+	 */
+	public static int forceTestThreads() {
+		int previous = BoofConcurrency.getMaxThreads();
+		BoofConcurrency.setMaxThreads(TEST_THREADS);
+		return previous;
+	}
+
 	public static <T> T convertToGenericType(Class<?> type) {
 		if (type == GrayS8.class || type == GrayU8.class)
 			return (T) GrayI8.class;
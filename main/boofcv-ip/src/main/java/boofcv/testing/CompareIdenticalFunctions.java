@@ -18,11 +18,12 @@
 
 package boofcv.testing;
 
-import boofcv.struct.image.ImageBase;
-import boofcv.struct.image.ImageGray;
-import boofcv.struct.image.ImageInterleaved;
+import boofcv.core.image.GeneralizedImageOps;
+import boofcv.struct.image.*;
 
 import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
 
 /**
  * Provides common implementations of functions in CompareEquivalentFunctions.  Assumes only
@@ -43,7 +44,7 @@ public abstract class CompareIdenticalFunctions extends CompareEquivalentFunctio
 		for( Class<?> c : e ) {
 			if( ImageGray.class.isAssignableFrom(c))
 				return true;
-			if( ImageInterleaved.class.isAssignableFrom(c))
+			if( ImageMultiBand.class.isAssignableFrom(c))
 				return true;
 		}
 		return false;
@@ -74,7 +75,7 @@ public abstract class CompareIdenticalFunctions extends CompareEquivalentFunctio
 		Object[] ret = new Object[ targetParam.length ];
 
 		for( int i = 0; i < targetParam.length; i++ ) {
-			if( ImageBase.class.isAssignableFrom(targetParam[i].getClass()) ) {
+			if( targetParam[i] != null && ImageBase.class.isAssignableFrom(targetParam[i].getClass()) ) {
 				ret[i] = ((ImageBase)targetParam[i]).clone();
 			} else {
 				ret[i] = targetParam[i];
@@ -88,7 +89,7 @@ public abstract class CompareIdenticalFunctions extends CompareEquivalentFunctio
 	protected void compareResults(Object targetResult, Object[] targetParam, Object validationResult, Object[] validationParam) {
 
 		for( int i = 0; i < targetParam.length; i++ ) {
-			if( !ImageBase.class.isAssignableFrom(targetParam[i].getClass()) )
+			if( targetParam[i] == null || !ImageBase.class.isAssignableFrom(targetParam[i].getClass()) )
 				continue;
 
 			ImageBase t = (ImageBase)targetParam[i];
@@ -97,4 +98,20 @@ public abstract class CompareIdenticalFunctions extends CompareEquivalentFunctio
 			BoofTesting.assertEqualsRelative(v, t, 1e-4);// todo is this tolerance too big?  some operations with a slightly different ordering seem to require it
 		}
 	}
+
+	/**
+	 * Creates an image from the type of a function's parameter.  The band type of a {@link Planar} image
+	 * is found from its generic type, e.g. {@link Method#getGenericParameterTypes()}.
+	 */
+	protected static ImageBase createImage( Type type , int width , int height , int numBands ) {
+		if( type instanceof ParameterizedType ) {
+			ParameterizedType p = (ParameterizedType)type;
+			if( p.getRawType() != Planar.class )
+				throw new IllegalArgumentException("Unexpected parameterized type "+p);
+			Class bandType = (Class)p.getActualTypeArguments()[0];
+			return new Planar(bandType,width,height,numBands);
+		} else {
+			return GeneralizedImageOps.createImage((Class)type,width,height,numBands);
+		}
+	}
 }
@@ -121,6 +121,14 @@ public abstract class GenericTestDiscreteFourierTransform<T extends ImageGray<T>
 		checkMultipleCalls(new int[]{1,10,100});
 	}
 
+	/**
+	 * Switch back and forth between sizes, including more sizes than are saved
+	 */
+	@Test
+	public void multipleCalls_revisitSizes() {
+		checkMultipleCalls(new int[]{10,100,10,100,20,21,22,23,10});
+	}
+
 	private void checkMultipleCalls(int[] sizes) {
 		DiscreteFourierTransform<T,I> alg = createAlgorithm();
 
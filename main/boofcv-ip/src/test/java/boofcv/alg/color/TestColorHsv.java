@@ -19,14 +19,18 @@
 package boofcv.alg.color;
 
 import boofcv.alg.misc.GImageMiscOps;
+import boofcv.core.image.ConvertImage;
 import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.InterleavedF32;
 import boofcv.struct.image.Planar;
+import boofcv.testing.BoofTesting;
 import org.junit.Test;
 
 import java.util.Random;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.fail;
 
 /**
  * @author Peter Abeles
@@ -143,4 +147,67 @@ public class TestColorHsv {
 		assertEquals(b,found[1],tol);
 		assertEquals(c,found[2],tol);
 	}
+
+	/**
+	 * Compare the interleaved version against the planar version
+	 */
+	@Test
+	public void rgbToHsv_F32_interleaved() {
+		Planar<GrayF32> input = new Planar<>(GrayF32.class,20,25,3);
+		Planar<GrayF32> expected = new Planar<>(GrayF32.class,20,25,3);
+		GImageMiscOps.fillUniform(input, rand, 0, 1);
+
+		ColorHsv.rgbToHsv_F32(input, expected);
+
+		InterleavedF32 inputI = new InterleavedF32(20,25,3);
+		InterleavedF32 found = new InterleavedF32(20,25,3);
+		ConvertImage.convert(input, inputI);
+
+		ColorHsv.rgbToHsv_F32(inputI, found);
+
+		BoofTesting.assertEquals(expected, found, 1e-4);
+	}
+
+	/**
+	 * Compare the interleaved version against the planar version
+	 */
+	@Test
+	public void hsvToRgb_F32_interleaved() {
+		Planar<GrayF32> input = new Planar<>(GrayF32.class,20,25,3);
+		Planar<GrayF32> expected = new Planar<>(GrayF32.class,20,25,3);
+		GImageMiscOps.fillUniform(input, rand, 0, 1);
+
+		ColorHsv.hsvToRgb_F32(input, expected);
+
+		InterleavedF32 inputI = new InterleavedF32(20,25,3);
+		InterleavedF32 found = new InterleavedF32(20,25,3);
+		ConvertImage.convert(input, inputI);
+
+		ColorHsv.hsvToRgb_F32(inputI, found);
+
+		BoofTesting.assertEquals(expected, found, 1e-4);
+	}
+
+	/**
+	 * Interleaved images must have three bands
+	 */
+	@Test
+	public void interleaved_wrongNumberOfBands() {
+		try {
+			ColorHsv.rgbToHsv_F32(new InterleavedF32(20,25,1), new InterleavedF32(20,25,1));
+			fail("Should have thrown an exception");
+		} catch( IllegalArgumentException ignore ) {}
+		try {
+			ColorHsv.rgbToHsv_F32(new InterleavedF32(20,25,4), new InterleavedF32(20,25,4));
+			fail("Should have thrown an exception");
+		} catch( IllegalArgumentException ignore ) {}
+		try {
+			ColorHsv.hsvToRgb_F32(new InterleavedF32(20,25,1), new InterleavedF32(20,25,1));
+			fail("Should have thrown an exception");
+		} catch( IllegalArgumentException ignore ) {}
+		try {
+			ColorHsv.hsvToRgb_F32(new InterleavedF32(20,25,4), new InterleavedF32(20,25,4));
+			fail("Should have thrown an exception");
+		} catch( IllegalArgumentException ignore ) {}
+	}
 }
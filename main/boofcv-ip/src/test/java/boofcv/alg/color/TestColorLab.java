@@ -19,15 +19,20 @@
 package boofcv.alg.color;
 
 import boofcv.alg.misc.GImageMiscOps;
+import boofcv.core.image.ConvertImage;
 import boofcv.struct.image.GrayF32;
 import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.InterleavedF32;
+import boofcv.struct.image.InterleavedU8;
 import boofcv.struct.image.Planar;
+import boofcv.testing.BoofTesting;
 import org.junit.Test;
 
 import java.util.Random;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 /**
  * @author Peter Abeles
@@ -98,4 +103,66 @@ public class TestColorLab {
 		}
 	}
 
+	/**
+	 * Compare the interleaved version against the planar version
+	 */
+	@Test
+	public void rgbToLab_U8_interleaved() {
+		Planar<GrayU8> input = new Planar<>(GrayU8.class,20,25,3);
+		Planar<GrayF32> expected = new Planar<>(GrayF32.class,20,25,3);
+		GImageMiscOps.fillUniform(input, rand, 0, 255);
+
+		ColorLab.rgbToLab_U8(input, expected);
+
+		InterleavedU8 inputI = new InterleavedU8(20,25,3);
+		InterleavedF32 found = new InterleavedF32(20,25,3);
+		ConvertImage.convert(input, inputI);
+
+		ColorLab.rgbToLab_U8(inputI, found);
+
+		BoofTesting.assertEquals(expected, found, 1e-4);
+	}
+
+	/**
+	 * Compare the interleaved version against the planar version
+	 */
+	@Test
+	public void rgbToLab_F32_interleaved() {
+		Planar<GrayF32> input = new Planar<>(GrayF32.class,20,25,3);
+		Planar<GrayF32> expected = new Planar<>(GrayF32.class,20,25,3);
+		GImageMiscOps.fillUniform(input, rand, 0, 255);
+
+		ColorLab.rgbToLab_F32(input, expected);
+
+		InterleavedF32 inputI = new InterleavedF32(20,25,3);
+		InterleavedF32 found = new InterleavedF32(20,25,3);
+		ConvertImage.convert(input, inputI);
+
+		ColorLab.rgbToLab_F32(inputI, found);
+
+		BoofTesting.assertEquals(expected, found, 1e-4);
+	}
+
+	/**
+	 * Interleaved images must have three bands
+	 */
+	@Test
+	public void interleaved_wrongNumberOfBands() {
+		try {
+			ColorLab.rgbToLab_U8(new InterleavedU8(20,25,1), new InterleavedF32(20,25,1));
+			fail("Should have thrown an exception");
+		} catch( IllegalArgumentException ignore ) {}
+		try {
+			ColorLab.rgbToLab_U8(new InterleavedU8(20,25,4), new InterleavedF32(20,25,4));
+			fail("Should have thrown an exception");
+		} catch( IllegalArgumentException ignore ) {}
+		try {
+			ColorLab.rgbToLab_F32(new InterleavedF32(20,25,1), new InterleavedF32(20,25,1));
+			fail("Should have thrown an exception");
+		} catch( IllegalArgumentException ignore ) {}
+		try {
+			ColorLab.rgbToLab_F32(new InterleavedF32(20,25,4), new InterleavedF32(20,25,4));
+			fail("Should have thrown an exception");
+		} catch( IllegalArgumentException ignore ) {}
+	}
 }
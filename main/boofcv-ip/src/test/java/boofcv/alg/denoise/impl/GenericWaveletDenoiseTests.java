@@ -19,11 +19,19 @@
 package boofcv.alg.denoise.impl;
 
 import boofcv.abst.transform.wavelet.WaveletTransform;
+import boofcv.alg.denoise.DenoiseWavelet;
 import boofcv.alg.denoise.GenericDenoiseTests;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.factory.transform.wavelet.FactoryWaveletTransform;
+import boofcv.struct.image.GrayF32;
 import boofcv.struct.image.ImageGray;
 import boofcv.struct.wavelet.WaveletDescription;
 import boofcv.testing.BoofTesting;
+import org.junit.After;
+import org.junit.Before;
+
+import java.util.Random;
 
 
 /**
@@ -37,6 +45,18 @@ public abstract class GenericWaveletDenoiseTests<T extends ImageGray<T>> extends
 
 	WaveletTransform transform;
 
+	int previousThreads;
+
+	@Before
+	public void forceThreads() {
+		previousThreads = BoofTesting.forceTestThreads();
+	}
+
+	@After
+	public void restoreThreads() {
+		BoofConcurrency.setMaxThreads(previousThreads);
+	}
+
 	public GenericWaveletDenoiseTests(Class imageType, int noiseSigma,
 									  WaveletDescription waveletDesc, int numLevels ) {
 		super(imageType, noiseSigma);
@@ -61,4 +81,19 @@ public abstract class GenericWaveletDenoiseTests<T extends ImageGray<T>> extends
 
 		transform.invert(transformedImg,imageDenoised);
 	}
+
+	/**
+	 * Concurrent and single threaded denoising should produce identical results
+	 */
+	public static void compareConcurrent( DenoiseWavelet<GrayF32> single , DenoiseWavelet<GrayF32> concurrent ) {
+		int numLevels = 3;
+		GrayF32 expected = new GrayF32(120,96);
+		ImageMiscOps.fillUniform(expected,new Random(234),-20,20);
+		GrayF32 found = expected.clone();
+
+		single.denoise(expected,numLevels);
+		concurrent.denoise(found,numLevels);
+
+		BoofTesting.assertEquals(expected,found,0);
+	}
 }
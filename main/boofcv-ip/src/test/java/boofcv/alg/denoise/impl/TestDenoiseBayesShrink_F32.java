@@ -40,6 +40,16 @@ public class TestDenoiseBayesShrink_F32 extends GenericWaveletDenoiseTests<GrayF
 		performTest();
 	}
 
+	@Test
+	public void compareConcurrent() {
+		DenoiseBayesShrink_F32 single = new DenoiseBayesShrink_F32(new ShrinkThresholdSoft_F32());
+		DenoiseBayesShrink_F32 concurrent = new DenoiseBayesShrink_F32(new ShrinkThresholdSoft_F32());
+		single.setConcurrent(false);
+		concurrent.setConcurrent(true);
+
+		compareConcurrent(single,concurrent);
+	}
+
 	@Override
 	public void denoiseWavelet(ImageGray transformedImg, int numLevels ) {
 		DenoiseBayesShrink_F32 alg = new DenoiseBayesShrink_F32(new ShrinkThresholdSoft_F32());
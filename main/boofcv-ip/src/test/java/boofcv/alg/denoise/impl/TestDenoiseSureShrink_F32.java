@@ -39,6 +39,16 @@ public class TestDenoiseSureShrink_F32 extends GenericWaveletDenoiseTests<GrayF3
 		performTest();
 	}
 
+	@Test
+	public void compareConcurrent() {
+		DenoiseSureShrink_F32 single = new DenoiseSureShrink_F32();
+		DenoiseSureShrink_F32 concurrent = new DenoiseSureShrink_F32();
+		single.setConcurrent(false);
+		concurrent.setConcurrent(true);
+
+		compareConcurrent(single,concurrent);
+	}
+
 	@Override
 	public void denoiseWavelet(ImageGray transformedImg, int numLevels ) {
 		DenoiseSureShrink_F32 alg = new DenoiseSureShrink_F32();
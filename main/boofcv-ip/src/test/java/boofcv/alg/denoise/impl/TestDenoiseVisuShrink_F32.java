@@ -39,6 +39,16 @@ public class TestDenoiseVisuShrink_F32 extends GenericWaveletDenoiseTests<GrayF3
 		performTest();
 	}
 
+	@Test
+	public void compareConcurrent() {
+		DenoiseVisuShrink_F32 single = new DenoiseVisuShrink_F32();
+		DenoiseVisuShrink_F32 concurrent = new DenoiseVisuShrink_F32();
+		single.setConcurrent(false);
+		concurrent.setConcurrent(true);
+
+		compareConcurrent(single,concurrent);
+	}
+
 	@Override
 	public void denoiseWavelet(ImageGray transformedImg, int numLevels ) {
 		DenoiseVisuShrink_F32 alg = new DenoiseVisuShrink_F32();
@@ -38,13 +38,7 @@ public class TestImageDistortBasic_IL {
 
 	float offX=0,offY=0;
 
-	PixelTransform2_F32 tran = new PixelTransform2_F32() {
-		@Override
-		public void compute(int x, int y) {
-			distX = x+offX;
-			distY = y+offY;
-		}
-	};
+	PixelTransform2_F32 tran = new OffsetTransform();
 
 	@Test
 	public void applyRenderAll_true() {
@@ -132,4 +126,16 @@ public class TestImageDistortBasic_IL {
 		}
 	}
 
+	private class OffsetTransform extends PixelTransform2_F32 {
+		@Override
+		public void compute(int x, int y) {
+			distX = x+offX;
+			distY = y+offY;
+		}
+
+		@Override
+		public PixelTransform2_F32 copyConcurrent() {
+			return new OffsetTransform();
+		}
+	}
 }
@@ -36,13 +36,7 @@ public class TestImageDistortBasic_SB {
 
 	float offX=0,offY=0;
 
-	PixelTransform2_F32 tran = new PixelTransform2_F32() {
-		@Override
-		public void compute(int x, int y) {
-			distX = x+offX;
-			distY = y+offY;
-		}
-	};
+	PixelTransform2_F32 tran = new OffsetTransform();
 
 	@Test
 	public void applyRenderAll_true() {
@@ -125,5 +119,16 @@ public class TestImageDistortBasic_SB {
 		}
 	}
 
+	private class OffsetTransform extends PixelTransform2_F32 {
+		@Override
+		public void compute(int x, int y) {
+			distX = x+offX;
+			distY = y+offY;
+		}
 
+		@Override
+		public PixelTransform2_F32 copyConcurrent() {
+			return new OffsetTransform();
+		}
+	}
 }
@@ -35,13 +35,7 @@ public class TestImageDistortCache_SB {
 
 	float offX=0,offY=0;
 
-	PixelTransform2_F32 tran = new PixelTransform2_F32() {
-		@Override
-		public void compute(int x, int y) {
-			distX = x+offX;
-			distY = y+offY;
-		}
-	};
+	PixelTransform2_F32 tran = new OffsetTransform();
 
 	@Test
 	public void applyBorder() {
@@ -116,4 +110,17 @@ public class TestImageDistortCache_SB {
 			assertTrue(dstImg.isInBounds(x,y));
 		}
 	}
+
+	private class OffsetTransform extends PixelTransform2_F32 {
+		@Override
+		public void compute(int x, int y) {
+			distX = x+offX;
+			distY = y+offY;
+		}
+
+		@Override
+		public PixelTransform2_F32 copyConcurrent() {
+			return new OffsetTransform();
+		}
+	}
 }
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.distort;
+
+import boofcv.alg.distort.impl.GeneralImageDistortTests;
+import boofcv.alg.interpolate.InterpolatePixel;
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.struct.distort.PixelTransform2_F32;
+import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.ImageType;
+import boofcv.struct.image.InterleavedU8;
+import boofcv.testing.BoofTesting;
+import georegression.struct.affine.Affine2D_F32;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertSame;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestImageDistortRemap extends GeneralImageDistortTests<InterleavedU8> {
+
+	Random rand = new Random(234);
+
+	public TestImageDistortRemap() {
+		super(ImageType.il(2,InterleavedU8.class));
+	}
+
+	@Override
+	public ImageDistort<InterleavedU8, InterleavedU8>
+	createDistort(PixelTransform2_F32 dstToSrc, InterpolatePixel<InterleavedU8> interp) {
+		ImageDistortRemap<InterleavedU8> ret = new ImageDistortRemap<>();
+		ret.setModel(dstToSrc);
+		return ret;
+	}
+
+	/**
+	 * A table which was computed by one instance should produce the same results in another
+	 */
+	@Test
+	public void setTable() {
+		GrayU8 src = new GrayU8(width, height);
+		GrayU8 expected = new GrayU8(width, height);
+		GrayU8 found = new GrayU8(width, height);
+		GImageMiscOps.fillUniform(src, rand, 0, 200);
+
+		ImageDistortRemap<GrayU8> algA = new ImageDistortRemap<>();
+		algA.setModel(new BasicTransform());
+		algA.apply(src, expected);
+
+		ImageDistortRemap<GrayU8> algB = new ImageDistortRemap<>();
+		algB.setTable(algA.getTable());
+		algB.apply(src, found);
+
+		assertSame(algA.getTable(), algB.getTable());
+		BoofTesting.assertEquals(expected, found, 0);
+	}
+
+	/**
+	 * The table doesn't match the image and it has no model to recompute it with
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void setTable_wrongShape() {
+		RemapTable table = new RemapTable(new BasicTransform(), width, height, width, height);
+
+		ImageDistortRemap<GrayU8> alg = new ImageDistortRemap<>();
+		alg.setTable(table);
+		alg.apply(new GrayU8(width, height), new GrayU8(width+1, height));
+	}
+
+	/**
+	 * The model changes but the image shape doesn't. Table should be recomputed.
+	 */
+	@Test
+	public void setModel_recompute() {
+		GrayU8 src = new GrayU8(width, height);
+		GrayU8 dst = new GrayU8(width, height);
+		GImageMiscOps.fillUniform(src, rand, 0, 200);
+
+		ImageDistortRemap<GrayU8> alg = new ImageDistortRemap<>();
+		alg.setModel(new BasicTransform());
+		alg.apply(src, dst);
+
+		alg.setModel(new PixelTransformAffine_F32(new Affine2D_F32(1,0,0,1,0,0)));
+		alg.apply(src, dst);
+
+		BoofTesting.assertEquals(src, dst, 0);
+	}
+}
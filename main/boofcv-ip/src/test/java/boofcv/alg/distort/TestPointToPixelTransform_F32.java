@@ -49,5 +49,10 @@ public class TestPointToPixelTransform_F32 {
 			out.x = x + 0.1f;
 			out.y = y + 0.2f;
 		}
+
+		@Override
+		public Point2Transform2_F32 copyConcurrent() {
+			return this;
+		}
 	}
 }
@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.distort;
+
+import boofcv.struct.distort.PixelTransform2_F32;
+import org.junit.Test;
+
+import java.io.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestRemapTable {
+
+	int srcWidth = 30, srcHeight = 25;
+	int dstWidth = 20, dstHeight = 15;
+
+	PixelTransform2_F32 affine = new PixelTransform2_F32() {
+		@Override
+		public void compute(int x, int y) {
+			distX = 1.1f*x + 0.2f*y - 2.3f;
+			distY = -0.1f*x + 1.3f*y + 1.7f;
+		}
+
+		@Override
+		public PixelTransform2_F32 copyConcurrent() {
+			throw new RuntimeException("Not used");
+		}
+	};
+
+	/**
+	 * Reconstruct the sampled point from the table and see if it matches the original to within quantization error
+	 */
+	@Test
+	public void compute() {
+		RemapTable table = new RemapTable(affine, srcWidth, srcHeight, dstWidth, dstHeight);
+
+		assertTrue(table.isShape(srcWidth, srcHeight, dstWidth, dstHeight));
+
+		int numOutside = 0;
+		for (int y = 0; y < dstHeight; y++) {
+			for (int x = 0; x < dstWidth; x++) {
+				affine.compute(x,y);
+				int index = y*dstWidth+x;
+
+				boolean inside = affine.distX >= 0 && affine.distX <= srcWidth-1 &&
+						affine.distY >= 0 && affine.distY <= srcHeight-1;
+
+				if( !inside ) {
+					assertEquals(RemapTable.OUTSIDE, table.frac[index]);
+					numOutside++;
+					continue;
+				}
+
+				int px = table.coor[index*2], py = table.coor[index*2+1];
+				int fx = table.frac[index] & 0xFF, fy = table.frac[index] >> 8;
+
+				// the 2x2 region must be inside the image
+				assertTrue(px >= 0 && px < srcWidth-1);
+				assertTrue(py >= 0 && py < srcHeight-1);
+				assertTrue(fx >= 0 && fx <= RemapTable.SCALE);
+				assertTrue(fy >= 0 && fy <= RemapTable.SCALE);
+
+				float tol = 0.5f/RemapTable.SCALE + 1e-4f;
+				assertEquals(affine.distX, px + fx/(float)RemapTable.SCALE, tol);
+				assertEquals(affine.distY, py + fy/(float)RemapTable.SCALE, tol);
+			}
+		}
+		// sanity check
+		assertTrue(numOutside > 0);
+	}
+
+	/**
+	 * Points on the right and bottom border
+	 */
+	@Test
+	public void compute_lowerBorder() {
+		PixelTransform2_F32 tran = new PixelTransform2_F32() {
+			@Override
+			public void compute(int x, int y) {
+				distX = srcWidth-1;
+				distY = srcHeight-1;
+			}
+
+			@Override
+			public PixelTransform2_F32 copyConcurrent() {
+				throw new RuntimeException("Not used");
+			}
+		};
+
+		RemapTable table = new RemapTable(tran, srcWidth, srcHeight, 2, 1);
+
+		for (int i = 0; i < 2; i++) {
+			assertEquals(srcWidth-2, table.coor[i*2]);
+			assertEquals(srcHeight-2, table.coor[i*2+1]);
+			assertEquals(RemapTable.SCALE | (RemapTable.SCALE << 8), table.frac[i]);
+		}
+	}
+
+	@Test
+	public void compute_nan() {
+		PixelTransform2_F32 tran = new PixelTransform2_F32() {
+			@Override
+			public void compute(int x, int y) {
+				distX = Float.NaN;
+				distY = 2;
+			}
+
+			@Override
+			public PixelTransform2_F32 copyConcurrent() {
+				throw new RuntimeException("Not used");
+			}
+		};
+
+		RemapTable table = new RemapTable(tran, srcWidth, srcHeight, 1, 1);
+		assertEquals(RemapTable.OUTSIDE, table.frac[0]);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void compute_tooSmall() {
+		new RemapTable(affine, 1, srcHeight, dstWidth, dstHeight);
+	}
+
+	@Test
+	public void reshape() {
+		RemapTable table = new RemapTable();
+		table.reshape(srcWidth, srcHeight, dstWidth, dstHeight);
+		assertEquals(dstWidth*dstHeight, table.frac.length);
+		assertEquals(2*dstWidth*dstHeight, table.coor.length);
+
+		// shrinking shouldn't declare new memory
+		short[] frac = table.frac;
+		table.reshape(srcWidth, srcHeight, dstWidth-1, dstHeight);
+		assertSame(frac, table.frac);
+		assertTrue(table.isShape(srcWidth, srcHeight, dstWidth-1, dstHeight));
+		assertFalse(table.isShape(srcWidth, srcHeight, dstWidth, dstHeight));
+	}
+
+	@Test
+	public void serialize() throws IOException, ClassNotFoundException {
+		RemapTable table = new RemapTable(affine, srcWidth, srcHeight, dstWidth, dstHeight);
+
+		ByteArrayOutputStream streamOut = new ByteArrayOutputStream(1000);
+		ObjectOutputStream out = new ObjectOutputStream(streamOut);
+		out.writeObject(table);
+		out.close();
+
+		ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(streamOut.toByteArray()));
+		RemapTable found = (RemapTable)in.readObject();
+
+		assertTrue(found.isShape(srcWidth, srcHeight, dstWidth, dstHeight));
+		assertArrayEquals(table.coor, found.coor);
+		assertArrayEquals(table.frac, found.frac);
+	}
+}
@@ -19,15 +19,21 @@
 package boofcv.alg.distort.impl;
 
 import boofcv.alg.distort.ImageDistort;
+import boofcv.alg.distort.ImageDistortBasic;
+import boofcv.alg.distort.ImageDistortCache_SB;
 import boofcv.alg.interpolate.InterpolatePixel;
 import boofcv.alg.interpolate.InterpolationType;
 import boofcv.alg.misc.GImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.core.image.GeneralizedImageOps;
 import boofcv.core.image.border.BorderType;
 import boofcv.factory.interpolate.FactoryInterpolation;
 import boofcv.struct.distort.PixelTransform2_F32;
 import boofcv.struct.image.ImageBase;
 import boofcv.struct.image.ImageType;
+import boofcv.testing.BoofTesting;
+import org.junit.After;
+import org.junit.Before;
 import org.junit.Test;
 
 import java.util.Random;
@@ -43,8 +49,8 @@ public abstract class GeneralImageDistortTests<T extends ImageBase<T>> {
 
 	Random rand = new Random(123);
 
-	int width = 30;
-	int height = 20;
+	protected int width = 30;
+	protected int height = 20;
 
 	int offX = 2;
 	int offY = 1;
@@ -52,6 +58,18 @@ public abstract class GeneralImageDistortTests<T extends ImageBase<T>> {
 	InterpolatePixel<T> interp;
 	ImageType<T> imageType;
 
+	int previousThreads;
+
+	@Before
+	public void forceThreads() {
+		previousThreads = BoofTesting.forceTestThreads();
+	}
+
+	@After
+	public void restoreThreads() {
+		BoofConcurrency.setMaxThreads(previousThreads);
+	}
+
 	public GeneralImageDistortTests( ImageType<T> imageType ) {
 		this.imageType = imageType;
 		interp = FactoryInterpolation.createPixel(0,255, InterpolationType.NEAREST_NEIGHBOR,BorderType.ZERO,imageType);
@@ -222,6 +240,36 @@ public abstract class GeneralImageDistortTests<T extends ImageBase<T>> {
 		}
 	}
 
+	/**
+	 * Concurrent and single threaded rendering should produce identical results
+	 */
+	@Test
+	public void compareConcurrent() {
+		for( boolean renderAll : new boolean[]{true,false}) {
+			T src = imageType.createImage(width, height);
+			T expected = imageType.createImage(width, height);
+			T found = imageType.createImage(width, height);
+
+			GImageMiscOps.fillUniform(src, rand, 0, 10);
+			GImageMiscOps.fill(expected, 50);
+			GImageMiscOps.fill(found, 50);
+
+			ImageDistort<T,T> alg = createDistort(new BasicTransform(), interp);
+			// force it to split the small test image into several bands
+			if( alg instanceof ImageDistortBasic )
+				((ImageDistortBasic)alg).setMinBandPixels(1);
+			else if( alg instanceof ImageDistortCache_SB )
+				((ImageDistortCache_SB)alg).setMinBandPixels(1);
+			alg.setRenderAll(renderAll);
+			alg.setConcurrent(false);
+			alg.apply(src, expected, 1, 2, width - 3, height - 1);
+			alg.setConcurrent(true);
+			alg.apply(src, found, 1, 2, width - 3, height - 1);
+
+			BoofTesting.assertEquals(expected, found, 1e-4);
+		}
+	}
+
 	public class BasicTransform extends PixelTransform2_F32 {
 
 
@@ -230,5 +278,10 @@ public abstract class GeneralImageDistortTests<T extends ImageBase<T>> {
 			this.distX = x+offX;
 			this.distY = y+offY;
 		}
+
+		@Override
+		public PixelTransform2_F32 copyConcurrent() {
+			return new BasicTransform();
+		}
 	}
 }
@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.distort.impl;
+
+import boofcv.alg.distort.ImageDistort;
+import boofcv.alg.distort.ImageDistortRemap;
+import boofcv.alg.distort.RemapTable;
+import boofcv.alg.interpolate.InterpolatePixel;
+import boofcv.alg.interpolate.InterpolationType;
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.core.image.GeneralizedImageOps;
+import boofcv.core.image.border.BorderType;
+import boofcv.factory.distort.FactoryDistort;
+import boofcv.struct.distort.PixelTransform2_F32;
+import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.ImageBase;
+import boofcv.struct.image.ImageType;
+import boofcv.struct.image.InterleavedU8;
+import boofcv.testing.BoofTesting;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestImplImageRemap_U8 extends GeneralImageDistortTests<GrayU8> {
+
+	Random rand = new Random(234);
+
+	PixelTransform2_F32 affine = new PixelTransform2_F32() {
+		@Override
+		public void compute(int x, int y) {
+			distX = 0.9f*x + 0.15f*y - 1.3f;
+			distY = -0.1f*x + 1.05f*y + 0.7f;
+		}
+
+		@Override
+		public PixelTransform2_F32 copyConcurrent() {
+			throw new RuntimeException("Not used");
+		}
+	};
+
+	public TestImplImageRemap_U8() {
+		super(ImageType.single(GrayU8.class));
+	}
+
+	@Override
+	public ImageDistort<GrayU8, GrayU8> createDistort(PixelTransform2_F32 dstToSrc, InterpolatePixel<GrayU8> interp) {
+		ImageDistortRemap<GrayU8> ret = new ImageDistortRemap<>();
+		ret.setConcurrent(false);
+		ret.setModel(dstToSrc);
+		return ret;
+	}
+
+	/**
+	 * Compare against floating point bilinear interpolation. Should be the same to within quantization error
+	 */
+	@Test
+	public void compareToFloat() {
+		compareToFloat(ImageType.single(GrayU8.class));
+		compareToFloat(ImageType.il(3, InterleavedU8.class));
+	}
+
+	private <T extends ImageBase<T>> void compareToFloat( ImageType<T> type ) {
+		T src = type.createImage(width, height);
+		T expected = type.createImage(width, height);
+		T found = type.createImage(width, height);
+
+		GImageMiscOps.fillUniform(src, rand, 0, 100);
+
+		ImageDistort<T,T> alg = FactoryDistort.distort(false, InterpolationType.BILINEAR, BorderType.ZERO, type, type);
+		alg.setRenderAll(false);
+		alg.setModel(affine);
+		alg.apply(src, expected);
+
+		RemapTable table = new RemapTable(affine, width, height, width, height);
+		apply(table, src, found, 0, 0, width, height, false);
+
+		// the float version rounds down. Coordinates are off by 1/(2*SCALE) in x and y
+		double tol = 1.0 + 2*100.0/(2*RemapTable.SCALE);
+		double totalError = 0;
+		int N = width*height*type.getNumBands();
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				for (int band = 0; band < type.getNumBands(); band++) {
+					double a = GeneralizedImageOps.get(expected, x, y, band);
+					double b = GeneralizedImageOps.get(found, x, y, band);
+					assertEquals(a, b, tol);
+					totalError += Math.abs(a-b);
+				}
+			}
+		}
+		assertTrue(totalError/N < 1.0);
+	}
+
+	/**
+	 * Input and output are sub-images
+	 */
+	@Test
+	public void subimage() {
+		subimage(ImageType.single(GrayU8.class));
+		subimage(ImageType.il(3, InterleavedU8.class));
+	}
+
+	private <T extends ImageBase<T>> void subimage( ImageType<T> type ) {
+		T src = type.createImage(width, height);
+		T expected = type.createImage(width, height);
+		GImageMiscOps.fillUniform(src, rand, 0, 200);
+
+		RemapTable table = new RemapTable(affine, width, height, width, height);
+		apply(table, src, expected, 2, 3, width-1, height-4, true);
+
+		T subSrc = BoofTesting.createSubImageOf(src);
+		T found = BoofTesting.createSubImageOf(type.createImage(width, height));
+		apply(table, subSrc, found, 2, 3, width-1, height-4, true);
+
+		BoofTesting.assertEquals(expected, found, 0);
+	}
+
+	static void apply( RemapTable table, ImageBase src, ImageBase dst, int x0, int y0, int x1, int y1, boolean renderAll ) {
+		if( src instanceof GrayU8 )
+			ImplImageRemap_U8.apply(table, (GrayU8)src, (GrayU8)dst, x0, y0, x1, y1, renderAll);
+		else
+			ImplImageRemap_U8.apply(table, (InterleavedU8)src, (InterleavedU8)dst, x0, y0, x1, y1, renderAll);
+	}
+}
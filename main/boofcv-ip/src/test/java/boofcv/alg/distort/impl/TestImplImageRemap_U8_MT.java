@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.distort.impl;
+
+import boofcv.alg.distort.RemapTable;
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.distort.PixelTransform2_F32;
+import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.InterleavedU8;
+import boofcv.testing.BoofTesting;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Random;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestImplImageRemap_U8_MT {
+
+	Random rand = new Random(234);
+
+	int width = 120, height = 90;
+
+	PixelTransform2_F32 tran = new PixelTransform2_F32() {
+		@Override
+		public void compute(int x, int y) {
+			// mild radial distortion
+			float dx = x - width/2, dy = y - height/2;
+			float r2 = (dx*dx + dy*dy)/(width*width);
+			distX = width/2 + dx*(1 + 0.2f*r2);
+			distY = height/2 + dy*(1 + 0.2f*r2);
+		}
+
+		@Override
+		public PixelTransform2_F32 copyConcurrent() {
+			throw new RuntimeException("Not used");
+		}
+	};
+
+	int previousThreads;
+
+	@Before
+	public void forceThreads() {
+		previousThreads = BoofTesting.forceTestThreads();
+	}
+
+	@After
+	public void restoreThreads() {
+		BoofConcurrency.setMaxThreads(previousThreads);
+	}
+
+	@Test
+	public void compareToSingle_Gray() {
+		RemapTable table = new RemapTable(tran, width, height, width, height);
+
+		GrayU8 src = new GrayU8(width, height);
+		GrayU8 expected = new GrayU8(width, height);
+		GrayU8 found = new GrayU8(width, height);
+		GImageMiscOps.fillUniform(src, rand, 0, 255);
+
+		for( boolean renderAll : new boolean[]{true,false}) {
+			GImageMiscOps.fill(expected, 50);
+			GImageMiscOps.fill(found, 50);
+			ImplImageRemap_U8.apply(table, src, expected, 3, 2, width-5, height-1, renderAll);
+			ImplImageRemap_U8_MT.apply(table, src, found, 3, 2, width-5, height-1, renderAll);
+			BoofTesting.assertEquals(expected, found, 0);
+		}
+	}
+
+	@Test
+	public void compareToSingle_Interleaved() {
+		RemapTable table = new RemapTable(tran, width, height, width, height);
+
+		InterleavedU8 src = new InterleavedU8(width, height, 3);
+		InterleavedU8 expected = new InterleavedU8(width, height, 3);
+		InterleavedU8 found = new InterleavedU8(width, height, 3);
+		GImageMiscOps.fillUniform(src, rand, 0, 255);
+
+		for( boolean renderAll : new boolean[]{true,false}) {
+			GImageMiscOps.fill(expected, 50);
+			GImageMiscOps.fill(found, 50);
+			ImplImageRemap_U8.apply(table, src, expected, 3, 2, width-5, height-1, renderAll);
+			ImplImageRemap_U8_MT.apply(table, src, found, 3, 2, width-5, height-1, renderAll);
+			BoofTesting.assertEquals(expected, found, 0);
+		}
+	}
+}
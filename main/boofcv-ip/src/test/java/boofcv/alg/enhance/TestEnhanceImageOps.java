@@ -20,9 +20,13 @@ package boofcv.alg.enhance;
 
 import boofcv.alg.enhance.impl.ImplEnhanceHistogram;
 import boofcv.alg.misc.GImageMiscOps;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.alg.misc.ImageStatistics;
 import boofcv.core.image.GeneralizedImageOps;
 import boofcv.struct.image.GrayI;
+import boofcv.struct.image.GrayU8;
 import boofcv.testing.BoofTesting;
+import org.ddogleg.struct.GrowQueue_I32;
 import org.junit.Test;
 
 import java.lang.reflect.Method;
@@ -92,4 +96,33 @@ public class TestEnhanceImageOps {
 			BoofTesting.assertEquals(expected, found, 1e-10);
 		}
 	}
+
+	@Test
+	public void equalizeLocalTiles() {
+		GrayU8 input = new GrayU8(width,height);
+		GrayU8 found = new GrayU8(width,height);
+		GrayU8 expected = new GrayU8(width,height);
+
+		BoofTesting.checkSubImage(this,"equalizeLocalTiles",true,input,found,expected);
+	}
+
+	public void equalizeLocalTiles(GrayU8 input , GrayU8 found , GrayU8 expected ) {
+		ImageMiscOps.fillUniform(input, rand, 0, 100);
+
+		// a tile larger than the image without clipping is the same as equalizing the whole image
+		int transform[] = new int[256];
+		int histogram[] = new int[256];
+		ImageStatistics.histogram(input,0,histogram);
+		EnhanceImageOps.equalize(histogram,transform);
+		EnhanceImageOps.applyTransform(input,transform,expected);
+
+		GrowQueue_I32 transforms = new GrowQueue_I32();
+		EnhanceImageOps.equalizeLocalTiles(input,100,0,found,transforms);
+		BoofTesting.assertEquals(expected, found, 1e-10);
+		assertEquals(256,transforms.size);
+
+		// smaller tiles
+		EnhanceImageOps.equalizeLocalTiles(input,5,3,found,transforms);
+		assertEquals(3*4*256,transforms.size);
+	}
 }
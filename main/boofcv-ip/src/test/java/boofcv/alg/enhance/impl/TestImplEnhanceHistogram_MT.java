@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.enhance.impl;
+
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.core.image.GeneralizedImageOps;
+import boofcv.struct.image.GrayI;
+import boofcv.struct.image.ImageGray;
+import boofcv.testing.BoofTesting;
+import org.ddogleg.struct.FastQueue;
+import org.ddogleg.struct.GrowQueue_I32;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.reflect.Method;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+@SuppressWarnings("unchecked")
+public class TestImplEnhanceHistogram_MT {
+
+	int width = 40;
+	int height = 90;
+	Random rand = new Random(234);
+
+	int previousThreads;
+
+	@Before
+	public void forceThreads() {
+		previousThreads = BoofTesting.forceTestThreads();
+	}
+
+	@After
+	public void restoreThreads() {
+		BoofConcurrency.setMaxThreads(previousThreads);
+	}
+
+	@Test
+	public void applyTransform() {
+		int numFound = 0;
+
+		for( Method method : ImplEnhanceHistogram_MT.class.getMethods() ) {
+			if( method.getName().compareTo("applyTransform") != 0 )
+				continue;
+
+			numFound++;
+
+			Class imageType = method.getParameterTypes()[0];
+			ImageGray input = GeneralizedImageOps.createSingleBand(imageType,width,height);
+			ImageGray found = GeneralizedImageOps.createSingleBand(imageType,width,height);
+			ImageGray expected = GeneralizedImageOps.createSingleBand(imageType,width,height);
+
+			BoofTesting.checkSubImage(this,"applyTransform",true,input,found,expected);
+		}
+
+		assertEquals(5,numFound);
+	}
+
+	public void applyTransform(ImageGray input , ImageGray found , ImageGray expected ) {
+		int min = input.getDataType().isSigned() ? -10 : 0;
+		int transform[] = new int[10-min];
+
+		GImageMiscOps.fillUniform(input, rand, min, 10);
+		for( int i = 0; i < transform.length; i++ )
+			transform[i] = rand.nextInt(100);
+
+		if(input.getDataType().isSigned() ) {
+			BoofTesting.callStaticMethod(ImplEnhanceHistogram_MT.class,"applyTransform",input,transform,min,found);
+			BoofTesting.callStaticMethod(ImplEnhanceHistogram.class,"applyTransform",input,transform,min,expected);
+		} else {
+			BoofTesting.callStaticMethod(ImplEnhanceHistogram_MT.class,"applyTransform",input,transform,found);
+			BoofTesting.callStaticMethod(ImplEnhanceHistogram.class,"applyTransform",input,transform,expected);
+		}
+
+		BoofTesting.assertEquals(expected,found,0);
+	}
+
+	@Test
+	public void equalizeLocalInner() {
+		int numFound = 0;
+
+		for( Method method : ImplEnhanceHistogram_MT.class.getMethods() ) {
+			if( method.getName().compareTo("equalizeLocalInner") != 0 )
+				continue;
+
+			numFound++;
+
+			Class imageType = method.getParameterTypes()[0];
+			GrayI input = (GrayI)GeneralizedImageOps.createSingleBand(imageType,width,height);
+			GrayI found = (GrayI)GeneralizedImageOps.createSingleBand(imageType,width,height);
+			GrayI expected = (GrayI)GeneralizedImageOps.createSingleBand(imageType,width,height);
+
+			BoofTesting.checkSubImage(this,"equalizeLocalInner",true,input,found,expected);
+		}
+
+		assertEquals(2,numFound);
+	}
+
+	public void equalizeLocalInner(GrayI input , GrayI found , GrayI expected ) {
+		int histogram[] = new int[50];
+		FastQueue<GrowQueue_I32> work = new FastQueue<>(GrowQueue_I32.class,true);
+
+		GImageMiscOps.fillUniform(input,rand,0,50);
+
+		for( int radius = 1; radius < 6; radius++ ) {
+			GImageMiscOps.fill(found,0);
+			GImageMiscOps.fill(expected,0);
+
+			BoofTesting.callStaticMethod(ImplEnhanceHistogram_MT.class, "equalizeLocalInner",
+					input, radius, found, histogram.length, work);
+			BoofTesting.callStaticMethod(ImplEnhanceHistogram.class, "equalizeLocalInner",
+					input, radius, expected, histogram);
+
+			BoofTesting.assertEquals(expected,found,0);
+		}
+	}
+}
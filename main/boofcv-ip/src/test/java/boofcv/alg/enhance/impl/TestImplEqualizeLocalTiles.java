@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.enhance.impl;
+
+import boofcv.alg.enhance.EnhanceImageOps;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.alg.misc.ImageStatistics;
+import boofcv.struct.image.GrayU8;
+import boofcv.testing.BoofTesting;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static boofcv.alg.enhance.impl.ImplEqualizeLocalTiles.HISTOGRAM_LENGTH;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestImplEqualizeLocalTiles {
+
+	int width = 60;
+	int height = 45;
+	Random rand = new Random(234);
+
+	@Test
+	public void clipHistogram() {
+		int histogram[] = new int[HISTOGRAM_LENGTH];
+		int total = 0;
+		for( int i = 0; i < histogram.length; i++ ) {
+			histogram[i] = i%10 == 0 ? 200 : rand.nextInt(5);
+			total += histogram[i];
+		}
+
+		ImplEqualizeLocalTiles.clipHistogram(histogram,2.0,total);
+
+		int limit = (int)(2.0*total/histogram.length);
+		int sum = 0;
+		for( int i = 0; i < histogram.length; i++ ) {
+			sum += histogram[i];
+			// the excess is spread out, so a bin can't be more than the limit plus its share of the total
+			assertTrue(histogram[i] <= limit + total/histogram.length + 1);
+		}
+		assertEquals(total,sum);
+
+		// a peak which is well below the limit should not be changed
+		histogram = new int[HISTOGRAM_LENGTH];
+		histogram[5] = 10;
+		histogram[100] = 10;
+		ImplEqualizeLocalTiles.clipHistogram(histogram,200,20);
+		assertEquals(10,histogram[5]);
+		assertEquals(10,histogram[100]);
+	}
+
+	/**
+	 * With a single tile and no clipping the result should be the same as equalizing the whole image
+	 */
+	@Test
+	public void singleTile() {
+		GrayU8 input = new GrayU8(width,height);
+		GrayU8 found = new GrayU8(width,height);
+		GrayU8 expected = new GrayU8(width,height);
+
+		BoofTesting.checkSubImage(this,"singleTile",true,input,found,expected);
+	}
+
+	public void singleTile( GrayU8 input , GrayU8 found , GrayU8 expected ) {
+		ImageMiscOps.fillUniform(input,rand,0,100);
+
+		int histogram[] = new int[HISTOGRAM_LENGTH];
+		int transform[] = new int[HISTOGRAM_LENGTH];
+		ImageStatistics.histogram(input,0,histogram);
+		EnhanceImageOps.equalize(histogram,transform);
+		EnhanceImageOps.applyTransform(input,transform,expected);
+
+		int transforms[] = new int[HISTOGRAM_LENGTH];
+		ImplEqualizeLocalTiles.computeTransforms(input,1,1,0,0,1,histogram,transforms);
+		ImplEqualizeLocalTiles.applyTransforms(input,1,1,transforms,0,height,found);
+
+		BoofTesting.assertEquals(expected,found,0);
+	}
+
+	/**
+	 * Pixels at tile centers should only use that tile's transform and pixels in between are interpolated
+	 */
+	@Test
+	public void interpolation() {
+		int numTilesX = 3, numTilesY = 2;
+		GrayU8 input = new GrayU8(width,height);
+		ImageMiscOps.fill(input,20);
+
+		// each tile maps the input value to a different output value
+		int transforms[] = new int[numTilesX*numTilesY*HISTOGRAM_LENGTH];
+		for( int tile = 0; tile < numTilesX*numTilesY; tile++ ) {
+			transforms[tile*HISTOGRAM_LENGTH+20] = 10*(tile+1);
+		}
+
+		GrayU8 output = new GrayU8(width,height);
+		ImplEqualizeLocalTiles.applyTransforms(input,numTilesX,numTilesY,transforms,0,height,output);
+
+		for( int tileY = 0; tileY < numTilesY; tileY++ ) {
+			int y = (int)ImplEqualizeLocalTiles.tileCenter(height,numTilesY,tileY);
+			for( int tileX = 0; tileX < numTilesX; tileX++ ) {
+				int x = (int)ImplEqualizeLocalTiles.tileCenter(width,numTilesX,tileX);
+				assertEquals(10*(tileY*numTilesX+tileX+1),output.get(x,y));
+			}
+		}
+
+		// corners are outside of all the centers
+		assertEquals(10,output.get(0,0));
+		assertEquals(60,output.get(width-1,height-1));
+
+		// half way between the first two tiles along the top row
+		float c0 = ImplEqualizeLocalTiles.tileCenter(width,numTilesX,0);
+		float c1 = ImplEqualizeLocalTiles.tileCenter(width,numTilesX,1);
+		int x = (int)((c0+c1)/2);
+		float w = (x-c0)/(c1-c0);
+		assertEquals((int)(10*(1-w) + 20*w + 0.5f),output.get(x,0));
+	}
+
+	@Test
+	public void tileStart() {
+		assertEquals(0,ImplEqualizeLocalTiles.tileStart(100,3,0));
+		assertEquals(33,ImplEqualizeLocalTiles.tileStart(100,3,1));
+		assertEquals(66,ImplEqualizeLocalTiles.tileStart(100,3,2));
+		assertEquals(100,ImplEqualizeLocalTiles.tileStart(100,3,3));
+	}
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.enhance.impl;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.image.GrayU8;
+import boofcv.testing.BoofTesting;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static boofcv.alg.enhance.impl.ImplEqualizeLocalTiles.HISTOGRAM_LENGTH;
+import static org.junit.Assert.assertArrayEquals;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestImplEqualizeLocalTiles_MT {
+
+	int width = 120;
+	int height = 95;
+	Random rand = new Random(234);
+
+	int previousThreads;
+
+	@Before
+	public void forceThreads() {
+		previousThreads = BoofTesting.forceTestThreads();
+	}
+
+	@After
+	public void restoreThreads() {
+		BoofConcurrency.setMaxThreads(previousThreads);
+	}
+
+	@Test
+	public void compareToSingle() {
+		GrayU8 input = new GrayU8(width,height);
+		GrayU8 found = new GrayU8(width,height);
+		GrayU8 expected = new GrayU8(width,height);
+
+		BoofTesting.checkSubImage(this,"compareToSingle",true,input,found,expected);
+	}
+
+	public void compareToSingle( GrayU8 input , GrayU8 found , GrayU8 expected ) {
+		ImageMiscOps.fillUniform(input,rand,0,256);
+
+		int numTilesX = 5, numTilesY = 7;
+		int[] transformsFound = new int[numTilesX*numTilesY*HISTOGRAM_LENGTH];
+		int[] transformsExpected = new int[transformsFound.length];
+
+		ImplEqualizeLocalTiles_MT.computeTransforms(input,numTilesX,numTilesY,2.5,transformsFound);
+		ImplEqualizeLocalTiles.computeTransforms(input,numTilesX,numTilesY,2.5,0,numTilesY,
+				new int[HISTOGRAM_LENGTH],transformsExpected);
+		assertArrayEquals(transformsExpected,transformsFound);
+
+		ImplEqualizeLocalTiles_MT.applyTransforms(input,numTilesX,numTilesY,transformsFound,found);
+		ImplEqualizeLocalTiles.applyTransforms(input,numTilesX,numTilesY,transformsExpected,0,height,expected);
+
+		BoofTesting.assertEquals(expected,found,0);
+	}
+}
@@ -18,18 +18,24 @@
 
 package boofcv.alg.filter.binary;
 
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.core.image.border.FactoryImageBorder;
 import boofcv.core.image.border.ImageBorder;
 import boofcv.struct.ConnectRule;
 import boofcv.struct.PackedSetsPoint2D_I32;
 import boofcv.struct.image.GrayS32;
 import boofcv.struct.image.GrayU8;
+import boofcv.testing.BoofTesting;
 import georegression.struct.point.Point2D_I32;
 import org.ddogleg.struct.FastQueue;
+import org.junit.After;
+import org.junit.Before;
 import org.junit.Test;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
@@ -81,6 +87,18 @@ public class TestLinearContourLabelChang2004 {
 
 	List<Point2D_I32> local;
 
+	int previousThreads;
+
+	@Before
+	public void forceThreads() {
+		previousThreads = BoofTesting.forceTestThreads();
+	}
+
+	@After
+	public void restoreThreads() {
+		BoofConcurrency.setMaxThreads(previousThreads);
+	}
+
 	public TestLinearContourLabelChang2004() {
 		local = new ArrayList<>();
 		local.add(new Point2D_I32(-1,-1));
@@ -193,6 +211,120 @@ public class TestLinearContourLabelChang2004 {
 		assertEquals(4, alg.packedPoints.sizeOfSet(c.externalIndex +1));
 	}
 
+	/**
+	 * The concurrent implementation should produce identical output, including the order of contours and
+	 * points. Random noise creates a large number of blobs and holes which cross strip boundaries.
+	 */
+	@Test
+	public void compareToConcurrent() {
+		Random rand = new Random(234);
+
+		for( ConnectRule rule : new ConnectRule[]{ConnectRule.FOUR,ConnectRule.EIGHT}) {
+			for( double fraction : new double[]{0.1,0.5,0.8}) {
+				GrayU8 input = new GrayU8(151,203);
+				ImageMiscOps.fillUniform(input,rand,0,100);
+				for (int i = 0; i < input.data.length; i++) {
+					input.data[i] = (byte)(input.data[i] < 100*fraction ? 1 : 0);
+				}
+				compareToConcurrent(input,rule,0,Integer.MAX_VALUE,true);
+				compareToConcurrent(input,rule,5,40,true);
+				compareToConcurrent(input,rule,0,Integer.MAX_VALUE,false);
+			}
+		}
+
+		// large blobs with holes in them
+		for( ConnectRule rule : new ConnectRule[]{ConnectRule.FOUR,ConnectRule.EIGHT}) {
+			GrayU8 input = new GrayU8(120,300);
+			for (int i = 0; i < 40; i++) {
+				int x0 = rand.nextInt(input.width-10);
+				int y0 = rand.nextInt(input.height-10);
+				int x1 = x0 + 5 + rand.nextInt(input.width-x0-5);
+				int y1 = y0 + 5 + rand.nextInt(input.height-y0-5);
+				ImageMiscOps.fillRectangle(input,(i%2)==0 ? 1 : 0,x0,y0,x1-x0,y1-y0);
+			}
+			compareToConcurrent(input,rule,0,Integer.MAX_VALUE,true);
+			compareToConcurrent(BoofTesting.createSubImageOf(input),rule,0,Integer.MAX_VALUE,true);
+		}
+	}
+
+	/**
+	 * Strips are merged correctly no matter how many there are, including strips which are a single row.
+	 * Only one thread is used to make sure the number of strips doesn't depend on the number of threads.
+	 */
+	@Test
+	public void compareToConcurrent_numberOfStrips() {
+		BoofConcurrency.setMaxThreads(1);
+		Random rand = new Random(234);
+
+		for( ConnectRule rule : new ConnectRule[]{ConnectRule.FOUR,ConnectRule.EIGHT}) {
+			GrayU8 input = new GrayU8(61,45);
+			ImageMiscOps.fillUniform(input,rand,0,2);
+
+			for( int numberOfStrips : new int[]{2,7,input.height+2,1000}) {
+				compareToConcurrent(input,rule,0,Integer.MAX_VALUE,true,numberOfStrips);
+			}
+		}
+	}
+
+	private void compareToConcurrent( GrayU8 input , ConnectRule rule ,
+									  int minContour , int maxContour , boolean saveInternal ) {
+		compareToConcurrent(input, rule, minContour, maxContour, saveInternal, 0);
+	}
+
+	private void compareToConcurrent( GrayU8 input , ConnectRule rule ,
+									  int minContour , int maxContour , boolean saveInternal ,
+									  int numberOfStrips ) {
+		GrayS32 expected = new GrayS32(input.width,input.height);
+		GrayS32 found = new GrayS32(input.width,input.height);
+		ImageMiscOps.fill(found,-1);
+
+		LinearContourLabelChang2004 single = new LinearContourLabelChang2004(rule);
+		LinearContourLabelChang2004 concurrent = new LinearContourLabelChang2004(rule);
+		concurrent.setConcurrent(true);
+		concurrent.setNumberOfStrips(numberOfStrips);
+
+		for( LinearContourLabelChang2004 alg : new LinearContourLabelChang2004[]{single,concurrent}) {
+			alg.setMinContourSize(minContour);
+			alg.setMaxContourSize(maxContour);
+			alg.setSaveInternalContours(saveInternal);
+		}
+
+		single.process(input,expected);
+		// process twice to make sure the work space is correctly recycled
+		concurrent.process(input,found);
+		concurrent.process(input,found);
+
+		BoofTesting.assertEquals(expected,found,0);
+
+		FastQueue<ContourPacked> a = single.getContours();
+		FastQueue<ContourPacked> b = concurrent.getContours();
+		assertTrue(a.size > 0 );
+		assertEquals(a.size,b.size);
+		for (int i = 0; i < a.size; i++) {
+			ContourPacked ca = a.get(i);
+			ContourPacked cb = b.get(i);
+			assertEquals(ca.id,cb.id);
+			assertEquals(ca.externalIndex,cb.externalIndex);
+			assertEquals(ca.internalIndexes.size,cb.internalIndexes.size);
+			for (int j = 0; j < ca.internalIndexes.size; j++) {
+				assertEquals(ca.internalIndexes.get(j),cb.internalIndexes.get(j));
+			}
+		}
+
+		PackedSetsPoint2D_I32 pa = single.getPackedPoints();
+		PackedSetsPoint2D_I32 pb = concurrent.getPackedPoints();
+		assertEquals(pa.size(),pb.size());
+		for (int i = 0; i < pa.size(); i++) {
+			List<Point2D_I32> la = pa.getSet(i);
+			List<Point2D_I32> lb = pb.getSet(i);
+			assertEquals(la.size(),lb.size());
+			for (int j = 0; j < la.size(); j++) {
+				assertEquals(la.get(j).x,lb.get(j).x);
+				assertEquals(la.get(j).y,lb.get(j).y);
+			}
+		}
+	}
+
 	/**
 	 * Creates a list of every pixel with the specified label that is on the contour.  Removes duplicate points
 	 * in the found contour.  Sees if the two lists are equivalent.
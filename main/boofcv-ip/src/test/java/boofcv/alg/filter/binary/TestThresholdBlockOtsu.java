@@ -20,6 +20,11 @@ package boofcv.alg.filter.binary;
 
 import boofcv.alg.filter.binary.impl.GenericThresholdCommon;
 import boofcv.struct.image.GrayU8;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
 
 /**
  * @author Peter Abeles
@@ -29,6 +34,26 @@ public class TestThresholdBlockOtsu extends GenericThresholdCommon<GrayU8> {
 		super(GrayU8.class);
 	}
 
+	/**
+	 * The public function which computes the threshold from a histogram should produce the same result as
+	 * the global Otsu
+	 */
+	@Test
+	public void computeOtsu_histogram() {
+		Random rand = new Random(234);
+		int histogram[] = new int[100];
+		int total = 0;
+		for (int i = 0; i < histogram.length; i++) {
+			histogram[i] = rand.nextInt(50);
+			total += histogram[i];
+		}
+
+		ThresholdBlockOtsu alg = new ThresholdBlockOtsu(10,0,1.0,true);
+		alg.computeOtsu(histogram,histogram.length,total);
+
+		assertEquals(GThresholdImageOps.computeOtsu(histogram,histogram.length,total),alg.otsu.threshold);
+	}
+
 	@Override
 	public ThresholdBlockCommon<GrayU8, ?> createAlg(int requestedBlockWidth, double scale, boolean down) {
 		return new ThresholdBlockOtsu(requestedBlockWidth, 0,1.0, down);
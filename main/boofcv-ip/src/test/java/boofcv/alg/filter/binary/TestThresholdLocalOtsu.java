@@ -34,4 +34,9 @@ public class TestThresholdLocalOtsu extends GenericThresholdCommon<GrayU8> {
 	public InputToBinary<GrayU8> createAlg(int requestedBlockWidth, double scale, boolean down) {
 		return new ThresholdLocalOtsu(requestedBlockWidth, 0, 1.0,down);
 	}
+
+	@Override
+	public void setConcurrent(InputToBinary<GrayU8> alg) {
+		((ThresholdLocalOtsu)alg).setConcurrent(true);
+	}
 }
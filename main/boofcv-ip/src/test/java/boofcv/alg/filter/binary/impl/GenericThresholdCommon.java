@@ -19,11 +19,15 @@
 package boofcv.alg.filter.binary.impl;
 
 import boofcv.abst.filter.binary.InputToBinary;
+import boofcv.alg.filter.binary.ThresholdBlockCommon;
 import boofcv.alg.misc.GImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.core.image.GeneralizedImageOps;
 import boofcv.struct.image.GrayU8;
 import boofcv.struct.image.ImageGray;
 import boofcv.testing.BoofTesting;
+import org.junit.After;
+import org.junit.Before;
 import org.junit.Test;
 
 import java.util.Random;
@@ -39,6 +43,18 @@ public abstract class GenericThresholdCommon<T extends ImageGray<T>>
 	Class<T> imageType;
 	Random rand = new Random(234);
 
+	int previousThreads;
+
+	@Before
+	public void forceThreads() {
+		previousThreads = BoofTesting.forceTestThreads();
+	}
+
+	@After
+	public void restoreThreads() {
+		BoofConcurrency.setMaxThreads(previousThreads);
+	}
+
 	public GenericThresholdCommon(Class<T> imageType) {
 		this.imageType = imageType;
 	}
@@ -46,6 +62,13 @@ public abstract class GenericThresholdCommon<T extends ImageGray<T>>
 	public abstract InputToBinary<T> createAlg(int requestedBlockWidth,
 											   double scale , boolean down );
 
+	/**
+	 * Turns on concurrent processing in the algorithm
+	 */
+	public void setConcurrent( InputToBinary<T> alg ) {
+		((ThresholdBlockCommon)alg).setConcurrent(true);
+	}
+
 
 	@Test
 	public void toggleDown() {
@@ -92,4 +115,28 @@ public abstract class GenericThresholdCommon<T extends ImageGray<T>>
 
 		BoofTesting.assertEquals(expected,sub_output,0);
 	}
+
+	/**
+	 * The concurrent implementation should produce the exact same output as the single threaded one.
+	 * Image size is selected so that the blocks don't evenly divide the image
+	 */
+	@Test
+	public void compareToConcurrent() {
+		T input = GeneralizedImageOps.createSingleBand(imageType,201,163);
+		GImageMiscOps.fillUniform(input,rand,0,255);
+
+		GrayU8 expected = new GrayU8(input.width,input.height);
+		GrayU8 found = new GrayU8(input.width,input.height);
+
+		for( boolean down : new boolean[]{true,false}) {
+			InputToBinary<T> single = createAlg(14,1.0,down);
+			InputToBinary<T> concurrent = createAlg(14,1.0,down);
+			setConcurrent(concurrent);
+
+			single.process(input,expected);
+			concurrent.process(input,found);
+
+			BoofTesting.assertEquals(expected,found,0);
+		}
+	}
 }
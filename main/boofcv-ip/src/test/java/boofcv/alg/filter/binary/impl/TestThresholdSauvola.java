@@ -21,9 +21,12 @@ package boofcv.alg.filter.binary.impl;
 import boofcv.alg.filter.binary.BinaryImageOps;
 import boofcv.alg.misc.ImageMiscOps;
 import boofcv.alg.misc.ImageStatistics;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.struct.image.GrayF32;
 import boofcv.struct.image.GrayU8;
 import boofcv.testing.BoofTesting;
+import org.junit.After;
+import org.junit.Before;
 import org.junit.Test;
 
 import java.util.Random;
@@ -35,6 +38,18 @@ public class TestThresholdSauvola {
 
 	Random rand = new Random(234);
 
+	int previousThreads;
+
+	@Before
+	public void forceThreads() {
+		previousThreads = BoofTesting.forceTestThreads();
+	}
+
+	@After
+	public void restoreThreads() {
+		BoofConcurrency.setMaxThreads(previousThreads);
+	}
+
 	/**
 	 * Provide it a simple input image with obvious thresholding.  There will be regions of white space
 	 * which exceed its radius.
@@ -115,6 +130,24 @@ public class TestThresholdSauvola {
 		BoofTesting.assertEquals(expected, found, 0);
 	}
 
+	@Test
+	public void compareToConcurrent() {
+		GrayF32 input = new GrayF32(91,76);
+		ImageMiscOps.fillUniform(input, rand, 0, 200);
+
+		GrayU8 expected = new GrayU8(input.width,input.height);
+		GrayU8 found = new GrayU8(input.width,input.height);
+
+		for( boolean down : new boolean[]{true,false}) {
+			ThresholdSauvola alg = new ThresholdSauvola(4,0.3f,down);
+			alg.process(input,expected);
+			alg.setConcurrent(true);
+			alg.process(input,found);
+
+			BoofTesting.assertEquals(expected, found, 0);
+		}
+	}
+
 	private float mean(GrayF32 input , int c_x , int c_y , int radius ) {
 		int x0 = c_x - radius;
 		int x1 = x0 + radius*2 + 1;
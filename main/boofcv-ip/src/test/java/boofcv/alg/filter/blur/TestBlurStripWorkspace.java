@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.filter.blur;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.convolve.Kernel1D_F32;
+import boofcv.struct.convolve.Kernel1D_S32;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayU8;
+import boofcv.testing.BoofTesting;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestBlurStripWorkspace {
+
+	int previousThreads;
+
+	@Before
+	public void forceThreads() {
+		previousThreads = BoofTesting.forceTestThreads();
+	}
+
+	@After
+	public void restoreThreads() {
+		BoofConcurrency.setMaxThreads(previousThreads);
+	}
+
+	@After
+	public void after() {
+		BoofConcurrency.USE_CONCURRENT = true;
+	}
+
+	@Test
+	public void computeStripHeight_manual() {
+		BlurStripWorkspace<GrayU8> alg = new BlurStripWorkspace<>(GrayU8.class);
+		alg.stripHeight = 20;
+		assertEquals(20, alg.computeStripHeight(100, 200, 5));
+
+		// must be taller than the kernel
+		alg.stripHeight = 2;
+		assertEquals(6, alg.computeStripHeight(100, 200, 5));
+	}
+
+	@Test
+	public void computeStripHeight_cache() {
+		BoofConcurrency.USE_CONCURRENT = false;
+
+		BlurStripWorkspace<GrayU8> algU8 = new BlurStripWorkspace<>(GrayU8.class);
+		BlurStripWorkspace<GrayF32> algF32 = new BlurStripWorkspace<>(GrayF32.class);
+		algU8.cacheBytes = algF32.cacheBytes = 1000*100;
+
+		// the strip and the rows above and below it should fit in the cache
+		assertEquals(100-4, algU8.computeStripHeight(1000, 5000, 5));
+		assertEquals(25-4, algF32.computeStripHeight(1000, 5000, 5));
+
+		// never larger than the image
+		assertEquals(50, algU8.computeStripHeight(1000, 50, 5));
+	}
+
+	@Test
+	public void computeStripHeight_threads() {
+		BoofConcurrency.USE_CONCURRENT = true;
+		int threads = BoofConcurrency.getMaxThreads();
+
+		BlurStripWorkspace<GrayU8> alg = new BlurStripWorkspace<>(GrayU8.class);
+		int found = alg.computeStripHeight(100, 40*threads, 5);
+		assertTrue(found <= 40);
+	}
+
+	/**
+	 * Kernels should only be created when their parameters change
+	 */
+	@Test
+	public void gaussian_cached() {
+		BlurStripWorkspace<GrayF32> alg = new BlurStripWorkspace<>(GrayF32.class);
+
+		Kernel1D_F32 a = alg.gaussian(Kernel1D_F32.class, 1.5, 4);
+		assertEquals(9, a.width);
+		assertSame(a, alg.gaussian(Kernel1D_F32.class, 1.5, 4));
+		assertNotSame(a, alg.gaussian(Kernel1D_F32.class, 2.0, 4));
+
+		Kernel1D_F32 b = alg.gaussian(Kernel1D_F32.class, 2.0, 5);
+		assertEquals(11, b.width);
+		assertSame(b, alg.gaussian(Kernel1D_F32.class, 2.0, 5));
+
+		Kernel1D_S32 c = alg.gaussian(Kernel1D_S32.class, 2.0, 5);
+		assertEquals(11, c.width);
+	}
+
+	@Test
+	public void mean_cached() {
+		BlurStripWorkspace<GrayU8> alg = new BlurStripWorkspace<>(GrayU8.class);
+
+		Kernel1D_S32 a = alg.mean(Kernel1D_S32.class, 3);
+		assertEquals(7, a.width);
+		assertSame(a, alg.mean(Kernel1D_S32.class, 3));
+
+		Kernel1D_S32 b = alg.mean(Kernel1D_S32.class, 4);
+		assertEquals(9, b.width);
+		assertNotSame(a, b);
+
+		Kernel1D_F32 c = alg.mean(Kernel1D_F32.class, 4);
+		assertEquals(9, c.width);
+		assertEquals(1.0f/9.0f, c.data[0], 1e-6f);
+	}
+}
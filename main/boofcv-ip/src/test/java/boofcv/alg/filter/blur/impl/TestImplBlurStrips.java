@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.filter.blur.impl;
+
+import boofcv.alg.filter.blur.BlurImageOps;
+import boofcv.alg.filter.blur.BlurStripWorkspace;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.factory.filter.kernel.FactoryKernelGaussian;
+import boofcv.struct.convolve.Kernel1D_F32;
+import boofcv.struct.convolve.Kernel1D_S32;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayU8;
+import boofcv.testing.BoofTesting;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Random;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestImplBlurStrips {
+
+	Random rand = new Random(234);
+
+	// includes images which are too small to be broken up into strips
+	int shapes[][] = new int[][]{{15,20},{60,83},{40,4},{3,40},{7,7}};
+	int stripHeights[] = new int[]{0,3,7,16};
+
+	int previousThreads;
+
+	@Before
+	public void forceThreads() {
+		previousThreads = BoofTesting.forceTestThreads();
+	}
+
+	@After
+	public void restoreThreads() {
+		BoofConcurrency.setMaxThreads(previousThreads);
+	}
+
+	@After
+	public void after() {
+		BoofConcurrency.USE_CONCURRENT = true;
+	}
+
+	@Test
+	public void gaussian_U8() {
+		for( boolean concurrent : new boolean[]{true,false}) {
+			BoofConcurrency.USE_CONCURRENT = concurrent;
+			BlurStripWorkspace<GrayU8> workspace = new BlurStripWorkspace<>(GrayU8.class);
+			for( int shape[] : shapes ) {
+				GrayU8 input = new GrayU8(shape[0],shape[1]);
+				ImageMiscOps.fillUniform(input, rand, 0, 200);
+				for( int radius = 1; radius <= 4; radius++ ) {
+					GrayU8 expected = BlurImageOps.gaussian(input, null, -1, radius, null);
+					Kernel1D_S32 kernel = FactoryKernelGaussian.gaussian(Kernel1D_S32.class, -1, radius);
+
+					for( int stripHeight : stripHeights ) {
+						workspace.stripHeight = stripHeight;
+						GrayU8 found = new GrayU8(input.width,input.height);
+						ImplBlurStrips.gaussian(kernel, input, found, workspace);
+						BoofTesting.assertEquals(expected, found, 0);
+
+						// see if sub-images are handled correctly
+						GrayU8 subInput = BoofTesting.createSubImageOf(input);
+						GrayU8 subFound = BoofTesting.createSubImageOf(found);
+						ImageMiscOps.fill(subFound, 0);
+						ImplBlurStrips.gaussian(kernel, subInput, subFound, workspace);
+						BoofTesting.assertEquals(expected, subFound, 0);
+					}
+				}
+			}
+		}
+	}
+
+	@Test
+	public void gaussian_F32() {
+		for( boolean concurrent : new boolean[]{true,false}) {
+			BoofConcurrency.USE_CONCURRENT = concurrent;
+			BlurStripWorkspace<GrayF32> workspace = new BlurStripWorkspace<>(GrayF32.class);
+			for( int shape[] : shapes ) {
+				GrayF32 input = new GrayF32(shape[0],shape[1]);
+				ImageMiscOps.fillUniform(input, rand, 0, 200);
+				for( int radius = 1; radius <= 4; radius++ ) {
+					GrayF32 expected = BlurImageOps.gaussian(input, null, -1, radius, null);
+					Kernel1D_F32 kernel = FactoryKernelGaussian.gaussian(Kernel1D_F32.class, -1, radius);
+
+					for( int stripHeight : stripHeights ) {
+						workspace.stripHeight = stripHeight;
+						GrayF32 found = new GrayF32(input.width,input.height);
+						ImplBlurStrips.gaussian(kernel, input, found, workspace);
+						BoofTesting.assertEquals(expected, found, 0);
+
+						GrayF32 subInput = BoofTesting.createSubImageOf(input);
+						GrayF32 subFound = BoofTesting.createSubImageOf(found);
+						ImageMiscOps.fill(subFound, 0);
+						ImplBlurStrips.gaussian(kernel, subInput, subFound, workspace);
+						BoofTesting.assertEquals(expected, subFound, 0);
+					}
+				}
+			}
+		}
+	}
+
+	@Test
+	public void mean_U8() {
+		for( boolean concurrent : new boolean[]{true,false}) {
+			BoofConcurrency.USE_CONCURRENT = concurrent;
+			BlurStripWorkspace<GrayU8> workspace = new BlurStripWorkspace<>(GrayU8.class);
+			for( int shape[] : shapes ) {
+				GrayU8 input = new GrayU8(shape[0],shape[1]);
+				ImageMiscOps.fillUniform(input, rand, 0, 200);
+				for( int radius = 1; radius <= 4; radius++ ) {
+					GrayU8 expected = BlurImageOps.mean(input, null, radius, null);
+
+					for( int stripHeight : stripHeights ) {
+						workspace.stripHeight = stripHeight;
+						GrayU8 found = new GrayU8(input.width,input.height);
+						ImplBlurStrips.mean(input, found, radius, workspace);
+						BoofTesting.assertEquals(expected, found, 0);
+
+						GrayU8 subInput = BoofTesting.createSubImageOf(input);
+						GrayU8 subFound = BoofTesting.createSubImageOf(found);
+						ImageMiscOps.fill(subFound, 0);
+						ImplBlurStrips.mean(subInput, subFound, radius, workspace);
+						BoofTesting.assertEquals(expected, subFound, 0);
+					}
+				}
+			}
+		}
+	}
+
+	@Test
+	public void mean_F32() {
+		for( boolean concurrent : new boolean[]{true,false}) {
+			BoofConcurrency.USE_CONCURRENT = concurrent;
+			BlurStripWorkspace<GrayF32> workspace = new BlurStripWorkspace<>(GrayF32.class);
+			for( int shape[] : shapes ) {
+				GrayF32 input = new GrayF32(shape[0],shape[1]);
+				ImageMiscOps.fillUniform(input, rand, 0, 200);
+				for( int radius = 1; radius <= 4; radius++ ) {
+					GrayF32 expected = BlurImageOps.mean(input, null, radius, null);
+
+					for( int stripHeight : stripHeights ) {
+						workspace.stripHeight = stripHeight;
+						GrayF32 found = new GrayF32(input.width,input.height);
+						ImplBlurStrips.mean(input, found, radius, workspace);
+						// the running sum is started at a different location
+						BoofTesting.assertEquals(expected, found, 1e-3);
+
+						GrayF32 subInput = BoofTesting.createSubImageOf(input);
+						GrayF32 subFound = BoofTesting.createSubImageOf(found);
+						ImageMiscOps.fill(subFound, 0);
+						ImplBlurStrips.mean(subInput, subFound, radius, workspace);
+						BoofTesting.assertEquals(expected, subFound, 1e-3);
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * The workspace is used on an image then a smaller image.  Make sure nothing from the
+	 * first image leaks into the second.
+	 */
+	@Test
+	public void reuseWorkspace() {
+		BlurStripWorkspace<GrayU8> workspace = new BlurStripWorkspace<>(GrayU8.class);
+		workspace.stripHeight = 8;
+
+		GrayU8 large = new GrayU8(80,90);
+		GrayU8 small = new GrayU8(30,35);
+		ImageMiscOps.fillUniform(large, rand, 0, 200);
+		ImageMiscOps.fillUniform(small, rand, 0, 200);
+
+		ImplBlurStrips.gaussian(FactoryKernelGaussian.gaussian(Kernel1D_S32.class, -1, 3),
+				large, new GrayU8(80,90), workspace);
+
+		GrayU8 expected = BlurImageOps.gaussian(small, null, -1, 2, null);
+		GrayU8 found = new GrayU8(30,35);
+		ImplBlurStrips.gaussian(FactoryKernelGaussian.gaussian(Kernel1D_S32.class, -1, 2),
+				small, found, workspace);
+		BoofTesting.assertEquals(expected, found, 0);
+	}
+}
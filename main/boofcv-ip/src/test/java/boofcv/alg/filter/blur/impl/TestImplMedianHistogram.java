@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.filter.blur.impl;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.struct.image.GrayU8;
+import boofcv.testing.BoofTesting;
+import org.ddogleg.struct.GrowQueue_I32;
+import org.junit.Test;
+
+import java.util.Random;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestImplMedianHistogram {
+
+	Random rand = new Random(234);
+
+	@Test
+	public void compareToSort() {
+		GrayU8 image = new GrayU8(20,30);
+		ImageMiscOps.fillUniform(image,rand, 0, 256);
+
+		GrayU8 found = new GrayU8( image.width , image.height );
+		GrayU8 expected = new GrayU8( image.width , image.height );
+
+		BoofTesting.checkSubImage(this, "compareToSort", true, image, found, expected);
+	}
+
+	public void compareToSort(GrayU8 image, GrayU8 found, GrayU8 expected) {
+		GrowQueue_I32 work = new GrowQueue_I32();
+		// includes radius which are larger than the image
+		for( int radius = 1; radius <= 18; radius++ ) {
+			ImplMedianHistogram.process(image,found,radius,work);
+			ImplMedianSortNaive.process(image,expected,radius,null);
+
+			BoofTesting.assertEquals(expected,found,0);
+		}
+	}
+
+	/**
+	 * Values are concentrated in a few bins, which will test the coarse bin boundaries
+	 */
+	@Test
+	public void fewValues() {
+		GrayU8 image = new GrayU8(35,28);
+		int values[] = new int[]{0,15,16,17,31,32,128,255};
+		for (int i = 0; i < image.data.length; i++) {
+			image.data[i] = (byte)values[rand.nextInt(values.length)];
+		}
+
+		GrayU8 found = new GrayU8( image.width , image.height );
+		GrayU8 expected = new GrayU8( image.width , image.height );
+
+		for( int radius = 1; radius <= 6; radius++ ) {
+			ImplMedianHistogram.process(image,found,radius,null);
+			ImplMedianSortNaive.process(image,expected,radius,null);
+
+			BoofTesting.assertEquals(expected,found,0);
+		}
+	}
+
+	/**
+	 * Only process a range of rows
+	 */
+	@Test
+	public void rowRange() {
+		GrayU8 image = new GrayU8(25,40);
+		ImageMiscOps.fillUniform(image,rand, 0, 256);
+
+		GrayU8 expected = new GrayU8( image.width , image.height );
+		ImplMedianSortNaive.process(image,expected,4,null);
+
+		GrayU8 found = new GrayU8( image.width , image.height );
+		ImageMiscOps.fill(found,7);
+		ImplMedianHistogram.process(image,found,4,10,23,null);
+
+		for (int y = 0; y < image.height; y++) {
+			for (int x = 0; x < image.width; x++) {
+				if( y >= 10 && y < 23 )
+					org.junit.Assert.assertEquals(expected.get(x,y),found.get(x,y));
+				else
+					org.junit.Assert.assertEquals(7,found.get(x,y));
+			}
+		}
+	}
+}
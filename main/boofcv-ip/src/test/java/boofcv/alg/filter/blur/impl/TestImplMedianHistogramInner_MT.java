@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.filter.blur.impl;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.image.GrayU8;
+import boofcv.testing.BoofTesting;
+import org.ddogleg.struct.FastQueue;
+import org.ddogleg.struct.GrowQueue_I32;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Random;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestImplMedianHistogramInner_MT {
+
+	int previousThreads;
+
+	@Before
+	public void forceThreads() {
+		previousThreads = BoofTesting.forceTestThreads();
+	}
+
+	@After
+	public void restoreThreads() {
+		BoofConcurrency.setMaxThreads(previousThreads);
+	}
+
+	@Test
+	public void compareToSingle() {
+		GrayU8 image = new GrayU8(40,230);
+		ImageMiscOps.fillUniform(image,new Random(234), 0, 256);
+
+		GrayU8 found = new GrayU8( image.width , image.height );
+		GrayU8 expected = new GrayU8( image.width , image.height );
+
+		BoofTesting.checkSubImage(this, "compareToSingle", true, image, found, expected);
+	}
+
+	public void compareToSingle(GrayU8 image, GrayU8 found, GrayU8 expected) {
+		FastQueue<GrowQueue_I32> work = new FastQueue<>(GrowQueue_I32.class,true);
+		for( int radius = 1; radius <= 5; radius++ ) {
+			ImplMedianHistogramInner_MT.process(image,found,radius,work);
+			ImplMedianHistogramInner.process(image,expected,radius,null,null);
+
+			BoofTesting.assertEquals(expected,found,0);
+		}
+	}
+}
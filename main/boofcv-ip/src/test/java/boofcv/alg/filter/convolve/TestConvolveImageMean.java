@@ -18,12 +18,16 @@
 
 package boofcv.alg.filter.convolve;
 
+import boofcv.alg.filter.convolve.noborder.ImplConvolveMean;
 import boofcv.alg.misc.GImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.core.image.GeneralizedImageOps;
 import boofcv.factory.filter.kernel.FactoryKernel;
 import boofcv.struct.convolve.Kernel1D_F32;
 import boofcv.struct.convolve.Kernel1D_F64;
 import boofcv.struct.convolve.Kernel1D_S32;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayF64;
 import boofcv.struct.image.ImageGray;
 import boofcv.testing.BoofTesting;
 import boofcv.testing.CompareEquivalentFunctions;
@@ -53,6 +57,37 @@ public class TestConvolveImageMean extends CompareEquivalentFunctions {
 		performTests(8);
 	}
 
+	/**
+	 * Floating point images must produce exactly the same output no matter how many threads are used
+	 */
+	@Test
+	public void concurrent_float_identical() {
+		boolean previousConcurrent = BoofConcurrency.USE_CONCURRENT;
+		int previousThreads = BoofTesting.forceTestThreads();
+		try {
+			BoofConcurrency.USE_CONCURRENT = true;
+
+			GrayF32 input32 = new GrayF32(60,80);
+			GImageMiscOps.fillUniform(input32, rand, 0, 100);
+			GrayF32 found32 = new GrayF32(60,80);
+			GrayF32 expected32 = new GrayF32(60,80);
+			ConvolveImageMean.vertical(input32,found32,4);
+			ImplConvolveMean.vertical(input32,expected32,4);
+			BoofTesting.assertEquals(expected32.subimage(0,4,60,76), found32.subimage(0,4,60,76), 0);
+
+			GrayF64 input64 = new GrayF64(60,80);
+			GImageMiscOps.fillUniform(input64, rand, 0, 100);
+			GrayF64 found64 = new GrayF64(60,80);
+			GrayF64 expected64 = new GrayF64(60,80);
+			ConvolveImageMean.vertical(input64,found64,4);
+			ImplConvolveMean.vertical(input64,expected64,4);
+			BoofTesting.assertEquals(expected64.subimage(0,4,60,76), found64.subimage(0,4,60,76), 0);
+		} finally {
+			BoofConcurrency.USE_CONCURRENT = previousConcurrent;
+			BoofConcurrency.setMaxThreads(previousThreads);
+		}
+	}
+
 	@Override
 	protected boolean isTestMethod(Method m) {
 		Class<?> params[] = m.getParameterTypes();
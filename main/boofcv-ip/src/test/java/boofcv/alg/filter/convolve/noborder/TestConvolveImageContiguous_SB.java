@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.convolve.noborder;
+
+import boofcv.alg.filter.convolve.CompareToStandardConvolution;
+import boofcv.struct.convolve.Kernel1D_F32;
+import boofcv.struct.convolve.Kernel1D_S32;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayI16;
+import boofcv.struct.image.GrayU8;
+import org.junit.Test;
+
+import java.lang.reflect.Method;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestConvolveImageContiguous_SB {
+	CompareToStandardConvolution compareToStandard = new CompareToStandardConvolution(ConvolveImageContiguous_SB.class);
+
+	@Test
+	public void horizontal_F32() throws NoSuchMethodException {
+		Method m = ConvolveImageContiguous_SB.class.getMethod("horizontal",
+				Kernel1D_F32.class, GrayF32.class, GrayF32.class);
+		compareAllKernels(m, "horizontal");
+	}
+
+	@Test
+	public void vertical_F32() throws NoSuchMethodException {
+		Method m = ConvolveImageContiguous_SB.class.getMethod("vertical",
+				Kernel1D_F32.class, GrayF32.class, GrayF32.class);
+		compareAllKernels(m, "vertical");
+	}
+
+	@Test
+	public void horizontal_U8_I16() throws NoSuchMethodException {
+		Method m = ConvolveImageContiguous_SB.class.getMethod("horizontal",
+				Kernel1D_S32.class, GrayU8.class, GrayI16.class);
+		compareAllKernels(m, "horizontal");
+	}
+
+	@Test
+	public void vertical_U8_I16() throws NoSuchMethodException {
+		Method m = ConvolveImageContiguous_SB.class.getMethod("vertical",
+				Kernel1D_S32.class, GrayU8.class, GrayI16.class);
+		compareAllKernels(m, "vertical");
+	}
+
+	/**
+	 * Symmetric kernels of different sizes and kernels where the offset isn't in the center
+	 */
+	private void compareAllKernels( Method m , String validationName ) {
+		for (int radius = 0; radius <= 5; radius++) {
+			compareToStandard.compareMethod(m, validationName, radius);
+		}
+		compareToStandard.compareMethod(m, validationName, 4, 1);
+		compareToStandard.compareMethod(m, validationName, 5, 0);
+		compareToStandard.compareMethod(m, validationName, 5, 4);
+	}
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.filter.convolve.noborder;
+
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.core.image.GeneralizedImageOps;
+import boofcv.struct.image.ImageGray;
+import boofcv.testing.BoofTesting;
+import boofcv.testing.CompareIdenticalFunctions;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.reflect.Method;
+import java.util.Random;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestImplConvolveMean_MT extends CompareIdenticalFunctions {
+
+	Random rand = new Random(234);
+
+	int width = 40;
+	int height = 55;
+	int radius = 3;
+
+	int previousThreads;
+
+	@Before
+	public void forceThreads() {
+		previousThreads = BoofTesting.forceTestThreads();
+	}
+
+	@After
+	public void restoreThreads() {
+		BoofConcurrency.setMaxThreads(previousThreads);
+	}
+
+	public TestImplConvolveMean_MT() {
+		super(ImplConvolveMean_MT.class, ImplConvolveMean.class);
+	}
+
+	/**
+	 * Floating point vertical sums are restarted in each band.  Images are compared using a relative tolerance
+	 * so round off differences are accepted while integer images must match exactly.
+	 */
+	@Test
+	public void compareToSingleThread() {
+		performTests(8);
+	}
+
+	@Override
+	protected Object[][] createInputParam(Method candidate, Method validation) {
+		Class c[] = candidate.getParameterTypes();
+
+		ImageGray input = GeneralizedImageOps.createSingleBand(c[0], width, height);
+		ImageGray output = GeneralizedImageOps.createSingleBand(c[1], width, height);
+
+		GImageMiscOps.fillUniform(input, rand, 0, 50);
+
+		return new Object[][]{{input,output,radius}};
+	}
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.derivative;
+
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.core.image.GeneralizedImageOps;
+import boofcv.core.image.border.BorderType;
+import boofcv.core.image.border.FactoryImageBorder;
+import boofcv.struct.image.ImageGray;
+import boofcv.testing.CompareIdenticalFunctions;
+
+import java.lang.reflect.Method;
+import java.util.Random;
+
+/**
+ * Compares a concurrent derivative implementation against the single threaded one. Tested with
+ * and without the image border being processed.
+ *
+ * @author Peter Abeles
+ */
+public class CompareDerivativeToSingleThread extends CompareIdenticalFunctions {
+
+	Random rand = new Random(234);
+
+	int width = 40;
+	int height = 83;
+
+	public CompareDerivativeToSingleThread(Class<?> testClass, Class<?> validationClass) {
+		super(testClass, validationClass);
+	}
+
+	@Override
+	protected Object[][] createInputParam(Method candidate, Method validation) {
+		Class c[] = candidate.getParameterTypes();
+
+		Object[][] ret = new Object[2][c.length];
+		for (int i = 0; i < 2; i++) {
+			ImageGray input = GeneralizedImageOps.createSingleBand(c[0], width, height);
+			GImageMiscOps.fillUniform(input, rand, 0, 100);
+
+			ret[i][0] = input;
+			for (int j = 1; j < c.length-1; j++) {
+				ret[i][j] = GeneralizedImageOps.createSingleBand(c[j], width, height);
+			}
+		}
+		ret[0][c.length-1] = null;
+		ret[1][c.length-1] = FactoryImageBorder.single(c[0], BorderType.EXTENDED);
+
+		return ret;
+	}
+}
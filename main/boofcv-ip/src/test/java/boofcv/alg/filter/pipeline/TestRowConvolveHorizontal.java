@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.pipeline;
+
+import boofcv.alg.filter.convolve.ConvolveNormalized;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.factory.filter.kernel.FactoryKernel;
+import boofcv.struct.convolve.Kernel1D_F32;
+import boofcv.struct.image.GrayF32;
+import boofcv.testing.BoofTesting;
+import org.junit.Test;
+
+import java.util.Random;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestRowConvolveHorizontal {
+	Random rand = new Random(234);
+
+	@Test
+	public void compareToConvolveNormalized() {
+		check(30,20,1,0);
+		check(30,20,3,1);
+		check(30,20,5,1);
+		// kernel is wider than the image
+		check(6,4,9,4);
+	}
+
+	private void check( int width , int height , int kernelWidth , int offset ) {
+		Kernel1D_F32 kernel = FactoryKernel.random1D_F32(kernelWidth,offset,0.1f,1,rand);
+
+		GrayF32 input = new GrayF32(width,height);
+		ImageMiscOps.fillUniform(input,rand,0,100);
+		GrayF32 expected = new GrayF32(width,height);
+		GrayF32 found = new GrayF32(width,height);
+
+		ConvolveNormalized.horizontal(kernel,input,expected);
+
+		RowPipeline alg = new RowPipeline();
+		alg.add(new RowConvolveHorizontal(kernel));
+		alg.process(input,found);
+
+		BoofTesting.assertEquals(expected,found,1e-3);
+	}
+}
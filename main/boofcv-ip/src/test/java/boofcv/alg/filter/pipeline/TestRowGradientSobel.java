@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.pipeline;
+
+import boofcv.alg.filter.derivative.GradientSobel;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.core.image.border.BorderType;
+import boofcv.core.image.border.FactoryImageBorder;
+import boofcv.core.image.border.ImageBorder_F32;
+import boofcv.struct.image.GrayF32;
+import boofcv.testing.BoofTesting;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestRowGradientSobel {
+	Random rand = new Random(234);
+
+	int width = 25;
+	int height = 30;
+
+	GrayF32 input = new GrayF32(width,height);
+	GrayF32 derivX = new GrayF32(width,height);
+	GrayF32 derivY = new GrayF32(width,height);
+	GrayF32 found = new GrayF32(width,height);
+
+	@Before
+	public void before() {
+		ImageMiscOps.fillUniform(input,rand,0,100);
+		ImageBorder_F32 border = (ImageBorder_F32)FactoryImageBorder.single(GrayF32.class, BorderType.EXTENDED);
+		GradientSobel.process(input,derivX,derivY,border);
+	}
+
+	@Test
+	public void derivatives() {
+		process(RowGradientSobel.Output.DERIV_X);
+		BoofTesting.assertEquals(derivX,found,1e-4);
+		process(RowGradientSobel.Output.DERIV_Y);
+		BoofTesting.assertEquals(derivY,found,1e-4);
+	}
+
+	@Test
+	public void intensity() {
+		process(RowGradientSobel.Output.INTENSITY_ABS);
+		for( int y = 0; y < height; y++ ) {
+			for( int x = 0; x < width; x++ ) {
+				float expected = Math.abs(derivX.get(x,y)) + Math.abs(derivY.get(x,y));
+				assertEquals(expected,found.get(x,y),1e-4);
+			}
+		}
+
+		process(RowGradientSobel.Output.INTENSITY_E);
+		for( int y = 0; y < height; y++ ) {
+			for( int x = 0; x < width; x++ ) {
+				float dx = derivX.get(x,y), dy = derivY.get(x,y);
+				float expected = (float)Math.sqrt(dx*dx + dy*dy);
+				assertEquals(expected,found.get(x,y),1e-4);
+			}
+		}
+	}
+
+	private void process( RowGradientSobel.Output type ) {
+		RowPipeline alg = new RowPipeline();
+		alg.add(new RowGradientSobel(type));
+		alg.process(input,found);
+	}
+}
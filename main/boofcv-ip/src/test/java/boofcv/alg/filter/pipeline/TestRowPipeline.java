@@ -0,0 +1,219 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.pipeline;
+
+import boofcv.alg.filter.binary.ThresholdImageOps;
+import boofcv.alg.filter.blur.BlurImageOps;
+import boofcv.alg.filter.derivative.GradientSobel;
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.core.image.ConvertImage;
+import boofcv.core.image.GeneralizedImageOps;
+import boofcv.core.image.border.BorderType;
+import boofcv.core.image.border.FactoryImageBorder;
+import boofcv.core.image.border.ImageBorder_F32;
+import boofcv.struct.image.*;
+import boofcv.testing.BoofTesting;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestRowPipeline {
+	Random rand = new Random(234);
+
+	int width = 40;
+	int height = 75;
+
+	int previousThreads;
+
+	@Before
+	public void forceThreads() {
+		previousThreads = BoofTesting.forceTestThreads();
+	}
+
+	@After
+	public void restoreThreads() {
+		BoofConcurrency.setMaxThreads(previousThreads);
+	}
+
+	/**
+	 * Compare a typical chain to the results of applying each operation to the entire image
+	 */
+	@Test
+	public void compareToSeparateOperations() {
+		GrayU8 input = new GrayU8(width,height);
+		ImageMiscOps.fillUniform(input,rand,0,255);
+
+		// compute the expected results
+		GrayF32 inputF = ConvertImage.convert(input,(GrayF32)null);
+		GrayF32 blurred = BlurImageOps.gaussian(inputF,null,-1,3,null);
+		GrayF32 derivX = new GrayF32(width,height);
+		GrayF32 derivY = new GrayF32(width,height);
+		ImageBorder_F32 border = (ImageBorder_F32)FactoryImageBorder.single(GrayF32.class, BorderType.EXTENDED);
+		GradientSobel.process(blurred,derivX,derivY,border);
+		GrayF32 intensity = new GrayF32(width,height);
+		for( int i = 0; i < intensity.data.length; i++ ) {
+			intensity.data[i] = Math.abs(derivX.data[i]) + Math.abs(derivY.data[i]);
+		}
+		float threshold = 10;
+		GrayU8 expected = ThresholdImageOps.threshold(intensity,null,threshold,false);
+
+		RowPipeline alg = new RowPipeline();
+		alg.addGaussian(-1,3);
+		alg.add(new RowGradientSobel(RowGradientSobel.Output.INTENSITY_ABS));
+
+		for( boolean concurrent : new boolean[]{false,true}) {
+			alg.setConcurrent(concurrent);
+
+			// check the intermediate result first
+			GrayF32 foundIntensity = new GrayF32(width,height);
+			alg.process(input,foundIntensity);
+			BoofTesting.assertEquals(intensity,foundIntensity,1e-3);
+
+			alg.add(new RowThreshold(threshold,false));
+			GrayU8 found = new GrayU8(width,height);
+			alg.process(input,found);
+
+			// ignore pixels where a small change in order of operations could change the outcome
+			int total = 0;
+			for( int y = 0; y < height; y++ ) {
+				for( int x = 0; x < width; x++ ) {
+					if( Math.abs(intensity.get(x,y)-threshold) < 1e-3 )
+						continue;
+					assertEquals(expected.get(x,y),found.get(x,y));
+					total += found.get(x,y);
+				}
+			}
+			// sanity check the threshold
+			assertTrue(total > 0 && total < width*height);
+
+			alg.getOperations().remove(alg.getOperations().size()-1);
+		}
+	}
+
+	/**
+	 * Splitting the image into bands should produce the exact same results
+	 */
+	@Test
+	public void concurrentIdentical() {
+		GrayF32 input = new GrayF32(width,height);
+		ImageMiscOps.fillUniform(input,rand,0,100);
+
+		RowPipeline alg = new RowPipeline();
+		alg.addGaussian(-1,4);
+		alg.add(new RowGradientSobel(RowGradientSobel.Output.DERIV_Y));
+		alg.addGaussian(-1,2);
+
+		GrayF32 expected = new GrayF32(width,height);
+		alg.setConcurrent(false);
+		alg.process(input,expected);
+
+		GrayF32 found = new GrayF32(width,height);
+		alg.setConcurrent(true);
+		alg.process(input,found);
+
+		BoofTesting.assertEquals(expected,found,0);
+
+		// process it again to make sure stale rows from the previous call are not used
+		ImageMiscOps.fillUniform(input,rand,0,100);
+		alg.setConcurrent(false);
+		alg.process(input,expected);
+		alg.setConcurrent(true);
+		alg.process(input,found);
+
+		BoofTesting.assertEquals(expected,found,0);
+	}
+
+	/**
+	 * With no operations it should just convert the image
+	 */
+	@Test
+	public void noOperations_convert() {
+		Class[] types = new Class[]{GrayU8.class,GrayS16.class,GrayF32.class};
+
+		RowPipeline alg = new RowPipeline();
+		for( Class typeIn : types ) {
+			for( Class typeOut : types ) {
+				ImageGray input = GeneralizedImageOps.createSingleBand(typeIn,width,height);
+				ImageGray output = GeneralizedImageOps.createSingleBand(typeOut,width,height);
+				GImageMiscOps.fillUniform(input,rand,0,100);
+
+				alg.process(input,output);
+
+				// floats are truncated when converted into an integer image
+				BoofTesting.assertEquals(input,output,typeIn == GrayF32.class ? 1.0 : 1e-4);
+			}
+		}
+	}
+
+	@Test
+	public void subimage() {
+		GrayU8 input = new GrayU8(width,height);
+		ImageMiscOps.fillUniform(input,rand,0,100);
+		GrayF32 output = new GrayF32(width,height);
+
+		RowPipeline alg = new RowPipeline();
+		alg.addGaussian(-1,2);
+		alg.add(new RowGradientSobel(RowGradientSobel.Output.INTENSITY_E));
+
+		BoofTesting.checkSubImage(alg,"process",true,input,output);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void unsupportedType() {
+		new RowPipeline().process(new GrayF64(10,12),new GrayF32(10,12));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void differentShape() {
+		new RowPipeline().process(new GrayF32(10,12),new GrayF32(10,13));
+	}
+
+	/**
+	 * Images which are smaller than the kernels
+	 */
+	@Test
+	public void tinyImages() {
+		RowPipeline alg = new RowPipeline();
+		alg.addGaussian(-1,4);
+		alg.add(new RowGradientSobel(RowGradientSobel.Output.DERIV_X));
+
+		for( int size = 1; size < 4; size++ ) {
+			GrayF32 input = new GrayF32(size,size);
+			ImageMiscOps.fillUniform(input,rand,0,100);
+			GrayF32 blurred = BlurImageOps.gaussian(input,null,-1,4,null);
+			GrayF32 expected = new GrayF32(size,size);
+			GradientSobel.process(blurred,expected,new GrayF32(size,size),
+					(ImageBorder_F32)FactoryImageBorder.single(GrayF32.class, BorderType.EXTENDED));
+
+			GrayF32 found = new GrayF32(size,size);
+			alg.process(input,found);
+			BoofTesting.assertEquals(expected,found,1e-3);
+		}
+	}
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.pipeline;
+
+import boofcv.alg.filter.binary.ThresholdImageOps;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayU8;
+import boofcv.testing.BoofTesting;
+import org.junit.Test;
+
+import java.util.Random;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestRowThreshold {
+	Random rand = new Random(234);
+
+	@Test
+	public void compareToThresholdImageOps() {
+		GrayF32 input = new GrayF32(25,30);
+		ImageMiscOps.fillUniform(input,rand,0,100);
+		// make sure the equality case is tested
+		input.set(2,3,40);
+
+		GrayU8 expected = new GrayU8(25,30);
+		GrayU8 found = new GrayU8(25,30);
+
+		for( boolean down : new boolean[]{true,false}) {
+			ThresholdImageOps.threshold(input,expected,40,down);
+
+			RowPipeline alg = new RowPipeline();
+			alg.add(new RowThreshold(40,down));
+			alg.process(input,found);
+
+			BoofTesting.assertEquals(expected,found,0);
+		}
+	}
+}
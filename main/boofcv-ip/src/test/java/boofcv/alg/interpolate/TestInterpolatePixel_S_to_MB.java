@@ -104,6 +104,11 @@ public class TestInterpolatePixel_S_to_MB {
 			return 11;
 		}
 
+		@Override
+		public InterpolatePixelS copy() {
+			return new Helper();
+		}
+
 		@Override
 		public ImageType getImageType() {
 			return ImageType.single(GrayU8.class);
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.misc;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.core.image.GeneralizedImageOps;
+import boofcv.struct.image.ImageGray;
+import boofcv.testing.BoofTesting;
+import boofcv.testing.CompareIdenticalFunctions;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.reflect.Method;
+import java.util.Random;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestPixelMath_MT extends CompareIdenticalFunctions {
+
+	Random rand = new Random(234);
+
+	int width = 30;
+	int height = 45;
+
+	int previousThreads;
+
+	@Before
+	public void forceThreads() {
+		previousThreads = BoofTesting.forceTestThreads();
+	}
+
+	@After
+	public void restoreThreads() {
+		BoofConcurrency.setMaxThreads(previousThreads);
+	}
+
+	public TestPixelMath_MT() {
+		super(PixelMath_MT.class, PixelMath.class);
+	}
+
+	@Test
+	public void compareToSingleThread() {
+		performTests(18);
+	}
+
+	@Override
+	protected Object[][] createInputParam(Method candidate, Method validation) {
+		Class<?> c[] = candidate.getParameterTypes();
+
+		Object[] param = new Object[c.length];
+		int numScalars = 0;
+		for (int i = 0; i < c.length; i++) {
+			if( ImageGray.class.isAssignableFrom(c[i])) {
+				ImageGray image = GeneralizedImageOps.createSingleBand((Class)c[i], width, height);
+				GImageMiscOps.fillUniform(image, rand, 0, 100);
+				param[i] = image;
+			} else {
+				// first scalar is a small value, second an upper bound
+				int value = numScalars++ == 0 ? 10 : 60;
+				if( c[i] == double.class )
+					param[i] = (double)value + 0.5;
+				else if( c[i] == float.class )
+					param[i] = (float)value + 0.5f;
+				else
+					param[i] = value;
+			}
+		}
+
+		return new Object[][]{param};
+	}
+}
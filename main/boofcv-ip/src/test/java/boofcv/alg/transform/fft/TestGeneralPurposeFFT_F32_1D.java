@@ -22,6 +22,7 @@ import org.junit.Test;
 
 import java.util.Random;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
@@ -154,4 +155,35 @@ public class TestGeneralPurposeFFT_F32_1D {
 			assertEquals(original[i*2+1],input[i*2+1],tol);
 		}
 	}
+
+	/**
+	 * A copy should produce identical results and not share internal storage with the original
+	 */
+	@Test
+	public void copy() {
+		// power of two, mixed radix, and bluestein
+		for (int n : new int[]{64, 30, 227}) {
+			GeneralPurposeFFT_F32_1D original = new GeneralPurposeFFT_F32_1D(n);
+			GeneralPurposeFFT_F32_1D copy = original.copy();
+
+			float input[] = new float[n*2];
+			for (int i = 0; i < input.length; i++) {
+				input[i] = (float)rand.nextGaussian();
+			}
+			float expected[] = input.clone();
+			float found[] = input.clone();
+
+			original.realForward(expected);
+			copy.realForward(found);
+			assertArrayEquals(expected, found, 0);
+
+			original.complexForward(expected);
+			copy.complexForward(found);
+			assertArrayEquals(expected, found, 0);
+
+			original.complexInverse(expected, true);
+			copy.complexInverse(found, true);
+			assertArrayEquals(expected, found, 0);
+		}
+	}
 }
@@ -22,6 +22,7 @@ import org.junit.Test;
 
 import java.util.Random;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
@@ -153,4 +154,35 @@ public class TestGeneralPurposeFFT_F64_1D {
 			assertEquals(original[i*2+1],input[i*2+1],1e-8);
 		}
 	}
+
+	/**
+	 * A copy should produce identical results and not share internal storage with the original
+	 */
+	@Test
+	public void copy() {
+		// power of two, mixed radix, and bluestein
+		for (int n : new int[]{64, 30, 227}) {
+			GeneralPurposeFFT_F64_1D original = new GeneralPurposeFFT_F64_1D(n);
+			GeneralPurposeFFT_F64_1D copy = original.copy();
+
+			double input[] = new double[n*2];
+			for (int i = 0; i < input.length; i++) {
+				input[i] = (double)rand.nextGaussian();
+			}
+			double expected[] = input.clone();
+			double found[] = input.clone();
+
+			original.realForward(expected);
+			copy.realForward(found);
+			assertArrayEquals(expected, found, 0);
+
+			original.complexForward(expected);
+			copy.complexForward(found);
+			assertArrayEquals(expected, found, 0);
+
+			original.complexInverse(expected, true);
+			copy.complexInverse(found, true);
+			assertArrayEquals(expected, found, 0);
+		}
+	}
 }
@@ -18,11 +18,16 @@
 
 package boofcv.alg.transform.fft;
 
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.testing.BoofTesting;
+import org.junit.After;
+import org.junit.Before;
 import org.junit.Test;
 
 import java.util.Random;
 
 import static boofcv.alg.transform.fft.TestGeneralPurposeFFT_F64_1D.checkForChange;
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 
 /**
@@ -34,6 +39,18 @@ public class TestGeneralPurposeFFT_F64_2D {
 
 	int sizes[] = new int[]{1,2,3,16,32,100,103};
 
+	int previousThreads;
+
+	@Before
+	public void forceThreads() {
+		previousThreads = BoofTesting.forceTestThreads();
+	}
+
+	@After
+	public void restoreThreads() {
+		BoofConcurrency.setMaxThreads(previousThreads);
+	}
+
 	@Test
 	public void realFull() {
 
@@ -112,4 +129,61 @@ public class TestGeneralPurposeFFT_F64_2D {
 		}
 	}
 
+	/**
+	 * The concurrent implementation should produce the exact same results as the single threaded one.
+	 * Sizes are large enough to be split between threads and cover each of the different code paths.
+	 */
+	@Test
+	public void compareConcurrent() {
+		// power of two
+		checkConcurrent(128,256);
+		// mixed radix, even and odd number of columns
+		checkConcurrent(200,150);
+		checkConcurrent(150,201);
+		// bluestein
+		checkConcurrent(227,64);
+	}
+
+	private void checkConcurrent(int numRows, int numColumns) {
+		GeneralPurposeFFT_F64_2D single = new GeneralPurposeFFT_F64_2D(numRows,numColumns);
+		GeneralPurposeFFT_F64_2D concurrent = new GeneralPurposeFFT_F64_2D(numRows,numColumns);
+		single.setConcurrent(false);
+		concurrent.setConcurrent(true);
+
+		// call it multiple times to make sure the internal storage is correctly reused
+		for (int trial = 0; trial < 2; trial++) {
+			double input[] = new double[numRows*numColumns*2];
+			for (int i = 0; i < input.length; i++) {
+				input[i] = (double)rand.nextGaussian();
+			}
+			double expected[] = input.clone();
+			double found[] = input.clone();
+
+			single.complexForward(expected);
+			concurrent.complexForward(found);
+			assertArrayEquals(expected, found, 0);
+
+			single.complexInverse(expected, true);
+			concurrent.complexInverse(found, true);
+			assertArrayEquals(expected, found, 0);
+
+			single.realForwardFull(expected);
+			concurrent.realForwardFull(found);
+			assertArrayEquals(expected, found, 0);
+
+			single.realInverseFull(expected, true);
+			concurrent.realInverseFull(found, true);
+			assertArrayEquals(expected, found, 0);
+
+			if (DiscreteFourierTransformOps.isPowerOf2(numRows) && DiscreteFourierTransformOps.isPowerOf2(numColumns)) {
+				single.realForward(expected);
+				concurrent.realForward(found);
+				assertArrayEquals(expected, found, 0);
+
+				single.realInverse(expected, true);
+				concurrent.realInverse(found, true);
+				assertArrayEquals(expected, found, 0);
+			}
+		}
+	}
 }
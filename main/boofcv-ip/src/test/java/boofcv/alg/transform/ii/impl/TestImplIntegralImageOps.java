@@ -37,6 +37,7 @@ import boofcv.testing.BoofTesting;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.lang.reflect.Array;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.Random;
@@ -56,7 +57,7 @@ public class TestImplIntegralImageOps {
 	@Test
 	public void transform() {
 		int numFound = BoofTesting.findMethodThenCall(this,"transform",ImplIntegralImageOps.class,"transform");
-		Assert.assertEquals(5, numFound);
+		Assert.assertEquals(6, numFound);
 	}
 
 	public void transform( Method m ) {
@@ -174,12 +175,13 @@ public class TestImplIntegralImageOps {
 	@Test
 	public void convolveSparse() {
 		int numFound = BoofTesting.findMethodThenCall(this,"convolveSparse",ImplIntegralImageOps.class,"convolveSparse");
-		assertEquals(4,numFound);
+		assertEquals(8,numFound);
 	}
 
 	public void convolveSparse( Method m ) throws InvocationTargetException, IllegalAccessException {
 		Class paramType[] = m.getParameterTypes();
 		Class inputType = paramType[0];
+		boolean batch = paramType.length == 5;
 
 		ImageGray integral = GeneralizedImageOps.createSingleBand(inputType, width, height);
 
@@ -196,9 +198,19 @@ public class TestImplIntegralImageOps {
 
 		GImageGray e = FactoryGImageGray.wrap(expected);
 
-		double found0 = ((Number)m.invoke(null,integral,kernel,0,0)).doubleValue();
-		double found1 = ((Number)m.invoke(null,integral,kernel,10,12)).doubleValue();
-		double found2 = ((Number)m.invoke(null,integral,kernel,19,29)).doubleValue();
+		double found0,found1,found2;
+		if( batch ) {
+			int points[] = new int[]{0,0,10,12,19,29};
+			Object output = Array.newInstance(paramType[4].getComponentType(),3);
+			m.invoke(null,integral,kernel,points,3,output);
+			found0 = Array.getDouble(output,0);
+			found1 = Array.getDouble(output,1);
+			found2 = Array.getDouble(output,2);
+		} else {
+			found0 = ((Number)m.invoke(null,integral,kernel,0,0)).doubleValue();
+			found1 = ((Number)m.invoke(null,integral,kernel,10,12)).doubleValue();
+			found2 = ((Number)m.invoke(null,integral,kernel,19,29)).doubleValue();
+		}
 
 		assertEquals(e.get(0,0).doubleValue(),found0,1e-4f);
 		assertEquals(e.get(10,12).doubleValue(),found1,1e-4f);
@@ -208,7 +220,7 @@ public class TestImplIntegralImageOps {
 	@Test
 	public void block_unsafe() {
 		int numFound = BoofTesting.findMethodThenCall(this,"block_unsafe",ImplIntegralImageOps.class,"block_unsafe");
-		assertEquals(4,numFound);
+		assertEquals(8,numFound);
 	}
 
 	public void block_unsafe( Method m ) throws InvocationTargetException, IllegalAccessException {
@@ -222,9 +234,18 @@ public class TestImplIntegralImageOps {
 		GImageMiscOps.fill(input,1);
 		GIntegralImageOps.transform(input,integral);
 
-		double found0 = ((Number)m.invoke(null,integral,4,5,8,8)).doubleValue();
+		if( paramType.length == 4 ) {
+			int blocks[] = new int[]{4,5,8,8, 0,0,3,2};
+			Object output = Array.newInstance(paramType[3].getComponentType(),2);
+			m.invoke(null,integral,blocks,2,output);
 
-		assertEquals(12, found0, 1e-4f);
+			assertEquals(12, Array.getDouble(output,0), 1e-4f);
+			assertEquals(6, Array.getDouble(output,1), 1e-4f);
+		} else {
+			double found0 = ((Number)m.invoke(null,integral,4,5,8,8)).doubleValue();
+
+			assertEquals(12, found0, 1e-4f);
+		}
 	}
 
 	@Test
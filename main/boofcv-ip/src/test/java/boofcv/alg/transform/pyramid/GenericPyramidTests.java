@@ -22,11 +22,17 @@ import boofcv.alg.misc.GImageMiscOps;
 import boofcv.alg.misc.GImageStatistics;
 import boofcv.core.image.GeneralizedImageOps;
 import boofcv.struct.image.ImageGray;
+import boofcv.struct.image.ImagePool;
 import boofcv.struct.pyramid.ImagePyramid;
+import boofcv.struct.pyramid.ImagePyramidBase;
+import boofcv.testing.BoofTesting;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Random;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
 
@@ -64,5 +70,117 @@ public abstract class GenericPyramidTests<T extends ImageGray<T>> {
 		}
 	}
 
+	/**
+	 * Lazy evaluation should produce the same layers even if they are requested out of order
+	 */
+	@Test
+	public void lazyMatchesEager() {
+		T input = GeneralizedImageOps.createSingleBand(imageType, width, height);
+		GImageMiscOps.fillUniform(input, rand, 0, 100);
+
+		ImagePyramidBase<T> expected = (ImagePyramidBase<T>)createPyramid(1,2,4);
+		ImagePyramidBase<T> found = (ImagePyramidBase<T>)createPyramid(1,2,4);
+		found.setLazy(true);
+
+		expected.process(input);
+		found.process(input);
+
+		int top = found.getNumLayers()-1;
+		BoofTesting.assertEquals(expected.getLayer(top), found.getLayer(top), 1e-4);
+		for( int i = 0; i < found.getNumLayers(); i++ ) {
+			BoofTesting.assertEquals(expected.getLayer(i), found.getLayer(i), 1e-4);
+		}
+
+		// process a second image to make sure the old layers are not used
+		GImageMiscOps.fillUniform(input, rand, 0, 100);
+		expected.process(input);
+		found.process(input);
+		for( int i = 0; i < found.getNumLayers(); i++ ) {
+			BoofTesting.assertEquals(expected.getLayer(i), found.getLayer(i), 1e-4);
+		}
+	}
+
+	/**
+	 * Several threads request layers from a lazy pyramid at the same time
+	 */
+	@Test
+	public void lazyConcurrentConsumers() throws InterruptedException {
+		T input = GeneralizedImageOps.createSingleBand(imageType, width, height);
+		GImageMiscOps.fillUniform(input, rand, 0, 100);
+
+		ImagePyramidBase<T> expected = (ImagePyramidBase<T>)createPyramid(1,2,4,8);
+		final ImagePyramidBase<T> found = (ImagePyramidBase<T>)createPyramid(1,2,4,8);
+		found.setLazy(true);
+
+		expected.process(input);
+		found.process(input);
+
+		final List<List<T>> requested = new ArrayList<>();
+		Thread[] threads = new Thread[4];
+		for (int i = 0; i < threads.length; i++) {
+			final List<T> layers = new ArrayList<>();
+			requested.add(layers);
+			final int offset = i;
+			threads[i] = new Thread() {
+				@Override
+				public void run() {
+					// each thread starts with a different layer
+					for (int j = 0; j < found.getNumLayers(); j++) {
+						int layer = (j+offset) % found.getNumLayers();
+						layers.add(found.getLayer(layer));
+					}
+				}
+			};
+		}
+		for (int i = 0; i < threads.length; i++) {
+			threads[i].start();
+		}
+		for (int i = 0; i < threads.length; i++) {
+			threads[i].join();
+		}
+
+		for (int i = 0; i < threads.length; i++) {
+			List<T> layers = requested.get(i);
+			assertEquals(found.getNumLayers(), layers.size());
+			for (int j = 0; j < layers.size(); j++) {
+				int layer = (j+i) % found.getNumLayers();
+				BoofTesting.assertEquals(expected.getLayer(layer), layers.get(j), 1e-4);
+			}
+		}
+	}
+
+	/**
+	 * When the input shape changes the layers should be recycled using the pool and not change the results
+	 */
+	@Test
+	public void imagePoolRecyclesLayers() {
+		ImagePool pool = new ImagePool(Long.MAX_VALUE);
+
+		ImagePyramidBase<T> expected = (ImagePyramidBase<T>)createPyramid(1,2,4);
+		ImagePyramidBase<T> found = (ImagePyramidBase<T>)createPyramid(1,2,4);
+		found.setImagePool(pool);
+
+		T large = GeneralizedImageOps.createSingleBand(imageType, width, height);
+		T small = GeneralizedImageOps.createSingleBand(imageType, width/2, height/2);
+		GImageMiscOps.fillUniform(large, rand, 0, 100);
+		GImageMiscOps.fillUniform(small, rand, 0, 100);
+
+		found.process(large);
+		long totalCreated = pool.getTotalCreated();
+		assertTrue(totalCreated > 0);
+
+		// the larger layers can be reshaped into the smaller layers and back again
+		for( int trial = 0; trial < 2; trial++ ) {
+			T input = trial == 0 ? small : large;
+			found.process(input);
+			expected.process(input);
+
+			assertEquals(totalCreated, pool.getTotalCreated());
+			for( int i = 0; i < found.getNumLayers(); i++ ) {
+				BoofTesting.assertEquals(expected.getLayer(i), found.getLayer(i), 1e-4);
+			}
+		}
+	}
+
 	protected abstract ImagePyramid<T> createPyramid( int... scales);
 }
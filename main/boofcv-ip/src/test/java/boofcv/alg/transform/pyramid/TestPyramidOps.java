@@ -170,6 +170,9 @@ public class TestPyramidOps {
 		@Override
 		public void process(T input) {}
 
+		@Override
+		protected void computeLayer(T input, int layer) {}
+
 		@Override
 		public double getSampleOffset(int layer) {return 0;}
 
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.transform.wavelet.impl;
+
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.core.image.GeneralizedImageOps;
+import boofcv.core.image.border.BorderType;
+import boofcv.factory.transform.wavelet.FactoryWaveletDaub;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayS32;
+import boofcv.struct.image.ImageGray;
+import boofcv.struct.wavelet.WaveletDescription;
+import boofcv.testing.BoofTesting;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Random;
+
+/**
+ * @author Peter Abeles
+ */
+@SuppressWarnings("unchecked")
+public class TestImplWaveletTransform_MT {
+
+	Random rand = new Random(234);
+
+	// odd and even image sizes
+	int sizes[][] = new int[][]{{60,71},{75,64},{101,99}};
+
+	int previousThreads;
+
+	@Before
+	public void forceThreads() {
+		previousThreads = BoofTesting.forceTestThreads();
+	}
+
+	@After
+	public void restoreThreads() {
+		BoofConcurrency.setMaxThreads(previousThreads);
+	}
+
+	@Test
+	public void compareToSingle_F32() {
+		compareToSingle(FactoryWaveletDaub.daubJ_F32(4), GrayF32.class);
+		compareToSingle(FactoryWaveletDaub.biorthogonal_F32(5, BorderType.REFLECT), GrayF32.class);
+		compareToSingle(FactoryWaveletDaub.biorthogonal_F32(5, BorderType.WRAP), GrayF32.class);
+	}
+
+	@Test
+	public void compareToSingle_I32() {
+		compareToSingle(FactoryWaveletDaub.biorthogonal_I32(5, BorderType.REFLECT), GrayS32.class);
+		compareToSingle(FactoryWaveletDaub.biorthogonal_I32(5, BorderType.WRAP), GrayS32.class);
+	}
+
+	private void compareToSingle( WaveletDescription desc , Class imageType ) {
+		for( int[] size : sizes ) {
+			int width = size[0], height = size[1];
+			int widthT = width + width%2, heightT = height + height%2;
+
+			ImageGray input = GeneralizedImageOps.createSingleBand(imageType,width,height);
+			GImageMiscOps.fillUniform(input,rand,0,100);
+
+			// forward transform
+			ImageGray expectedStorage = GeneralizedImageOps.createSingleBand(imageType,widthT,heightT);
+			ImageGray expected = GeneralizedImageOps.createSingleBand(imageType,widthT,heightT);
+			ImageGray foundStorage = GeneralizedImageOps.createSingleBand(imageType,widthT,heightT);
+			ImageGray found = GeneralizedImageOps.createSingleBand(imageType,widthT,heightT);
+
+			invoke(ImplWaveletTransformInner.class,"horizontal",desc.getForward(),input,expectedStorage);
+			invoke(ImplWaveletTransformBorder.class,"horizontal",desc.getBorder(),desc.getForward(),input,expectedStorage);
+			invoke(ImplWaveletTransformInner.class,"vertical",desc.getForward(),expectedStorage,expected);
+			invoke(ImplWaveletTransformBorder.class,"vertical",desc.getBorder(),desc.getForward(),expectedStorage,expected);
+
+			invoke(ImplWaveletTransform_MT.class,"horizontal",desc.getBorder(),desc.getForward(),input,foundStorage);
+			invoke(ImplWaveletTransform_MT.class,"vertical",desc.getBorder(),desc.getForward(),foundStorage,found);
+
+			BoofTesting.assertEquals(expectedStorage,foundStorage,0);
+			BoofTesting.assertEquals(expected,found,0);
+
+			// inverse transform
+			ImageGray expectedInv = GeneralizedImageOps.createSingleBand(imageType,width,height);
+			ImageGray foundInv = GeneralizedImageOps.createSingleBand(imageType,width,height);
+			GImageMiscOps.fill(expectedStorage,0);
+			GImageMiscOps.fill(foundStorage,0);
+
+			invoke(ImplWaveletTransformInner.class,"verticalInverse",
+					desc.getInverse().getInnerCoefficients(),expected,expectedStorage);
+			invoke(ImplWaveletTransformBorder.class,"verticalInverse",
+					desc.getBorder(),desc.getInverse(),expected,expectedStorage);
+			invoke(ImplWaveletTransformInner.class,"horizontalInverse",
+					desc.getInverse().getInnerCoefficients(),expectedStorage,expectedInv);
+			invoke(ImplWaveletTransformBorder.class,"horizontalInverse",
+					desc.getBorder(),desc.getInverse(),expectedStorage,expectedInv);
+
+			invoke(ImplWaveletTransform_MT.class,"verticalInverse",desc.getBorder(),desc.getInverse(),found,foundStorage);
+			invoke(ImplWaveletTransform_MT.class,"horizontalInverse",desc.getBorder(),desc.getInverse(),foundStorage,foundInv);
+
+			BoofTesting.assertEquals(expectedStorage,foundStorage,0);
+			BoofTesting.assertEquals(expectedInv,foundInv,0);
+		}
+	}
+
+	private static void invoke( Class owner , String name , Object... args ) {
+		BoofTesting.callStaticMethod(owner,name,args);
+	}
+}
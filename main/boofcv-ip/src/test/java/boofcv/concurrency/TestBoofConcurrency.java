@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.concurrency;
+
+import org.ddogleg.struct.FastQueue;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestBoofConcurrency {
+
+	@Test
+	public void loopBlocks() {
+		checkLoopBlocks(0, 100, 1);
+		checkLoopBlocks(5, 102, 10);
+		checkLoopBlocks(5, 6, 10);
+		checkLoopBlocks(5, 5, 1);
+	}
+
+	private void checkLoopBlocks( final int start , final int end , int minBlock ) {
+		final AtomicIntegerArray counts = new AtomicIntegerArray(end+1);
+
+		BoofConcurrency.loopBlocks(start, end, minBlock, new IntRangeConsumer() {
+			@Override
+			public void accept(int minInclusive, int maxExclusive) {
+				assertTrue(minInclusive < maxExclusive);
+				for (int i = minInclusive; i < maxExclusive; i++) {
+					counts.incrementAndGet(i);
+				}
+			}
+		});
+
+		// every element should be processed exactly once
+		for (int i = 0; i <= end; i++) {
+			int expected = i >= start && i < end ? 1 : 0;
+			assertEquals(expected, counts.get(i));
+		}
+	}
+
+	@Test
+	public void loopBlocks_workspace() {
+		FastQueue<int[]> workspace = new FastQueue<int[]>(int[].class,true) {
+			@Override
+			protected int[] createInstance() {
+				return new int[1];
+			}
+		};
+
+		BoofConcurrency.loopBlocks(0, 1000, 50, workspace, new IntRangeObjectConsumer<int[]>() {
+			@Override
+			public void accept(int[] sum, int minInclusive, int maxExclusive) {
+				for (int i = minInclusive; i < maxExclusive; i++) {
+					sum[0] += i;
+				}
+			}
+		});
+
+		assertTrue(workspace.size >= 1);
+		assertTrue(workspace.size <= BoofConcurrency.getMaxThreads());
+		int total = 0;
+		for (int i = 0; i < workspace.size; i++) {
+			total += workspace.get(i)[0];
+		}
+		assertEquals(999*1000/2, total);
+	}
+
+	@Test
+	public void computeNumberOfBlocks() {
+		int threads = BoofConcurrency.getMaxThreads();
+
+		assertEquals(0, BoofConcurrency.computeNumberOfBlocks(0, 5));
+		assertEquals(1, BoofConcurrency.computeNumberOfBlocks(3, 5));
+		assertEquals(Math.min(threads,2), BoofConcurrency.computeNumberOfBlocks(10, 5));
+		assertEquals(threads, BoofConcurrency.computeNumberOfBlocks(threads*100, 1));
+	}
+
+	@Test
+	public void setMaxThreads() {
+		int original = BoofConcurrency.getMaxThreads();
+		try {
+			BoofConcurrency.setMaxThreads(1);
+			assertEquals(1, BoofConcurrency.getMaxThreads());
+
+			// all the work should be done in the calling thread
+			final Thread caller = Thread.currentThread();
+			BoofConcurrency.loopBlocks(0, 100, new IntRangeConsumer() {
+				@Override
+				public void accept(int minInclusive, int maxExclusive) {
+					assertSame(caller, Thread.currentThread());
+				}
+			});
+		} finally {
+			BoofConcurrency.setMaxThreads(original);
+		}
+	}
+
+	@Test
+	public void exceptionPassedToCaller() {
+		try {
+			BoofConcurrency.loopBlocks(0, 100, new IntRangeConsumer() {
+				@Override
+				public void accept(int minInclusive, int maxExclusive) {
+					throw new IllegalArgumentException("Test");
+				}
+			});
+			fail("Exception should have been thrown");
+		} catch( IllegalArgumentException ignore ){}
+	}
+}
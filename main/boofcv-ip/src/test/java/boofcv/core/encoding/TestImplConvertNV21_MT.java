@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.core.encoding;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.image.ImageBase;
+import boofcv.testing.BoofTesting;
+import boofcv.testing.CompareIdenticalFunctions;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.util.Random;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestImplConvertNV21_MT extends CompareIdenticalFunctions {
+
+	Random rand = new Random(234);
+
+	int width = 46;
+	int height = 38;
+
+	int previousThreads;
+
+	@Before
+	public void forceThreads() {
+		previousThreads = BoofTesting.forceTestThreads();
+	}
+
+	@After
+	public void restoreThreads() {
+		BoofConcurrency.setMaxThreads(previousThreads);
+	}
+
+	public TestImplConvertNV21_MT() {
+		super(ImplConvertNV21_MT.class, ImplConvertNV21.class);
+	}
+
+	@Test
+	public void compareToSingleThread() {
+		performTests(7);
+	}
+
+	@Override
+	protected Object[][] createInputParam(Method candidate, Method validation) {
+		Type types[] = candidate.getGenericParameterTypes();
+
+		byte[] data = new byte[width*height + (width*height/4)*2];
+		rand.nextBytes(data);
+
+		ImageBase output = createImage(types[1], width, height, 3);
+
+		return new Object[][]{{data,output}};
+	}
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.core.image;
+
+import boofcv.alg.filter.binary.ThresholdImageOps;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.InterleavedU8;
+import org.ddogleg.struct.GrowQueue_I8;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestConvertByteBufferImage {
+
+	Random rand = new Random(234);
+
+	int width = 20, height = 15;
+	int offset = 7;
+
+	@Test
+	public void from_3BU8_to_3IU8() {
+		int stride = width*3+4;
+		ByteBuffer buffer = createBuffer(offset+stride*height);
+
+		// make it a sub-image to test the destination's start index and stride
+		InterleavedU8 dst = new InterleavedU8(width+2,height+3,3).subimage(1,2,width+1,height+2);
+		ConvertByteBufferImage.from_3BU8_to_3IU8(buffer,offset,stride,dst);
+
+		checkEquals(buffer,offset,stride,dst);
+	}
+
+	@Test
+	public void from_3BU8_to_U8() {
+		int stride = width*3+4;
+		ByteBuffer buffer = createBuffer(offset+stride*height);
+
+		GrayU8 dst = new GrayU8(width,height);
+		ConvertByteBufferImage.from_3BU8_to_U8(buffer,offset,stride,dst,new GrowQueue_I8());
+
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				int index = offset + y*stride + x*3;
+				int sum = (buffer.get(index)&0xFF) + (buffer.get(index+1)&0xFF) + (buffer.get(index+2)&0xFF);
+				assertEquals(sum/3,dst.get(x,y));
+			}
+		}
+	}
+
+	/**
+	 * A heap buffer should be referenced directly and modifications show up in the buffer
+	 */
+	@Test
+	public void wrap_U8_heap() {
+		int stride = width+5;
+		ByteBuffer buffer = createBuffer(offset+stride*height);
+
+		GrayU8 found = ConvertByteBufferImage.wrap_U8(buffer,offset,stride,width,height,null);
+		assertSame(buffer.array(),found.data);
+		assertTrue(found.isSubimage());
+		checkEquals(buffer,offset,stride,found);
+
+		// standard image operations should work on the wrapped image and modify the buffer
+		ThresholdImageOps.threshold(found,found,100,false);
+		checkEquals(buffer,offset,stride,found);
+		byte outside = buffer.get(offset+width);
+		ImageMiscOps.fill(found,3);
+		assertEquals(3,buffer.get(offset+stride*2+4));
+		// pixels outside the image are not touched
+		assertEquals(outside,buffer.get(offset+width));
+
+		// the same output can be used again for a different buffer
+		ByteBuffer buffer2 = createBuffer(stride*height);
+		assertSame(found,ConvertByteBufferImage.wrap_U8(buffer2,0,stride,width,height,found));
+		assertSame(buffer2.array(),found.data);
+		checkEquals(buffer2,0,stride,found);
+	}
+
+	/**
+	 * A heap buffer which is a slice of a larger array needs to take in account the array's offset
+	 */
+	@Test
+	public void wrap_U8_slice() {
+		int stride = width+5;
+		ByteBuffer original = createBuffer(offset+stride*height);
+		original.position(offset);
+		ByteBuffer slice = original.slice();
+
+		GrayU8 found = ConvertByteBufferImage.wrap_U8(slice,0,stride,width,height,null);
+		assertSame(original.array(),found.data);
+		checkEquals(original,offset,stride,found);
+	}
+
+	/**
+	 * Direct buffers have no array and must be copied
+	 */
+	@Test
+	public void wrap_U8_direct() {
+		int stride = width+5;
+		ByteBuffer buffer = createDirect(offset+stride*height);
+
+		GrayU8 found = ConvertByteBufferImage.wrap_U8(buffer,offset,stride,width,height,null);
+		assertFalse(found.isSubimage());
+		checkEquals(buffer,offset,stride,found);
+
+		// previously wrapped images can't be reshaped and should be replaced
+		GrayU8 wrapped = ConvertByteBufferImage.wrap_U8(createBuffer(stride*height),0,stride,width,height,null);
+		found = ConvertByteBufferImage.wrap_U8(buffer,offset,stride,width,height,wrapped);
+		assertNotSame(wrapped,found);
+		checkEquals(buffer,offset,stride,found);
+	}
+
+	@Test
+	public void wrap_IU8_heap() {
+		int stride = width*3+5;
+		ByteBuffer buffer = createBuffer(offset+stride*height);
+
+		InterleavedU8 found = ConvertByteBufferImage.wrap_IU8(buffer,offset,stride,width,height,3,null);
+		assertSame(buffer.array(),found.data);
+		assertEquals(3,found.getNumBands());
+		checkEquals(buffer,offset,stride,found);
+
+		// change the number of bands
+		stride = width*2;
+		buffer = createBuffer(stride*height);
+		assertSame(found,ConvertByteBufferImage.wrap_IU8(buffer,0,stride,width,height,2,found));
+		assertEquals(2,found.getNumBands());
+		assertEquals(2,found.getImageType().getNumBands());
+		checkEquals(buffer,0,stride,found);
+	}
+
+	@Test
+	public void wrap_IU8_direct() {
+		int stride = width*3+5;
+		ByteBuffer buffer = createDirect(offset+stride*height);
+
+		InterleavedU8 found = ConvertByteBufferImage.wrap_IU8(buffer,offset,stride,width,height,3,
+				new InterleavedU8(5,6,2));
+		assertFalse(found.isSubimage());
+		assertEquals(3,found.getNumBands());
+		checkEquals(buffer,offset,stride,found);
+	}
+
+	@Test(expected=IllegalArgumentException.class)
+	public void wrap_bufferTooSmall() {
+		int stride = width+5;
+		ByteBuffer buffer = createBuffer(offset+stride*(height-1)+width-1);
+		ConvertByteBufferImage.wrap_U8(buffer,offset,stride,width,height,null);
+	}
+
+	private ByteBuffer createBuffer( int length ) {
+		byte[] data = new byte[length];
+		rand.nextBytes(data);
+		return ByteBuffer.wrap(data);
+	}
+
+	private ByteBuffer createDirect( int length ) {
+		ByteBuffer buffer = ByteBuffer.allocateDirect(length);
+		buffer.put(createBuffer(length));
+		return buffer;
+	}
+
+	private static void checkEquals( ByteBuffer buffer , int offset , int stride , GrayU8 image ) {
+		for (int y = 0; y < image.height; y++) {
+			for (int x = 0; x < image.width; x++) {
+				assertEquals(buffer.get(offset+y*stride+x)&0xFF,image.get(x,y));
+			}
+		}
+	}
+
+	private static void checkEquals( ByteBuffer buffer , int offset , int stride , InterleavedU8 image ) {
+		for (int y = 0; y < image.height; y++) {
+			for (int x = 0; x < image.width; x++) {
+				for (int band = 0; band < image.numBands; band++) {
+					int index = offset + y*stride + x*image.numBands + band;
+					assertEquals(buffer.get(index)&0xFF,image.getBand(x,y,band));
+				}
+			}
+		}
+	}
+}
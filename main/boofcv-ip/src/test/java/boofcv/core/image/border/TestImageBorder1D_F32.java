@@ -20,6 +20,10 @@ package boofcv.core.image.border;
 
 import boofcv.struct.image.GrayF32;
 import boofcv.struct.image.ImageType;
+import org.junit.Test;
+
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
 
 /**
  * @author Peter Abeles
@@ -36,4 +40,19 @@ public class TestImageBorder1D_F32 extends GenericImageBorder1DTests<GrayF32> {
 		ret.setImage(image);
 		return ret;
 	}
+
+	/**
+	 * The row and column wrap can be different types and both should be preserved
+	 */
+	@Test
+	public void copy_differentWraps() {
+		ImageBorder1D_F32 alg = new ImageBorder1D_F32(new BorderIndex1D_Extend(),new BorderIndex1D_Wrap());
+
+		ImageBorder1D_F32 found = alg.copy();
+
+		assertTrue(found.getRowWrap() instanceof BorderIndex1D_Extend);
+		assertTrue(found.getColWrap() instanceof BorderIndex1D_Wrap);
+		assertNotSame(alg.getRowWrap(),found.getRowWrap());
+		assertNotSame(alg.getColWrap(),found.getColWrap());
+	}
 }
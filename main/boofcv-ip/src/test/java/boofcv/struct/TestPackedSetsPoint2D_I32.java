@@ -20,6 +20,7 @@ package boofcv.struct;
 
 import georegression.struct.point.Point2D_I32;
 import org.ddogleg.struct.FastQueue;
+import org.ddogleg.struct.GrowQueue_I32;
 import org.junit.Test;
 
 import java.util.ArrayList;
@@ -177,6 +178,108 @@ public class TestPackedSetsPoint2D_I32 {
 		}
 	}
 
+	/**
+	 * Read sets which span multiple blocks into primitive arrays
+	 */
+	@Test
+	public void getSet_primitive() {
+		PackedSetsPoint2D_I32 alg = new PackedSetsPoint2D_I32(6);
+
+		alg.grow();
+		for (int i = 0; i < 5; i++) {
+			alg.addPointToTail(1,i);
+		}
+		alg.grow();
+		for (int i = 0; i < 13; i++) {
+			alg.addPointToTail(i,-i);
+		}
+
+		GrowQueue_I32 x = new GrowQueue_I32();
+		GrowQueue_I32 y = new GrowQueue_I32();
+
+		FastQueue<Point2D_I32> expected = new FastQueue<>(Point2D_I32.class,true);
+		for (int set = 0; set < 2; set++) {
+			alg.getSet(set,expected);
+			alg.getSet(set,x,y);
+
+			assertEquals(expected.size,x.size);
+			assertEquals(expected.size,y.size);
+			for (int i = 0; i < expected.size; i++) {
+				assertEquals(expected.get(i).x,x.get(i));
+				assertEquals(expected.get(i).y,y.get(i));
+			}
+		}
+	}
+
+	@Test
+	public void getPoint() {
+		PackedSetsPoint2D_I32 alg = new PackedSetsPoint2D_I32(6);
+
+		alg.grow();
+		alg.addPointToTail(1,2);
+		alg.grow();
+		for (int i = 0; i < 7; i++) {
+			alg.addPointToTail(i,i+10);
+		}
+
+		Point2D_I32 p = new Point2D_I32();
+		alg.getPoint(0,0,p);
+		assertEquals(1,p.x);
+		assertEquals(2,p.y);
+		for (int i = 0; i < 7; i++) {
+			alg.getPoint(1,i,p);
+			assertEquals(i,p.x);
+			assertEquals(i+10,p.y);
+		}
+
+		try {
+			alg.getPoint(1,7,p);
+			fail("exception expected");
+		} catch( RuntimeException ignore){}
+	}
+
+	@Test
+	public void writeOverSet_primitive() {
+		PackedSetsPoint2D_I32 alg = new PackedSetsPoint2D_I32(6);
+
+		alg.grow();
+		for (int i = 0; i < 12; i++) {
+			alg.addPointToTail(1,i);
+		}
+		alg.grow();
+		for (int i = 0; i < 20; i++) {
+			alg.addPointToTail(2,i);
+		}
+
+		GrowQueue_I32 x = new GrowQueue_I32();
+		GrowQueue_I32 y = new GrowQueue_I32();
+		for (int i = 0; i < 20; i++) {
+			x.add(3);
+			y.add(i*2);
+		}
+		alg.writeOverSet(1,x,y);
+
+		List<Point2D_I32> found = alg.getSet(1);
+		assertEquals(20,found.size());
+		for (int i = 0; i < 20; i++) {
+			assertEquals(3,found.get(i).x);
+			assertEquals(i*2,found.get(i).y);
+		}
+		// the other set should not be modified
+		found = alg.getSet(0);
+		for (int i = 0; i < 12; i++) {
+			assertEquals(1,found.get(i).x);
+			assertEquals(i,found.get(i).y);
+		}
+
+		// bad size
+		x.removeTail();
+		try {
+			alg.writeOverSet(1,x,y);
+			fail("exception expected");
+		} catch( RuntimeException ignore){}
+	}
+
 	@Test
 	public void writeOverSet_badsize() {
 		PackedSetsPoint2D_I32 alg = new PackedSetsPoint2D_I32(6);
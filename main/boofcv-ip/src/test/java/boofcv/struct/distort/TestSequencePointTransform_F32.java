@@ -37,6 +37,11 @@ public class TestSequencePointTransform_F32 {
 				out.x = x+1;
 				out.y = y+2;
 			}
+
+			@Override
+			public Point2Transform2_F32 copyConcurrent() {
+				return this;
+			}
 		};
 
 		SequencePoint2Transform2_F32 alg = new SequencePoint2Transform2_F32(a,a);
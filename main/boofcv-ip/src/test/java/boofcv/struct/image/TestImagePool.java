@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.struct.image;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestImagePool {
+
+	@Test
+	public void acquire_empty() {
+		ImagePool alg = new ImagePool(Long.MAX_VALUE);
+
+		GrayU8 found = alg.acquire(ImageType.single(GrayU8.class),20,30);
+		assertEquals(20,found.width);
+		assertEquals(30,found.height);
+		assertEquals(1,alg.getTotalCreated());
+		assertEquals(0,alg.getTotalRecycled());
+	}
+
+	@Test
+	public void acquire_recycle() {
+		ImagePool alg = new ImagePool(Long.MAX_VALUE);
+
+		GrayF32 image = new GrayF32(20,30);
+		alg.release(image);
+		assertEquals(1,alg.getTotalAvailable());
+		assertEquals(20*30*4,alg.getTotalBytes());
+
+		// smaller image can use the same memory
+		GrayF32 found = alg.acquire(ImageType.single(GrayF32.class),10,15);
+		assertSame(image,found);
+		assertEquals(10,found.width);
+		assertEquals(15,found.height);
+		assertEquals(0,alg.getTotalAvailable());
+		assertEquals(0,alg.getTotalBytes());
+		assertEquals(0,alg.getTotalCreated());
+		assertEquals(1,alg.getTotalRecycled());
+
+		// it's no longer in the pool
+		found = alg.acquire(ImageType.single(GrayF32.class),10,15);
+		assertNotSame(image,found);
+	}
+
+	@Test
+	public void acquire_tooSmall() {
+		ImagePool alg = new ImagePool(Long.MAX_VALUE);
+
+		GrayU8 image = new GrayU8(10,15);
+		alg.release(image);
+
+		GrayU8 found = alg.acquire(ImageType.single(GrayU8.class),20,15);
+		assertNotSame(image,found);
+		assertEquals(1,alg.getTotalAvailable());
+	}
+
+	@Test
+	public void acquire_typeMustMatch() {
+		ImagePool alg = new ImagePool(Long.MAX_VALUE);
+
+		alg.release(new GrayU8(20,30));
+		alg.release(new InterleavedU8(20,30,3));
+		alg.release(new Planar<>(GrayU8.class,20,30,3));
+
+		assertTrue(alg.acquire(ImageType.single(GrayS16.class),20,30) != null);
+		assertTrue(alg.acquire(ImageType.il(2,InterleavedU8.class),20,30) != null);
+		assertTrue(alg.acquire(ImageType.pl(2,GrayU8.class),20,30) != null);
+		assertEquals(3,alg.getTotalCreated());
+		assertEquals(3,alg.getTotalAvailable());
+
+		assertTrue(alg.acquire(ImageType.single(GrayU8.class),20,30) != null);
+		InterleavedU8 interleaved = alg.acquire(ImageType.il(3,InterleavedU8.class),20,30);
+		assertEquals(3,interleaved.getNumBands());
+		Planar<GrayU8> planar = alg.acquire(ImageType.pl(3,GrayU8.class),20,30);
+		assertEquals(3,planar.getNumBands());
+		assertEquals(3,alg.getTotalCreated());
+		assertEquals(0,alg.getTotalAvailable());
+	}
+
+	/**
+	 * The smallest image which is large enough should be selected
+	 */
+	@Test
+	public void acquire_bestFit() {
+		ImagePool alg = new ImagePool(Long.MAX_VALUE);
+
+		GrayU8 large = new GrayU8(100,100);
+		GrayU8 medium = new GrayU8(20,20);
+		GrayU8 small = new GrayU8(5,5);
+		alg.release(large,medium,small);
+
+		assertSame(medium,alg.acquire(ImageType.single(GrayU8.class),10,10));
+		assertSame(large,alg.acquire(ImageType.single(GrayU8.class),10,10));
+		assertEquals(1,alg.getTotalAvailable());
+	}
+
+	/**
+	 * Oldest images should be discarded first when the memory limit is exceeded
+	 */
+	@Test
+	public void release_memoryLimit() {
+		ImagePool alg = new ImagePool(2*100*100);
+
+		GrayU8 a = new GrayU8(100,100);
+		GrayU8 b = new GrayU8(100,100);
+		GrayU8 c = new GrayU8(100,100);
+		alg.release(a,b);
+		assertEquals(2,alg.getTotalAvailable());
+		alg.release(c);
+		assertEquals(2,alg.getTotalAvailable());
+		assertEquals(2*100*100,alg.getTotalBytes());
+
+		assertNotSame(a,alg.acquire(ImageType.single(GrayU8.class),100,100));
+		assertNotSame(a,alg.acquire(ImageType.single(GrayU8.class),100,100));
+		assertEquals(0,alg.getTotalCreated());
+
+		// an image which is larger than the limit is never saved
+		alg.release(new GrayF32(200,100));
+		assertEquals(0,alg.getTotalAvailable());
+		assertEquals(0,alg.getTotalBytes());
+	}
+
+	@Test
+	public void setMaxBytes() {
+		ImagePool alg = new ImagePool(Long.MAX_VALUE);
+
+		GrayU8 a = new GrayU8(100,100);
+		GrayU8 b = new GrayU8(100,100);
+		alg.release(a,b);
+
+		alg.setMaxBytes(100*100);
+		assertEquals(1,alg.getTotalAvailable());
+		assertSame(b,alg.acquire(ImageType.single(GrayU8.class),100,100));
+	}
+
+	@Test
+	public void clear() {
+		ImagePool alg = new ImagePool(Long.MAX_VALUE);
+		alg.release(new GrayU8(100,100));
+		alg.clear();
+		assertEquals(0,alg.getTotalAvailable());
+		assertEquals(0,alg.getTotalBytes());
+	}
+
+	@Test(expected=IllegalArgumentException.class)
+	public void release_subimage() {
+		ImagePool alg = new ImagePool(Long.MAX_VALUE);
+		alg.release(new GrayU8(100,100).subimage(10,10,20,20));
+	}
+
+	@Test
+	public void sizeInBytes() {
+		assertEquals(10*20*2,ImagePool.sizeInBytes(new GrayS16(10,20)));
+		assertEquals(10*20*3*8,ImagePool.sizeInBytes(new InterleavedF64(10,20,3)));
+		assertEquals(10*20*2*4,ImagePool.sizeInBytes(new Planar<>(GrayF32.class,10,20,2)));
+	}
+}
@@ -25,7 +25,10 @@ import boofcv.struct.image.ImageType;
 import boofcv.testing.BoofTesting;
 import org.junit.Test;
 
+import java.util.Arrays;
 import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.Assert.*;
 
@@ -144,6 +147,142 @@ public class TestImagePyramidBase {
 		} catch( IllegalArgumentException e ) {}
 	}
 
+	/**
+	 * In lazy mode layers should only be computed when they are requested, along with the layers below them
+	 */
+	@Test
+	public void lazy_computeOnRequest() {
+		LazyDummy pyramid = new LazyDummy(1,2,4,8);
+		pyramid.setLazy(true);
+
+		GrayU8 input = new GrayU8(100,120);
+		pyramid.process(input);
+		assertEquals(0, pyramid.totalComputed);
+
+		pyramid.getLayer(1);
+		assertEquals(2, pyramid.totalComputed);
+		assertTrue(pyramid.totalComputed < pyramid.getNumLayers());
+		assertEquals(1, pyramid.count[0]);
+		assertEquals(1, pyramid.count[1]);
+		assertEquals(0, pyramid.count[2]);
+		assertEquals(0, pyramid.count[3]);
+
+		// layers which have already been computed are not computed again
+		pyramid.getLayer(0);
+		pyramid.getLayer(1);
+		assertEquals(2, pyramid.totalComputed);
+
+		pyramid.getLayer(3);
+		assertEquals(4, pyramid.totalComputed);
+		for (int i = 0; i < 4; i++) {
+			assertEquals(1, pyramid.count[i]);
+			assertEquals(i+1, pyramid.layers[i].get(0,0));
+		}
+
+		// a new image invalidates all the layers
+		pyramid.process(input);
+		assertEquals(0, pyramid.totalComputed);
+		pyramid.getLayer(2);
+		assertEquals(3, pyramid.totalComputed);
+		assertEquals(2, pyramid.count[2]);
+		assertEquals(1, pyramid.count[3]);
+	}
+
+	/**
+	 * Multiple threads request layers from the same lazy pyramid at the same time.  Each layer should be computed
+	 * exactly once and every thread should see the computed layer.
+	 */
+	@Test
+	public void lazy_concurrentConsumers() throws InterruptedException {
+		final LazyDummy pyramid = new LazyDummy(1,2,4,8,16);
+		pyramid.setLazy(true);
+		pyramid.delay = true;
+
+		GrayU8 input = new GrayU8(100,120);
+
+		for (int trial = 0; trial < 5; trial++) {
+			Arrays.fill(pyramid.count, 0);
+			pyramid.process(input);
+
+			final int numThreads = 8;
+			final CountDownLatch start = new CountDownLatch(1);
+			final AtomicInteger failures = new AtomicInteger();
+			Thread[] threads = new Thread[numThreads];
+			for (int i = 0; i < numThreads; i++) {
+				final Random rand = new Random(trial*numThreads+i);
+				threads[i] = new Thread() {
+					@Override
+					public void run() {
+						try {
+							start.await();
+							for (int j = 0; j < 10; j++) {
+								int layer = rand.nextInt(pyramid.getNumLayers());
+								if( pyramid.getLayer(layer).get(0,0) != layer+1 )
+									failures.incrementAndGet();
+							}
+						} catch (InterruptedException | RuntimeException e) {
+							failures.incrementAndGet();
+						}
+					}
+				};
+				threads[i].start();
+			}
+			start.countDown();
+			for (int i = 0; i < numThreads; i++) {
+				threads[i].join();
+			}
+
+			assertEquals(0, failures.get());
+			// compute any layers which were not requested, then every layer should have been computed once
+			pyramid.getLayer(pyramid.getNumLayers()-1);
+			for (int i = 0; i < pyramid.getNumLayers(); i++) {
+				assertEquals(1, pyramid.count[i]);
+			}
+		}
+	}
+
+	/**
+	 * Pyramid which fills each layer with its index plus one and counts how often each layer is computed
+	 */
+	private static class LazyDummy extends ImagePyramidBase<GrayU8> {
+		int scales[];
+		int count[];
+		// if true it will pause while computing a layer to make race conditions more likely
+		boolean delay = false;
+
+		public LazyDummy(int... scales) {
+			super(ImageType.single(GrayU8.class), false);
+			this.scales = scales;
+			this.count = new int[scales.length];
+		}
+
+		@Override
+		protected void computeLayer(GrayU8 input, int layer) {
+			if( layer > 0 && layers[layer-1].get(0,0) != layer )
+				throw new RuntimeException("Layer below wasn't computed first");
+			if( delay )
+				Thread.yield();
+			GImageMiscOps.fill(layers[layer], layer+1);
+			count[layer]++;
+		}
+
+		@Override
+		public double getScale(int layer) {
+			return scales[layer];
+		}
+
+		@Override
+		public int getNumLayers() {
+			return scales.length;
+		}
+
+		@Override
+		public double getSampleOffset(int layer) {return 0;}
+
+		@Override
+		public double getSigma(int layer) {return 0;}
+	}
+
 	private static class Dummy extends ImagePyramidBase
 	{
 		int scales[];
@@ -159,6 +298,9 @@ public class TestImagePyramidBase {
 		@Override
 		public void process(ImageBase input) {}
 
+		@Override
+		protected void computeLayer(ImageBase input, int layer) {}
+
 		@Override
 		public double getScale(int layer) {
 			return scales[layer];
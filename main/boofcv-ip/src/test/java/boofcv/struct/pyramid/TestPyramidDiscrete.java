@@ -82,6 +82,9 @@ public class TestPyramidDiscrete {
 		@Override
 		public void process(T input) {}
 
+		@Override
+		protected void computeLayer(T input, int layer) {}
+
 		@Override
 		public double getSampleOffset(int layer) {return 0;}
 
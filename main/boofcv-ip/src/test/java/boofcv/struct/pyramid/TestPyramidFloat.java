@@ -68,6 +68,9 @@ public class TestPyramidFloat {
 		@Override
 		public void process(T input) {}
 
+		@Override
+		protected void computeLayer(T input, int layer) {}
+
 		@Override
 		public double getSampleOffset(int layer) {return 0;}
 
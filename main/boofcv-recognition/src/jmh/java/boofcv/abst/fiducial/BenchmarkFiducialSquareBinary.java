@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.abst.fiducial;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.factory.fiducial.ConfigFiducialBinary;
+import boofcv.factory.fiducial.FactoryFiducial;
+import boofcv.factory.filter.binary.ConfigThreshold;
+import boofcv.factory.filter.binary.ThresholdType;
+import boofcv.struct.image.GrayU8;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the square binary fiducial detector using different thresholding methods.  The input image
+ * is filled with dark squares, which exercises thresholding, contour finding, and polygon fitting.
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value = 1)
+public class BenchmarkFiducialSquareBinary {
+
+	@Param({"640","1920"})
+	public int size;
+
+	GrayU8 image = new GrayU8(1,1);
+
+	FiducialDetector<GrayU8> fixed;
+	FiducialDetector<GrayU8> localMean;
+
+	@Setup
+	public void setup() {
+		Random rand = new Random(234);
+
+		image.reshape(size,size);
+		ImageMiscOps.fill(image, 220);
+		int numSquares = size/20;
+		for (int i = 0; i < numSquares; i++) {
+			int width = 20+rand.nextInt(60);
+			int x = rand.nextInt(size-width);
+			int y = rand.nextInt(size-width);
+			ImageMiscOps.fillRectangle(image, 20, x, y, width, width);
+			ImageMiscOps.fillRectangle(image, 220, x+width/4, y+width/4, width/2, width/2);
+		}
+		ImageMiscOps.addUniform(image, rand, -10, 10);
+
+		fixed = FactoryFiducial.squareBinary(new ConfigFiducialBinary(0.2), ConfigThreshold.fixed(100), GrayU8.class);
+		localMean = FactoryFiducial.squareBinary(new ConfigFiducialBinary(0.2),
+				ConfigThreshold.local(ThresholdType.LOCAL_MEAN, 10), GrayU8.class);
+	}
+
+	@Benchmark
+	public int fixedThreshold() {
+		fixed.detect(image);
+		return fixed.totalFound();
+	}
+
+	@Benchmark
+	public int localMeanThreshold() {
+		localMean.detect(image);
+		return localMean.totalFound();
+	}
+}
@@ -306,6 +306,11 @@ public class TestLocalWeightedHistogramRotRect {
 
 		@Override
 		public void get_fast(float x, float y, float[] values) {}
+
+		@Override
+		public InterpolatePixelMB copy() {
+			return this;
+		}
 	}
 
 }
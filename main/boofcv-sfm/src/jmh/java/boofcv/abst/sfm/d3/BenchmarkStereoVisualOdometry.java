@@ -0,0 +1,217 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.abst.sfm.d3;
+
+import boofcv.abst.feature.describe.DescribeRegionPoint;
+import boofcv.abst.feature.detdesc.DetectDescribeMulti;
+import boofcv.abst.feature.detdesc.DetectDescribeMultiFusion;
+import boofcv.abst.feature.detect.extract.ConfigExtract;
+import boofcv.abst.feature.detect.extract.NonMaxSuppression;
+import boofcv.abst.feature.detect.intensity.GeneralFeatureIntensity;
+import boofcv.abst.feature.detect.interest.ConfigGeneralDetector;
+import boofcv.abst.feature.detect.interest.DetectorInterestPointMulti;
+import boofcv.abst.feature.detect.interest.GeneralToInterestMulti;
+import boofcv.abst.feature.disparity.StereoDisparitySparse;
+import boofcv.abst.feature.tracker.PointTracker;
+import boofcv.abst.feature.tracker.PointTrackerTwoPass;
+import boofcv.alg.feature.detect.interest.GeneralFeatureDetector;
+import boofcv.alg.tracker.klt.PkltConfig;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.factory.feature.describe.FactoryDescribeRegionPoint;
+import boofcv.factory.feature.detect.extract.FactoryFeatureExtractor;
+import boofcv.factory.feature.detect.intensity.FactoryIntensityPoint;
+import boofcv.factory.feature.disparity.FactoryStereoDisparity;
+import boofcv.factory.feature.tracker.FactoryPointTracker;
+import boofcv.factory.feature.tracker.FactoryPointTrackerTwoPass;
+import boofcv.factory.sfm.FactoryVisualOdometry;
+import boofcv.struct.calib.CameraPinholeRadial;
+import boofcv.struct.calib.StereoParameters;
+import boofcv.struct.image.GrayF32;
+import georegression.geometry.ConvertRotation3D_F64;
+import georegression.struct.EulerType;
+import georegression.struct.se.Se3_F64;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runtime of stereo visual odometry algorithms on a short synthetic sequence where the camera moves forward
+ * through a scene of randomly placed squares.  Each benchmark resets the algorithm and processes the entire
+ * sequence.  The sequence is rendered once during setup.
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value = 1)
+public class BenchmarkStereoVisualOdometry {
+
+	static final int NUM_FRAMES = 10;
+
+	@Param({"320x240","640x480"})
+	public String shape;
+
+	@Param({"true","false"})
+	public boolean concurrent;
+
+	StereoParameters param;
+
+	List<GrayF32> left = new ArrayList<>();
+	List<GrayF32> right = new ArrayList<>();
+
+	StereoVisualOdometry<GrayF32> depth;
+	StereoVisualOdometry<GrayF32> dualTrack;
+	StereoVisualOdometry<GrayF32> quad;
+
+	@Setup
+	public void setup() {
+		String[] dimensions = shape.split("x");
+		int width = Integer.parseInt(dimensions[0]);
+		int height = Integer.parseInt(dimensions[1]);
+
+		param = createStereoParam(width, height);
+		renderSequence(width, height);
+
+		// algorithms check to see if they should be concurrent when they are constructed
+		BoofConcurrency.USE_CONCURRENT = concurrent;
+		depth = createDepth();
+		dualTrack = createDualTrack();
+		quad = createQuad();
+	}
+
+	@TearDown
+	public void tearDown() {
+		BoofConcurrency.USE_CONCURRENT = true;
+	}
+
+	private void renderSequence( int width , int height ) {
+		VideoSequenceSimulator<GrayF32> sim = new VideoSequenceSimulator<>(width, height, GrayF32.class);
+		sim.setIntrinsic(param.getLeft());
+		sim.createSquares(100, 1, 2);
+
+		Se3_F64 worldToLeft = new Se3_F64();
+		Se3_F64 worldToRight = new Se3_F64();
+		Se3_F64 leftToRight = param.getRightToLeft().invert(null);
+
+		left.clear();
+		right.clear();
+		for (int i = 0; i < NUM_FRAMES; i++) {
+			worldToLeft.getT().z = i*0.05;
+			worldToLeft.concat(leftToRight, worldToRight);
+
+			sim.setIntrinsic(param.getLeft());
+			left.add(sim.render(worldToLeft).clone());
+			sim.setIntrinsic(param.getRight());
+			right.add(sim.render(worldToRight).clone());
+		}
+	}
+
+	private static StereoParameters createStereoParam( int width , int height ) {
+		StereoParameters ret = new StereoParameters();
+
+		ret.setRightToLeft(new Se3_F64());
+		ret.getRightToLeft().getT().set(-0.2, 0.001, -0.012);
+		ConvertRotation3D_F64.eulerToMatrix(EulerType.XYZ, 0.001, -0.01, 0.0023, ret.getRightToLeft().getR());
+
+		ret.left = new CameraPinholeRadial(200, 201, 0, width/2, height/2, width, height).fsetRadial(0, 0);
+		ret.right = new CameraPinholeRadial(199, 200, 0, width/2+2, height/2-6, width, height).fsetRadial(0, 0);
+
+		return ret;
+	}
+
+	private static StereoVisualOdometry<GrayF32> createDepth() {
+		StereoDisparitySparse<GrayF32> disparity =
+				FactoryStereoDisparity.regionSparseWta(2, 150, 3, 3, 30, -1, true, GrayF32.class);
+
+		PkltConfig config = new PkltConfig();
+		config.pyramidScaling = new int[]{1, 2, 4, 8};
+		config.templateRadius = 3;
+
+		ConfigGeneralDetector configDetector = new ConfigGeneralDetector(600, 3, 1);
+
+		PointTrackerTwoPass<GrayF32> tracker = FactoryPointTrackerTwoPass.klt(config, configDetector,
+				GrayF32.class, GrayF32.class);
+
+		return FactoryVisualOdometry.stereoDepth(1.5, 40, 2, 200, 50, false, disparity, tracker, GrayF32.class);
+	}
+
+	private static StereoVisualOdometry<GrayF32> createDualTrack() {
+		ConfigGeneralDetector configDetector = new ConfigGeneralDetector(600, 2, 1);
+
+		PkltConfig kltConfig = new PkltConfig();
+		kltConfig.templateRadius = 3;
+		kltConfig.pyramidScaling = new int[]{1, 2, 4, 8};
+
+		PointTracker<GrayF32> trackerLeft = FactoryPointTracker.klt(kltConfig, configDetector,
+				GrayF32.class, GrayF32.class);
+		PointTracker<GrayF32> trackerRight = FactoryPointTracker.klt(kltConfig, configDetector,
+				GrayF32.class, GrayF32.class);
+
+		DescribeRegionPoint describe = FactoryDescribeRegionPoint.surfFast(null, GrayF32.class);
+
+		return FactoryVisualOdometry.stereoDualTrackerPnP(90, 2, 1.5, 1.5, 200, 50,
+				trackerLeft, trackerRight, describe, GrayF32.class);
+	}
+
+	private static StereoVisualOdometry<GrayF32> createQuad() {
+		GeneralFeatureIntensity intensity = FactoryIntensityPoint.shiTomasi(1, false, GrayF32.class);
+		NonMaxSuppression nonmax = FactoryFeatureExtractor.nonmax(new ConfigExtract(2, 1, 0, true, false, true));
+		GeneralFeatureDetector<GrayF32,GrayF32> general = new GeneralFeatureDetector<>(intensity, nonmax);
+		general.setMaxFeatures(600);
+		DetectorInterestPointMulti detector = new GeneralToInterestMulti(general, 2, GrayF32.class, GrayF32.class);
+		DescribeRegionPoint describe = FactoryDescribeRegionPoint.surfFast(null, GrayF32.class);
+		DetectDescribeMulti detDescMulti = new DetectDescribeMultiFusion(detector, null, describe);
+
+		return FactoryVisualOdometry.stereoQuadPnP(1.5, 0.5, 200, Double.MAX_VALUE, 300, 50,
+				detDescMulti, GrayF32.class);
+	}
+
+	private int processSequence( StereoVisualOdometry<GrayF32> alg ) {
+		alg.reset();
+		alg.setCalibration(param);
+
+		int total = 0;
+		for (int i = 0; i < NUM_FRAMES; i++) {
+			if( alg.process(left.get(i), right.get(i)) )
+				total++;
+		}
+		return total;
+	}
+
+	@Benchmark
+	public int depthPnP() {
+		return processSequence(depth);
+	}
+
+	@Benchmark
+	public int dualTrackPnP() {
+		return processSequence(dualTrack);
+	}
+
+	@Benchmark
+	public int quadPnP() {
+		return processSequence(quad);
+	}
+}
@@ -52,6 +52,11 @@ public class TestDepthSparse3D {
 				distX = x + 1;
 				distY = y + 2;
 			}
+
+			@Override
+			public PixelTransform2_F32 copyConcurrent() {
+				return this;
+			}
 		};
 
 		DepthSparse3D<GrayU16> alg = new DepthSparse3D.I<>(2.1);
@@ -332,5 +332,11 @@ public class TestStitchingFromMotion2D {
 
 		@Override
 		public boolean getRenderAll() {return false;}
+
+		@Override
+		public void setConcurrent(boolean concurrent) {}
+
+		@Override
+		public boolean isConcurrent() {return false;}
 	}
 }